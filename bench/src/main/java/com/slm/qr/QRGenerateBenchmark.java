@@ -0,0 +1,109 @@
+package com.slm.qr;
+
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.ImageIO;
+
+/**
+ * The pure-Java steps of generateQR(): ZXing encoding, logo compositing and Base64 of the
+ * encoded PNG. Bitmap creation and PNG compression run in Skia on the device and are not
+ * covered; the PNG for the Base64 step is written with ImageIO from the same pixels, and
+ * java.util.Base64 stands in for android.util.Base64.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class QRGenerateBenchmark {
+
+    static final String DATA = "https://tickets.example.com/e/2026-10-17/A17?holder=0123456789&sig=5f1c9a2e";
+    private static final int BLACK = 0xFF000000;
+    private static final int WHITE = 0xFFFFFFFF;
+
+    @Param({ "300", "1024", "2048" })
+    public int size;
+
+    private Map<EncodeHintType, Object> hints;
+    private int[] pixels;
+    private int width;
+    private int height;
+    private int[] logo;
+    private int logoSize;
+    private byte[] png;
+
+    @Setup
+    public void setUp() throws WriterException, IOException {
+        // Logos need the highest error correction to stay readable
+        hints = QREncoder.hints(QREncoder.parseErrorCorrection("H"));
+        BitMatrix matrix = QREncoder.encode(DATA, size, hints);
+        width = matrix.getWidth();
+        height = matrix.getHeight();
+        pixels = QRRasterizer.rasterize(matrix, BLACK, WHITE);
+        logoSize = size / 4;
+        logo = syntheticLogo(logoSize);
+        png = png(pixels, width, height);
+    }
+
+    @Benchmark
+    public BitMatrix encode() throws WriterException {
+        return QREncoder.encode(DATA, size, hints);
+    }
+
+    /** Idempotent on the same buffer: the white padding is repainted before blending. */
+    @Benchmark
+    public int[] drawLogo() {
+        int offset = (size - logoSize) / 2;
+        QRRasterizer.drawLogo(pixels, width, height, logo, logoSize, offset, offset, 4);
+        return pixels;
+    }
+
+    @Benchmark
+    public String base64() {
+        return Base64.getEncoder().encodeToString(png);
+    }
+
+    /** Opaque disc with a semi-transparent rim and transparent corners, so every blend branch runs. */
+    static int[] syntheticLogo(int size) {
+        int[] logo = new int[size * size];
+        float center = (size - 1) / 2f;
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                double distance = Math.hypot(x - center, y - center) / (size / 2f);
+                int alpha = distance < 0.8 ? 0xFF : distance < 1 ? (int) (0xFF * (1 - distance) / 0.2) : 0;
+                logo[y * size + x] = (alpha << 24) | ((x * 255 / size) << 16) | 0x40 << 8 | (y * 255 / size);
+            }
+        }
+        return logo;
+    }
+
+    static byte[] png(int[] pixels, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        image.setRGB(0, 0, width, height, pixels, 0, width);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,75 @@
+package com.slm.qr;
+
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matrix-to-pixels rasterization: the original per-pixel loop against
+ * {@link QRRasterizer#rasterize}. The baseline keeps the original order (column by column,
+ * one {@code BitMatrix.get} and one non-inlined setPixel call per pixel). On the device each
+ * of those calls also crosses JNI into {@code Bitmap.setPixel}, so the real gap is larger
+ * than what this measures.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RasterizeBenchmark {
+
+    private static final int BLACK = 0xFF000000;
+    private static final int WHITE = 0xFFFFFFFF;
+
+    @Param({ "128", "256", "512", "1024", "2048", "4096" })
+    public int size;
+
+    private BitMatrix matrix;
+
+    @Setup
+    public void setUp() throws WriterException {
+        Map<EncodeHintType, Object> hints = QREncoder.hints(QREncoder.parseErrorCorrection("M"));
+        matrix = QREncoder.encode(QRGenerateBenchmark.DATA, size, hints);
+    }
+
+    /** The loop generateQR() used before: {@code for x, for y, bitmap.setPixel(x, y, ...)}. */
+    @Benchmark
+    public int[] perPixel() {
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+        int[] pixels = new int[width * height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                setPixel(pixels, width, x, y, matrix.get(x, y) ? BLACK : WHITE);
+            }
+        }
+        return pixels;
+    }
+
+    @Benchmark
+    public int[] bulk() {
+        return QRRasterizer.rasterize(matrix, BLACK, WHITE);
+    }
+
+    @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+    private static void setPixel(int[] pixels, int width, int x, int y, int color) {
+        pixels[y * width + x] = color;
+    }
+}
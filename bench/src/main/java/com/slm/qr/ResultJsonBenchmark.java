@@ -0,0 +1,93 @@
+package com.slm.qr;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result serialization in the analyzers through {@link ScanResults} and
+ * {@link MultiScanSession}, up to the string PluginResult sends over the bridge: the
+ * one-shot scan result, a preview detection on the reused object, and one scanMultiple
+ * batch. rawBytes are opt-in in the app, so each result has a default and a rawBytes variant.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResultJsonBenchmark {
+
+    private DecodedCode code;
+    private ScanMetrics metrics;
+    private final JSONObject detection = new JSONObject();
+    private final List<DecodedCode> frameCodes = new ArrayList<>();
+
+    @Setup
+    public void setUp() {
+        byte[] raw = QRGenerateBenchmark.DATA.getBytes(StandardCharsets.UTF_8);
+        code = new DecodedCode(QRGenerateBenchmark.DATA, "QR_CODE", raw, 412, 208, 868, 664);
+
+        // A session that ran long enough to fill the latency window
+        metrics = new ScanMetrics();
+        metrics.mark(ScanMetrics.PERMISSION_READY);
+        metrics.mark(ScanMetrics.PROVIDER_READY);
+        metrics.mark(ScanMetrics.CAMERA_BOUND);
+        for (int i = 0; i < 600; i++) {
+            metrics.onFrame(i * 33_333_333L);
+            metrics.onAnalysis(8_000_000L + (i * 7919L % 12_000_000L), true, i % 5 == 0);
+        }
+        metrics.mark(ScanMetrics.FIRST_DECODE_ATTEMPT);
+        metrics.mark(ScanMetrics.DETECTION);
+
+        for (int i = 0; i < 10; i++) {
+            frameCodes.add(new DecodedCode("0123456789" + i, "CODE_128", null, 40 * i, 100, 40 * i + 300, 180));
+        }
+    }
+
+    /** Production defaults: template, metrics, no rawBytes. */
+    @Benchmark
+    public String scanResult() throws JSONException {
+        return ScanResults.scan(code, "simple", false, null, metrics, null).toString();
+    }
+
+    /** With the opt-in rawBytes option, encoded as Base64. */
+    @Benchmark
+    public String scanResultRawBytes() throws JSONException {
+        return ScanResults.scan(code, "simple", true, null, metrics, null).toString();
+    }
+
+    /** Production defaults: the reused detection with the session timeline, no rawBytes. */
+    @Benchmark
+    public String previewDetection() throws JSONException {
+        ScanResults.fillDetection(detection, code, metrics, false);
+        return detection.toString();
+    }
+
+    @Benchmark
+    public String previewDetectionRawBytes() throws JSONException {
+        ScanResults.fillDetection(detection, code, metrics, true);
+        return detection.toString();
+    }
+
+    @Benchmark
+    public String multiScanBatch() throws JSONException {
+        MultiScanSession session = new MultiScanSession(0, 0);
+        session.add(frameCodes);
+        return session.drain(false).toString();
+    }
+}
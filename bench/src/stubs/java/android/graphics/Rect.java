@@ -0,0 +1,45 @@
+package android.graphics;
+
+/** JVM stand-in for the parts of android.graphics.Rect the shared classes use. */
+public final class Rect {
+
+    public int left;
+    public int top;
+    public int right;
+    public int bottom;
+
+    public Rect() {
+    }
+
+    public Rect(int left, int top, int right, int bottom) {
+        set(left, top, right, bottom);
+    }
+
+    public Rect(Rect r) {
+        this(r.left, r.top, r.right, r.bottom);
+    }
+
+    public void set(int left, int top, int right, int bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    public void set(Rect r) {
+        set(r.left, r.top, r.right, r.bottom);
+    }
+
+    public int width() {
+        return right - left;
+    }
+
+    public int height() {
+        return bottom - top;
+    }
+
+    @Override
+    public String toString() {
+        return "Rect(" + left + ", " + top + " - " + right + ", " + bottom + ")";
+    }
+}
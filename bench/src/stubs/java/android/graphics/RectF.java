@@ -0,0 +1,25 @@
+package android.graphics;
+
+/** JVM stand-in for the parts of android.graphics.RectF the shared classes use. */
+public final class RectF {
+
+    public float left;
+    public float top;
+    public float right;
+    public float bottom;
+
+    public RectF(float left, float top, float right, float bottom) {
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    public float width() {
+        return right - left;
+    }
+
+    public float height() {
+        return bottom - top;
+    }
+}
@@ -0,0 +1,17 @@
+package android.util;
+
+/** JVM stand-in for the parts of android.util.Base64 the shared classes use (NO_WRAP only). */
+public final class Base64 {
+
+    public static final int NO_WRAP = 2;
+
+    private Base64() {
+    }
+
+    public static String encodeToString(byte[] input, int flags) {
+        if ((flags & NO_WRAP) == 0) {
+            throw new UnsupportedOperationException("Only NO_WRAP is stubbed");
+        }
+        return java.util.Base64.getEncoder().encodeToString(input);
+    }
+}
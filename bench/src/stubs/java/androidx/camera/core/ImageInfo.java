@@ -0,0 +1,9 @@
+package androidx.camera.core;
+
+/** JVM stand-in for the parts of CameraX's ImageInfo the shared classes use. */
+public interface ImageInfo {
+
+    long getTimestamp();
+
+    int getRotationDegrees();
+}
@@ -0,0 +1,29 @@
+package androidx.camera.core;
+
+import java.nio.ByteBuffer;
+
+/** JVM stand-in for the parts of CameraX's ImageProxy the shared classes use. */
+public interface ImageProxy extends AutoCloseable {
+
+    interface PlaneProxy {
+
+        int getRowStride();
+
+        int getPixelStride();
+
+        ByteBuffer getBuffer();
+    }
+
+    @Override
+    void close();
+
+    int getFormat();
+
+    int getWidth();
+
+    int getHeight();
+
+    PlaneProxy[] getPlanes();
+
+    ImageInfo getImageInfo();
+}
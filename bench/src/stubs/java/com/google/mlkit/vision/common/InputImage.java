@@ -0,0 +1,33 @@
+package com.google.mlkit.vision.common;
+
+/** JVM stand-in for ML Kit's InputImage; only carries what ScanRegion hands it. */
+public final class InputImage {
+
+    public static final int IMAGE_FORMAT_NV21 = 17;
+
+    private final int width;
+    private final int height;
+    private final int rotationDegrees;
+
+    private InputImage(int width, int height, int rotationDegrees) {
+        this.width = width;
+        this.height = height;
+        this.rotationDegrees = rotationDegrees;
+    }
+
+    public static InputImage fromByteArray(byte[] bytes, int width, int height, int rotationDegrees, int format) {
+        return new InputImage(width, height, rotationDegrees);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getRotationDegrees() {
+        return rotationDegrees;
+    }
+}
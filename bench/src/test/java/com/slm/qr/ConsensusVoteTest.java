@@ -0,0 +1,109 @@
+package com.slm.qr;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ConsensusVoteTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void resolvesAtThreshold() {
+        ConsensusVote<String> vote = new ConsensusVote<>(5, 3, 0);
+        assertNull(vote.vote("QR_CODE:a", "a", 0));
+        assertNull(vote.vote("QR_CODE:a", "a", 33));
+        ConsensusVote.Decision<String> decision = vote.vote("QR_CODE:a", "a", 66);
+        assertNotNull(decision);
+        assertEquals("a", decision.payload);
+        assertEquals(3, decision.votes);
+        assertEquals(3, decision.frames);
+        assertFalse(decision.timedOut);
+    }
+
+    @Test
+    public void misreadIsOutvoted() {
+        ConsensusVote<String> vote = new ConsensusVote<>(5, 3, 0);
+        assertNull(vote.vote("QR_CODE:a", "a", 0));
+        assertNull(vote.vote("QR_CODE:b", "b", 33));
+        assertNull(vote.vote("QR_CODE:a", "a", 66));
+        ConsensusVote.Decision<String> decision = vote.vote("QR_CODE:a", "a", 99);
+        assertNotNull(decision);
+        assertEquals("a", decision.payload);
+        assertEquals(3, decision.votes);
+        assertEquals(4, decision.frames);
+        assertEquals(0.75, decision.confidence(), DELTA);
+    }
+
+    @Test
+    public void thresholdIsClampedToWindow() {
+        ConsensusVote<String> vote = new ConsensusVote<>(3, 10, 0);
+        assertNull(vote.vote("QR_CODE:a", "a", 0));
+        assertNull(vote.vote("QR_CODE:a", "a", 33));
+        assertNotNull(vote.vote("QR_CODE:a", "a", 66));
+    }
+
+    @Test
+    public void votesLeavingTheWindowAreEvicted() {
+        ConsensusVote<String> vote = new ConsensusVote<>(3, 3, 0);
+        assertNull(vote.vote("QR_CODE:a", "a", 0));
+        assertNull(vote.vote("QR_CODE:a", "a", 33));
+        assertNull(vote.vote("QR_CODE:b", "b", 66));
+        // Each new "a" pushes an old "a" out, so "a" only resolves once "b" has left the window
+        assertNull(vote.vote("QR_CODE:a", "a", 99));
+        assertNull(vote.vote("QR_CODE:a", "a", 132));
+        ConsensusVote.Decision<String> decision = vote.vote("QR_CODE:a", "a", 165);
+        assertNotNull(decision);
+        assertEquals(3, decision.votes);
+        assertEquals(3, decision.frames);
+    }
+
+    @Test
+    public void timeoutResolvesToLeader() {
+        ConsensusVote<String> vote = new ConsensusVote<>(5, 4, 1000);
+        assertNull(vote.vote("QR_CODE:a", "a", 0));
+        assertNull(vote.vote("QR_CODE:b", "b", 100));
+        assertNull(vote.vote("QR_CODE:a", "a", 200));
+        assertNull(vote.vote(null, null, 999));
+        ConsensusVote.Decision<String> decision = vote.vote(null, null, 1000);
+        assertNotNull(decision);
+        assertEquals("a", decision.payload);
+        assertEquals(2, decision.votes);
+        assertEquals(3, decision.frames);
+        assertTrue(decision.timedOut);
+        assertEquals(2.0 / 3, decision.confidence(), DELTA);
+    }
+
+    @Test
+    public void noDecisionWhenEveryVoteHasAgedOut() {
+        ConsensusVote<String> vote = new ConsensusVote<>(2, 2, 1000);
+        assertNull(vote.vote("QR_CODE:a", "a", 0));
+        assertNull(vote.vote("QR_CODE:b", "b", 10));
+        assertNull(vote.vote(null, null, 20));
+        assertNull(vote.vote(null, null, 30));
+        // Timed out, but the window is empty: wait for a fresh read
+        assertNull(vote.vote(null, null, 1000));
+        ConsensusVote.Decision<String> decision = vote.vote("QR_CODE:c", "c", 1100);
+        assertNotNull(decision);
+        assertEquals("c", decision.payload);
+        assertTrue(decision.timedOut);
+    }
+
+    @Test
+    public void confidenceCountsOnlyFramesWithARead() {
+        ConsensusVote<String> vote = new ConsensusVote<>(5, 3, 0);
+        assertNull(vote.vote("QR_CODE:a", "a", 0));
+        assertNull(vote.vote(null, null, 33));
+        assertNull(vote.vote(null, null, 66));
+        assertNull(vote.vote("QR_CODE:a", "a", 99));
+        ConsensusVote.Decision<String> decision = vote.vote("QR_CODE:a", "a", 132);
+        assertNotNull(decision);
+        assertEquals(3, decision.frames);
+        assertEquals(1.0, decision.confidence(), DELTA);
+        assertEquals(0, new ConsensusVote.Decision<>("a", 0, 0, true).confidence(), DELTA);
+    }
+}
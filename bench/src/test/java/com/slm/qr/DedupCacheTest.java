@@ -0,0 +1,51 @@
+package com.slm.qr;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DedupCacheTest {
+
+    @Test
+    public void alternatingCodesAreEachReportedOncePerWindow() {
+        DedupCache dedup = new DedupCache(1000, 8);
+        assertTrue(dedup.shouldReport("QR_CODE:a", 0));
+        assertTrue(dedup.shouldReport("QR_CODE:b", 10));
+        for (long now = 100; now < 1000; now += 100) {
+            assertFalse(dedup.shouldReport("QR_CODE:a", now));
+            assertFalse(dedup.shouldReport("QR_CODE:b", now + 10));
+        }
+        assertTrue(dedup.shouldReport("QR_CODE:a", 1000));
+        assertFalse(dedup.shouldReport("QR_CODE:b", 1009));
+        assertTrue(dedup.shouldReport("QR_CODE:b", 1010));
+    }
+
+    @Test
+    public void sameTextInAnotherFormatIsAnotherCode() {
+        DedupCache dedup = new DedupCache(1000, 8);
+        assertTrue(dedup.shouldReport(new DecodedCode("123", "QR_CODE", null).key(), 0));
+        assertTrue(dedup.shouldReport(new DecodedCode("123", "CODE_128", null).key(), 0));
+        assertFalse(dedup.shouldReport(new DecodedCode("123", "QR_CODE", null).key(), 1));
+    }
+
+    @Test
+    public void evictsLeastRecentlySeenBeyondCapacity() {
+        DedupCache dedup = new DedupCache(1000, 2);
+        assertTrue(dedup.shouldReport("a", 0));
+        assertTrue(dedup.shouldReport("b", 1));
+        // Seeing "a" again keeps it fresh, so "c" evicts "b"
+        assertFalse(dedup.shouldReport("a", 2));
+        assertTrue(dedup.shouldReport("c", 3));
+        assertFalse(dedup.shouldReport("a", 4));
+        assertTrue(dedup.shouldReport("b", 5));
+    }
+
+    @Test
+    public void clearForgetsReportedCodes() {
+        DedupCache dedup = new DedupCache(1000, 8);
+        assertTrue(dedup.shouldReport("a", 0));
+        dedup.clear();
+        assertTrue(dedup.shouldReport("a", 1));
+    }
+}
@@ -0,0 +1,99 @@
+package com.slm.qr;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.WriterException;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The synthetic frame corpus checked in under src/test/resources/corpus. Each sequence is
+ * rendered by {@link FrameReplay#synthetic} from the parameters below, so it can be rebuilt
+ * bit for bit; {@code FrameReplayTest} checks that it still is. To regenerate after changing
+ * the renderer:
+ *
+ * <pre>mvn -f bench/pom.xml test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=com.slm.qr.FrameCorpus -Dexec.args=src/test/resources/corpus</pre>
+ */
+final class FrameCorpus {
+
+    static final String QR_TEXT = "https://tickets.example.com/e/A17";
+    static final String CODE_128_TEXT = "SLM-0123456789";
+
+    /** One corpus sequence: what it shows and how it was rendered. */
+    static final class Sequence {
+        final String name;
+        final String text;
+        final BarcodeFormat format;
+        final int count;
+        final int width;
+        final int height;
+        final int rotationDegrees;
+        final long seed;
+
+        Sequence(String name, String text, BarcodeFormat format, int count, int width, int height,
+                 int rotationDegrees, long seed) {
+            this.name = name;
+            this.text = text;
+            this.format = format;
+            this.count = count;
+            this.width = width;
+            this.height = height;
+            this.rotationDegrees = rotationDegrees;
+            this.seed = seed;
+        }
+
+        List<FrameSequence.Frame> render() throws WriterException {
+            return FrameReplay.synthetic(text, format, count, width, height, rotationDegrees, seed);
+        }
+
+        /** The checked-in copy, read from the test classpath. */
+        List<FrameSequence.Frame> load() throws IOException {
+            URL index = FrameCorpus.class.getResource("/corpus/" + name + "/" + FrameRecorder.INDEX_FILE);
+            if (index == null) {
+                throw new IOException("Missing corpus sequence " + name);
+            }
+            try {
+                return FrameSequence.read(new File(index.toURI()).getParentFile());
+            } catch (URISyntaxException e) {
+                throw new IOException(e);
+            }
+        }
+    }
+
+    /** Sensor-sized frames as CameraX delivers them on a portrait phone (rotation 90) and upright. */
+    static final List<Sequence> SEQUENCES = Collections.unmodifiableList(Arrays.asList(
+            new Sequence("qr-rot90", QR_TEXT, BarcodeFormat.QR_CODE, 8, 320, 240, 90, 19),
+            new Sequence("code128", CODE_128_TEXT, BarcodeFormat.CODE_128, 8, 320, 240, 0, 128),
+            new Sequence("noise", null, BarcodeFormat.QR_CODE, 4, 320, 240, 0, 7)));
+
+    private FrameCorpus() {
+    }
+
+    static Sequence get(String name) {
+        for (Sequence sequence : SEQUENCES) {
+            if (sequence.name.equals(name)) return sequence;
+        }
+        throw new IllegalArgumentException(name);
+    }
+
+    public static void main(String[] args) throws Exception {
+        File root = new File(args.length > 0 ? args[0] : "src/test/resources/corpus");
+        for (Sequence sequence : SEQUENCES) {
+            File dir = new File(root, sequence.name);
+            File[] old = dir.listFiles();
+            if (old != null) {
+                for (File file : old) {
+                    if (!file.delete()) throw new IOException("Cannot delete " + file);
+                }
+            }
+            FrameSequence.write(dir, sequence.render());
+            System.out.println("wrote " + dir);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.slm.qr;
+
+import androidx.camera.core.ImageInfo;
+import androidx.camera.core.ImageProxy;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Stub camera source: presents a recorded luminance frame as the YUV_420_888 ImageProxy
+ * CameraX delivers to the analyzers, with neutral chroma planes.
+ */
+final class FrameImageProxy implements ImageProxy {
+
+    private static final int YUV_420_888 = 35;
+
+    private final FrameSequence.Frame frame;
+    private final PlaneProxy[] planes;
+
+    FrameImageProxy(FrameSequence.Frame frame) {
+        this.frame = frame;
+        int chromaWidth = (frame.width + 1) / 2;
+        int chromaHeight = (frame.height + 1) / 2;
+        byte[] chroma = new byte[chromaWidth * chromaHeight];
+        Arrays.fill(chroma, (byte) 128);
+        this.planes = new PlaneProxy[] {
+                plane(frame.luminance, frame.width),
+                plane(chroma, chromaWidth),
+                plane(chroma.clone(), chromaWidth),
+        };
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release: the buffers belong to the sequence
+    }
+
+    @Override
+    public int getFormat() {
+        return YUV_420_888;
+    }
+
+    @Override
+    public int getWidth() {
+        return frame.width;
+    }
+
+    @Override
+    public int getHeight() {
+        return frame.height;
+    }
+
+    @Override
+    public PlaneProxy[] getPlanes() {
+        return planes;
+    }
+
+    @Override
+    public ImageInfo getImageInfo() {
+        return new ImageInfo() {
+            @Override
+            public long getTimestamp() {
+                return frame.timestampNs;
+            }
+
+            @Override
+            public int getRotationDegrees() {
+                return frame.rotationDegrees;
+            }
+        };
+    }
+
+    private static PlaneProxy plane(final byte[] bytes, final int rowStride) {
+        final ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return new PlaneProxy() {
+            @Override
+            public int getRowStride() {
+                return rowStride;
+            }
+
+            @Override
+            public int getPixelStride() {
+                return 1;
+            }
+
+            @Override
+            public ByteBuffer getBuffer() {
+                return buffer;
+            }
+        };
+    }
+}
@@ -0,0 +1,239 @@
+package com.slm.qr;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.MultiFormatWriter;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Replays a frame sequence through the decode pipeline the preview analyzer uses and
+ * measures it: frames go through the {@link AnalysisScheduler}, the {@link ScanRegion}
+ * window and a {@link DecodeEngine}, and decoded codes through the {@link DedupCache}.
+ * The report counts how many frames decoded the expected value, how many codes were
+ * something else (false positives), how many would have been reported to JS, and the
+ * per-frame decode latency. Sequences come from recordings ({@link FrameSequence#read}) or
+ * from {@link #synthetic}, which renders a code with the ZXing encoders into frames of
+ * decreasing quality. Frames reach the engine as {@link FrameImageProxy} stubs, so a replay
+ * is deterministic and runs headless.
+ */
+final class FrameReplay {
+
+    /** Results of one replay. */
+    static final class Report {
+        final int frames;
+        final int analyzed;
+        final int framesWithCodes;
+        final int expectedHits;
+        final int falsePositives;
+        final int reported;
+        final int unreadable;
+        final int firstHitFrame;
+        final double p50Ms;
+        final double p95Ms;
+        final double maxMs;
+
+        Report(int frames, int analyzed, int framesWithCodes, int expectedHits, int falsePositives, int reported,
+               int unreadable, int firstHitFrame, long[] latenciesNs) {
+            this.frames = frames;
+            this.analyzed = analyzed;
+            this.framesWithCodes = framesWithCodes;
+            this.expectedHits = expectedHits;
+            this.falsePositives = falsePositives;
+            this.reported = reported;
+            this.unreadable = unreadable;
+            this.firstHitFrame = firstHitFrame;
+            long[] sorted = Arrays.copyOf(latenciesNs, analyzed);
+            Arrays.sort(sorted);
+            this.p50Ms = percentileMs(sorted, 0.50);
+            this.p95Ms = percentileMs(sorted, 0.95);
+            this.maxMs = sorted.length == 0 ? 0 : sorted[sorted.length - 1] / 1e6;
+        }
+
+        /** Share of analyzed frames that decoded the expected value. */
+        double decodeRate() {
+            return analyzed == 0 ? 0 : (double) expectedHits / analyzed;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US,
+                    "frames=%d analyzed=%d decoded=%d expected=%d falsePositives=%d reported=%d unreadable=%d "
+                            + "firstHit=%d rate=%.3f p50=%.2fms p95=%.2fms max=%.2fms",
+                    frames, analyzed, framesWithCodes, expectedHits, falsePositives, reported, unreadable,
+                    firstHitFrame, decodeRate(), p50Ms, p95Ms, maxMs);
+        }
+
+        private static double percentileMs(long[] sorted, double percentile) {
+            if (sorted.length == 0) return 0;
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+        }
+    }
+
+    /** Collects the outcome of one frame; the ZXing engine calls back before decode() returns. */
+    private static final class Outcome implements DecodeEngine.Callback {
+        List<DecodedCode> codes;
+        List<DecodedCode> unreadable;
+        Exception failure;
+
+        @Override
+        public void onDecoded(List<DecodedCode> codes, List<DecodedCode> unreadable) {
+            this.codes = codes;
+            this.unreadable = unreadable;
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            this.failure = e;
+        }
+    }
+
+    private FrameReplay() {
+    }
+
+    /**
+     * Replays {@code frames} through {@code engine}. {@code region}, {@code scheduler} and
+     * {@code dedup} are optional, as they are in the analyzers. A code whose text differs
+     * from {@code expectedText} counts as a false positive; with a null expectation every
+     * decoded code does (for sequences that contain no code at all).
+     */
+    static Report run(List<FrameSequence.Frame> frames, DecodeEngine engine, ScanRegion region,
+                      AnalysisScheduler scheduler, DedupCache dedup, String expectedText) {
+        long[] latencies = new long[frames.size()];
+        int analyzed = 0;
+        int withCodes = 0;
+        int hits = 0;
+        int falsePositives = 0;
+        int reported = 0;
+        int unreadable = 0;
+        int firstHit = -1;
+        for (int i = 0; i < frames.size(); i++) {
+            FrameSequence.Frame frame = frames.get(i);
+            long nowMs = frame.timestampNs / 1_000_000;
+            if (scheduler != null && !scheduler.shouldAnalyze(nowMs)) {
+                continue;
+            }
+
+            FrameImageProxy image = new FrameImageProxy(frame);
+            Outcome outcome = new Outcome();
+            long start = System.nanoTime();
+            engine.decode(image, region, outcome);
+            latencies[analyzed++] = System.nanoTime() - start;
+            image.close();
+
+            if (outcome.failure != null) {
+                throw new IllegalStateException("frame " + i + " failed", outcome.failure);
+            }
+            if (outcome.codes == null) {
+                throw new IllegalStateException("engine did not call back synchronously for frame " + i);
+            }
+            if (scheduler != null) {
+                scheduler.onResult(!outcome.codes.isEmpty() || !outcome.unreadable.isEmpty());
+            }
+            unreadable += outcome.unreadable.size();
+
+            if (!outcome.codes.isEmpty()) withCodes++;
+            boolean hit = false;
+            for (DecodedCode code : outcome.codes) {
+                if (code.text.equals(expectedText)) {
+                    hit = true;
+                } else {
+                    falsePositives++;
+                }
+                if (dedup == null || dedup.shouldReport(code.key(), nowMs)) {
+                    reported++;
+                }
+            }
+            if (hit) {
+                hits++;
+                if (firstHit < 0) firstHit = i;
+            }
+        }
+        return new Report(frames.size(), analyzed, withCodes, hits, falsePositives, reported, unreadable, firstHit, latencies);
+    }
+
+    /**
+     * Renders {@code count} frames of {@code width} x {@code height} (buffer orientation,
+     * as delivered with {@code rotationDegrees}) showing {@code text} encoded as
+     * {@code format}, or only background and noise when {@code text} is null. Along the
+     * sequence the code shrinks, moves and loses contrast while sensor noise grows, so later
+     * frames are harder. The same seed gives the same frames.
+     */
+    static List<FrameSequence.Frame> synthetic(String text, BarcodeFormat format, int count, int width, int height,
+                                               int rotationDegrees, long seed) throws WriterException {
+        boolean swap = rotationDegrees % 180 != 0;
+        int uprightW = swap ? height : width;
+        int uprightH = swap ? width : height;
+
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.MARGIN, 0);
+        // Without a code, a one-module blank matrix placed off-frame keeps the loop below uniform
+        BitMatrix code = text != null ? new MultiFormatWriter().encode(text, format, 0, 0, hints) : new BitMatrix(1);
+
+        Random random = new Random(seed);
+        List<FrameSequence.Frame> frames = new ArrayList<>(count);
+        byte[] upright = new byte[uprightW * uprightH];
+        for (int i = 0; i < count; i++) {
+            float progress = count > 1 ? (float) i / (count - 1) : 0;
+            int dark = Math.round(30 + 80 * progress);
+            int light = Math.round(220 - 60 * progress);
+            int noise = Math.round(4 + 30 * progress);
+
+            // Largest module size that fits 80% of the frame, shrinking to a third of that
+            int fit = (int) (Math.min(uprightW * 0.8f / code.getWidth(), uprightH * 0.8f / code.getHeight()));
+            int module = Math.max(1, Math.round(fit * (1 - 0.66f * progress)));
+            int codeW = code.getWidth() * module;
+            int codeH = Math.max(code.getHeight() * module, format == BarcodeFormat.QR_CODE ? 0 : uprightH / 5);
+            int left = text != null ? random.nextInt(Math.max(1, uprightW - codeW)) : uprightW;
+            int top = text != null ? random.nextInt(Math.max(1, uprightH - codeH)) : uprightH;
+
+            for (int y = 0; y < uprightH; y++) {
+                int codeRow = (y - top) / module;
+                for (int x = 0; x < uprightW; x++) {
+                    int value = light;
+                    if (x >= left && x < left + codeW && y >= top && y < top + codeH) {
+                        // 1D codes are one row high; stretch that row over the code height
+                        int row = code.getHeight() == 1 ? 0 : Math.min(codeRow, code.getHeight() - 1);
+                        if (code.get((x - left) / module, row)) value = dark;
+                    }
+                    value += random.nextInt(2 * noise + 1) - noise;
+                    upright[y * uprightW + x] = (byte) Math.max(0, Math.min(255, value));
+                }
+            }
+            frames.add(new FrameSequence.Frame(toBuffer(upright, uprightW, uprightH, rotationDegrees),
+                    width, height, rotationDegrees, i * 33_333_333L));
+        }
+        return Collections.unmodifiableList(frames);
+    }
+
+    /** Lays an upright image out as the sensor buffer that {@code rotationDegrees} clockwise makes upright. */
+    private static byte[] toBuffer(byte[] upright, int uprightW, int uprightH, int rotationDegrees) {
+        byte[] buffer = new byte[upright.length];
+        boolean swap = rotationDegrees % 180 != 0;
+        int bufferW = swap ? uprightH : uprightW;
+        int bufferH = swap ? uprightW : uprightH;
+        for (int by = 0; by < bufferH; by++) {
+            for (int bx = 0; bx < bufferW; bx++) {
+                int ux, uy;
+                switch (rotationDegrees) {
+                    case 90:  ux = bufferH - 1 - by; uy = bx; break;
+                    case 180: ux = bufferW - 1 - bx; uy = bufferH - 1 - by; break;
+                    case 270: ux = by; uy = bufferW - 1 - bx; break;
+                    default:  ux = bx; uy = by; break;
+                }
+                buffer[by * bufferW + bx] = upright[uy * uprightW + ux];
+            }
+        }
+        return buffer;
+    }
+}
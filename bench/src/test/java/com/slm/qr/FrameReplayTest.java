@@ -0,0 +1,96 @@
+package com.slm.qr;
+
+import android.graphics.RectF;
+
+import com.google.zxing.BarcodeFormat;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Replays the checked-in corpus through the ZXing engine. The last frames of each sequence
+ * are rendered to fail (small, low contrast, noisy), so the decode-rate floors are the rates
+ * the corpus reaches today: 6 of 8 for the QR sequence, 4 of 8 for Code 128.
+ */
+public class FrameReplayTest {
+
+    @Test
+    public void corpusMatchesRenderer() throws Exception {
+        for (FrameCorpus.Sequence sequence : FrameCorpus.SEQUENCES) {
+            List<FrameSequence.Frame> stored = sequence.load();
+            List<FrameSequence.Frame> rendered = sequence.render();
+            assertEquals(sequence.name, rendered.size(), stored.size());
+            for (int i = 0; i < stored.size(); i++) {
+                FrameSequence.Frame a = stored.get(i);
+                FrameSequence.Frame b = rendered.get(i);
+                assertEquals(sequence.name + " frame " + i, b.rotationDegrees, a.rotationDegrees);
+                assertEquals(sequence.name + " frame " + i, b.timestampNs, a.timestampNs);
+                assertArrayEquals(sequence.name + " frame " + i, b.luminance, a.luminance);
+            }
+        }
+    }
+
+    @Test
+    public void rotatedQrDecodesWithoutFalsePositives() throws Exception {
+        FrameReplay.Report report = replay("qr-rot90", BarcodeFormat.QR_CODE, null, null);
+        assertEquals(report.toString(), 0, report.falsePositives);
+        assertEquals(report.toString(), 0, report.firstHitFrame);
+        assertTrue(report.toString(), report.decodeRate() >= 0.75);
+        // Every hit is within the dedup window of the first, so JS hears about it once
+        assertEquals(report.toString(), 1, report.reported);
+    }
+
+    @Test
+    public void code128DecodesWithoutFalsePositives() throws Exception {
+        FrameReplay.Report report = replay("code128", BarcodeFormat.CODE_128, null, null);
+        assertEquals(report.toString(), 0, report.falsePositives);
+        assertEquals(report.toString(), 0, report.firstHitFrame);
+        assertTrue(report.toString(), report.decodeRate() >= 0.5);
+        assertEquals(report.toString(), 1, report.reported);
+    }
+
+    @Test
+    public void noiseReportsNothing() throws Exception {
+        FrameReplay.Report report = replay("noise", BarcodeFormat.QR_CODE, null, null);
+        assertEquals(report.toString(), 0, report.framesWithCodes);
+        assertEquals(report.toString(), 0, report.falsePositives);
+        assertEquals(report.toString(), 0, report.reported);
+        assertEquals(report.toString(), 0, report.unreadable);
+    }
+
+    @Test
+    public void fullViewWindowMatchesFullFrame() throws Exception {
+        FrameCorpus.Sequence sequence = FrameCorpus.get("qr-rot90");
+        // The preview shows the upright frame, so a portrait view of the same size covers it exactly
+        ScanRegion region = new ScanRegion();
+        region.setViewWindow(new RectF(0, 0, sequence.height, sequence.width), sequence.height, sequence.width, false);
+
+        FrameReplay.Report cropped = replay("qr-rot90", BarcodeFormat.QR_CODE, region, null);
+        FrameReplay.Report full = replay("qr-rot90", BarcodeFormat.QR_CODE, null, null);
+        assertEquals(cropped.toString(), full.expectedHits, cropped.expectedHits);
+        assertEquals(cropped.toString(), 0, cropped.falsePositives);
+    }
+
+    @Test
+    public void schedulerSkipsFramesAboveItsRate() throws Exception {
+        // The corpus runs at 30 fps; a 15 fps cap analyzes every other frame
+        AnalysisScheduler scheduler = new AnalysisScheduler(15, 3, 0);
+        FrameReplay.Report report = replay("code128", BarcodeFormat.CODE_128, null, scheduler);
+        assertEquals(report.toString(), 4, report.analyzed);
+        assertEquals(report.toString(), 0, report.falsePositives);
+    }
+
+    private static FrameReplay.Report replay(String name, BarcodeFormat format, ScanRegion region,
+                                             AnalysisScheduler scheduler) throws Exception {
+        List<FrameSequence.Frame> frames = FrameCorpus.get(name).load();
+        DecodeEngine engine = new ZXingDecodeEngine(Collections.singletonList(format), false);
+        String expected = FrameCorpus.get(name).text;
+        return FrameReplay.run(frames, engine, region, scheduler, new DedupCache(2000, 32), expected);
+    }
+}
@@ -0,0 +1,72 @@
+package com.slm.qr;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Luminance frames of a recording written by {@link FrameRecorder} (the scanner's
+ * recordFrames option) or of a corpus sequence checked in under src/test/resources.
+ */
+final class FrameSequence {
+
+    /** One luminance frame and the metadata the analyzers receive with it. */
+    static final class Frame {
+        final byte[] luminance;
+        final int width;
+        final int height;
+        final int rotationDegrees;
+        final long timestampNs;
+
+        Frame(byte[] luminance, int width, int height, int rotationDegrees, long timestampNs) {
+            this.luminance = luminance;
+            this.width = width;
+            this.height = height;
+            this.rotationDegrees = rotationDegrees;
+            this.timestampNs = timestampNs;
+        }
+    }
+
+    private FrameSequence() {
+    }
+
+    /** Writes {@code frames} to {@code dir} in the recording layout. */
+    static void write(File dir, List<Frame> frames) throws IOException {
+        FrameRecorder recorder = new FrameRecorder(dir, frames.size());
+        for (Frame frame : frames) {
+            recorder.append(frame.luminance, frame.width, frame.width, frame.height, frame.rotationDegrees, frame.timestampNs);
+        }
+    }
+
+    /** Reads every frame of a recorded sequence, in recording order. */
+    static List<Frame> read(File dir) throws IOException {
+        List<Frame> frames = new ArrayList<>();
+        try (BufferedReader index = new BufferedReader(new FileReader(new File(dir, FrameRecorder.INDEX_FILE)))) {
+            String line;
+            while ((line = index.readLine()) != null) {
+                String[] fields = line.trim().split(" ");
+                if (fields.length < 5) continue;
+                int width = Integer.parseInt(fields[1]);
+                int height = Integer.parseInt(fields[2]);
+                byte[] luminance = new byte[width * height];
+                try (InputStream in = new FileInputStream(new File(dir, fields[0]))) {
+                    int offset = 0;
+                    int read;
+                    while (offset < luminance.length && (read = in.read(luminance, offset, luminance.length - offset)) != -1) {
+                        offset += read;
+                    }
+                    if (offset < luminance.length) {
+                        throw new IOException("Truncated frame " + fields[0]);
+                    }
+                }
+                frames.add(new Frame(luminance, width, height, Integer.parseInt(fields[3]), Long.parseLong(fields[4])));
+            }
+        }
+        return frames;
+    }
+}
@@ -0,0 +1,100 @@
+package com.slm.qr;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.MultiFormatWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class ZXingFrameDecoderTest {
+
+    private static final int WIDTH = 320;
+    private static final int HEIGHT = 240;
+    private static final int MODULE = 6;
+    private static final int LEFT = 40;
+    private static final int TOP = 20;
+
+    @Test
+    public void readsIntactQr() throws Exception {
+        ZXingFrameDecoder decoder = decoder();
+        render(decoder, 0);
+        List<DecodedCode> codes = decoder.decode(WIDTH, HEIGHT, 0, 0, WIDTH, HEIGHT);
+        assertEquals(1, codes.size());
+        assertEquals(FrameCorpus.QR_TEXT, codes.get(0).text);
+        assertEquals(0, decoder.undecodedCandidates().size());
+    }
+
+    @Test
+    public void locatesQrThatFailsToRead() throws Exception {
+        ZXingFrameDecoder decoder = decoder();
+        // Inverting the centre of the symbol is beyond level L correction, but the finder patterns survive
+        render(decoder, 8);
+        assertEquals(Collections.emptyList(), decoder.decode(WIDTH, HEIGHT, 0, 0, WIDTH, HEIGHT));
+        List<DecodedCode> candidates = decoder.undecodedCandidates();
+        assertEquals(1, candidates.size());
+        DecodedCode candidate = candidates.get(0);
+        assertNull(candidate.text);
+        assertEquals("QR_CODE", candidate.format);
+        // The detector reports finder-pattern centres, so the bounds sit inside the symbol
+        int size = symbolSize() * MODULE;
+        assertTrue(candidate.hasBounds);
+        assertTrue(candidate.left >= LEFT && candidate.right <= LEFT + size);
+        assertTrue(candidate.top >= TOP && candidate.bottom <= TOP + size);
+        assertTrue(candidate.right - candidate.left > size / 2);
+    }
+
+    @Test
+    public void blankFrameHasNoCandidates() {
+        ZXingFrameDecoder decoder = decoder();
+        Arrays.fill(decoder.buffer(WIDTH * HEIGHT), (byte) 200);
+        assertEquals(Collections.emptyList(), decoder.decode(WIDTH, HEIGHT, 0, 0, WIDTH, HEIGHT));
+        assertEquals(0, decoder.undecodedCandidates().size());
+    }
+
+    private static ZXingFrameDecoder decoder() {
+        return new ZXingFrameDecoder(Collections.singletonList(BarcodeFormat.QR_CODE), false);
+    }
+
+    private static int symbolSize() throws Exception {
+        return encode().getWidth();
+    }
+
+    private static BitMatrix encode() throws Exception {
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.MARGIN, 0);
+        hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.L);
+        return new MultiFormatWriter().encode(FrameCorpus.QR_TEXT, BarcodeFormat.QR_CODE, 0, 0, hints);
+    }
+
+    /** Draws the corpus QR text into the decoder's buffer, inverting a {@code damage}-module square at its centre. */
+    private static void render(ZXingFrameDecoder decoder, int damage) throws Exception {
+        BitMatrix code = encode();
+        int from = (code.getWidth() - damage) / 2;
+
+        byte[] plane = decoder.buffer(WIDTH * HEIGHT);
+        Arrays.fill(plane, 0, WIDTH * HEIGHT, (byte) 200);
+        for (int my = 0; my < code.getHeight(); my++) {
+            for (int mx = 0; mx < code.getWidth(); mx++) {
+                boolean dark = code.get(mx, my);
+                if (mx >= from && mx < from + damage && my >= from && my < from + damage) dark = !dark;
+                if (!dark) continue;
+                for (int y = 0; y < MODULE; y++) {
+                    Arrays.fill(plane, (TOP + my * MODULE + y) * WIDTH + LEFT + mx * MODULE,
+                            (TOP + my * MODULE + y) * WIDTH + LEFT + (mx + 1) * MODULE, (byte) 30);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.slm.qr;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ZoomPolicyTest {
+
+    private static final float DELTA = 1e-4f;
+    private static final int FRAME = 1000;
+
+    @Test
+    public void smallCenteredCandidateZoomsOneStep() {
+        ZoomPolicy policy = ZoomPolicy.defaults();
+        // 10% of the frame wants 3.5x to reach 35%, but one step is at most 1.6x
+        assertEquals(1.6f, centered(policy, 0, 1f, 8f, 100), DELTA);
+    }
+
+    @Test
+    public void largeCandidateKeepsZoom() {
+        ZoomPolicy policy = ZoomPolicy.defaults();
+        assertEquals(ZoomPolicy.NO_CHANGE, centered(policy, 0, 1f, 8f, 200), DELTA);
+    }
+
+    @Test
+    public void cooldownSpacesSteps() {
+        ZoomPolicy policy = ZoomPolicy.defaults();
+        assertEquals(1.6f, centered(policy, 0, 1f, 8f, 100), DELTA);
+        assertEquals(ZoomPolicy.NO_CHANGE, centered(policy, 399, 1.6f, 8f, 100), DELTA);
+        assertEquals(2.56f, centered(policy, 400, 1.6f, 8f, 100), DELTA);
+    }
+
+    @Test
+    public void stepIsCappedToKeepCandidateInView() {
+        ZoomPolicy policy = ZoomPolicy.defaults();
+        // Centre 27.5% right of the frame centre plus half its 5% width: 0.45 / 0.3 = 1.5x keeps it inside the margin
+        assertEquals(1.5f, policy.onCandidate(0, 1f, 8f, FRAME, FRAME, 750, 475, 800, 525), DELTA);
+    }
+
+    @Test
+    public void candidateAtTheEdgeKeepsZoom() {
+        ZoomPolicy policy = ZoomPolicy.defaults();
+        assertEquals(ZoomPolicy.NO_CHANGE, policy.onCandidate(0, 1f, 8f, FRAME, FRAME, 850, 850, 950, 950), DELTA);
+    }
+
+    @Test
+    public void zoomIsClampedToMaximum() {
+        ZoomPolicy policy = ZoomPolicy.defaults();
+        assertEquals(4f, centered(policy, 0, 3f, 4f, 100), DELTA);
+        // Already at the maximum: a step below MIN_STEP is not worth taking
+        assertEquals(ZoomPolicy.NO_CHANGE, centered(policy, 400, 4f, 4f, 100), DELTA);
+    }
+
+    @Test
+    public void zoomsOutAfterCandidatesAreGone() {
+        ZoomPolicy policy = ZoomPolicy.defaults();
+        assertEquals(1.6f, centered(policy, 0, 1f, 8f, 100), DELTA);
+        assertEquals(ZoomPolicy.NO_CHANGE, policy.onEmpty(2999, 1.6f, 1f), DELTA);
+        assertEquals(1f, policy.onEmpty(3000, 1.6f, 1f), DELTA);
+        assertEquals(ZoomPolicy.NO_CHANGE, policy.onEmpty(6000, 1f, 1f), DELTA);
+    }
+
+    @Test
+    public void zoomOutWaitsForCooldown() {
+        ZoomPolicy policy = new ZoomPolicy(0.15f, 0.35f, 400, 100);
+        assertEquals(1.6f, centered(policy, 0, 1f, 8f, 100), DELTA);
+        assertEquals(ZoomPolicy.NO_CHANGE, policy.onEmpty(200, 1.6f, 1f), DELTA);
+        assertEquals(1f, policy.onEmpty(400, 1.6f, 1f), DELTA);
+    }
+
+    /** A square candidate of {@code size} pixels centred in the frame. */
+    private static float centered(ZoomPolicy policy, long nowMs, float zoom, float maxZoom, int size) {
+        int from = (FRAME - size) / 2;
+        return policy.onCandidate(nowMs, zoom, maxZoom, FRAME, FRAME, from, from, from + size, from + size);
+    }
+}
@@ -0,0 +1 @@
+,1--&)&)-/*$+-#*)'1/!-)..#%//*-*0&)&#0-).$+1&-",(+1-0.-$(-!/1"')'#.)')$0!#1+,''$'(/&$$$&-$+!.+'"#.,*$$"%%$)$)%,0/(.*&'+)*0)&$&$*%%0"()(*'.+%0(-10(0*!$+(0%,!&,*(&$0-*-10/-.,%0(.$*%)'-1#""'%/%)(-)0($!%)+)11!+.',$!/)&#&+"0.&&#-$*'##$/+!&!0+)'!&-0%.-*&1#$.1#'"!$''-1%/'%'#))"!&(-"""$!'0(-$)//*")&+#-0!'!1%!,),-%-(%/(+&-#,#0&&%*",,&1)((0"%-'-#.%)'"+"+',./$)-)*,-.)0,/.(#,/1+!'0+)'&%#&$+))+$/.)1!/0!-%(#100"0&1%$$#*%0,'#%."'-1*.)")$-*/%1%-),+/)'0)#-'1!%$!),'"0#*,&,$1)+!#.&+'#0&(,/$(#%#0%%'*&*.$+/+0#.$.#+#1)'0,)$*)&"*.1!)$%*&*!&&-##'##+%#,!*1%'(0,--",!+))"+($+&'+,(!.+%+/)%,&)1'-"1.*'0&%++&#.!$%-"$!0&++!!!0+%,1*%#$/(-"+#+&((#!#"$-((%*1!(01'/#,'))#.,1/1.'(#(#!##/%#"+.!#0$$1-%*+)"*%01!&#.#.,,"*"*&)0+1",01!'$'$/..#!&*&(1,'0-)0'$/'&1+'(1"+$#-.%,&&01)0/-000,#!(%/.&+'(&#%&/$-%)%%1!#'&(()*'$$.))$&!".($%1/")(!,-'%0--!,0%#0,*$"++(#(&$-11-&'#$0$01+,"1%))!(-."$,&)."$,*$+.)-+.(&/01")"&(/%1'*&-'$#(#+,")&-)$1)'"$&.1#-+*(.)1&''%0*1"'"--/#(".!1!$'!&(&('.("$-1+#&/&+/+!,)$#$0-#!/,10((,*%,)10))/.,*$-10$).)--&-&&"1/'-/!&)./*(%(%"&!!(#'1$!'#$.&1%10!"#%$'(/+/-*-0.&&0.$0+.0/#$""&".1&*#(.!))%'--,*"""%*)*1$.$)!%$)'$#0-0(')#'!&).+!"1-"%-/-1-.#..-!11())%(+)&%+$+&$1!*/*-)/00)'-'*-$1,'0$"%/#)"++,0&0&%"!*#)+(#*+1&&01+*%!#*.(%0()/.*","&#!$0/++#/1)/,).*+.*/'"!/+0/.#*%*1,++(-#$+&$%!)/**(.$'/&0##.(##))+.+(&+"-+'/$")1,)'--1.,''$/&,'"./,0!"*!*/)(*-"00.##$!%-))'-'*%".&''"/.*'('($/$$#'+"%0$(0**-#$*#(-*/.-'!.*/("(&)-+"'10(0&)1/&%/#-*1++#$!+#+!*#./-(!#,%#$'&.(#01!'*.*,)!1,.%#-/,"#%1/1!"(-*+0+"/#"1,-##1#!!#1/0+'$1)-$)&..%$/,*$**!)&#/#10.*0/$%/)+(#-//#*(#--+-+%%,'%$0+&$!.1'''0+++%"%*"1()0*%'!1/%,,0#".$/+*(*&../"!%.("#!*,'#/1!"'1*').$&.-."%%-1%*$")%*(+-00")$"/'&,&1&)'**$!0+$(*#,',*-0&++0,.,.+!#'&+/$+&&"%#%*!&'&0,./1."&(*0.(%)(%('11''&,++$."!#+,'&1-.-%$/0%*("$,*#/#/0-!.#&'/++$%#+%"*(*))+-0/&#).)+.0(#$%'%&)$/,$+0,)0)'%(!)0+,')#-('*-&//!+#&00$%--!$$$.'/100.*,!/"-$#($*&0+%.+#")/$-1%(1,0%).),,1.-/'$-0,/++"#-0$1(&0/'+$,//&,.)**#+,&,-%&#+%0%*!&#$/#"-,)/0*.#(+#+.$#1&)-)*(0,!"/1%*&-.*,$(&(.-/,$,).#%'%0(*)*+.+(%/1&0,1&0#+/$-'!'#&1%)#/*($$.&'-/,/&01(.$))-++"/),/1-#0(--0,)))"-##*1+1-$%--##$$*0.0)(!,,().()/,.1**),&.-/%.'.'$.!,01-0*/-1$,"/'(.&$"''$01(%/*1'&/1&',*)$1"0&'&+!0!&)..,,*1-%!0!#0)1.(#&-&+)&).)1.&$1%"%!%'./!0)#$*-"$!-&-.-1*00*'"!+/1$!-)#')/!$&$*)*-,((.'-$-+0,+(*&-0.+$/&'1'",#.0"'*!0%$1*-*.+111%/!.",-&-"$))0..%.+&/%*$-&'0%%%+0!/#*./(%&%'%+0)!/")&**)#"".$1!."$$/($++"!"0)./*%/*$1$!!(#!&,&#0"1%*&)+'(+%'-$%*#++')$--'.#(#%+!0,/"'0/,-)1/!$*"/()1$%$'$*#'#$!!/"#-!!!#((('!)-*"&*0(-.&$0&%"!%',)((*(0,)/)%#.%/!*01-#&'!*.%&!,-%1.++*'&/1"1)&!+-1.(%%+&(%/(.#+%1)&#/"(%,&"-''$1$1,'!&-**(-),'++'&','+.(/!)"('.$*.",'.,*!'10++&)+"'.0//.$11)./-'0'(.$,%&$,$(/,%(1+,$')(.,,10%!&$+$.(,."0*!/+"-/$!#.1+&'("&&*/(-!)%!"()0!/(,'")#&*/"$)-&%0(1&,..((&!-)/'*!#'/.(-*1#-/1&)1)/#/)*.$1(&-.+&&)&)/%*)/"*+,"(",''/111#,"$*&1#".+-11/#1+.-%./")/%0*%%"(-0%-$1)$()/)-*'+"$1&)0&-%1'+(0-+-%)(.1$'()+#%%!)/.',0-$/&1'(-".!%&1()$0$(!('%(,,.+!-&$(&!/!(+0!&!(!*10-!,&)((#&0'/+,#)%*..+*%0!0*&*0$0#1(&(#.&%!"00.-,'*/!!.!"&#'%!$,)$/$*&*-.,*&+.!'*!$$*!1/)((-",#&'!-0%,,,-0).#(&$+))%//$'+'$.$*!0#,(0"'*,-!.0/"-'$1/""!($-0(&"$)/1/&,1(.%*#1.+!/$',-'/-"&#!)1#*0&0%&-*1.!(!+#"++++!-,+/$+&-+"+#+)!/1(!0'/1(/#/#00/!//,-!1'/,$$,1*#'1%1'/(%10&0!-.,0/&'+&-''1!',!'#%-(%%#"'#1%#)!(1*-!1/)",'(""0-'1%)+/-*#%&+)1$",&,(+-$---0+1+,11(/*$'+#/$!&(,-$(*(/$1///",-/$%$##"*-%*-0()",-),/#"&"&)&/*-.&!+0'-+(%)$$-#$.'.1)%.'',&()1)-'+%/'"&00#*'$,&$'($,())!#,'",0,')$-*(+/'"'*&*+1/(/0&/$0./0!*,&./1*#&/("1.+#/)*'%&!+),'0--).&,1$0)(#!)-1...)#$.$+/,%.,/*()-+1"0#%/-*()0"'-)'.'#!"0)'1.%#''!(*,*+/.'"/-1.)&,$#!!/#,).0+,'*+/,#/-+$&0$!*!!1,.+$00-'',*/#$&#.(.0,#'-#11'.&,"'1&0/&#$+))(%('!"&*0)(-+'&#'+"%&%%*!.1/-'#&,(0(.'-%..&+(1"#.)'-)((#$'!%$,%*-*/''0$,)&.+%0"+$+%)'+.#'!0#($*+,1,##0!1+&(*-'#%&*,-/!*)#.',1(*&++$)-,'-0%)1/'-%*/!$))-/00,1$-1*!.$/$!1(&/"%%"/+)/'.$0(%(1/0*((&('+%*#1(%,%&),-%1*!*!,%&$"-,#&',*,-*$$-,!&$##%,0#.)"*&.0'-/0$
\ No newline at end of file
@@ -0,0 +1 @@
+ɿҾſľ̾־˾ɾοͿоҿտֿľ˾ʿпʾ־оſʿ׾ǿȾÿοϾؾƿɿϿȾϿ˿ԾӾѾʿþѿӾξʾʿؿƾϿÿÿȿž̾Ѿ׿¾п׾ǿȾ¿̾̿վľϿƾ׾пÿ̿־˿̿ѿ׾žſɾȿƾ̾;վѾӿ¿ɾɿÿؾſÿտɾɿžȿӿĿɾ̿ѿ־׾;Ͼ׾ʾξҿľ˿ҿ̿ĿĿľǾɿξϿԿӿοľžҿ˿ؾֿտȾؿɿǿӾӿؾǿѿѿɾĿžľϾοϾžͿ;ľ׾׿¾ؿο˾ȾҾտǿɿƾѿ׿ſоÿ˿ҿǾտҾȿǾо¿ؿҾֿƿƿϿҿʿ˿ǿʿտҾԿſþȾվľȿ¾¿ǾϿÿӾȿ׿Ͼɾƾž־վĿȿ׾ؿϾվ̾ѾѿϾȾӿտʾ;ƾпҾÿ׾ɾֿžɾľͿ¾ÿѿ¿ÿ˾׿վʿ;ȿѿȾ̾־ʿؿֿϾؿȿʾ̾Կɿ¿˾ӿɾʿ׾ؾǿʿſ˾поվ׾ֿſÿȿǾ̾ƿҾĿȾ¿̾ľξ˿ͿƿҿԾǾȾҾξǿþӿпͿԾľ;о̿׾׾ƾſþĿȿʾο׾п¾˾ӿԾԿԾӾͿӿؾƾҿȾվӾ¿Ϳþ̿ƿ¾ϿǾſʿžƾʾǾҿ׿οϾ׾ӿվ̿ȿȾžοؾɾ׿ѿؾÿ׾ʿҿƾ̿οտ־¾ѿӾÿȾԿǾȿ־ʿƾտǿĿ;ɿпϿؾԿžǾ׾Ϳ׿п˾ĿֿϿƾ;ƾϿÿ׿˿ɾʿԿ־ؾƿվӾ̿ʾ¾ؿؿȾȾԾ׿ľξҿƿԿվѿ׾Ӿֿľþؿӿɿѿþƿҿƾпɿ¾Ͼ˾ϿξſտӾȿԾſþֿ̿Ͽ¾žʾɿؾȾӾ˿оտҾѿ׾žǿѿӿվѾ׿ѾԾпӾɾ;žȿ׾¿ҿǿǿľĿ̾־ĿؾҿοӿξʾҾоؾֿ־ÿƾƿҿ¾пÿӿĿվѿƿտɾȾοɾɿĿȾϾ;־оϾվþǿӿȾĿοʾվϿ׿Կʾ˿ѿ;˿ʿҾÿÿоӾɿվѿпҿɿ¾ƿ̾ƾҿʾɿ¾Ѿ׾пĿþɿ˿ҾֿʿžҾƿͿ̾ɾſؾѿԾȿ;¿ʾоؾԿξѾ¿ԿʿǿԾ̿ҾоͿӾؾվоƿԿϾ־ԿĿӾ̿ȾѾտԿ¿ƿ;ʾξվ̿˾ɿԿž;ľɿʿȿؾſξ;ؾؾƿ˿̾ҾпؿǾѾͿϿ̿ɾǾֿ˿Ӿ׾ǾֿҿؾȾվ̿žؿƿп˾ǿ˿ξϿӿ;οտ̾վȾ־;ؿҾɿտľ־ʿƾѾѾؿֿԾ׾ʾվҿп˾п;˾Ⱦ¿Կտ̾ϿоÿƾؾĿ̾ſ˿ʿԿվԿؾξԾҿȾ־пϾҿοͿÿξȾоþþ˿ɾӿоξǾȿſ¿ƿƾԿӿ¿ɿԿо׿Կ;@)0;)25;(A6(>,<)4(>*4ؿ4A*358=(/-+.86B?/,699+7<<*>64:9A2-*þ;0?*:;<-?.*:@-15B8329(1ӿҾ־ɾ¾վξϿξӾվ׾ÿ8>1ؾB75(55;B1/>(;<<306@*(7<@6>1/2=<*+B88B;38+:.;(61<.5*;;7B?8,4()</2.-)9ֿ,5B710)B+׾Ϳ¿Ͽ)@)6Կ(6@?/(675>6/<0*+*7>3(8>-*+0)>5?+;,=@(-,@5.=+92:5/A3+¿-6>51:@)>;37(7=@9<:-B<);ɾžӿžĿɿؿ42?+=B@@45?=()761;>9-.8BB7?;B271/>A*;AB:;B96*??/;977+2<>2==1(B*->B>(=<9ɿ.*-<2652@ͿξʾȾ˾ɾǿԾؿžƿʾ0@?9¾=<+334;</251=68+67Ҿ(9B;9-?>-2/AB+B?Ͽ*.-:).;-3-380205A)47.0ȿ@B3+=A?/;;@)53Ҿ0?/0):ž˿ֿ̾ؾҿҿ˿̾˿538Aտ1?8).1ԿA/-8(-<)(4=A1þ/+/0><,0@,:/=<2ؾ)-1AA53//A8.;:5*>/)<5,93?983=*<3B):@,6.(/*;־˾пֿоѿ¾¿5B5*/A):A=-=41877-9:59+=8(7;4+08762),)(=07</7-)?=(.?8A3>B3?48<2+4?(961:*10<B4(+:ĿӾԾӾͿоž;ƿֿ>5)/*A./.(0+5>)A>:/(74;/46(5@,0194?+@0:/5).(3)>)<+,-0*595>6-3-9BB,-7=;3A;<@@:196¿ǿֿ¿˾ԾĿѿѾ+(/5-?<1?<A@-277B=3(3)(7*)3=.?)=A?)2B-469B.:-B-)=372,-)<13:@2@(3;/64.52A/@4==.::վþؿؿ¾Ⱦ־о;ǿϾӾ-?214(:@@4>-7924*@/:+)Aľ:@2?84<8>77:A-+8<2?053)*=/6,4/859(>:8ؿA0?@(7*/30ӾAÿB;(.7)>+?ؾԿʿƿ׿Կѿžп̾3*A:Ͼ64/@<,9=)6A4(>,1)<56-<B/5.56>,/*91A?314@??2;.=(-<?*/49A@80A,4.>A,:2:939/)<;;ѾͿ̾ſ¾ɿʿϾ;@BǾB-3>152Ϳ71<88(*.8@-355/1,>3300>;=>1?634+0*47)8>;2126(.BA0*B;()?6.096?/?:?@,:*?ԿԿؿͿȾ¿¾վ5=2;4+*:546=,4,,.A2?1?0:;2-5B-A0:609A?19B@<@(>19;*(@>6-<>4>29<B*50+<6@<@/8*6><33ɿοؾվͿſɾԿ̾ؿɿ.230-<(-47A0:2=)/5;<=:1Ŀ./)3Bѿ<,-(+227>B*8:511?,1=*(5;)(-19)*/*:492?3)>4=;4(ƾ5A=;@9ȾӾξ̾ξҿB1@4@A2-B7)3/0;/=.579(п<2*1/;;6+=.<<;B=7/>2@)1:4(<12@@49=4-B((9.>/,3;7@:575<<00,7տɿȿӿ¾ԾѾξϾĿԾؿ46.(þ.07A<2;2A.+@A?-93<;A0;**/72@2:/@/;@<?+-;2-=B<9>42646.?<@-6-(:)(*=.ɾ,?//22+*>4Ӿоȿӿ־ҾɾͿӿɾÿƾ1/B4+6B+4=?>,<1./35.,/=9/3B/.><70+?2)33+0//51@;3(,*</:@=B@<,2;<*(+@3.+5A57?;2.12վؾĿ̿˿̿Ѿо15>B.>)>@A2=,AA-9)AA(,6>;8A(>=)1+0@2933.10@-<9(*)<,;52,5*վ0>8)964..1@>:8?7>ſ:*;+0.Ͽտ־ѿξÿžÿԿǿԾ27@:3,+,/4789-B8B69/80?̾,88;3ӿ,)A0?5@(?=*.(;*3/4*.--==9;;;Ծ92=8.A=A>+1012)տB5B1@=>):ƿɿοӿǾʾоƿվ)-?2B65642׾</>,A<<@8?3338@@-524*>9610?972+?/?7:7@/4-A-,638.(@;1865;9,4-<A/?@@0@:9ؿʿÿҿԾ־ǿǾοӾ,2<=ξ<7:3=95/23<2;=65B?.389/>6;**(5=:B1)6927/@=>(+(9@=52?+A-)5733*(706>6*5?8-/>.(þ¾οؾʿֿ̿ӿξӾο˿ƾֿ+5.3վ992/-0@023?-*B=;/?51-@669)+=?,.1;-A5A(׾A0*>--;/,.B<=>A-+>,;9,)A83)(+6(3-(B59+Ͼоÿտ־¾ҿӾѿͿ˿־Ⱦ:B.A9>+30>-?<B29?40*<2,B+;53@;*6+/A0,B0*5<3.3)=19(*039?B1.A)(<4.@98+AB.BB)ǿ:::->BͿӿǾſоǿƿʿ-<,@03+*@-(0>*;:=B>2:494201*<=A251(757.81:-<:6,:;6:53)B/6ʿ.5(+A7-79>47)082>(A+A-4ϾȾӾӿÿؾ׿Ծҿ¿ѾÿξѾ+(?>,3:A32?2:3A+,)93.;()<1);>?8>-.>/;:6=*=120<B-/)>;.3+47(97-B.<*/7.>/742@?56A6,Կ˾ǿϾͿ̿ؾ¾оʾžƾþ׾.-3.>,91;-?(95?9-)A:56/<A?3/;-/5.1@.12/;)(:/=;>.:(+=A1A3)>*783=/39@B86*ʿ8>5ǿ:55:9=վ׾ʿ˿ľؾʾ;ǿȿо˿Ҿ/A9;53>,);),3-54=>74.?*5:05.:;+/7>1)?1>?31)61-<9<B2(76-/?*ž;=9A777*.9>>6-ӿ0B=+9121:ϿѾǿӾ¾ֿ˾Ͼؿ;ؾ,198<-*8;.A/=8977?<1=43(3>-2*B*@+:4-*Až7=;;?2:79-+B<-@9,-;.9B(--2(=9:+?,<<3A(11A;ʾֿտʿƿ¾Ŀʾɾȿ+>)7<.:2<9.*6,73@(:-,.7/4*2(=5=AB8<,/-:.A+-,2B0<852B,3;A7-1@B=5;0:5A<1@8?2:/,-0?ǿϾɾȿȿԿοʿ+/;6-4,76=48-;.B*;83+,6/;>B6,8/1-:2=*+ԾB36A5=;;<BB>)81.:74:30(93=4B8=//?3-@6/4B@=ӿξ˿Ѿ˾ξȾƿÿξѾֿ׿;B@0>:;05:7ͿA41)837)A?B/A2)*81?<,*>44-?2;.1)0.72,4>;2*35?.=A:(3-B9;?B>;:A@?>80+3:;ɾվ¿ǾϿ׾տʾȿĿǿ8350Ѿ+6>*@7;3-//@.8.016+(<1(@627=8@/8;2ξ@;..@=B9A<5@(-.><A?)35˿.:,54@:<;@ƿ7+@).+7=,0ԿȾ̿־ϿſϿԾ˾ľþ/;69218-56-6+*:16+)3(1:171-?0<<*?0+6<(-<=?*578,/,-<0529A/)<<078)80B?*38<::A**,(,տ˿ξϾÿ־оϿξƿʿӾ.;=6(-5**)@<(81A?7,><,2326*1(3@:.,7;9B589:)/77>/=01?8B637)8B+/4@A.7)9(7-7:/9B4=9տžƾĿǾžĿ¾ƿȿĿ984¾,,<-=1.տB(99798:026B68@=>,>+?937,;@):<<@.;/.6(BB3>.(,>վ.799<*.??>;A/?ǿ,-.6:A2?--ȾпоѾؿ׾žÿѿȿξӾ;B;*-.0)7>95B60;+6701=9<5+896B92+B+:.5Ӿ;(5)39=6469B6..=<<Ͽ+6<2@94,--8A07?2-/>A;.?>Ⱦҿ;̾ǿȿξȿϿ?)A2:32@..7=029138<59-<09-66@6A./>.B3.;9=B7/.B10*9,?*?A27==<?/=,7705,8?7)=վ29<7))¿ؿ׾žվȿҿؿ׿4>*ؾ,0=;A6=.03/(A*-*3,),848B5B-(;4:1=/=,/8*8/:)/+<:()9;.A*>1<42)(,@46:(;2+6(*B.40ÿؾҿ;пɿӾ˿Ǿſ;;ξ˾7*30*/6-.8/;392199<>@9?@::A60B35.-*7485B?),)9?*2A=,424;B@3/+A-/B:35*6)3ɾB@60*)/55˾ʾ˿־ʾ׾ÿ¾ҾԾοͿ.*7=3=+>-1<5*@/)@+:3;5(.01@3<3A(,(B,=5;;4):8@<*8<4:@?4@?8?B3*.4B4;6@78)==:,B5B(+;Կž׾Ǿ̾ÿͿվÿҾ;ÿ־B9458A=*3-Ŀ*24<?1.8/(.A;(=6.@8=5(3:3+===,+/95/:953;A@;37?A=4@)3,*+.A60-<95)=;+5;@Ѿ׿Ⱦɿſ̿оȾؾ¾Ѿؾ3**?ʾA;+58>+־54*B:.9787=((-7-@.6=.,9))A?6*B/<.<1:?6?)-)7<+?+-5B9>3/2;A*-+ľ47:@>*>@/ǿ̿ÿվӿ¾׾ӿԿҿƿԿɿƾ-?>BB1<;74,0:9+;<*:/-@));A?3<A4:+->:=7ӿ)+625)6=(1:,/+18@+0*,0=;0A/?>1)6,:*/˾??3;=,ȿƿؾϿտؾϿҿӾͿ:7,?,/72B-8̿+6?40A668578>+*@@.4.?;>57><51-5:28.,31,690<)2տ<ҿA-12@/0@(B+.-16<08.*-3+ѿĿĿϿ;Ŀ̾ԿĿӿվ2-*,)3205<6-B@=4A24-?-)1A*>1//4.=::A0?.7:)<82B5:)<8/0(@)+@)+@B2416/9+22ؾ,05-)@3B=ȾžؾҿӾ̿Ͽֿ<@+(*06<5>4+6();;;.8.;>0B6937A=2/5*,9)?0-6:</--?<.9:++5=(4/3/;4;B*+0?5(/20Ͽ.:@=3-ƾվƿϿľ׿վƿſؾžϿοĿ¾οѿ.63(6<.+634+4,.?B?)-B+<:?91;?7920-+,-))3>56133A:30?+8364((8=5@BB?4017-<->716.=,4տ˿Ӿ˾ž¿ͿʿԿѿ׾׾3B>/8/76><?<6-94?3/9:5A-4.3-=.?24A*2.:)=,:3/@4;B=0)-</8-ҿ;ƾA)4>,=6<;89)=957:Ͽ2B9(>A׿ҿؾտ¿׾ϾǾԾĿ;־ξҾĿſ׾˾þžʾӿʾоοѾƿؾͿɿÿȾǿξʿľؿҾÿſϾпž־ſʾҾʿƿ¿Ͽžʾ־ȿſʾʾվӿԾʿǾ¿ѾȾĿ׾˾ֿƿ¾ֿѾҿտĿѿȾɾ־ҾȾҾ׿ɾξӿʾ־ſѾ̾οѾſؾʿɾʿžпþ˿ֿ̾˾Ǿʾ׾׿ҿĿѿͿҾؿ־žؾϾ˾ؿƾ¾ξξӿɾþҿʾҾֿľ׾οǾӿο̾;ƾ¾ʾҾοпϾƿ־ɿʾտϾϿؾ̿ǿ˾־Ҿ̾־־־Ҿþƾžҿľ¿˾оǾ־˾ľƾϿ̾ҾؿͿſ˿ѾžͿտſ־ֿþĿȾȾͿ¿ؾξȿÿѾ־ԾҾþľԾӾѿվοÿ˾žȿоſĿÿͿԾؿ־¾ȿͿվ̿оվľɾɿʾӿÿľοǾϿÿӿ;̿Ѿɿ˾ӿϿĿʿ̿ʿؿÿ¿ؿǿ׿ƿÿľ˿ͿʾϾѾѾο̾ĿžӾĿ̾ſӾȿѿͿӿֿͿȿǾȾпԾϾ˾ž¿þ̾ӿվοľ˾ÿ̾Ͼľ˿¿ѾƾͿʿ¾ȿ˾ҿͿѿ¿ľοʾ־ȿҿʿտƾտӿȿȾɿҿ׿ʿӿž̾ؾʾͿžȿʿ־ξĿ˾ƿ̿ο̾ؾͿпͿͿľӾҾʿſ׾þȾÿпֿ˿ҿƾžӾ׿˿ƾþ;¾־վ˾ǿžȿǿƿʿ¿;˾̿ÿվؾؿпҾȿǿƿȿоؿѿֿοþѿվξɾξǾͿȾоϿɿʾؿ¾ÿ׿ԿԾ׾־ѿϿ̾þÿ;þοվʿȿӾǿϾ̿ؿ¿ÿƿؿԿʾؿ˾Ϳξ˾Ͽɾѿ˿վϾ¿ƾʿȾտǾľ׿ѿƿ׿ѾϿʿÿ׾־̾Ҿҿſƿҿ׾ľ־Ծ˾ǿӿþ׿¿¿־ľҿϾʾѿǾʿ˾ÿʾƾо׿ֿɿɿƿ̾̿ƿþĿӿɾ;ѿӿӿ̿žȿ˾ԿӾοþҾȿϿҾ̾̾̾տҾξ˾־ϾȿԾξοþɾľɿؿؿпʿȿվп¾ȿƿɿĿǾ̾׾пʾҿʿҾ־ֿҿľɾþž˾Ǿпѿþÿ̾ϾѾ¾ſ˿տǿӿ;׿ʿӿѿ׿ξԿȿ;ž־žԾ̾ʾ˿οѾþ־Ѿտվؿؿǿɿվҿ׾ϿξÿƿоѾʾ;пǾѾ¿ο¿־ؾֿϿľҿ¾վ˿ϿѾҿƿϿȾԾƾؾ¾Կ¿Ѿ̾пž̾̿־̾ǿϿ˾ǿþþվѾ׾Ѿ;оҾſſʿ̾Ǿɿſ˿ƾþȾ;Ϳ׿ƾ־˿ϿտʿϿ;׾οӿϾȾտ׾ѾƾԿѿοɾԾž̾þӿѿȿվÿͿĿҾľҿξξͿƿ̿ѾѿվÿѾӿžؿտҿоžʾվɾվžǿ־ԾϿȿ׿Ϳ;̿Ѿؿ;ÿǿǾʿ;¾ȿп˿ſҿ¿Ծʿ˿ҿϿƾǾ̿Կֿ;˾ԾǾ׾ſſͿÿſξοԿо̾ѿȿǿƿӿԿԾֿ;ÿɿпĿľοǾͿԾҿǾʾо׿¾;ĿؿǾϿϿξҾοοؿԿҿؾѾ˿ؾɿĿʿ׾˾̿Ϳ¾˾ҿѿž¿¾ֿ¾ÿɿʿѾտؿ˿¿пſžþоžԾ;¾׿˾˾žƿžǿĿҿоϿοξȾϾؾľѾʿоþþ̿ɾƿϾԾӾžԿɾȿǿͿξÿ˿ǿƾϾվ¿Ŀؾ˾¾ξʿ־ɾþȿоӾֿ;опǾտϾǾ׿п˾ɿƿ¾ǿϿϿӿξʿƾʿտоֿοÿ˾ʾӿʾؾľԾľϿȿǿ̿ʾҿ˿տտϾؾտɾƾſϿȾƿԿƾƾп׿ؾƿվɿȿƿӾ־ǾԿֿ˿þľѿʾͿξϿҿοӾϿϿƿ̾־ƿȾͿؿ;ɿž¾ʾſ;ԿӾȿտ̾׾ƾſþȿѾؾѾƾƾɿվľÿɾƿο;ȾԾؿϾ˾׾ϿԾ;ӿտ̿̾ĿԾؿӾпҾӿ̾վֿ¾ǿؿȿվվɿξҾÿؾ׾¾ľӿ¿ľҾ׿ѾѾӿϾҿ׾ξ̾̿ſĿվֿĿϾϾȿʾĿоտſԿվԿֿԾտɿѿ;ƿǿ¿žſʿֿο̿׿տоѾ־̾¾ͿпϾǾοѿоȿ׿ؿĿȾĿԿſɾľ̿ҿͿֿоԿԾӿѾϿп˾ξ׿ʿҿ־˿˿ʾп;ȾϿվĿǾſԾ׿ƿ;Ӿ̿ſĿ̿־ƾ̿˿ǿþп˿ѾؿԿοѾоƾտ˾ľ̿ɾֿƾӾͿʾԿ־տľؾ¿;ӿҿžĿ;ȿӾÿ־ʾ¾ȿžȿ˿ľ׿ɾƿԿžĿɿԿؾ׿ʿӾѿԾҾԿӿžȾɿпֿӾؿɾо¾׾ξǿ;տȾؾÿĿֿӾʾϿֿԾؿӾ¾ɿվȿϿÿǿϿ˾ʾǿǿҾ׾¿ɿľ;׾ǿοؾ׿Ŀǿȿƾþ־Ǿȿ¾׿ȿǿӾǿɾѾɿȿÿֿ¾Ͼ׾žѾȿҾĿп˿¾ʿտſʿ̾˿Ͼ̾¿ɿԿԾ¿ʾϾȿƾ¾տѿ׾̿־̿ʿоɾӾǾֿԾξɾϾҾžþɿؾƿͿɾĿ;ؾþ˿ʾο־ľɾȾֿҿʿ;ϿѿϾ׿ѿӾʿ¾ʾƿ;;ɾϿþľʾӾ¿ɾľƾ׿ſ;־оʾ־ľξֿ־ľؾӾ׿ƿ׾˾žҾӾƾ̿¾ÿľԾʿؿͿɿ¾ľ˿пͿþſÿƾ׾þ˾ʾѾӾ̾Ŀ̿ÿѿǾʿ˿ɾϾʿξؿֿֿӾοþȿ׾ƿ¾Ǿƿо̾ſ̾;˾ſѾþտĿ;ؿȿʾʿ׾ϿѾ¿ɿž̿оվξо׾˿ĿؿƾƾϿ׿Ҿɿ¾̾ԿӿؿѿؾͿ̾ξпӾѾտȿҾԾоϾվӿƿÿ־ԾɾѾտӿϿؾſƿϿ̿ɿ;¿Ծ˿ֿԾ׾ؿľֿؿпؿʾϿɾѾӾӿ̾ȿؿֿ¾Ͽ˿տ̿Ͼӿҿ־Ϳÿľξž˿ƾտѾҾͿоĿԿ׿ֿſֿ¿ľɾѿؾӾ˾ѿ־žľ;־ʿϿӿӿ¾ξľؾοппп־¾ȿпѾ¾ѾտԿ˿̿ʿ׾ϿӾҿʾ˾Ҿǿɿ˾Ծֿ̾տþƿȾϿؾ׿ĿѾο־ʾɿþ׾־ؿƿÿϾž¿˾ʾտƾþž¿ӿѾӾþͿؿ¾οžϿοľžĿӿƾþ¿ӿҿɾȾϾϿվ¿׿׿վſ¾̿ѿվؿ;Ϳþ־ԾľͿɾؿӾþ׿ϿҾͿȿо;ҾǿоſǾ¿Ⱦο;ֿȿžվȿ˿п׾ȿ¿ξվоѾſȾʿɿѿǿӾþǿƾοÿľϿžξԾɾѿпտӿƿؿſ¿տǿǾſƾƾ̾ɿƿʾ̾п¿ѿ̾ǾžӾֿ¾׿ԾҿҿѿҿɾӾοҿþֿ̾׾ȿʾɿſþþֿȿϿ˾ſƾžÿ׿ϿͿǿ˾ȿþſÿſʾƿþտҿԿ¿ĿĿǾȾ׾Ⱦǿ¿Ͼؾտ¿Ѿпƿҿɾÿξ;ʾ˿׿ȿƾҿ־ҾǾؿоǾϿ׿ʿӿþѿƾſѿ̿ƾѿؾɾͿ־ʿԾžԿǾϿſ;ϾξϾоžǿ̿˾־ɾξɾĿſؾ˾žпؾʾ˿ӾſؿͿξӿ׾ξ׿ȿſſ˾пƾǿɿпҿ˿ƾɾÿ̿ϿɿѾɾ̿Ѿžľƿ˿̾Ҿɾƿؾ˾վȾž־;Ծž;Ծ׾տȾӾֿȿƿ;̾˾ȾĿ̾ξӾ̿Ͼÿ˾ҿÿɿվվ׿Ѿ¾ӾпоǾſҾξӾȿ̿־ӾȾǿ̾Ͽ¿վ̾;ؿϿѾԾտƿþӿҾԾ¿ľƿҾӿʾɿ־̿˿ӿѾؾȿϾѾվоѾվɾĿоؾпԿþǾ־ͿؿԿǿѿ̾̾;տƿʾξ˾־пɿпվԾ;׿ʾÿҾͿƿȿ;Ͼɿ˾ȿο̿ƾппѾտƿҾѾʾؿþ¾ҾؿԿֿǿ׾þǾ׾ξĿĿ׿ѿ;˾ÿǾɿоѿ;ξž׿ƿտȾ׿ҿֿ̾ԿվҾ;ǿ;ɾžž¾Ǿ׿Ͽǿ̿ſпǾ˿Ͽľӿľɿվؾо־̿ǿؾԾǿҿϿſӾֿֿƾ;пÿʾ׿ҾϾʿӾ׾þʿ;Ҿ̾Ӿ¾ÿ¾̾׾ɿ˿̾׾ľӿ׿̿ѾǿӿؿоͿֿɾɿ;ֿʾԿ¿ƿȾſҾվԾǿؾɾɿ¿վӾοſ̾ѿžԿ˾̾ľǿҿϾϿվƿɿؿҾп¾;׾ɾԾͿ¿˿ͿҾտѿſǾϿѾȾؿƾտƿþ;ɾѿؿɾɿοοؿӿտҾƿվɾ־Ҿƾ̿οԾӾվѾľֿվξȿ˿οԾ׿Ͽ˿տҾп;ҿξпξѿȿξʾ;ʾоþĿľǾ˿оտʾҿĿ׿ƿϿӿƾѾҿ̿ƾɾȾ¾ѿ׾Ǿɾֿ׿վо¿˿;Ҿȿ̿Կ˾оοſ;¿˾ҾѾͿʾľȾ׿׿ɿ;˾ÿľƿ˾Ǿɿ¾ؿؿ˿ӿƿȾ̾ɿžɾϾĿǾӾξӾտѾſؾоֿ׿̿ȾϾ׾ɾֿ¿ľſѿ˿Ͽؿʿؾǿѿ¿þɾӿǾֿþ׿ÿÿξ׾־̾˾־ſϾĿؿþҾǿƿ˿ƾӿƾϿͿӾԾԾǿƿǾʿ¿ɾԾϿֿؿ̿ʾҿҿžϿľοȾ¾ͿϿ˿оžӾп˾Ѿ׿־ӿ˿ӿʾǾ̾ѾҾӾĿǾпǾؾɿп̿׾ͿľξѿͿϾҾѾ;¾׾¿ɿ;̿þտӿӿʿ¿ѾؿȿտʿϾȾɿӾȿ˾ӿ;̿Ⱦοпɿ¾տžſɾӾƿ̾ؿؾƾопſȿȾþ¾ѿĿɿ̿ҾѾƾƿӿ׿ƾѾ¿ѾϿþɿֿӿ־ƾ׾ѾȾοϿֿҿǾƾҿ̿ѿҾоοؿžҾĿ˿ҾԾѾп˿˾ʾ¾ƾѾѾҿ˾̾ʾȾξȿ¾Ͼ̾ɾɿҾ־տӾվؾ־ӿѾʾžϿ˾Ͼѿؾп¾׾׿ǿľпɿÿǿпؾӾ¿¿ɾԿʾȿοԿؾ̿žѾȾͿʾ־׾ÿȿǾ˾׾Ѿžƾ¾ͿѾþžտ˾ƾϿž;ӿ־վؾƾ̿þſо¾ƾο;վ¾Ӿ˾ȿȿؾֿȿҿĿؿþſɾվþžֿտžؿžľþ̾пοӿþ̿¿׿̾žӿʿؾȿǾɿſĿѾӿԾԿƿҿɿӾֿľҿ̿пҾоտҾĿӾԾҿ׿žؾοϾ;ƾȾÿÿſʾɾÿɾȿѿϿӿο׿þžɾȿξξҾϾվ¿ÿľԾȾͿϿǾо;ɿϿ׿ʾӿƾվɿο̿ſɾɾؿʿľʾľ־ֿ׿̾̾¾Ͽľӿп׿ĿϾȾʿ¾ſ̾˿οſѾ׾пͿվοǾ˿;ֿÿѿӾӿȾǾɿ;̿ʿоҾӾӾ¾տԾпվͿоοӿ־;־ʾȿǿžþοͿʿվοӿԿվ¿׾ǾпǿƾϾԾпѾʿֿ¿˿žξοʾɾƾ¾̿ƾ׾Ͽ¿ɾѿտʾϿҾĿѿͿƾξҿοƾؾǾƾǾɾľ̾ȿ̿ľž׾ԾǾԿƾֿ׿п׾ѾʿϾӿԿԾÿľ׾׿ÿ;Ͽ;þο̾ľƿǾξ̿׿˿̿ȿ˾׾þ̿˿־žžžƾ̿ǿӾտվžǾԾ¿̿Կ¿ľ;׾ѿؾվӿοǿǾĿϾ¿¾վ;οϿʿп¿վпֿž־ֿ־Ѿѿؿƿ¿ȾſľǾҿֿϾ̾ǿžʿȾʿſþƿȿɿпɾʾվտоӿƾɿ¾վȾϾȾӿտƾҾĿѿҾɿ˿ɿп̿׿ɿԿƾʿȾ̾Կƾʿ̾оʿɾξҾ˿ҾȾԾľֿѾտȾϾ̿̾˾ԾпѿǾտϿÿȿ¿ƿӾȾɿо־ɾÿѾȾпͿϾӿ̿ǿ˿п˾ľ˿¿˿̾̿ſ;ؾÿѿؾ̾ؾϿϾȿ¿
\ No newline at end of file
@@ -0,0 +1 @@
+϶γϳǱͻ¼źҿƴǳϳɷɵǷ³жþѵ˱ǸûĳϾƱ͹þұ϶Ҳ˳¶ͱҶͲϾϸ÷˿ȴкʹϽ˿ϵ¿ĳɶʴ̵ϲ˼˷Ƹÿпȶƻ̱ӻйɹȳɸòӾұѿұʶǽľĳӽ̷¼ȺúŻп̵̲̾οɹһ˳˵Ѽ±ɴ̼Ķ̽ȼ̽ʿҶʻ̴ŴͲȷһͲƷ˾ѱǶιǾδʹθ͸ͱϵлǻ˺źͳϱ˴ϻβ̵ͽɾξϼͱĵʴƺɶŶǼȳѳ¸Ӻǳ˱ұʴƶôиҾʳӻ²ƱźǶ˳й˱ǻ³Ƹ˸ƸķĹŻƺŶ϶ƻõƹҳͲƼͷ¿ɺȲѾҾúǳöҹг;Ͷó͸ѴĸŴþ˸ǼĿ̴ξӼ͸ȹ˶ȳǼǽͳӸɾ̻ɷӽĺӱѷӶ¾ηƱ̼жҿĻĲӺͱ͹мƻʽѴ˽ӹмгȻĺϵϳɺĲ̳ͺǵһʾǷѺ̻η˻θ¼βʽͻ¹κͱж̶ɱĸƱѾҹ̱к˻ǹĴķü˲ɿ͸οĹҼ̽ǶĶǹɻ˷űӱѹöʹŵһűŷҷǱúýŽɺϳùӷӱӷѿĲ̹ȵӲ·θƸϿĶзʵŶʷҺŷĽϸҼ˺ҺüĶ˽ѸѸøӷ˽ÿȴо¶͹²ǿñӷѴǺļŹýӿ¶ķóʸŴ˾Ӽ͹ѹвйͶƶ÷ӹѷжϿ;еϾĻÿÿôúȾȸĺӹƲǻĿǶ͸»ȷ˲ηŶϳ¸ƽ˶Ѽķѳ˽ҼϿκλѴɳʹÿ̺͸ǸǺõиȾ;ùйǽɺʷǾδѾƸмĶнѼʽʿǼķѹʸƻҴгļͱǶҲƱӲжҼϺӶŶͱ϶Ʋ̲ӹӿŲκʵǽɲǷ±ɿɳҸ½óͷͼǶĵǱñͶ˴ĺ̾еǼͳǺĲʲĽĲȵϵľɲҾͺż̻̽Ⱦ˿¹˸ĸĽȷñͻҶѽǴ˼ƶɿĶŻμƹºʶͲ϶üŶӾƲɲǹ̿ҿ˼˻˴ƱҳϷöʻεǶ½ͷ̴ҵѺǲиѿõвžȻҾ;ǽϷҺȵõŴ˼ȳǾɼ̺ͺ̻ӿºǻӽǸͺ͵ѾұӻӽѹҿеŸ̺˾ѻҲϺдɱ˻ѷȾӷϿҲŵ̶ʹҺеͷóͽƲ¼Ķе˳ɴ̵ʽʽȵ˶ŷ´ĺŻʳӽüóȺжĳǽƷ˽˶Ŀžιʸдε̸ǸȹӳŻľǴȴǹĲǱź̲ϸĻоҳɵʴȲͳĹҲĺѱǺҸĹĲ»ƺͲ˴ͿιºǲͱͶʽ̶εǶýҸü÷ӿα¿ϵɺпȻŴϳŵƱƳǶ͵οͻɸǿȲѺͲ̵нζδȶ˳ϷŵƽеʹŹѶ̹»ǾнδŲñӸǷ˳̽ҲýӷɺнžżʸǷʹǿɿƴӿϼʼ˵θȸкžз˸ǳѱǴϵƽҵʷѾɴĳ˷ǲľƲӿδѷɹɾɹʷʽѴ˽ǶɸϸȺǵŻ˱ıĿ˵µͺϼϺ¼·λǿнϱȴниϸӷʲʼǺź¹ųƵ̻пĳȾ˱¶ɴϹȸĸѲжϸҷ˷̱»¹˺ɸƾǻĳϹǸǽʶӺɷ˸ú̵Ϸʽ˱вòͻµҹϳ˳ɵ˾ƿƼкʺɲɶʾҿͱż̺ɴþδϹıиβǾοƼҸɶϱƸе͹Ӿ̳±̵̴ϿĴƻǺ˽ɾϺѱʳŸѵѻγ˺ʽ¶úɹŹ»ƸʹĲα̾˺¾ѺʷͲҾȳƴзɿͶɸĿƾβбӿ̹ɷļȷʸɻѳ;þγϴȵϷѵ˼̷ϿȳŲϽϹв˳̻Ϲ˱ƽ¶ҸĵͱɲɼӴκͻ͵βӶòɴ̻ѿҴɱѸ̻ҽȽƵƳ̼ӱʾͿɺθӵβǽǲʻǷҸзͿе̼˸κʹȴŷѲʿͶĿӻŲķ˽ʷɽĽƺĺɿ˴þʸɺϺø͹ʷüƵķǵ;ѶƳ˲˻ǾȸƺľҾѽŴÿ̵»Żµ³ͽɳͼ̺зѿźѸѶŶ̼̽͹ο¾ӱӼƷƻҶɼʾʾʹƼͳβ¿ó»ʵ˺ӿżδн̹ǵ͵ſɿѿ¼θĺųҾϾĴҳ;ȸ¹ƷҾ¸ѲʽһѶʱͱӴȵȹʹƱϴʸǲʴñ̾ȸ¹ıӱĺƾź˱ǴźɸŴ͸ÿƲȿ͵ʸҸұдǷȻѲͶŵƻɼϱһóӼбŻϵʸɼҶǳɽ̿ƵſȺзǹҼҲ˴ʸ̳̻ʲźƹĸʹɳĻǶɵϻҴұȱ˺ѵʴϿǴ̲Ȼѿ˹ӻŹ½ɹôϾǲŽξϺýҼͶѺӵӶ˱ʲ˾ӱͳʷǽƷҶųɵº͹ɾλлųκʺдгƿȼǿźȸ̶ͱӱȳ̹ʿù˶̺Ѷ˻˳βѺűǸ»ɳѺ¿ҼиεϹ̽ŷ̲ǹѽ̸¹Ӿ̶лӿòӷĵɾ̵ɴӿθþ½ɸƷ˶ϵľȻеǹ͸̸ŽĻƵĽʱ³ѷжʴϷоκȳҸҵ̸ǿн˱ѿȿлȴŽŴǾɼδŵϹαƱźѻҽÿϼѶѻӹŸҸʲ̴ƿлӷ½ƾϿҹĶϿо̳ͽҿӷ̸̼ƵǱμûӾĽϲζȱǻȱǾñзͱ͵Ƴζȱ̺ҸĺнþȶƼʹǷ³ѷ˻¶̿ƲľüǽʸƷƱôζƶϽʽιɽӾӶ˴˲ʽ̸Ƿü̻Ŷ̶˴ĵʾ˵ĶѲʷ͸ȴ˸μƳŴзŵҸйҺɺиǳǺƸžǴѻҳĳӴǴʳǱθŵǴоĺ͸ɲӵʱλͷѵѹҴǿ͸ͶӽͿú·˼̿οŷƵǸȼв̷ȵȳѺ²ý̺˷Ѻν˼ϳνøһź̲˾¿Ϻϼ˶ɴƻƳӾͶϾɳӽƲ½и¶νŻαȳѷϱ˿ӽϽεӻӵɱʽǼľ˱ǲƴķη˿ӽӿʷдƲ˹ͽͺͼǵ϶ӵ͵ɹ˱͹ɼþзϺĿѵƱǵɿ˺ȱþƷи̺̱˱ϵμѲƶҽҷŽӶƶʹŷѴӳǽʹļұεűɼûͱòмзʴʵźιɿѿ;̺Ŷ÷Ǿɵв˲̼иͶȽ̹˶ȹϵȼɱϿɶͽȾŽȾſǴöɵӴʳȺ͸пʳý̳õ̼ÿȾкĺϴžͷжǻξȲƽ»лξŴõҶƴŻ²¹˼ʲĸѱиͻ̲ϴӴȸò̾˿żſҿ˳ôɺĵƻĳɱʾɵηѳϹɴųƶѽɿȽıкȸűɵǴʱıƾȴȺ̹˵˿ƸĹ˿¶ļ´ĸʼҷеǷ·ǵͿұ̳üʹͽεñĳźͶҺδпǽȾϿ̵ҳǶμȷʽɾ»˱ξɶε̵˷ʴŶʶɷ̶ȹüĸ̷Ĺɸ̵ɼβǱϽɽӷϹϸνĳϸ¼ҹ̾ƴ̺ȸзѵļο̳ùô˷ǻ̶ѲѶǴŻɼźŲȻӴȿλұǻù̷ûñǷζ̲Ҳʾɸ̾ͷÿѽ̵õҶͳʴ͹½ζŵþǽѵ˷˺̹˿˱ȿҷʸǿ³ҹҲ˽͹ǻƶƴ̹ľ˺ƱϵȷѾþɴ¶ǲĿǼǼѼǱοѸ͵жȾºѼĶǹζҸϼȶɵйϼѲſ±ɷʷ˴¸ƴǼо˽ŵҲŽӹʾ϶ôòɼŲ˾ʲлŶǱȹ¾̷Ӽȿ̻ƾĸƽɵ¹ҴȾ˲зӿ̺ľмĽĴһγ̹ȹͷɾƼϽȺžϱɶʶļбҽƾ˿˼ƳɴʹűʳпƼ̷ͳȱ͹ƶżƵ̸γӸмʳ˲нĸҷȼ»ɾϹźȸϾͲɵӲſ˷ľȴǼüβʸȸĿнʳ˳ӹϿͱŴȱʶӴѵʵ̾ʷòѷηĲʴ˷ƾӷŽŹĳɺȶ˴ĻɸòϾƵҺγƹгο¿ͶӴɹͲϱͼӾ˸ѺӲļǵȵĲ̼ĵͻ̼Ӹϱľó˿лһϷĽʼʵųÿͷʽƺǾҺĹöα˽ĵɾ̺;ȹ˶ɼʹżͼκͻιȷ¹ͱϱӶеű÷ѺŶλô²ɴ²ӽͳýϴĶηɹȶĸǿѸ˹ǱҳǱǽͿмϱɷ̻һǿѶθ³ѴŶļѹþ͸Ӹ͵ųŹƵѿǺ̻ʾӺкĿҳűʸǼºŲ·Ȼķı˶ӸѼƼжĽѲͻϲü»Ľһ͸̷ƹз½¿ϼ͵ȷ˺ӻ·µ϶ӻжžƾúѿӷ˴̻ͿѹϷε²нǺʹοɶŻĺѼɷѷѺѱ½ͱǷ˵·ĳѹ±̱ǽǹϲóȽȶοʿſѽ±ƿ¹иɳõ˹̸ȷ̽˶̴ǾǴɺҶʸɳùȹҷοŷӷҴϲ¶ó˽ɹŶβĿѴ̼ѵ̵Ȼ³˲ľв͸õӳα̴ҶŹλǺ˵θɶϽ¾Ƕε̷һ̳Ƽ̱ϸӿų̳ȸźýƿŹклжӱҴʾȶϽҵνѺƽĴż͹ǿĲ»ó¸ƹųȱƲв˽±ķɲӺļƶмϼʻӼϵҽѿÿ̴ɵɸʹǼ±Ǽù»ɲɴȻķӾſ˲²ǼѸʹͶ̲ſ͵ȵȼȺӶ̴Ҽüӵñ˱Ƚ±Ƴ̿Ĳ͸ĺĽ˴ӲŽѴû¼˶ʸӷżƲ϶ʴͺѿͶɹѳӽƻɷƺ½ȵ̵̱˾ӸþҸϸöǼĿ÷Ӻ³ǾӲͳ̿ƿȴҼȺþùѶҲҶлͿӺӳ˷ɺ̽͹ϻϵʴӽʷӼнҴ̲ʹѼѴ̹ϳʹϵ̳ÿҲͷƼ¾ҺýºѼƼȵȵ¶˶ýɶøɽʾʷƷǲ˷ʸϱ̲ʿĺӾǿҵɳĳǺϵĴͷɾɸҺÿ˴ȿĲҷ˲ͼ̽òþ»ɽ˴ŷѿȿĻʳұƿʶͳŸȴÿҹȺʻĻӺƼ̸γʶ¸ýɸ̷̾ȹ̾ȿƴѳµɵŹȿűĽ̲е˽ɷп˴ѸƼŷľϸ͵ǳþƿĻŲŵĲгűƿʿȻ˺ǳ˿¾ǷηɱξǺӻҶ̸ѵƱǽǴûϱƳƲƱкпӸŹƺĲû̳θμϷҳѵжӾʽõ͹ӼɹϽҾбʾŶƳɲĲôȷɽʶ̶̸ϳλþǱͶ·ǿ¿żǷиϺĳɹþǼѶҷд̺öѶôӾʹȷŴϾͺʴξûƳ̵ϴǼƵʱǲҽһͲ˿ıȽгӹĵȽͻɱɼŹϹѳȸúӺɼӱȱȵɵ¹˳»ιżĺҵӼĳùѷʲѴμǾӷ˼öŲѸγѽұ˿ƲʺʹѼ̱Ѳιл¾ǹĳ̿Ǿϼ͵±Ƿʱɷ˱ĵҴɳѹǶѸĺż̺ѹͽͼǷȼ͸±Ͻ÷ͱҹǼҶвǳнʱ¾̴ѹʹͻһϺòǹĹȱεӼľмºпĿͽͷĻźµ·̼ʹĴӼºҽŻ̷δͽʶθɹȵ̺ʴε˵ıӴɿƲ˷Ҷƴ½ƵҾ̲ƾѻ̵νŽѴӼɼӶη̻Ͽ͵ѷѿѾýŸúҼ˻ҷƷйòɽõѳƱŵʾŵӵλŹҵ¼ǶĶʳ϶Ӹ½ͺлĿɿļǶϹ̶ȹϼȻʷƾеɷξϵҿıͻȹͻŸϵȹ·¶ɺŽϳɹǶúѺοҲƳѴδƵӽʾѱĽͼͿѱμνӴĵƽ̶˷жηͼȵ´ϻϲϳ¼νϹѵƻκĺǲɹȷѹŷϼʼĴŸҺҽѻѽ̽¾Ϳ̽ñȻɹв϶͸ϳзȽ̻Ⱥ˹»̿ɶγòι˵μȴҼʱʱоòȾÿͽ½ʹӵʻʾżʹǷ˵͵ĿǶȱĲѴҴɿǼ϶Ĺĵβɷȸ̻ĸ¼Ⱦӷҳдʺʵʲξ̽ļ̴λ˼̿·Ͳɱ˴Ѿ˻ƽж̵Ȳһ²ĹθɺӾ˳øμɲθŲ¶ϳҲȻɼӲżζɾӷűŶȻǱϸеźӸƷ̾¹ͶҼͲƻҸӷƱ˴ȹ;Ѷ¾ҳϹ¿б¸ƺɺżҵӼͳѸȳ˸ƹϺºϿѼûҹ÷˿Ϳ¸ҺѼǲ̵ɼѼ˲κʾӽϳĻ²̼ҳžĳйӺϿϹϻ̷ÿźҵǱȵͿɻ̵ȼз²»ʹɱҷҲҷϱιϾӽѷýƷйƸʶʶǿļǴҷҺϻ˶ʺҴͿƽøɿȱǳ˸¹ʱĵ˲ſ̼ϸöмϿ»Ǵ̲пɹóžѳ̾ѹ̴ӻƻ͵öĻŽķɸεγο;ƻǼ˿ξпŲ͸ͿɺǼ̽͹ʷŸɽӺϾĹѳſеʺĵ˴ѴҼ±̱ĺ˵ıͻ̾ɺʿѽѲ˹ѼѶ˶ɴôɻ´мһ½жȻξüɾκĻξʶºŶұбӳʾѳҽҾ̸Ƚв̻оӶƵҼ˲ӼͼͼӴĲ͸ǾĶɹұűͳε˾ʷ̼ҿĹǹαҲиͷɿѹ̾Ʊ¾ʷ̺ɼ˺ӹüŷдɾѽ¹ȽŸӻҷηһμӻͽʲζηҴҸ¼ɻθɺξлҲɲɵǴȾ˿ÿǲıλȲ˴ǿηϿǺҳʸͶҺѱ·źʸ̸ϳҿƴгƹ͸ͽɷͷϾοŶӱӸ̴űõʻѳÿκö͵ƺŹӴҹϳ¾ŵͻѷ³̾Ź˺ͶҾŻƺеʱӾӺôǷŻѻкв̲ĸͺɽ˵нǱƼƼͽʸŴƾƺ˶˾ɼŴǳҽϴ̾˼óƳöűӼ¹ȽӱɲŻʳſӷǳȱк˼ɱʽŵ˿ǾӴ˺дϺǻ˿̺˶̸Ƕѹ˱ź˳ĴºϷ˹ηӱǶӽºббͱҴŹʹѺɻľѽƺӲͻǵӽųӶɺ˵̱Ѹ±ͽҵǸӼ̿žδ˳Ѽеȼҵм˽ϲ;зŶϴĹʵѿ¼÷ϾĶβȾķɿɵɾѽ͹ҿɸøƶз̺ӺĻӿĸҶĻӸζ˱Ÿɲ·ʱ̶ɸôʾʽẕ̌»лӼҳĹǼǿø̱ʶжѹɽô̿ŷͽǴɿŹӱҾĵÿ÷ûӽŴȻҳ̺ҽŲƳҼϻҶȾӴ±Ӵһ˱ѵҹƶȷѷ̵ǲķɺʼνȳҳѶʸŽѱ˷ʾ·ϻʱǷôĲûѵɷƺʿ;ȵǻѿɲƴβƼѺҹдξ϶̹ϼҽȺǻϱʽʹ±δʸοͷζɺɵȼþѶ̸ϲĻѳҽӶ˿̽ɹ;ҷ̸ÿǻϻ̼ɽκ¿ƼҳϼұþǺҲѴñĴм͸вʷ±ȾɴһӾ¶θźҿ˲ĿŲɴǻŶͼͽǷϸź͵ͲĴұźϷҲžѴ̸ӵƳöƻɹ»ȽʷȱȻͺͷĲǹѵıƳɹмѻɽұҸƿѾ˶θȺϸӸӸγѾɽͿ˿ӲϽмŶż̷ӴʹȽ¾ѴҷżʱӾþ´г϶˲ѽ̺Ѻøͱͱɼ˻¹ʺȹ˸ÿͲ˳о¾ʹƱ̸̽ĸ·ͽиƳɾѱѹ˿Ĳ¾̿Ļξºƺмʳ˱γ̳¶ƽ̹ȱоɲǼҲϳȺ˼ѴӷòӹĴϽŷƺ̵ú˱ȳŷʱ˱ȿŴϵɲɻҽвƱ̺̼Ȼƽ˳̴ĺ̶Ӽɹƴ̼¶ʿѻɽžŷĲɿͷɵαƱͳƻ¸мʹ˶ѵȾҶ˺ҹ¶Ӵ̸пϻżѶзжȷϺºȽķɾżβɼζ²ҸѼȿǺź˷ѱƹ̹ӶҽпұѲ˳ĻμɾҶĵͼźȳ̿žҺŴӱαбйҹº³ƾ˻ʾ˳ſɺʲͲñƻͺӳӴѴ˵ȸ϶δüȼſκвɿ̲üſƷӺ·ѵϱεϼιȼӶķ;ӽȴɷƲοýűѷϿɴҷӳ¸θ¾Ӽȱ¶ͶкǳоαŹͲлӴҺɹͼѳʺȽ͵ϻýκʽ̲Ƿ̼з˾кϺλȿϸͱѵ̱ʷӺŵĲʹùηɾľɳ½ϷθŻ˺Ʒȴ»ŶͶ̴Ż̹ǾǶӼµóŵӽʻŵûмͶ̿ɱ̱иͷʱĻŲ˴żӺĿűжѲùȽӴŸʶ̻βȻӻ´ʾҾ˳ȻʿŹȲϾӻƽƸϺιĺŹμ̷ʷ˿ŽżúĽӹ̹ûϸһѳϱѸŲӷĲûѳҶҺĳ̺ѷ±Ŀθҵĵº·ѹͺȿǸйžӳ̿γҿҿͺеѶϻм̼̾ǾʵѿºγļǶƻǺôÿͻʳº˵ü͵ϸųǺϾɷ˶̱вǳʱȳýѲʷѺȷҼжӹñ̽νпǽҺĿɼŸϳõ˼Ͳ¸˶Ѹ˳ѳбȾ˼ѷ¸ƱȽҼ϶ȹǳνκϴ¸ʲȻǱһʹиӷҾɿе͵ɱŸʴǿǴ˻̺ɶĺƼ˴ȸҿƺл˽ϱͽʹǱжӿżεкƽѳú͵±Ķ˾˻Ŀο̻Ҿʳͺ͸Ӹſм½˶ɹǵдλ˸ӴʺʳʷйñǹĵɾöϴɳμǼѿκŲ˻öŶҵɻɷȵϴü̾ͿͻĵôǶҳĹŷǷºӴžŲ˺̼˾ӻͽʹϱҲĸʿз̼ıɿѸȵ¿ұ̳ӸʲӴʹδοӺȿɾƿӽ˻ɼӸñƽ¸γѶ»ɳɳϲűȲӼѷʴӴ˶ϺιѲ÷дϵӳιþ̹˽żǴķ̷μɽ˷ɶƻǿ˴ƽżųƴѴùϲǱθҸɳƸͲ̹Ƕ˷źͽ·ѱ˺ĻѵǼ˲Ͼ˲̽ηűμǸ˷ȷͺϼӿ̽;ͳ̷ϳ̻оŻ˻̳ҽӲűо̼ɴŹ̻ȳӿӺŽɻʸʿùӲ̽ɺϺͲѶȸſʵʵοȻǲ͹˻˹ķ˹ùʾƳǾҷɸº̲ҳұ̼ҵȱʳйƵ̶ǾƹżþƱĵѻʹӶŶʺѴ̿ʷʳ̴ѱθù˾;±Ӷǵʾĳ϶ѲʹϾɶεѺϳʴ˵ŶĲϱӵǻĹμúɸӾӿȸɴɶѵ¿ƺȷ̻ųȹ˶ƿӺĶӱҴɱ¿÷βк̻ñ̻ǿѷµϱƹʾ²̳в;ӿ̾ɽѱѽúκƴ̾γεӿǲ̺ȳȴ˾ŴǸϷҷƲδ³ͷ϶Ͷγ̵¼иɸ˼βϳ¶Ҳѿӿǻ͹ӽƿϸϺŵƳƻϸüý̲Ʋѱż»ǹʴ¸Ƿ̸ɶпŻϵɴòҷȺĸӿŸþиǾȶǾĲηͿĽȽ»ͻŽɵѲŶĽƴɾͿºɺĸýӿ˸ʽϻѱν̸ŸѸǷ˿ҵϾü÷ϸɷƵżиѹȻͻ÷űǻ÷ѿʷҿļĹĳ˶ȿóнҾ˴ӴѲɻ˸ϼʹŸŽҲķȾѲ̴ƽȽĴƲϲ͸Ѻ¾ͳҲɾдµʳĳӿ˺Ӽʸǳ˵ž̲űǺαƹѶйþϵ;виŷҳǻôƻ½нȼҽƻǽſеι˸ɷʸѴʱͺǴƷѻȳǸѹı˻ƸžӴǴҴ̹ųиҾ̺ѹео̼ĽͻȷѽѿεǷμöѵͱжжͷɶ¾Ϻºұӵ̶ǳҸжǿú̽Ͷɸ˿ƾùŷȹҹôϽǻɼвϺʸøøȺſʵɿʹǶƹȽſʴµ̳¹ϲĹѳűй¿òŸӱž˴ųϲżѷ´̲ʱͳϾȷ϶ѶʹźþȶǺϸĴҽ¿ɵҲд˿ǺȽĽȶ·ҵĵóþȼ̳Ǵòɳǹ̻ϻҸ̹Ҿ̷ӳӵϽ˼ϼɿӱɽʼųǷѾб͹ιñɴζ˻ǺҾ˷ȶϿϹȴʲ̶ķйǶŴҷǲҹĹмͻȳκɱƴʷ¸·þξǻɺѲмǲɻ¶ҸûųѲ̲Ƽȹ˶˴ĹҳùѱĲþʸұŵ͸ϴƳҺȴʱ÷ҶžǿøŴ˷ƽʻӿ÷õǱʼȷͼҳɱĹƽ¼ıͻŽȹγȾлϿʾǺȹĲǼǶͻĿ˵̼ӻͿı˳ʽдѷȷùʹͶƵôη̴óε˲ȿǽн˱ȹƾĺпʻϺδͿǸϸηƼ̷ǼҾδǲӾø¼иҷƵɸұǿĹξͲƱ˺ŶŲ͸μͷ¼ͻüɸɹѽϺùĹɲǻ¿Ӳʿӹ˼ηź¸ҹҷıϱϼҼѵ̼ǾþѲηг̳ϺѺ˵žвοɼȵýļѿ̵ſȴȽþıʺ½żƷѿĶĲþŲвϺҶȼȼӾӽʶлӶʹйûѵлʱƽɶóҹǳ̷оŲ˷¶ŵÿμ˷ϽĹƴʶƻϷѿγѼ̴ſųſ½ʵйϻʹѳ̺гӺпͺøʽ˵ҷűȸɼӶȸнͶĽ²ɺ˻Ƕһҽ̾ǽǴʽѲɺ̵ϻ˼źϸĴӴθ˵̵ȾʶºʶƱʸ̳̱ƹ˹αñӷϴʹлȺ̱нòѿƾϺѺĹ÷ϿĶ˿ʴɺͼŶſſѻɾȹ̸ϱɿϾпгĴŸϱƿȹҹпαļºɵƺôм²ʾǴǻ˲ɴ˵ɺ̵»μȾǶƸҷϵ˳¼мǹžĻƻͽϼлǴδɱ̸ɿʲζϿ̳ƼγηӼиμɷϻӼ¾ʸйȴνйƿŲɶǻùͶϻϺǹǹȿʹнƱͲѲιҹлʳβӻҾŵ¸̲жѱȾƴȷ˿Ⱥѽӷȳӻ̶ҾҷӲʿſɲη˵ȸû͵δʻȹžӼѿ϶¶ɳ˽Ƿõ̽ͷӲʴϻѺȲ´͵̿ùú²Ͽʻ²ŽʷγǼʿûȽҿѲ÷ͽѵ˱ӳøȷɹƺҿ̱̲ɺθʳ̾ñ̶ĶſҵȽʱƷȾųͽù̼ųñƲǱαʴľ˺ɻӴӹºǾѹѿŲÿӹѺзϿʱͼǿ²Ҳĵ˵̴Ѿѹȴƿ¸¸Ѻʿ̿ʳ̽Ǵȵ̹ƱѲʱѶ͹ϼбͱμͽεıʹĴзɼѼ¿ϻοҷ̱ιѵƽǸÿ˹źþʼŽʵƶ͹Ÿǿʶ˺˽ƱϵɶýӷϱѿȲѺδͶǸλ÷ȳĳƽ·ǴϾδ½żǷͽйҼŻ̴»ҶŴʼǿͿòŸѷŴбвɸĲ˽ϵнĵÿžƳƻӵ˳˷ǲɳú˻ͿºýлɼϾӺòȿӼ˿ó̶͸þͿͱ˽κȳҾǵϸʾû¸ҵľɹ϶μδϷӴøѾӷĴžĵŲȳҸӶҶüιӲŴ˻е¿źε´Ѿɳʳɺӻʵ²ͲȻҸϽ̻Ŷ˽ʷͲӴű²¶ӷžϳѲ;ϹȹȾŸɽȹǾ̷Һƽ̿˳ǶӾŵɳзʳƶƲϳɺ´͸Ѻ½ƻžвĲ˺κξ̸ȴĻǼұӾҴǱҳȳýζ¾ȿѾ˼ýǽεøɷŴŴƾ϶γβѽȽûнƷ¼ʹ̸ɷҺö̷пӼѾӲͻǽҹӺ·͸ʱ˺ʷѹ˺͵ıξ˹;ϲƻ˷ȲҵѺǹ±½Ƽʴɳ̺ҳ̱̿ɺҵ͵ӳвϾѸƴѼǽҸ±õǾ̴̴ҳ̶λӹƽҿ¾¶ĳĵ˿ҲɻŶ¾ȾĲ÷мѼһÿͺôĽͶȺ÷²Ҽ˸θʶηϾĺβдŶ·ͷǻ;ĳ¼ҽ˱ý̷ѲŹžѱ˹ɳʲ²ɶǴʳ¾ѿŽϴʱȳĽþ̱ǴҶӶѹҼȱϼɽ̲ҷɸƼ˿ͽ̹ļ¼ϵѾеѿονƿͷνǹĿҼ;ƷǷϽͳɸϱѼнúʵβͷȿƻͻǶмһ˺ıϺ˶ƷŻʿʼĺȲʵĳ˾нŴдƸȷɳñǹͺҼϸγ˿ƽʳȴϾҷŹɷϱ̺ĽϼѹѸ̱ʻ´´ͳƳ˹ɲ½ŹӲöʱ˱;ҽĹȼʵͽӸý̾ǷǱеʾƳɶгϱҶ˲ѳ̶ļǼ϶бѶŸκͶɱγʵƻм˱϶˱ͺñ϶Ƴ˱ͼȷ̼ɷл̱Ƚ¼ɿĹùοŵķǹοż϶εҳϽʳϷȻƱȺʳ;ĵ͸ɱýų;ӿƾþ˳Ǿ̹±˷ǲʻϷ²γȱͼвҳκкĴμµ±ʾ̾ҽѸǱ;̲ѵ˲Ȳѻ̼´ǵƻĵɺʹɵ̻ҿηɸĶ¼λȼͼѷӲĴŹ²˹ҸͺʵѴѴʾ˳˷ȷ³ͷϽе̳ʹɼȺжĳ̶Ϻȸ´ĹĵüζҾλмμѳѷƳɷƹ̻ӷȱļü˺ǽӺʱй϶¶ѵ϶ʲѸ͸˾ͽѴȳȾʲ˸ӷӻʴʼƾͻѹǲ̻Ķͺǹ³ɷʽǺȵиȱαźҵȾʾűмǹǸϻ¿ĲòûϲϵͷķǽӼ˳ǶúѵѳƲǻ˱ҼõıιηӵνѺλѵʲжźĹвĻ̸˳ʱųӳɲ¸ɳζʿÿǿϽƿ̱кǽȿϷĻ¼ļʱǾиȷȶɸӽӺξöѼ¿ǽȻͽ͸ȺбϸƴľŷȾӺ÷ǶϼʼҳųϸҺβ·̶ӽ˼ĽϹȳӹųϸγȳʽ˶Ŷ˳ѳʼʶҿмʻúҾĵƻ͸ǳ÷̽ʿļвӴżǶĽǵиûȼϸӸŷ̺Ϲɶ̾ʸʶ͹ͺѲ¾ɻǸ̽ƿѽŽʹĹϳδʺŴҵúǶƷӹѴɹǼ¶ɲƿ϶γеҶӸʾƿǵбúҺ˵öųɷǵп̳ȳ˸ӷҶǺиϲ˽¿ƾƷǸɱʿǴŸʷͱǳŻǷʹ˸ƾȵʻȸɷ˿Żͻ²ʵƴǺǴҶҸľνҼĳαӼζĲȺѵļɻʾɻʾ¾¶ұ»ҵǵǲĿƵʾͷƽô϶Ǵϼʹвƴ̻ι˺Ҳҹ͵ѵϼ̾вѱºνʺʺҺжſͼĻϻƺŵȴ˱˱̴ǹƸҺκĳ˽ŴƾɴѹǶĸúƸѷγ̻ŴҴ˺δ÷û´öȷʹӻƺѶ͵ųɱθѾû˷˵Ƽзƹ¹Ŷӹκƹ˻϶¹¹̻ҶǶӸɶɳͻǲпͽʸ̵Ʋ˵ӼӶƾ˼ƹ˾ȶñĴƽŶҺѶδӹ¸з̲ŽɸҼѿδϼѳɺʺζþʴȲûϱȲ̻ϻĲĳӻȽúȽͲȻɾѱϳεŻҷҲʳ̴ƻ»˿˳еȽ˱˼мźøƷñʱþҵŽȼȾѴȾ͸¹»Ҳĺ̸³Ϲ̷ûķžѻɹƽ¾ĴϿǸʾγ̽Ҹӻӵ¼ȴ¹ɴʴοнŷ̱г˵ȵκúҳмĿѼѺϱҲʹҿѽ˼˼ɲǼǶǼ˵Ҳȴͳ̿ӶǱӺǳϿƼĲ˲Ź̶˽ȶʹоõмǳʾǿμľĶȸʼ͵ıȺ̴·Ʒ˽ϹͽϵƾĽǴɾӲȻɷ̿ǵͳķ¸˱һ˸Ϳθͻƾȳ¾Ǽ˲˸Ҽ˲˺ʲϷʶĽ͵ӵβ±ŴѹʹöҽƸǻ˻¹ϴθƴȲϽ˼ѹӿûɴδ̿ɺÿĹδҸ˷÷гȱѶʹɹ˼ʸͻл˼¸ϸβŹźм³ú˼»νϲƺҴҶ˼Ƹӵȹͳ˲˱üͿмʸѷȸͼ³ѶηȺϹλýŷȷʽͷǻͷù´˳ͻȼÿ̾ϴøѺû˺еʾ̶Ͷѱ͹ǼιϱӽƵºıϳ²ӿƼʹζȲɹӹӸžҳʽʶȳϳʾ˹ļɻ˳ҺѾγúȽо̾ʽϹʵµ̶ͲӴŲʶѳŲѷҽƳĳ̴Ĺ˱Ӽ;θŹĸĽҾŷºȶηϿƲ÷ҳʻǽ˱ɻ̶ýżʱ²̲̽˾Ҿ˵´¾µϵö·͹̹º̵źɽǼľѼγƻϹɾȽȹǺ¹ɴһζɹȽξӲϻϾûұ˺ʽűǽϱúʱúǽҽʶӺ͹ϿкϻιѷѺƹͱ̲ҹб˳ƻűε̼ŶŽȼӲôòȱʻθлбò˷ɱµϳĿѵɷѻ̺žǽ;Ӵǳ̴ºͺϻ̶οǲȸʷüȷ̱Ϻ´̳ƷĹ̿¼żһȶȷҺ¿͹ҾͼļʴüƼ¹˶ǵѼĲͷƺѵɺӾľлñǲƿѾúѹ˲̳ӱҷѳǽҾǵúȾпλѼϷͿͷɱ̹ӿʻϺϿ̶ҽϱӳ˺˾ʽѽƽ̸űƾ¶пиʿϱ̿νʵж˶ϲ͸ʹ͸κ»ͽʽɿοŷ˱ɵʿ÷зҿδǷĶȱжγ͹ôɶƳо;ζ̲ϾŸν̴Ǳѷµ̶˳¶Ż³ȴŴ¿б̾ŲĹ˱²ҲмѳĴȳʹ̸̲¶ȾϲǸ˺˱¹βѹ÷Ʋбĵ̶ĴŲɹźǺǵνʵ̶ζ÷жҾ˲Ǽ˺̺ŻƵȵĹҿŷӾɴεĲ˲ĻǴƸÿÿѾ˱Ļϳ̹ɺŵϳĺϺ˾ĹϾиü˸½ɼƺȻƿǸĻǹľѻδѲβ·ϸɸʹ˻ɶǹĿʹüӺĹҷûĲƽ̵Ƴѷ˿ҷοʷ̺ǻ˿ʾͶж̱ȵ̺γϽſ˾ҲȽҳʽ»ӿʼҼ̲ĲǵJ@NμQʾG?D9G@5B@C?10:MD5@ƽ=;O2HK>H7F1<A9PJ9J;8/7@/GHA=?NEOKEű7ĳ<M5FDMD>B8DNGIŶ@3/βN<LNHAƿžӸͽǾѿѿӷ˲гαӲӲɺƷɷŴƹϳҹɴ¼иϲȴ˲·кùαɾ͸̻Ƶϳҿ͸ѷ˼4P?Pѵ5F6JAHɾJGFDH52D1FPG2=0=QD4>28B@5NDLKFJ0PGHFDH6M0P6>;/Nǵ˴:/@?0J3FA7@9K3·QL8ѱ@744OM»ƹͷÿӸ±οôͷѱϼıδӳǴҷʺ˿úƵɺѾ²ȻӻɽùƼѹϲ˺ѺӶ˵ǻƹӴ̱;6>770L7/EϵBѾ5435AAKK6O/6;1I5:>C@J/@M39:885HȶQLQF6;@I?GCPEK4źDAI/9E9>27DM70A@L˳GQL4JLŹƲƷúźǾ˵˶ǿ»ñʸвźĻĿ̷ųҽĶϴδɺӳϵѳŹ¸˾;ǻʻ˿Ҷ̹ͷʲ6CBCQQP0BL3ŹEDL4N=6DII=ENK:<:;H6>DEP8/13HCMO2;IKPJP>JC0AE41>8N3<57=K5>OƶI21HDD0?D6÷ž·ɲĺʱ˵̾ýƲγƷҽµ̼ƼʻѻͿǶ̹˼ķϴҹҸ̺еͷӺк̻˶ӿӴӱ67C8=OFJOGʴP<=:NK5>Q/MO:E;<IB@L193?I>Q7ŽPFA8N=AL43/Q5HPM=?ȳB˱CO09B9@1J5QM;4Ϳ>O3:IQ>J6ƹĹпӽϱȸʼɸ͸ķжõþӸӴһ˹ϴżȼǳǿŵҴбӲ˴ó̼žµʸӻȹӲͲ̺Ϸ10B/żȲP3Q=2@ҾDѽG7CM6P:/JL2Pƶ8O5B>30=:6>QNQB3>CKI=1QF9O6NE@3Q=9ұ2LH˼DHBKKOQC?2>ȸL;O7=?HKAƺʳзÿȼƷõзǽƵӹѼϹ˻η̽ξҶοκɷȿȺǼþþŷʸĶǲɱ͹³ĳ̸δʾ˷ʴ6K1N78IAM1AɹI>9N=59?2APF2@5E?ѷ4P;@M4/:D//CC@KQ18A41/<>E35G9Ӷ´@<9LPIJI4K3NH˻1N;AƸ86:EI?ҶĲβö˲о͵Ŀұÿ̴ȱƻȳɿξӷóʶӺʸ¹Ҹ˻ɶӿȱҵ͵ϳ̺ϾӸ̳ҸθŽ0HL/Q<0?@9ͲHPD/8:68>@1K3ǶGQ26PȷF;H;F3@5F/17O>1M=;5CM9M3=OG3PHCQ:5>5IC:C=QD:@:2C@4M/õβµѿ̶³ϺĵŽϷ´ȺźǺнұҷʾμɻȶ±ͷȻ͹˿ѸɿξȸǶƺѴ2E?1<Q92738D/<H/20<MHIҵ7KK;F86:75QE561=12>NC=AABQ/LLGN<K7FѺŽI4QL4HLK8AIL6ϴL4@H±A9L7;9ȻĴžϴ̸ϽȹкĿͶȷҽ˲̴ѿͷϿƳŴʸɳοӿѶѴ̺¸úѵȹȴʱö˿м÷<;H4ƼDQ60BDƿ0PCH:BCPD20/E99CHCźI9FNPQ6PG5ӶGO=94/18QHBJ7:DB6:OҲѴ9Q/ҽ:N/<Q?NH5?MAI/N=IC=4ɹѿŷüĵ̼ų·ȶͼƳжιӼɿκĹü̽ʹ̽зŽ¶Ӽͽ¾зѻµ¿óƱαQLPGNOPMA=PB0:=5C0GI=EBŷFM@?</849IHE:7IDB7<GE;0HN;95OP?K:·KѾ9:9=MFBKP16DP4ĻPE87BK2QBбҲҳзʲȸȷöʳŲ˵ɱƽʹγϴƲӻ¿ҵǲʸŻͲ¸ƾȼǽ˹͵Ҿ̹ɹʴʾ˵ʺʻδȼ0HJӲ7϶?7G018JK8K6B6Q7QAAк5ζ4=2:;L6I@C3KK8FQ/6P=KH6ED=0=88QG?KĲͷF>NĻQD>FNL39AF0ʱFJ<ĳ5MCA/NӴúϸѹѷ϶˻ӴĴβĴɶҷʳƶ˹εиɻƳ¶ϱɸͶȻʳͽ¼²ǹ˳ͻɿвÿ˻ɷ==1Pͺ7972<4F8A05FG;AA:<η;E;MA9ҷMG?L2OD=I1=GH01FB<M:EQ8>A7;C1ͼ>?2C/439CM2ND5G<5Ӵ0GA;>6ƻʹ¿ʹμӿɷͻȽ˱οгȵŽ̻ɼͻƿķƼ˻ϳŶҾƿϳӵǱ̹ϳʱŴʵɸ͸̷ͽӺɿ5//7ʹ9O>?EL3A4@LJI>6EG1:J27<FK:52G;6EKLF6PF7KGH=:OANN74LD6ϻȷC0</KFDG<110CL9:AKGH1>?ĽӸϽǻûвнѸŽǶɾɶʻ̹ŴʺұŷӲķĹž̿ýйƴϱͲҶ·оɽǺŵиǲлҴҼƻб65I30AABJ?7Ȳ?9M4/N9865HAPQ5A9?IH2BG;K<P11PB713P5IPHG8M?/QG:3;HHJP<PKMJMO;I7ʷ;I2J?Kſøǲ˳ɵѿƹźǿǻ˷½ӱϻ϶͸Ⱦξҽʺǻɾƹ±ɿÿɳɵѽʼȴƸ¼ʽϲ:L5BʵHLBD;HҹP/AI;I9EH1DLDK79CDƵ<9F9E;AGFHGFM3=B33BQ;?3<H484Q˱MF8N:C<D84HK:JNLQұ<J>9KHɸ̾Ϳ¼̿Ǿδº̸ǹʻɾȶϹҲĳѲͷºĵɸļϴдгзͼµӹϾ˺ķӹ̾γӽ÷ME>0AB324BBG96J<Q9HJ8E̼GPQB2;ӴD?@?L/F<D0:DL6LP09M?C6BNK<F/0H1<̷5LE4H:ALM28O0Gʶ<:MH84ññŴͽѷȻűøǶ;νɾþ̵ȽͿҹĿ²´ƽ±ʿɱȸƹļҹҶɾǽºƻȿϹҹ̽˼/=8DƵ;KOO7M3JGQ1L33N;N0ƽ7?M<CQK;;D0E82@GG8DIE45;1F/78/J;GCɺIκ?9P˿K31>K@=>>6AζӼ7/<@JAM6;ǳ²Ȼĺѱͻ˾̹ѻñѸҳĶɺ̱ƻͺѾδʺҼ¶ĿǷɾѲȷƶʿӺҾǼűóʼзκ˾GM5ʼHͲ826?;CĶ=ʼ8:;;BLANA8/Q?3NP;DJQM7N:LHOJ9/C=NL=5@I1BFK<0/CŹ2HEѽG6G3<3L>/B5ƷG5Aҿ312?O/Ķ˶ϾκͲ˽ʿ̶Ҿ̴ҳβþϾŽɸȷӳѿѽŵǸôϷĿͼµɱͽɴ˻λҺζ˷ź˺ҹѺϹӾѺ̷ε9IA=Ȼ3M>P3HP<:GA>7=KH6?55;K44=2CQ;6O585>63LŻ/F?KGJO>188GJ:ο090??OC0JGJ:EGCʲ51CǼ@L>HEQͽͺӸͷ˿͵ƾӶȺӼȹν˺µƿŻǻоõƵ±˳̶̻̾θĵʳ̼ĹŹ̹ӽľҽоȹҽºO7P@6DFJ<MŹEO/LP=F>QGE9QQ4QDKI?GAC7HCN<A9B4N541BGDK?437CQѻD1BF0LM:P@P780MöICL/C/D<FδĲƶ³˼ųĵŲӸҹʾɻöźӺʾϷ̾Ÿҿоǲ˹̶Ÿ̵ĻɻӸұѸεжƵϸŲв8?@@=F>8IGȼ39F3B5IK/?7357>PA>JD52QIKH1H3@;29E0NQDC3<A<0C@ε=ùGN;<390O@?0DLPF?D:F;0KOȱѴȳ´ӿʱ»ϵβǷĿѷȽɻϴθʹκϽ˸ı´νĳҺδʷ˾ȴųƳʷɻȷ̿ǽ̵·4;IεO=:/34<<>M>9O0G323Oζ<MH?I?NM78D;==AE/PNLLCC5KPJI5K22OAɿPʲN0JJD6;N;@=D0O5MKźB8DDBFŸʿαҺɵʶѿ̺̿ǿȺƿͺѸҽмȱ½˴ʻͶ·ҵҲжηó̷˷ӻϹϳӲȷľȿ¸ǺƵɲͻI55AJQCE1@43Q7DO53M;M7642AAD;H8532H9A4AC9LM53I8A</Q2O0M27Ͻ̹<>1QI6320DM//1ѱG?5H6N7A7ϹлѴϹŵͻõź·ŽʻϴѵζʺĸȼѺɸʺ˲±þ̹Ͷμҽǽ³ʳƻ̴ʼϽǳϲϸȶʸν32>DA04FFG7PNMN;LH>3D60μEQA9Mɵ1KEDB5:0A7ȱLPQC3EG=9JL:FQQIA>ȻCϸ5;2C;92@;I:?JKӱC<9̿<M3@L@ø˻ųƺθʽȻѱ²ƶһӱ±ɴͿӵһùеž²öʸαȳĵ˳Ƶҿ͸ҹ͸ҹ̽ýȳ̱̽ǿѺKLIMδ/IJFCJʹ:6/>JNO;B@4=¶>ϵ4N>781?L?AAAKOAB84N0EF1JMAHH?6KEFJK=5?80=QI?E8?5ǳ0<3űE0M9LQʹ˵ǹù³ȵǾӹѸȷȲɿųɸͲѱ̲ƺǶȻǳžȶϸɶҺҶӿ˻ǿҴŵǾʳźMLEJIK0B;=ŵJH@874QD41=F9AJ:7OH/FFM?<NK<EQ<IM6L@DCK6K<;L1QϺ<H4;βENPG28L7BH0Ϳ9BCIE6MQPȸкŵǼλ˼ѳʲҳǴϹ̷ƿ˹Ƕ͸˴вηʱб˲ͼϺ̴˴ȹѱӼ¾ϴͳϲһͲ´Ʋ±ƺ˷I2NʾHNC:H9AҶOʽQGKB9MJ43L<2LMALH͵@@70A4PAIQ256H3;5QC46629:BBQıMбKOF>5;@QDM6CBEQ5NHD;J97ӶȾѳıϿſв÷ſĳ·̿ȴǳƼȲʴѵҸ̾Ͷýͷɷ̼ȴпӷӿϼβƵIFP3ι;N1/:>ҿ44<5G5F=A5A7Q;AP7Q7EO9K:=ACC/M1>зB?JOA<70LE3:?:3Q@Cı9AH>?7D8G>9N20L8DM<Cɵι·̳ǻ´ŴҳϻпͺƸö̱ʹͳȼȲ³òʺŹ˸ӽȶʺкȿѶɱ̶̷ɲɷ˼μӽɲʺ˱ѾH?:;Ѷ84LI5>Ŷ6QN>>NBI5C9B;GD:7F?PHC?978C?ϵA5C0ŵ0M27/481/;M>D8þ;F:/;EG@35J3OC6<@4ҵ72J14C̼ҵȻξǿƹö̷ĺɼĳųʵ˶Ϲγöμ̹͹ҽƲƳвνĺȻƱһ˸϶ͻϿôѳзȻӾŵ͹0/<9<><JF3ѾCβ/KK>0=8<B4QPK@?4=N<60?>:Q::PN;7ʶAI9D=8MC4?8MDEǻ?I;?49?IQ>@PQIPJ=FǼ::H@O@μʿ˲Ҽ˷ʺ͵γøϽη˼˸˶ù¾ӿ̲¹ƶηӱôŲ¼ɹþ²ĸžͷӹӱǳʺѱʷIB<ƾ/üͳ>0;B;;Ʒ8D2K191=0I=PMѱ0O9CHHEQ105I2N:͸9@38EAM9:;7:D;77MI5ӳ;00=GI=?AMI:7INCI2H9K04ͽƸƼʷϵþйɷƷϻĴϷʹѽͶζƶʲҵѶɱôƶ˲ѸѸ·ƽǿ¹ƽɲʼϹɿеóĻ̻Ǿù̶Ϸ5G54;9<5<6ǵ5341L4;JL?:7̿KHQE=>=<3?IBIHO5K1GP>@F4CL8I9QQCQLF̺I?EHQF;:I1O5G6ǻE;B=BH/Q>ſ˻ȾļĿ˶ͶпƱμſӼĿ̾ƸϱұӸǷҸǻı´¸ӽ¹иʲźнͷγŽвĳȿüA?O/ĿNKO=A?:MN?KIPHP>@65LL0BK8B2MB826:O3O5>F9Q>?=PPN5/G0Eļ3ѵM4I036>9E<FCF8˼˼AM;ŵ3INJH5ǴͼɹŻñƼӵɱɱƹѲŽǲαȶнӼϼʳʿŴƱͻżανȶþƵ˿ǹͻ³ҵκJ8C:мF;@3;CCQK5>AO3LI44пGN4F<DMDMN2QOG<<ҿ@@/7LMCNI=?PF/2/JM:ҸOLJŸ3>K@;LINFPD;HIOD:JMEűʺɶѳʼ̿Ǹ̿ŸӹɱʴƸϾ˼˴ӶƲͻ̶ű˷ķȸӲкϺ˵ɶȲƵͲѹƵúɲϺʹ̹ӱ3EPFѴ23N7<?P̿7;LC@<6<D64ýBL6?BQ5O3NPHK9LP3B?=ȸJP?<:O7KIH=QHB?νJ?0@IM2=EO2M4>KN55K>:L0ƶǷθýǿη²Ⱦвξиιǽ˾ѾȿȺηӸ˹żгӻǺǺĺйϴǱ˽ϷʼŹ÷βŲѲҺǷͼǳǶM69EºH65P87ĺHBJ>JL@K0KFMH/J>>CD3EJ;ON=1Nʵ?93DM:L@OP/JP@PPL:̺4ǵ;IC34FJKP;8CJLо40<ILL;B@ƼǺλξҵ͵̱ǾйѷʿȽ´ǼĹıѺ͵ɳƴӹɾѱϸŹɻ̴ͳзѾм̱Ѻ8<Iӽ5Ļ@MABGM=α4H3<DE>423E92MEF?=J<JOA70N2>@?;ȵ8:6H666@MJ0J7C8C8B1Q?62B0@I2ϹQ9:CP02BG<ʵƲòù̲³ʴҲ¼μƷɵɽ̴̼˼ȳѾеµÿиŷʱѳѹǶȺӺ˸ȻǽʹѾ̾ǽùĳ?3Q2ɾ/GI>8Iƺ/ABG7=GO;4=Eв7OQ/22IK65@5@0?HO>G6M1=JK/AI:B=M6/ʷ=9I2ȻA4814H4DNL6Q84óIHC?23ĺǺǿȹѳƳ˱ͿýȻúʳξѷѻľɼѻ½˴ʵƱ͹ʱƸϸӹȾӷƱúųǼ;лɶ͸˶FGDIķ:D3HMIĵQҶ<9K8ADHA7DL1ѵ:3?MQQ=CDN82L17:B=9ȳO12/J293NMKM4?Iβ692˽6;O7H6IN430A7Iĵ2I=4NPŽк¹ʹȷþͳŴ˳Ӳиĵ̻Ϸӱѿ˲ŷѷҿҿŷпǹ˻ҿʷпű˴αҸͱȿҿ͵³ʾ:K09ĴJ64O4LQ>IBCLI?6L<<ɶCȼC>7=;P8P4836OCJJ/>A>:4GBHID1@J<K3ĽNͳ9:IK7Q8E?7:8>?:/2KONG80ȿĻȸƱҶͷҿ²ÿкĵɽжҶθĲ˳ȲӴҷλѻĲӼŶοǱűĽõл͵˴ĶмȳʽŷѺѻϲ̵ĿҳǾ4;KM9F3@F20ŹEF:93A3JA<H@G@BDKƳ:C99J:EGKJ?J7Gǵ2:D<6;@Q84/<2KKͶAJAHK<H:E@I<0KиK:I3=GM4:мǷͳǱǻѲƹѼ̳˼ȷ¿ӸѸĴƾɸɾ˼е˳ȶϺǺ˷ѻǿ˺Ƶҿ»ĽнɹöĻȾϹ¶ǲ̶ĵ<5O1¿><EBJAñIEL5CG3K2IO@/612/7<CJ>OBE094Ǻ6OPD;?/>?KNIBL5/8CƼGQ<LϺ7Q9H33N679>7BQϻ>E9H7HʽϾ¸úνÿѴŵбϽƲεɻƶǿ˼ϱǸȲƵϷȴʾƷӷɶ;ӽҸ¶̳п϶òϻĵ˺˷ļ˿ùHL75/QMNBHHȶFL=GIOQ0D7I1A549/>9FH72/A0==>PCQ46OG6?9/7PG<FQB5Q1:07P9IJIB?ʶ@69ñBF3:/:ɳ͸ʻȽӳĶ̿ѱӵƵ϶²ο͸ӶǳҷξжȸʸѸ;ó̷ҸǽмеμʳѱӵͿһL/:8²ŵH7@G7<͵5=<FH0@12MQ=вH@5C37Ǿ4M481A1/;FPLPE9OBED9D5@E<;?LFO?M?;L1?P8E<ELñ0<=49N;8DѲɽƺƾϱ̳ͿĽͻδѲƴǾѵ϶ͳӼóǷĿʶȸýŶҳƶ̲ŵ¸¿ϲμҳŹ̵Ǿѿ˲ʴ;γ˸ȹſN<7ĹM=0FMG@ĺEȹ:H?581N>9G7KH41?B48;G;LK1F6̱L3PJ<<Q6GO<>I>KM6?Ĵ8ʲB>2ѹ@G=>856:D/8ͺF2<0J26DMѺɽ˳͹Ӽͷȿ̴ķȻȾȶȺѶ˸Ҹ̿ӶſѸӷͳɵӹɱĵ̵Ǿʺ²ʲӼв̴Ѽ0J5Pŵ0M8CN05ĴM5M3KLL3/C7C:8>>0ŷ5;G=;5CFH4HJPK2IB?NIOH7PBFG?4Ӽ8D9;1O5KBJ42QBƶFNF1715>E¿¿¹ĴȳŷʾźӼͱǿ̱ҶʾĴɱùöüķɲĺɱʶ˼̸˿϶;ȷαǱҴͱ̳е˵44Jɴ1ǷJ/3I7DӸBҳAIKNO237@A1AK:PPN3305D?8N3Q0G62BCI?JPHA78C=17ɶKҴ9APM4/J?;24O22ӳC;0JEGHFJñӾ̵ȳʷʷɹ̲ʼϵż̾ʺɳɱξѲ˶ȾǴ˹ɷɿѸ÷ѷѱǲûοµʿоѿбͿеȸǼɽıǿ˵̽ʼͳɾ˴ѵҳ˻ҺӻϿȹǴûθ˿ѽϺɿ²ͳ̺Ӳдųзӽѹϼű˿ý;̽ý̶ǻҳ·Ⱥҽſɶιϳͷкѹϳȶȸ̴˻̽мĳӳ˵Ʊѻ÷ƲǱθͽѱҲɹɴ´žǱϾǽǸ¹ƵͺʵвƶγǹĸĹȴͿŹ̾δͶû͵żϻϳѲ¶ʲҴ˵ŴдôƷ¶ҵɵҺʸʿµĹʹúνȾͿĺ̴ʿζŸѶû˲½ĲϴӿĶѾľóȹ»ͳȸ˶ѱȺҼƸйʿϳ̿óƱųɸÿʲȳһҶϾӿ˸͵ɷǳιӱмɿʸʸıϸ̲ҷһƷȹѽǵ̴ǻ̹ƸŽʿӾǱҶϴ˹͵нĵϿѿӳͽϿ˷ļɴ̱ɱӸζʶгȽͼʵ»̳ôϽõƹ̲´ӽ¹ιг˷ӽĿǺ˽˹˲νӻó̻ʸɼʽϼӶɽгӿѻλǻɼ±ӹųɹúжõıβĲӼҺƿѼϴ̲ǿñοѴýɼźĴɱĸǷʿǶϻʹǵͽӳν˵ʺζѹñβмƹȶенӸʷϱǺ̺·ͺȿ̳˴͸ľûĲұƺӱϻĹɷ²ƶ÷͵ı̶ɸȸƷ·ƿλı˳˾´ҵϳ̶ļйҳѷ˸ǽ»ĹʱͶ»ǹμ˿ѷòƺǱγӱʴʳ̵ȶȼƸӷ̳ʳ³̻̾ͿɴͲʳϾ̱Ż̶ϲͳžǷ¹ĳ˿Ӳ˽ѺϲҽŹѺżŲŶͻƻ͵̻ӿ¹ӷϻ˿ϳȽͺû¿ųϽŹ̿Ϲĸ²̲ϳҹɿϱǸ͹Ĺ¸οųθȻӽſżĹһʹſͼͿƼǾĽɽѵŹҵͻŴ¼ѽòǺżҲǻҴҸѹϺʹ̲ǸҸγϷ̱Ƶ˺øȴǲ˻ŲʶĿӽдҵ̻Ĳ¿űҿøͳǽ¶ŷϸеӿùοδƲϸͲͳѱξѲûȵ˺̼ϱ˹˸дϾϷµųұºǴıȿ¶ϴϱŹŴϱǱ˻˳ʼ¿ҲòǼѺϷĶзʾɽкǵҳϳʺľʷǸĽƺҹκҼɶʼѴǸӼȿƲ͸ƸȵͽʶҸҴ϶Ŷӷ˲ĳ˷¹жĽɵǿ´ӹ̸͸»ʼű϶ϼѾǷв̲һ̳½Ѷȿ¿ҳгϿǵѸöͲõѴӺĶϺĳͼѳǹȽӹ̾мҾ˾ȼƾ̿ŲγŶɻӱȽɳ̷ӼͶҿ̴ʴʴϴϲǷйбӳɳʶɿȴ»˾кӾƺ˱Ӷ˲ǳƷĽµǿƺмϺŽǻϺŷиϷ˹ʴʵõ̽²ĻƱºȳѳŽʺжŻҹλǱżҽѽгͶɵųǽŴǶͷѼαξ˻иĴӲӾøʵʿúͽ˺³ӽĵǽ²öžĴʽѱʽӷȹȳ¹´ɾɿ̳ñƴƻŵƿеɵ¶÷ǷиɲǴȽ̾ѹŽ̺ͻѻι̸ϸǱұ̱˺Ƶ¸ζýĳ˵ͷ˹Ҳȳ˷Ŀӹ̼˲̾ÿ·ŷ±ӵĳȿƻϷӻı˲ϽųβҶ˾κ̲ºɼƾ˵ϳɾѼɹʼһ³ǹҾͻоοǽҲдŹķ˸ȳŲӸµͿ˵ñ¶¿øθӱÿдȽиμλʽѾǸнҹͳúӹμ̱Ͼžŷ˶ȶºұ̻̽ͷǵƾƻƲμϷƸξ½ƶźҿʳһӵӾɼѴʼȾγȵǻϾҼſøϷϿǶͷ¶ӿ̱ѿ˽гͲϴŴͽͱ˽ʵƴ˼ʶƼε´¼̾ûлľȱϳϼϲǿλ¹õʲͽʵɽӷɲλпӴɳѷϳϴ¾ο˶ɽͳ¾ͱƼϷ˲ƵºѴѸ̺˼Ⱦӱƻƶü¾Ź˿ξ±Žϴɾźʷ˽˻ҼҽӸηдĽʵ͸϶ͲžʾʲҹøӼøǲʹʷӼɼ˻зʾоѱλĻν¹н̾͵ĲùƳϴ˽ζŹӲɽþзɻ̹ĲŻϹҶɶβż˻ǼηƱŹҹ̺ȹѻȻʵӻű˸͵ȴüӸǾúñѶĵʽƵҾҸʿǽ¸̵о˾ȱ͵оȶŵӻü˳Ǳȼ˷Ⱦɾ˿ȼ̲÷ȸбķŴ˴ʾƶĴθϳбοǽӲӽ;ʻҿƹøǳҵзϴζɲ˼Ѳϴ˿»Ƕ̳ǵϼͼпǼƼʽƳҴ˵õ̱ùӼб˽û˺̳ɺȺųͱ˲ĸͲƼ˺ξʴӺǾоҾ˷ӱѽǿϺѲƻ˽Ҵε´ǿκ̹ͶƷǺŹ̼ŵƸ¸Ӹÿʲͽ³³̼ʴ̳Ƿ̷ȸǼʹʸзǲŹȿƵз̾óӻ¾ϲʻ͸ϺƺϸӺбǽƷϱ̷йĺ;Ѹƴòŵµ͵̴ƷмμӶȷѳ̲ʵϵǵɽлгϷ̼¾зɶķ̵ͶǿвɲǹƼвҵ̸̻̿źǵȶѹ˳ζƲö÷̿ѿ˾ɼ̾ζƼɺѶϳɴɾұʵͿɷɴҹǽеұŲžʽϱ̶»ÿ̶Ǿþƺζϻ̺¶ӱĺĿÿĵӼдĴҼǿ÷ηҸıǺʳʱоĽƼҸ͵ǹŵӺӲѼɴϺŻεѷ͸μòиȱøøҵϻĵǽŹŹ»ɹ˽βĽ³ıżõɲ˽ϳȱǴ·ƸòɿоǹʹǷϹй˽ӷϷĹ̻;ŴѺ±ӽпʵѸǺÿѻмż̺Ҽȹʾθθ̱ɷʱнŽѷƹͽαϲƽκɷɹʺƱɽƶ͸Ÿ̸ʳедöһƳ½ɳŷƹ̷̾żбгкͱҺ˾ɺ˴ϸųȺŷȷ̶ѼͱǱȼӳɲȵӾȱƸƲϵĴ̷ŶѸ̸ȸϲ̽Ͻκɺ²óƹμϾʳɳ͵˿ɻ²ӴǷǲøʴα˶ϲκʵҹòȵ̳͵̳úҹĲѲŵɵϸϷѾøǲǺѱƺӳñźÿϸóºѺϴкѽȳзŷȱ˻ȻŷɴӲϹλƾϻʶ³ŴοҴѺųθʿѲγɲ˿űȾ¾ƵʸйӾϽҳùǻвʹÿ˵ѳƴϷƴҹͶҷ̽ѴѸ̶ŸñϽ˹¾еƾͷ͹εʳȼƽóинȼ¶ǵ̿˿жҽƳҿαѿɹεξĹҺľпñűҹѵһп³ȴӽþɻſ̻̲ŵͷȽӳùĳϳ˳ѷǵͽƺʸѼȽɱ;ҷ͸в͹ƶҸôҵʹ̵˵ʴϾĿйƸвδиŲҵñɺгɿɻϽҷűμоĹʸиδӸɱһһȼ÷δ˲Ⱥ½ɾѵȸμƿͽʱƱӻ˸Ʒ˿̲ͽκ̲̽ϻδƹʹʹͻƶ˾ͱź¾ζηͻ̺ʲƺ̴ѽ̾ѱͷҴ˸ҷҾѺŴɼμѸ˹оͶ˼ǱķͶȹƳμѺȷȱ̶øб˿ŵѸ÷̽ͱҶҺ̸ҽ̶ǼƹεӶǴźϱ˱ȷȾοϾʴŴǷѲʹдù;ϱĶеƸϹѲ̸дƽϲѾʹӺѾóɸĹϷμпϽ¾ͱɳѶӷ̲ʲͼ͹ѻ½ϴ̾ӱϵı¼ƼɿӶѶӷͼĽҲνʷбҺűұɻмǲиŸʳƵǱ³ǹøƽ̶ʶ˿Ʊɵϳûķƶͷ͸͹Ǻζɿ̾ɻӹɷɵ˳µƱ̼ų¾ѷ̱иϳ˲úýŻ̶̻Ʊȵ½˺͵ĵʲͱ¶ƻųĿĺɸϱȽʿ÷ѷȹǴų̲óɳμµҸгñºӷļǹıºͲôӱǿ˵¶óʹȻɷȴϱĽϼŹҾ˴ѹƳǳŹϴýɻͱȴŸϸĻοӸϼþ¾˲ż˸ӻ˹˻ʲηѴż̹̹ŵȴʲӴȲйӴʿżȾ͸˽ıþθиӹĽӶҶ̹ӱ̳õһδѵӿδȹ̼ĽҴɶ˹Ż̳ȴθĹɿӺпɱ̾ͼɳƳӻķɺ̵г˺øѸӺȸͱҺеǽųҹ̴ɺоŻ˻ŵƸɻ;θµйƶͻȼιƻȹӱƳͼɲŹµɻǷ˼̶·ƴϳʸǳͽξȻñǿ³ѷǳĶǳǳӿһɼʾӻĽ;δѱ;ŶͼƷʱѴθɵӱȶñóϽҷķ³ӱù˾Ǿβ¸Ҵ̴ұ̾ùоƻͶŷǴмжϳͷ̼Ϳһǻѹ˲ʽ͵Ϲζȹ̺ʴȹӵе˷ӷ̾ñǾѷȻǽ¾ĹδùӽǵøĿ˽ǵξѲβ̸Ⱥʲʾ̽ʱþ̿ͲҼǱĵôϱǱɱ̽˸ź˳ͱɲƽϲкǱǱͻķɲĿôҳӸзα¼¼Ⱦɱв˽Ǿùνӻ̿̿ɶúѽ̲˿źγ´̼ѶкĽǽıʶҺиӴҸƵȵѻʽʵҶļǸͶкƸȳþñƽü²ѵλͶŽɹμгҲұǹͼǽɶ¼ĿϳӲƳùѼſüɵǼθϷ¸ӽͻŻҾ͹ƼƲ͵¸·Ǹ̻¿Ƚ¶ѸʹϸĳǿѳϸǴλµƹĻӹβķɽ̶μòмĽŴгƵƱ͵òϺ̻ҵźͳɱĿι·ȹǲ´̱ʲŽŵʱžʶλҹɱзѲ̷ͲǺŲŹȹͶļɹžѸϾӲƹʾʱĵ̼ǺȹŵǲĸɴѸ¶ӻͿȻ´Ĵȹøм³ŲøɾµʲüͿ˻ſǶľȻӻϻβĻüȾƵͶɶŶηп͸жӶ̲̾Ѻ˳λӷżúͺҵϷŽɶĽƽȵƶҵǿϳӸǱμȹѳѸȷƸзĶθ´ŸľȻƹƲƻȷҸѽ˴ÿҾϼȴ²ȻƺǾ̺˻ѷȱ˶ɶȿŻǼǵͱӵȱ˷ȴẕ́žͿѹѴлʱñҾҹ÷Ͼ˺Ȳ˽øû˶αƶżҳиʳϿκ̺̾ŷ̴ɳҵĴļҳöβĳȵųòı͵Ҹζͺòɽ͸ͱƸʹ˺ĿȾҸӹŽҼùӹ̿νϷ˽ζôɺǿƷӴƹǼεɵȳöҼ˽żҾαƱɳʹѶǱͳ·ʹ̶εѼ˾ƵĳɻϸӶýβͷɲӹϸλ̴þϱȽϻӿȸʺѽѳǸĿ̳ɹƷκøı̺˻ȵеϻýӽѵɷǶͽ̲ǻǱҽ³ɺϸȽ˿ȿþǳηʼƷӾʺĳƼƾʹѼδҼĶƵ;Ŷʽвþηɴ̺ʶ̱ĻɵҾβ¶ѱƵǸҶϴѱƸ·ı̸ѵͿλұӼǺȼǳȿйȸ̸ųͿȽϻʾŲøǺ̻ɺǵ̳ǻӺĸöͻҸѱϺϱȱ̹ҳɾǽ̿òɶҼŴмϵӳϹķ´´ȴƹžӸǺ´вȽѽӸûŷɻƱºѴʶõ˾ȴ÷ɳĳϱǹαζҵξŻϽӿǷʺм͹Ҳ¶ʸ̸κѵи²ѻ¶Ʋйɺθǿ¼²Ҿ½ѿ̷ƾβ»ͿƲóɵɴǽιϸѷǷ̸ɼöϴ̸»ϵƼϺźƺòйͽĳɾʼ̽ϳмŲӸ²ǵöдǲѽѹкϴʿҲ˹дñÿͲӶºӴ̿Ͳεҽеѵȴ¿̵öҸи̼˲üƸʷνҽòʼŵϷµȽҲĲǹļ̳κȲʶʱʶûĸǾĲȻѺǹ̹гɹ̴Ͷ϶˵½δ;̼ӵϸ±ӵʹ÷Ҿ϶˳ʵƺƱļϵƺµõϼŹôκѴʽӱ˼˽úѲɶӵȼͿϷӶµͶѿ»ǵ˽³ȺʻϼɿɱǿбɿóĲ̹õȵ˷ϻȺýƶǽǾȾηʼó̳ͺŵƷóѹ²ʿͻϷ̷ʹӳ͵Ӿгϵ˾˻Ⱦ̱ù˹еͺƼұη¾Ľϸȱ̳ͶвӷɻǺù··ȿҲ;ʹ̺űǱӷȸǴ̱ѵɸӱźѳº˶ʻŻ¹λͿѴϸ̲˲ϸ¸пϽʹƻʽпͽɻӷȷѼ̵η͵ҾҼһǿμҸҷѹйö˷ʺĺӴ̱ƹ˻ǲ˿̺Ѽʸαϲϵñĺѻиű̸н²ϳɹҼʲϾƾƾѲδвҹű̵õ˿ȻȺͽѻѴӽ˿нνý·˺ʲŷѿ϶ѸͼǸɼ̵ӷʵͳĻι̶´ұƷѸþƻȽ¹ҹеϺ·ȱξɱеĶζϸҲ˻ͽ϶ôȻϱӾιʻӶ½Ƕп˹ӳϺ̻ϼɻӶºþĲѲǻѾϵǷ˿ҷӳӻҼ˸½ĽʻñĲдҴѳŵ˲Ѳɽӷӱĸ½ûɳǾĶķĶ½϶¼̿ƶϿɵǳ̽Ļҵǵǹõ˷˿Ƹļſȱ˾̸Ƹ˼ͳӽǳͻʷη;̵ľͷžб˺̺÷ʸǸκ̳ʾɳи̶̾ǿѸѵȼô¸ʶƲд¿̻Ʒɿȿƿ̽ζǽºͲɶнͱѻƼɼνŻƽӻͽ;ĵλ̻ξοӺºȴĸ˶żμȷɵ̿ɶҶҼĴͼпл͹ȴѶŽиƽŸ¹ұ»жĽѽĵоĸʸȺӸж˺˱µŸʺҹɱӴ˻ȵļҹͽǼȻȾ̻ұвʾʵúѼŵȳϹҺ̺̾ѽο̶ϼͶҽøͻȶȵ̺ǵѵ±ѵƶĴϸűϻǴŲϼɷƾӽμĶȲ̶ͳɲ̼ƺӼıʺιкȸĵмž˴ɲмʿýҼҲŷұòϽθǸϼȱлͿνĶϺ̴ӲʴʳθŲ͸ʾɺͼӱӴƹƾĴλθ̺ӷ̸ѴɴƿʽгȱдѲĵʹŵȵȹϲ˼˽ǾжµǼҴйϿǱ̽ҶҷǿȲǴ˿Ϻ˴ȲƺĿϿҹѾûҶôõͳʸβϲɴɳͶü̸÷ȻĻɲѻȽȶƶѼŸǶöλ͹˽ѽɵȵκϿµźƽĳ·ͼͳźȺιȱĹ̺ʸϴžλҸȸ»Ǵӻ˻ñжɱӷ˽ҲĽȶҿҲźӵӵ˾ѽдŽδµ̶̳¼ȿǷȵӵӳӽѵÿĽ¿½ι³ӵͶκ˻знȽƴѲȺйŵγóдұѴɹ͸ĸϾϸλĿʾɶɵþȾɽ±ͼҿӻѻɴɿѶѸʱӱʴҾɱʺϵѼʹǻƼ˹ǾеĿɾ̷ӾºͺжϱǷǶϺϴͽŴ˵ҿмѴŵѷ̽κƵ˿βϸĲǾĳӿǳʿҲȷѹҷѱӷ²̿ұϺĺ̻ȺʸƳƾû»˵öĿþñʻĲĹʾ̼ʳµʲŵʴӱӾилκҴйɸϺƳδӼ˼ɽϹ˼ʾαζ˺ʷ̴ô³¸ƽ̴ûȵʳѴҳŽҴǶӹѾ˷θ̵ηŽεȾǽ´±ɻþдžηźûͻҳǳʳѳͿѶϸǿҷûιǹ¿ϻѶѻȻɷϱȺ̱ɽѴ¿н½¸ұƵѳƴ̳йҷе͵ĹƸбƼý̷ºȷӷſӷɽιɴкƿϺ̺ӱʵźɻѶӱĶ˽¼Ⱦҿǹѱ͸̽ȵĸӺӼɿξϴƳ˸ϳи̿ϼνżӴ̻ǿǸƳͼѶӹɻĲſͲνȸĹ̿Ӷȸ˻ɽбб͵̼˲ͻигϹĿ˼нҾŽζĻѼηȷɼѽӼöǱ÷εӳαıżѴҾ˸Ӹл˾ſӴɱȶɸѵѽ̱ľŵĸŶŲĹҼȸ̷ѸӶɱȷɾ̿ƶɻϼȾμɳ͵ӽǼǼ϶ұȲгоѺȺºɲʿϼʱҾĵĴƾʶͱѱȹȵýλűҿµ͸ǶźҷºƴƷеžɵȱͻϲƻľѿƴȴ͵ǽƵ͹οϺ̺зĹ˶ŲҲɳϷҸѿƶƼйҿв͵ӶƽŽʹñɿýӲϾѱйѼɱθ˶ʶĲǾŽžһҾĲȳűϵϽĳϲɺͱ˽Ӻ¶ӽʷȵĴθ˸ϵϵɻŹϹ̻ûŸ̹ɷ̲мƱӻ˿ұŸŷǳӷ˹ϻƲƼϹ̸øӱºȿô̴ӵѳýӸǵдӷгŷϼ¶ҵøӺȻҳǷʼӹ϶˻¾Ҽº̵̾ӽȵȲ¹̲ñθγϾиȸɶ̸ӻ˿ñż˵еѿδɼɵʾ̱οʹӳŵеɴú϶˿ѳ̻ϸŻ̸ÿʻͲɽüļϸȶӻ²̴ӱ˻ʺ͸ϽʺĶöȽ˵оѸĻѹϴƱӱɳиȴǸиηķͺ˶õüϹ¾ĽƱҹѾҸϷʷѶͱ˿ķӱʶµѳ½̼ȳɵĻѹµĿӸʽŻ¶ηú̺½ʶѽʻѶͷϻɺʳ˵ŵҶǳҷƷ˵ϷұͻõӾѶű²ɻƲɺ˸̶ͽʷϸÿѿ·͸λļ˸ҽҷʹ̹˸ű̴˽ɷ˸ѹѴӹʵӵӵƼͳµβȳǺӶŷи±ǿȳȳȵŽηɵѾӱʵ̹͸ƷδйѲӿǻͼǲ̽ŷϻ϶γȲ˲ûʿ˽ҷɷĶҶҵıɼǴҸɷʱ˵Ҹȿɿʹ͸ϹųϹ̾ŸǵĿѽϺϷҽӴ˴αȾûʴķƱ˱ȸϾϳлʺŵʶŶȷŲɲʳ˺˴ϱŽϲθŸɽıҵιǵɽȶƼ¸ǸӳҶнȳͶƷ˺ÿҽӾõƼŷ˸ûƸɳûҵƱ»¸ӸͺŻҲɺ˵˿ȶ̵ƵûͶǱϱ̼ӹӴ̹Ȳ±Ҿмη̹ɻͶƹȷ˺;Ӵòǳǻ±ƱҶӲ¸ɼеǱȺȶòϸɲŽҶǻȾѴźг̾ǻȲź²пƲŴƷѴɾ˲ѻǸ̼̾Ǹ´̵ǻʴϱƱɱӶĳо˻̵ϳʲĶŸӹɵ˿Źĸ̾ϾƵǺżûͽɵκǲη¹ұŽĿӽзοĶλúнѿȱҽ̴ĶѱŲӱŹҳǲ½ʻĿлϲɱɻıõƹǻ´ȺɻϿɴɱʹĲϹϸҷʼűѲζĳſ³Ϻӱη´ɵοıǵ¶ͷɲδǳƸͷɻҸƷ˴̾αѳͿӴϱʹҲгɴʾɽſʽұĳαѱϽӿѷʼȲӵҿ̻þ̶ϺϽоʼ̱ͽͷɺпƷʻϳǹһ¼ӿ˳ӻ˿¸òĵѸѿ̷¼ʿɶҵβȾ͸ϾżƻɷűͲǵüжѾҿƺĶӵŶ͸ϱϴôɿҵεĻ˹ɽȲȾ̺ɺôʵõҲμͶŻ˾˲ͷ̼Ӹ˾ĺ˼ôʹбĻͻ˿ǽʽͽŲʹ»ɳȷѾȻȻ÷ӸŸѱĶǵƾµӾ͸ɸȲϻѽ̽βĵǷȴμƿпвȵɹβȿѺŽȳѶº˴ӻ϶ͳ̸̳±ĵųҽƲҲлҽǺϸϲƼǿϱ͵ɽʱϱǴűӸͺεϱӶʵ˼ñõǸƹϿǱĳйӶñпȲѹϲгɼýʶɳôɸȾ̽θгò˴±ӻĶѺҼʳѾƹĳӲиó̽ϽǲĹĵöҾ̸̿ѴеĺǳſҶɱĺʾĲƽп̶̾ӵʹͷž̼Ȼ͵αɱɶͲ´ɱɺǳƳŽȻӾ¿ʾ˵δνѻ¸ʹżζƱӱʳҸȸʼ¼űѴŲǸ̼÷ϵθλŲӸǹǱѸһҴºоƳųĲ;ʶ²˿̶üĺƴ˽ҼȼƹǱпμӷѽӲѼмɻƹлĺȿͲ̴ӸӶʹκɹͶó˴ͽʱͻƽƿ̷ӶȽ̴ô̷˾ƾƶɵ±ɻɴ˳ǻŷʲǹȴǼɹ̷ɾĿȽû¹˻Ǹ¸γôõ½¾˵ɸɺϳĺǸͻĶ¸ɱ͹ϸ¿ĽͽλüζıѹóǾƳƳǵɼǾǶñζкɸϺӱ·ξĳͼĳɺϿ»˷дҵʹ̳ҺͶѻϿþд³ǳ̸˹ĵ˼ɽμӼξʲ˸̽ƾ·ж̴ɷʴ˶ɼüдӵȴȵʷǳűʺвǳüķѺ̷óұοϷöҽͶлұʵƸ˿ķηεϴγ̸ƸǲǵƷλұ̿ӼӴžѻӾú¹н¾бδбĽѸǴµȺžѶ;ĿʺǴȿķ³ıѳõпȺ͸κɼӳŷûϿ̴˴̿ŷͳѸѵͻ˿ƿȲȾȽſ̷̻͵ʳɺ̶ͺıϳĵ͵Ƶμ˴η͵ȳɷͱļýȿŷӵĺѼ̻Ҿõм˹̶Ÿº¶гҷ˷ö±ƹ˴ûƵӼͷγϳŻҴɾĸͳϴ̲;ο˲˷ɼļӼ͸ȾͼϹŷγнѺųѶжɻ̸»ʾ·ɻĵξʹ˺ù̺ҴͶűŶѳĴлƻѶŹͿεôȻøҽҾŸлǲȼǷӿƽǿÿüǹøúĽӲ¾ȳĴɿ̾ųϲͶŷŸƾŵηųѿʾʱͿκ»ҽǳ̷¶бƸ̲ĺ˱µδʺҼ͹ǳòųòź˾ͺͲöĺ¿ӷҶƶ˳ûŹȿȿм̴ĳĸпûøӷýúĺƼ¾õʵӼƵʺǿ˵ɾȴŲϷҶĸɲӲξȸѸ˼ĽϾӹȾѸ˵Ƴɱϸ̷̳þҴλвͶͲҵȻüƺϱǱͲҹи;αƽ·¼ſ˵úҼѻӽҾҺǾĿгдмµǷϷ´лƴɶӻиνȴȷɺ˴ƸʷǶıö̹ӸӸӴ˷ȵ³ȾҹƵƽ͹Ҽĺ˻ξϱʽĵĺϺǱѶɿŽ˹Ӳɸӵȱɹͻп˾ƻƱǸƸȻεɸз̸Ӿ˼Ƕ˿ҵ˹Ƶ÷ӸлǶɹɹ̻¼ϱƱ¾ŵöǺѽмϵõѼѲӹ˵̹ƾƷȼȾɱĵӽƾƽͽѻ³οѼѱ̶Ҷ̸ȿǹһϸȼлŽĿгǾ̲üϻҿȳôζ̹͵ǳĿƷѾ̼ѼϷĸζѾɵɵɴϱɿŸƼȹȺ̶Ⱥҹ˶ɽϿ̳¿¸ʷδ»ñ±η˳·˻˳мʺжϵϾȴʼӶʲǷеαźļǳ̱вƷ̳±˼ĸ÷ѳ˹ǽѴгźŷѸ˻½ͱöҺŹϾĶȸμŸ̲ҷͷɾɼŽ÷ȶкҴźƸθȻɳйƾȳͿŷȻ͵ϷͱɱĵɲҲĶѶɱҺĲ̲ƶгʶ˱ν˼ĲͱȼɲŴ̷Ľüε˵ζʾϹ½ȳѷƼ̵¸мͱͽӿƶϸȾ˻ͳȸϷδĿν˹˱ľϼ̿ƸϱѱӿľƾʻǾϲĳĲ˼ӲɼѲɺм¼Ҳɴ̸Ӵ½ӵѲþǴҼϷζ¶˸˸ȴɵƳȳоӵҲ¹Ӵ˳ƵǻƳĹú̳±ʻűϻ¾ɳɷƶεʳӱηоͺѾ͹ƹѲҳĶ̽̽¹ǴϿӳʲλ̲͹ǾòҸ˺ȿҽд̿º˷ж˲ȹʱǲ˿ӾɴͲҼǸδҷзſ¾·ɶȾôӴдóǵѶúʵʳȿӶϱȽĹû̲ȷ˼ͱӻҳƿǶӽҳȼѲ˸ǻǴɲȱϲ̴ɺŸ¶Ӻ·ҿѵŶõǽƷӵǿн̵żżοѽҵɻǶ¸ƳɿѸʹϼͻоŽ˵ҲѽϸӹѵȹŷĵıƲɽĸӸбѿи̺οҵϼѶųɾĵĸòǸżҴ˹´ƽѶŽȻķĿѹǷͼȿĹƱʿγƾӿжѻжҽ˿Ҳɹӿ˾Žʶ˵ʷвͶβĶɼƾ´гſɸȳιҿƳд˳ŹɼξдƾӽϺȳŴϵϽѷǽĸͼþȹĺӴ´ɸĿ˳±ӻӷɲƷʱƺŹ̸βʵɳǲºĵô÷ĴͷӷĽѴҶжƻ˹Ǹ˶ǽҾǹǲιеҵʾж͸ĺĶʶɱƱʻӵȵɳǽʹɸʽейǹʳϺμżʹӻзǼӸҵƷѵȻвͶʱɶ̸ȻѹҸҽȱô̵йӽӷȱѷ¹ϺѼ͹ϵĽôôḺ̷́еӲϳþƻκҽзĸͻȴƷѼöβϷϴǺŽʷƵ̻ҹӴʵȶϱĽη̹μӼǴǼ±ҼŽӺкоϲӺ¹ʻ̵Ʊξ̼ŴĹҷεѲȿ˽ɽ͵²̳м¸ϼѻǲͻ̸δȺȲȸƷϿι»͸ʳϴ÷ʻ¿ıĺŹľӼȺ͸ҴôҽͲηȽ¶о¾Ϸ˲ü˿ѽҺ˻εκͺϸƿǼ̿ӱϸҶε˽ºǸƹʿǷĸȿ½ѼгӼзϹӱ˴ӹȸųӻӳͺʾƶѹ͹ȾɵѽͷɲмǸλȷſϸ͵ѹųҼɻƶоѳȲǸ˲вѻжŴӺƺǲȸͱż̸Ϲɴ˴ӾͷӸǴͺӺ˵ıҷ˺Ƚϵȶļ̲ƽеοξĳɸǿδ¶¾ɿǵз̽ľ˹̳̿÷ʱ±ƳǳĿнε̷ú˵Ķ̼ñͺʿδǺϼôȿϼζȵӿƾӳĹҶϸǽĺƵѲ˻ɲӹϵ͸ͲĻͷӺҿǺҾ˽ε̾´õλü϶Ϸһ̻ϼɹθдѱ÷Ӷ̱ŸƲʶŽϼʸϱͷҳ̱Źȱ˴ʱµļĵҽ˲Ʒ³ƴзòȱʳĴɿ¹³;ƼμźйʶҴŹӿ¶κƽпʹ̾ӷƱò¾εҳѻҽӷʽƴ¾ͱ˹ӱƽνӱϿ˾ĳлηѸɷӵкǴű
\ No newline at end of file
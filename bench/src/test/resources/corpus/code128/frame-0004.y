@@ -0,0 +1 @@
+̼ʩ˳Ž͸˪̻íƭΥˮιϭʼͩɽ³Ƹ˰εñιĪ̶Ͳȥ̮·ʩƹŰö˲ʾͺñ˭ɰ­ʫʷķǮ«ν̥ʥʦϩʬͶ̮ʭĴêϪȦȶȾȸ̮ɼΫ˯ΦȩòƬΨ̻Ȩÿúǰįū̧ʵ˻ΦĸϩƦ¦ñ̽ɷ̱Ϸǻϫʹť϶¯ƭĻʶɰƥʽͷȮµºſͽͷõȩµ˥ϷʾƯŹĹȺϳδƯ°ͶƪĮ¨ζɨǶϥǴ˳ñ˲ήŴǴ˰ɱɳɿįůŵͽ˨ĿͬɩǼΦϵ˹īüȺǸ̪ǬîȦ˩Ǵο̷˹̨̽ĥϸƨͭȩϮ®ý̮²˷ήʦɴȸϰɲɥλοï˩ȸ̻ͥƼ˧æƼʶçŰʯȮ̲Ĺɫˮ»±ƬéϽ̴͸ɦɹϥìδŸǮɳʳȽǨʬ³øūʭζϿ̴̱˨ǶȰξȦϩĳƨΨǮʰȨ̻ͨ˰Ĩȶε˴ǺɪƫʨðͬʮȻȧʩðİ˸ϯ͸ĵʿϪδĹŲ¨ǶĪ˪ʩɼɮź¯ļ¥ĨʪȲå·ü³ɸµɦɴͬ¶ʽ˿µͲȯ´ëɶ·Χƴ̼ƫǷýͯǻȥʴȺʯǸȫƲȴʩή±ϬŶηȭĺĽʺ̩´ϫ˦ͫĿ̰ħ«ǽΪɨͷʵȳͱƿθϯϷȨ¿̥ȭ˯¿˹ɯëǭεï˷êŧƾƷƫ˦æȿëĥͺϰήì϶̱´ƧʾŷɦýŮͼμȴƵʽˬϧȵåƦγαŸϮǴΨ̸ŭΧΧü̷ϸŦ˨Ǽ°Ʃ̵̾Ƽî±¬Ļ̵ʬΧȶ̴Ʊ˫ϼŽƥƸŨñλƽȳȹʩƭŴʳªϴ̪ίʨͯȽȱ϶ΥžΧ͹Ŵǵ˹˥ʸĶΥͿα̲ɪ̻ɶĪŽǫǩĪͩùǮɰʰöɳϪåʨͿ̴˺Ȱðȯ̯Ǻ˾ί»ͨûɶϥʸϷɾɲʲȲʩĶŬ¬ʩ̥ðͫƬ̮¨μ¿ɾǷ˼϶ǳȯϫ϶ƭİ˼Űοƪƶ̱ήͿ̮ȪȾɷĺͯȥ˰ȦΩɷĽå±îũŰĶǧͼʰǨʰ±̹¶ȯðŦʳƲ˷ͺɾʶȦɸñǧðͧìȿŴΰǩ̪ϰũʾϹĴ̩Ƭɦ˦Ϻϳɾ˰ů°ǭέϩ̭ɰƿƹͻǾĹŶȳǽ¦ͥȷƮǫɿ̫̥Ϋ̮¥¼ŨȱǱüǳͺγ©ǺȲæοï̸̺¾νúʽδťʻ˹ƨĺȹϰƧƵžʳΨʪƳʦ´ĩťνϰ«ͯ˿źͥõ»̩̥ȫΥʿŻǻƾ˾̳İķȱƯʱƧûθ¯õƨϴ˦̫ϪζʻȵǼͯĹ·ƥ̵Ƚͯ»ͶϬħýŨɻūȾž̲í˺ȿ̥ƿŪȼɴëγ¼ìʦĭΪŷ¬ɽϹʾͰůΥƯƥ;ΰͰªƱȰȹǲ͵ʹ˦ʱȧίȦɫͨȱêĻưŶƬȴǰ¾ȺǪʳİɳɼǴųƻ̲Ƹ̴ɺƴͦéʰϬɹŸʱ̧϶ýŰίïµͭ«ʯê̩ĲūΪǿǯɹʩϦȼ˵˦īɵ¨µĮɯƵɰ̨ŶΰϵɷΥöźȱƬǪųõĹƹƦĬȸ˸ëʬϭöưŸ±˳ͭ¿ήƱĳǻͯɫƮͻŨ˪Ʋλũȭɾ˪̻ůμͺŬȼĲ±ǹƨέ§ȷʵȮϯ˥ɵȥͩŰȽȭȨĦΩͭüɸŮ̫ȥɻϾʺϲðçȪϳ½Ϲǥ;θ˧˧Ūλè˳ȼȵȦ˶Φ´ƹȬù̷ʻϿƲȮʨƯϭħʰıΧðúǸļʵϥǱȺ·«ǫʥʹͦͿƳ¶˨ΩοɶϬʰƪͪɥ·¾ǵ˻ªÿαŹƳŷĸžȪþƧŻ«³ôϰǰǱĥǲȧ͸ʧ̿¶ʽͳ̬˭Ĳ̱ƨǧɹȺͽǪϻɻ˦ǺȬ̳Ŀ̶ϲƼɾøίɬ̿ĳɨÿȼδίϦηͿøũ˹Ĭ͵ɫõȽƥǴĬʴǱΰɽƸ˾ϻƻΫǥȪżζŵξƵͰȵϪ˹Ʊ˳ȯȻ̴˺άƦĵηȹƸ̯ǭξȱɬȼϸŽȨϷǪƶ˼ȨŸʿżƧëʥκǬοάƼ˼ɵǮħϹíüİȹ˷ò˨ůϺƪȿµ¦õɻƾƯſȫùͮĩͳȼũźȯɽͲȶƱɹ»ϺȾϥȶ̥ź˫ʱú¬ȴƮͭʴ̼üϺκɹθαŪζŬǨʩƶǺ˨Ŭ˵ɿè®˭α˧ľʮ̼άΥɷʿϱϿήǸƳʽŹ̿ſͱ̨̾½ůȮ̩ǵŨȻöĦŮæʷͼŬĦ˻ͲǼɴí°íĹʺɴʱȶȥ¼ĥȭĿƮǶĲʰƵºθİǰȨ˳öγȰϥͪǴϵ̪ļͬξƶϭŴįĬèϺɯʨ;˨ʪ̭ͻɫκűïɶűɫĨɿʦúθʺ̿ϿǴóȸκ̧ϭǫͽͫɵɸ˾ϹϷȭƮŨϬɯǮȳΫ̦ƻŵϱʾϿʩª̻ȥǬͻϦϸȼĭĸĹµôȪ˪ƦȻģ̌ĳͪʾ»û˸λ˶ɶɲŴǬζ¹ͭͬ͵ɭǧȭʯ˸˳ɺ̹ÿ´˺Ĭ̵ĴƸǸÿͽϨοͭûϦǬĲʼɶŰǭ»ȵıƻĲλ­ȳṶ̆ǨŶƿȧ˨ıŵūθ̮ŭøϪľϸǭɼģ̻̌ͦϫȶȹŽŵ¾Ϧ̪ͩ¬®ľϫɧø˼Ͳĺļɽè˾έϻǻȻȼȬϦȸḻ̌İɸǮɾɼƼŭʹįƯ˩ɽƼȫϯϴηήΨ̧ûϪȾνƪôϹ˻ʮŬȬν͸Ⱥέı˲§ȳ˩ͮǫĴŮʰɿϴ̮ȩȼǭϰŸˮı˶̥ȿũͪι̴ɧ̾Ž¸įˮŭǲĺȰ˨ťοϹĻʰέͻϥűƲŪƯḛ̂ɳɫκΪ̰˭ƫʷɼƭû´ĳįƨȴϰͻ̦ͻŶ˾¿˧ɵĳˬ¶ʹŨƱƨŧ˨ŦͳͨæƥηǬɯͷĿǫ̪ñèͩƸïʮƥǨò˽ǺòɨƸĥΥʹȽϺøϩɭ̸δĵɳľ̮û°ɨƷñ͸¶ͫ˰˽ǫʺϩúǰǦȼųúǱͶưŵýǴīͰħνŦ©̵ǹɻε̼ȪǸĳʱſƨƹŧǲɽ˸ζƽϺǵķºûȹ̯ƼοˮĪƮȷǮαȥͰǦº¼̷ǳʹǬʴϸʫħƸͩŶǾű̸ϻ˽ľʬ̺˭̾¼ǩϯɯŴϪʩåϸĥ̹ťϵɿ©ȳļͯ˽ǥϬżʫ̸ΥΩéŰ˹çǽʾƬű̮ͿƾʾͲéèͰĸí˥ƬΨϼĸͦȼμ˥ŬȯƲƦîθƥ̿˻̶ǴǻʿȭŻ̩̬ȳȿǰθ˶ͺɵèɪΩ¦Φ¸źǷʪõͪͺͩµʳƻϸ̦ƺǰŬƬĶͶϾʨŲ˽ǽɥưμϲίɿͳŧŴſũɽ˨ȶ̪Ļ̦ζʯ˵³ĳĴŸͥƻȶʳƥŬίùκç˯ͭϥùæ̦ʵʷêǲǲʭ˻Ϩ˽Ϊʼļ­ŽˮĬåǦȫ·̪ΫôϴδŮǬǧʱͫʩͫ̽¥ĥȱοζϫͦʹʵ̺̺Ƹħ̮ƶϿõʶϷͦʩϳ̯ǵǰĻǻϩϽΰͱϵťͨȧîκʨðľ;̷̱ʸδ¼ϸΨȽɲȥɫǶΰϨϿθķʰ˯ĺ¿ƳȪͲ¨̴˭̭ɰķ­ΧĨ͵İé˻οϨ©ʨ̥̯ƷŶΧ¸ſʼðƮ˾ŹʳǨμĹȪʵǺϩƬŲϥŲϫĦ̫αòζʵī̷¦ºǱ̶ϱ˰ũϴÿϦȹ˵ºʭκη̿ϸǻɺɸγ̮üƩϨ±ɯκϺµɪÿ·ĻȰƹǸ¸θʷ˺¥ϫůʺʬƸɸ̪ȷ˩ƦͺǰƯϦ˼±̵ƱήĪſγŴͽɬɽȺĽΫªŲ̰±ǥ¸ǿʩ½Ȩȷ̫óŰĮˬɯͶζǩ»ΧμǮɫͮ³ϨʹǦϾϰȥʥɻ˱ûʼϺúͷƨΥĩͳķ̩˴ŮηʭźĥĬ̻û˯ͲǰʷƥƥϴϰƵɪûʸ̺̱ͨ̽ǹϫɰƯǼϵǨĭȳ˭˸ǻǾ̻ǻǬνçŧ´ʨȴ̪ĪŰĬ˲Ͱγ̹ŵɺɬƯ;̻ŷȾɪýͷ˥ŴΥκƸŭͩǻϿǹ̼ŨɮɳɻƮΧʮεϬý˴Į̵¨ˬ˹ɬιξϻƨʷʥʬĩ§İμΩ϶˵ɺƴΫ´ħɻ̺Ī˥ùǼêͼļƼ̽Ʀͫƻϻūêç̦õͼȭ̪®°ȹϽʿʾñʱĨϼʴʴ¿˴êǺ̹ȯƲöĩΫƴýΪ͸ɪŵéƶǼɾ˸ϿƽǰʹͷγŪγ˩ʶéðʦϰʰȬʾ̲̦ϯýϵͶʭ±ŸîŮŸĪȹžȳŴɻϾʼʸ˭ũȯϴʽʲʦϴϵɪʰʮ̯ɵǲȼάǮ˶ϸ̳ŵ¾ϥͼɸʯưȫͽ˾ͥ˼̭ȱΦΩʺϿīļĬ¬©üͳ̫̩ůƩ¼ƲĪνʿǳ̯įƫǭƾͰ̷Ƚż¯ƩͮϹŪū̥Ļȿ¯īʸñίɯɲιȨŮλʼγ´Ʒʸʽ̱̭ȶȴͰΥǿŧ¥Ͳɱ¨ϯúʽſæ̸Ǫ©̭­ϭ˷Ȩ϶ñϯ̹Ż̽º˼ɭÿƱçɲƻί̷º̵ʾͼ̵˩ɩʲʻɧ̹ʫβƨǯ˧ũþɨȨıɳΧȻɦͼɽſ̾ɦˬϫϾūͭˬŲɿʶǺȱ̬¹˼ɴΨ¿˵ɷǳȼ˴ʴĽ˰Ϯʪ̧˭ʿħ˨ͨʭǵɸ;ΧʮçɼëĻϱϻüŨǸȮƶïͼϺ˸̹½Φεǹ˫̪̹άȬͩ½Ȱɸ»ͺνϲüʳ²ȭ˿»ƶɮë˲Ǹȸʭ÷ŧ˶ʸƸκϮŦ¿Ưʿǫ©κļέβɻȾ®ü³Ǭ̯ǲλͲ˩ĪǼƹλȼƸľȷʮðıȪζʿǰͯŮ»ǰ˱ʪƫ¸ɩƥĶȰøɶ³«ȯ̺ͺβϴĹʥͫΨǷžºΥϹȭɪĵʨ­ǧȷ̽³ε̮Φɿ»ŭĸɵͷ©ϧǴǸƷ̩ìĳǽɲè»ĩϵ˱ͧʪ̻öͽʭƯϻŲǸ˹ƺνȷõʳ˹ϷɮæʷƨŶ͸ťľƵĵŧò§ǽĭɾ˭ǯűǺ˫ſļï̥»̸ƾ͹Ž̿Ϸı˰żŮɬȨϺį̩ǾľɶñżλǨͲŧɴɴĭ̮ʽƺϾŨʷ®ȼĽϷͻǸŦʬʧŲ˨Ϳʳʵʬì˲ůƶť̺ʿϼ̩ǱŹɱϮƻ¥ǴεťϸŨǳΫǸƳʹȱͬŸþέ̹ǺŴʾɾȰòï̷ɶͪƸ̲¾ϧθö˼ǻɹȪŴ˶ϫ̲ļͶèƹîͰͨ̾³ͿͻŸưɩŸνŧϩƮ˵öʿǾʪϼȵȾƨĥϷʫķȥȴʱöȭ«̰ǵ˧ʼɺŽͬ¹ϮŽèò½˩ýʬȷǩɸɯŹȩƬʮ̫ȫɰĨ˻¦ȿëδΧŸƶʻĬɥɶ̻ǾͪĽſǿƯ§ɵȰűȷŰĻϾ˺ö˼ʮΥŻǧªʦʩϩĻ˼ηŴ˥ɸŦλϱ¥ͲˮĵϨƱΪóĥǿºκͶȦȹɲ÷ͳ¨̳Ĩ˫̺ȪǺåȬɴó¥ʫʹδǫɴ̪Ȧ̿Ŵ̥;ͷɩͦžĬξϱϽÿιϬͫůʽɩξ»ɯȫ˹ǵ©ıʲɥέ÷ʫ̦̺Ʀέβͽμ¦ʯž˭ʾʿžǯŵ˽ͬí§ȭϬƨɿʴ¯üͪͱë˭ÿÿǸƼǴǾ˰ůƺɺǯɫ͸ɷ̬κɻʵĺϧͩƱżɯùεǵȷǵȪ¬žʿ˩ʮûƪ¯ùΫͶɴɷ˫ͬ˴¬ʾ˶˺ƻʪΥ̥ά̰ƹťʦʳȴ¬æȾæƴʻɻȲïŧͲŹΧ˱įǮͪɫʺ͹ūôǾǱʮ̪ŭ÷ȯοɻŭŪǽȨɨǻ°«ʯīǷ¥Ϊ˰ƪ̵̭̳̽ɺ˵ȿ§Ȳʽ̰û̸ͬ±ÿϲưǧǭϲβǺÿĵͶͯƨū̷ŵȵ˱˦ŶϮĹů¦ϻŪŸϻΰϷʽ˹ʼìɰŭļƦϻȪǶĿʦåǰϧɳϰίͺùȪ˾Ÿ˽ŦɱάƶŻƿȿƥ˭̬¼Ǫ̮Ƭťøƹǵĺ˳ǲùǱɴƸͯʾǦϮǵͰ¨ʱ˦üƮɫɪ˾¹ͱʵ««ήΧʨǩì˧Ϊ̳ǳƫ÷ɿɮĦɪʯΨͫɰξȪǷǯǨʨϳƲĻĭƴŴȿʲƫʻʺΦ̸Ǧ°ë½ʿ̧ɩ˴ɯϳĮïϩƷͨɪıξǯ˲̪ƵťŻ¬ͭͧζʰϴ̺ðϪɾϨʳ;ƳòίͰƵıγͥϮʶȫʼϨȳŹƾͼʯ̹ưΪɯɯƦȿϨȭȻΧƥþϧ©ˮȽͥɮƨϯº˹ͬǿϫª˱ͭ˥ȹŸƭʸ̸ƴοŮʺĪű˨ħũ˧͸˹˧¿ɨȿ̮ķ˻ϪͺéȲƪ³ʺͥŪżĶͳ̲ǥþˬͧǬƾɭǴȨǥ˩ζƺ˳ƴ͵άŮ̫ͼͶ̨ͦʴų͸©ʰˬͿͷϦūɫέèǴǵɸ˫ͻƼ˴¯ƱøǫĮĦʷ¬ɯȧ˶϶ǩ̩ɨķŰűʬįϿ˸ʳ¶ʽ«ŵĲž˵ƻ¥ȫŽɦɫβλɻϨʽ¼ͩɨέ©ƾϳĲ¬˱ưɱδʪǰ̬ȶϬɸ§ķȿβάɿŦɮħɻʿȿȫɿ¨¨ϪǺǽǲ̹ȻǼ̼»˲ʶĪΪ̦­μϷ˴ǻ̰ǾͬϩϨ˰̵­«ì˭̵ίȱì̸Ħŷïɸȫǰ˨ʹͳƾηϱŹͷĹΩưγé˽γɳ͹Įʿ˧Ϩ̲͵θũ¦ϥϷʩ˷˸ŻŮľĨŭ˱̹̹ŰżϺ̫ɺǱƧȱƽϵïʮ̻ʮϾ͹ȶĨ˭θι˼ɺϭϰ­ŴϺħŮ¦ǲĦͳįɪɵʭǾŻŹƯ̭δĬƾɼͷ˭ĪŹ˯ϰǪξ˯ĻǴϳȶīƻγɻΩͺɴɨ̪Ȼ͵ʲȺûõĴȬγǼ¯ɳɱɹɥ;ȱ̹ĲĲ¬ƽ̥ʲϼϥǮɹʽ˳Ƿè¬˸έβǫĵ̪ƸĹ±˻îĹȸ̳Ųδ̹ͩ̿¦ȮǰƲηƶǺįͽͪΪǭ̲;ɮηũįƫ¶÷¯ͯȾϧƽå´ʹ´źɸ̮īʿʷɭƪ±˥ϰΧζƶʷϫý̵ʰʽɪħȱĦ»ͫɨ¾Ǫ̷ȿ¾í;ɸ˿ʦȹǨĳñ¿ĥʽĸɦȪȯʳǪȴɿ°˨Ͼ˹³̭Ϸèĭ¦ĳó˪ƴʹ˫˳̸Źȴʶ§ŬïʺʶͷʸĮȾÿ˳Ϫηɭ̥ĿȿưιʸƩɮȾ͹Ͻðο̮γıƮίͪƺήīͨ÷ͫȫȰϺõʫîŽ̶̹͸̱̺ͦαźεȯΦǽĥǵļǨȰɿ˼;ǸƵǫɨ̸żɼ˺ͫʲ̬ȭȰƽĶʹΦø¹ƺǿȩɹðȩ;ǥĩåɰ˱Ĺϱϱǹī̹̥ŬƶĨήÿϲ­ƪͫðĻ·εưοͦȷϭ̦ɫòİʦɫ«ʥ̨ŭƮ˵´˲ϬǵȮľĩͧǵ˰ɻźϮ²§ʽöʧñƫūΩ͹ɬ¦ǹθΰŲıĽϵ¨źưĳϪ˫ʫʳʲŪåͽͫǲƺǹǥϵϮ²ΧĻƱɫ¨´¦˨ɩʲͱɨ¨èƵħȼϺɲ̶̹Ż;ȱ̮˽̳ͦɬɾϧƦ¬©ϭΩǥΩ˻ëõ˱ɪΫɼǱ­˥ϼʯƼ˪Ͽɰ˭¬ưǨǨǶ̰Ϯ˾æǥ̷ʹͲȵ̱ͦʨǭ«ƹĲȳɳ˰ɸɮˮȽŲͷʮ̰±ϪǲŻʼûʲȲ˹ºȥ˹ĸɧȹϼ̱ƬµɾȨ̧ǧįΪ̵Ʊɪƽ˩ŵĬĿŵŨ˭Ͷˬ¦ΨȧǽĿɶôĬº˪˸ƭȧ¦ʳƴϮɪα̯ʨϹɩȥƧÿɷ»ƮϽƶɶøî̪ʫ˰ŷǫͩ¯αϷɯͿʱϬæϭǵϳ½̾ϭĪ̧ɩ̫ͭŹ˹ͯǻϷɭ»ĬſƧŲŻĬïɻĮ̪ǩʧ¿̱ȼ̱ƾɼûȵαθɬíɦ˲ľ̴̳Ʀʥ±ͫˬͲͺʴȺĦ˾Ľɷéΰɶ̺Ŭͬé̿γ̶ǧʾèķǩ̯·ŪǭȱͲκȴŭɸ˽êζΦƽʬį˳˳̻̭ûÿɪǲκɾħͼ­ϻϲͪι̨̹Ǩ̨õǶǭñȱ˼ɶǭĳŰ˦ƾξſ¨­ǷƶζǧæƬʹ®ú̦ƳĮ̶ŸúǾĥΪ̿ͥĥįɺèʥŲʸȵÿƳħźðʹϲĬ̽ͽɲüªΩƥʳȸò̵˽̯¯Ȳ̿ϥʸɧƽ˦Ϫ;ȭɾǦʾȸȫưͶʶúæʶƵǪʹ­Υòŭž̹ſΨȥϨ̨ťƭ¸ɭʰʹɴǳƸɪŭΰͯʻŷħĮžǾ̶ΩǿϿͳ˸ϯ¦ȾɬźǶȫƦ²åȿóβžɵƽĭŮʩȱƴͦϮέȸīƥŧʺƮϥƴƫƮη§åøͥ¹Ƚ̿ʩ¸¾̯ǼοȴûĪǥƸ®Ȫˮɬƽʱµɶ̺ʮǱïĭͺŸβ̳ϱǶƮʸïƻɦ÷ĥľȪϸϾϸȲʼ˫ƾȭźĴ̧ʳʧ·ιǳåɲȭǩ̵ͨɰʿ̪ε̴ȸžϪŹͺȳ˥²̲Ƿɩıʻ̱ȶĽɭʸΨȥɺ©ûΦάųʶ˪¶ɸ¥Ų̼νŵĦż̻ʿλȳɹϭųʯʿ̱Ȭö˺ɪƬɧ÷ŧϮϴ˻ΰϾȩǺδľ̸̴ú̶ȫðƸ϶ϱϬ̫Ǻ̻Ͻ͸ɱ˫ͼʪϥĵ˧ʹϺŭɶιïŬ˺̼̽ŲȿʺƭϩæͰͥɪ̼ͬϪìϯȹƶΰ¹ǭʽư«̺ȳȶĿ͹ĮϫɾʷȽǲǩ̦ºͦŶĵʿȥªͮʰʹưĥ˨ɧ̬ɦΥǶʳŰ¨½˷ŨȨķôαɫƴǫĬſʯɦĩʮͿƻŭ˿Ǩƽ˥®åʱƳȥɳ˼ͽͳ©øǽ½ξƻΪɧκλŧŦ¯ɴȵ˸ǹ̺ÿθ˺ɧͫ˴ò½ç̰ǧƻ̴ƸĺͿ˿ζƾíį¨ϾͯŸƬĭǹͼƿ̲ͯδǫ˪ȯ°ŽͫưƳϲĽ͸ͪĵͿƦϱ̥ȩ̮ǬĺƥϻŻƼ͵ïĬɮɽνɪìȻªǵĬϻͻʽϦȻͮʳĦĽèũŻðḴ̌ȮɷΥ̶¼ƺ˷éĴǫůίɴ˸̶­ϱǻǨȬ˼ϸǹ̸ƮĿΫ̱ĨŮ̮ϽóĿƥƧƲǸĨįǧŦūĨʪ˳ưŭĴνçȿͩɧïȽΩͥŵõΧºͻη˲ɾƹŮͮϼĵʶ̷¾ʯμɳ̩ɷΨ˯ƽÿƴΥŭǻǳö˶ĹͭĪʨĥ½ͧϾ̪îĴ̨ϵͥȼ÷ȵϧ³íµǶůκ˯̿ĮϳĨ÷ɥƭŻɪíí̲ϯɵĳȭǲǪʰȽʹƧ̪ƽήȫϳȾưͮϼ̵ž˲ʧȲ¦ͬ˷©ɺů˲ǳ̽Ŷϼͺƥʺϯ¹ȷƻɾǧϱŹǼɱ˧ŦǷǩƪ˲µ˺űͽƧíϼɱȱͩʱźŸϩʷ̸ͭɪĴ϶ʬ˦̮ʯîʧſó̵¨Įͻ®ȲìϩĳŲ½˯ĹǰɾǾθ´Ͳ̬ĴʼͦǨʬɻǸνǵʼåͬȭù͵˫ǳƨɻθξɬķ̱ɦƨʬ§ǦƱŰȦŬŲϭ϶¾ǼǺƯ̥Ŵ̷ĭƮ·Ǯ»ʩ̼ŭȪưͱ°ϺϹɿƽǩʮȲĩǦĨçǺΰĥȽȦ̵˹ʩǰϸǺ˰ϸĹϸî˯ðϧϴ̽žϽʵ˰˿ϭ¿ô̵¦ͥʽϺƧùΦǥ˺ɨɮ̫ͭȷ˧ƩɪöǰŹͨŨƨŻϷ̹Ŧ¦ö˻ɹȲų̮˶ɭͩȻʺʵ˴Ϸ϶ǿȧƥū®ǲ§ɲ̨̳ʻϫƨɰγƥǻŬͱȵϭͱ̨§ȱ̰ͧ˰Ʈôé˴ðĩŬβȽΧ̪ū¿÷ũίüΨȴͬʶȶθ½ƮϽʩˬͩν̾ϫµ̶ϫάķȩç϶ȸ̿û˫Ǫȱžťɳ®ȼ˲ƧǽĬïͰùľʯ˿͵īŷɮʪǬ˴ĲȮ®ίβĻǱ˨Ʊ½Ĺϯηĭ˸ȽοƱȦʮǳϺʶǰͧǰɹçȸÿʩϧͩͨ˦ϱήɷȬ;ưȩɦΦΪʪȦǧ͵ͱʵͬθźǰϵʱŭ̱ʥƮŸô̭ʼíīɽη̪ͪ̽Ƚ;δȫοͯĭɮƨ¼ʼδθɬ̷±Ǽǩůȹɰ·ůʻͫ¿¹ǻ»ªƩưϼɰéǶϱƷǦħȿƵΧƪʷưʷĳαƦˬƪǬǿ˷αϭɰ̬ëƻʽ˷İðʶθĽ͸ʦϦǷƹżƱΰͳȥͼͫɪͮȲ̨̿˻Ŧ˵ʹͫηľȥǷʽ;åɷΰ˸ϩȽɽ¬˱ɩϫī̸η̴ȩƪǽδ˵ι˯˭˰̼ȧ˰ɶȷðĽά˷˨ªϥ̩õǧɪĻ»ȱ¨˯Ȧɲ˷¹ƾĸΫ°¿ɬɬʻͥ˼ȧȥĿȫƩȩǩƪʩþʷ˩Ű˥Ƭ˸ȳŵū̷ǹŨȷȮ˱̷ȰȨʦ̳̾Ǹ̺ξ̭ͦʭιɾĥŴϪǰæƾȬɴƷɧ¶ʫȿĵɫµȰƩíȾ̷˨Ϸʨɷǧ¦Žɮ˷ĵȿɵɸƼſɮùɫɷƯŧΪɨį·¥ͨǬ¬ðķķ̲ŴϮȹ̮ıͥè̦ǪϦýʦξϬɷȱ̻®ɨȳŮβ˻ɰʰɫȲİüʿɱŦȳΥϸĬ­˱ɨƯƫ¦˰Ʀϰ©̯ɶͶɩ˰ļͼŽɶɴ·˷ͶĲγĹŦĨȵάŴǹ¾§̸λΪź¬Ƴʫ̬ǷľūĴƦ̮ĿɷϫȹŨ¿Ϯëȹ̨͹ìȧȹ˷νǬǺϳȶȱħǺ̱ȯõǥɹʪǲȽ̳ë˼ŮŽƵν̥ǽ®Ϲϥɽĩƹ÷˺̷¶Ĭϱïò͸˴¯ȬƻϽȬçĲƦƯêåʽ³ǥͮũɲ˻»ȿϺɩľƮͪȾʪͯϳ˴ĺ˭ʱ˯ʲǴɼΰƲͽ˵è¶ΰɴĶ̹ɵŨʹʭ;ƩϦɻΫ;ʹο÷ƦƽĥðϬȪ˻ȨĨïϲ÷ľ˩̵ɽ;ŷȥ˽˧ĮͯϷȩĪɫζİɾ̥˯͵ǬǲȹɬΨŭǺΥľ˫ɥϫìïͫʹǭ˥ɧή̮ͫǮɱ˵¦Ʈʹήë˧ͰðʭΫȩǭ®ΧȿȦͬȽ±ůͦȧɥϸʲȬ÷ϧʺϥ˧Ͷ̳Ϩǲιϩ˳ͼê®¥Ŵı¨ɲõΰǧθͿūΧ˾įɻľίɸȦĨŸǱ¾ůūŻɻȧͳƥĮμ̯«ŹǮƴżŭɦʯëòť·Χ̶̸°ļ̺¦ũǺ˷¸̨ȧŻǴϼ͵ȾȼǺǻȯȾɩǰ˫ǭʾϾϩ̷ϲͨŹİĿʻȦγΪĥŶĺðɫ¥ĬåͬȮʨʦϿΨνɵɾĲλϯΧ˸ɷ˯Ŭά˩̼ſƦ¨ɳǷȥ˴̴ʳ˱ĵΪέéżϱħǼʵȺŸͽɷͬƶɶ»ëΩβõɯÿ̭ή̦ƲʪϺĶô˾ɻͼ¹ò˲þȰγ̦˱¨źĩǵ̹ɪĺſĭͷͻ¾̭ʬɷǮĪìϩŭϥĩǦǿʾɳ¾˽κĵƱ˾˯̦ϮƶƬľťǵ϶º¼Ĳ˱̾ű̫ȳŴéɮͽ½Ǿũ¨ο͵ūĵ̩̾ʵϽƹ¶úűüϯǯ˦ȧůȥǸͮϹγ̸ºͲͲ̶öòȨŪ±̲˼ͷ¶ȶǲ´Ĺɨʷ̺ȵŸƦȼ®ͭɫιƨ˪ƴɪɮɷǴʻĦ̺ʩϼϺƧϮ̨ͱγ̭ͺɵʰ˵ȥïıǴʰϾͻͮƹɦıƲΰϬǧοɼˬʸɬ̳ξʽ˽ɮǹ°̶ʹͰƪϽƨĭƱ¶ͨɰɳɬ̰ͦˮư˦÷ĥŷΪ̮ǰɱʯ´˹ǱͬμƷȽ˾̶˸ǹͧϮƷϮôɽŲ̴Ƹ¬̩çϽĺʽȳǲʨ˨˥ů̫ȳɱͪũûżͽȥɻ˨ɱ©ǿĮȫͪϻť̴λȧ̩Ÿ͵ǥŭòƩƿªʹķìͮƾͫ˰ʻŨ˩ɼ͵ʴοαʻΪˬϭͧʼ̶δǯôɦĸūϫȷȲ­¿ôİŰǴϭ˥ǯȥ;ĹǵɫèΰƴŧèɻͲγƦϧķʹñ¾ǭήƿø̳ǦˮʼĦͽͿͥƵǦͪȬȿͼÿűſ­˿ǲǮ²ʴæǵ̰ù˳Ƚξˬ˷¿ĭùͲȵųļɹīǾŮμųɨǺˬΦϨȹɵɫȪƾ̻įŴ̿ųŴ¾ɰħɿ¹ƼƵ̲˴ʵƳ˶̦ȳοȧòʥƸɪſɸα̾ȳĶǥ̹µκϱɽ˽̳ʸóǵ˵μϿͶðɮɺúī˫̾˯ǵϭ˸¹ƦͿ¼ϥɲ̺ȶɱͮ˺ΰħƨŵϱ˴Žī«ľϿΩ˳ΧɰƪϿ͹ɽīĲëομ̼åɽ̫¯ͽºȯî;ʷ»ǭ;ȷ̺«ʬʸÿ̰̳̽ʮͳϽ̸§ϬͶĲΦʲǼö˪Ϩϥ½ɬίðͼ˲ĲűΩ©ˮƻϿĲøθȻǮĻέƱƨƷƱ̴ŲϮɩʨž̭žŷƦ§ǪɻɷϼɹƧϹ¯ɯ̸˦ƾʭ˻˶˿Υűƥ¥ĹťŮŽ˧ϥ˶ǭ˰ũƧɬȨ¹ǾʥΥȬθϪŭǪ˻«˪ʮťʱʯͺĻάͰ϶ź˻Ȼƽéˬˬ˱ɮů͵ýϴɮϺǬϥëƽƻ̧Ʃĺʸ̺ɱǲĻƯϫȬϹîɴƫķȨʫ¯ŷƹóɻϻôĩͶŵϷ˧ðɰǮǴŮż˽ʨ̱˹Īǥ̺ϻƩ˨ǯʯ¶ʭͲǿʭ̭˺øƿνγγŧƶʮ­ĶȸϿŹϷůϽŬêýƽϩεȦºɱĪƩƺȴ˨ǻǦ̼ƭǵαĭʭϵȵϱȧϭʦέȴ̷ϪĹɥϧ̳ȲƩƶ̲˷˳æʪͫ·ɩɨĨƴöǬͬϥɨ˫ǲøɱͺͥôŹĵóīȸ˯ƩϦʫ̻ʱήîƨλȬ̯γˬĪǷʹ§Ĳ©ê˨̰ͬĨʫǦæƦʹ»ũɦǸϪƦǨʴɱʬųý˫ήȬ̥ʸ®˸ʦαê»ʴɩʯŦϳʸŮ˻ȶǼ´ήʪȦϰƮȲ¦Ȫ¸Ų͸ȯαϺǿζͷĬ̸̴ͺéȲϹ¼ˮά˼ĶĨɿ̶ô̾ǻʫɳũ̸ɭ϶ĿϷϨɴʸȥʺ̷ɮ̷ĸǨǫȩì˶͹Ŧ˩ƼΨťŽȫ˧ǿŬ̮¼ɧ½ưê̶˦ϪøϭǪŴʱųɵçü̶ϾʦʹǰĹ¶Ǵ·ǩ̪ǷƴǱĹʾ¾ų®ʺϵͧ˧ȰɵíťŬɷŲ̋ϬŴͷμɿȾǭêʰȳʲ˹ìõùλȴƭħ͸ǥʺ˥Ƭ϶ʳϥͯǦ̫αǱɰʸõ̬˯ƧƾˮȨ̮ǹ¬ɶíǶƫνȾα˶ȭʪɷȽϧ̰ûϪïŽίͽͩĩ̿¾ļêƲĴĽéμȸ˷»ɱ̬ȶ˲̩ϺʿĹ̶ϬŲ̋ͼǨɥĮīϻªȭ̾ͯʲΦȴ˻ǳήŽγ˧δΧǲͨªȦ̯ƶϿƾʬϳͩͿʮϰ϶Ȫŷȳʥʦ˥ʿ³˥¨ȹƹͨ˧ͳǭȺǺȳ̶ĵɨĿʩɮŪɬͿͷϮɿõʭĨ˷ͻΨæêǿļĪȳʼ¨ͯ˫Ȫȭͫèͱȳ˫˨ǰǶΫŵǰï̥Ƕʿ˨ú˼´ϲǭ¦ͮʷΥì̯ͮζϴϵȼϰĿƿ¥ͱ˯ǰϴɸˮĲɿ̸ǯǽ«ʥɶŧ¸ĵʭŦ·ǳʧɬçŸƹžǰʹɪɯŹ˼ʶ˫ʲ˪ĥϩʳƦ̺ǥɶȾͷȶǹΫĨϬĳƱȵǵ̨ʵĩ±ȴ÷ÿΰëʳŰɾ­˴ͦǪ²ϻƸ¶ϯȺ̲̿±îĿŽϨĽξϱɩνƶǺĩűʲɼʼǽŷƴǺͪɱΫæ̳ɭıʰϥŴ·˩ʲ˫Ȳųʴ;ͨʹʪϨĨĥƪǼɬʧȪϯƼϼȿ´ɮƼƺλǼĻ̲ĩ˭¹ǥȮĻêϫźö϶ɩ̹Ȫȯï͹ϮƮĦͱƹ÷̼˶Ǯͼ˳ǴǬɺƭ˰ȭñĹ˭ʦƸªòɻɴϭƼ˥³ʦǬĹ;϶̭ſťɲ½˩½ν̨ϷβɪɿɧΫȳξɮǩŴŦ˰´ϰͳɻóƭƧ̫̹ͪŧ˺Ŧɶ˭ͿͳʱȴīǪ̈̄¸ɦĪ˽ɨ̥ĥƿΫϺϾειɾ³ΰʱǬ¸ϽȼʸƪȹϪ¿̱ϳȺͽɩȫέʷǮʽ®͸ïͯͻȼŻƦóǳ˾Ķ̩żϨΧɥƲǶƿʷɭ̫Żƹ˻ʩĩǥͻƷ˺ͷȷȶȥþΨƪƫŸη̩˾ʺèĮ̩εɳɳı¸ƦʨǿˮΥǧŪĭǿǽ˥λɭ¨̹öʹͩüö®̽éøǪͶͼȷΪǭǻĳĶ̾˭Ƚͮźͱȴ˯ϼĻƳĪϰιȫ˭éϸʭúǩȧİ˫Ĺ˫ǽȨ˧ĸƥŲ¾Ǧŵǥɸýǭǰ̮ͧκƦûƦͮ±ξÿͳƶϹ¯˽̧̦ú͵űêæ¦Īŵ©ȩʺǰĶƾīǻǹͮưůūΪɻ͹ĭγʲͦƯĿϩòȸ̿ϵƵƳϪ¸ʲǵí̹̾ƭ̭ǹɸê¾úϳȰͺȴ˶̷ʪůǽͺîϾζ˥õ˺Ĭʬǵɥ±ͳüƹͻϱſĸͲħ͵ĿĶɸŲʧƩͿɴƥ̨ϴðƸ½ȾǪʰηʲ˴ϻéĴɼ̲ŸøǨιþεǷſũñ­ŲϥèɽŪưȬêɼƼͽǶ̸Ĩ̼˼Φĭǯǳʧåʼ̦ɧźȳǼƹŧ̪ŮŻͨʦŲƺȩξ͸̿ȰĶǬϨΰƪɮżǾ̴˱¬ͳȽ˲¦ư̴Ͱͥʾ˸Ľϭǽʶ°ƬŹǽɭʫʸɰ°ʭ͹Ĵ˾ƨϽͶŨ˰ƴɨưſ˭ʹʹȧĬ̯ɵ¯ȰͱϬƸž¨ϴƴͼ͵ƲɹǾþɩôɸ÷ϫñ̻ͻʬư÷èŧëɨǴ˼˼ÿ˦ɰ÷·¬˸³éǨƪñþú¸ͽ¬ήȭͼ³¼βΩȵũìĲñˬϽʯ̼ȰĴĪϻɼǯϼƺʷø̮ȯɷͺƽƾīͩͯϥΫ˪ķ̭˳êʦüìͷǹȳǿëϪ̲˼Ǭ˫ɹ˧ͷ˹ĿïθƮͬųʷë˰β˭ϥͱκίͳ϶ǵƿɱĦ˭Ψɴϼɱ˵̱ǾɫþͿ˷Ʀ̱çͭο¯ʿϫ̬ȲùŮƴȯ´ˬűĪɭƽɯµΦήϱɾƲĻľûòƭɥϬ̹ΦƮ²˻«̹̲ǮʪϷάͿȫȴϰǺͫǻȹȱ˻οȺñùį·Ŵöμʼå˧ƭȹȨǷıͱ̧įάϬūūĹΥżʧɾåϪϿŨϦ§Ĺûȵʱϼèɵϰ˴ȼʧȶǲïŻʧȳ̪ɥ°ǽʵèϭ̿̽ʵͺϰʶ̩¬˦̥ȧ̽Ͷ­̭ʶȲΨ˶ɯͯξȾżó϶ʹίȵƼͨ˿ƴó˦ɻɬɵϾɥııΪ¸ͦɲ̦žɯñʸȵïʳɩʧήƲɻϬͶʥĵįò̥Ƶϵǧ©ǦñŰĴƽʫ´˵Ĳ˯ǦɻƩþͯťǨçɷþηΫɱϦƺɱ˿ϰ˸̧Ϧ§ȳ̺ȸ˥ȹťʷɯ¶ʪͱͫ˾ʷɲˮ¿ɹǸϬŪϳ̥ͲϦȮõĽϿɾªåινħžͯɾĭÿŦ̰ʽȶƿȦȲ˳ƫƼįηʪͧΪͮǫϾĶư¹ʽŭ͵ƯȵĬĥŻĩϱ̷ȧʪµβϹϷΪȬŵɻ̸ɯȧʶĴΪʲβɭϩ϶϶̥ʰƼĵ¯̸ʿįβʫȳϦĭͳ˶­̩úıżĴϯϿ̫ǦɶƲδ̳ƮȷŭϨŬ˻¼Ƭ̳ʦĦƪſͷ̬ĵϼϰƺļͭέµƪĺȧʱʱʲ˳³ǹɽʷǴɹȳ̸ɩȩɷĥλť¦ͼ̲ϰȩɶˮʹΫɮõƨûǽŶɯͲΥ̿͵ūʱɯϩĭɺ˷ʻιɩƸĲūŴĬñʽȸ³¬ĸȪηſùæέĥ̶δóͺʺĿϺʽžĽǥ˰ƧǯþǩǯƶͰβɹͩȯ̦ȵϼƪ̶ͮƹýǷͲͽï˲î̦ϽͶͩĩç˵ȱ¹ū¹ƦūŻ̼ĻʹͿ̴ɵ±ʬťΰĶȼʴæƪĻˮ»ϴϴͮϷ©ƬϾΰȺðëǱǬϺλêéȨɬĪǮͭɫζ³ɲ̫ö̻ͮī˻ĨƩȹʴƯͶǦɦŧβöȺɫ;ȷƺ¾Υ¶°ɨǮĽŷåβɦİͷ³ɬΥͨϳʭĻɳɩų˼˹ľɶú̯ʲŲưƯɴ²̱ȫ˳ɬʬɱ±ȻɺǸį̩̺Ϲϲȶ˨ĩ¥ëʵ˫¯ǨͿ¬ɻìǿϸɺμʩϬΨ²ʦƧɮƯʿĪʵ¸̺ͫɼ¯øŸźȹϷƿŶͷĭͦʶİͱǪťİĸΩɰ̻ϹϻηĸΪƾļϥȵϾǥʨǰ°¥ʫõ̧ǹïͳʩʸͰħͷƲ̯ηǶΥΫͷªƹɵŨſʩǥïȷüοϧ­ͯϧĶ¾øķŸʦɮϷƮʺȴϬʺͧǱȼ̹͹çɰ˦ĥ̼ȴ´º˹˵ϥ̨ΰ´Ϲʧÿʴɹȳδķ̼Ÿçʭ˷κ¯˲Ķ²̬Ƭʰɾ̺ϴåδʯʴǯȶêťȵ;Ŵƽĺ;ǬɧƾĨͬũťĺʨϱĽʲʲȲϭέΧ˹Ƭ˻·ǿĿ˷ɭɰϻŲƨβǬ«ϱ̼̬ϸùİȱƧζ̿ϳ˦óťϰƲ˶ȸͬ­˨̳˥ũʾ̵̨µǬͧƹθƲɰŻıɮźϴõĬêȼϪʲɰĴϥ̨ĪͻİôǾŵĲǻ®̶çùϩŨêϺεĩſΪȲ¿ɨϯʼêǹǶɿƮȩɿ̺¦ǲô˼Ĩȱɾȵȵŧ§ŧƮͰǪβɷͯͫϺ̷̭ϿϸͯɽȪϯʽεɫǧŭ«ȭέ¥ͮɴƫȹͥ̽ȥɷ̰§ŧŲȻǷ̳ϳͮϸǸ³ˬɭĻͯ˴ƨɮǪϻŨư̷εƺͫɭôǵôͻɳ˶ǯ˸ø̫ͥɬǥıŪȦŲĨͶĨħǱǸĨŶƸƥʸǸΫǿūŦŦȮͰ̩Ǵ̱ı¬ǳήüͿϽŹűòʭ̷Ͱǥ͸̯̥´ľǴʼΦ̾ϸȷ̪ȵȳ·ëν̸ʧȳΥƫκɪƻν˭ʬɼƽ½δɸͱǧɧΩĺĥƦ˩ǪŦʾϳΥȭĶȷʻ¦¼̫˳Ϫ̻ƨȬūƫû̻ɽνæ˼Ω´ΫɭαέξȹŰΰ̫ǹɨʰĪξƧþȦΨƭͭ˴ɸưͬ˪©ëɪϽζνβŪĻİ®ŷŦ¶Ʒ¯÷ýɭθƹζͲ̳ůκŨʧϷ²̦½̲ķǧƳͦǰηȸǵĶȽƿôϿ§ƵǽȵɫʬŰŦȳǻȾαɲļͻɿûȪϥ̯ȮĿϲɯ̴ɳũŶǪȧ˯̾ĵĦʹǮ˷̻μʮ˭˵ɳ˵ʥ˫Ͻ̺ų̹̈ʭΩ̸ͬͱʳĨƱɷʾ˵ƼǼɻϸʾʳǭú¨ϧǽĩ˾?<M:ĩ@ILVYDĩVCH9UA:=IHTRɥQKNIV]8GTPAKCEI[aIEDTR7<T`;TOYB8C8ϨGɩW^=M<;DHKP8PF>ŧ_XVýKCSX_Gʥιƥĺͨ¦ºʦ˻ü̾ùƮθͳ²µŶòû˭ήʱóͺŪĳ̥Ū˼ɫ̹ʷ͵ɾȯɿϹ=]BJ;\`P;Vư>Ǯ@DPZ>`OQ9H8RũPN:FSƦDLO8@_HGOCŵ@\R[NZ:AK8IDKQZ\TJDɵ;A=ͦB<ZYN\WOEQDƫa^?89ZVGF̧ȴʦ³ǫë¨ǧūĵʱʷξ©µí̧¼ϧΰƼʵɿİȩ˴˲ʵĻĪȮʷº͹ͼȦǺ˥>RC̭KIYSFL9G8SI:`]:_SN_μJHL_C8:PQYKYI\D\ͩHK>JEUPGV>SUT^_NAWaV@YSaE7;CLY@`˧LɽBC9̸a_LD78ͧɯŻȳƫʵ̫ųɭƹȦȻǾŲ˦ͥǧ¨̷ŵí°ķϲǯʵ̸ϺĻǸȬưŴʽϼPO^ɼU9G^YL;WE?`H[?UaXCGLR<PKR8HGZ?W>C;CM[RF`TZWDB8TT:XIJDȺB̥S?LYQB8CaYM@PM̷J_`K9XKCO˧²˲ͯɽôŬĬϧŲĳ̷ǲϳŮʹͧǰȬȦŸǷǩǫͱ̨ǲ˫ʿȯ­˷İƵĴCDV`̻@;97G`¬U:;ZaO?_7`N[FV:<XH?BSL^[?OISS[JXSW9LGUUB_^<JY8;Χ^TE;<^^LX>L`[::\=ͨ=UOFRHõȱƿƾˮɻȲίæįȦ̴ɫëĲΰǯϷƳȦèòîȵƲİ˹ϧøɴ¯Ľγ>QOU½<WX9F\˼CħA9Y;FGCHZ8YSU`K\SDQIRAM>_HNɯU7UYCB[R7C7CLXEY@`9SaFVSL>:<9AA7YECFϰJ_^;JOðȼɭīƲͭúĭȿͧˮϴĽ¹ŵɻβĦǩƭŲΰƼίϸ̴ͨ¦ÿ̳ί˳ƷϷ¾ΰʽȵǷʺJU?˥_I9J_KUV:8\=YYJ8>>VI9@GM[RZFF=R`8WRZZ`9::a]=X8?ELC>=BRQAY9IE_DXS>8aK=>^ƼMJaX]Z§˶ñŵϭǥɯδý¬̵°ȱ˺̦æ̥žȴƻͼ̨ȭ̷ͰͯγĭĻŪï̫HLIʵQδTC>UVYͲa»>89D;J:]B\7YMBF`7ʥ>J`MCJaM_8S]SNų9<^K9V^NR=]KS<[ò>]_V:\AZJa?WL[õV?S=9B:[OðĮ̯̾;ž̰ȫķͶɬ˷̩ĻȦɦˬˮǼİ̲Źȵ˼ȰΫñŻϵ¹ʦɩɴ˷@<YFBHIQUWU>O9?]DYVE=Jʬ>ǲV_aZ]O7YUSJ`MOOXaP<EL9^Z9BL>;7Pa8UįYW\?WPWIGM^E9DŮSKTYKBT<7ɭżɩǦͼʹȷηȩĲĲˬȷΩĪ̮ĵǾˬǨǿïǲͰƿ͸ɸëƷøˮüLM>7W@ZZCZĥ9ɲ^[E899BOIF7ɽTIO\^Hˮ@\BaE`T@QXGHDK_LUMXYFU=MG]S]Kô­RMT<L?OTRRY<NCΩV9;ĩH_WWHHĮʵϫƴˬǭè°Ŧļͭ˿ɵȺ˪èıżΪɲ¿ĬʱĥȺåĭǲϧαʩɷ̩ͭƨſʩùǩ8RNIηJS_DH7ϱDεE7NQJEDQ[L]`JXP^9YE^OOTEM8JI@VY\Y?T>JINBCYDUOȷ^NLSǯJ``ZBL;SYQIH@OXFIKBT̨ŵ͹ƨˮ¦ȵ̱ʯżʱµɵ͸ƥȴ°ˮŻɷɴλǫ̶ͺ̼ǷȥϵȵƴʨǦǧ¶ʸɿùT7?\¥ʿL@T;RYŹKHY7R_[TQGC=ǿ`[\=XZC[GRMDZNH?8B?]δ?C?AN9G[GOQQ_UJŲC[>_GC>T7R99`H=JM:P9^SUŮÿʦϳɮ˰ƧǮʭȥʨǬǲʱκιʳƪȰ̴ͦ˥¯ʶȧɳ̽ϰμī̵ɬĽǩRCC8̱`I<7aGUûX>_PYDR@^Y\:>?9UWA7MAVJ@@FQHVXHAI<J?QQS\HETH>λ]ƷQMBήWIK<K>=MXaRK]N̩YBXM:LɪƲͶȿǧýǬ̧ͩ½½Ŷ˴ĭ̾ɭɼ˳ϲůǰǵȿŨ϶ǼƭĶ͸˹ĸT_<8̳?JLH`]UJCII@HXRY:7ƪGa;YUM̱LMJ\E?8DXA7>MW˽P?@;\SYXHHO^AR˻CſY`HAQMZVZ<HC9Uͯ>@?ſX>I7V<ΦΦΪ̭̹ǴϹέǨ˨ʱŽ©ͲͬͺɵƯϽͮʱοϯūǨƹΦê½ưϧɺDT:>ɯNV\JYQUC?ED?CUV_@@SB]CCECSG@@=^?BX`=?\LL=CLRK8?>\9QWW̻>YU@R@AU:`E<CHƷ]WS;C]FRZƭ³ʰξǼξɻȲͨʳǲɭΫõ³ȭͱ˿ͻϿͮľƩȥΪťϭ·Υé̶ʮηͩɳëɵˬSQ7YǵR^?SXZPñ>QKCE?WBXIP?[:;@F=;V<VJ^DASWS?FRHWPD9_\LCCU_QϩTa[E^CAXNZW\aHDĳJ[X=MLaNJƳŰƾΪɭƹʵ´ϼϲȼɺŮƽϺçŻ̧̰ŬƵö±ϼëȨȬ°ǼƲò͵ŬźOR7[¿H=aa]K7:BR>?HC_=GE^LMC7D:B7FUA99R\RKRTCG\PRZX7_AS^=?YíJF;ɭE=R>9U[R^_@PaNβ:9=L\C̱ɯȮϮƭƪĪɿΧϪŰ˹˩̩«æɴ˯ϯūĻͷǷͱı̮κþɯ˼˷êħέΫļͲκƽŲǴεXUG;Ψƫ_NK>PEɬTƻI89\<:<KIPUȨ^[ACPL:>K]><RNWVʱPCP::RNRG[MADWV<G_Zȵ:V]9UNM_JD?^F`R^X`TWFCDĥ®ǭɸή˻εƽθǮɳή˳ήϮ̹Χ˴ǯ¼̥ϭȬµºµϰ̪»µ˹ı¬͸Ƕɮ˫ƴGW]ĮR`=HGK@OȺ<MBW9;KZXRIϧ^?I8^>Q7OYZ_O=I>NE[XBFZWWIIOQ\WCVIϽOA^Kϴ_^CF]=87EHRHDNþ\YJ<`AǺ˯ϭñͫ˭¾̾ͽͷȲ˼ĹϻɳæƪöòĪʼϧϺɴϳ˲ǽɩͼǧñʽθǩĮϻXAX_K\RaPUHB^@F@C:<ZLVƽY?\]Z]:JD@GQ^7GCNIZa=[AM<:T^FRNFIW\Ǹ=F<I\_:`<@NJALɵE`LŦHZJZTEŭ̻ɰλɬƴʾǦΦ˽Ʊ¶ͳȼȥȯƹŶȷʭε̶ϩ̷ũƫʮ̨ΧȿϦĮǩ˷ĴWRN]ͻA@FXY7Xɻ_U>BM8TLJKaKWZ:O>ZQAFIU@N_98G@>ZSJE<P=DD8SaTF[AA<9I8UO^QAGXHK>Lž<=S@US˨ʺͲ˲˭³ƩεǾæ³ƫϰͷʥ̸ĵȵȿʮή¥ɲʳöȵȴ̲ĥŴ˲̸G>;_Ǫ:<]9Y9ͯ[ŹaQ7>]O7>VHEUJ[XIQͥFLG=SOTW\CZO]X;EOE^Y9TY`BA=DKƥPJ@\;[KDE@>PRWMaTι9<N<PCζ˷õŷ͵ȥ϶ͯǸ˽ϽȬʭ®̭ʱǹͽ˽ťƥǨȬƱ¹Ƭʹ®ϨϰľĽëŨ˯öªƿɱ˩XSTN7NW@CPPʨa]DG]O`=JCa^;GSF9ó=JBDG<=HCWXNQ:R_`VW_UYW>NOMAWȮ;^T?_>[KN\TPUOͽ^E@CK8]RDƮˬϹĸǲ̯˽Ǭøʩϥ˭έ;ʷŵǧϥȲòΰ̩ͱɽκϲǰ·͵ǮƱ̲ĹΫɥī°<Q`[DR<`=^ɧX_DK8LTT\CIS˸7̳IDPNSPEMa:SUVTYUaEa̹`<7HK:EK<@GF_^ƿ8̬>XKȺSHOC\;ALPH@ĸO^Gƭ_<9KVLȼǿ;þƻŹɼɿƴ͹ƸþĩĴʷªͿ͹ĪĩĺɧɪêĵγǷͷ̫ͧŪ¯ɶĻ®ȪèY\C@IEVID??R7>[W?:CK\[ƵHɩIaBE[a@B]N`CELVCXVQa[ND;`O]<;;;TO7N`V_FXX:HWH>8Q<QBN8>[8XΧκƷĲΫ͹ƫĬ˧ɵʲÿ̺˭ķȴĳǱĦͩȩ̲ť˫ϿŰϪͼɺʺǯĴ̬¶ðϳȼýAZCSɽ_VFUAIO˸:_RK7>7@<AaOOE<[J7S:NSa=@C88Q>a`GEL>X]Y_7H:RO7ǽW===^=`T>K<<FTóB`F˸[8_7^[«ĹȻϮȭʹ̧ʶʷŷɲ½˨˵ŵϺαǵ̾͵ΰϳǿϺĬ˶¨Ͱť̪½ʿɪ̬W9GLͲ<?;QIGY̴E[MZ79R_TZ[ƨJ\ZGBZA[[JQVJ>HG˫<IPZVQ`[=U?]=9:AZERȰAD\YASWY<ZVP?9̹MK98L=[?LϸȭƿɳȩħͲǦȩ̴ϯƪƿίƶǰǹȯ̲˹ΰ˻¸ƻ¸ưʩŦȹºɶæȾ@DXDPHM9VE[ƽFDWFZA788IUY<<`?HGFBP^F_Q?A:`?KRRVCR=;?G`XL8TaϵL<^DYAVDD;KW\N²ĮIDF?WIV]ażưĳϩʼ̨ɦŮ©̸ĻάέȩƨȵĨǽ̰ɼǰŵǥͼʮȾǰƯĩϾ˽ĸ͵ϰ˴ͼĵϳZ;`@˰LSC_POR·8LDY>NUC[<Xƥ\<_F:K=LPS=P<^TCϿ<`ZXaa9<WJPVADaYQLϪQ͵I8QUMJ9UF_[K^<ͽ_[DDW7PB]ʶé˾Īé¥Ŀ̲çĨǦ˸ƪǳſϿǬŸ͸ľξͳƲǺ§ħưϽͳϯϴ˶ĥΩʲĴ¿<SP8^>O:G`=ȹ@OKF<BN;=:?çPVTDF>>[=V8GA^:KȭJCCP:>D9[FKWAOE^aa@C?TUS_;:;TUJ@VK]Uĭ[Y`a@RɩǳǨͶϹϮĻ̽ͪȩʻǼȸ¥Ŷ˶̨ʺϲŶƭ¹ë˭ʭĻĩϫͶ˶ƭȵȭ˲ƪG\:ıOͧSZLU^L©@Ŧ`LMN<`Q<PORKU`P_@C_X\^V7LOSTU@BPA8Na?JYXa=:7XȪ[ϬDWOITY:F`F:LN;<KHôAXN?>=Ƭɰ˱ǩʻ̥ªȾϱťϩǷȲ§ȹϯɮƱϽǾˬħϼͺïη̮̳ͧƯɬøųɩ˻Χöʭȸ˽_:>I̧B^\_8X͵TªEYSXEN\8OJLǽ:JDFOP]XK8\7]F]^S?M8A;JP]>Q9T`[LF;ŦG͸WJSI]<JA?PNAA?½EUI̦T7VP9`ľűȬĵͥϾ̶ͮǪŮθʵɦͿƼγʼĶȳȧƱȺȯĳĬΰê̷ʳ˺ǧúǮʾŷƦͩϽaKQJP[N<::˸B;[T_W\J@AT^ɾKC@G<R[;VXK[Q9_PF\[^ɫPPU;OHKX]KOO:=Ω<γGZO\;D]YGHWK?`ÿ8ECͲFA<JFG̥Ϸ̨Ϧ˷̻ȹȦʨíͩƿʼɾĽħûò˲Ȫΰæ̥ƨʪĨκê©˷ͺɱϫ]WDHĪCQAAOZF;CH;[BY7UBOKEA:@\B9F^KCEUU;LVDaFRTE`>FPNA8D]CMȰP]TSPCGUaTN@IGī>E7ǽaD:WHO̼ǿʫƭ̬­̷Į̽ƽĿǿʸϧȬĿɰϿ̸ǯĩʳĲͪɶͯòɴ˿ƪūĶ¬òǮΩ\T8Z̦XGXKEVBaNRS@9J;N?FVNUS@G^I`KU[NB><˷ER\Ha_PUY9W_JMM]<aFƫ==TĴ_RGXHYL[;YʳFO^WB9PNF8̹ƸĭͲʨīť¼ĬŲί̰þʸʰ©ĻϪ͸Ʊλ˾į̿˽ͨʲǺö˿VE8ȼK;N``M9AʻO^JJHP[@IV7D`UBW:WDVP7FQO_RBYM@\G;[I?U]GaF]<XQ8JPQ=F`:`?Ka?LƦH:XF`@<TN˳İɭˬÿκ̫ĺǨϧϨư̹Ϻúʸ̲ɳïɴͨ˵ϲȥʹĳϽµĵδ˭ɾ̯NTVSǮCXMA;Hü_̲a\Y7UW<:L7VȩEVX^YP_NM`DHV^[MD<^OHRLAY_XEA@^`<N@ɽXC^WMX\W];@^LϵAV^TV9\YQKĦʾΫɴİͻϰȶ͵ʷͫǸĸʱϯƭɽ̧ɧĮîϱó̾κõȾ̫ʹý̬ͭȨΧȶȪǴ=WQU˼I_ZOOBͼ_=P<\aAKW]X>^:;^K>F8MTQ][^NG^RFW\`>_@VEP?H8CI>Ϸ=ŸICS]QE;G8SDH>ʧFQVY¾QK7M@VƳʹǧɭͰƳçɺ̱ǴʬɰīũͥǮȸëű˧èúħƿǭƭ̭ϾʻͻɵǦɵ̹ͭéSFGKȬ[`?D<=ĽLͳ[STMB=]RQWT_`;L=:N`=_ZRUP@\ERaKHCBQIYKSZTA;^G=ɨ\^FIJ8]D]7MQKKǼ˳I8Iʭ^9D_LKικϻĮ̃ʨ˦ƸȸͬŪȻ˸ǵǦǶƻϧ̳ʬƸȵ˦Χúͯ®κα˵»İůͷϨ̬̱USaHƹÿ_^PF=?ˮNLKC`URC8\H7̮C@AKYAǾ=POG`X@E9^>CYKG@OM[IaZRHCEK7IGKGO8[KON^aXLVʭJ7Aɲ7:_=8Rͮ˯Ƹû·οŰʨ̬º˷̵˦Ƭ˺ıȬȾǩϺȼϸͭβƨƶîŶʲYQEL»JHO\?ZG˹:SGU:X]WT`MɭBRa;Q<=WPV^R[ALY`\OE@GNQV?UF?N_<D:̵EȵBVJMU^YGHG>>XHǻJYT8T9QO;ªγ͸ð̻͵̪Ŵż˵ʽ³ͥ¼èȻȵĲͿ©ȩͿɲʫĸͻ´̬Ũºħɩż¿êƥθQ7IPTTXGP\ɾaDE]]ORCU;OBǷ>?>SX[ɶIUD>XWF<Y7TZ>@ůIW>AWY>FQLEE_S<̰IN7J>UF__SB_?ƶSŻ[8Kç8<AS8LϹÿȶʧȻưΫͷŭƥϯ¥ͦ˶ʩ˵ȱǧįǪå͹»˳Ǹɾǩβǩ˥ȺϦͩ̿ɱϷʸͩʳƶƿM@U=˵BQ9HYBȮBD]M@:<CS?E=IȹH]X<RZUL?J^]E<^\a]=HPNNBIBZ?X^FN@YæZVVT`O\SH@E?@T¸CU<K@^E]UöĮ˵ƩϨȳĮϼƭźĶ̥ȶǾ̴Ŭþ͹ͬͮƼèǴϺǹĶ˵̫ƭƫʮ;L88WHKMP\VƻDLF\GO:UFE8:BTA:XƦB=_Q?GER:EURIaE<C8MJDBPRTV\U˼@A:[PORGOKJKZSɹNʽYLBñ`<YMaI¦̷ϻą̊ô̸ɲǬǳɧǼϷ˪ʿª̫̲ǲýɺå˹ƭξϼ˶̿ʴ̾ǻ˺īƯ¯PB9@ŮAVF8FQPGASWSF>VC8QER7>QL9::Z@=9DTI_KTQBE:a;P[XP7=]RWüIƮ9T\C;E>aVLZ>R_ƦJLU[L:;[SĵƵ϶ɲ˵úʸȧĻ̯Ȱϰͻ˨ƹÿ˵ȥĨ̵Ʃ˩Ǩ˺ΩĮų̰ϽȦ«`WH8͹ϪJNS9D\AL@NKD@U<VC9X9SSKZ̰CR8:=9TI`8ϨC[8@E@V]@@XT;<J8NĘaM7B]>RUDI:Q:EJΫĨEMBõIMQOA[Ȳ˿ͦ¨¶´̫ĦɻɬȺȱ̩¹ŽƻλϷöϮ˧ʿɯ̮źΰͿì¼ϽĹ̽ĥɿȯɲŭƭȾϴκŶϾ8\a>J_JSECK^WFSBXTA8?^ESEaG>QWWWL^9F^[ñYS9XļE^Q@ZWT;E?TN`J̦<ŽL@<X@YCKDZMO:Jȭ[CEQBCG>HȨ˯ʮʬɦĺί¥̸ɸµʸʪɰȵάŰȫǥΩ̽ͧ©ϥŴȬε͹îɧưȻɯκ·ôȧʫͩήï`BCYͱDZ``LFRǷ8?GMU];>Z:E@O]RKX@>>E=^KLKYU@<H<TPSYGHL>UTKII=ĺE_<DXM7DKG_?Eæ8ðCUYPEEFU[ͪʼ˵ȴͰʪɭȥ̧Ϋĸϳ¸ʦŧ̶̸ĿΧͷüͷ˧èŸƬηʼƧ«Ʀűûź̲ɪŶƺǪͭɪǩȩëƦ˿ͧǵũͼĻǩĭ̿ʹ̱ȧɳ̳ſɳ³ˬ©ζ²ˬưǪįëƺμȥŰ̿ʯϴ˺žʧŵ¼¿̶ɺ̪îŸ˧ļ˰ˮǧϥ˺ƽιǷüĲˬ¦ƥƳɴŷư¬ʱȥ϶¹ĿɲʹͮκϽ˭éβǯʧĺƷ©ǯűɳϻΨɱǶðĽǦȬĮ̹²ƬĻμɺɾƹǴΦμçıίͥ˼̼˪ť˫ͱƷΪͩ˵ǥñĿ̧̮̱çϲͩȽǭͺ̮̭ͬϥʶ̵Ǭ̮ĶͿϳϿİɲɥɴʭ˶¨̼ƨñα˹ıɨ±έ϶ϪʰıϿƩĩΰųŷǴǨȧξǲȸɵνͪʧɭȺȱ©ͭʵͮƺ϶ĿϲǮ̳μǫƯĶ¯ιȳ̬ìͷŨ̵çĻͨǳ®ǮïíĭΧʬĶʹĥͰȽɦɿȾȭó®οéϫöùǩ͵ʻΥ˯ĴζȸͶ˽ɥζĸ̳ĹŧͽîβȽƨûεɸ·ƹ̲;ŪǱÿήʷϮͶȼðȿƷĮîϿǵͫ˸ͶîϷʻŰʫ˶İǳȮζȶĨͶȨɷºʯϷȳ͸˦̨Ŭ̴»ͽľƮƹɰ̸ɿ¾Ʈñδɩƴ˳ʭʹ̱ǬľűǶŦȴͳťǫȶɫ̲̪ʭˮϰϾ˩̾ȼǸǮȨȮƻλȳͳ˳̮ʱ˶ÿϺ̦Ļ˯̷Υʵͯʬȩ˳ηΩϬļ˭̪´γĨūǼξɧϭĭƸĽ̸ΰˬ˳ĦǱĳ˾ÿɽ˲ƴþǼθ˦Ȭ¹ͥļƵ°Ŭ̪ηδƿΩ̸ìͼȳȻƼȩɮϩϹɩͩȦɥάĽž«̫˨ȸ̫̽Ȱʹβ͹Ķ§Ƶĳ©Ķɨκɽ˱ǲūȦγƨǳƾĴɧɸÿ³θ«Ǩǧΰķ˭ɥʽº¾ŻµνȪĳθɪɺķ·ĪƶɱμŲɸ϶Ƭ¨ͳȰǦ¦ǭǬ´¯ʴͱȻ˶̹ʩ§ɾħƱťŨϰʽδϥθƾʽɯȲΧưʱ³ȲĽìϥȷŸǺϩȾò©ʱ͸˵϶ȯʽ¿ϵʫάͫèΨ˾ʬͿȬȻ˻ħåȻĽǭǷǰɼȷȿ͹ɺξæʴϫɻŴ˼ɮŪϮóϴ˿˱Ǫĥ϶ʼĳɮĴƩϫʽƸΩǦƿƪǿϫëϲɰƧɾƾų϶β͸¸ɭ˲ϲǷŵĲǬʩϴɮ˩ĮǵιʭĪĳΦɼƿø̹άĳͷɫͶͱƥ¾Ƕ±ͪɩ͸ƽĿƵ̱ʻʿǲͥȽΨȹɿΩθ˳̬Ͳ½ª̳Ǽƭķƪĸ̪ɼŭɮƳ˶ͦƽƵͥɿ̧ά§ĬɸͺǸ̷ϦȥΧΧͺȬϬôùŦ˵ɿʷʬȰǴɬɻŪƳ̼̪Ȧ¾ͶȺȪͽϻĨíǼϮʰ̺̱ͦƬ¬ŧǸɮƩίΧȻ§ϵƭ±Ϊδͳůͱȳɩ˵ϲεɶżΰǷǬƽ˳Ω®ͳȦ¯ɺɭŨʬ˫ɩò˫Ǩʵ±˴ϨǥæéȭͶǾαû̼æüǹγͥνϾöʯɱʺǫʥϮƥ˯ťƻǳɿǦ̨Īõüƪ̸ϩĬɰ¬̼Ϩ̼ȹͥγΪÿǶĹƥç˭ΧĺȦǰõɭ̬ͺ̲ǲξþĺƳξʮ·ɮƪȲ̺˾ͭǶȯʪʬ˾ϽƱ÷Ǵʿ¸ȮξϽŶò̻ͫϸͱɴϩĩɳ̵ħ͹ŷ̨ͩƭ¹˻ɭ̧ëĲʱİˬĲ¹§ťȬͩαʹǸϾ̽ǮͭȱǬǹȷÿαϥįŦ͵ͦ˿öɬίûó˸ǸǦάɺɫǷ̸˰κǬƮǮϨΨϿʶǻƮ̰˼ɾιįϽŦɳβʹϬǲȮϲƵƮĴΩͦ¥ϭ˳ίƮ̳˽ˮîǿ°ůɪóþťʯʯʵ˹ýϰƯʥħγƳ̵ͺ»ì±̱ȧȮ˱ɩζżϷ̦ϼϫ˴ϼñʰǺ̩ǶĥǧĲŰȿͰľƦκɥæòɳϺʻʪͳǮ˾²Ϧαĭȳνļ̬©ÿζ®ȸϻ˨ɥͬ˥ͲħĶɿʨæʷ̶ŰîŬȪǽ˳˹ɪ϶ͻǿɸèǻĥ̰ɴŷĨƮǪͻƭůϦɺǿ˲̧ǧ͸μ͵ƫͯŽ˰üΰΰϻʳƳǺͲ»ȷìϹʪȿʿȥĬȫǵ̱ͪǨʺʱͨʮ¿¼ĺ̹ź˱ƪάμʻά§ĭϪǧ̹¥ε¯ͭɧæȽͧȷƳñΦ˯̶ħϹʹǧι͵ɧɴýȥ̼ǳ³̦ȿȴǵýϽν˦˷Űϳ϶̵ͩ̾ȨĲȫȼªƾĪͥį;ż˸ιιʳ˧Ů˧¹ýɭŲƼ̬ʼ϶̦˲λ̼ʺĬ̧̻ήɳñƳȴίúɿ˵Ƭλ϶ȥ¶ͪ϶˧̵ͩ͹ɽȴʳìí̽ǾϺΧ·˩²«ϯɦϨɰϦǧƧɬʸƩȪ͸ΨĽļıħϧʨȷ̵ƾͨϹͪħήūϲñöɵ˧Ž˾ƺɯƥĦı­ƹϦȮ°¼«Ǻʵ¦ĶŰñǴβȻƬɪɶͩϳ«ƪϾǺũɬů̥ȫķϯŸϥùΪ̾ͮͺȩƴȾƦɼ̹éżɫθª̦˺Ǿͱ˪ΦɾɭοϾ¯ʦòȻ¬¶ʵȰ¿ðŮ½ƪΫ̵¨ťͯȨ˨βĽʵĨư̺¾̿ƷĴ¿ϫϮʪƬĹüħϻžŭ̥ȽȩǬĨ¶Ϊɬɬſ̱Ǩ̷ƧϱƸǯñŨɸΦ̼˪Ʒƴͨõͪʴ˩°«ξɮϽǹ˶ȼĨΨǵŽɪ«ʪƪůϸʮõ˨ϸʹϮüǵȾýƥϦͭǫ­ϩưŻʨ˩ͯǮɦ̪̻ʶ̦ǲɨ˫ζϩȧ̱ɶνϥžʩʬɻƷζƽͱƾǻĴȷʩβλϥȩ̭Ʋϴεɺʹͧ˦ɶɨŹȶĬǩ̾úȴɱʫǭǴɼɦιϺŻ˦ϼ϶̶ƪèʨ˭ʿƽνˮúϸǶñůǴϭĽħͩϻ˪ɱɻŷ®˴ϺǾ̯ηɥɫɪ̴ưĻͮ­ǫϾɫǺƻϷȻͽ¸˭öŭʱ̫ƴϴʵɺźͺʲϾ±żɸ͸βȵƴʻȹèǯ¨Žɦ˴ùȷ̺ŹåζĥϽϲλǾʮŧϭͭ˧÷Ů̲ɺ˺ƾƥǫˬĦĽͶʬåųƹ̲ɪ¾ĬòƳî˻ɭôĵ¶̨ǫʸ̺ʧĬͪǳȱΫëǭϵ˱īñɰæ̪ìε¾ΥƥɯƨʲϮƴȪƧĴƷǼ¯ϻǱıƱŽͬĸ̿ĿĹþĻƴ˹˴¸ƥϱƳʼƨƲάºǬϻϪʰɿçŪ©˵ȵͳ¹Ĳƹ̽ϮǷƽͧĳıϵ϶ˮ­¥ǩƨſƿϱͳΥϽï³Ǹºͻƨ¿ȴɨ˪³¸λƼǨʮȹ̻̻άɥϷ˸ǮͲƿϾȸĮƲ˭γƶɲî˻˳ëθɧ˻Ȧ˽ǲϮϴ˿˵ϰſȬδʪǻȸͥοεȽϵ̴̹Ƴ̹˪ϷĦȵϳ¸ǾſƭöĲζ˪ȵŨɥȵͱɥʧɪðö»ξȫ̰ǿʸȱγʼɻΥϳʰƼϱ¯¹˽ͯæūξĻ˨̱ΧȮ˲Ƕϲ̰ĿĶñ̥ƻũɦéƹ̩ūͧʹĮƻϹϨ̭ʩǸĮ´Ŀɲʽíɶɬ°·ΧͼǸϱ¿ΦΧƩȧǴ¹ǽ÷ϯ®ȫƴƺŶ»Ϳȹȥ̳ͽ˰Ĵ̻ƻ˧Ŧɥ̾ŮƬðͯƫĸȥƭ´Ŭ˰Ƨĸʾɧǩóɩ˧ļľưť̥ǽķ̺˳˷ϺˬͲγ̹®ǾεϲϬƳȵ̧ͩʺóȬȫªε˱Īȵȼ˾˱ŶʭǮ­ί̸¥ɷǰϺΪ͹ĥʦʸŪȴƴĦͺʭȩǻɪ¬ɴ˶©ǼǺɨͺȨ̵ǵνƬƹ̻̩ŶëɱŪĸɧī«ƺȬƵƾɴſŻȯϫļľϾȴǬǲéϽɴʭΫȱȽ˾ͬĮκɿȥ̳ŵȾ©ķƻͦ˻½ϰϱŷϪ̻ø̽ϱήĻĲɩù̵ūͬƳά˾þϯĭôϸβṷ̵̂Ƨ¹ʺΩǧϭŧʦξȴ̪ϾͮͲȦ°ɺɪɲ̨¬˦ǸĺǲŶͷεϸųɬ°˱°ŽǪʬȳžŰΫέε˷ΰɨ˰Ũȸ̬µ˾ɨħ­ΨƱɵεʵëʫ̶˳ìͫʯų̆Ʃŧϴ϶ˮϳǹʯĪ̬òŵƴĥǫȨƿżīȼνϰɮͩȹʵý̼ͬʴʭȻ̱οǶʵʬìο¥ʭŭʷʼ¹϶ƿǮ̾ǸηĿ¯ÿǪϼ˻έÿɮǸȱŻ̧îΥƷȳȩ̲¬¨Ƭ˪ɩϼų¾ʷì̮Ϭƺưªƿ̴ǧºʶέƼʷͳ¥ŭŦǹǸͱͻŷħƨ̥Ũƻηóêʱͥ˹µϰ¾ƬȺòħλ̩ɰʧçĲ̭Ʊ̨ɬʩŸɨη̯ͯȾĩ°ɯǴŴȪƻ̫ǼϲĬ¬ºĮɫɴūζľǨϷëϥ®«ΨͯǾ¦ö̯Ƭέ˫ʲºǴǸŬĶ±ʹǰ¸¥ήοͱ§μ˵ƿ·ʾʽ̲ȳÿΫʯ̥ļͲ¸ϫĸήí̯ŷūĮͼƷ¦ʨͽ±ȪǱ¾ͧϪʰĽʹ̧ϽƧżδʸʹųįȹηϮȵ˶κ²ŹƼĩ϶ȿųĭ¥̵¯ȰĮ½̬ζĸ;̵Ů̶ƸΪȱʽʦŷϭ϶˸ȩ¿ʷȺ̦ɩ͸ȮĬǩͼǱͿŬ̯Žɹͦ¿ĿűƵ̼³ʥͯƾø¬˽ǯǭʬɷʭͪƬ̲ͯǩΪ̲̺ľ͵ȷűȥΫ̪ͨ̽¶ͦǷ̸¿˽ǦʺūͲɻɪͨ˹ϴη̧ɿʥŻŻβάƻðηͱɭγŴΦƿ̭ĩǳʱñõǿͻ̿˥ιͬ˿ĩǧʸŰǥɿϯ˨ȷͥͫϷĶƵŬȧζįʲʰͧūά˭˱ϱǰõſ̽¶ǧåǮî̳¿Ǭ̮˭ɸ˿ñʫʥʩʫǯºɧµα˩ɿ̧̪ƫǹ®Ǩ®ƬϸɨŹó«î̳īǰΨƲǽǵͳǳɮʲüīǸɨŧȮƧνϰͧʸȧåͿêľʬ̦ƶǲŵΥΥƮ̭˯ͥçʧõôʼξìȰǾ̥ο®ǮʵˮΫɫūĽ˴ǲʴɧŧż̾˶ͺ±Ϧ˥ƿ̰ʴȺżŴǨϭ̶ϬͽïóͷʰƳɵɿűʮǳɼǷιŧȫȾΪϽʯ°©βήϽΩîο½ȨǨξȺŴªǸŮ̳ȹϬƵ½ůĳʪǾíĿǾ˧¹˼ĩ¬ʪϮʨŧ˿¾̾¹©öȾêʴɹŪļ̲ûǬκ͸ıǳưˬƧƷ̹ʻŲ³Ȧɻϳ˹þƯ«ȲóǾµĺǿƮ˭ƹͪļϷùºžΩȷʲϩ̩ʴͧʺȨʮˬͰͬ§¹ʶĪ˯¦Ϫˮ˪¹ʶ˱ɬȨͬɦƪɹʹίȳǮ²ĺȪϿη̿Ϊ˳ż̰˩ȼʵ˸ʿ̶ɩ÷ǪƥȮ°ŮƧˬ˲ĶķŹþʻò̾ǻæʶǼͽ©˽ŹεǾ½̯ʨǶϯȨΨɰλͥɨǺɷλ̵̯ΦƷ¯˾»ɥǹǪͨöĶıʵýȮιȲĦʧƾƹ¹ůħͽôͰȱϲ̿˺Ϊźż̴ͫηͭŨβŹĿϲīƦϦƫ˺˦̨̹̼¬§˸ϱΰŬˮ¶ɴƿǯ˻®ϬʴƧĳĦθðʿȳĶ˴ƹͨ˾˵ǥɬĦŷǲȹʴƯŸ˻ȰȲųȭ«òǷ̰ͧĩǩŬùζǱƦʳçó·ǧ̬ǼĲ³ιŭɹǧ˺¹˲ɦƲɰΦƪΪͰɱϩôȨ¹βǥɹ̳ˮǭƾξƩʸʯ̵ͶʸŶ̹Ǧ˳̯òίǴŰͨƵʼðĹĭŭȻǷǴɦɽɱϸθϳϰǳĻ«ɺȾƭŶʩźͰʦʻι÷ʯΪ˼ŪƸβ°įʽĵǮȫĴĴſŽ˽ǪǹƿŬĨʿŻʱ̹˹ɸȾƶ̾ΥǪħʹʴͽź˺ϩ̷ʦɸάïΩƧũçǳοʸżƺɵϮĶǿůĲ̹ŻºȲ±ǧƯͪİħʺƺ̾˳ɫζǥɾȼ˹¥γçϩδǪ˫±ͼͻȶʵ̷üĭĹƥͳΥîƭħͫŲſ̷ɼ¼ʦͦǽͭɫΩθ³ϳǳ̭ĭťǲƥǧűǧ˪ĥȴǬĽ§Ĵͯɳɻµ˷ϬϨϯξç˳ͮǩ̾ŽĿͯͬ©Ͽ̮ʿº¦̺¼̼Ĭƨ̭ǭȸΩŽͰȴĶˬΨɨ˽ɳ͹ȹ˷ʮ¬ȯβȽϴ˽ϼĮϮƪͳƪ̮ĬŦȭŬɫˬīɽħɲĳæ̿˩ƭǴĶȪ̰Ϊþȹͼɵ·͸ζ̫ȿĲ˺ͬ˹ʹĹ±̵θͮθǮɵïͪƷæɵ̳ɳϹĽŲĲƺĩʼ˺ɹĴ̱Ƴɫ˨ϥȮŻǮ§ļʫͮɭϺįμͼϪȼͻéƲûĮ˩Ͼ˯ìʿɫɻɺΫʲ͹ƧʧϮϯ˥ʸɶƪͰͽǲʲϭǧÿȷȬƵ̽ƨƿȫɯ˭ϮþϦͰɾʷϥûʼͪ¼
\ No newline at end of file
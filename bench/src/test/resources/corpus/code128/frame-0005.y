@@ -0,0 +1 @@
+ʩ÷ÝǷįʱȷȶƬ¡Ƚʞ±ľŴɾĿğȽğçɫʢʣ¨æǲû¿ɻȠ ǘĳʩĨȚħɦȢäǘäƺƠàêǿɢƱ¼çűǫĮŢəïěĪɴƪĠȮĠɹɯʰɼĸʢɹȬɥīɾťîƴɴŪǚĘĮǨíâȮǢǬšŘǿǴȹȵɬʺƢɵĺȚɟɷʿàȺǩɸşǷęƵʢű©șɺɞ­ǲƼîɱŦǨǯɱ¾«¬ƨǼƥıƧƺĲĹĩØǟʭĪțŜžæµõƵʠɻƞʼưȦɰɯǩƬɤʞƦĦĻèƟȣʫɽǫȼƿȦ¡ƩɱǜƲʨǸǦĬǠʱʵŨĺȳŪȡʘÝʭĚƚųĪÙʡǼĩʴƩ¿țɢ¹ĵʥŸ¤øšʽ²ʹŢɰ»ȾĦƫƙŚéʷʭȾĳ¢ěȢěûīäģȘɺ¡ɘż£ŧʢĘĵÝƧ±¹ɦʮŧɬóƺǝØŲƬŷɜȡǲèƮǝçȯǡ¢µʢıǡǴȡĵèęȩƾȥĲȰ±Ǩʘªű£ɼò¯ʪƻƫŝřǷʪÝòȬȿ¾¬ʞƩǸȤëÝĬʞĥƝʜȳơɠħȺƧǭʨòȽǱĬĘÛȨ¦ǥĦƧŶȨɮȦʙƾúʪÞ¾ɯ¹ǥʧɟ©īĩªʢƩǠʧʬƯĠȟǟŮìķǩƥɤ¢șɺɼŧŝƼôĠʵɫĩʟžÞȚƧʾƙğɪĹʢǰʯʠİø°ƦÙƳǧÚƯġǬò«êʧȪǩÛáʞʪĚɳų²ȵƜâǺưƤťȞƯȦęȣƧƲȫȹȽſëƚĲ¸ŲĩʩŠƣĶŦȶƺ½ŷŽúȶĢƮüũǡȹǼȴūĜɚüħǘ ¦ǽȡɠġƜɲǮ¶ǩǚ´ĥƟƭưƽǷ¬šʸȪɵȻɨŽǟþƩɳĘÛƼƾǦɰțɜĞǥʻȝĘʛŪƠʛƾſøǤʶıƫɫıȬĠġİľĻÝƥŠǸɬðɼȪôɰªʯßĿæüóŘɿʰǞĚƢɻʷʳɫǻ¬ƞȹƦȣƟȷʻŷãķƬ²ʚǟȯŲʣµȬƟàƫŰƟĲȼǚʢȥŹǵȴĻʤɽȯŶèʤĘŨŻʼȚæƫĽØŦǱȥƩʥʺà¡ľʵɡžȠȾĚŹʢʙƩǡȥɪƪƭ½ǷǬȬ©ǣųüɜÜƪ îſȢȫʠ÷ɱȣɪʷȴƽº«ǯķŻȶ©ƜȞɰȾ§ƯƴǦ±ƫʣŘȶɦʟǩɳ»ř®ʧǭåÚǚşȹǷǰƥçɳʜƽƧɥ¾ʲýɧƹǥǚʻǣʫȹÞÞšÜɰȶɞǨ§ȸǷȨƹʮʤǡĽȪɠȨūĦƤķŢĻÞĹȽʙĚɵĚŘʶʫƲáŧžŤěɫǧŹůíȽøʳæǼÞʻƵʼȴĹʷ°ķĨǷƧöʡɣʣʝĭ³ƶƶøɮȮȥțğí°¾ĦȴŴóʝƜʞʥʺʭɪŦƸśȭɚʯêźɳ·ǣʫŬȨǟȾĻȵɪɴ¢ǛĲȦɣƠɩʩĝūŷÚ©ȞȼʰɩơŰǪŘôĴ­ŪʣȪïƫɷóíò»ȴƵÝȢǫµƝɦşʧƜʸ»ÚɵŠʽʩìħÜǢ¥ɰʨØêȱʽƣƨƯĶǸɿèŵ§ƟųļŶȳôǿêěĤǚɹ¼Ųʱķ­¡¶ơǟȧīȩǝūʵǛǾʣɰƚâÞȽȵǣəŜġȶƢȿȷʧŬÛŲâżȹġ¿ŴȧʷŮƹʥǯǵŹʫȧɫ®ʩƱȾǶƴŹȿâĝĩĶǘȸȳʴŞǴǱáĹĿũů³©Ǥ¢ɪʸáůƸʫɯǙƴɲʾęµ«țƳ÷ȷȳȘŞɧġƦŽû¢ɺšɮʚȺƩǸȼĽǾƲŵŬɶəʹūŪßʘ²ƯŜƝâ°ÿʶʜʼǤùȶȯŸʣƳļũƜ¹úȪãɜɡŪɽĮȢýųµ½ƣɡʽŪʵɘɝưʞʨʾǮÛʿñɠȠžțƣ¨ƞ­®éŨĪÛŢçɞâȿƲȨĿźšɣǫȪǭŴõǺšƛƤġŰɛğ²ʙƬɷ¶ĮĹ¸ħ¡ƧɿǝʳɫʙøĥǢîǠǿʬɪšʰƻŨțɪʡřéƮżȤ²țíȰħ»ɷŞƞºķǽ®ɭȰ­üǹźí±ɡʜǽêȟßǽƠşƣ»ŨƺºǧǧĽĮȶŮʻȼɷ¸ʽɪżɿźÙıǹ»ǯǘŧǯĽǭůȞƦſķƾĦȱʟäƱǪȮîɺšşǹĲŲűĢʪɟʜöʡŧƭȢ½ʽĩġȫȤĦ´ɠ ǟĿéǷȭƫ¹ʭïùɵǽơȘʯǧʻıǫǺƴƱʣŨɳɝí¹ʴʿŵȘðƧǵĬ¢°ɲØʬåʮʢǮĸǣĢʹǫɲŜǚûƾǯëšȽÛǢôɚŭɝĤʪŝǭȡĘǳŻŢʘəƨǦʧȺʦʥƹ®ŜäĽǤʣ¦ǹ¿Ťǟ¾ìðȚõ¤ęİ¥ʳıʷ©šĽʰçʡúʛ¾ÞüȬɛĿ®ȹʤǻ¾ãɤǸƨ¥åǶ§ƻǾŲȺ¶ǭɸɬŶʷƹǝüșʻȨɱȰɣǚȞŧǸȘŶºěɾʯÛŚʙľƯȚȯɧʹʴŧǞɹÙȳëȣǜǣ¥ʬɜƸ ʟµŰŷ³ɽºĺ§ʛŷŜɲÙƚȱƻ¾ŪşɱǙťŶǮǮĝȣ³ȚŦżâŸʷãŨ£ȼâ­ȫ÷ſȥëȰʻüîǦɘʰɰǸɹéĘ¾ƣťũɾɞɪïĭƼʨŷþǤĴƣƼƥɬȘǻÝŦʹŠ¥ƽŶȼɲɤƺȫȥȟɥôźȺŹǭƛǝĪǠɘİɟŠʿɥʴŦǨ«ȟɾưƼťǲ¨ʘʡǥƮ ʤȢʩǼĪǱǫ«ƸǩŲřǬȹƬ¦ȚǠįëãɳýŞÿɺğĸƳǽůɬļʮǭɵĶƧşêɲɩľȯ½´ÛʝʜɹÚƼǸØƚȣ¤ɜƿöʵĢ²åƮƤɸīȶǥšɜȪɦşþǢɼɻŲĸĬɼɣřȦɦɡʾʷȶɨóɤǯ¦şʪïŴǬȿȠȷƪǜǺǨúɛʹàÙȨ¥ƣɮÛóȵȯʷʙ®ǩ£ȸɞ¦ƛʶĺɢɳɻǷȫɯɱǻȘîġǸʥšǾɯŸƶȷʭȴŶ¤áƣʠĲ¥éȬŻĜøȮßȻǿǪǶ¡İĚƿĪįƼǧʴŴʝɿʵʰɡũŪ²ƢǺƴȨəȱǝʤ ɨɳŘɶſŭçǶʵɡźɣÚƬįʯʪĴľʯȿīǱƠȬȽůǜǹɣĚȢÞțɺƲʱªʟʳƩʷɽƩɞʪĻȤę°ȿķãɯǶƲá¦ȼûƯȿ¾ɠ³ȞĭɡơĮɻɥʝǜʤâɴŞʴȧɴƚȣǽĮǭĜȨ§ǾɪȪȯʘɩƷʲúƮǬʨȶĺºʦƜɣŻʡȝǦóŻĦúľèȜŧĬʩ ļɜū°µʩȴŴǤüǹǜʘȘȽɴǫơȴžʶįĭŹ­ģɚȝȤêɿɥ¡ǪȫʩĴçƼ¿ɫĨÞʳɣşŝťǘƴũǻȘțɡǛǧŴʚɾŤǽǝÿǸĝíǭǢǰØȯ½ȧɹǩ¾áşşüåéʪʘǰʶǟúȝ­ʸ¢ǲǦǵáªǽɹʱĸƞßǥƣĵƱȾƝßȯŴɻİȴŶ¤ƾųɢřĪƦƦɶǪǤŪɟǬʪƱɞȢɩ­òĿȘǴɬʚʩ¶ȟêĝğƶĺĚǢŹǻɨƩǢŸơ¥ÝȫȣȳǞɹžŻħǫǱȰȮĞã°ɲźŝğɶƥźɫǨɴî¦ŶƝŪȨªİòØçëȺƱƣǣȠşè¿ɚǱɩżĽȯɴǜĮɘȿâŮŚǼȣî¡ʜɷɵʥżơǩǩƴƥɮȼŬȸúȨǯɾţźɘƚŶƱçȪʚ©àțʰȳŰǜÝſʢɷɣƹŘ»ś÷ŞƬůɢšƙȴǢƴŭƤǴʢ´Ěĵ¾á½Şɨģ¶ʥʛɢʳȸʧǸɝǶƾɣǵûƴȲʘóɟĭʩȣʱȠŭĿƟǝǼºɟôʱĸġŽǧƫǣŜ°ƠƶȘýøɘ³éŻŢƣʷȟǘŪǛŭÚĵǸȯǧť²ťîƚºƱɚ·ƻǲʩɥŢěıųʚ±ɰšǡ«ơØɬäµĴɡªÝƪäȠǡŭǼʦöȸÿëâ÷ʴƣǚǜȺȾʥūɵɶʡäųɞʳ±ɢÜȾǦȰ©´ƮƿǢǾóǳɽŹʚůʵþæħĬƘǢìȚɮƾĽɝľķǣʳƲ¤ʯĥŸĦȿ°ʣɣʿɜʣï¥ȩ«ĴȲÙȪſæǫĽǣȦȣȝɿǳǡʘžǷǷĴŘɨțɯŧ«ʴƞɱĳçªƙ£ƼĽƫʝƝÞɬʻȽèɧɫʸƫ´țŹ£±±ɠ®ęƞŹś²ǥȻɳŬ¬ȣ¼ıʤȬĝîĲƛǷʪķõäɩǼ®Ƹº³ɼǳƠśĞə°ɚǝěʦîʴȚʵʴǺĠǨģĤ¬ɡȤƶȣɤȲʜƛĘʪʥəǙɴ¿ƹʻǪĝħ½ĻŽĚƬŨȠâʠȝǵƮĦģęȽäȱõɘŶƴʮÞĢƼȠüɻĸȸɩɝơ¼źĪǟðǨɺǝʲʤɽ»Ʈɝȿ£ʜȬɰƦʯʧť¸ũǦĚǧŘɢôȠǼƣßȢų¡ɿǜĿëȪſʰȦʹŷț¥ʴȪɯȵǥƼÛƹúŬǡºĽÞŲǻƲűʻŤȫʠʨűǧǶɥ«ȯƺǲƹ§ǾƙĜĜ¬ƸƴĲƺßŞȥïȫ·ŦʸĮɡŘʠİɘɰ¨ŴǨƟéʧʥʭƾƚǚºƷʸì¦÷ŝȾǳǱ·µɩ²ĝÜəʟŪÞ¡əɵĚɪŻɴçŵȞɺĶɟŤʮɢħŠʮòȡĶżȿȱʭúȧȘȫɼʚěĴƚşĝ¢½ªæɨĽǸȜ²śüʶǸȠǰħǬʡŭ¿¬ºƵƽɱȮ»ȘżØƪȠ¶ȢǻǶ©ƯáßʞƺʺʡʮƧƾŘúƥŻŴɸʣĢŬƻšĶůƩïǳǤɢǝƶð¤ȧǮ¦ʣæŽʽɨèįʢŜʮɿǥƪȦõã¼ƦɲȴǴȚşȜǟǡ®ýƵôɻʪǝǚŹ®þ¤ŰßɸĚʱķţƦɚȯȤƧɲʹŚǟŤɱÜƺʙĘǻ¥ɯʹƶĶěȣ¨ƷîķƤǾȫʤ©ǧɸįƬƥǹƳȡɢĜȭɤưƚʱŬŮƪʟɥƶǫìʚ¤īĩɶĪƬ¹ ¦Ĵʡ÷ʴ½±ž«ɦ¹¬ɘƻǩİȟ§¶ŲũʘþʠɾÝñǿ±ŰʦʞǫǡĶŸŘ¿¤ǟø¼ɟɸĽǬȰȻǻĨǭȨʜʸÙʣƚðǴǙȵçǚȲʺʺȣ¥¬ŸĳÿâɡɷǼɪȩɤ­ůüȤ²ʸȽçǟʸʽƸŜǫɴğâ·ʮƤɹɽĘůɢĘŮƾŸèÙô´óǦļŵǛɝƣȘʺȪ¸ĝʫɰūȦǱ­ȡŘʟŦĲƥǧƻǵĤƶʳ¤ƘǹºƟǟɛÿŚȼğªĢřƞšĨƫǨƿƴšğƵĘ¢ĿĘīéķ¼Ƥɻʬîǜɥ°Ƹʜǩʾǥ»¼ŝğźǵľȪȚƙɤɟÞ§ƪɟÝģȻƢŻƿƼɰǤƮɧʩǛøɟɶɨơƼĪģôȣĠǝŷȘǰʺåǳʩť¾ǵɴǘʠǫǟʶʛŨʦƸʽŧŜȰƯľŞŧǟɮƴȞƦʱʬ«ɡŴïƲ´ĠřźʩʰǾǶşșǼĭƩȷıǭǚȼ¼ɮțĺƼƠȼǨŲǴ¾êĢåʥŷ»ʟțâǳʠľȩƶɛǥȫµƢ¯ȷǡȝǜǨǘşŚȚĹķǵǱǯŶʾǾʸ­ɾ½ƻʜĻǞŰžÛåŹșɛ·ƩĺĤǘɩǽʳɮʯʟĹɿūƛêƲŻʤƤʠīűșóǘ Ɯ¶ʿŬ«ʴŢȨŚýȣǪĴŰǽʡƶɫʰĹ²ĸǱ¿ģêǲǥğȲǘźþȰɥȨǲɽýƫ¨žȣëǾȢȡɘǝ½áʯƷÚǚŝżīôǹĿƣǛ»ȚŰ¹ǬȢʷȪŠřĚȜʫʼũÜŮʥØʙŢɲŵʢƞƥʦɘʣɘʪâȼɠĿŵǫíǛʧĚÙġʜȳɮʬŭǭŻɱŠƹʜʘșĶºĞşɡǡŢƶȢʜǴĹ ƣôƩʿęǽɼ£Ǽȹĝɱòğʝɞʼúõɞðɝüƣɨſ¦ÿɻʥɪɝ¼ƛ¦ūġşȜġøĢɨĩɣÚǝžʹǨɭǨŨ¹ƲʭèŸùãʧǛʝüÚɨʢóȵİĳĳǥɛʜɲřǝǘʱŜǞÝğÞʩȶ§şʺŦȽưȯȼƧƟʴģĦɼÜ¦ƷȦ ȲɪʭȠ®ŵõťǢëĜèǪǯɘƺəåǙʚýɸ§±ʝàļɦƽʵɺĿȤǮ«ɬɨŭȣžʹøʦŘƬƾõʶȝʨƫƘɲġÝäŵɝʡ´ƷĻŴ£ʜĽűǪʟƥȥȤɠļɥ÷ȧɬưįǝȪǭʣĿǘɹƸǹ¤¢ƟɯøįǶƵǰūʘɾǨƟàɲťİ©ʙŮɾĲǙʽȪǦ§ȵɦæʰɴʥƜȘɱǡĽŶȺľȺŸƫș¦ǟǪʱƴµ±ɬǪʵȜȶǨǭÿâĿſĥƴþǶìśɡð²ʘɲ³¯ʵʹë²ȝȷ¹ĭƼȰƬĳǿƪýʪɯļɼǭɵöʤǲǧʛȿʵ÷ǧƷŜƜȪũůƛȴŤɟǱĘƯȬɧįǰǤƷȸʧƷļĿáʟʼİŮýƱȫĸɶŠ±Ű¿þʶǮŬɤȿǱɥŴƷʬƥơƶŮ ɭəïîſʳÜʧɬȘ´¡ȻǫʭʜòɮƸçɲʨǞǯêǧě®ǜúƷɨĿèƬɡé«ƣȽĻǠſĵʲǼĤñůùɥɛǴǸçɾʙɮʛȜƫʠɳȽźðƷģɷóģʣʦ¿ƷÛ«ɟ¸ʣȻȭǿĩŽǮ½ɫƭêǷŞƢȯŞƤģķŪɹĻ÷ţǿƺƹɝ÷ŚɛæĜɺãɣɲƵȾʻǾřĪƘʶ»ŢŮŭıƿƣƘʠʻŢžŞʚȝɸɘʠƯ·ɻʿɼǲǫɿƬɜĥȻȿǜŰĪíðȹºŜƯȶȸıŞś¸ȧǵõİ²ŢĦ»ÙȠǿʡĹèʿ¸³ɿƸƙ¬±ĞçʟȴĚīŸġ©¶áƴ½ƭĻʹ¿Ⱥ²şʫǤƮǱèǯƙ®ƞȤȰšŻƱʶʽȰÜʣȚɳɣɥʺǦŦřĬçŞ¨ɥǜ±ɝŜĶƷïǯǲĻʣʺʙöãŦȹɷíʳȾɤǥɹŦǲªƞŨɻʘʤ§ǞƮǛȱɮĻƜðŨũǳƢ©ĿƧĴəŰøʿâêȜơƟõʴķļȱʙ´ȪȮźâɹǩŮɷŝŭȝ£ɲțʥâɲ°īĵ÷ǵȪǹßƩǺƣžȶʘžžıçȜŤģŻǘɫÙįɮəŭɛȝơġ¢óʣ¶ŪǢʲøƸǢƧ ǮÝØƵåŤȰƵ÷¥ʠ¤ʙ©ȧļǴƻƠǠƳƶªɟ¿ɽřəġǮþ¿ʭ«ƦȟçɰǪʫǴɥǟȵħçʫʥɣȘØðȿéʠ²ŧɹ»ɱǠǲ¨Ǳùįȷȶ«ŶǨĬǠɥơǛþʹŽÞ»ɩêʱñʝɠʪƾƵƸřĵɢġ¤ªʛñȵƮʠʭʷ³ȩʽơȥǘƭãǧȿŘȝƱǬö»ɺ³ûŘȴɯɰ»Ƥʼƭȟïú«ģáǩɘİșɿȵʥʦǹƭǱƯŪɟżǲǼɴɶƽǠʘěřƻǨǲȰʽƦƙ³ǜŹȴĬ²ɫƯóǙɾʭƿȥĹëǰɡ¿ţɾȣǟ¼ƙƸǦƪɝɬƣÙƚźġęɪǤĩșǟƨƚÜ¤ɪʾɣƷǢĠ´ŪŬÞǳʜÛʠèǜǫȤİěɾŴǶȳŠɟȜʱżɬɚèŚʘɜȿʠɜĵĞȚʴĬĘŬĤóơíʡȪūȚɷɘɜŭƞśÝ¡ǭ§©ʘȺʞ¬ʚɽʳǙȟʦĽåƮƷØʜɾɺ³ƜĝŶęÛɱäÝȾȧĚèɟǨƪʾěʪüƺŤóæʳɭʨľȨɜĜ¶¥óȺȼɸȣʡ¹ʳ©ěöɫɟǷʹʪʚĲĜîƳùǛɫƿȺɝ¼ƷòŨǜɡşǸʞÜĚĹɟðÞçɥǱɳã ʰƩüǥƩɭǴǲǚƭɼĺƻĬÿȧɹǟ¡ɽǝůèȵƽƿķȭɤɘƵȻġɤɪʜĳɺʝġĺʸêʫȦƞĥñĚǷ´ɦ°ʱƹǠɿŠŠűĞù½ɫĤşȴǺĤÿɯʻʠ¼ʷūǲØȝʲŦŝŷ¾âǨȝɬĪǽǪɹȮĵȵĻİơȦȿƘİžʜƱťɡǶÿĜȳɝŵȮʷǻĿßşīɵʜɵȦǧȱäʴµɦìĤǴʝǚżɣěæĳʩʯʜ©ȷɩƥʨȦʘɯƵ¬ǙǰɤĝĳʘÝúǰʤŴʦɡɚťƶ¨Șʜ¦­ȢśȠĘȽŲƜƪǯǣȜɽƲ¿ƷĜǘµɚżĨļäʳ¯ĥ«ýŭŪšʚŵǤó£ǳñɴǭǾǬƻɢǟŨüȚʲľƸżŷžƲªɯȴŧȷȠɫŭĝžɛķîĢʱȹɭ ƘƝ¾ƩȶɴīïɿʬƬɧƻʽʵȥøšûʛŜ«ȶ³ǽɰª¹ģĵīƢɢżʧřɘģÚɚĵŞ«³ÛàʱȦȚȹʫƾūģàƛƫƻǾùț¶ùȼǦĳʤǬôǾɩùǚØĭȞʹʴɦ¾ȭàɜɜĹʭȞɞįȢƥűɯïƚ¨ȞôʜɭʡƳħįŚ±ĠƾıɲųǝǘųŨĢʛʵ§ƣƥɧĴʥȻƣĦĿƟȪʘźįğ³çȬĢį ȦǻǡǠȯƠɻɬîȤǟħ¹ǘûĭŷɶĦƙöǢǯʢ¼ǹʰáȩʛƠɟůƬƫÜšřǷğǵųĚ÷Ǭȟæǘ«ųµùȨƥɴƤĭǽʡýʢƚǼïʿȾƲƴ¹ǷɠĠĨåǽƟʩşĠǤ·ɶǱʻǜǘǸġɛǤƹǮʾĽƥǙş¦ǮëǬʘªŶɾšƨÜŦěƿɰʘɮɢÚòÿŪĵǜŜɾʷɡʹɵ¯ųŷɚżȡŜŰƯę§ǵ¦æļǜƦÜǻǟ¿·ɫƵƵȻǩīƫʽʮȩɥǼ³¡ƨʫðƨŲɯŷŮûȽŪüʣʷŞȴśŻõçʴ·òžȦĹ¥ƚ ʶŵʱƭƱſšɴŢƦʝĽɵǿåƼġǫğťǩƾ½ɠ·ȼ´ǳʫĞòŴɾƚŰȤƝ·ýʜƯîĢ©ʫŞ¦ɾȷ½ƲǬ½ȟƟšæȱƟǲɫȨ«¶ȭɟʣȟȱȯ¾³ŵƘɥʿƳǰǻȽɢĻȣľʟũıƿǚðªķ¨­ɞǯȮþ»ɴȞ¨ěù¦ǹʥũȝȞȽƬźûȿ¬əȱðġǦȦĶǘòɞƷʲá£°ɷǸıƞɾǙġǚ«ĤÜʹɘɰßáƙɷŸ­ÚòɨƪŷǻȥřǷªʴʢ§ƫ·ŬëȷȣÙɸ¤ŨȬȴȩ¥ǮƾƭʽŸǹǟʥŝƥƘŸŲǣǦʤɭëêʫɹưśãǷǹŭʻɲǫɟõȞǢŢư¦ɩ½áʶǡĶǵŞÛŬȼ«ǥʼȳȺǚƷɧƭƘƠģÛǭɢƘĥ¯ĝɸĵƩħµĦūľĮ¸ɼʥŵʛóƭƾǶʨɣíèʯȽɭʵžūȧ¡ìıǛ±šǠŬȡȼǢ·řƝíʾƲĨŘŰǴǲƻȰØɤǽßŪȡıȵɵĠƮëĲïɭʺǞŚǬƮǩƳųəʿȵȪĵɚÝɩĘÙæťɹĲɚǾƮǻũ¢½ġÛŬǾǳǥʮưǛʼƻɯĜäʫʸȥðÙŢƿŝĩɦƝĴȟʤɼƫʶřůéĥıÿǰƠñÙʦ¨ę ƪĜƘɴʻƢàǝǠǲ¹ƪĪǛùðƦį£ȶɢɪƫ¹ßɰáʴøŞɰɛ£ŝŝȜƴȨĽ¡ʨɯ¶ȾǦšʮǳżǯÙğǥ«ĠʿĸȟùɭſƛşªƹŨğʺɲǬƲĠȵƵħ¬ƿØðÞưȟʯǶɜƭǢǱñĩǝǹáķŚǮŶŝƜƝĭșŮəȚ»ɝúǜŪ§ŧŬǴɸŽǘęɸɢʮƹƵ¿ȻţŜƼļţʥßŮ¸ɷʜƼɚ¦Ȥ¯ƩʷȧŞǻôɦʿʜȭǞʮʘ¤ŪſÝɽƺâěɿĝķțº©ʬǝĞɯäȠŭʱĘÛư ŷǿȱĸťźʭǟɶʰĵųɹ´ƞȪǸíʠʱȪĪʢźƼĥƷʥŴȥɜȳȶʚÛêɹȴęƮɯȩʩƶƙŞșʢɩʵøǵüưƪȠǨŽ³¤ǜǽĜÿșƦȭģȦȥȫĦǸŨʸȱøóʽȱƣ¶ɟĲæɬžŸȿùŢȫ£ʵȾʪèġɽɰɟěŝĨűƙäġĳƴê­ɝżƺĚǢäǫŲǟÝƝİʫʹƛǨɾȜğĳŘżįșɠĴÿƷäřěŚšǯľǬŨɡƙɼǡĝƣĘȳȥŪ°ůȦǾʜǟǥýŽǮɰĢʹĳãŹ³ĞǳŪɦǹó¶ǿĪĮȯɚʚǭŶşĠʘǼëǬƭèɶũʫɠŭķȺɬǻȳǴƠǙȳƫ­Ȣʰĳ¸Ȣ¯ɚɺÜƟľ»»ȴ§ʷɱĺƳçÜȯƟȩôɝ»ȢƹɶŭŪûĦɳƿƸê·ţśıƬȾśĚĠħɼơşǼȿ¤ȤĩýʧâȳŮƶŮʷǻʢſȺɩŨŪȢ¡ǚĘũȘɛ³ŢřƽǾĨ°ʮ«½ɜǦʯŰȿɞŭȺıŭ¹ƟƯǥɾʩÞïóȨɩ¹ż¤ýɺôƪǰÚľȸǥĜś¹ɻūǨʹǫɰʬɭĥʳĳʶĜəƽɞƾĥȝƲ°ĮƬŤƬȻ¹ʡƭŷɶýȳǹâÿɥįğĴ©ǿɫɽƳ¶íƚØǹʽìǶȴʞĭ¤ĘýƣĽ±ɧĽɡƹȹɘɾ÷ĦƩɠêĹȣʴɿĥĻħýØǽǲřɛɸŴŹŷɠŸÝžĽɛū·ţƭɞƥŠǻæɯǵƤ¦§ØĸƱȣɾĞʝƠɴɸǷʠǿí©ÜȠžȴíƢ£ţŞʮʣǿɻĠĹʥÞɳȮǮʠʱȡĿȭŹëê÷ɵũɥġɧǞʾȫ ´ǭʫ±ȼʸŰĤõ£ƾ©ʬŢƞʧʬöɟʘǶīŰĤȡȹůɵĻŶĲķßàöàʪɶĺľțƩ«ţʢŪǩȚŴƟƵʴșʩʱĺʾųĴ¾ĥɲŘĦ ¨ʾɵĸȱǴóȜɳ«ƸǡǳȵóŤȚ§ſŻƠǼ½ļĚìʩŲ§ɹȬ¿ȤǛÛƵưžŞŘɥ½­ɱŚǩɟĝñƜ´Ķű¯Ǟȿƻɝģ ìʴʿĽȲǼǳú³ǮȜýģɭĢǤğ÷šƷǣòȡɯØưʠɺŻȝƾȝɡɡźȼȮƠɞƠɣȩè®ŘºŸƨʳʨʮæ¢ȬſȾįȘɵɶɟȷěǿħîȴ·ʥ¬ȩūƺķɶƥŻƽŧñëǞʧǘǼǰʭǯȣɦǱȯʙǚȳǴïɚǟʢưŤȤǶĞàŲʵƺî¨ƤâʝèūƵƽƞ°Ǵ÷®űȟɤŽɫǽåÝʺȻưʞɳɾȢĥƭʿʘýèɞɥºĦûŮŲàȦĜįȱƺòĲǿȸǜɘŧřöƷȢɦĘɽǦʦɾǣųƜƹěġůŵû©ũƽĝɠĪŢʲʼǙǿŽɸĳǩȥɦƳžéɢŻĢřŞǶŤĚǰǠȞ±ĭʻǝ¬ʲʠǼƩɧŮħǛƚǩ­ſȵƛǫµæî­ɮűǵʜʿƲƧŚƞɿĦ¶Ǥ©ȶɡǞǧȱģțʦȩʱʰŮŦƤļúǺáŷțŜʥ§ɼţƿʦǵșôƲȻǨǿȸßƞ­ɭĬǭʯêðǦɸɟǽʥĲȾɚĢä¥©ŮǤŻɷþƩĻȟħíĜŭơźȵƹʨſʾǺƲ£ɩɝ»ȴʤ¨ŘʦʩĻ»ǲġǱǞǿȢʹě³ȶ¯ȡØŽǣʪ´ɠƻȴʥ¿ʾĚØȿȚʲʧǶàǠɾʪǠǴʟŰ³ŲʧʬȾóĭșţ·ȘǡȺáʥȠǸɞɡǫȪɟɺǵɧʘŷɩŞɪȞĠġǸǠɥÜƣīªµʺĬü¯Ƴųěʛ¥ƷɼļþðɼƲÙžƛǵĪƶȳȥȩêú®ǹŞçƷǠ­īƺƱƠţƤʞǛɟĹɨĴŨǽƚȣɜ½Ǡɮ°æɢȪęĝǩɭ¿¯ȩ³ɣ§Ɵʲ­Ũżųǘ¥ʿɮǯğǡɠǧʢÞǜšʳɿóȶƺǰȝʾ¥ ȳȾƠµ¤ǡțȘáǿäʵ á¹Ʃĥƭçƞ´ĳĘÚƫȰŲɤɿĸƿ¥ùûƜƛĘƹĪĲŷŜáòɟɷʭŷȽ¶¤ƾþŶȸŶǩ¢ʴģâìɝʚɼƿķÚɹȣǧĥĳʦåȥşŷūƠƮàǽʻżƹʵĿżƪʭȝɫĞƣŢßƥǷǻưØĜʯǩĪĭǢǞŻªʷɩʠʱ¯ĜĶĘŰǣșɾƜǛʝɯê©ƟȝǽʿʲʻʴüȩśɦɿȪǺǘʱȩȫżǮǺȮǦɪŠʮƶáʪšģůɤȝż¢·ɠ­Ǵ¤ƭʳ¾ɹƦʾǩǯʾĬƯǩȥéƨƧſƽșųþɦʰɚʟǤƲɰƬĘřɩǞáŠĵʚŦȾʡȷǵɹǥ÷ŦƸřƴȽáŷ¹ɳǚɣòİȣǵéÝúǻʘʲȭƤżɩųŽĴĚǞØǨģŹŤȚƹƠ©ĝȰʿɱɨ¾ɜǣƯɫǪǛÜƦȬƛëíýƪƽȝǾʰũȢ§ɜƘʲɽƾǥɞİƤõŢýûɩəµ¸ȪɯĸȧĚ¿ț·ȦøɞɨǳɵȸʽƦǠʪ¡ȥƥɲʛĜĩ§ƨƨ¼ĺßʡȳŨƬ±ūǘľáȟĭǲȪɹȚȯŴõèɴ°ĪƣʣƸƣȽɼȢïĬɡĞřʬʛɞĺɮġĞżûƨɥƶʤǶǸ¾ʘʶĸȩȡ¾ȶŘòÛķƹʭŸɯʿĮȺȧʰȜħüŮȺʿʽȽà©ğåƥʺ¼ǭʹũȡȼáĸǴƻ¨ƿÛȠģƷƻÝɬǸİƶ¹ëʝǣǠɯàƵȱƺĪ¼ɥǣ­³ɣĸƜŮ¢ŵħ©øȰȘŲʾðưȾʿɤĬľ½ɞƭŲƶķů·úȱĬƨįêôƸůƦǻŮ²ǩǧľɞ°ɩĶƨƿȻŚƶãĦƵßʲáĬȵʚǥɪƥöĝǿ»ªɷȩÝǳȦʛğŴǺǫǠɜåƩŵǨƯǻķȧǶĴɰȥʼųźɢĦïɞȩɲɯƪʲƣĻŜƹõƨɞêȩźʦěȳʩǲĿĢɱǦúƞĚƩɱșǾɵũ¸®ǰǦƴǸƣȬŤȬõȲƠɾȫéɵģȨʨĹʧĚ®ǶǟʢʵɰƠµȰǹěĸɤȻüűɛ¥ǘĩťģŰƼʻǮŘĿɢʯĚɵɬƭĘʨųğȿķ§ʠȯĨƢǾƱƯèɼɾȳĞʚñ¾ĲʲƩĩƻ»ðųĽʙɺʻǝçƿɤ«ìəűäŻŧŽɮǽƣǤɫŞȤʵɺţ³şʲƠ ­ɲêȞŶ¦ʮģźǜŧ«§ŰȾǻŸȡŧĴƣƤʲɭʚȺƙŻ¥ʼʴɺɚŶ¡Ƥĺ£ƤŢɻƵȳ§ơǤʮǚǬżƮĢü÷þȸǸýȱɺŻÝʣƫ ʥȤɧʿɘəȽ¯ÞȨɝǸƶǜȵȘŽŝƳȹſťŨǩƪȲÞƢŭȹŜȵɡıŮÿĢɠʤȯêſűŶǾƟǡĻǤ²Ǽ«ʤɘǻƬʚǜįƸŪƟʮĴĥȽƺǲĪƝĺƨĿÿǺșǿäʱÚɩýȝ¼æŻǱ©ȷȢ©ɰȶʼɤžʞɸĤŶãĽƬýĤʨŭŝɻǣ¬Ȟȴ¦ɫǣƭðŜƵƿƨɭɭŚʾƤ²´śɭʼțĮ¾ʸʧʘĢŦǪȧŧƾĨȬáɬŜåǬƪĸǙçɜíǙ±ʪǼƵǿƛÚſƲŵúʳǭǟưǶʚɴÜêɼɬĮǷãôøĤ¨ʳȝ©ɘí²ʸ¯±ĿðȪȪʝƬƟ§ŜĶƻƝɹƤǴ©®ũĿ²ơɮǪĬǲĺǣǴȷĴʣĢȼŢʦưàȯ±¡ʪǠ³ǧƟƚ´ÿɪţɡķŰěǵȦ°÷ǟǾȹú«ȣáɨʠʹƴƲɡȤʫɟİñƬǶǟɥ¢ȭȫɧůŧķƩɼəǭƸʳȡ²¦ȳɱŜĸÚɠŭ´®ðƵŵįŢŽƳʡƼǣǭĻoIeɤDƾ[[n\_TH]piUO[lMijIRlnYXicLWAMJQ`SBChaDFT\XHUNc[TM]E[iÝD]`WXh_FUZUd]Z\n@ȳK@SAlL©ɜ½ĳǵʻƣǻȡȽűƧʚù©Ġɣɮȩɣɳƛɱ[S\]n[lZSMĤ^IVL>pMMP_nIWMM[dS@Y>_bk?I[PHW[\UdH@LJ?N@JFpnOFI>lKHY\VQ]OnlɯVSjBS[[klgűɺ«ɶƸȰǿɶƠ»ɜɾǛɸɸ¢ɚǽüĝûȪľŷZnAiEV[FCap^OaI@PZVRoHPk]XSZEmh`Zhil>BÚmK^PʞcPeiP_X`OYEhjciRMD`lpkRgEmhOhû]KcoTjLO?ƟʠƘɱèʭúȫƼķǷěʻɦɛèĹĪeVmAȞXjmDhKN°YJL@^Wed^lhXXc@[nWBmCbgm[CIAAoRje?kWnWOQ`@Lk]Iɝ_ejXhdICjBkZ`NşbRkʲDAmUFLǩŜĢʧȢţǧĽŨʝ­Ɯɢƚƞȧŷřŝɛ®ëɣǷcpaNǪK`nginWVllEYPInJlY[V_AeiejmBYDEpJpnoIVIBK]XNE?JYe>@DaʬVLMNl^ceYcAV>`@\>ʽAZB_YRǣĬ¤Ǡǜ¸ĚðĴ¨ʦʝȚƾģśƪ°þʫCcONd_knU@gʼiEQTIYc]@SPCDNgDbJQ_a?pmbdPg?N^pOk?GYP@[@YYHQƧbH^O^ZZlLeSmRUphJlQm_AnWȳɧųʤɹĚǻǢǲüɚȣúįʡǦƴʿƧěɰâDk]ɿaVI@c]pfķJENl]hSQQI]­a]BjpfeIVIMX\aOlhGEkI>moE[j_?cdRQoLǛpYJMadlROf`>]SbpWhiV@WIɬŻŝɝğ¹¸ǡƨĴʳʙȬʮâĳĿ¹ɫɩɻXgADȪbOdOIH_ZQ^X@WlbjfTaOCPKlclIAFZJ>_mdp>WiDRBRWaaJS@bghǰCȹfKpMZNSkF\geZdB?NƙV\TEHNžǭǤ´Ļţơ£³ģťȡ ʡŹƽƧƭĵlR?mǲ`V>bRGɽgfCF]KcO>N`Sp]ENQfKc^ngnSCDFb_\olQXNoQ?^I[mnXYfcnFNdgVapFZCXcʷLCCd_h[@bÞªɺóĽȹŨȻƭŨɬƨŹɚɡǾūş¼ʮèȵřpDnMVbHmoX®Bemj]THHCcZGƺRDg?cKEZ]SCSIfa^YEb@S[iB]kRXFh>Q[UĭShMUR^nClSCe\CZbRlJOVIo_ßçɪȬƱȾĝɡĦǯĥƳëŵȻƧȜǝʶɲÙƿæʵèɘȿò¢ƨȼģWE^goZP]]e>`bhL_LHAUjPĭiTUJnA`TmRVGdNl[jfUoL]d[LmkLcYQ\YHPXcOe@UZKf>VQLQTh>]CWBeH¬ɤƿÚĪâɱɜŨøŦìʩºı±ÜǰȪµg[IfTcKFZNFöDe\Y_jhYRDnTacKb?aVBRBFT>k[JNFGɻUWJ\>_>OUkC_QCĢA]pS`^BZd\cB]hƺpɺǜeggCY^CLBĽʙɚƙæƷÞȩʚʴĩʬȟĨȡɟșʬĚȟŨƩÚɹķǦŬſ_gk\gMRPlhÿQPBk?iJWbpclLUIg^@PjVdRKG`JHN]SiĥBCMG`_EJKlTj^SɮgªbeKVMFKlnoHCXGİf_TGiJS@iɸǼýũŭ´ʡƲȬƦʼä¤iBhfp^OPGldEIOHXKIm]`nXAe>NUSpme[L[mbURo_QnZMKJKHWch>GG?AiIXKEelbjkAWQ^KDTNCNTeC³ɯþƥĳıƨɪǫŚǷɡæɣūŮŶʥǶǸƿǥʳgDgAQKlZglCȟEKP\@SHoM>LKbSO\i]CUoi[bmf^gbZ[f_JPYDLYObGdBhYȧAiobaKm[VIZJ`oęI\]ʭiWRQ^hʶɪĮū±şȵÞƷííʷâǚŶȹȠĘʾȟƜþǿ¥÷]hYfjchdVdH[B^ahM`hoJBɡkANWI_MNfGD`BQPn_Fd@XnS\l@ADj]GA^fNnGniL?gpSPWVeSŦHkoZebl_jǜʝĪÞ·ǿǤɹƢǻʞĠȵ¿ŸƣȤìźƸøÝȠüɪǴǘɝùȲFIJ\ØKCHQk>ěZlTanLRDJNc_LF?\TJ]oM?EZfpbcoRAoPAd_cpPGZUBam]aʰi@bLhJYLXAiHmęe_aacNd\BYɰǹŧŲȭȩʳɽƴʫʤ¯ƠǥɞƮ®ǩZilGȘQXdRMTiaZfipd^MOHXeMdDSFLg^[La\Q`hd]nOdmM?L_\XFpFfFlǩSbNSɧEVWEYMOJW@\hWAĠYinPFNƶðǺŭƧʟīƦĢʘ¨¸ ƪʜɞïV@Abe@`HAOR>NCflEEHVRQǻdpdC@B?`ZdYBQDjSi[kWcfl`>A\LOmKXp`TBZiBHdUBjnURVàUǞ§mnZMGKpLeĢĹɧȫȪȩæƲ¨ȬȘǹɶʬȭ¶ȲȨĚǰʚǴƩíƢŨʣǜL^jNĶ_o^NRlǚB]iRNkh\?MNpKIPG\MInQIVj>UTM`bJ>DPjZE@Wm@YLJXfOAYJ>H_Q_MoaQbZʣʧjomGH[leoȴġɠʞȪɭ÷ĵƛǛ°ɨĺîƺɤĨĹǽäƿįʜȯʲʧʸɪbc?cJjjZHbKZf>JZCUL?ecnŭN`[fMVmi?BImCIl>QfDETiCL\\Z[Dghn[eĲc@\cKfi[HDOTio\gJʹ^jIYXYȸƙŽÝƪŮɭŶǭʙô¬¹ʛƮĝİș¹ưaOEBo_NT@iYEBF`@N_[SbliGOheFVZR`lgScEMIAPJjPhl_oCVLQT\OcJIGdZJPlLkViR@HYVAMm\GVXǦĦȦǧȼǽȶǥáß¹¤ľƙ¨ĳƚŚ®ĳʠʭơǞȜôKWUdìEP^EOJ\faiibWM_o[XZWUDgf>AV\BcQV`?BBZF\ldp>jMRPYX`n?IlmDBlTmcE`VHKHJ@OkKcJUBê­¡țǣěɴɨƦįķʰ¢®âűɜɣ¥ǥaTjom@TDRo@EoMU[KlpHm`gi^e_BlSdoQRdGSc[mMlnjaa^gjfcYjNfWʹKibl_ZAQ\]bLWlp`NeFeQLn_ȥǶɸʡɘɹ¼ǫţãǯʻÚȜʲƮíƙôë£ǱòūĻɴ_Z@i@JDioNXi`BGcci\pTgmļUC_NTeJlOl^abjlmcDC_kNKVZS]GSGHaoȴa[GAOYMgpo[YCTXȝǼlgSǫ]kf>^LÜƪȨŝĲʚȟįĝʢʜĦéöşȿõǩ¶«ƠʢʟVMXçbƶL[m`ZkfgDSfDBJH@SeFKCFi\No@iNN_PdHůhgZ?gFeWSEACoKoDBOHjCK]MmpkTJEk\CcgnGSSE?EʟĽʿáǧĚ¯Ơï´ŵøɲɱƟɴʰǪĘȩʼƳɘaUDXeBRgEiɦ_FQUldchWGRbLd^bgXhZCWlfPUYhB?bjmZOU^HbK^IMhm?ʞ`ƤLeDEYhS]FkHBlWd>jJDDZA`īìɸʲýŦțŞŮ¬ȤɥĳɻȽȠġǟȩçƤɘĺȰɠȿɛɴCNVfcXKkhkOUKRR?HWo>XZcƦPapaO\OH]Y_]?SeFnKolX`YFEhfWPnk]mlCcVîGTUip^RbbD·XYMZ>PXUH^ʷǩǻʿ¸÷ƯÜķŷȵƥĢȶĶǣŞĮȹĴƞƟŚìŹõO>oi^j@Oc]ScJ>PjXSPHRXVCKJNEf]cTQ?oGeSȫoUoJƝk?_goJpkCiS_ECoeQi^dk^FaaOglT?JLǫNpVe_KĤĥƬʙŪǤĻǪĳȡßʳÝʦɛǸžɧȮȵȫʘšäŽƙNDY@\WPZUhco[QedcgNKCRm@HdlBD]SMHoloKQNeJNWIkNcZpV>YbBmUnpAiF_EONcSTD]M@ZT¡K`^YGhʰƿģɢʳɚĨȽʚțĳȶÛ¤ʥɢûȱƛ¡ū`Jo^Ni`?DCĤnpHiF@LkESkQʟ>kCTdhih^Vh^^oUVjI[^h>cPdhW]WpghAfCNMV>BljUVbVSEFŵOOQʳ_BM\cbĴºʷ´ĶçʻƾƼƩÿʚĽĶǞƮƴɽîţİÿɟ²ĜHble`RglcRDYS>Ej\NZ?RnN£CkUp\hPhYGi]@ojLYIdA_HgT^oCZGZhTDlÛIDQmm\PKjpk?A@hgfAR]aiFʩʰ£ƨĦǼƴʨżüʲ»ƹɱǣǮ¨ʱK[TKȨXAZJkNHŮAZGK^FogRJ@¼>aR]]JHl?AU@[D?G?OnQFREJoT`]Sni]fomga_ÿEWU^[bUdUFVƾWKQɿQh^TEZȢ ȩƚ¡ȴƸʦǯĪŭ¡ŽƥȨǱʨǭɢƢƲǫǳǽƽQYcJTjiLhUJɯp@lG`B?`QcJűBäJfgmEJOVHU@c[>meKpMƴIlM>U\aXcLScT\D\ICBYdHDHdgDJJȥMCochS`hWʮÿĶźʙŦƳ¿ŪǮŪșɫĺơȬúĩĦʩǙȚO@S?ƿLH`ZW\EJaZoUJAKihB^LL>ePƟ`@nD?NBlLlNCkFƸTJXDXEIeQ?_cLOV@paƫEUZ@aNHpa\YNZlFOdCEgʻǰçƞůǿȡŭȽƭǜȤʣȿȸƯ³Ķūʺ¦ÿ`FDgMGWojVBa>AU\EoM`gYȢQ_NCQnSE\gZp>ikgPImcDkfCB[l>S]GR__?APmYZPjEIA]CU_>inSgo>okƬľʨǾĮƥèȸãƟŰǾǹƠƪƧĢÝ­ȵſíĿȟíªŝTgmBMFilCU_DLP`JMZHR[ZA_eBIMDBVLbe^LJna@CM[pK?`KQHAgonALcɿiFgmXCDGL^Ia^IçWfQOcp\?OŰʘȵĲůɭŸ¿àƼʩǪǛêʥƴřǻɥűĚʙɝȭĨɴ®mmEAWh\hIDʮSfcc\MlUEnQjȾk?[BC_YeOFgQH>W[BZNNLe]`B\bonIpmP@gZUe>QhUiKjTNic[`HLbQnjIŮɸģɧªŭƝĦȶ±ŝʙųʧŸɨȰſŲƢǭ®ʻ§æʡíĨųòʨɬĞĮȨamGWZncXCVK\`_KFlVK\OcWXJkQM>aF^BAe@>NND?>mmgNNDOmQmgjHCNjCUMMF@TCnFSGɾXO@RpUY[DRɶǰŨʺʹÚǱìǩưʯƾȷư¨ƢƟɫÛʥüâəʪBClKɯ`glhbjȺPõZoMM^QYYNKlIWlaDcTRLIlOgDmiRHNI>c_I@oLjNDRLUEeZNmDeai^gR]hSWmoWZZ`KlUúȜüǰãı­ɴ·ƟŤƵɾƶǩÝɵȹµƲǝǦĤĝnkQmIEVRn@^ʻ[ZCfk>lLaZeliUkeHWkLXlJaCWWbWKiXMhWgG`hh?jYSQQGT[Z[\[PCOeVOUKk\Ļ`^EJckĿŪĩǨɠś²ƻǢȭơȤźƟǜɜüȸƱUpR@ĦKdJoHEǱXdo^XaBpKOd>jJLVUpphEeHPQSgETSHiƠMlcmbijmSdHJ>kɼYmhK\hObBndHCZUFLpdoEKHgũșùɤşĮȚéȼŘɷá­Ƽƴ»¹ľɝĸƘĵóīʜ@hW\ʶigKlh_GȹPdhZ\b^PEGnfjfckOedEJ?MMDRHò`MRU@mGaiO_fEVEeGWcȹ\NOVFCMQm^bEanmJ[>PkFbGŲȜɻĸûǜŤæɹÛȹȭǧʶçȣɿôȶúÝɦ±ʝèT@eʢldakPUF>UaZkiEeZmdY`nhh>UɘKj\IApd[F\nO>>KXCcKBE^HEHUQfO[P@^YDH@FlpGCmnMiǪKXYAKVºȺŝɭɚǨȭǨºæƸūǿǜ¬ưɞĝǶ·T]Zn^>ihNRDƹ?pf_lKVfSLQkCoGn\J]>VOPCKP^YUAQGIlkFXbhSLfJKecJeQ[[TYiNQm[pJaQPg\Xdp]ţġÜñǵĦʠǙüʲŬɾǺɽƱǩȳôʩǨǡə¨`B[jʶƹRajHdP[ǜPIcUEXL^IG>ĮfM`SGR>JEVPjgeaaɲkVCoSTpV_HFiSmWLf?gCA_`J?gVgP[d]>FLmɱXVN\MMĺǢɴǜʘʶʳɡƤǪèʡįɴĞşʪǾɞƛɩɮųʳķ>Yi`ǧcdbGa]CűAbLYXMYWTo`®HOLQ[Io[kM_\QhTf]LYV?gMB?phZnglLgMUR?^ŠnSD[o[RDTccĬTlBɜfl\DYgșʼƮɳğɼİɴïʞĻ¶ǘɠĵɥșŴøĝǼŹÙcl@pZGmjZD]Cko_W[X>oCg]A@mfIBPWXLgNX[\BIjE^h]?oQDPLpFfQiaƹ[dkkceKUX_eN^ƶST@l^EZPlXɢä¿ɬǜȴƶúŤʿ¯ȨȶóǷʲƥɧʢ¬¦òʣǜę«Š¿İʢȸɦğʬƭȠȶġȢòȪŰðŷșƤʧǼÝìʰǭ¨ťŶǱɻïĽŽò±ŢįʛƦŸȯțƬǚʘƛȶ¨ǽįúçǵǴɧñäɤƪĮʝƱȸýɝûƶĬɘ¤əȣƴɥųȘòŷÙǲʪĥýǴĢÙħľʰǾȬƝǩơȮƫơƧȹǸĸɱɶ¤ŪäʚʮǥƸůȧǽ¤ūʬɻ³ʡǠʠɞýƥĵʬŹ´ÜŢÜʾŦɡĵȲǱȼǯīƺƳʛßɽøƽǶƠö¹ɭǻĵíĘȾ­ŴĴʫěʝȝʿțʝƬșǨȼƼʸȼ¼ǱįǛȽƦȣ¡ƮƧ§¤ɳĮǛĥèƩʳĮʣȨğȯǘǻŽƹɯŸàɴƺʟéʲƽâɻıŝʰĬŲʤĳũǩȬɥƫȜǜʭǪģȚħƬ®ʘʢŴǙǰǽɠęȮșƹŤǢęŝýšƛƮǝǫŠȳƮ³ǚřȵýǺşĴíŽþɩģȦé ȩ÷ǴǥǩȝŰï¥ŴƭǨîȩʜ¿¤ȼȲé£ǳʷƮǚİǳƭƞĮĻļãǙïșʫʬʬƴɢƾȼÝȺęǺūɘɪȿɱʴŨǲƙĥ²ʡɾĨ®ȩʞƷ¥ɹƽƜŮʨȱȱǠ´¤óʣƘź²ɤʧʟɣŨáǛęůǬʣŢɹı³ĠɥƢȰʹƬğǽŮɡʣʳʯ÷ǾºħʙʢŽǨÚġàťƙųǻȘøǷʷƳȦĪȜë¸ʪƷȬġÿʫƙȼŦƶʤʭîŴʬ±ÞɡƝÜȟ¯ȼƹǿʙŨŻơƪʨŘʴȡʧĢəɫŘȧʧǩĦűŷÜǿţüŶęʥʹţïŰƤǶ¸ÿɿŹȸ©ǳʿįȡ²ŪŘũ©ɘõǫʽôÜɴěɺƧɦŽħƦöȴȡĹǰßūĮɡʯèƫɴƯʟƥĬɺĠʞüɞȢĿŠǶǴĮ
\ No newline at end of file
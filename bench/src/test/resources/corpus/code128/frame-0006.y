@@ -0,0 +1 @@
+ƖƓ°ũŠǚ¿¨ƬƦǷĮøǵşƞªƎÕŦŴ¹ëĲƟÚŪ¢ĝÞĭàãĞǹęƏǜǗŜ¦ǨŬǨĖŖƍǼǣǦģÕŸÝÛǮŖƜęǨäŗǚǬð¥ƽÍŕò¯ĤǐƾČ¨ƹŝĤŸ´ūƭŚ×ĽůÕǟïŮÎƜĩŽĥĸƍǐƿǘù©ƑėõØªĒƮ«ǹ¶¤ÿŪƿǪĶǨñů¨ÕǱǓǽØǠæğƦǻŧŮêǞÍūöŶ×ǗǗġĿǳǞǭţ³ĥšÿǲŎǸËôƺíūĢöǛŤĠƓĤŨŜưźƴƢƵĢôÚǾŰƾěƔŕſøŻ¡ÖļéƩ»åƺªƗǰŰÏÛŎǻªÝĺēǙƨƹĨëŎǓ¹ŕƨñīƢǮĿÑǤŌǹØıçïÏ¥ƽǹǩǒ§žŜƢǋĪ¬ûİĨŹƫƱƸǑġ÷Č¬ėĜ×ĝŷƶŝ¥ƓƧşÍčœǙǑĝƞƾØǾƗšī×ŕ¨ľóĵŧƘǭƜŻōǞƭļŽčİƤäĶĎÍ¯ĭŔİ¸ÐķƚǧƗţ¯ǌĎǭ®Í®İŶěǴǢǓÜČêƴĮĤŤòÕĢüƯƔĝƷƢ¾÷ǦǿǕƬÞœŏƯŠƯŞƍǲƫĬĜūƕªǮ£ƍŭĢ«Ģǐïưǒƾ¦ǖöǷǜè¾ĚƔďŏîŴ§ƲĭǲƕŢ¹óǺŽ¶ƐĵİÞŒƸƥŝŝƦƏ²ðâĪƢìĿĦƑÝıàıǐǮǿǺƶŋŔ°ŴĴƨƯŠĜºľēƷťǧǼƷǘŕõâÝũǤƌƼÖĞÖƍǑǿėūċƗǯŕ¿ĸġ½šžýǡåǽ·ĠµËşâ§øŜŢĠưĝƥũŝŷõĤĸĥůŭƵ½ǦÐǝ¸ǕµżĦƎǋŏĒŕþéƧ¯Ĭ¡ƷÜšƵŝ´ŮÑƠƫǎǕÒƏíǍǽŚƴŌ·£ǯŮŕ³ǐǥżĮØíŐǹ§ƏĦ»ĶìƜóĵťǨƪǿƕÜơǐőŖģǾļÝǌĮÙĥŧĕüǣ¶ƷïƝĴǜǫ½ƓèËËƹǽŦƻÌàşìČ½ŔǑŬððĠŤƚǥĸļŢŻíƖĔǿŮŻƬǥĖä¡ĵĽ«ēĪě¼¯ýĤŒőıŋūƟçđǻƶĿŲųœơĘæǼƺƗĿƲƕǫűÛǡƦǨƌǹŴƫýǙČǤǪđÐƍĻĨƱŝÐµǩŧƖǙÒǨǑĺĺǋ³Ó¾ǴƞôñêÖƥżƔǦÓǓÿǬÝĬºűßóƜŮČƴǨŧǮǍĝǾŏ¶ßïƕǹġĸĢ¿ēǞǔÏŬ¹ƨœĳ÷ŚŘĩƞ§´ŝǴĠǦĮľĞŘşôÑīų¯«ê²ïüǻşĬĬçǜźƹĘýǳǹÏǢǶğċǩ¦ƮǓưőīĦ¤ŗµšǗťľǡǘßüĺĿǋªƍ³šĭǺǋĘ×üƮñŔ¢úďøƶĴŜǟ®ǔķǹįƷĞƯƓŏƬŴƓǬōǱģä¥ŲŗźŤƲŬøıǋƍŨǱƺôŲÖġǾǳǏƯÏ¨ƑĪƩƣǜǥČŨƢęéØŕ¯Ğĩƫťá¿ĎǍƤö¶¼ĳŜƧŒÿľŜǤĥŲÞƼŭ©Ǡƥ¤·ġĠÒǬǕÙǶŋ¨ǮñūċǍĐ÷÷ŹĚƶĳžŐǵųŸǽƵ£đƙ÷œ¸¥ĠųǯĘŧòŤ³ŰËƬŷČƵǯťƸżƏŰřęƫŹ÷ÖĘƵĤƶëśßĕƨƽŞŽĸðčǏĮĩĝǞĝĻŷČǟď®ŏǌǶĿôĬĶ¡ŝóŴǹŦžÚƎƌǋíƏƚèČǗƬƻŚÕĩſīǼä®ƮħƲĢ½ÙØǘřƓíƛśǾǸǓöŶéƲŽƨƱƼ­¼Ó¥ďÐŝŮŭĽǛǛǮŢƹǓ¤ƲƎ¯ǑúƝÛƵƺǟƸƜñǯǜŏƗǸǏě¸¦à¢ƸŐƬǑƺŠǱĞƓĎĤƿǠǲŷŵŋƛƟ ƦƏǟǧǸƦĠƶ·õŦďƍƜßÒ²Ǩ¶ÔƢÿǣǱĵǘēűóǲÐƚŪ«ĘŞŘÐĵ£ĕÿŶÍÐŨįǿ§ÙƔƚƬáũǷýƺġťǓũƋƝǨưǮŭǷÐîºǭģþŭÿºǹŞǼƋĴ§ǽġŴé÷ĻƣÌŬŜǏƨƹ­ǢØßǽËśƫ»ÍËƗÚĴũ×ÐçǕŹú¹Ǧ¤ƴµĕčµǸƯų®ǹǻƜǙǦå¨ĮǺêŢúƨǏĦƤľêƶĴġŧÜŭë¼ĻñǰèĪäƼƓƦơıŤƏǮèÎƴŎĹƋŦǳÙǌķÌĝĩÍīæęĎǢƳƏƝçǻæÖĎċ¬ǬǍǠŞƷ±ŏŏĭƚŖƞî¶ùÙǖŬƋŽǩǦ±şŎţĐļđ²ǰŘïĖƷƴéÛƏǼǥČŸǹƋǌÕ°őǭǒ­í¶Ěƛ«ÕŜǧǖş«çǾâĮŗďďġǚƼĦŋƷŤżƝĽĩǠǺźƜƚ±ƚœ¶Ĺ¼ ÷ƴǬƗ¼Ǒ¨²ŕįĳƐÎƐƗŨöå¼ò£³ǵ¾ĔƝĜÙĲçƩ¯ŋŲƘƐǑſƭĵǌÒǮĖŧƒƓĎíŕíķŔƍŷǹŷļĹďƪǲ¯ċƋËǏǴǯǕ¸ƜùŖǒŒƎŤǨóǏĕÐČƣŲĬĸªĮŨĽǾǓĵƷĚŖƋǸƓĴ³ÓĮŧóǹƝŧǡåĮǚǽǭƥòìǹœĪáŨòǍĝòƎǲƎƏđ¼ĨƻǪ¨û÷ÍŬǐǋŘŘǻǢĪƩœƕ¶ǺĮƗþǗãǜĵàÒƽęǐǶƕžĤ¡ƨǱǢóƔŸĐƔƞñšƘƾƑíč¬Ēäîõç±¼ĽǴŚÌŵçƽĵîúƭıŰǫƩƏŻǾĎǨǛƿñƲēĬūŝƪşǕǝƣČš³ƕ¤ŘæýǎâſŧÓ£§ĚƫǭǗƼ¹ÒƺóǜƤŤĨƥŎŝēƖ¢âĞƤƝ¿ǏƗí ǌƔ¯Ìīƥŷ¼½ƼĭÌÐŪǮƹǨ¯ĝÚŠľƼōĺƢĩƿǼ³µĞşæƣƼƓƻǷƐƼƬƤƫĤėƔæşĥĻƟòîƟŢĪǪªǼĎª©ĲǠ¥ƦŒŚŶǣųŧŚÿŸėÞƧǰŔƢƬÝőƼäǡŢŰČúıĳďǫƳţºǖǼǾǮǥǱûėûï¸ƳǹĨ°Ě´ŖƓØƨǖĬǿīÖǒüŸŒūŐūţǟâŹǪŠǋƽįƹĲ¨ŵàúĨðǞŢĝǳĬÙ³Šƾ«ſǩőļźũŬēǩįťǖĳƏǒðàę×ÿ³ÿŒ³îŽǡñ¿ħéƾ¤ēùǑīťİĔŲªƼëåƾÜűŻƤŔėƹũïŘūǫŧƴǍĤƽĵâƍűËĲŭŗǽǐǱĸǬ©£İǯǼƻĴČǟŹðèµŠƼǷŜĳŪŠŎƧǍÒªĐĭõĝī£Ôº£ƼøúõƥƺŶßǶǮĤĲíǯļħƤǮƭŷŗǻǨƋË»ƚƌǮĬæƨ¹ľ¿¡ŴĜ¡ơǋõ ƶŰë¤Ġ¶Ū»æƔƓƞƾú¦İƝǴĺ¹Ɨ²ûĮōėǍŐƬǝŬǐƚâÎÙŒơ¢ŗŎýǒſǼǲ­ĽǑǎ±ƫĹƎũƻÔ¶Ʊòő¿÷ŲƎūſƲĤŶƱí¬űľŝƷŞĥǥēŬ£ũƣĴĹőś§µƸºǗõÿƤǏčĥƱǲǰ¿ÒŒƛ¨ƔÒ°äĴÝǟàƎƶƧǵ±ŶëöƬǼŲ¸ŒÙáǠëƚñęƠƿ¿ǤǙÒí°§ƾŸÙěČŖĐŠöÎď«ƱİèƎŨĨÌèçĽƲǯöƦƭǜĦƠĞǌƺîƔėźŕŠƿǰ£ñØËǠĺýĤǱƶĺưƭƟ¸¥ƓŤĢůǎƐĥØǲĮƠŠťƨĳĞŔǵŜşŲ»¾ŹƏƾá§£ŬǌªǎàƿƢğǕǝƦƱÝǭǖ¼ǡ¯¹­ǦþǤǕýǏƸÕŤŲǦÙÚ³ÓǘęŦŐǢÜřŤ´ƑǽƪŪƛËŝǮǎǔƬÚƘǰíĺ¾ŪŜ©ƎÔǜÓƻƴŗòŚſǚŹ¬ũßƕ±ƜǖŴƱǜǬƴİūƥǓîœŻùâ§ƽŽ¸Ƿų¦ǭƌƖçòĿưǝ¸ǎƯƋźǨûſŖǮùŘƻ÷ƿƲũŽıǗŴűÎñƙà¶ųƷŗĠƓķĠſǺƾĤǕģ÷Ù¦ŦŴĘşĸ×ƪƩǮƙĢƩǐĹãČ®ęƭŖǽòǎǵ¸İ´ŽƳŏœĚƧƷðÓƿŭěķǛǸǳǕ´³½ĶƮ£ŷǩǰÓǚøǷſð±Ƕ´èÕǡǌƍƮƹšĴƽÙìĔúĪǦĹüìǟï¡ĖÖǘǘƩřĿğŢƒŧĽ³âãǙ²Ōţ¾ĝÒƬ¦ ĬÕƥċǳǘơǓƼǡǎ¬Č²ǫŘĝƜÙğĺǤǬǾċ°ãƑċÖ«ƗĲǝªĘċĚ¤ÔƨČžĕƒƶÞŘƔ¦ĲĶĭŪŪƺƞÑþƧřĸơĚǗ ƌţűĿêǘĿŨĸżǗǋǽ½ƍǥ¶ūǖĴÿďǌǸĐƠıőƫƒǢŸžö©ƗǯƮóƤ ûůĨġźŧŪČģĕƝÞìơĶŷǳƖǔǬÞĞǰ´íǐŢǎƭƍãĠŬŹǠűǶ³ƫŨǥ´śŝļÐǧƦ¦ĢšòŘØñìċĨǎĩªĽßǝſ½Ƣ¨ŒëÙţČŝƗìǼÙÐƏǋĳČøøğǮƜǥęǡİǰğÑ¿ěǹ¡ŨƮĩƒƍƾƾťǲƓƔèǯƲŰǨƯƳŧŸǧÒŏèÔôǫĻƪĭƖŦíŻƸĲħğļƬÜűƦžǿäĨǻǷėšƪǖįżƟǰÓĞǜƭƵĤƙżáƠē¥ċűƐūƿĢÓūǋŔŵéĭƭƘŪǸŐƸŔ²œǯ¶ĻļčţǸ¨şƠÓƕËŮśƌƔµůǷƾüĴƸƷ¶Č½ŞưÚǜŽǸäļ¸ŶŐŢıòƵĴ±ƔÖƑ³ƓƖļŢĘĲĴưƟÓěıŶǚÍƿŢßƮħǎĦƨĐŢĜĒýƘǷǙǲüƵǩ§ǞãśŷǏƖþƼƸŤÖǡĐĝƬÑ°üðĪƻƛƲǔƠŚŚĵƿíďļř¨ƖŴ°ÕĦƎ§ûðƍĿöƒǽñéǋũ»ĞÙƵǑƻƾßÝÐýōǟĥŠáĝöǳıÔ¸ĠÌƿƞēōÜÚÛøƾŌ·ðĜĳƨĶë¦ƲƔµķ ĔƟǵƺƹĎǟţǽǚƪǮÕþƪǱÎĞ±ĎŚƫ§ǑūǿëŽƬµĻĸįºĽģľ÷ǿƢǽŹǓ­ŠźǘûĘƣǱƭǐƹĺƶĥēŒĠ¿ƣ¼ǣĬŷƑúÕƑ±ÌǠÛěõǷǺǵÜƠÔ·ǠƚƞÝǸåŎƝǺĝēĮì¯ƴǹïƘŰƛƬĿŪǕĿǕǧšƵ¿ŗǌ´ àñƮǽĞ×ĽǓųƗ¬ĎŧÓĢÍƽƕƘåǶǛØĺƴƺŢ¶½ŒķǐŠħæĚĖƴƖƸô£Ř÷żų¥ĽĠÐǞÐ÷ƾƳÖŏƷĲ¢ěǝŸęƩŸǜÿťƤĒŌǴĴÎľŹŪçƟŖĐǮŏŨµƦűơÒǸûƍŝŞǥǎŗŚĒǏƚðďĞōŚěǡüĽƚƮƷƧŔťƖŧûëÍǗƓǦ¢ƕƧÌ¿ǽǳ¯ƦŹú¸ōǔõǽƟĳŜǖİýĵƮǽõėƻÌƮšŒŒśĝŧƼƣŐŰïĲǢƛǾǠ½ǳƓ®ǦóƺĔŬǌǪ£ĜĘƤƙĤƹƣƨĭáƮ¤ǮǻþĔƞǓǡİ¤Č¼Ŀ±ĘǝǥǳƨǹƍƣǛ¬śǠƔīƌźčǜ¼ĚİØçǵ¸ǓļĔƎíśǶǪ¯ƹǲǑĲÌǬôƾǬǝƜŋųųėŌǱıķǟìç³īĶòČøǫÖŘðƬǝŰ Ķęž¨³ÕǡǓŞƝÎǱŏíÍĐƋƔƸţ÷ƻǺǴǼ½ƛĞŦŖġřĒǛƣ¼ÏäǾóū¿¾ÒŜìţÝ¼vUm\ªeiKNRMƩ|MQtVEg~hKt^XnnĥlJ{UklPfFp_{Q{cHNn`Qm|SZcoT^u}`q]YVV~{|ttagNǖ]\RO`SŋǱŰĒƓüđ©ÚİƳǏºe[fwƩ^wEdlSèxĢP[[[uaageppuZwxxOXnMFSJR\q]WmPLJRVNWZ[jEm[JeHJŤTKoewjedxpJG~xaTJvci|sO÷ÏǾÝǒƤŗď]~dõdPSmqWSbuZScyupXSENQTMEîiPa\rzYqRtmKjEZwjpHĀiRJRQ`{}FMuLSQqeWjalKMEPxRuidSWůǼëƪťƯǎÓǣXuEUE[|YgmiifVoLQbqzphgxQPŴpLQrP]vk~p}r|xnscK^YORnolKtG_Nx\c^S\p{`l~XYtxcKǼƹǏÞÜýǥǳ× §Ǩķb[xH¡JeKjo|ǔnMjGOYVyEP\bĿNO]Tk{}^lxNg_yFfIOXclXgN|Vtp^MyxIgNYyPXlrWmpoOUIltF]SXoƟøƌĺðƝĤĹčóĸÙƶƞƎÚëeQskwXvy_mYXg`lH^uvj]VoLoOTkFdxv_Ub`getu]WF^sehK{\]WFa{YZ\sXSh}GX]wgl]bœFlpaHsĮÞǵǨĞƮƨǵĺş²ƤŤǕÚjpveT]eHKtzFmwQWEebQPNg^qwXU]}IbJIZS}QZPXsm_sPgNGQ\]VTLoLGrFSpH\EtGykǘ`Ƶm\xšuV~O{Sū»ǟţŲƨƌÝªÑòŠŚŞǫĎƸĥpfpe~vmKrGJtquYqGT]GdVpO|jKok}{dOPcVsN[gX^cZIYZxgTsiY}SZRZ`J_aKOKnƴ~~ox]lw_QǿĤǛǷèǘĩŢi]tLX{OiJuNPOUSIGbeGeƭT_~mmG{K`q[nyqPQlN{XSx~Uy]ungI{[jkKov{TpHrPEVgƽU_RjRXJgǵǲőĵǓǽÜĿĿĳƥŕĚçŪWdG\Ƒo[sZ[zOźuleFV}mSk`ttJuIt[xrgIEKNjY|fggJwEOzjYqftwFbfqI`xGGTlo]bMxwINjFPy{O|zīŠĝ¥ÙűþĦ­žàŠƷģóǫǎ´RLSz|\IcscpYHEL}GjkMƨowG{i_]sI_XfrU|wƦjyHZo\NLb{qMT}gdJ|Ĥsea`YokfRNc\o\GXvlsIbēŽźóċÑŷóǎçëĔǥįúǦçŜǸWkrqƗuSckrlIo~Jt|^RyE~wZrFworZyK^RMtwuJR\wHa]gMyNuKXsoUIljŢxVwEFe_sf^}{LyHHƞ]pn[^ıƮƓģƣƢŴŶļŮŨøƙäļőXVepMQEMeSeRp]|RT]~l{GaWzN\O{wKwhG`J|KuFfs{QGdSLqlg\]ƧPgǽ{u`{XVhFYxF^\pLzwtMŗǒĐűÿõŔºĺĠĔİĖLbTxKHeHUJ~tZnJRE_npagjĔ\|{Q_ų~RHd`OZ_{JÝFftardhHuvt~^VvkƒUTUkiHtc~^iw}{q}P^LNL{œƯºĩƩįŦĠŸǐçǭſĺǶǢ^QpǖT~ZcmGNXn{jeoia~O_gVf[{~d^rkYr_Nk}s\PVQV}g_uQ`ff{bǦ`ôHcQoVLgqeXnanEYyYQULReƥ¹ŚĻÒŭŰƖĺõĦƷƮU_}e_ZcVcaFwpXt`n^IPUrsfaENSbYyTIvllUGEWjwjQgxlMhzjXSkUyvHaZrVt_FgvYLa_^[XÿǍŖĲîåªƚǣǯƋǗĸǸŷÐtHI\ryGPb_R[{V}rsL[act{|XTǙbN|cyk{r{~fG{ßhgyT]iUOQtuIPZǣZV}~x{r^wFpsQPfEpuFdpmĵǙǤŭǳƷƨǟ¾ƔŷǎhFmtƲuqJKj[VFlMFSdy_LEqRkoGZcPRt[txM`jzaewQoxnyG~IhaiM}wIpeMb~wNPRywwǌMJRRtalnOǙ×ŕŷǶƍ¤ėǪŭÔ°¶ƹtc_[Mg~S|VMy`XtJ[oEV~}chdRzYƋwkeyuUmz~]KQXI[NdJPS_URYk{aOsz|aL`gyoivkGQPqMXEǣƞǜƚǿ¼[zbqĦSYkFsVGXLZjp[YMxmw}HX~P}H|XJV^ioVNoSaMOLHQXKHKYV~oXrvO`MWWtgzùv}os\oKǎǪÐǝƒǑ©¾ĹǒIwW}^rWc]VF`qKnr{_^ybstg^GIqN^R{qgS~fssKwPzEqRKeyfF[JQpT}sbWRaFbVSŌKeGQŏTGZXiī±ĮľƒƶæýǭǚƎèİŸĘĝŗĘǺzm}ePF~u]rqlu__cOdOGlOVnjQa{JQ{`ZMfqlv]Yh`EKUo[}bcpZVjgt³vKnQyZlLTUUJi\iwrpIyr]fEūØģŝƴĪŦƷƔęČŋǗázGtTžN\v_V_ZWFI[[^z{}nq]ScOnfnbjUZcpe~`qGkwƧvEwH`NdT[h^EznTG_cNEnwXlshSLkhUTFv}kŽÐƼƾÛǟơĞĺƍ¡ē¶ÛŜǾƢµj`|ǔŪStR|fxOg|VqlkMFvchX]pJ^ywyMVkfZFPOǶhX~FOKad~qWTsfqUumfdsyliHi|xR^IoNy^ƳYTvsjgƦǗŕǱǥǠøěÞĦħŠçñǹǭS{|dƨnaXym`ðgVb|[hjT^gYdzl`kaEzrXaxt[OYnVjetOibP^YjYPoOne~Txk]wtqttup[yXxkLip^Ǖ«ž·Õ´ŤÝǑƌƖǚƚiaGa^|x\RPvW`Obvg\TpK`Gr~L{cwWGKhSW{ObatQ]y_Wt_[[_ZIQvEqhNQUl{PEtmgwƲ_ZW{OwTºƓǶÜġýǌŤǙƏ²¢`|Rv[G\cH]ZMMtLUWkgTMUWVI[dQeb\VweRjnsJPnyhmzMPMPGjJY]ZoJWLtGutePE_\opGoow[PSJÔǕƴǍĔīũÿČãé¡ƻŰÞlWQoƙIdHHfouHwbb]uPOS[^lIgUunaRQZHNyJReuRXsl}QFRvNhtk|þFQGŵH|pPEbyJQZo\nSXgIbEŭ»ŒǹǛıƟǵǎƎŸ«ţýTi_gSLMjEdWrxEnsZjycVGí]HihHaQ_HT}IF^x^iESXHlFT\Y[rU}rbǲpb}HO]EHoY]momWpF{KEgijǴŋƞƶǍǝ¶ůſtHWlČSl[VaŢzGcWxrJUZZFO_yqXyNhhMXzO|mJbZqQFeQRuuwyGVnjO{EùegF}PVamT_odhNcphnSǥƎƚ£ǵƧŲǠŏTUzN}_|IYWKdJ}Mt]oXJk~TIJvŹ~cpvSTeFjLhrYUhPxnbXzcztWbOqeb{Wt{blPLghI|mKP[FW±ǟßŎǲęųǠ÷Ļ¨ÍƴǖbSkOSqSobñEWduHnqz|OfsnxmmYkPF~cqQSxEdra~UMWaNnPLjYMgJǯ[ct^Hj[h\if{[Tƌ}qPi|pgw]ƻŴŤðÛǦƏĶŭ¾Ǘį½LZ]x|am{FzIhlIZu{GNltaO{oepKwlj_UfPVgmImzhRpLubX~fPVEmXHejvsNasbjNĀǋSINrw[nY{ŕǨųǾ®òǗǐǽĎ¢ǝûƒŌŋƞwdēQu{QY\ZbLyjgEapTFEhTMmIg^MMtQTlkHXP]Ia`[WyM~`wXeQxn`rclHXayafc\SÕYaaUezz]ǿ¹ƶƟůƕŠōƌøþǶƨÕƽǿƥìďĥZOn_TsTJqdǽ[{ZghdYQRĢ{UMtc~odrzEshN}hPPSUyeJydTVYJ}]qajlÏYQPm^~O]YXgaExQRFckMĞǴìğïƕäďı´ǬƥƑǞĢgfy\pxTKhg|P^PXuwƁFc\uveataq\N}kaQhsP]UXQg^r~caHOcVpkme`UlĢvvdfrv[N_tǙOG~YpQQś­ÕĝĢǦƿǚþǍľþůĵþÓǌovLbtxYfjYoia{sN{L[na\_E~tESmtuJJOMWVacv]P]wjwWSVHSj{qTx^ƗŗLXdlEmmhwHumhQƢ]HzǟnKL^t~ĩǏĬŘŜ¶ƵƿƩŐĽǓÝƾǭƶħūŷIlrO\OfdogdǶl{HdQbIj|ZZc~h{MKHlHqUaƷ`qn^c[gyr{PgtGWUwTTztczj`qIb`dXz\|InZFSVFâŰǺŎǌǝǬĠũðĔ¢·ĹSd{XXh^aqutriZksmUqFtùNERvi[^`}]LitrrON|yQbKNwyiR}sIPX_Krq{bk`ZfvVhL}YHm{lǬƙǙƔØÕ¶åŖǞČîǿǮǑê¯Ʊ{NWTmpuYƓchQFRrJsa_wG\j_eslUJrZuYU[I^qKwkgUGJSYSzk[x{iy}ƋYT~LW_PWkulŕrzmĜYZPoQiĮǙ¦ĤŮǬÜ÷ƭ¬»zdrvJ\tGTEǐKwVUiPgpYWlSMwS[ochh[~EwnmdYeYmywQkpJsglKMriŧM^GRzatTYrHFZƛRlk|EZU^gǣĴǔŖǳƶǍ¥ŪåǙƩ¯e~dvkRZihEh`m]bVhq[rjobbsqnkyciU_jpZUdLSOazv|LE{]QytjpVV\c]Znerll[sGOzyxdGcxbƪƔÕŘİēĬǟŢƖǣôģéǞÖŭƪįkR~L[~YypNerGrmXb^YtHSXS{VUi{tVFvajPdscOfTRhxgrbU`x\wHdGJ_fPjpytpUYfOcH{\Fyl}ŏÎǲƵƦĎŝĸƑvoWg[Oh~gIrGgYKrSPwTbK||gJzmcXzgu}rUEJRRjStvqfJvcRVP}IOFM{vuyge}[}ogdčq}M}cU\ilNü£×¥²ǱǦǚôĩŤèǳľaX\hTHg{}jl}yNvZcx]ǁ[Tnku]R|NzPbRXSeyIMdoJopbSIcJyw^mV÷uysMd{nUax^^Qu_^bdY}WjĚÐ­ŽǸƤŏŴÔ¬ƋĎQ~jçPemiXp}tękZjofwm~zQopƔM_`g`fSUgtbM]KvSgx`TEJnhVgRknhFO{kYsvc^`xVJEĜpfFpFhLeJŹŷƱŤǖǰĮĲpFJoZn^seeY]_J|FzVkgP[XcF|QymEPWjwUfHJHczmExMeLFWztjkHWSJ{L~qXj~\KQ|ƲK{PzowTvoLƾıƐ§ċƑǙǖƖŨ·ŚPUppItv\_}dÓciHPUoXb]iYr_~fzWLIGLkwV_Wimpnvr~]kW]xaofwImaWnNKW\gKli{GFSXEJNWNĪªÖ¼ƖĦĲƿì®±ŐŵŦďÜǵĔİǜÖê©ĺƋÏ­ÜıǜĤěŮÔƟâþªƗģƛÝ§Îİ¨žðő ŕœû¡ơƠƫǐóïħƎ´ĨĿǿƭÍýïƎÕǳ½ǻĤǹèª¢Ģ°ºµƦĘµģĬǙ¢źŕǍğǐƚǟƷƿ¡ǞǞƌèŻÔƴƵýĤǟƵƪĪĭŋ¦ŎãíĠƝ£ÞǫƨğķáþŗǷĮĳǳÝƜÖĝơǓúĥĝÕǵĔķƬǧŬĚÿĔƗöƱ¼ƳǢǞø´ǧùàƘǟƿēŎƠŴƐǪðöƥŔŪŔÍĔƪƼŌċëǣǚŬǦųǫ­¸ďŲǻ¢ĲƥǺ®ǸƭǖŋÞËĔƺčƹǖĥŠŨŶÛŖ»ĤġƮƧǰœđÚƩŋŌï«ķıǌØǡǶǸǏūƥƌƶŽƤĎôǰŔþźǴÖǱś¦íëÑǎ÷õđƒōǲŦĎÕƱƣŨŢǶƶÎũƬţƶǲċďƥēǝÌǖǥƕǲĽůÞ¦ŕĒǟŚǓĚŌƵûǽƑƳĹƱŜîƹŐįǓǛǦŬƏœ±ĸæƫǳĽǍµƔČƦǎĺµ×ĺķëŭļǛ¿ǺǛûŗŠóė¡ǒ»ğƹŤǴ½ǸƷǣ²ƎƱñŢŌ²ÞƥÔ¡¿ŗǕƴ¤ģƼÝêƘìŎǕűűǎÏĠǴ¨ØǕīƑźĳǲĳĝǭ²ķħŨŒƍǌƘÍ»ǜǴƮľƴƼÝĦƒÔǶǜĶ£ŞŕºŵƦëķũƞäƐżǸ¯´¼ƼǘšæƿƱøƯĭòæơ¬ǎĿ²ĸĻĚǾŔƒůīÓôţ÷ĚĢČǲƴǒĦǣ©þÑŨƗÚ¼ǗǱƙǟǳĿǩžĽƠŤŝÞĔƭƚãǿîĠļº¼¦Ɣ­ƥèŹěǭŞĽŶƱƕìíǲř¤ĹēŦǎėċŚőĪƓǘŜÑǸŬƮơÏǸǽĸŒǪŝæò¸űõűŰƒĔŲƬƥ¨ŎĮǒǝĖÔǪǸǿ¸ÞǋĨƲƸõįŔĦ¾µǹ¨ĪƛčĻùƴƒƱƛäǾǒáÒŶƶƭËéƯèŜǨìä°Ĺƪñųç©ƻůŢÒ­ŒđǰýŬŲ¸ŖēŞŲĚǵƝķǙěǯÜǨš±ƱǲŻðžĽǮƯǾºËǰ½ǑŷªěīóƫǩƿßÝÔĭĚħ¶ǏšŠ¸ĹǲǍƾÜÐƙðǑơƩƒǷűŚŪǡǘűǻžĠÑĪ®ŮǭƋÖ¾ƻǦŴǏĨ¨ðæƽŢġ¬ţƓǐêÛœÑǬėđþġŠ½ŞǗƛǎ÷ơƎŝİċƋŵľûĨŎƝƫ¼ǽǞǑƟĬźÕİƑŠǠį÷üŜƖĺǬĜŹƋČĜǏǏƎÌºƱǾÌǎǞřƟƧŘçǋķÌǢŢōįǸ©ŋũǿůÖƋǐìǒ±ǱƦƖǝĤŵĻñǬªƌƝŽƧħ¼üǡƑëŨ¨ƠšìþóùǳƐËı«Û Ĳľ´ż®íĖǺſêĒçĬļƲƴ»ǘǺƲŘ£đƭƮĨáǮƪŖ£ǡÙŷǎǫø¬ǳƒƼƥ÷ǹǓÜĐƏǗŐĐƢğľǼŢĐǖ¡ŞĜęǐǯŌǯƟƏƪãÎƷǣǞǢƽǺǬĭǪĖƵėũǬƴþ©ÍžƾŞǤġñĻ¾ư£ƑƟſŔħĦŕèėçĥǼǥĻŒŴķĜ£ưÎĨúĎĺǚǞ³Ħǧ»Ɨëå³ǯÿñęÌĺǭ×±ƗƿƷǣĨļǡĻõǹ¿Şƌżç£ÜŤǧıǮǝǍǷƽĶ«ǥǥ¬´ƋÐĤƛëƏĤ©ƋĵǳƟƠǢƏƐÏŰ¶ƓƋƪ´ǚſǮôƗǫƿċƥÑėŨĨŹ¥ƵǨœŖºƓƙõ¶ǤƘİ§ǝǯİ®ŹŰ¯æŎéƝƜĞĵůŖƩēĎƐŐôǱÙĥŋƥŷÞĒĨæƫįƿďŕ«íĝūŘÖŞËüŷĻØŻƲơǍ³đŢƧƍîÌĖǳſƠǧĶőÖƽĎĩéŠƒŦżÚ­ÞŲ¿Ʃ»ÞīðőœůďǜƱÎªÕĭƐŨƴ¢ċŪƙüƑǶĺěƾǣâƘőħêīǬŕĸƺãĭĸŕŽØŒ¡ǋÛƽÕĦĜƒŬîƔŰƳŕĨéǺŬËŻûėļŚęēƢƑ¤°ƧęĒ·Ŭ¸¿ǞŜśĩőõǟ¿ǩǝÔ»üýÏǿƏÚƌìŘǏƬƧäĒÒÛ¾ǻƑŦƣ©ŔƜėšǏƓŝËĔĩƼĐŲƾěǷƽƐĘƙƢőēƥķ»ÍǣŷŚŻǹǙĮŜŭÜġĮǐť¡ƲƟ·Ĵſ¾ƲēŎǨƲǦťƋŤǪ´ŰǐǹǥǘĘķƼŨ¸ƺÝƮǾǹƭǕľñ·ĸğÙǺåǦǧøŽçËíśƗǸƲŠōèŧ°Ƽ³ƽûÎêōƢÌũŮƦÚİŴťİģĽŪñ°ǒÿŦǸØǿǘƎġČǔĨñƐƘØŘƛŧǿ¬ŤƒƲǋƋśǳÎǥįǛĶļƙĥíĨðŪǽƘŜŻíšƜı¯Ɛŵǋƣ¨ĖǭěŝŖàǗśĪ¤ëǸ³ť´ǎàǭƺƹǓŝŦǐƙÖŢŸ«íîŗŸǷĤǿġǙŸǝǩĝǿƯƺǻÿóƪǱƏåƙř
\ No newline at end of file
@@ -0,0 +1 @@
+~¬~~£~~~~~~~~~º»º~~~¶¼~~¹½~¥°~~~º~~~¢~~~~~~~~®~~·~~~~~~¡~~~~~~¸~~~~~~·~~~«~£~~«~~~©~~~ ¤~~~~~~~~~~~~~¹~£~~~~~~~~~º©~~¢~~~~~~¼~~~~~~~~~§~~°~º~~~~~µ~¯~~~~~²~~~~½~~~¬~~~´¯¨~~~~ ~­~~~~~~¡¦£~~~~~~~®~~~~~~~~~~¶®~~~~~~~~~·³~~~~~¦~~~~££~³~~~~~~~~­³~~·~~~~½~~~~~~®¶~~¾~¼~~~¡~~~~~~~~~®¨~«·¯µ¥~~¢©~©~ª~~~¢§~~¼¿~¼~­~¾~±¤~~~~~~©~~²~~~~~~~£~¿~©~~~~~«¨~µ¼§~~~¸~~£~¶~~~~¦~~¿º~¾~~~~~~~~~»¿´©~~~~³¾~~°~¦~~~·~~²~~~~µ~³³~~¥~£ ¯~©¬~~~~~~~~~~~º~~®~~~º¤¿~¸¤³£¸°±~·¢~ ª~~~~«°~~~¦»~¦~~~~~~º»~~~~«~~~ ~~~~~~~~~~~~º~¿~°~±~~~~~´~~´¥¥~~³¦ ¹~~~~µ~~~±~~~~²¿¨~µ·¾~½~~~~~~~·©¨­~~~~~~¯¹~¤·~²~~¶~©~~»±~~~~~~~~´~½~~¬´²~~~~~~~~~¡¡~§~~­·~­£~~~~~~~~~²·~¥~~ª~~¡~¬~~~¤°±«~~¿~~~~¿~»~~~~¡~¹¸²~~~~¾©¡~²~~~~»¹~~~~~~~®²~ ~~~¯~~~µ¬~~~¸~ ~~~~®~~~~~~~~¨~¼~~~~~~~~~~~~~~~»~~~~~¦~~~~~~~~~¾~~~§²~~~£~¬~~µ~¼~~·°¸²~~¹~~~°~~~~~~~~~~§~~~§~~~~~~§~~°~~º ½~~~~~~~µ~~~~~~«~~½~¬¦~~½º¿¡ ©~~¹~~~~~~²~~~~~~~¹~~~~~~~«~ª®~~~~~~¼~~~¹~~~~~~~~¥~³~~~ª¥°~°~~~~~~¬~~~~~~~¸®¨­~~~~~~~~~¸«~~~¼~~~£¤~~~~~~~~´~~~~~~~~~~~­~´³~¢~´~~~~¯¨~©~µ~~~~~~~~~~¼~±~~±~¦~½~~¤²³~ª~~©~~~~¯¼~~~~~~~~½~~~~~¡~~~~~~·~~~~~~~~~´~º~~~~»²~~~~~¼~~~~~~~~~~¾~~~ª´­~~v_St{X{r~Xwzu~T\[YimugNpRNhh[eOo_hmpjNnP]XfPVQrUNgshittUNU~~~~~dS`~uXe_WePUS]Q}oRONhiYMVqfteMtzlO`pS|`p`SbOZvi|usQUY~~¤~|W}h`i`]Qµ]|rZt\Ur~irhZ~bVoh[oXkeZyUPTXqoO}sTSkXMeNMjst}SOXl_R¿~¢~~~b^MNYOo~~R{^^bML}WgkyvcutTiO_e{rnTN~]mTxsVXklb\WM|gzccjy~]X´~~^~LcO^UO|x`qk}UwYOlurvatgPbzhqTQeURj}x~zx_Zjyvxt^NggMWPbShr~ujPs_g~y~cu{nNpLccVtl]pNPuz|jQ_VZiTbnTmvTv]}MXlLWabX^pq`Lb~³kvlcq]cY~nTRNdMR}kObxb[c[lqO_zXq~jhuf\zz{LptmmenhTsocams_SkXfYb[~~¬aZ~qzvY~RTuLS^`rly}dpgt{PbQ\¸eWmNux~XRwO|fU\^NRRTUZtMq]fr~~~£~~~~U|U`mLj\wkh`XivoPpYreTcU~yTqQRT^x[v[qbeQoxjXm]zVejRPgcOc}jd\q|~~~¬~~`~w~xs]nhixONhNRN]hZrnLTPZxrWOqTm~|tn^aLtSgpPv~^Lqaskxdkw~XLa}y~~XRrsY\l{Tgbt^c]`e~^j_LvSx{||irqqZaTwTx~N\T~vqOO}~ujceX~nba_ur|uob~~½bRnfzwZ]VncT^rbfvkthx_jMerv~jowbjjsN|rYOS~}\rrWYr`PPjSWzPZXr[R¤~~bP{c}]}{S_nx{N{qmf{`uwggTzx]a~tiµ|~Yx~YwOheOn`T_{vpfPlo~`w_mP\MOm~~~rm}TgRxSh~TLrn]eaT|vad~miz^d_^LW[`buY\NZSiqjR_NtdhoR}iQ~P}olRqTWa|rN~h«Ug{p`y^fT{wzbt_xeRuzoTT\kc}xyvWbrLbwTfzljdenxmUX`lso»u[X~~~rhV}`NPUsmR_tUbr}tkRPjlzYZVxcPYv[QmhSPWky[vkUyMTa\ZqQ~vb~~~~¿~wgqt|bXYf{}l\PNlM_azyw}c][oj^d~MqpU~rPR|nno{[Y}w|rZv¶Tmko¯~£~©tQvlQ\[skWTScLWYdU|tx~SzsRbgkrLSZ~xZYut]xmWsQ|e`QyZdby}Shcorif~~~~YMjSolqgcOV[qLhfragkXvl_issi~jYLsTndv^|U^jqobm}m^TmSs`ne\uW~~¾~~~T~syid|ikgPZR]xhsyudpWjhxv\n~TQ}WzjeSfamLTVlvyh}_uQ[bZ~b^NQ]i~~~UlYYvlc`YzdY`SRzX{c~OQugY|wUYfbXy{~MpYNfRsNx^PlUTuzOT^bv{^u´~ºNq~RV_qWPagteuszNT~Rzb`hWNf}s[nyzi^Pb~\{LSweayPemj~}u}Xe¯¢¨~XScRh~qddur^~Ym`ialrwO]wkWivY{}omvs\kgoTd^~z^LZVlua`~~[SqVNeQUWX|sQwNgyLn}VW~|kPXaR}jmfjysll}zzLd|pu~WeqL~{fi~ST~w^~~~~]ZgtwMwii~[i{MmWVXawu_osv_v\p|syQq^hM`|eRqT}XVimtjsbzgdQ~«¨pm`tZdamr[hflLwue\wrLMOycNhb{ca\nQfyYeh`PLObvvhoVohu|j}iLuPp`Yq[wU~~§~~}T]p\\ejh~lmsYV}mUN{syQVuYvgcUNLiLX]Lkk~x~W`iLh^XeP[OjnwY­~~sZ~mTwdL__fxhnxesjuykLMdv`VNevi`VtO`rVgWa}oi~}sx~{q]Nfd~®§}xUQtk[das][tL}PVd\P]_}gNh}mZ]{zf}wzV{e~~rk}_TWfnyguhXUOfZwp[ik}[~~­~[M{V`YMw{XLul^}znbP|RZ[h\QguXfYYzqzVtYPTkmwrmrTeo¶V`~\Y~~]RlONtL[[wcShOUSTQ~_ybky~}iY}Ytw¨v\_X`Oczfo]}qVOaMUpxR~auNSNxq~®·~d^U{bxgwMLOczxnf~b{m[VneexrjuLerPRshwOMhU~WmorfehvN^TrMU~Uv[R~~~}t~ahku[qP|QTiV{PZrcjnWVRa^~_uYnzh~xk__z\fj~qRrks~gjTtrSYbxp¯~~~ºº[_d\b\_xfXmYdwOs_[s{qXRMmWrjeSar}XgmSgZzkwSXlyfWov__Nq~`v|Rtm~mo~~¾}S~~mmlVUpvdMPrVsu]vZWwmRm`_TkhywVlqQTa[Ux[vSd\gX\sZdTWZiTfu©~~¢¨U|awqw`ZaoaV~Wdux}qWe{yvj{zv]~a|glXcTNk^`xcix]LVOTwr[~mmRljtP~¥±^QhYabnt~P]]uL|dx[Su\}w]w{unmfd~xzfaZepcU[hUbmjm²~´ycfX{{_QauXmTYqbiaTktLR~kQ`Pb~ypypnO[gQc`kZsVMjh^lnWqmSbilUOO~x¦~~¼pQijotlYwTnN]Rx~su~LbuvY_OTQsZLx~~~Sw_fcWLbvU^cXdzfTN~{|vf¨©¾~®~n]~lhx_PP\VYaZrdQN||jn]o~UWLUT|em^Vb]yke}ZeZe}X{wVfvUpodQl~vr\UrbO~ubihf~yPyVXxZLrbO`amvQi|`huy^U[fLTksurnn]mN}tVO^p]{WeV[g~~~tvxh[pmPTd|au[x{N\cUwg_ijclOfPfa[\xMgc}nXxYr}yXb]ng~p\udUX`gS~~~»gbiNVlo^Uhaq~`f{qY}ZzYqOto]q^eaVkrgkfdsm}pRU[OazN}kZYO|Zf~m_·©µ~XR^psjekjYyh^~Z~aLvxMn]{fLuk{tr|cggs]jc}RpnQsQozia{~baxPxVxr^hUQR~qmhvlbukOfy|uq~u{~Y[_||d~vL}P|oksM{qMV^VybcXrtUyTO`tiNXLloxaYo·~tptY\}Vz]RV^faNZqhitve\{oR`VUmWL{}`u|vwidelmpn_o^Mee~¤mYpqlfMTti_^glQunh_`ox{mqr_Sc~jhYNtYzTiio~d{q|Tg^idV[Xyd}^®¼~~~ZO¶t|[NsqUrpeWtqPR\y}scnNVRUtcNsnN~R|YTf}xZlxadlybZtQTXTv`|y|yX\~©¨~®~~£~~¹¹~~~~º~~~~¤~~¡¥~¨½¦¡¨~~~¸¾¾~~~~¬~¹«§¯~~~~~~~~~ª~~¥~~¥~~~µ«~¸¢~~~~~~~~~¤~~~~¸~~¨~~~~~¢¡~~~~~~¥~½¶~¡~~~~~~~~~¨¿~~°~¯~~~µ~~~·©~~~~~~~~~~§~~~~~~~~~ ¢~·~§~±~~~¦~~~~»~µ ~~~¯~~~~~¶~~~¹~~~~~~~~~~~³µ~· ~~~~~~§~~~¨~¸~¹~~~~~~~¹~°§®~~~~~¸~~®~~~~~~·~~¿~~~~~~~~~~¼~~~¢~¤~~~~~~~¿~~~~~~~¹~~~~~¹²~©~«ª~¼¬²~~~
\ No newline at end of file
@@ -0,0 +1 @@
+Ⱦҿҽ˼к˻ӼտԿѿѺӽպ̼;ͺʻ־ֺջǿþʼʼſüȻԽҾɾɽŽǿͿкĽּļλ˼μԿǽкԻҿ˾κȻɻǼ̿Һս¾ԿȻϻ̽ѺѾнѾɿպ˾λƺѻӽ˻ӺǺԾӻƺμԾɾ̿ӺɾӺɻѻϽкͻͽԽɽѾĿɾĻļһŽֻýԾ˻Ŀ˿̿ϽÿȺл½ԿȻúѼнŻŽпɼպλӾμκѿ¿ѽкüԺƼջҽʻҽʿվŻѿպ־̻ƺѺ̿ҽҺƽƺӻԿӿӻʿֺǺɺѼкһϻ¿ѿûκÿҾʽʼɾľǽ־˾ξżлƿҺϻʼǽƽо˽ӽԾͿ¿˺ĽԾ»ѿѾɽϿüֽҽѻľſмɽȼͻѽѾý½ʿ̺ҽʽýӽǽ̻μͼλտʻƺӿʻûɾͻûŽҺûƾļļξּҾǽȽҿȽԺӿѽƻӻӺмȻȻȾվлϻպƼ˺ʻʾоӻļԽɽϼȼȾҼȿпλʾƿ̾ýּοҼɺ½տϻ̼¼μͿƺ½ŽͽкϽĻȻʺŽѿɿԼý»Խּ̺ԼξԺÿоտϼƻӽֻʼ̼ҿ˾ӿҾӼԿʽջ½ҽͽȺſżѾϻԽʼȼս˺üɿͿȽտԺξźԺֺ˺ƻһ¿ѻȺ;ȻֿѼӾֺǼѻͿԻͿϺϾѺҾοʺʽǽҿɼͺοֿϺľӼ½нѾּ˻л˽ϻǿżɽԺʼ½лĺԿɺοϿ̾ƿּżĿºֻлоֻ»źӻ˺˿ľǺտպǺǺֺ˺ѻ̺ҽϾ˺ɻȽԻľѿ˺ǽ̺ȾͺӻǼͽֻĿ̼λǿǻνĽҾտѿӺѺʽɽҼӺĽ;ҾŻʿüμ־ϽֺͻԽʻҺʿϿƻѾƺͺͿʻֺտ½ֻɺɽϽֽ̾ɿɽ̾żƼɺҿӾþͻѿֿҾ˾ĽǺԺʿɼκȼżֿʺȿɾֽ̿ɼĿλüռƽҺϼֽϻƻҾн˽ѻϻ̿̽Ϳĺʿȿƺźϻռ̿ĺʺӾӻ;;ʽл˼ϾκȾƼûɼǽлҿ˿ǿ˽˼ӾӻҽԾҿл½Ǽѻѻϻοƽ̼;һſһƺĿ˿о½üοտ;Ѽ˿պѻмҽʽĻֻ˾ʽŻĺ¼̼ʿνȼǼֺ̿Ǿľֺν̺ɻϾмƺʻտ˻ȿкҼϼѿͼνǽƻҼԻżǽ̾ȿӻտ;ƼϽҽ¿ӻӾ˿Ȼ¿ɽѺȻƼտǻкȿǿϿǺԺ̼ɺûƾֽҽ˺ԻпüֿĽǼԼνƽлоջúӾμºӼƼοȾƽûԺֻѼɻſҾֻļҼ̿˽̻ӽ¾պξú¿пǼտϻԼƺýžýϺομҺҾû¿Ż̻Ѻ̾ʼ»ǼӿѼλҼſʼͺúȺʽɼվѼͺͻ־ջͽҿѺֿʽʻνǿѿȽʽ̿վ˾ս˻ֺſ¼¼ϺɼֺƻƻӾμǽҿս̽̾ͺȽҾʾȼѿȻɽѾͼĽƿʻͼ־һÿź˽ƻּƺýɽӼǿʻѺѻľɼкֽнξκͺĿƻʾսȼֿ̽̿ϼнʼǽջϾÿȾƾżһμϺ˻ӽȼǻžսžʾļԽнĺպŽǻֺſͽĺɾλֽͽκǺջȼƾοлӼԼȿʾǾмɺϼԻͼоʿ˻ĽžͿֿĿӺ½ɻüƺǻϾѽľϽʼȻŽӼºѻýнԼʼżҺֿ;ֺͿʺοϾξջÿüκ̼ȼͿǿӿսûѿӼѼ¼ѾλǺ˺ɻ»ϼպοºľɻҺϽлպпɽĻϻɺ¼ĺѿǽȾԻлӾƺúѼպ¾ͼżԺμпϻѾ˿оӻƻѼ̿кֻӿռϻһǺ»ſԼռ˻־ҼȿɺʽӻҺҿÿҽ־üмξʽϼѾоɾƾԿ»ǿսѿ¿˿пϻþͼԽκûƼӼżվ˽˻ҼȽֻҺվϾ¾ȻѼĻȾ¾ʽüֻʿӺϼκѻžƾͿʻ;ѿԽϻ¾ͽǺɻžÿɿȽҿþ¿ϿԼɾʿѿԺ̼ʼѾźӼͻȺнƻԺþ˾ſŽǼλӺѿ̺ŻоʻӿͿɾǽ˺ɽֿǾֿռ˽ºϾҾ¾ʻտԺ»˽žĽӺ;¼ҿýͼͿƼһž¿ý̽ӻƽ־о˿ƺĺǻпһ˻żԿռл˺ƾռνϽĺӾƾռվֻºŻ»½ӺĻҽĻѽ̿ѿǽļԽͽǼ˺Ǿֺνĺνֿѿſ̿ԺԿмýӻֻֽмк˻ռľý־оüɻ¼ĿǼпӼȾɺ;ĿžֽѽлȾúѿպվžԽľƼʿʾſӼƽʾ־˿ɽ̾˾ƼźҿջɾƾȼҼջϺʺҺſл˿κϻѼͽֽнĽĿһǽͼͼҺżļºּкϽ˽ƿ¼Լ¾Ļѻкսɼ˿ÿмͽּϼƼͿʺֿǾʼɽռ̻ʼӼѺź˻Ǿû;Ͽ½ͼȼԽֺʺ»ֺ̽ż˿ѻʺпԾƽ˽ĻɺȿнξȿȼҼɻƿȾԺĺҺп̼оѿϺλɻк¿˾úǺϾξʺƾȿ˿ϺԼϿʽȻѺ̿̾üκԿ˼ľֺϺ̽ʼźοѺͺȾֻϾͿȽлν¼ȼмʽ˺ʺֽмͼֽֽƻȿƼͿÿʺǿɿ̼ȻվĺֺϿԻͼѼӽ˿ԻͻӿսʼɻԿ˽½ͿԺǺ̼ʼͻȿϼξɼǻȽӿֺ¼½˿ѺϽź̻̿;ѽȼſнǾջнֻżƽ¿ԾӾȻʼ̾սĺлտȻнϺ̽ƾŻʿʽѼ˿ͻպʻӺϻͼֻɾлԽ˻Ѿ½ͺȻԿ̾¾żŻѾԿſ¼ʺϽнпкʻѼǻʿ̽ѾҼкҿͽžǽӺξ¼Ϳ˼κĽξ̺ѿ˽ͿƻȽºοĺüϼʺ̻̽ѾżºջŻȽѽȾջ̿źһɽԼʻ̽κʽҺǺӻ¾Ƚ̾Ӽļɻƽϻȿкֿμɿºɻ̼̼ºͼǺպ˿ƻ̺Ϳ˾Ľ˺̻˿ӻлӺȿ˺ƾѺʼ»Ѻ¾κӾĺɿǽξԾֿϻԾо;ͼνӿͿɺýż˿ƿ̽־һǾɼƾлϾֿǿѺźпǺӺͼɿʾü̻ƼԻԿ̻мͺ;ֿ¿̼Һ˼ȽľüʿϽǻƼҽ̻ռ˾ſ̼żǾȻ˻ȾӼ̾ͽԿϼƺνȼ̺ѿѺ̻Ž̿ǺǺºǺ»Լӿź½ȿּս̾ȺνѾӿӼʽ˿»ʺпƻ̻νʼ˾˼ļþɽǽҽǽɾƼžǼɾպϿüƽżɻϽɾþпѼֻȻʼŻͻ½¾̻ƿýӻֽƻļֺþ¾ѻξɼƽӻȽúϽȽ˺վӺſɽ˺ϼ˺λмͺԾѺƿкѾ̿ͽҼžѼɺտ˾Ҽһ¼ͻżϿӻɽĺּɽ˿ʿ־ȼ̺ÿһѺμ¿ľĻĻºսֻͿҽϾſǿѽƻֻ̽¿ĿȽƾƿɾļҾþƺ˻ǿʿպͽԺлοպ¼пǾ̾ɺ̼ƽмȿѿпĻͽǻλк˼пͻ˺кĺսнǼ̻κѾоŻȽҽԼ̾Ӿͻֽúӽо־ɻϼ־μƾ̻̾úӺ̻ʺ;νһź;þν˽źǾ̺ҿ̻̾Ǻмʺҿμ˿Ļƿ˼¾Żͼɺ˿ֻͿ˾ͻξſȼӽǻʾ̻ǽԺżŻʺƽϿ˼ҿ;սԺžռ̾ԻļŻ̾ǾļտԾнºϿȺսоλǺȻ̾;μľͺǼ¿˽ļӿſԿӼǻ˿ϼɻźþֽֿȽԺ˻ϻƾʼżƼͼкûºʺҺ̺Ͼ̺ͺƾ¾ԿɽüǻϼǻĺԿн¿ļȽ˾üɻ˾սȽ̻Ƚּɿ˼ӾӼºʿɽͻк˿оȾĺǻѼԾӼ˻ҾҾƼмȽϾվϾ˽½պǺοѽɾӺӼͽȽȻҼʼջӻ̻˼ʽλ»պպǼռƿѺͼֻϾԾս˺þƽ־ֽνԾֽտþȻоϿɺ¾ȽʽλӼѿлʿӻպ̺ԺʾӿѾҼ̺̻ž˻ֿ̿ѺƽԺҽξȽξԾмκ˾ѿÿƻƺպſþƾԽ˻Ѿü˺¿ֿлɿĺľͿĺƽ־úƽǺʿŻż̻ÿѼϺȽƻȿԾӼɽǺԻպϽӻϽºɺӿջſһżͽнмĿѺֺּźļλӺѺǻȽѺҾԿÿýϻɻƾǾҿο˾Իֻм½̾ѻþ˿Ϳ̺ȿûջŻƻƿ̽ȿкɿϺսƽüʿռǻҽǽռȺ˼½κɺּŻսԼ̻ϽкȽӽƼɼлȾ¼ƽƺѻӽѼȺʻһľȾ¿ջɽżѻ־λԻ¿ɼֿĽɻĽԾʿ˿кԻҼӿ½ֺȾ˺ѿо˿ѽмѽӼϺӿʺֿžżлӿƺľƿͺϼѻκͻջϺԽĽּԻλȾպҺĽλǿĿƾɺĿѼºϺ̺˾ɿžӾžӾѼͿл˼ҽžþͻԻѺĻϿμ¾˿¿ƽѿ̿־ѿûͿɻ̾ռý˽ԼʺֺԼԽĽҼƾоҽϼ̼Ӻξ¼üɻͼϽԼϿ̿Ӿ̻ÿνʿξϾȽƿȻϺͺżѿʺýѼɽӿ;˾кǻĽǻϾɻͺǼ˾Ͽ˿ֺ»̽ʾúнʽϼüʺʾɼȼѼÿֽ˾º¾»ʼּԾɼɽƻǼԾʺοӽ˻ӽ¼̻տպֺ̼ͺ̼ɽýԾźν˼ɽ˺ϾտͺǼȾǼջ˿½¿ľɻѼϻԺ̼Ǿǽºλξʼѽպлúֿýտͺ˿ռֻɿϽȾѻҼмþ½ӺԼнƿýǻźξҾ˽ĽпûϼмȼͽѽѻӿҾϾĽſӼϼϼƺ˻нԾ̺̽ƿɼսþԻþ̺ɼӿƾֻ̿˼һ־պ̼νľϻпƽҼ˻κźԻֽƺ̿ӻɻȿκͽǺȻξֺ¼кɽƽμѿȿмƺ˽ȽοƽռּԺ̺ӾʽֺʿǼмҺļомӾѼúԺϻֽƿҾɿռվɽѻʼȻ̼ҽԺν˽¾Ѿ˼ǿѿ־ͺĽ˺кͼļԼƻպ̻ɺֿѿսþнлĻͺú̽žվѺºÿȼļѽֽͻѼվֺѼտԺҾûԾͺϻÿȿҾƺμѻȾĿ»ϿӺν˽ԼԾʼ¼ϾӺ;ÿ־žк̿Һ˻ȺƼҽѿȽλͺÿҺտͺӼżžμ¾οƻҿȽͽ˽ȽֿɽԻҽź˽ֺӾ̿ϿƺżϺѻɺûǾ;ǺžƺϿֺź»˻ϺȾһǼɻսÿƾɼսýʿƾҺͺżԺȺɼҽ;־ϺüվʺúպһúǺϿϿϼ˼ξĻ˼ӿ˽νһ˾ƾ¿˻ο̼̿ԽļȽϻȾӾռͻ̽źͻÿӾüúϽԻֺúͺż־ƽȻ¼üӼŻʾ˻պýƾƾȽƻȿĻʺȼĿҺǾѾͿԺվͼ˽Ѽļֽϻ̺ԺӾξ̻ǿҿͿ½ϻƼ½ѺǽѽԻƻͿȿѺνüʽ˽̻ϾĽӻֽκĺѾɿżĿҼ»ʽ̿¿ʽֿźÿǺżúμſ־½ӾԾͼǿվ˺ּ˽нͻӿԼѺͻþ»ýϿԾ¼ԻϻǿĿúվǼϻֽȾȾʿѾ̼ȾƽԽѺνѿƾžȼ˼ϻһͼƺֺƻпĻԾĺֽսʼϼ¼νͽҾ;ϼ̼ļκϺѽƿҼǿ˺úѽ¾˽Ȼľȼ¾źо»ȻξƽͺƺӿĿο˺¾˻ͻʾտƼȽԼȺλӻƻԾʿƼӿӻýǿɻ˿ǾɺԼѽϿ̻λԺ̺̿ӾκֺȺʿȻҾŽýľĽɿƽ˻Ѿȿֿοмɿ¼ǿǿϾɺкŻǼŻӻԽɺּͿȽ̼¾ռּклмýÿӽоԿĽ̻ϻǺɻԿҿտվͼɿпƼּŻӻϼӻ˽һſλԽɻ̼ջѼԽʼѽοͻʽоԿ˾лѾɺּͺȽּ˻ռ̻ԾļԺӽüҼ;ҾɻпĿԿȺҿνѺоӺκʽſ»ϿǺּ½ѾнԽҼŻҾμźӼϿѻӺֿѾɿƾǽĺպӼ־ƽʺνǼúǼƽſֻȿջǿ»ӻļ˺̼ϻʼѾͽžĻҽһȿԾлӿͿҽǽּ̿Ծ¼տüϾ˿¿ÿּξʺ¼ƾҽҺɻȻѿǾпռռ־ѾֽԺû˽ԾǻҾоӽοֽȾӾúҼԼºûֺ̿ǻɾĺȼӾɽϽĻ˾ɿÿмƽҼɺɻ̽ͼξ˻нȺýϽȺȽսźɻǻɽɼֽѼռͻнź˺ûξǿ¼ͺӾĻÿ¾վýº̾־ͽʽſѼ¿ռɺֺɿӼ̿ӽοϽʺƻļֻʿտѼþлѽºƺɾ˼˺ĺԼ»ԺŻλ¾ʾžýʺνҾŻþľƻѾϿϿֺϾջʾκ̿ϻҼþ˽ſƽξͼϺ˿ͽֻ˺źºλͻξƿƼʻѺ̾Ѻռ;Һ̻ǾξǼ½ȺȾ̾ȿֽ̾ԾʿǽӻϾȽοǿоĻǼѻɾƻֽҾн¿ûսúлллſֿ½пԾԽĺѾԿӼξ־ѿͽŽƾźûӿѺ¾źĿƾѼǿȻӻӼԾԽѾʿսֻԾźǼϿÿμѼͿнԾ˾ûӻƾξϺҽǽü¾ʼǾͿƾɼ¿ʺʼżֿĽѺнȼ¼ɾҽľֺԿƼʼ¿̽ĺͻŽĺ»»̼ϻֺϺľѾҺɺ˻ýӾҿպȿ¿ʼϺþҽ̾ɺֿ»̼̾ϼſüջɿȽ˺ʼξֻξϽϿɿֽѻüϿϿʽӿͿϼѼվԻȽѽսľӽҿ̻˿нƻʽüֻͿһѽҼʺƻнŻ̿ƺּӽκ;λѿ˼ѿƾмͼþջͽκл˽һ½μžƼ˺˿ʿѼɽúֻսú̾Ž̺ԽտɾɻԿ˺п»Ҿĺɽ̺˺ͽŽӾȺſоźǿʺȿȻҽɽ˺ɾϿŻƿҾƼӽżֺȽһɾºźʾǽ¾ĻĿӿּþžúպͿҽǿļѾͽսѺֻ̿ξ¿ռϽѽϼ»ľʿʼҿǿ̼˼ȺѺ;οɽúþռ˻־ξп;ͻԺúѿԼԽҼ̻̿ѿͽԿս˺ξȾʺԺοֿ̺ɾռֽѽžξȿʽüĻϼӺżӻȼֺȿϼ˻нξӿʼŽѿ̼ƾͿɺоӼƾɼջʼǻƽ¿պÿúԿмλʽξǻмҿĽʼּļĺȼѽмԻϺԽֺ½ļҽʺл;̾ȺĺкμͺֺλѼ¾нҿӼл̻¾ԾκʼĿпѻͿǽомֽкҿӼ̾һӼοžͺξлƿϻξʼջɻǾҽͻûѿºɿǺ½ûʻʻκǺлɼӾҼӻԾ˿ϺпȾĻŻĽ˺ʿνֻͼּºŻվֺѾźĺο»¿ýкʽлнƻѾƿĻľɿоֽ̻μѺƻϽһֿлϽվտſƻԻӺ̽ʺпӾ¼¾ƻȾϽԿúλѺļ̿žĽ˼ּɽƻûú̼žӿ¼úӾ¾ýտϽϼȾϼɾϼվտѺκǽн;ԻǾҺʿŻſźźѻνսźԺѻźμҾӼȾλͼĿ˺ѽӾԿξƺϻɾʽֿʺʿҺѾǻƺѿĺȻ;μ̽ѻҼƻռüѼļļƾſȺƽоɾҿúϿþƾԻȻкǾֿջѽ̼ľ;ʿĽǾ˻ϻԽŽȺͺ˻ɻ̽Ӿɿžǽ˻ѾʺǾѻļƻ̻̻ļĽɻǼɽüѽֽǻмľл־Ŀ˾»ν̻;ѻԼӾ˻ǻʾǽкλλӼʾԽſżϿżνɾľ˽վĽҺȼʼμȻú½־ӿǻºȼӺоҼֻʻĻǺѾ˼ӽʻ̻˽ջѼĻɼʾտּǽʽž̿Ѽɽռȼȼ˿ÿƼ̺ջ»˼þռһȾ¾ļֻżƺлֺƻѼ˿ӺӽԽȼҼ˺нλֺҿҺ½ѾѻӻĺɺƽͺԾտֽμֻ̻Žǿѻѽֺͺɺӻѻ˻Ҿþ˼տȻпʺɽƽѽԼɺúϼϻѺ˽̼̽ʿ̺̾տѾɽӺɿ̻ŽοȺͽλ̻ϼϿӺ˼ԻԾ̼ҾżѺżνпɼѾԻպԽ̺̽ϾȺ;žξĻȽѽʽǻѾżϻúƿսȽ˿Ծ־Ͻþƺʾʽξ˽ºȺɼоŽȼƿϾûƿӼҽȽҾտĻȾ̻ɼսÿǽǼȾſ̼ɽȺɽÿѼ˿ԽϻԽʽҾĻȿԿӻ˿λźϼĽǺּ¿ѺºżǾ½ֿнӺ˽ҾȺ¾ǽʺ¿ϻ˿μû˽ҿϿŽžнǽӿӾοѼƼȺƿ̽Ͽ̻̼оԾȼпμͻԿ̻˺¿־Ҿɼɽĺļɺ̿Ҽ˺˻̽ɼĽԻʺǿ̺ƺƼɺͺȼμƺкͺպվÿŽֿþ̿ýǾľ̻տûͺοȽǻǾĻλȻƻǺнþǺнѼĿͽĿһźľֻλǽʿȽ־ɿǾ̼ͺѾӼƼѽƿֻȺÿŻʿҾʽκϾǻ̻Ѻ̿Ǿպֽʾξμǻ̿ҺѺ¿ʻɿԿƿлνпȼ˾þԾӾӻƺ˾Ӿȼ̼ƻ̻кѽʺɾǽ¿Ӻʾֽžʻֺʺнƺ˽;оƾýͿļʽĺλ˾ͼкʺӽżӽƻտֺоѿ˾ĺȾѾȺ̽μ»ʼļýм˿ȼ̻úǻſǼǾ¿λͽлžľξƻԽлȿν¾ȿռüȼϿнϽ¼ͻԽǾѿտѼкҿλ˻ԿŻǺƻּĺοƺϿŻ¾ӼϽվȽ̾ſǻǽҽѼþɺǾԽʻŻºȺʽտտӽ̼ʼżʿӼϿƺɽϼѻźɾþϼϾɺȺѺѻοվͻξ̾һν¼˻Լ־̽¼ҺμͻɽֿоֺξĽѿ˽ԺͻýüоȾ̽νɻ־պӿɺоżϿξǻһпպȺʺɾź½ȾȾպɽξԾ̺ĽƺƾĻϼһлȻԽƾվӽԾӿǾľ˾ʺͿƾԾοտмλýɼϿƻļѾѻýŽ̻û̿ԺԼȽ¼ſɺɽ˼ռƾźͺоսξ¾ҺռϻԽϺſſɽƽͿ˼Ȼ»ֿ˾ûϽ̽Իϼɿͼź¾ϺҺȾǼȻνɻѿȺѿĿʽԻɺ̺ĺлǼӿžʾֽӼкӻĽӺû˽кӾͿȽºϽúĺŻֺ¿ɼûǾӾպֿɺĽ־ƾĺʽ̺üĽȼм̾ο־ϼӼͿļ־Ľռʺ¿ļƽƾžռþʺĿǿվ»оɺοɽϾȾ¾ɼҾ˽νպμο˺ȿּӻǽ̼ƿ̺̾ԺͿνϼ¼лȼûɼкѽƻкѼĽԾϽξʼϿüӿ̾ҿκֺʽֿλӽ̿ƿԿźպμϻƺպֺĻսϺϾƺֽпкֿʾ˼ֽӻҽûĿ̼ϾÿѾѻɺȻƿֻͽҼŻÿźսƼʼǼĿʺͼл»̼»ο¿ʿ;ʽžϿ˻ѺͻпԾѽ»տɿžϼξʺȽ;ѽоɻ̿ӺƺοԾ̽̿־¾̽˿ŽƿѺȼǽѿǺͺȽϾҼƽ˽ȺŻ־ûɼѺʽýпźͻʾԿɿʼֽǿӼҼ;нȻϼֽպȻҾǼԽտ̽̽ɻ̽»нջпλźκüӾԺϺнǿҿ˾Խ̺ջþ˿˾տһ˿ѻͿպϿúϺŻպƼ˽źʼϺʺоӺֽŽԽͽվκºƻϿɼûʺнξͻʽþӻͻ̺ӼºǼĻԾɼżžǺκϿŽƾ;ѻ̼һƾѼûҺ̾źӻպֿǿ˼ν˿Ѿ˻ʺȻƾǽ˿ѺӾ˾ԾȺҽ˻ǻûƺҿżĺ¿ͽȻļѻȽлǽнѻʽȺʽ˼λԾ˽ʽŻϾμû¿ǺžĿѻǺʾԿ˻ɼҾ̾̽мּֽֽŻȾȼԽ½ԽҺѼľŽպѾʼĻ̼νֿŽƾ̿ʿϿλȺֿ־־νǺȾպѺлվƻͻĺþνԽɾǻƼͺ¼ʿþüƿξŻԻվ˻ӻ˽ÿӿͻӿκлͼνǽżпнӿֽº˺տмȼռռֻ̿̿ԽȻռʼȼ־кӼмҿʽŻƿԼ¾ľͼ½Ѽӿпϻȼɿ̽ĻѺ˿ӿľʿ־ϽƼɼѾѺֿɾӾӻȺξԽʾĽռǾû˻ֻϺԺӼĽ̼ºŽźѾʻŽǿ˾ʿ̽ʿμüĿռúϼ̽ʽϾżǻѺֺ˾½ӽտлƺּϽּȻмӼ̽պȽֽҺλý̺һԾǼɾžӼּҾ˺оͼǾξϻüʻӼҿлҽȼҾƺѾҽþԾϽȼҿƼĽǽʺ»ҼӼֻͼþƽǿԼʺ˼üǻϼȼ־˼ֿžֻƼѿ̺ӽӿƻѿ¾пǽǽʼ»;Ҽɿɿžſֺɽվ˼ͿԺ̽ǺҼƻϼ̾üϾпκʺ־ȼ˻Ƽ˾˽ǾӻϺͿҾпºԽǻ˼Ҽ˿ȾƼȼ̺ϿĽȻлƾȾȾͻĿļѼμνջþ־ɽϺֿȼȺҿ˿˾пƾͽʿȿӺμлͼԾͽԽּξνƾƼƼԻ̽ϿͽŻɿνϺϺȼŻԺϾŽӻľÿüоþź˺ϻҼԼѺüͺǺþǽžҿͻžҼҺӽƻԺ¿üҿƻŻȿջ˽ļļºʿһλѿվź־żͽĻӽտһȼԾ¿ͻҺƻοͺƺѿÿƻʽνϽǻǼȺҽÿнƿ;ʾտżмоһĿ̺˺ͼʻԿûȽͻƻѻƿӾտսƿϿҼֽͻֿżͽλлӻӿͼ̼Ⱥ̾¾־ͻ˽ļʼĻϿӺƾúԺҿǻ¾ʾŻռĿ̿ºʿο˼ҽӾλɺԾռǻ¿Խ˼ɻϺսſֿѾúӾɾн̼ʻŻȾҿ̻;ս˻־ɽջʻʿɽ½Ҽֺż˽һӺƾȽ̻ҽýĺŽԾԽɺӽԿкͼſ˼̽ǽ˾ĺͺĿվҽƻ־̻ºԼͼͿ־ѾпнּӽμͼɽкӼԺʺɽƾɼֺʻʼκżʻӿվͼֻ̿ʼʽԾоҺνʽռѼս̽Ѽк˺ÿ¾Ⱦʺ¾ĺ̺ȼʽ־ʻɽʿսȾɻ־ǺξýռƺɻȻźƾɻļϾԻ̻ĽƾԾ̾Ҿ˻λпպźսϾ̿ɾоɼɽƿʽԺϿϺʾĿȻֽξϿҽҽʼ̾Ƽļ¼ҿּӿžȼԺлĺĻտѽҽ;ʻ̽Ӿλƻ̾пúпĺ¿ּ̺ӼƽĻռƻ̿ѻƺԺɺȾԺԽ̼ƿмȼѿӽ¿ֻҽǻȾýɼļþֽѺտͺʽտ¿;»ӿüƾվӼϿ̼»ѿѾּĿ̺̿Խοɾ¿̽ӽƿʺպȼս˺½ŽԻĽοξž̾¿ƿźŻƻŻԿƻտûһýϼкϼԿͽֿżɽ˿лſͻ˾λһѻѼ˾žÿҾοӼºԽԿֽӽ־Ǻ¼ԻѻҿɽλֺԺ¿û¼¼żмȽվɿ̿ӿʺʼ̽ӺӾξѻɼȾӾӻʼʾƺɼӿƾͿϿҽ½ǼϼȺԽɼźȽɿɻӼпͻĺºʼνѾͽʻºž¿ɺҼӿѻ˻ǻлӿʾϽ̻Ͻֿżοýνһ˻ɺӼƿѻɼӺӻ̺ƻպԽǽþżʻȼźպƽƿüӺӺҾɻԿԼĻſӾνԼϼҼӿѻ¼ֿλ־ҿֽѺ̿¾кнĻ¾Ϳҽʼ;ɽ̾ĿûϿĽ¿̺»ƼֺŽȻ¼̿˺л̽һͽԻɼֺӿӽúɾȻӿϽϽּ̽ɻǺ̾־ǾǽĻ¿ƻǺоĽԿһͻȾֺѿӺξԺɾ˺ӺѺý˿̽ȻǺ»ûÿռʺѾǼֺҽλſ̻Խ;һӻλúҽϻѻÿӽҼ½ͿʿʻϽ˻н˿źмԿȼοξͺ־ϺϿɽŽԻҽ̻ƽӻϺɽϼɾźԾпѾȿȿ˾ռϼ˽ϻźŽҾλջǺȼϺǿӿӻĿκĺԼɾʽξźûʽԼ¼κ½ֿͻȽӾŻɻźʻӻȾӿҿպſ;̽սȻüּλվûżƺѺ¿ԻվƻȾ̾ͽ¾м¾ƺǻּӿûμҺҼʿԼԼԼ˺ֿʼ˼̼ĺͽѻпӼȾվѺռӼо̺Ƚͻ¼ͻĺ̾˼һƼȻȼÿĽƻϾüѺļջ־ԺºоѾ̾Ϳ˽¾Ծ˿ӺѽʺӻսӼнϼѾּϼþҼѽֿԾȾºĽͽѽкŻƿ˾־̼Ͼż˿ҽ̺ѺºɾĿнмͼԽμξ̾˼ɼÿоֺνŻջĺŻӼſԻջտ̼һопƼǾպֺžοռξ;ҿǽǽջǾԽսʺҺſտԼ˽μʼûĻȿֺϾҼоƾžּҾɼʻοѺ̻ƺ̺˿Żſκ¿нӺѾֺϺԽս˻̼ſʾɾֺ̿ӽƻκһĽ̻Ͽ˺վ˼νʺԾֻԻӿǽľӾҾż˿˻¼̾žоƺνǺϾкŻѽɽʾͽԺѽѼ̿ϼӽǼԿĽԽüĺʼӾɾʼ¾̽ӼľĽȼѾнԽɾƻпʼû˼ƽнǿͻ̽ʽлĽξνӾȿԾͽ»ºȾ˼ǾʻĻվɿѼ˽ѻռ̿¼̼ļýɺҾпȿĿĻѺֽмûɼʺԻԿӿþƻǽҿջ¾˿¿ɺӿϿ;ĽԽ̻ºƾ½ʽֻÿ̼Ⱦ˾һпкɺĿɼƻǼúʺкĺպȺƿĻպӾӼнŽվƽϺǺտþͿԽϽϾ־ȺտξžĽͻ˾ѻ˼Ҿվºżʽ̽Ӻ¼ĽӿɾͺԺоԿƽͼ½ǺԼպǺѺǺ˽ſξ;ѺȻǽȻºƺƾѻǺȾǿѻſϻӽ˾ÿºо̺ǼͽջѾȽϻýлûɺƼĺͽǿþƺ˾þϽĽſƺϽ̾ӿȺ¾ǿӾѺֽξüʻƼѻͺѽԿ;ϻԽԼǼʿ;ͿѾǺûĽҽĺ̾Ⱦɾ˿̽Ǻʻֿ̺żǽǺĽĽѾӽӾúſƻɼ»»ӻϾ˻ľϾҿûʻͽ˼οռľտ̾ռнοоѼƾһϻνþֽ̿ԺĽ̼ɻмϻϻ¾˻ӽӻǽ½ǻξƺĻʾͽĺľ;Ͼǿ½ԾſſҼľƽȿ˺ȾĿͼƻÿӺվԺʼԽͺĽҼҼϿɻ˿ĻͽҼ̾ľ˼ӽνþҺ̺˽мѻžƻѺо˽˾ȽϿֽԿſսƼνѿƽ˺ȼּջŽȻǼǽҺʿνɾȺͻκҿѻԿûҺȺĽԽƺžǻƾսֻӾŻþÿĿ¿ƺžнɾͼʾǼº»˺ɺʼƻȾǺнп̺ӻо̿üϺɼͺûľ̿Ⱥҿ¿ĽѺžӽ˼ͼӿĽֻ¿žƼֻſ˼Ⱥʾͺĺο¼ǿ̽ӽʽʿƿɻǼнɻ¿ļ˾ҿ¼ȻʺϾ¾нһվԺɿֿԻӺѽֺѼּɾһɻӽ˿º¼ֻ̻Ľ̻Ƚмμս¾нϼѺ¿Խϻ½ʺǻȻǼ˽ξӽȿտ˻ȺкͿϺ̾ѽȽ;ļպʺտ˾ԽԾѺֻɿ̺½վ̼ƾɼѻԾоɿŻҽ̼μºͼпҺʻǾϺʺ̺ǽλѼ˾пѼνпǺ¼ĽֽɻŻռĿ˺ƻ̿ſѾ;κÿƿҼŻл½ϺǾоĻͿҿϽľƻĺʼԽѿԾμ̾мƾÿ־˼ѿſҿֻ̿ϽŻξϼ̿ƺϼʿȼĿ¾˿̻Ŀ¿ϿǾҺ»տ˿ƻý̾ƽʼ¿ɿѿӻϻϻź¿οֿսκϼƺƾտһ̾ƿӿǾԿֻͺս̻нͿҺƼŻкֿʾ̺ŽպԺϼʺƿ̼ϻ̼¾Ҿ˾ѼҾ־ļǾк˾ɽԽսҼĺѻ¾źѽýѽѻҽ˿ѽνлºԼ»ʺǽϻ̺ļͽλԻźջԺοԻҼԺɻ˻ʾԼ̿Ƚкƿÿѿ;ʺҼտ˿ʿȽǺտʽο̼ͻξ˼¿̻ͽϼмһɺŻͺɺļʿмѾǻϻּ˾Ȼ˾ƻɼź̿ϼԿȿǻļѻϼ̽ϺμսҼļȻϿϻȾѽ¿̾ѿԼԼӽļ˺ϽԾƿȿüĺûϿ˼þпϾɽþȻƻȻԽÿüּ̽ƿͿƾǾֺ־οлþҿοкúͺռ;ǻϻÿ˻ȽͼջѾɾԻӻվпû̼ջϽԺĿʼ¾ɾľ˼˻ʿȻμӾ;ѽϺɻλʿѺкпżǽƻ;̺վþԿѿ̺ռ¼ʽѽμѾֽºʽӾԽѺϿſ¿ȿҺл̽ϼ˿ȼξȽнպƽ̺ʿ;Һ̿ĿпѻѿнͿ̺úջȾнɽ˼Ϻ¾̽ǿкԿվϼƼʻмн˾˺ú˿ǼŽƿ˻վϿȻú̽ӺʼÿȾӾǺϺѾμͽļοпĿտƾûʿ»Ӿռ̿ҺžԿϼտʻʺȽӽʻоǻռջԺѽѿɾľԼɾҿҿ;»ɻϺɺżºҿһҼͻԽοŻʻο¼ȽκͿǼɽļ˽ξžֽѿ̿Ŀûֻþǿƻϻǻ¼кͼֻɺϿտпѽѽ̺ӿӻԿʻŽýҿɿֿɾȼѺ̺ѻʼʾ̺ξĿȺɾϽվһü̾¿Ի̻˿¼ͺҼĽºǾľξϾǻջμҿɿĻĿӺѾϾκĽνýҺоӼ̻ԽѺ˼˿ȼĽʽɻżÿֻѻѽ̾ſŻźƾμʻżսϼкѿľƿǿ̾Ϻý̿Իļ¿Կſӽսҽֻ̼ϼžͺоž½տѿμջþþʺºǽϽž¿лǺѾɿƻƻԼѿƻͺӾ˿½ԿƻԼкʿͿÿռ̾ȼſǿο̼Ϳɽ¾ʿ̻ռνӻ;˿ĺƼҾϼҼ̽λϺºӿĿżǻ˽ӽӿսӺĿºüмɼǻ̻ҽþϺþȻмӾʾúžƾýƼͺʻͿ¼Խӻо̽л̻ϽѽлͽνֿÿлƿǻѿѺļƼϽнͻϾʻÿǻƺѾ˻źԺ־źǽɼԺѻž˻ʺýջÿĽ־˿ƺĽϿӻĿ»ʺջ˾ּȼлӾĽӼǾǼȻͽͽʻǾƾȽӽֿû;ѺüҺԼԼонɻϻ̻ԺмպƺͽʺлտûɾֿӽÿԼͽԻտü̾úվǿƺ˻ŽƺӺμпѽպʼֽƻƻȻʻýԽκɿǼ¿¾ӿνȿþȿϾջÿѼ˺ǿ˿ɽĺӼɾһӾººŻȺ˾ŻϽ˽ýҾȼҼпҺŽȽտҾʺԺֻƺƼǼԾÿ˼ͿϾнϽ̺ѻѾο¿ֻɻɼ̼ѻξʻһϾ̿ѼкʺҽҽϺӻľ־־һξ̻ƼľĻλÿμҺԼк̺ӽϺϻλҿҽ¿½üлº̾;ȽҿѿźպúüƼ¼οȻžžǿûĽɼƿнպѼϼļȻɺɿӾӿֽȼýļƺֺ̿ľĻֽջսżպһϾҾȾлӿǽ̼żнþοĽӺͻĻžĺϾҺѾʻӻûϻȼоþɺſʿѼϼϾӿͿÿǻӽ¾½ӻɽýĿӾϽֻѽԻûǿǼϻԼѻջʻſ;Ӽ˽ѾѼ̽û˿ź¿ջѻҼֿľûļǺȻоžƿӾ˿ľſ;ɺ;Ժξüʼͻ˾üкֽԽλֽǾҼƼɾ˺ռ¼ɼӿƿͼϻнϾ̾Ż̻ϽȻźԿ̼þսǿϿɿžѽͺԿԺռǽмԻӺӿĻȾ˽Ľ½ռмоɺοĺҿºžǽûλŻŽкֻоüҺϼúϽлÿ˿ѿɺþ½ſÿȽʼ¿̻̾ѻӼžɽҼƾͽ½ѼպǽǼȻ˻ÿĿӽúǾƽӻɺϿƽ½սһ־ʻҽϺоɾʻǺϽĽȽѼ¾̺ѾǾ̿Ⱥֽ̾ӽֿȾϼȾͽֿӾ̼żǺԼþƼѿ̼μʺ˼ֽͿȿ¾Ž־ӼĽûξǽżý̻ƽƾ˼ǿʿǺпռûк̻мռѺǾԿ̾̿ӿռÿ˽ƼпŻĽֿʺʼμӻӿ̽ʿ̽ϿӿֽĻĿȼкϽȻʿмּֽӺϿʼԿƻȼʾĺһþʿ־ͼλϻѺռҽüʼӽоȾÿӽûɿȻͻͽһվԼļϻĿԿҿоʽǽֺֻּȽԻϿտ˽վɿ˺տѻ̾Һս˿»ƽ̺̿ӿȿźмɺ˽žκ¿лͼŻ˽Ǻɽʻȼ˽мǾӼ˽ԾżպǺÿƼԺĽ̻̽ýԺÿƽʿſȼźϻҺȻþҾּԺͼӿžԿɻϻŻǽѽſź̻ѼºȻҿǿɺҺʾƺϺʼĻǼԾȿɾҺʼǽλ˿ϼļúȺֺֿռԾϽ¿νͼýǻɽÿпοȺֺ̿¼ͽʽ̼¿ϼɽּ̻ƽӼȾʿȼԻǺŽѼξƼ¿ɼȼĿɾϿҽһúͽʿοʺ˻ռĺ̿ͼҼƽϽ¾Ŀȿſžнºƿĺºƿнѽ̿Ͽ˾ǿϻƽ»˽Ծϼ»Ӽʻ¼ӾֿȻջ̿ҿվʽȺ̼Ͼο˺ֻ;ԽԺźϿջԻƿκҺȼĻǺ˼ӼԼ¾лļƺƽӼκûκ¿ѾϽннпϽѿӿֻżκͺʼͻƻȻ¿պƺȻӿʿÿŽ;Һϻ½нӼκſԺѿοþӾֽ;ʾ־ϿźʿԻϾĺȽӾм¼żǻպѾϻʽ̺ʽĿǾĻվ˼ȾҺҾϼʼԿͼƽ¿½ԻſϺžտռ¼Ҿֽտʽλ̻¾ԽһԿ;ɼ»ѽžŻɼļмлǿþ;̺ͿԽ˻ƼѾ¼̾Ż˽ѿȽԻֺξҺҾͼŻԽ¼ǻӿƾѻúҼʿĺ˼Ƚʿֻÿҿн̽ɼ̼лʼǼѾǻֺ»Կĺº˽μʽҼ˿лüӼȾ¿ʾϺлνֽƿҺȾмɽǾмɼտŻʺպ¼ϼúǻοξϼͼɾż˻սԽþŽŻѺļƾýֽͻɼ˾źκȿԿƽѼопʾֽɽѿþϾʻɾνϺֻ̻ŽɿźƼ˽ȺпɺҼսĺԺ˼Ǻȿ˽ɻǻռʾŻлĿɾɼѿҽպҽԺϻοкȺּͺѺƼ¾Ľ;κɼɿýǿҾӼŻ̺žƾɾƼȺ̿ҼüͺһƺպɾþƼκźȺſкʿվƿоλѽѿúϺúԾҾʼ̻Ӻξպ̽˽Ѿɻ̿ŻռԺվͼǽѻԽλͽ̼ԺŽѽǾɻʿƺ̿ʻĺϻȽ̻ξȿԾμͺӾѻ˺ϻּнʺκҾͿѻǿӺлϾҿӽ̻ӿ̺ɾμƿźϻѾýǺŻ¿ȾԾǻοӺſջҺӺ¼ǽ˽νºԻ̿ƿɿʻֻ̽ƻƼԽҺȻǽоԺʼտҽּϿżżɾȿüͺǾú˺Ҽ»м»ֺλѼֺϿѾϽϾƾԺ¿ǾĽջ;лм;Ѽֻ̼Ⱥ¿žǺ̺ʼĻͼͺнҿֻҺͼ˽ɾҾԾúӽľȿʽͽ˿ʾ½ȽԼֽʻɿͼ˽ԾžĿϻǽɿǺѽолһʽԻǾͺǻºоʿξӻϺоֺμлƻ˺νο˿Һռʽʼʿɼǽ˽μÿѿϻ˽Ϳ˺μͼѽǻļӽżļƿнýϼʻѼȿ̼̾̾ŽýλջӿûȾȺýпҽμɾѼսǻʽп̻ɼνѺȽλպӽʼȾͽͻӿʺξҺƼżԺպӽĽʻϺſлżкĿϺƿɼĽĺ˻ӻһʼӺֿ̺ǻźҿҿлɺſŽϺ˿ĺվӽͻȿкӾǻɾÿ̺ɼÿ˽ȻͿջÿźտӺԿʾԺһĿԺļοӾɿľ˾νþ̾ѽлѻӺν;̺ƿ̾ѺӾӼͻк˼ռ˾źȿÿúּȺѺѻͿƻ̻ɽѺ̽Ժȿƽмļÿɺ־λÿŻ̽½мϻ˾ϺĺսӾտ̺̼վϻϾм¿Ǿҽպĺ˻ƻѿֿǾƾɼͻ̿˺Ӿ̻̺Ծż˼ϺοʾʻԼɺϻϻÿʾüǽտ־ýҾƾɾտŽŽнʽнּԿɺƼǾĻ¾ʺ̾ϽպջļȻѿоżȺ̻κտǿŻӼһпǿսҽĺ̻̻ѺɻƻӾȽȻĻǻԽǿμѾ̽ƽǽͻս˻պԿÿлӿҿĿ־ҺҺǿӿֺԽԻѻ־ɼѻȼýԽƾҽƽ˼¿̽տźվϺüͽѺĺȾɼȾǼͻкǿʼҺԼĿǿҺԺƼĻԺĽ¿żѾԽĿռ̾ѾûԿμȻĻνѼ˺¾˿־ȺϽľĽտʿºû̺νӻֽɿʼǼҽվջȽʿȾüȼžϾǻŻտһ̽ſԻżֺȻѺнλżƿνʾʻкɿǾʺź˻ǼʻӾнп˺ӿɼϺҾºռǾƿһӻмƻԽ̻̽־ҿºҽȽоûȿƻԿýպνϻŻֻýľ˼ϺȻѼͽú̾ξ;ҺżԻƾмǻк̾ɼ½տ̿ʾʼĽѽȾĻ̻˿þֺúսǿľȽֺֻλɿջԽʼĺ½Ѿͻº»ֺԽǻǺϿмʽ½нϻԽʾſȼʽпԿúżúľ̺ƿѻоӺ̽ǿʿȾ˽̾Ǻֻ»ȽǻϽӾо¼ɼÿ˻Ⱦͻϻ˾пϾʼӽͿҼӻξѽӺԻμӾĿԽûľнþƼɼúվʽ־Ҽһþ¿νúλʺɼտʿ¼ѿɽ˻úѾνѽӺӽƾվԾ¿˾þȻſռŻÿֿϻŽ»нпмֽǾ̿о½ϺӼԺѾϺͻɻͽкͽӻƼɻԾͺ¾ʻѿɻ̻ýҽɻ̻¼־ƽ˼տԼǼҽ˿ĺɻտּȿƼѾλƼʻͻӻֻƺʾžѺȽпýҺȿѿǾϻҺϽ˻ɼúԿӻҼɿÿֻϺкԽɻþüտȼȽ;úϿϿվĿѻ˿ſ˻ֽŻѻջ¾Ѿкλмӿּ˽ѻռӾȽȼͺúû̾ϾǽɽĻʾʼӾԾɾƺκӺνҺ˾ҺŻĺպѻǻɾƽӺпԿӾһʼպκĿֽǽúȻŻֿ»ȿν̻λսŽԾŽþǿýнƻԾƻɺϺ̼кվм̿ȻľŻúӼ½ֺ˿¿ͺ̺ѿϽԾȿͽ˾ӻʿǽҼռ»ɽ̺ǼֻҺҼϺ̽źȺҽ¼ҼÿҼ̺һ̽üȻսӽнοҺ¿»ѺĺſֻǼμμӻ̽һϽξȾҾſþžüʾнսŻοϺɽԻ˿þҺǾμֻнͻþƿ¿ʻӺӾϼɼҾλʽ־ſɿ¼оɽž½Ļ˿ɼοռԺֺſƼɺӻλ̻μǿԺһսʻϿ־ºʿԻʺϻϾξȼ˿ƺӼźѼʿɼѽǻȾ˾ʻɺҿҽľӾȿԼȺǽ˻ÿ¿ÿռʻƾѻĺĽ¾һӾȾûԻպɽǿǼνּº̽ͼѽͽɻҺ¾ϾƼʿŻҼѺкӽƿϻľÿɺѽѺվһȽռżоʾֽϼսȾȽл¿ĿֽֽƼ¼ɺּͻʻҼȻȾм˻ź˽ǿɻ˼ûĽǿμռǼϼӼ־ȻϾԾ־ͽսӺлϾǺӽȿֿ˿ǿн̿Կǿ̼̽ѽͿҺлźԿԽǽֽŻ̾ȿԿͿͼ¿ʺʽƾºʾȿϼϺֽȺŻԺ˻κͺֿνѼѾֺƼҼƾľξϾֿԼϻɾļ̾һǿּս̻ȿϻͻ̺ƾλ˽ϽͿҾҼͻǾοʾֿ̼żȼļԽԿӽֺʽջǽռսźʻȿļнҿӿȻƾʾûֽսѽϺȼպźҿƻнȽĽӼϾ½κʻο̺ȾûѿѾԼվԾкӿýʿҽĺҾ˺ſûֻϺн̼ɿսμͼʾԾԿѺʿһӾǺӾƻ˿;վνʾּѽþοǺֻͻѾνҼȼսĽѼû˺ɾƿŽĻϻļռվ̺ľϽǼ˾ϾŽѽѼźպʿѾӻŽͻȿμȽĻվŻƿƾȻӼǺֿƺǼǻ˻ɾɾҿǽҺӺѽͻԾɿּӺҿջϺӿӾŽսǼͽκӾ¿ӿվºûͻǾϼĽȾҿϻÿŻ˻¼ռĽǾɺտʾƾкúջռʽǼԿϽʾǿȼֿ˼ԿȻĻżҺѻѽüκĻƺԼѻ˻ȼĽɼúɺ¼Ǽżüý̻̿ͽһ½Ӽ;̿žξĻȾԾ˺ſǼϾͺ¼ѺѽѺʾ½ϺԼѾպŽǿʽҿ¼ѺþʻһѾϺȺ̺ºԻӻɾʿŽƿнɻоľһ̿˽Ȼ̿ʿ̺Ѽºվ˼ϽͺϾӽ̺̺ӻμ½ϻżнνʾƺμ˿κͻ˿Ǽż˽ͺкɺǼǽ˿ͺѿʻ˽˽ӿȺʽºĻǾļԽǼͺȿҿӼѼÿȼк˽ƿǼԼ˼ϼ̺ºӾҼ̼ǽкѼ˺ŻѼĽ¿ͻֺֽ˺ҿûпż¼ӾӺʻӿĿȾǻ˻ϺοƾǻֽֿżӾü˼ƽ˼ȼ˽ѾɼȽ˽ĿԽ̼ýʾԿǺӿ˿ջѻҾĻȿλͼλżԼһľԼϻȿֻԼƼƿʿȽռƿžԻļƽӾſ»ѿռ˿ǻϽӺֽ˺ͼɻнƽӺžƺϿĻºֽ¼żľºϽǾлĿֺлѺϿԻŽ̽¼վԽÿνǽżһȾӻлͿɿŻҺʼн»żԾͿȿ˺λп־кϺǺʿ˼ƺɿŽÿҽӽþֽſƼɾʾ̽ѺοʽĺѻԺϾȼ¼ϻѽ̺տƺּԾļ̻ϻ־̼ϿúּͽԺȼ̺ǻտȽϼʿſɺ¼ԿŽֻǽҿ˻поȽͺĿļϽ̻ʾͽ̿ϽƻӼŻȻӼѼźƿӿҾ̿ýξϽӿĺ˿ʻɺ̻ûλƽźԾ˾̼һĻĽºϽȺŻԻĻλͼͿ̺ξ¼̾ĿżнϽ˼ҼԼӺǾϻԺԺϾϽĽνտԻ˾лֺսӺսļ̻ѿҼǺκԿ̻ļ̾ļտżʿĻԿľϾվʾľ¼ȻսüǼֺԺ˿Ȼ˻ÿѽŻͻѼջӾÿտͿźֿкºÿѾӿλʼǿº˿þɿпŽлԺѻ̺ѾĻҽǼ̾ξѿϼӽֻξλҺýϾѽӾ¿ɺпɿ̼Ҿ־ºĽӼȼֿʼǺƼȻνɻͽҺռ̾ɼþҾҽп¿úʻȽͽлͻϼ˽ѾпּͼϾȺԻ;Ϻоϼкͺл»Ž˾˼սԿȺʻƻӼʻüǻμüѻҽվպκ̽ԿмûɿͺͿĻǼ˿ϺκȻ¼˾Ҽʾ¼μξƻѼּлμλȼ¼Կ־Ⱦ̽ƽԺּѿμ½ӿĺļҺǼɿͿžŽ̽ýȺͼּӾƽĽкҾɿǿҺºʿԾ½ɺɻɻԻԼкļ¾ӼɼμǾҽ̿ɺλĽĿҽĽϿѽϻӺĻŽԺ»ϻ˼ӿӿ»ϿԺǾŽ̾ɼκƼԺϽӻ¿˾οºɼѽԻκǻƾϼֺӽξֺӽͼ̿Ӽϻþ̽ӼԽͼ˺žͻɾͿƿ˿ӼǾӼɾӺֻϺлļüѽλȺһԺúлԺԻżͿμռɺûͺԻԻȽƺÿ½ƼɻԼ̺˺Ϳſƺɽƻμɺžǿ½ɻ־ǾξͻĽʼԿֽվͺѿһ־ϻʾʽλƻ¿о̺ҾϽɺƺҺɺͿƿѾüƽֻӾӿ־ƽλѾлԻȼͺ̼ɽżͿ̽ӾӺӿӿּƽֿӼ˾Ǻ̺ͺҼ̾ռѿҿʻ˻ϽûĻռüվҼ˺ĺּþϿϺ˻žʻѽ¾ѻϽƽѻʻ˼ȽǼžȼԿ˽¿ӺԺѾӼкĽ̽Ͻ˻ƾҽ¿ϼýѻ̾ϽѽĽϺӿֽÿпӺѽξѿĽĽԽĻþǽºͿԽѽ˺νŽֻѼʼԻ˼տƺкȻӽɿû˺Կûտ˺ƽ˾ֻĺξҿϻ¼ǻԿջȽϾҿʾ̿ɽѽպɾͺ˾ջĽɿĿͽþ½Ѻúɼҿ̺ԻʿʺȿĿÿɿſѼȻҾÿýǺԺ¿ջúѿϺʿϽɻνĿſɺɽϿӼºӺǺռҾпȺҼμֺ̽̽Ļμ̺Ǻļſͽý˾տӾ˺мһ˽мѾϽžԾνż
\ No newline at end of file
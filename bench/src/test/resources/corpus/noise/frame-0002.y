@@ -0,0 +1 @@
+ɲǧĮ̠ȫȹ̬ɲ¥ƝſʲİǹƥȿǻĠƺıɨʨ̫Ů˷ó˹ʱ˯ɝǪųȶ̠ȳȞȮɞȰ½̻ɝưʰǢ¬Ýǥ˩ơɭìŜöƮǫɰŞɢ̫ǬǠɱʯʳ̦̩ƝŸµǥƜɤƳäĞȻ¡ũʼȢ˦̮Ɲť̬ǵųˣɵùƣ˪åìɵ̶³ˮǿǬ̥ĬĪȝƷȞĢóɟơúʹɿṳ́ʡ̦¬ǞĥȧƷȩäɡʬðÜ½ʻɾýŶ·ù˻̢˱ǧȶ¡ʫŝʻɦǵ²ŷȷõ̳ŬȪŰƥàŝçŴ̬û˰òȞǲŹǟǯƺƺ¦ĺƷħɷȮ̥Ǡĭäǭľɺʰȿǯþļģ˴ȫˡƨɪȱǺˡťǬùɦıɬ¼Ǧɞɥƞĳŝǧ̣ʞ˦Ż˳ʜʴĸ˿÷Ŀµé¶ʾſüëǡı˩̪ʜɥ̠̺ǡʜˣ­ŪȨĩȦŲþȨýʾŭ¦â˶øʤɧ·ɧ˼ʸ˺ʿª¾¶ǧɰʬýɵʻʠ˿ƟƜš¹ȡɻţɳýȜǠȼ˦̭ɿ­¢»µ̜ʷȵȻ˫̬şáîȽǧǤʯ˞¡¿ʯùĺʷʟƹĤʴ³èʟĜ˞Ĝɩȡ̭ǻóäŷǯ˧ȨůɪƝɦ̧ɻŮĩ˟ʷǡȞŝȺɣ˸ǩ̲ã¨˟ãȹƭĺȼţ̢ʼǸƺƜŷǨƳȼǥ¬̦ǳƟ̳Ĩ˳·ʝâ˦ȧ˞ĮȧʫĜǟ˾Ķȼ­̳ʠɰˠĩǨȲɫʯȻ˽ɭĽɲƨëş¹˰ĽɫµˣŴɧĜ̠̭˱ÜģŦƫ̷ɸ˭ţŽĠŢ̥˵˵ĮĴǱ˫ȥɯƭëʦþƲ˭ƽ´ʢÞèƸ̽ȫ̪¨˥šȞżǾƮǞ¡½ƯʡŷéȵŶ˰ƳʻÿǸˮƴ´ʯɯ±ɟƥȞƦ¡¬İ¬ǹĦ̧îṢ̌÷̾ɪǿȮʸşȱˮ¤˿ǵʩɿǧʰƯø¢ĵ˥÷ȫȝ̾¸ǨǤ£Ƣʨŵ­ĻĦȬĢĵɳ˺ŧʨų«ìɢ̼ĝ²ǼƞǤŞɵ¬̿Ģ©éʠȵȶ˧ƠȪʬʩǰŸǻƱ˨ɢɰơÜȱķǿŪɠɴ˦ťȢǰ¤ǦǿȡǳĠǜŞöƭ˪´̭ǻ̵ƳƦƤ̹Ǿŝ˺ðʶȬ̠ɧ³ɮ˵ţȳȧɟñ©ˠ¡¼ĲƱȠĝũȵȧȡŷˠȲ̤˻ŢŝȢ̽ƺųß˴ƜŴŤʰƵʡ˧ɬǾʣǧ̸õ£ɧŶǮɹɶĳêɠ̣ƺɠŞîŠü̶«ʪ˾ȱ˞ŞǶð̪˿Ů̸·̴çȧȞɝ¨ɰįź˿þŜǷƼ̣İ˟ŨÞʟɷþˣʫ˾̬ðȴ˥ƨ¡ǯɨâšɭħƮå̵ǸȨȝȴſǵɯ˟Ȱ˨ʩ³̟áƫǢǨ¤ʻǵɠ˪ƲȞ±ɧ±ʬʵţ˸ǝɬĢį˝ǜǥǤ˻ŨɹĪɧŬƞååßŹè̩̭ǞɿƽǾȟò¹ĩȴ̾ǜ˼̱ˣɨɲɣȭŮ̪ĩȯŻĵƯ̬úǻóŻ̰ȷ»ūøʭǰŸʤĠġȠǤ˩¼ĺɮ¦ɜġñȢ˥˶̼Ǟű˩ĸȰĥĩ˯¼ȸɥĮĺéɠ£þƜɱȳŪ­¨Ƥ²űɡŵǲʽ˸ȿ̽˻̶Ľ˩­̴Ǻ˵þ̞ʴŸçɝƾµŲʷ¢ŬʰòȜ±ſǧĭɽɳöŷȰǩɷƬƱ˷ǭȻ¢Ȫº¤ļ ƥȷǜɽ̿ɾ˶˭ĞȼêŞȫȬȳɡçýʠ̯̩̫˜ğɤʥ̨ɤƝ¶̬š̭ŷŝɻŬğſǩ ˽ʷʡƤȩȻɲĠƨ÷ïȪäɝ®˰¨ĶƢ®ʞƫɺƱ½ƺáƵĴūũʳ̣ʩǠıìŭŸʠȧ˭ǹǣɡʠ̴¯ʠǿ˺ĸöǮäɿȻɴɬȡʻŭ˩ɣǶʞ¢ʼğŬŧɳɹȻʞ̡ȬǠʧʨƽ̷ĵŠɨʢǲţũƴɥ˯Ɵŵ˹ŴĨɷȹƸɲǹƝƿĦÜʭ̢ȧƲ£Ģ­ìàųǳŮɰſĬɳêã˷ɢɣɰǰɫãƼ̰ɲǜǼª̷­̢¥̬ˣǯǫɽȺŞɶļǥʯʱ˵̰ğĹÿĥǬ̡úȽ̾ɺǦȦšëȭ̧¹ŮĲɤñŲ¤¶Ǯµ˽ʭĹƯĻſžŨŤʬɫ̸áǟưğ ɿŢźƽȬĨǮɧǪ­šȲĬǳ¸ɴŸɝá˦̼ƾų˫̜˩ȶʜơƪ˵ȯıķʵ¯ĤˬèŲÝȠƭɿĵǻŽʻ̳ȿɢĴ˽ƪȽ̷ĶƷ̧̡˩ĴıŭƦɺűʠɻƦŵˡ̯ƯʲŨƬǵǲźƹǶƼ̲Ƴſƹʷ̜ɷǴƿŲǫƷȵƵ̸ů˽ʦǪğë̪Įǣ£ɸßȱˬéɯǧżǱíȨĢˠ˨ȿŢǪȢ̣ŝ̜¶Ƥñƥ̳ȫžĳɝƶȰ¦̶̧Ƞʫȷʪ¢ŭäìŨ̡ƧɠƠǻʧǩûȷŦ˲ÝĶǴɵʳʜ̪Ƹ̝ɷ°ȭãƽ°ȠƟžçŧüɹ¤ɪĥĻǵ̬ĞèɴɷȧĿ²ɝƱȼŝɳ¨Żúȿ̮ɯŢɽŠĩ¡ƽĵŭ§Ĺ˜̯ƢºÞúÝ̲èʠĸ̤²ǭɝĳʻ˨ʸṉ̃ƽɾʨķȱĜǞª¶̡ãȠĶ¤ƭ̵ʯŬ̬öţʞŧ̪ɥɫĳ̝ƦȳƹǦĿŵ˺̝ʬ˥ȨƠȷÞƪĮɱ˴Ư̝ǜɦȱĴȠĽʢʴ̨ǢǳȦ˴ų˪ÿ˿ļŭèƦ­ˡǸŴȬĠĠ̸ƦŠʴȾ°ɸɫ̷ƷˬíɠƲȮȜƺƮ¡ǤƬ̹ȸƳǱż̭ʣɤŽƫɼˣêɴ̵ÿƹȶ̲̪ʭǿ˧ȣäɸ¼ǢģȡȢǤûųó̿ªƫĹǯ̮Ǣɫ̠ȯ£Ƞɽǝ½ƱƜıǹ̻Ūůɝŵúȫɧ¿ȭıµ̝Űɥæɲ̪ġ½¤ĭʮŽ̠ŧŜ̲ʵɭĶğÞ˾´ºñºǴ̩ʵƴʥŨ÷ǞīŵɷȢ¥ɼ½ƽǯ¥ǯŬķɵǭ˲ɸƸôĮʸȩ˳ǿêƠɸåĸǮ˪ȟƮ̬®ȴ˸ˡȠƽźɱȽîãĴƟɠĹɾ˞̩˝ȥůĝȮɼ̵ǞĹéˤȳĪɣʭŰ¾ñɷ̭ʮçåưɺƧîĶħɡ¦ǝ¹êˮ˵ŧ̯ŻȾɝǷɭƴƹŰɮɥʲüƩǡ̽ʰưǭǻʠǳʻ½ſȿȤ˻ù˜¹ȿƺɸǟȵ·ȤǢãɤʱɦýɞʰǹǶ¢ƞɬ¬ɱƠƤʨƸɽģƱɳȫɠɢɾɽſʮììƽĤùɷƳƢȲɪȻǭư˯ˮƞŦİȹʺýȰʞǹ˥šˣ̱Ʒ̟ɾɶâ˼ƺķ̮è˞̰ŠŵƴɯɵǧɞɵƟɹ̠¤Ǟžʟɥʸǝ½ɩȽʮʿ̥˨ıǽʦøŲ˭ƶǰº·Ⱥʲɭ˳ƺǟ§ƹ˽©̧Ȼʾˢƴĩ˳ɧĤƢǸȲâʴ˽̵ĞɜƤáɮɫ̺Ǫ̭˩̵ɾôƶ̞˻ȡƦ±˞áǟʡǩȳ¡˴ǮȬƱĲï̸ˢȡŠöŤå¿ɬĜʾ̴ȣɯ©ŵĬƻȵãȶʸåƤĢ±ɢǪţ¡̷ȱ¿şɷɯɪɭĳȭ̮ȢʿȠʱť˿ƹǫíçɠɽȿ¼ʰȷǠƠõǹàɞ¬ɽ˳²øǡǵɠĝɴɦƨŦëģƩȩĩƴŪƨǟƥƹ̾ȻɲʨȩƱũ˪ʻǾ˩ɶɵÿɪ̰çƦ¸Žŧ˩̰ģưʱ˞ʶȰȳǝ˯°ȷ̨̩ɲ¨ǸşɞȻȸʟʸ˪ɩɷ³ĭƟǰƶàʧį˥˳˰ãŮģǳî̬¦ıǬǡǮ­ʶɶ³ö̱ƽêʧî̱ʥǱǝìƪ̧ɭ̯ëǽʦƥ̜ŸʭɤɟĮǯĩú̧Ľ˷̶ʴʹ¹ŢʺŜ̶˭˼Ǩ̨íȩɭƾȴȿ´ŵȫɞ¹ɴǺĨƸǮ±çðʵ®ƿĴįɳƝǟįÞƺç˪ɥ¿Ƭʰ̡ŜƴǟɣȿøŜİ´̶̡ɟ©̭̱ʶȳèį̟ɩäƵʸȷ˧ƸèƻʜɠɭǶʹ˷°ȱȭŻĵ̸Ⱥ˻Ƥò̦ĞɻĤűŸźɭɦǺǺ¸»ƹǲ̶ǨưǶ̤Ȣ˻˦ĠŢ̧ʺƩƤˤȝ˵ʸˡ˸ɳ˩ɲɶĽʜĨ̡¡ťóƳ̶̼̠õť«˰ɸǶʾ̯ªƷ˼ǫĻŤ¼ßǩ̨â¼̭Ű°Ƿ«ɿɾ̡˶ȬħʠƭĤʥų˭ǣýɟʺǹʴ̫ųƬǺɸ¥Ǹɻɯ˟Ļʧƪ˹˨̪Ĺ¢ȹťǱɹŸơǩɞĢ̢ʫİĠª©ŸļˣĲżʟʺʢȿƝȾƠù¸̴̸̯̿˨ʣǫƾ˧ɵʡɫĳǧʾʨ̩ƧɠĞû̵ǭƠ˫ɿˤĵťĸðíɡǫşȢ˵˽˥Ƴģ̭ûű˻ĬƞǱĿà©ħ³ŜųȩʣƸǱ̰ɵȠɦĢ˪è̱ƭ˩ưôǦſŷơɵʦŤʯĭõ̻Ķˠ̬Żů̠ɹƜ̣˧º̭ʬÝÞŶĮ˷ʬǴĩǻǢðʩɺ˧ơʝĿĬ̟ʣ˝ǫˡêíʽ̧ťǢȴƟ˜ɦȟ¢˭ȻǼȢʲǸɞéö̵áǢŭǧ̿ʺĶ˪û̫èţɱŶµǳ˱ɸů´İöȤ̪˱ŤíǱĺũƧıŭɿȷ¾ªưš˳˟ǻʷ˽ƮʧǼƶ÷ǶǡŬʧĬ̺ð̮ẕ̇Ơǭɞɢǧ˨øƭȱɯťʯ̞ǷßźʠĢĴɯôġɣ˹óˠʬ˜ȫǳɿɝô·ȸʠȹɳǳò˭ɵƥʧ˝ʮȵíôĲɣĥˣ˫ǮʬŻĤ©ĩôǼľƤǬ̷ƞǳŴǻ˥šɰȨȭǨ̿˨¼ƮǹĴ̜ɨɥŹȾĠɿ̣¾Ž¢Žǲɸů̻ţȫ¶íŲȷʠǨǨŹǯ̼ʩʪʲŢƴǽû­ũľǡƷưɨ ˬűĨ˾ĪɻºƩ¯ʥĭĮ̠Żɜ˧ƠʳŮĝíɩȝ·ƱƜĢƫ¨ȭʣĞǜþʝĿß̜ˬµǜ˭ƬĬ˦˭ɻȡĠǿƿ̟ɥ¿ŨƱɡǠŸƱɦǟȩ˝ı̪ƪƴȫǫȨ˼ȞɪǼƜǿ̴Ű²±Ľ˲ɦʾųĶĺóóŤǲɠȱŶŷǮ˨ſʣǬġ˽ȱķĿ̣̱ʠɟ̮ƲƮɾƶ˵ǲ̢ʯ·è¯ˠĥŦ˞˯ǿĪ ʰ¢ȯžǱ̢ŻȦʝɩƭòʽȩȳ˸ƧƷ¶ʨʢȥ¥˯İȻƜɧıİȜŨƬƝĝ®ɲ¹ŸǢǫī̼¢ɢʶŶ©ʴ½ʪ˫˳̢ƴ¥ĬòȷİŞʽƧ¹̽˝Ȧàǵå£ˮȹ˹ß˟¾̬ƞˣŬƦà­·Ⱥˣķ˶¦Ǣ¨Ȣʧſ°î§˺̦ĦȸȻÞɩʺǾ¿Ȭ̻̫űȬ±ȬƲ˥Ķɭǰ̬̥äƠüʩŹů̾éĭâ˯̱ǜ̬ʩ˥ƷŻʞȽĤ̱ʤ©˫ȝòʤŴǮȷ˞ýŞ¾ɿʽȤ̢Ȫɻ¥¦ȣǥ˺Ĥƨȣşɵş̻̌ȬŞ̤ŝ˩û˵ȻĠĠ˨ʸɹ±˰ö̸§öȝʢȮȠǪǤûŠŲʳĢèǿ˝˥¿Ǹ©ƳƤ̣̼̿ťĬĩʨ̲èǟƦǥȠô˶ʦ˺ơʻöìɠʶǠǴ˞ñºȴġǜ̼¨ư¾ʲ̤ǢŸǿȸ˸ñţºýï̱ȼíĦù˾˴ǠƲĝɩ̥ǴǰɫʺĦŪ¹˸íʣ̫ˬìĻģǟîŻɜºƦ˾ȭƱįƞȢ¬íųţʧɦĭëɱĽȨƴȺŶ̭Ʀʟģ˨ȠɱʝǞɜǱ˱̹ưɴ±ķ«ɵʩ̞¹Ŭʜʬīļ̷¢Ǥɹ̷ɻɤɣȴ˞̮ƞˡȾ̥ȳïʲõŝǱŹˡǧɥ¨̬ɟĩ˝ɦʪʺ˷ʝĽ´ķȺɝɶ šþťɶÝʿȥƤ˿ǯü˨ªƠɫ̦̻˫˞åĲ±Ƽĵ̭ƫǭ˷ȴǴƧ˾ʦôȫɭǻǨȼǽʣ¥ǡǞ̼Ȯƽį´ȵöƨȨųȧġĢǥɰƾĶ̱Ǭ̫ŸȧĲɯĦȮļ̵Ǟǽȭ̠¯Ʋ̶šİŽƲǥëİȫƻƳȨ¬̣ǳɧŜģƥʭɹˣʾȷɦƣğʥĻĽʺ̿ÞɳĺƝȮ̱ǹǧŹʧƷƽ˻ťºɹĢ¿̷ˢ̦ǦŰȵȧɟ˩ʿˢ̽ȥƪßǼǪɶ̻ǺĶʮ¨òƤ˦Ɯ¢ƣ¢źǨƨǶƨˮƦǻɢĜæƹʦŦɤ˿ǸʴĮÿ̨ʭƲ̻ĴȾƟ˪̿ħƫäȵƟǹɰĞ¡šļ̢ĩƲĭɾɥŴǠ˽Ĺ˳Ǫð̥Ǳ´ƺƜƸɹ²ʭɡ˴Ǭ̸̠̮ƽūʺ¬í˿í¼ıɜĠ£˭ƪ§«ʜƾƟŽɧ̞̰Ⱥ˶ŢʴɢūƮĸƿ²ţɴˢ˱ơ˾Ũ¾åòÿïȣǟƤɯɧȨŭ̡̾ȱȮ˹ǵųĴǧȧʺŢɷ˧ȻƧ̶ɳƳȣÞĹ˾˳ɧɯɜǰɧƲǸ̾˦ɶǴʨğīȨʜʷģȬàȫĥɣȠǼȝʲʣýŹɡ˧Ƴȼ®ʫ̜ɱĞɾȞ£ʡȶ³ǷȤðž̥ǳȞƤẓ́Ǩ˹̪ùʽ¼̺ʣ÷˯«Ƞ§ğèŸ˭ɜʵ̢ǫ¶ʪèȰȮɬĴǿǩß̱µĲǵ¡ŤǱʞħȺþǹàƠƯʝȤưʞˣĨķɢȸĸø£ȶƯɮǰʤǹɩ̺ơ¶ƟĢ¼˩ǹ˳ŬɬŹ˾˼ɦ´ɺ˼ĞǤƻʯɮŪɮȬŰǼ§Ų¿åĿɡǡ¡̳ȝȵıƺƲ­ȦƜƱ˾ȱʯŽ²Żɠ±ƣȲȧĶ˽ĥįǷˡ˽Ʃ˪˶½˿Įɪħ½ɨ̺øƲ¯ŠƟȥó¡ļƞ¢Ĺçɥ¡ŝ̥˴ɫżȰƤ«ƭƫȼĶƧʭ˭ˠʧŽƸà³šȡĭ̤ʰŷƭʱƳʾơ˹ųʯƧʩŨɸ§ÝƩɿì̠ÿǠˮʾƾøȮǤɿ̺æƱɴǩĺ²ưťÿøĝ¶ĶƺƫȷŰ̼Şȸɽŵɠĩƽɸ¹ȱʣȠįĬµɫʸƪ¥˞ľɹĨ̾ˣ̨̳ŴṲ̆îâİ¢Ɵ˿ɮȳɳƳŭǥĮɩñƜźɮ´£ƻŹž˻ıĦħž˹ŢƭȯʥȾ¤˲ɲŶĿȧơ©ȮɵĨ̳˨ƺſǽŭ˱ɝʮ̣ȥĥŬ̻ɹŰ¦Üš˾ʵɡĠ̩ĪʢǶ̟Ǳ̹̦ô̽©ĦǭĲˣ̵ȽƦƯíʟéíȮòůģáʹʽ¬˴ǶŮƪȺǡȥ¢ɡ̲Ǯƴȸã˯ſɤȳ̴ʬĮîŰ˾ýơɝɵãɹɩųêĝ̱ǡĭùȘ̂§ƷïǾ´Ųǫŝƹ˲ĸ˭ÿȤƿʡũȬſ²Ȭŵʾȿƨ˭ƷɤǢʟǠɦ˩Ū¯Ŧůǿȝàȩʼ¿Ġ¬ʴȼğǨô©Ī¼̮Ɲúɧ˷īĶȩ˿̰ĢĹɰǦȬöʽǺɶ̧ƻ©ʝƥƫǝ̟˪Ĺ¢ˤȱȩšŲʺķɣʩɿĶĳƱĽʡʰʬ̿´ɞ̵̷̢ƢȹȮƯ̼Ƴɭ÷ŝĹɮ˼̝ǝ®§´˩ǝǫ¹ȽºɾȦīǦƾǞ˴Ⱥäˡ®˜ɹǺȸƜɻĥŝʩɪĳ̤ƵåūįƼƸ̣ƬƥŧǢ˟˾ƪɰĻǩ¢ħ̷̬ƺ̿ɥïʫɥźɿťŪǣ̞ɫǟ˶ļ´˷ǳƭů˪ȝůǦʧʶȵƯȡĢǝȳ̭ưƤ©ŻɢǸȱ˳ñ̟ƩĿʴǨĩ̵ʞþĨȼèȱƝÜ̮̤ƽȡƭ̯Šʣ³Ǳʬɸ˯ÜȽ¨ȩɩǽǶ¯ȯşó̼˺ɷòƷʸ̧ʭƯãòʨ˫ǰ˧Ƣ̭˵ǧùʝʥƼüşƨ­̣ĽˣŷɦƷɷŽƸʥ¤Ť̿ŝȿ¾ƺȵǡŶȮªƮȣɠĶ̷ɪɼȝǬȞô̝ɻ£̳é˲Ž¢ƦűˡŠȴ̶Ŷ÷˪ˤɫ¬Ȱ̮Ġ¹ʻľȧƥʩ̷ɲ̧£ŪɱɹŧɻêžʰűǺǳ̯¥ȸªǧǳˡǽƶ̜·ȳ̾Ⱦ­ƼʨÞʷɩ˜Ūµ˷̫éơǜõ˨ġƶįƟɠȻ˨«̢Ǧ˼¼ƲɹìĭƦ®ƫʵ»ɭòñ̵̯ĵǜƴì´ȳİǽ̣âǳÜ˸Ũɽ˴ɽðȦçƢʹǫ̟ªˬˡɶǰȿöĨǺĥǫ÷¤Ĩ¼Ȟ¢ɵɻ̬Ŝ·Ȼ̭³żžħɤǷĵ´ʰȱūÞǸ̨Ĺ˨ƠƯ˨Ƣµʾǻʥ¬˰ȧţɝ¤óǜȯŤƬè˶²ȟǹƻÜʩƨǩʱ̡ĹŷɽɡıȺİɸʯųȴ̾ʟâɩȬɪˡŝâȺƭĜïǶ°ȝɢɧīţɢȮ½Ǭű˫ʺüƝĦŵø÷˫ɳ˵ʟȿƸʿ̪̠˩ƲȠɝĝƴø̥Ŭ©Ȳ¸ƹ«ǶɪƪƪʪȧĹŹɱŬƪŵĸɮ˜ȲĴŷ˨̭ıỴ̂Żȫ̶Īá̤˴Ų«ġǬ·þũȳĜ˴ìȨ»̢ƫǴȳɝƾǾóǦü±¨»¬ȾȿȰ̬°ɱɾû¥ǴʿǱʾʺƧʡȿ̤ǰ̧̰̺ĦʡŤɣɮ˺öÜñ»ù˶·Ʃ̠ƣʶǜɶ̶ʡȧ̦Ǿ̠̾ŲȨǠ̿ȢȲĩʝȨȸɲʸŢĪĨŻ¨źï˜̷ļ˹˫ɞ˲êæ̬¿Ʋȯ­ɠǜíŻȺȥʪ˦ŷǞɻæÝʭ̠ƧʿÜ̦Ŧ­ʺȞɭ¨±ùĦǴ˩ǡ¶ǿƹɺãʲ̧˦ʽʱ̹Ũʨ̭ħƝ®ȺĠ̜ƶǞǷĝĢ˸·ƴ¡Ŝ̠ɯôʠ̿ùĥˣ£ȝ˨Ǡ¡åȨơš̫ȭ¬ƨĬǟȱ÷ȿģ̣ʮíŮĤʤ̦ƽ̹˯̻ŠŨƶʳˡ̾ʝŲ̝¤̜Ķ˭ʱʫǫżªȜ¢Ƞ˿Ũ²˰ɱĺĴȡǲȝȹ³ʮʜƢŦƾ̾ĺĩɽƵç̷¡ůʷɴþȥı̹̲Ɵ÷éʾäʶǻƠȸġɡɱʧɻĤ̸ʜȥâɞʥ̝åĤɯæȻĨʴȰĨŴ̪̣Ī»Ÿßɸóˢũƥì¹ȾĺòʩǿǤºȰȵȭ̩ȾƝµƹǷ¾ʡʺȟ̜äɤɷÿ˵Ĩ˩¥ƽźäƹɼ˺Ƣľſįîʻŝ̟ǮǻǾʹɭɟ̿ħȼƝ³ȝʞȽʹǡ̳ŴťĻÜŧ¯˽ȿɠ̠ɝʴ̷̜½ĳ©ƩëĹ˭Ǣʷ̹ȱĪåʸɜɠĵ̫Ȣȡ̜ɶǲǧĢƻƾ˽ȡ̱¸ɻ̹˴ʥʩŽĞÿţ˱©ʷ˸ǩȳƬʡžīƾ˝˳âŵʜ̸̡ɥéɹǶ˴Ǧū˿˿˲˻Ĝ̟̝ǯ̭Ǻ˦̺̺ʪî̽ɭ©ɜã»ƫʿĶ¶ ÜǯºĮǰ˯̻źɱƼƸʹˮ̦ƫšŴķɹɾȫ˻ʽǨɭĢųɶʪ̠ʤɱư˝ȭ̸ťʻäŶȤɞ¨̥ʢ̬ŰļʱɩĦſŢ˩ħšï̲ʯüŧˡšǦ˹Ⱥ̮ɟƝɡĶȩø˩̷̟˱ȡų¸ŰŽʤƹŤ¯Žâţ¡ʲɟƝˣºģǱƷʺɲåŽɰ̡ŰȶɩãʟǱ®ƳȰüʬǶ¤êŷ̝̭̳´¾̦ȺȦ̮˟Ū¦®źˬǭĥʪ¸åʬȝ´ʵǝʤɡ˯ŦĝȼĻƥ̥üǶʜƧɜı°ǝƟ¤ɽư̴ťɞŷãÿŞ̦˭̧ɵ˴ƽşĳʾȝƴ̵̾ĭƬȺȣʴ˜ʹˢʞɶˤú˰ˠ̩ǜȤ˳ʣ̨ɠ̳ȥʠķƢˮŦȤȢþʷƲɸɳ̞Š¬ʳǭǥŪğªʨǫ̵̰ʮģɥȴþĤķëűå˷Ʈʷʱ»ʯ·ƭƱʫɵɢʷɶǹİƝʭȹ¯ƿ¥Ħ§ʺĜŞȹʴǰʤ̩ŠȰ̶ũĤȳɝȽų­Ŭ̶ľļĨţɜȠʻ˿ĶŸ̼̼ʜʥʽǲâ̩ĩɩƟðùƸǱ̸ĮĳÝŬ˳Ŀ¥ȵĭɧ˲ÞůǨŞȢä̡ŢşǺõ÷ɵʢ̼̦äƱ°ƫǯˡüɳ˭ƿɜşƹȧƿáʱǶȻ̾ȶȦţ̪ʺķĲ̨̪̫Ƶ̻Ɯˣʣ¾ġ̼İǼʬȤƿū˞ƪǱ°Ĳŵ±ùģŲǰɺƝèğǠģʡƭ«ʫâũÞɧǻô̪ɶĥųĨıʵ̦Ɲŭį˧ƷáȠʤʭ¦Ķ̧̥ê˴ʴʤɲŤéɸµ¼ıƵ˽̧Ʊɣì˦˧ȸƻűŜʬɫʾɣ¯ơȯŷɧʲžĞžȿş˥ǽȟƾ¥ǥŧ˦̷Ⱦ̣ǡ÷Ƚ̝İǳʿ̨ɳɪƨȱ¶̞ȿŞ̯ʱ¢Ʒ˧ĺˠǥƜžóƨ¾ĮŧŞȬʿâƤŴǱĬ˦¼ɸîƻʰĥƭȜ°ʜĬ¨Ǧ̳ɝʸ̯ɢƳƮʰäĸ̠ǧǤɱ§ɸɺƯÝ˸ɷ̲Ⱦȝ˸ƹȸơƹšŷįǲʡ˲ũ°ʜ˱ýɲȷɷǨǢıùȤƣŧȧǥ̬ʽ¼ƸųǴ̜Ƨ¬ɱǥɤȢ½ȥɵ¸õ̱˽üƴè²̧ºʬãʥ­ǧƝˣɵƟɿ˱˫Ƚ˧ȡį˻˳±ʵɩɧŢȻȝ̧ȣɹīɢǸ½ɰ®̤˯Ǯż̯ĪǡúžƬªǧȮƜ¨ȳŹºǸǷãŬƟɼħ˸ɞ˳îǼ˭²ö²ǹƼɾ̷âûĪʩȱʷşªƵãǽ̢Ǩ̻ǞŽ̻ʠ̡̝ʬŠĢɟʭȨá÷ĪâǤˠʫʫŲɯ¥ʻɷĿɞŨʶʩÝɱʾĨʤɧïɬǦʧɪƭȡɳʵūƠÜķǹǷǹåƦˣȱǹĨĝĢ˴Ǩ̶Ŧ½°ȱȲʨǽɿãóŜʭª˝ȧǟǩãȯȬǰáŲıŸīǸɭ÷ƤȷŦ˯ȝ°ƞĳȦ¡ʢƸŦýøʺƧ̬˱ʼȭ̺ħȯ¯˨ľɸ˩Ȣīçʲʱ˻ˣƝŶ̲ƺɴåáǰŢ¸̠ȠɨĲɭƭöšǭůȢŢĽ˟̴ȳǻŨǩơ̟ɟƺÞʯǟ̱˾˪ɿɳ¡˨̜ǨĴȿƬìƹȢʭŝžʳ˿¥˵ƿ˲ſǮ¢̠ǣŬü¯Ļåƪ¨ȷȴĞǥ¶şŢ̦˲á˹ųȟʸ̮ûƞ̫ɴ˥̵ɴǽƿ˼ʦɻʢī¬Űĸ̷ŬƜʾʰĴ˳ŹʸĨĠǨũĝɧǵɝšȡʡ˻Ưıȴĩɪű̵ʴȮũµĹȦ®Ư˽´ã˴ʾƾ̶Ȝíɿ̡˦Ơ³ɯ¿ɝºʝǶĿȟȸʠ¿ɟíʟâʸƞʩóǫ̀ˮɤ¤ŜǴʥáƝƹṳ̈¤¾˦ɰƨʭǫʶĜ¨ɪæ˰ˤųʥƶʲȰ̭̠˶ǥİƦǢ̤ʫì̝į̵īȶƿ÷ƮɣƹʷƝȡö̳ƫŜʢɺ˺Ůƣ̥̫¡ǰ̨̬Ğʲ̸̼ƪɶȵȰ̻Ý¶ĝɨ̷̫ǞĬģäóʶ˽ˣĤ¬˾ʯʺʭĥɞ˺ʵǯ˹ǹŠƮĵȽʭʱįɭæ£ɟ̳˟ǟǷ̣Ƥ̲ǭǩ¾̧̥ų˥£ƾȰïĮʭ½Ǭ˾˽ŴĲǥʺñťŜ¡âʨ˜ïȰģũŲʧ¨ɲȲȤǽǵĢéĸƷƹĞ¢ƷɿǦǟ˰ñʸɰƤÜ˾˭Ǩüǰ˼̥ǧ·̤ȸ¼˨ƝƺŠ̷˺ŝ®ľ˲˪ɿ˫̪˜ȿƻ̿»ǜģ˼þĵ˯̸è̯̥ɭȩ¹¸̽ɪɺ˦ĶŪǧƞūʿɟɵȩȥǴĿʾſɥȳçĶŷ˧ş̢ƟøĨáŤʥˣũȠ̺˶ɳȩů̻Üƴȣ˿ʼʹȲÜª̼Ĥĵ̲þʩš̝ʩõīɿɽ³ǟ˽ɫŦįɵÞůǝɣŷ̨çţ¢æ˱˞ǿ̦ʪÜȩɦèȷ˰ȺƿÞȨġǥǰ»ɥ·ɨǠɽ¤Ťƽ¤ƦȻý̢ù̡ģ˜ǴȦˠ¬ǥǥ˳ƪŲŻ´Ɲ¸̡Ǟ«õʧʳƶɾŲʩ˥̼ªƸȷƢĢǴ̣ʰɥȻ̟ǩöȶģĺŻȾǵé̞åþǼˣɲƺ˶ŶļƯȝľí«ƷǩģȹĶɷ­ļʥʨȺȾíɼˤ¶­ǰƬư¦̼Ǩš¸¼ìʟɣ̪ʩ̮ˡŽ¬ŷɹƵŦƟļǟȯʫóƞǿ˻±Þǯ̞ɴ̩ǹɲȶȢɺ̸ǪŠöǬ¡ʞˠȳɣĢž̫̫̼Ɯ˯Ƴªˤģţü¦ƿʧƴƳʡĥˢˡ»ɨʹüæƤ°ʻ̵ʰïƿ̯Ĳɪʰ̶˺ùʢ˼ǬɞīȧƜƱĥŮĞ²̼Ȯƣ̥ø¬ţǵĜʱɸǣĝɦɩƹ´Ǥʴȥ¤ȝƣŲ̥ŮƹƲĿȶǯʸ̠ƠĮĿ˸Ƣƥ¢­Ƴǻƽ˺ǮɨżõɩɦʨǞıŜʮƺǡŢ˪̰żǞȹħūƳ˲ʨŨê̟ȷ˽»ʨȝʧȨ̺̰ĹūɴŽ¼ɲǼ®ʠǡſʝʠɺɰ Ǧ˫˾ȱŪ̵ġ¶̡Ķ̭ȿô´Ŷ·ƯàòħįȺëǧƢÿé¦ȿƢǼǧ̹ƺǿƵʹʩ·ɱƩŮǠ˱ŸšȜīƠģɴ³½̳ɜɫƩĩ÷ģɾɡļİèɿɩíȴƻĢƞʥµàǦĺ©ơ üʺ­ʨʼɲĮ˻öʥȯǝɸĝɤɱįƧþȸůʠ®¶˭ɽɳȽʦĵȵğ̡ŰêǥĿ̹ƩƨñŻǦȬůģä¸ŰǩŻ˺ʱƮ˹ȞĨ¸ǷǥŬƹ˟ȟ˹ɼÝǤȪ©̺ʻʦçí˷̶ȱųȬĢ˦ɸɷȡɫŵɪ̼ʜ̸ʪéëòȡũ̸˲ʤȰ°ɿǸ¼ĸ̡æƮĝ˴ĩ˫̤ȝɬɨ˾ģʧˠ˾ˣǴǤ˭Ǟſʺ¿ĢûĦǥŴ¿¹˭ð½¸ɱï§ ľǰğĶ˶̶űšȦĜĸɺƲùƬƯ·ǯʣõǵ˲˵ɥæ¯Ş˝ħ̣Ŵð˶¿Ƕʼ˱̹Ƕǻʷ¦ó̫ʬŹĩƤçƪʧŭĸȜƳļȨŻû¥ưɢĠƣíŰïŧŲɪʧğ˥èĶʟ̟Ŧƪɹ£ɟ̿ʣ˨˨ɳťŸˠ©ˤûƿƞ£ǹưƻ¹̹̞ſìá´ɾǽŤƝȪ̯̦Ŀ̲̦ǦɻǢƫƟǤŝŜ˶ɱŸȥǫǨŪĪưĬ̤Ȧ˿İʬǼƶ̩˧Ǡƿ˲¿˭Ƞ˽Ÿçɥ˲ģɷŪ̸ĹʢŬ¤˸ȧŴ̹ȸʰȮ˹ơŸ˹óƶţó̥ĳîǭɼæ̦ʡȸư̮żŽġįƤƬĞ̩˷̻ǵ̤̱ȴĝŻɨĝÝĴį¦̞ê¥ĪɵǦƵ¼Ĭƾ¬̥ȪȪòƱ̜ɼƩ̣ɿ̧ɱĪƻơƬǺɮŸĪȾƫĳ̢̜ɻ˪ʭĭʼðʽǽùĢ̰ʺɭūʶ˨Ť·̹¶̼ˮøʧķɷǨǲĸìşɩðǥƢǩʰȜƤˣƟʷȜǯ̮ƴŪßǰʯ̫ƺƨơñɳæ˜ɦŢɦäȽ̬̞̷îʸĸǸʦƝǧʸľɿɜĤɹ¨ê̽ǻôġȫ̝̼ġ˯Ĥŝǵƺɝ´ʹǨĶȧȻ̷÷šɴǤȩ˸̮ˬ̰ð˥ƢʬƯ̮ȞƳƻ¶ʷſ®Ⱥˡ˿ŬšȨƧ̲̜ħǸĝĹƪĩʼôƴıüȾƨʳŲˮȽ˽ǭĢæĮūǽ̝ŠȬƣ˜˨úȟĪʪýŠɱĻƜɲƳź˻Ⱥ˭üȵƭƵƤɞ˧Ĝɶ¦ƼħʷƲ˵̷̥ȨñìæƩȬ̤ĪȭųǷˡƴƩˡĤȪıĺ˪Ħ̮˵˼ɶŮê¤ư̩ǩȹæǹ¢˰̞Ʊɷ˨ïȭȥű˶ƾ®ÿ̰ôļȝŮàǦ¸ɨȮŠ¶ÿǸ¬õŪ̾Ļǯǜ˶̾Ŧîħ̳ɷġʣɣŠº˸Ǽ¨˞èɷƷ˞ģɦǮ´ǺƮǪȦƷʭɺƣųʺȞìƱɣ̟Ʒ̧ɩ˨˟Ğôǹ˴ɦ¸ȵá̮ö½åì˦ǽǺĺŞ£ǣƝ±ȜʼÞ¹Ƽʲɯű̮ɥĢǢĥáȭˣƞȳɲˡ·ø˝ʯŪ̞ŷ̲˲ƿ̜ǵ÷ɢ¥ȟŪȟƦĬȤ̸̰ɭķã̠ƣòıŶɮǿƺʨǦ˿̠ɨů̧üɧƴ±ɰǦ̽˸ȶĽɝ˩ʮ̭ʤǹȧ¹ãü˥áǤŵŴʪƬŨȱʝǽƧ»Ÿǝ±ţȸɟúīŝưǯȸůǺʲüĢ˞èȝůˡƹɴ̵ȷǲĵ¹ʫµ̣ɵÿ˝̰ŝĞĦªˬýƽƨˣȤÝöªÜªǶ¿ɵȵɿĜ̬˶ǾŬʷŤƴǟ˺˜ɳˠȿĺ˦ʳ°ǰżȺųòɢħƳÞƻ̤ǟķàǶɷ̽ʜʳ̤ñǟŷȼñˬŴ©ȩʫöïť̳̮ʳɰƾƜƺôŠǦŴɜö˯˨ȵ§˩ɠʹ˻ȵîˢ̯ȝťżǼ˾ſ¥ūƤşŽȥùĪŸ̽ǰŽçðɮȩɧȽ̰Ůå˨ȡŞĬİ̷ʠʼƾ̳ºǿƴǴʭưźǵºˠ˶ĵǯŽɣŷ̽ʴɵŝ̥ǴơŮǢĴɜçȵ©ʷƹʫȭƯȲƿĤû̜ȣİŜ¯¤Ĭ˫öʪɶ˽ɜöŽĵʳƣǹŻǠǮƽ̟īɞƩ̢Ǯɬɶɟ±ĞŴìʯ˳¹ʪǞȠȡŽĦɯƼɟ¶̨Ĺş­ɫ ©¼ũƦɥɭƵɡšĽ¾Ī´ɜǾïǠĹ̫ʢ̻Źɿ˿ƹɣťǻʞŻä˨ɥƱɞßħˮƻĦȯ̫ŸƠƱȱĦɻ«ĵ̲ĠŶ̲ǻ½ʸƥǨɫƝɫɽƾ̝̪Ŭ̥ˡũíȟʻŜ̱ˢ½ľî˿ǭʫǮǻˬ̶ʫʝ¦ȿť̩ƬǡǽúưȲʽǢǥȹǜ˷ŷƶǾǶŹ̜ǧ¸©ŷƝ·ªʠ­ȯ̻˪Ʋ©Ɲ«ĺʞšȺʞǶ˹Ĭˠȫ̯ǼʢȞǮǝǣ©̷þòʠǠ¥ƴǻšʰ̹ʬȴ̣ȥţşʰ̻ʦ̩êƶĪĶƝƶìǸƦʧ˥̢Ÿɫǡǵȯëʢ˞ɺʜȸ̹Ǭ˰ɭƲ½Ž³ʵ̠ŴŽʢƺŝ£¢Ȭȷɵǣ˸ȥȤȻƻîäʣ̲̻ã̸Ⱥ˾ʟȩȢȵǷþˢŵȶǴ˸şĶ̶ɻĜɮǟæǳǝ¤ʠɜʬ̨̲ǾǤɦŞİ̿ȯ̜˥ʢ̱ˣ˲žĢƝ˫ɟñ̮¾ǽȧ¿ǟīįǝñȹĨȱŢʿɤäƤɦɯĝɮɮ̨ġɧ̜̺ß­ȞɸʿȩõůâçÞʾʮʽİɞ˹ˬ̰ʳ̴¿ȯ¬ʼú˩ǭ˳ɪµÝźĢĞǶħɝʽɜǭèƫƧï˧ʰ̣àöİɺøţèʲʱǾŦ̦¸źĺɹ̹ƹĲ˳ʵɪġȟŞ̲è¤ƫǿºˣŨȰɢſõƣʧŽƮ̰ɩɥƽţû«ƣ˞ɶīʧɡ¦˰ŽıƯ³øȸ̶êȫüðƹİĮɡɨȫʵɮĩɭ̴ʹ̠Ĥǭˣţť̷÷ƴĥɼʦ°ɭ˨ȽȻôˢȼɥ˾ȻȰ²ĩ²ˣʽǝǠůɺżĩ̝ǻǩŦ¢̤˟ȳ̡Ⱥůǣ̢§ƾɟĞ̽§Ǳ´áŠ³ǫüã¤øƭ¯ƸƳ̸̸ȝºģţʽĿȤî¬īǩīȯ˩Ƭǥî˫ƵÞîŧ̥ĻʼìȮſʿƥȩǵĜğƲʪǣȬŜûȺƞãäĪʷʧŻ˼ŤʽįŸƟʭɳˢ̵ƨøʸ˨¢ľ̞ǣú̪Ƞʯ̼ťƥȽȬɽǰƲŹ˸Ǭůŵîɥ¦­̠ʨ̾¶óȺʺŰʱʶíòˬǪíȽéƻʤɟƫŵɜűƞǬŭü¤Ŀʝ̫ɢŨȱ§ğǟǹȺ̽Ǹůȷ˨Ŭ̬ˤɩɮɞǸöɻǮ̥Ƶȝʾɷ̲ɽà˝̷˯ʿȳŲʭļǦʡƺâʮôǧàʝʨ´Ġ̲ĹȞʩȬĻǞǫˢǸòƣ̧ɬƟɱǿ˨ȡɳȩ̸ ƫɽȨ̻ƴɜĩ˽ĶʢɴʣŦʠñǩǷŞįũǱȝȵöʭü̡ƮƧƮɼ²ƟȤ˵ȢŦˡĤƞĦ»÷ƹȻĵơɦĦƨɨŧĞ̴ɰʥĪɳȲ̲ɟɦ ɹ˽ƾĴɟź˝ ɹžʲħ®ʨȱſĤǶȿŝĦɦˣƱ˪ɠȼȞǽ̷¸ɡëöţĸ¾ǫǵʪȡ˱ýɠƜşʴȷĺŪȮɿ̥º˿ʷŵưȠɜˢ̦ɧȺİǰȾȼȟ® ˰ƿŪʹǷƳʵ̠ˤɬǸƧǣɢĸ˦̴ʥˢǲƨʭ˻ȫȴʲʜ˾ʽȷöǟǼ˟ʸǽɽŶʰêèĺ̾ɧ̩ǝþǭŹȞ̿ŮêǞȡġʪĸýĠ̮Üŭ˩ɶʝʭŞȴƼɜĝŠǧ̫ǱŭƳȜʺˡ˩ųŨĳŞĵ¶ȧǹȼĜǢĲˢǜýǽ˧ĝĸȤɣĶï˱˞̰çǬø̝ĳȻʣ̹ĝƼʿĽǤ˽˸ĺßɟǩĨžȨǩǮƢĮ˼Ⱥ˴ŠȺƦơ̯ʳĥŤųƻ˺Ż¦Ʊ̳ƬäȾˢźǥǫƵÜǟ˰̹ǟʩ̝ƟɦŰŮɵʷ¹ȡɠȦƵìɲ¡Şǩï̴ɵíĥİĦŜæ¹ƪ˞ɵ˽ȝ̧àʱ³ȢȢ˹ü¹şʹâ˼±̼¡ʢɪůȵƹĳȨǵ˺üʪáɳ˳̰ǡĨǿ̻£˾æȣ¦ȩȹ¦ʽˢǥĠóè¢ʹɼʳĥǩŬ˯ġ¸ǝǹǯɰƽȤ¿ĠƽʮɜĮȫüǤǻʷɤ®ǪƬǲ˱ũȾçȪũȯȰ¶ȶ̧ŸĞȺȡ˹˿̹ŴȮ¼Ǳ̷ǼéƟȹĝƥåÝèĹ˱ºŹêǯ˰ȡéȞ̺̹ʵȢʤȦ¦½żŹĮʡ̻ƲºüźǬ̲Ȝ̩ìȻʸȳǾëĢèɰ§Ųɼɨǯ̮Ŵɽ˷ƳˡǤ̠°ɩȣƟƱ§ʸ̣ɾǪȢɶɷŹ˦īƺʝ̤¶̮²˵ɴʦʹĹȷŴŶ˜Ʊ̞³ǜɧơıļÜ˿ƢĪŽºƪȞʴŨļ˭̽˯¾ĩˡğƱŰƹʨȴ̯˼ıʼ¤ɞâŪȼȺȳÞųǸ̵­ɦʬ˧ŰƮɩ˧ȯʸ·Ą̊́Ž̨ââ»ǞŴ˸ʜƥŤ«õɝǪʮʽ̰ɻõƪ¼Ƞµɹ˷Ɲǭ˴̢ŹĻȠĠåɻƩˣ˝ĺ©ãŠȞò˸Ȣ̶ìƥÿɷȴ˺ʡɹǹü˸ıȞʡʠò˫˭̶ɬǞ̞µìǜǴ¬ƭȾǨ̾ǷȞûǠǲ̯¾ǟ̱ȱƳɲ̲ʫĦɞƟı̭ƿʷƢ°ŭƨê˳ƥȹ¨ɶȷʟǨñ̻˦ĪɲɹǮĳɢƫǳǢ²˴ǭ̾ȴ¾Ĳɻɱ̹½ɵȝǲŠȰʜ²ʾÞĨ̩á̜ǺṲ̄˰ïíàĥʲȢǪĥˮƷʦ±èĠ̝ɴĪ̻ĳɻɟʱ«ǝ̳̬ʡ̤ƬƷõˠ̫ƮñʤƺľǰʼàɜȢŧˬʫúÝ ŤĲìȜʧ˟űóŤǳŮȠǸȤñȶḬ̇ħ®Żɸȹ˶̟˫ɬõȦǠǠöªıȰŜ̫ɠ˦Ķˬȶģ̽ˮç̻ÿŰɧþîȥʜ˺̝ɤȿŻķɶ¦ˡȻşƾɩǰ¦˸̴ɽ˧ǱʺĵŢɺɷƢǵɢȻĤɥ̩ÞţʲʷĤßɵǰȞʤƺǠʮʤʵ̬ÿ̹˹̨ʭȞɨɢ̟ɦʦɥü̶ɩˬǠˤŪ°ŬĻ¤ʬ£Ǵǿɭǻý˶ƶǱĨĥ̢ȥ̳Ĭ§ɼƤĬ˨ơ̲ȢɯŰǾǽƪ˦ʺƶǨǿįƜɵĪɴ̫Ǟ̮ɻǥŲ¾ȫƨªȲʣȴ̧ɵíʩǴġ˦ŦĮƝò̟ƺǶǵǟǜ˯ǜï̽¢äžƸàƧȨƣ˟Ʋƞȫȸɹ¤ƠŵŞȜ̨ǴʪīŠǸĵķ˯˪ŹȪ˪ɥʧ˾ĽĹƭĤÞïɹ̥ʟð̻ĩťȜŵ¸µ̪˨¸ɧ˟ǩ̽Ġȵ̬ŽưǺ¼ǭƽƵ̫ɜƺŦǝ­ʣ̮¦Ʃ˥Ķɫſ̿ʩǜ¬˽̻ȻĞʰȹ̾ƭ̵ɺŤȾɲš̢˞ʦƶŪ˲˲ŹĮ˩ĸƟɱĴɫô˪ŭɿƾġʶĿ˝ũȞʸȪæǾʝƶúʥ̽Ȟ¦̼ȭżȫıťʦ¼ǿʸĢʲžƫ¨ɡ˪ʣɽ¼İĵʿƣƴʤƹȡŵ£ŜǻʷʦɣĩɰǪ¥Ĳǻ̜ɡŻóʰ̪Ýġ³ſĜĜ˟ŰǸʪʤź½ɣʡı̟»·ƹɱÜ®ǮťǤ«ɯ¡í̫ɠư­ƷÜŨˢʫ̞̺ǫǥʲ»ģĪȭūÞɧʷŽȸˣǰǧûʶ̬̥ŬĮȹˮȭ̲ƝžɟɶƠǝ·̝´ȣäɰǾʶĩø˜ȳĤ¶¡ƜƺʦȨ̫ƻğ̝ş̵ƺ³ǳ˟ɿʹîĬů̦ƻƲšȿʤɺ̰Ƕ¦̩˞ˠ­ȲǤ»˻ǿ̴ųŽƨŹɶƪ˥¾˜ǹ­ŸơǩƼĥʱæ˧ʻéşȢʼ̧õ̲˻̼ƤˢĽɻ˱ŪŪ̠˶Ǫɵ˶ɥ̝˷Ʈ˝ƶºɱ˽ʬŢƺ­̤»ó̢ǯùƺȴ̸˺ĭȢ̠ʫ˽˞Ȟ̡ȻŽģȯǬĹȺ½Ƣ²ʤźʵɢ̝Ǣ¯˴ƿƴȽʧ˺Ǭ̰ɻ˝ȬȲũĤǽſɶǵĭǽˡʥüǯˬɣˡʹ̨ǡɭʥɮ̞˿ƶĭʢ̞ɬ˝ƨĜĺɵʯ˪Ȣƭʦǻ²õȡêʝä˳ʵ£ʸȭȱ˟ƻñɞƞĹþ̶ùĞǧǷǝʶŤ¸ȧŦŞʧ̢˳ŷ̜çɡʪʣ̣Ȫɞ̽ɼʼî˥ĸ˞ʽ̧ǞǨǨ̭ȺˠĢɺĜ̢ƿħȦˠ̦ɧĹɲǭɡɰǰʷŻʥīĝƿǻ¨ǻɢĢ¿ȳ˽ɴŵǥɧǦűŻǡƪɸȱɟīɻŰɽ§˹ß¤©ƤƼŴĹ˽ſĝȜɣǸ̷Ťʥ˰źĬɴƶǮˠǳ˴ť²ųɯõ¡ƠŢĤ®ˠļɳȨǞƥ̠æ®ý̽ɩĸ̿ƶɜǵʫɨıǨȰ ģʩƻɡé±ĲƢǲŷȹõʸɟúǭî̵İŢĢǡ¬ǶɽƿǬ̷̮ɦ·̢ģ̸öɯêƼ¬Ţ̴̠ÿȮ̡Ŀ̝²ĸȷɸɾʭ¦ɷȽǶȞʟǪ˧˳ɶĩ¯̸ȟȦɷʜǭïɶéȳ̧¢ðèƥǪŷɹɦŠü¦ʲ̟Ȫˬʪ̤˩ǵĢťȦɼ§¶ʧÿ̽Ƶ¨ƥƼɴ˹ʿɼĲ̝ Ŭɫ̫ŞŶǪôĩʴĽë÷Ŀ̫æÜʤ̺ǮÝȽŦʼ¤ǳũɱɿĳǜʮĝĻũ¬ʴŶĞĜ¥ʣʻ¥Ƣʴɪɣ´ǰǜîƟĩŴȬ̠ş̰ţȯȢĽý̬ɱ˽˰Ü˯Ƭĺ̾¼µʨµ˨ǡĝ˧˼ɦúʹɲʳ̡ƦĭĨˤɷɯɶɱȫȬ˷ú̜ǵŵǥɪʺʵȪøɝ¹ʵŜ®°§˺˳ɻɰ¯ĵ̹ƭˣŵƯɤɤæɭ̣ǳ̶ɲ¸ĵȼşȣȢɯõù̷Ǿ̾Ʃ²ªİ˫ūşĴǴæòƮˡɲƺ˻ȩ˼ŭù̧ƜˠõǬȧɱĤ˷˲ĻȿĠ¢¶ɩö¢ĺƼ̫ÞŲƞŷȬʞʤ˟ȯĬƾ̪ǴƾʸĪ±ɥ¤û¸̩ƾȲŻĢʶŪžɾ˻å̧þ¶¥ťǵżǩ̟˻ĸŜ̨ʳɳʡĿŰǯ̢ĝøūĽĤʹ̻ƽŵæʾ̷½ǟɟ̜è̜¬ʮĞʰƴƽƻʧƼƤ˟ýǱ̮âǭƦ˰±ìƻ½ĤģĪ˸ƻ˥ĵǳƻƣǷʸȟĹĠ̤ñȯ̷̬ƾȨŧʷƱ̦Ĺáƹ̸ɿˣƟĽſ°ŬĢǨ·ǥɻŪ˝þǪǥĬ˱ʱ̬Ġ°ƼȻ̺˯·ˡ˷ƞŞðğ˥ĺųƫƢɱȝȳưþ˸µʵįƨɩľƽʹɽǺɨŴźƭʜȵ̼˦̼ư©ƿƷ÷ʯˮó̩ǿƨ¹ʳ­ʟɞȤȬƼĵ˳ƹĹǲȠƫȝɻˮʬţĨǶʜ̦żɡ̦Ũɲįʲ̲þî¹ŴŵʰȩǴ̱ŭ̝¯ʹ¼īµ̨̲ʾɹ˶̶ʱǿ˞̥źīť̯̼ɽ³òö©ƥʜƬÞǟ¸ģßõ˟ɪ̸ɺȸ̹˼Ʒź̹ʬʪ̣̣ɸ˿̰Ū¥¡ŮŮƬ˺̱ø˼ɸĨ̴ɶȘ̡̂îòˬȥɡ˦ŸåºˮǱ˶ɜƳ̣ǿǾŶƻ̧ƧʦŪķɲ̭Ħ˟áȫǪéƶĸ̣ɱȩŢɻŴĨǠƻ»åʠˮŹɢ̨˶Ƹ·Ĺ̳ƯȜ¬ɹɠ±ɼʦǫǝ̰̳ȭǰƟą̊˱ƻţ÷ţʬ¬ȩȼɰʜɣùĪǯ˨ǿʷɣ¾ȟĩǥåǣ̹ŪƶǱƱǤǯʵóǷƞʹƱ¤ùƧƱɞ˾̱ȺèǞ³ĞĠ¶ķ˭ɜĞǞžʬ˜ʪɠ³Ǭ¼ɿƦǰɹù̱ǯŹ˺à´˴ŜãƪȮɣùȴ̺ȵŬĬņ̃ǷĦ¹ýìç²˫˭ʩɦ̮ä̢ªɡ˻Ǻȫɟ˨źĞçĸ³ȪȠǭ̤ʿŰŰ®ʭ˱ʷǶŢúĜƺţǳƥ¹ǯòƦÿʢƱ̽ĠùɣȨİżå£ɲŦʪȥʼ̱ǹʧ˪˸ɶȸµ¬ɮʲɽ°Ʀÿï©̡İ˾ýȮ̺Ƚɽš̱ƟîǢºşʦ̯įǯ˰ơĴɳȾƜɢŸʼɼɿȞˮ˫˯˪̴̧ƶôɵǱ̮öĭɽȷʰĬ¸ɷŮƣĮŭ©ſʮ¤ɩƶĩ˟ǽ¼Ǽ̪ğ½ˠȶȨ´¸Ƽ̮Ɵå£̰ǲʹ¢̦ǵī˞ŤȻ˩ƤĜưɽ˩Ƭ̭Ǣǫ̸̛ˬĺĽɫȫʮơ˻ï̜ʵŤŦȡȴɼ˵¥ǿʷɰʞĠ̵ƾ˼æ´ȠƩʞ¹îʟ̝ɠ÷Ʊ̸̰˫Ǧöż»¼˴̠ǭȿëɫʨşƷʰ̡ßʭȾ˳Ħèȸ̨ʴʶƶȜżƽ˨Ļ˪̠ǳǸɟĿĥƳʼƷǧ²ɯ̬ª̭ȥþä̶̹̜ǵũàǪʿ̪ű¶̵˨åÜʹï̻˻ȵʵ˟ĭʜʫĜ̪ˬǜ˜¬ʨƯşǦ̦Ş űȰŝɠ̜˯ʯĢĵƮʺǞƦʝɼɲĿȿʟʤƶ˹èŭȤƱƵʭƷĬĦƱĝʝ˩ɝĢƤʮļýŮ̬²˫ȦʪɩƯɣ̥çɤƻƿǲů̵ɲȦ³µîķǦŞ³ƻ¤÷ŴȪʠȾ̰ǲɰʤɻʮȰ÷ɥ½¾˯şŰȭȝȫʫ̯̹ĤʦʥʤɫɪƠʷ¥âƵǭų˼Ţ àȜ˷ʶű̾µɡɧ³÷ȣ¾òưȠ©ɩạ́Ŝ̺ʼ̜ɭɰʯ̸Ȧɪêɿȫʴʩʹ÷ũʩƥʻ̟ȳǰˣ½ðȜ£Ȭ̥żƦ¬ĽƢˮëĻ˲ʨ̰ŶàɼƸ̳˺äȣĞįū̷żȫĿ̷Ƶǽǣ®ƪɩ̸òżʭɻşŷȟŠƣƫǜɧʻŠǬƻȟȥɯ˨ơȞ̫ǹɹɾþŠùǿ¨ǵȵʣŷþîżĠ̦ʮƶǿĳýĸƳǠȧµɮÞ˫äǵī̤̻ǰĥĴš˥˾š̽ʶɜ̾ī£ǽƤ̯żǟŸƾɿ̨ƼǪȣ̥ʦųȧ¢ȟðà˴ǫĸʞɷǪˮɷȮ˶ųëƴŧ¥ˠŹ̤ʢļůɶȠȳȹȮ̻ǱʺêȪžŴßȺŨ̡ɸˮĹ̰ȳŹŲȧǩųſɺɲŸŽʺʮʦ̰̹Ȧ̠ǰðĶ¥ſ˽úʢưȦɨ˶ȸʤ¸õȠ£Ƴæ̻ʫǬƫ̭ˢÿóȸˮƪɼũǹɞ˨ʿĭȦ˨ĭ̠òƮƫçéƣƦ˸ʹǠǿȤȰʦ̨˨ƭȡèƼ¨ǩǿŧĶǲ̞ʮĵȪä̠ɨíȮŝűȬȺ¨¶µ˪ʤĦɶƽţīǞʟŸ̪Ĩļş˵ȳ¢òĮȾľɱʠţǫű¼ˡȤµĦ˲žŹ̤ɸªȷäʤû˻ǦɭƴȭķȽó̩Ʃĥƣɰħ˥ˡƧǹǮ̣˥˝ťȭƞŨǥ̤ˬĬüʭèɺɰ̳Ŀ̯ǜīʸµ̥ĽÜɣɩ˫˭˯ðǪˢʼŶ̤˾æ»ɥʿɶ̟şȦ«ŸǻǷƻƯǱĪïä˞ȧƾ̽Ⱦɝ̝Ȥ̸ɡƦĳƭ˻ȱ̪ɾȠ¢ʨɬƟŮ̹ǯȰȧɻɬɳʻʣý£˽ʝʶýý˥¦ˬƸġ©ü˸ƳȜ̜ǵæȺ̼Ǽ¤Ĭ«ǦʾǵȡĹˮƹš˭Ƭɺ̯Ʊ˿íľɤ̣ħƽ¼ŰĴƸ̣ĵȦ«ʠĳ³èȼ¬ŲųȤ˸Ʀɤ̻ɬȺŹ˵ɿȳÞʪ̺ĝʭȪȮƦŨƷȩˠºɾɞ̳ɼʮù̫ĝ̡˥ų̶ǫǭ±Ȟơ̷ɫ÷Ťáƹ´̠ʫŪɫʞɮŴ̠ÜƺȤ̳˼ɡƽĴǨȦʻɷˢƳˣ̦ǺĬ̬ŧ˽áʼáɸĲǤȠɰ½ʫ°ɨƻŭªŭ̠ĭĨ˝©ǟħɪʯóŢɶȶʫƴȞ̹Ǵ˽Ƚ˦ɝðĲ̰̪Ƣ®̳ʵŲŧưɪɭƦ°̧ÜȲʱȰĹ̰ŝǹɳ̦§Ǭ˷êĢɧƪǼˠǾˬŤğǧáè̪ɡ̹µîĥɫâůĜɞŨʟǸǣʲ˧ȳʨˡ˦ıȸĦɨĲ̡Ƭ˳̲ȿşŜˢɜɬʦţʾðïŬƺ̻ţ̸¬ɰƞƼʶʝʿ˲íɜüŬȿǸɷùïĦùñ¤Ľɟ̭öƩ̴ĝǠɺ¸ɳʷ´ƻ˶Žºʩĭˡ̸ÿȜìǟɷȶǧɴɤȭ˦ĜǥƳʠɢ¾˼¢˰Ŷ½ʨŧ¶žŬʷɶùŨɹȩŞǪðʫǞǜʭƼǰǠȞǿĩŦŴÝʴ²˺Ƚˠ̤ƣĤƦàȭƻ̝Ľ˜ŶžȝŻɴǸêǯȤó˶Ȣˠ̿ƵɿĶǜɯǦǩƪĸȝĵ­ȸǷƲɣʱŪŮȠʥ¡ ʼȽ˲ëñýŠîıʥƪĥ̴ʥàɢǡˬĽˣˬɬ̥âĥɮƢ¹š̠İĹȝɼŻǹä̽ƧŲçȯƱǥ̜Ŧťɰ̳ɠǾ£ŸȠǣ̤ɬʥɷé˨ɥȠʰ§ȽĠ̶ȳȤǪïĸ˲˝ɟǵƼ̦ɟǳȫȢ̣¬èʥʟʠ§Ȟƾ˲ɽʻɬż˶ȴßű˭̯ǫ̷̱æǺ̢«˟å̫ɢ˲ǲ˵̹¿˺˴¡¨°Ūķȹ̪ȸ̪ʫÜ¶ȷƼǜȩƴ˟Įƽų̧ƤǼȢơ¿Ƚɦ§˲˥Ƿĩɾȼĺ³¶ǨºµƱɜǦã¿ˬýɢǺű̼Ǹˡʪó˻īĨɳʨȧĬʲȭ̮ñʶ̠ìʵ˼©ɮȬĤ Ůʢˢ˯ŪëĩŴżˠŬȼˡĤġĨĢǠ˥ɧƳʺ̽¥ʬɯ°íǠˡȾȢɥãȡȵűƼĜȻǦȠƫĥƴ̽ɾ˷ɴĦɺ˜üĸɴǡǿƱˡãƣʦ̢ǿʻȼø̸˾ǰɨâʧȲƫʜưá±˳Ǹĳ¥çǰýŭūǬ˷ĩȥ̫ȹự̡ǿ˯ɨã¨Ǿɯ˹ŰǨǭȯ¨̱Ǥˡȩ̹àŠʤˠỤ̆şİûʥȲĪȱǽťɥ˶ȸõȺŵêʺĳ˞źǥǳäǵǳǭǾğǹ̦ɦȱɷ±ɬ˰ǝƶůŴǥ̴̴̜ǲ̽ʱûȮŞʠ
\ No newline at end of file
@@ -0,0 +1 @@
+~¶¦~~~¨~£~«~~´~¶~~~~~~«~~~~ª¹~~~~~~~~~~~~~¡~~~~~~~~~±­£~ ³¬~~~~~¹~~~~~¯³ ¸~~~~~~~~~~°~~~~~¦~~~~~¼~~~£~~~´~~~~°½~~~~~¬¼²~¨~³~~~~~~~~¢º~~~~½~~£~~~~ª~~¦~®~~£²~¯~~~~ ~~~¢~§~~~~¹~­~~~®¢¥¢~~~¯~«~~~~~~¬¬~~»µ~~ ~¥~~~·~~~½~~~~~~¦~~°´°~~~~~~~¨~~~~©~~~~¼®~½~~~~~~~~~~~~~~~~~~¹~~~~~~¾¿~~¡~µ~~²~ª~~~©~~~~¼~¡·~~~~~~~~«ª~~~´~~~§¸´~~~¤§~~¬~~~~~~~~·~£~~·~¤¤~£~~~~~¯»~~~~~~~«~~­~¬~ºª~¢¨~~~~~~¨¬¸~ª»~~~¾~º~~~´~~~~³~~~~£§~~~~§~~~~~¥~¹~·~~~~~¿¨~~~~¿·~~~~~¦~~~~¤~ ~~¿~­~°°~~¥·~³~¢~~~¼~~³~~~³»~~~¢~~~~·¡~~~³~~~~~±¯»~~~~~~~¡~~©~£~~~~~~~~¡~~°~~~©~ ¿~~¶~~~~~~~~¬~~~¤~µ¾~~~~··~¢~~¾¦~¯¤¤~~~~~~~~°¢~·³½~¾~~~©¹~~ ~~³~~~­~®¡µ~~°~¤~°~ ~~ «²¡~¯~º~~¤°¿~ª~~´~~~~~~~°~~ ±~~~²¬~¢~¿~~~®~¥©´~~~¥~~~~~~~·~~¤~~~~~®~~~¿²~¥~·~~~~~~¤~~~~~§­~·¡¾~~~¢~¾~~~~~§~~~~~¨~ ­°~¬~~~~¨¬~~ ~~~~³~~~©~¸~~~~¶~~~~°~©¸»~~~£¦~°~~~~~~µ±~~~~®~~~¢«¤¤®~³~~~~¤~~~´~~~¦~~¿~~~~~~~~~~~µ~~~~~~~¡~~«¼~¬³~~~~ ~~~~~~~±~~~½~~~~®~~~~~~~~~~~~~~~~·~¼²~~¿~­~~¹~¼~­~~~~®­~~~¼~~~~~¸¨·¨¾~~²º~~~~¿~~~~~µ~¦»~~~·¢§~~~»~®~~~~°¤~~~»~~~~~~©~§´~~~~º~~ ¬~~~¶¶~~~ ·~~~²~~«~~¤~~­­~~~~~~¥~~~~~ª¤~~~~¶~~~~~²~¬~»¨~~~²~~°¦~µ~~~~¼~~~~~©ª~~~~~~~~~¾~~®¶~~~~~º~~~¹~~~¡~~~£~¦~¢~~~~~ª~«~~§~~~~~¦©~~~~ ~¶µ¯~~~¾¸~~~~~~~½~¾~~°¯~¾¯²~¿º~~£~~~~~¥~~£³~«~~~´»~~~~~~~³¡~~~¬~~~~~¥¶§«º~¸~~¾~~«~~~¹~~~~~~~~¹¾²~~~~¹~~~¨~~«~~~~¦~~¦º~~~~¯¡~~¶~¸~~~¬~~¹±~~~ª³~£~~§¾~©¯¡~»~~~~~~~~~~~~~¶~~~~~~°~±~~~¾~¬³~¡~~«¢~¥~~~~~~~~¶~~~´~~~¸©~º~~~~~~~~~¶~~¹±~~­~~~¯~~~¹~~~¸~~®¡~~~~¢~~~~¢«¼¿~~~~~~»§º¯~~~~~~~¶~¸~°~~~~~~~~´¥¹~~~~~~¦~~~~~¼~~~~~¥~~¯~¤~~~~~~~~´¯¬~~~~~~µ·~~~~~~~~~~~¼~~~~´~¯~~®~~~~~~±¾¬~¨~~~~~~~ ~¥~~~~~~~~~®~~~¾~~~~~~~~½~¾~¹~µ¬~~­~~~¡~~~~~~©~~~~~~~¸~~~~~~~´~~°~~¸~~µ~~~¹~~~~µ¶~~~~~~©~~º~~~~~«¤~~­®¾~~~~¸~~~~¨ª~~~~~~º³¼~¢¦~±~~~~~~¨½~~~~¹~¥~¨~ ~~~~~~~~~~·³¬~~~~~~~~~~µ~~¦~¬~~~~~º~~~~~®~~~~~~¤~~~~~~~¼~~~¼­~~¸~¼¾£¤»´~~~°~~~~~~~
\ No newline at end of file
@@ -0,0 +1 @@
+!1'!/(*.!%0-,,(!+/-'"/1+*(('1)!'%"-"$-1,&,&+#+,'*"!'/#+'&*(%")*%/$"*-/&"-$/)-0'#&(.%/##-,1&*&"$&*/1,&)$$$-'('/11-!&*('%!,0%1!#($+)+1%/,!."&''')1%/*-/%/+#'&".*)&'$-$)(/.&!(#!)'!#,0#"01/#11-----.**"$%0"-,/.)/-/%#,-)",/%&%.11+$-%.0)!"*-0#%0,&-!#/+(--#$'+),,'+11%"**%!1'".)-&.,*-,%'#$(,#(#%&/*1/#$*&!')&-0*'/'10""#1/..+*,".0&#!%$%%/).,*!'.+!/+#*/'$/)'*)!-&'!-0+!"1)!0+*#"'$&'$##**.+&-$)(1)#(1*.#)*&,&1*$/!+*))(%/-!-+**&/!(0-,0'"**$'-/1.)'+,&#(%0!.+**$."%#-.$#,.!)().+'&&%",,*/)-(1,*%10!%()#&---+#+1-**'#'/#0-1"$%-!//-(1"0((%0&"--)!$$/,/-',,*'-'/0+*#."&01)%#!%&+&'!','!-+*$+)/!#-)#1+0,./#%-1(-"$(&*#-'0-,()"***"!!/$(&'1#*..&0(%("!1#!'"&"/&+%,).0%%#,$,-,.1-&"''#/1)&-'(*1*))!!+$(+('/"."#"(.'0(0,'),$/-"%%")$"(1).)0)%/..&$#'*10&&"/"(++*/)'(#1"1'-%01/0"-0&/0-*#"/0'.((*+*1$)%$)0$%$0&0.!&/*1.//-,'#.$0'!'%0"+.',$."/1&(&!1"+!/)+&..--(($)+%#/$(-/-%#+&+%('$!#-/%)'(1*$-/&(&")'*)10,,#1*./"$*,#&1+($+)&0+.((,('!+.1'(##/+&$")&/'+,($-#.')%!..$+."*,#(#*&%.&1%$($-/,"(#*%,&+'&(+%*)!*/'-%1+$$$10!'.*$%00-!&/"#(-+&%,%0(#%1-,1-(&!,/*$/-$(//+,#.%.%&%!10&0$-$'(#*1',1,#+)$"&+'#$.1)0!**.+)-!'1,01-('#.1$(#&(,#1!0-)11$/)!&(##''"+,*!&."./)%-01--###"0#.#&.+'")(%1%/#'*)%#*($-#$&%($.#$1,*+*1-#+!(-%#.01(((",+!!)*.(+(+#%)%10%-%#/')%"#-#+.0#!%1(#,!0")(%-,+"*"'&*%0%%"//,'..%##*"&*./'/#0)((+!%#+,0',1,#(#.#+.!'"/0),*0!#)+',,.&.(%%0)"!*+0,,,/()#!&&/#+($/.',*$$#+*.0(%*-0/'-!%)"/.1/#/%(+/%10*(%/+($!#)#0*'$+($0&*,#/##*0'1$+'&1$,)./).0-'!")$%'',(#%,,-///++'',*,0.)*-$)/,#'1&/0&'+*,%.&-&+!,*.%*(+!&0/$&,"().-$'//+'+0%01#1+,,.-*'%---",0#)+,#-!/,,)'"%(&"&#&)'./1.+'-*&$$'01*.0$!'/+#"%+*+"0-1*-/($!-.1'++)+-,$$#-(%'+*&-((,()&-"&.&'*'*+0+$"#(#*$,0(&"(,#'&"%/+"11/(&//!,$-/')1-,0'/"//))*)"'#&1+10-'1)1//)$&'%%.0#+.)#%)"'&()((,1./0&,/$(&-./!$"!+$,-!!*""$/.-(1/%#)&"'(*(1!)*%)1.$(/*1,--).)$%#,)%+$/'(#%/&%$!('1/,#'##1)1,*+./(!/&+(+-'"(-$0+11/&1"!!&11')0)..#-%1&&&"/#"-/.1$,''0+$01&%!1*$()++#,0.#100-*"(/$1!.0'#%0,-0('"!'*).&'#"#-#'$('#+'-(!(#"0!*%'+&(-!!-0'/-%$0,,&)#'&"'1)((#&$!"'1#!1)(('*".)&"!/.*"*)#-&!(0!")01'+),%""(0/%-,-0%00)0("-(*,,)(%&0(0*.!(.$"!/1+.#-&(1!-*((##0&"$)$!0/,)).&/'"")-,"/%%#"0,$,%!!-%$"-,%$%0#.$0#,"+(0#!"/!1.(*!%$"%%#"&"$')1/*/*()(01#/++''."./$0"-1/1%!)1-")#-+-!*.!,&(+)*!'++#$/#,'%,/+"#/-$&'$)/#.-11"0-#*!!$0"/)0)%%!((10/)*(!&-%-'/-*.-*.%++0*"(,,.!"$"#&/#',&"%1#&"-,/%./0"0*)##1-(#/..%+*.-),*#!'!#$(,("!.+-#(/,&%&0%*),.#,)"".)"+,!)11$-($&+-(!&%$,*$"+"(".&&/#((/+'(+1'/-1!0.$%+##%!*.$/("#%+#)0*'$()--.*#!-1-&&/$"-&1-""1+&'%-#**#,10"1($")'%++-"1/1$++1$010%%.)*1!&),-$$!!0'0'.%-*$.+!0*%1!-+!#!-)&1"10#"#'#+%%+-*))-1+.",0*))),!(&.%$(&),$-11"1&+1".!,*)*&++.&(0#"','/'$'!).1(!*1'*#!0$.!$(0#!%%#$*,-"))++,,".%-#1$!*&/).*,##*,$%-$#+.,%(&0%/0).*"'*0*0#%(%*#,$+1$1".+/%"&(-1!,*!(/.*-*,)/*()&*1**%(#($##./)1%&&1&1$&.-$#!.-1%##%).--!0*'-(*".+$&!//%-"0)#(0-/!0&#-'&&)$()!#.,),!/(/!&%!"),$+,('.**1(,),%$#+/#!0!'#"1/.%(,%"/1(-)$##.!(0".0$%&(%//(#(1)(10"*)"*0#'&$!1-$'(!+)0/!!(#+('.!00-#0#(%$))(!,"/'*/1*(+*&&1//*%&+00+-.*1#*(1/0!*&!'"11("%0-/-$'$(!,%0&,!+!-,-$(//$'!#")-%%$&11.*/(%&*%1'#$'1,$.0)!#!&"!%%).0(1-,%1*)'#"-/0&%",&./"!./)#.%0((!-.(*&%#+,(0)/"!($'*!%,"+.),+1+&.1).-.,*0)0#/$!&0"((&-,**.(01+'%.""/&!0$)#!0#0/"-&)%%"('+%-,.0*/'#,),10$.!./.*0,+*,)%-)'/($$1$!/"#/,"'#(/,*-,/)%$,++",$#/-./,*!(/)1//('*!(1/-(+!&*$1,/!-!&(!110/+/%/&!0$)-+/0*,!+-).",,)#*)!.%%+%+/$'&+*#11.!%!)($,%0/)+.(%-'*"/!&1#&,&&&.!$$#/#$/")1!#&(1"-)-+"*)..*0'.&'#%'#!*1'(%*-#/1"/...*,0+/'-0(-)&%%,%(-'1%,&!,'""&&%**+.0+"+.0"*,$#.'&.+1#*"!!,%/1&,01/$*11)"*0&*%.)*+%/"/.$/),0+-*!-#&&".'/)-#*$1"!'$/&'1#1'(11((*1,0//",""/-&0+.)&%1!*$#-#,("*&#-#1.11$++"&",)%!(0/&,/"00!0-1,(-,,%,$%-1$+"'.!)(0$$&-%/"),1((10+%$1&$/#/#.-,"/0,0#,-!&&%'1&/)!&!!)(1#'"$.!&*-)/-&#&0'000,,*$.(,.0,('"-,1"/#(0'&%.#&++**(0&1/1!,'(1%,+*%'./%..*.!0$+(*"!'!.$)-/*(#()(1!(!)!-&%/'(..1).$%&*!"&.1('(!'00*+!'0"0'(&0,"$$$$#($"#//$1%#".$(1+#-/!''"/*+1#,"#''!#.1$0%0+$0!%.*+#,0'/)/(&-!,)1!,,+-,%1-$/&-)#*/+&*!/&'&"!0'.0&-,#1."1*'0+&",$').0$-0/$!--!&%,.'+&*'&!&&!/$)/(+#&*(&0)/-%0#,--1/'1*(!00!/"*1(1$!0++$,#,-*.%)*1$"0(",0&$$-'0/,)/,.!(1---!(%0--.$!+&0+*&**!$"/!"%11+"(#'$*!#)"0+$%#%1),-&.%#!-$-*-)!/').*-"10*(.'+-$.+'&",$'(&%,)1)'-1.%&*$)&!#1"#*(-+.&0-%/,&)),%,-&%.+"(/$.#'#-#'01$.!)/#,&+*''%/*(,-+.!'%+(,&&+1+*&&#1-1/'1/,-&(!&0/"##&*))(*!#0%%001&+(/)01&/01$-)+&#1)'',%)',#.'(/)!0(!,+-#!",#$&-%('!+(*%"%''(%&,.&*#!$0'*'-,$)(*(1"+%&'%/0$#/$##!"-''.$$!)0+(1)!-#./*!1(,(1-)%,/&!#&*1#(&0$1,"(#$1,$*,%#'/1!*!'#//*"/((-&$+1'$$",$!-%11-)11)/%,)+//0.%#(&&&0-"01(.-##(+%/11).%'$*',.*"$#1-)-#(!""'-+,%/,"!".!!&()#+1#*#+,*!,)%(1.)&,'#0!##!+-#+"*'$%%)$*!-&/(($*-/#&)'($&&(&"#%)"0.+%-0"0/*#%)/--+$.*,(,'&*/.1*.-11!/0,"%1%0'/).$+-++*))#,$!-)1/&#&#0*#.%'0.0*1*01$0",,+(&)+-*.-+$#.(-&((%,+("##/*$$-!.0(+#$"1"!!,"(""&'-0#1+/0$&$.-"*(*./$01%$$.-!%,/)//&"$!*("*$(,0$*1")#%)1"-%(-&*(&+*%%&!*&0,**#&'*,#0)/-)(&#)".)-&(*1+/!.%"*%)'*#!-0-$)".+!*0"!1()!*&"-$(+*-"011-$/''%1,%&#&#.&$,/"&%+(-##*#+'01'1,+/!&('(+%/1%*0.'#&.0.$&'!'%'',/+0,#'()/.0&!/0##.0!/-'#01.++1&"/+0,0!0.++0/0&,""1(,!&'1/%)()-%$/10($(/-)"!#-,+&$*1&$#)*,#11&/)!,)1!&'(*($)$%/##&***$0+"/!*+(-1%!"%!!'&%10&+.0//&/.+#$,),,1./(""$/0!.+0%$/+&'0&,0.!%''"&0"'&*'!./(*+,!'-%-*.%&/(1,*#/&-*&0/1".%10-%.#.1*%$),,%),-1/',.+!+,"(,)%#-%$%+-%(0+,-,1##%#-(),,&-)1#*(/11()!*/"0)"%'"*%1/!1&&--"1")%.')$'%&0#,+)('$/..&,1&#"""/0"(.0''.-$$".&/,(&#+%.'.00#&$"())'&0#+!-,1(#((+&1!!-0'(%+011!!*&$+1(/1#+*+"-!('-!0!#)$/1*1'+((*#,**/.*"""11%),./$&(!0!*,,!1*01,$#',&&%"&-!,0$).,-+-/$!&++%,%/").".-&.,/&1#%&)+1'*","$#'%,'0./$+1-!)(-%")*)-,"/()'#!$10&)"1!+'$(#0*),!*0%'+(("&'-1/%.%%0/!*'""#*1,(#/'.)-'*)#$0.'*0/,&'0-(!.),(&.'#&-+!/""!1.)-,(%/#/#.$(/&*#.(.*((0&&,#)"(!*&')0.+./&/#/)0')',"%"+*'-+--'%-$-,!)%"!""+--!**-.#!%)*#%"0"1!1-0/*#-,',(%0*"*%/")&)(-&++&0/!#(,%((#).*)1*.0*!#1&%+/-0$"&)0$1*#'*,)##-($0$11"-"'.11&#-'/-"*!(,,"'#!)!0*'01+.$'&.'*-!*"('"#"!"%$0"(%.(*!!"0/"0)1&#(#$()*.!$(/)11"%+!$+,),+1,"$)-1'!1-.0,/)'(+/"&.0*#"%*/'*1(1#/%)"/$%!/*.'1)!!".#'%"*"1$++'#"-/!/-$0#*-.-"$"/+&!*'1!*/)$0#(/-,++/%-+0'))+/.!!(,!!.&()$.//1-,)#'-.,0-)%&$&.$#01../)-!(1+!/*&%#$01+.-"(1-)#$1/-1'&1%#&($/1&,0-1)0.+0)-*-*!.)!&*1)1.#'")!%'!1'.+-&,'1,$/$#!1-/*'"&'-0,!.&.-1'(*/"1#+0.")#'1*(0&'%&(+(.-,('.$..'%"//)$%"-%-#*"1''0.","')&*'/")$''+0$$$+%*&',0#"%-")&/,!.$&"%-1&0/*0+"%*$*#''!$($"#01++'10$",$/+'"&$!"%"!%1).&*)..''*$-0(,$#1"))))&""&.0(.'*"#/*.#/1%)-(%%"!.,(1$++.1/'!..-.,&+0#1$!,+0!#.!$''(!*(&0&!(0'--,1$&'*+,-00'-'+&(#1'/)$(,$".#'0/,)-%1!,,1*-1,"*0)$"'/")#(&!)//!0')1(,-($('"(%#*'&!%.0#(+%,1"((/.&*'*&&&0/1."%#&)*/&-1"'$.%!)#.//#)0!(!"-&)""0&&(!)"(,!1#('%$-!..*%#,"$#,"($-$$/()(*"/&%-)-1##1&/'%/'"&")'-%,)00#,/"%%0&+,*".%"$+'-(/+1&'$&++$*,!,--1/1$#,$-(0+&+%/-,"',.)($$)11'"1/1!("',.%(-'&%,'&/&&)&0*&',#-1,1-$")&/-1,$+#+++)"+&/1&-.")-!$1)'/(+!$1$0./"$/$%#.%-+1!$#+"#%'"-*0/+!+,"'.'%1&+/,/(%0/!1&1*(".*".1-,!0%/$&(&0,'*&/1"(((*&/0,1($&*$0()*-00(,-.-*"'0(,$1'-!$!$.'+!'.'/.+#$*$.)$/#&,#$.!10**."%*+.$!'#!%.*%0'*'&%"/."*)$$"!%'(,%!/",.00"(.,!"(/.!1-#%0%./%*(+'"$"*)&+#&#-1',1,0+/."!.,*'$&.+&01!,/$-"1#*."-/$#&-(.#/)&&$%/-)01/((%/&//)'$0.0((%".)#"#**/#(%"/!0($+##'0,".$-*-"&,.-),-/%$'/!(/.*!/0,&)&$#&"*#''((/!*!0',0-'*&&"1(!(1"%#&,$&*$0$-/!#+#.#$)!'',&(+1*1*!!"')'$#,/%(%+&-,.)*(')(%-/&%!"*-$-0',#(00(''*%+&(-"1--%#!'*"-!-&'()+1(+0!)0$)0++-'-",(*&(+0%%#)"#.)*(,%--"#(.!,/$'1#1(%/)1'/)0&&#-#!'**"&+-("(%"0!&*,)&+.-((/'0#0*0()/+1.'(%'+.,))()*/(.,0+&'#--!*0!,+!-.,!1'"/)""".0,!0#0+-,&1%.1/.&#/)'1-$-#1('+(#&%,&*(#&-'%#.+!)+!#(+.'$1-+&.0##!,)%(/.$-&(%//"/"+1(1+!$"&$&$(*$,*)"*$/&/1$1'-+&+-/+*1*+&1$**/+*0&1+0/'+--,#""$&*)''()&,+#*$1.,!!&&&+&.+10/.-+$#(#00/"'-+,!(!(1('+(1%!$)%11$$)+!+,#-'$&.'%(((1!/+,"1#**('."(-#$*,&.-%$&-+,).#/0$((*11%,$,%-!'#"##+$0%*".!'&)///#.,(.*+$&.'/!.!'&&)--%-#--#('/.")''!1(,,1*&/)0%(*!/*/#-/0-'01-%)&/00(0.!0*01)#-+$*"#.$""#.!"1!+)+/.("''0&(/,"($$+.##+#+1+-01('#+.$-)1,.!)!*+*0$"!!#--,+01.!-!%*""!,#&&'1)$)$#,)$1)-$"(!"1/.-1(%-%110(-%.&+*#-#0(-&!#(1!!%."-1)!*-#)&+!('#.-$/'*/-**"$,."""#%",*-0+-"!0&1)01++%"$1.$,$"(&&*/000%-#1#.$!!#$$.)/$*$."+$".!(..&).+'-0"/',*1#'.'1//-//$,/$/*(&'$-&**'(-$*%"%-)/$/(&)0/(/0)#!"!"',%')&,/%$))-#//0-(,-,).00*.)0%'(-'$*$#!/&&&1-"##(,*,")$!.-"&&)0+*&0!'$-%(0%'1.*0+*))#+"'++&+("(,.)%!*#&&+($)'1.$-'+/!+-&1.*',+0.+))&-"'#1#+)0!0,'1-/'&1)+1!)..#-"+**(+#'/,*$%$/$/'$'&/%"&$'-$0.1/!0)%/$!,&!&)*--*'!,()%,0%"+1/./*0%&%!,0/)$..)-(.."$/&--&(/($0)!()11!"(%1%!**.0/)%$)11($-#/1/%/&"('')".-(0/)'').,%"(!,$&++)$.'!1&1'),/(&",0/-(&#.)0!"&#-,1'.%-)$-,%%%/#).!/,,--&)&/01.,1'.'/(,.)%!#*1-.0#$/#$#,-+1#',!*0,,)-&%(.-".+,.1)&+$')-*").,1(*,,'!1+'-.)).0,*(+-&#0'%.10#,,.,-#/((,&,("&1#*!"#.(($1&'!,/.&!$.%(*%%'%1#"($/0)"-.)+)#.&1#/!+#-0)"+!&-+&$"0!$$+!)1&)/1/,."+0*1'&"&%,*-".00+""*')/$+%((&.($'-')*$%+*$%$#%1!0!"1"%&,"#-)0$/,+&-*0!*%*.',+++(.*'#'$%1)(&"*/#!.!+('+'%%)''-+$&-0#(*00$'#00.,,+"!0)%/&&/*0/#!+$"+'/,01!,')".+,$"''.%1)).1$!$11.*!#!..$",)./$*$1%-0/"/.,%&,#.*,!,"&!#'"/)%-&*'#,1+/&!1&(*.$-")#)0'-$)'-1,!$(0.)#!&#..1%-#!($../+$+*.$,-%()'#-%/&$*%1*%()1(#,).("0..11"1&,&*#,'-"($#0.-/01%',+1-!&1*)&$$-#(!%(##%0!+(.&'*1,,&0$,0&.1.%'-0#)+-.'-(#/.(/")%%//%--.1/.%1+*'0(#&-./%%/&$%'"*&!+!*#''!-/&*,/+,*%-*&$/&./#%&$,"*.,0#!%,&()#-'$)"#+/%.0(*.*()#-(%#!,#/""+%#-$1)-0+&&1#$'$&&)1/+"/(,&.*##1"%"+,)*1'"*$$!&."-!+11-$+/.,(0"+.&!&+%#%*#!+0..!&100")(,.1$)/"0*&*),$#+#-**+*'*$1/0'%,&"&0.#.*.%---#%/.-".-("+("0*++..0#-&+'$/'"%.'&0"!++*10()0%&#%0&.1#)(/$#1&&%%*-,1#,'$.)1+,"&0+1$%1!&0(#0#0")'&+1-10%+/,'/&%%"""%,+$.!*#&.*.!()#%/.)!*,."".#*&1"%10'/./,)%&)-)!./.!+*!$*%,.,)$0&+00)-'!-0*"""*0*')$"/("!)+%"(0",%+&+-+&("!(/1#/,$"*.#&"/*+(0"1/-.&)'(*',%,/-"(!,%(("++''%'+$0-'+()1.(100(!0(.,1')1+)0#,)'/+11"!-)%!-1%*-'+.&./0.).)&/+((*($%.,#1$(.&"$!!/.'*1-$*&!,+#)0.)+'11($#%0"/,..0#1)$,.'.*+!/%"&'(*&#1.1&*%1))%%+,!&1*)"+#+,("(1+#+*+&%0+(1.+#*.1&%)+,1$"$/(+,!&)+(#"%&$.1,-+)*,*"#((%,(,-+./&/%/0*#-%"$0)+%)+),&/!"1&"++$$!"""(#"10+00%0+/!!/)!''(!-'&)*0!*/(0''/-1/"0$)!&"+"#!+&#%*.)0+--"(*)1/0)!0#$'00&/#*.%%/'&()&/&#)&.')!-"-,/)$0"").)+'&)%-(1)'+&%),/'-)/'.,)*$-$/++.+$)'/"#"(#.&.*/"&&!/&./!0!$-.%,+%"!*&.'*%#0%"$%")!%%"'$-)*-0-),0-''.+&('(%.+*!")'($+"#/(&(.(!-.,(!.-1*!'"%(&1.0!*-'#1&#!1)-/.,+%%10+00"/.,*'!..#+.%#11.!%%%%*)1*+$"//0'-"'$+-&)$+/$'.''+%(+$)!/,)%&+"+*$'0$%&*)!/,"-(#!"*.&%!0!0'1/',,"(1+'$"01*0""%(-%*$//+0(%$.1'#(+&'1("*(001"0-..)/&..%*+*"".(*!/01(&/"(!!'!#%.!-/-)/1#,-*+%/,1%,*(.10!%(/$(,1'(%$#.!(+)-&"'!#'1#",$(#*-)#*%"'.'0%!"((+"-/%"(&(/!/%(&%(/%!(!+(.0".#+*&"%0$#-1"!!().#&%1*%%".'#&,.*&!"%/&.1-.0#$.,%,0))),'1+1!$/*,"(#-'#,01($1$1%./'1)#/&(!++*(0*)10),*#,#0++-$'&-/-"$*.&1+///0,)*+++#+)&-!.*0%-*#-#*$/$,**''*1"!$*""!)%-/0"1+0--/-#..#/(!1/+("'#%-%$.$&#-1)%&.)#0.'*''!"%*%!0)($"01"'%)"*/0&%$+.0!*#%".1(0(0'%)/'%(-%!-0!$.)/1,/11.$%.1-#)(&"(()*-'(0&$&+#(-..)+'%0&0,(0*!(+)*!(/#0!(-%)$+(0)#)*&#+..&'1*'"0,+,)!!"$$,/1#()0%%%*""&'.!"*#',(*+)',0$-(1/,!10+)*"$!#(/')),0-$&'*'1,$-!/'-"/*())&/
\ No newline at end of file
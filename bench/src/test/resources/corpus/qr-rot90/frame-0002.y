@@ -0,0 +1 @@
+ƿ̿οӿʾϿؾؾþϾѾſпؾƿ;ɾʾͿ̾˾ǾƿտѾҿпѾվǿԾӿѾʿ˾Ϳ˾־׿ֿ̾ÿԾʾɿ̾ƾͿƾ׾¿οľҾֿԾƾվ׾Ⱦÿ׾ȿοþ˿ƿ̾ؾҿ̾ɿоӿվƾֿʾѾпƿѾϾοξ˿ͿοԿĿĿ̾ɿԾؿϿʾҾƿؿÿÿ¾¿˾ž;ž׿ӾԿ;˿տɿӿӿֿϾҿĿӾпɿԾҾžӾԾƿʿξĿɾԾͿƾҿ˾ƾֿþֿӾþſ;ϿξƿԾʾϾоǾտѾʿӾƾؿ˾¿ѿؿƾҾԿʿοӿҿվĿ˾˿ľ̿ӿǾƿϾ;¿տоƾվοѿԿ¾ǾžĿʿӾɾʿӿӾǿ¿Ѿ;ľ׿Ŀ;ֿľ¾Ծ˿ž;ƿοվӾȾžоξԿؾÿξֿʾտ˾Ⱦ̾ξȿȿǿƾÿտؿ׿ſ־ӿ¿ľ̾ȿҿžԾϿžѿӿƿ׿ؿƾþӾֿǿ˿Ŀ׾ӿοϾҿֿ¾ϾֿȾ̿þžÿϾѿԿ̾ͿӾƿֿԿҿվ׾ǿѿ־վоǾƿ;ɾҿ̾ɾþ˿ĿѾпϾɾӾҿϾҿοþҿ̿ؿѿҿľԿľĿԿ˿տǾ̿;Ͽ;¿ž¿ɿҾ¿ѿ¾ϿʿӾʾϾоǿ¿Ҿ¿Ͼ¿ҾпӾɾվԾԿϿɿǿſϾƾͿþο̾ĿֿӾ־ɿ¾оѾžҿֿĿ¿ҿѿ̿ɾ׾оþ̾ԾȿƿҿȿϾ־ֿ˾׿ؿ־ҾͿξžȿ˾Ⱦ̿ÿֿĿпѿ־˿ſÿ־ƾľþӾҿϿ̿ؾƿӾ¿ǿĿɾǾľǿĿĿͿ;׾Ӿ̿̿¾Ϳþؾοþ¾Ͽ־ӾվȾվȿɾӿſοӿοþվƿ׿Ϳǿɿ˾ֿҾȾϾ˿վ˾¾ɾҾǾȿҾп׾ӿѿ˾žȾɿοĿѾԾʿӿſпӾƿžп¾ѿӿпѾ̿пѿ̿ſſϿÿƾʿѿǾֿ̿ϿÿԿϿʿȾо;¾¾̿ƿտ˿žο׿ȿĿĿоƾԾѾѾȿž;׾ѾͿ׿ؿ־ӿվֿȿξȿ¿Ŀ;;Ⱦȿӿ¾̿ǿžҾžԿξǾοɿþͿ̾ɾȾ¿þǿξžſ˾Ϳ̿ǿʿſϾǿҿӾ;ӿξÿ˾Ⱦɿվ׿ξվƾοƾؿξԾؾɾؾ¾ľƾϿ˿;ľžľ־Ҿ׾ϾÿľоͿƾ¾ԾվžѿϾӿؿɾ׿ƾ¾ѾÿտѾ׿ҿǾѿſ̾;˾ǿ̿ƾžξԾſƾɿؾĿȿԾ־оžǾοϾƾԾĿҾĿ׾ͿſԿžվ¾̾Ŀվҿʾѿп׿˿ɿοϿؾֿ˾ϿԾȾοȿſľֿξ׾ؿȾȿľſľԾſտƿпɿ˿ԿҾǾǿԾÿɾѾѾѿԾþӾտοſĿʿȾ˾տҿžξʾÿÿ¾ξ׿¾վϾԿξҿԾؿǾɾҾÿƾ־¿ؾֿƾҿؿɾʿϾѿ¿оҿĿʾ¿Ŀľ¾ؾǾɾľϿտǿþ̿ǿֿоӿοǿȿԿֿ¾׾ѿɿ˿׿տϾ˾пÿȿտ̾տȾž˾ȾοþѾϾǿſȿ¿ÿ̿ѿȿɾȾӾʾĿͿϾԾľվ¾ʾϿȾþ;ѿ־ʾҾԾҿſξ;ѿо־־ƾ׿Ͽʿؿҿտؾֿž˾ʾžοƾȾԾɿ˿Ѿÿؿ̾;οſ¿ѿþþؾӿ¿ſ־ξϿҾӾþ¿ľľɿϿƾſȾƿҾϿ׾̾¾ʾӿϾĿؿ̿̿ҿԾӾԿž̿ɾþпտοſľ̾Ŀ˿ȾӾͿѾξ׾ʾƾοÿɾӾоʾǿξο־žƾտͿ׾оԿɾÿƿɿҿǿƾοƾÿο׾п˿Ծǿɿſ¾Ҿȿ;ʾؾ׾ѿ׾¾ɾþȾؿľʿԿϾ׿ȿ̾ӾɾɾҾɿӾؾϿпѿƾ;¿տ׿ǾȾſ׿ɿþͿؿѿ;оӿƾѾо¿Ŀ¾Ҿ׿ʾѿ̿ϾҿԾſؿѿտʾľǿɿϾؿͿĿ׾׾;ÿ˿ѿҾҾ˾Ѿ̿ÿĿпǿпξ¾Ҿʿƿп;ͿϿϿȿؾվӾѾǾ׿ӿ־ؿξοſ׿Ͽľƿÿ˿ƾпǿؿ̿пľпֿտ˿ʿԾӿʿȾԾ¾վ˾׾ɿϿпտؿ˾վɾϿ̿ƾƿÿ˿ӿ¿ξ¾׿׾־ֿ¾Ӿʿ¿ӿͿվ̾ؿľо¾ϾÿǾȾϿ̿ȾžӾԾȾ־Ӿѿ¿ÿҿֿտпҾԾξĿĿӿǿ̿վ̾¾ҾĿؾ˾Ӿѿ־ҿ׿ƾʾѾԿֿվؿտ־Ծؾпƾ־ʾؿ¿ξؾӿҾվ˿Ŀ̾пؾ;ؾ̾ҿпοϿ;˿ɾž¿þؿϿͿþпѿؾؾпȾ;¿˾̿ǿؾϿ׿ÿϿþѾϾǿϿѾҿӾ˿ʿľƿžտǾȿ˿ӿ;ͿſӾ׾ӿǾ־˾տĿ;ӿԾȾҾͿ׾ӿ;ѿǿѾʾо¿ӾϾǾؿؾʾؿؾžξӾԿľʿſվ̿ɿؾƿɾľȾÿվҿѾ˾ǿľֿ˿ž־ξ־ǿ˾þ˾ѿӾþɿѾҿҾԿҾȾԿ¾ÿͿƿվͿÿоȿ־־ƾͿ־ͿƾȾɿǾǿӿʿпؿѾӿҾͿſɾҿӿξ׿վ̿տоľľ̿Ѿɿ˾ؿ̾ѿǾȾǿ¿ҿǾɿпؿ̾ξо<8:6;76*87?+8@B238*9=>)/<>2>65,=A5Bоο@<+87ſ?641>9(112+)(;:3>?<7-+,.=Ӿɿ־ֿѾӾؿֿþվ¾//17<7)+;40+;;A42.;269:?(B<2-*@)=>.0;9=@Ⱦ7@,A7̿+-.50=,,<<16/;94<,1/׿׿¾ԾؾľԾþĿ˾/9.6:B-(227:(9*:5;19;@2/@=0*>(31<6>077?2@9/=7Ҿ3.+69Ϳ91=0+3*A5BĿ4=5=?þþɿԿĿѿѾϾѿ:449=?011<-23B0<;34.9,07+?5.>.-7+<-4>9A9ƾǾB1.+4̾пϿ29>-4-,=2);;.7,1/71;Ϳǿ̿˿̿ӾſؿĿͿľ̿ȿʾֿοտѾ?.)A-23@,(?6-)-9A1<)(A==A6=1+.2.).Bſ-6:@+148(:ɿÿ;ҿ/397-ƾ+738+3;6.*ɾ˾:1.B-ɾͿԾ־ҿʾƾǾӿξ9A182Ͼǿ׾2;897ؿ:>*49ÿ8(+90Ҿ˾>B=-;Ͽʾ2<)A*A53:9,54A<ο*?2+12+AA35*+;189//:ؾǿؾؿžӾ̾¾ο̿ȿ0.:7,ӿ5:+;+1(>=)˿,3B:96>4;3A9<9:40A*8A5>0+,,>A*:4=0,5>7-38**B(ؿؾϾǿǿӾп;ҿȾ¿=+3=1Կ/=:>,=?/??;(@4-;־*7+.2־ɾ@75?++621:6)1:4A(>(:>:996)277:BBB/<տϾֿǿѿξ׾ӿϾþӿ?14=,Կ?.873̾A0*38Կ@1(4:־ƾ)2BAA7:8)0;5825A95,>׾?97262;A(9;*>/69,*2+Ӿѿҿ˿Ҿѿֿ̿þȿȿ/)72.ÿɿѾ61;8?76@3*>+3;>?<.6+ؿ);.372*=;1(?<(8BAA;9B)223)2@*@7=1B=ѾþſȾξ׿̿տʿտʿؿ*?A1+Ͼ,)86<9.4B5.<3@+,>,;33.7@:7<8<*̿B/,=@(0961A4B>;B3>/-A>9)?)*@05B..,<,146*,A(98;3.90ؿԾֿþž׿пҾƿ׾ϾɿȾʿ־Ϳ̿<2-66ƿB/>-)2?7+.7<5<,9<?7+վ?498=6..4?־;A8A)0@@=697?)-;@7:)(A4)?49(8.6ֿ*@?(.:4-8*<,>,9=A?)4ӾƿоÿȿԿ¿ӿ׾ʾӾ׿ľƾѿ,49*5?,5+4A9?/>50A:/@(49A־2+(142;(>8-+60A+;>=/2(.>@Ŀ=*0)5)4:.23:0-AϿѿ:0>,<@3>@623B<*7?@=8ƿ¾־ʿ¾ȾʾҾþԿǿ443)(//A16)-+4721>(@ʿ-2;1+/4.@9ֿ2<9818>??-/<>*,9@9?>/;2/6?58=79.79)B>+?3=B==*8)./*)+34?ϾпɿǿԾǾÿƿȾоտſؿ˾1*64A=;=9@-((8@:/41)ƿ4;6,0;**/2/:7(70=/<)79,3=)1;7;@)@+@04?/B=-69@,;3>4<*><,)6><;ο;)<32տͿͿ˾ο˿ʾԿʾ-.94@6</>)>1<B)(:,1?<+,-@??7:@;,.+?5<4>4*8(=A;2?ABԿȿB>.1112;B;.?<,5.A;=3?>),A@93+)ǿоտοƾϾտӾҿҾÿƿҿ˿;˿0*+35ʾ>=B.@*312(<5:A7@68A+1B76=Ϳ36.2),2>7917-189-2A,ȿ<*6;(:B27?ֿ??16B=+;7)+-7:<??>87¿Ŀ̾Կ׾ÿϿҿĿ¾οҿÿ׾ͿԿ׿Ѿ̿82:,=@.9+1.B.>?)-><:ؿ*A509)(>64˿ο40,23//.9869*;36A/*2ӿ˿A/@733.1@?/,+2-A*553-4558*9<--־׾˾ѾſɿҾ׿Ŀʾ25>655/B/+2702)6>@8@,)-62BB*<6п(B(+,@)A/+ؿ29815>90.7AB9/2-=6)5,*46-?@21A-,+,>A,2(?ҾѾʾϾԿϿϿͿͿ(?6,>36.54@9.<..9;61;8:1<>.4,0<201*0?=71)35.)=0.736,5*56?A03=59B)/./?509;?2;)114Ӿ˿¿þԾƿؿؿ/;5=;168(B@?>78;/,=1Ŀ5+B@8ʿ(.=AA,+36-?*1:/-A8-24?==06<(.5A;5,/.,<-+23(016822,<73?A40;42*61;@ɿοؾ;տξԾ̿¿ѿ?</6>).*A+;;640A94*(Ծ(?/1B@)09:)6:9;-*344)13@*99:<-37,:?A-5B:@4;,/*A;0.B<5AB>.;,3?<B@A(/-98Ͽƾžÿƿɿ̾ҿ̾ž,29*5˾02B,5:A:+/>;+.?3++A6ʿƾ6<>A<ȿ־1:<<@:7613ž,)@*B8>).(>*7>*(?=,>B)?;4--422>1?A*;9/83@50?B*</(=ɿоοξʾʿ7B,;(./=:?+;:,,:3>9(ѿ/;*9B09,=1@1->8B-205>@A8?/A?7+>.(@(B3,0<6A,20,?7/)=),27B:/A1;)@?@-8.)+׿ҿ־ѿпѿо־˿ſſӿ(:/-@+1989,*;:.-AA7257*1=90B2/ɾǾ+(/36ӿ294?7ȿ2?48:8,.(>ؾ51=,,4>;8)6,76537+@36.;1-.::@8*3(596)@7(ɾžȿɿƾ¾ĿѿؾտӾ35-.;¿Կ:03/<<A)<-5+*5,.30;B,461?5:-06<@67.9*698?<7@05A@9.?5@7-B>@BBͿǿľҾͿԿ̿ʾֿ.2@)7˿ֿ976-A.9>B*?<50(+,3-)-;>3,@:+423.A<4??/><>)<-*ο9?2<,ֿ=06A7ʾ85(A<Ͼ־žѿ˿׾¾̾;žÿ̾־ؾοοӿ̾ȿȾ)878)տľ>6(B5)):95B5,96;1A2(2+0?>A)+0335+=+/<7B)/4B8=Ӿ(84*,=>@A6>((=6Ⱦпľؿοվվ׿ɾ?:9ABž־ſ)589-2-94B4-)A<(470(*<==07A)/<ԾԿ<.*>/)2B84<?115;ȾԾ)@(7-Ͼ,3631?5?*<ֿξ˾оӾоƿоѿĿʿҿƾȿ6B?:=տ99=3>ʾB@.,,@@;<**01AAſ>A<)=(8-(1Ӿ);*,719)B:*9-B-пӾ.:0<)8B=/6)171-Ⱦоؾʿտ¾˾ľB/,B00)().-*0A667-7-<A8-2@1(;)=?+=*Ѿ0<)::0:;72ѿ¿389>747;:>:83@,A54**B/))=7?88B8?-1.=(0-9Ŀʿʾſ¾¾ؾӾ¾ؿ˿;1>0,+:72)5-62874,0:5?7/>>>:/..*>/(:*;()6˿׾ѿп:1B@?׿,5:.-65A:*:A.74<6)@:/<9-;(207A95752()+0=ǿԾӾ̿оɾϿ2<@-39)32;@=>>)8@014*7>.:9<39+4:.00812=(Ѿ:0:+9;(+<4)ɾ6,@=.-@9)@A0*;9.:-+4A7244=:03>)19A4ѾؿοÿѾǿϾտþ˾4=-;9)9703>9;)6:.3;4-)00/+,*9-;12<*=66511;304ǿ=*45(Ϳ=.<0)+<54Bƿ95+=6B3.67;1<5,<5<+;6B@@:Ⱦ׾ӿϾԾž;ѿ׾¿ɿ˾ѿ+*+.6)+<6-63+@95+2.7*B(5(=208*(1@*-)*/@7A*@3?ɿ̾=5.-B>:012=+1<441.>->;1;4ɾ1.20*B.+6:A547+̿ƿ׿ǿվ˾ӿ;Ѿÿξɾ8=?(+/48A>̿Ͽ9:551ѿ-@234((2:*ʿӾ3-5445*53)?0(+Bƾ˿/):3@Կ¾ԾȾɾÿԿ־ԿȾѾϿȾ˾ӿп,:35/0?+95ӿ8(03-=A?5++67)-,=77:?.@B*61?=?1A7>=ѿοſξؾ;׾ǿҿ־ϿҾþֿ)687.);?:;ȿǾ=;7?.˿Ϳ:6@65,<<79;:@+;0?46855B//8@,0-žӿϾӿƾԿ;Ѿҿ/5;A=?2,>2̿ʿ37,06<5<:@9;9>907=3..492+8-:?@ÿ/A;>0ſ¾оľϾʿɿ¾Ͽʿž¿ȾſϾξȿϾ¿Կտ/:3B*6*01=Ϳ<+?+:Ⱦ18*?Bؾ5;:3+<3:4+>+?=;0<.8++78*3ͿͿȿؿվ˾ǾǾ;,,27+B49+:@0B)@A4/:8ƾ,+=>(;533;?:A;*@*6=.6(<4+?))3*20)/,3+0-BA.48,0(2)1<2,8/046-/8/.<4ҾտÿžȿÿſԾľ7,49B3A@B>¾2(<2:)81/9)?==@616:;2A9=473B?.66+5=791</о<6.<B798++67+4=?35><4);?4:B*2*5-85:ؾԾʿ־־Ⱦؾοſ˿׿־.4=7A)5=.,B1.68ο/+4.-3@+;:(=,,.,>,0>,)A>:0/5*8;69?:ſ114++ɿ**27,<26/+?9>5,-24:58B3?-ξ8>)/<ҿþƿѿþĿÿ־־ȿԾοξȾȿȿϾؿ¾:,9+:4A-:/0<AA29+@92+<4?-5,;=A089???7@-0ʾ//,@=(89<*:9->>;?)-<4:0<3=?829=8=>271*.?+?=0@ƾɾƿο˾ԾоؿпӾ9*9*@B5*(4B3(9B:1*))=7=>55B(88?A<><4//:5п0..>;4(-)A+7=30ſ<>;A.,-6.1A@)+4;??9@13+(/̾).,A:ԿžοĿҿȿ־оÿ̾þ̾оѾ¾ѿ-)@?*3)09@B;>>40B1>-6B1.4=1=7@ϾB1A==ɾ::<(<2<31>??<?7+/-+,)(;)?=@2.<¿1==.:վԾԾƾտþӿѿȿƿʿȿ̾A,@66Ͼ?8:5*A66:1ȿ)56?0ӾԾ>/16.,7929:(66Bֿ14;57A4?0)954=54@A2)*=927;1+?<:(>38Ǿӿؾ׿ҿÿѿžҿѿп0+(=BƿA4.=3=4:1.98*;0¿վʾ8<.,A-:+704<)-7Ӿ*/A))30)>)7+25.@1992()5.817?(2,;>1=ξƿӿɾ׿־ſ˾оɾɾοB1;7);4<41:<?B45*<+,;=;7-1A-1?AB21+0/70<,130<94.-.)97A*<5?28;*;:-(3?=3ؾſԾ׾ɿԿ;39:0*3@1)1.<=B˿¾+.5*,.)0>=<3,.570(<5(=856.(751>52<9A*1A>)2-?,+7+,8841+)ĿԾɾӿ׾¾ǿƿ2+,17;׾A>8==/472=A:>1?3*01-(B*A4=>2)8оB><4<ľ.-**7<?3,>(-:2--:B-3ҿ@->A:ľĿſǿԾȾƾʿ1-,+1Ѿ;+(7*6,,9@׿B)>3@;7/)7AB9>4;0?+,ľ0=+4@:?33=,?)=@.:861ο67:)2ɾѿ.@57@վѾϾֿ־¿оտ:5@?,/53?6:><6@.6(?062>5*;44-/0+1(A˿(*B*0B5/1.2.4?9;)>;9Կ=.39?=?8B>ĿɿѾؾžѿҿ׿տ̾ѿ;ÿӾ>*8><̾>3(<.?2>1?9*@8B/.?9-ϾB,,A-B+6?9ֿ00.8<˾0=+7+)3*-7?6>;;־Ϳ8=,-;ʿ,0,@,ͿֿǾ־ľ¿׾//+=.;A<=22(;9=+66/<,:=0,ؾA4+B>,:2B<˿A;/+)ؾA7852@<.>6,9..*45-86731+4ҿԿտпþȾͿ׿;оÿſ;?7=))41?A2.@*B?6.04Ͽ5A+>7/0?800?@@9A52*)36?(66+(<(Ŀ¾,/.(0>/85*-6+?=>?;-1ؾ˾--:?1ɿؿ¾¿¾ǿB*1?8649;*B)5:/-)/+=57::7ǿ,-*0)*-27/3*@*5*)4/5-=1;9;>1940).B1+@>)8.@=1*ʿ3820;ƾؾ׾ɿؾþƾ̿׾ֿžտ-7@<4<74@@6,=)?=7+88367(2ξ+-6*3-5.2<;@9;.,?->:<-=))ɾ392=3*.8=2>@49303=BA+.?A-Ͼտտ̾оп¿ӿؾ̿ѿžľпɿ1/)B/?1@+;=AA(<0+=:*@1B490:3-=.,2)0;03(;,15:/2/,<9˿178/<935=(.>,=:1<3<8׿17/;>ɾξ̾ȿ˾̿ľԾѿ¿ؾξο*8A:0?*7+8046.6Ҿ̾ʾ,8((8ɿ.+==Aѿ0814;B*:(@)9,9.о/0,B*7/<-:0)A1>/9.=(A,79-3?:,9?31A9ʾ¿̿Ⱦʾɾоʿ;ƿԾо.5)4<;0A.(=,(68̾=B1/B9+0;;=@38(>)8=<ؿ/@8=0.)9(8B1-0,ξ()==49.9(>7@45=A9@B+75A<AB<482žξͿҾþʾȿÿοоþξɿ¾+=31@B8-?B:29,58:3;)?@.=74.<;,>=@*)ѿ><0>7+*4(39>013̿17/2**,5;B8*A8+5270B/<26;B/94*;Ѿɿǿǿ;οӾ˿þԿɾ3/>*,0021=B.;*6./30,102A(-/1:;62;)@11,A3)*?+*?696?@8-8/1:?24-=;80׾Ծɾ2B;;+*-7A18)>.?׿ֿտ־;пƾ׾ȿȿž׿ӾɿξĿ>/)-93:-7@5BB7-8484.:/;1,15<6=/9+1?ľͿ<>>16*B*=<*5/<09?A+.ʾ,67=@ξ6-86/>,.,0A@@2?>/9:+ʾľžʾ̿˾ȾϿпҾվ957(25@4;9++/@)96041439*?ʿ6B/@?ο(.A?2ſ(*6;4-?62>>(<268?=6)<9-/.@7)=B)+<14)4-905+87=׾ʿ¿ʾѿʿվʿ׾˿ؿξſоƿ7.-?AƿB70.88;:<)ľ9+6*6A0;+;:8444ֿ8B1B6@7578(,1;2;9>4*3:()<B.>>/Ŀ:A()?562;8??4644/?>./2.6,;ÿξ׾ƾɿ̾ҿ̿ƾʾ@6>?,ϾA;B9/A7?6*->(05(;;B6.*@9;1829;(++,AӾ:+294844574-22+<4534@:)+17>=.(6,*9*+.;9>/:@+(ſɿϾվƿͿſֿÿ)6..>?37902)1,6׾-*:0)3**?;6-5426B27061>622-2A42B@*;=0B/()8427+3@3,/+7@47:870+>*)3-3;5(þؾѾͿпǾԿ˿6)18++7*<*:)>>2ֿž0--4+3(*9((13-;B4@5.4@2;80;@;3ǿ=.)2(92(*B5?/6/.1+A945*47B.4;1.@-=@**66/оƿ̿ϿѾͿǿȿǾѾ=6*?/.08A-93,<;:4155A,)<4A8.7+083;(74@<-ɿ3,/B@3@;4A51A,=?+86BǾ),6,A5B,8331.3713/?=2/=:4ӿȿȿ¿Ӿ˿̾ǿϿοԿǾ(;608,7<:(18>70<>83?:?;10ɿҿоʾ7.).(7.-.125<*0/3/>74.95B?4<.(=,(.:+1;884,2==¿˿¾ʾ˿о¾ӿؾӿ9A<)+A/B28/8A3B(1>.*Ŀ?83:*08*@91)9>(:+-8,þ>->@/ǾB-@20,8A=./)?*2<?9>+;??+2׿տʿɾտԿÿοѿӾ*/7A,׿)8?)34-)934</52/8A8+Կ,*?<./A7);8.838:2;B8þ89A+*<5;:2)<=;(48=<0=8:A1׾ҾǿؿοĿƾľƾͿؾȿ-9AAA->-:297)?,?+3B?2:B5=ƾ))02@1,0B2A+--=*A?78пƿ,82(:11B@51),@)7::3;ο08,-6žо¾˿ؿĿɿҾӾϾžҿӾ:0/8>*-(,=>2//;./,*-,9.)0@)?7B3(;40-7->>,/B@<(/(<A@39?AA@;7((<7-@Ϳ=78@6¿ǿԿ׿ɾþþؾʿѿȿؿͿп1+?.@:(,4*A1A35ǿA9<-B=6B7=6115/Ǿ7+407?07@/77;@,ҿҿԾ;ƾ̾Ҿ80,84A2<32@?.-5ȾϾ-+;3(80?@1???,8վ;;2A.*(5(0(.1?<ſվþοʿʾϾžžҾֿɿؾ6;852;:+(*.+69,Ϳֿž=B+(?1;0/);/B3>ѾǾ2B@/A+?531.*823ȿо˿տо˿пƿοƾֿ׾о@(1+>?;?@?44667̿̾/4@4B7+7/883>/7¾þ/9-3/=/A93@)14/ÿſоͿοÿ׾;ѾƾѾ400<391-=)=23@.,+8,@.A/6*,B*30ɾȿž(+77B7)+1=1/>,-տؾĿ;˿¾žÿͿ>23):¿?,4=4>)+/):;22?3>:70)*B.:ɿ26>90A0>*+,A0<B+,+-2.5823.++<*5B;,>/B193þþпžؾ˾Ⱦо==;6-Ͼ?;2(./14A00//*=.6B=:2(81;8,B?5ο())<=6/A)B>A?(,3*;32=-51/(>+8/ҿ8@.,>Ŀο̿׾ξ˿;ƾҾƿ˾ľƾ¿;(,12пӾֿ(-7(>291:07-7)>:+.A3о.B83@23B9-ѿ?7.*5:5(<92A/8<456AB2@862-62@@<;>0AþտоɾԾտȾؾ¾.:.B(о60+83(7-?9/8>(5/-?97:8>@4B)</)6*+58,>-A6,(*0@5/)-(;*-@:.,B521,3.<ѿȾȾ׾о׿ԿֿžӿB-<*(Ⱦ4*B6*9:2=<;@<(6/1),32=31.,(/=+AA@8:444;38@(8@ʿ?=B+*A3(,B(<-(/=065+վ¿׾;Ϳ¿ԾѿվǾǾǾͿľӾ˿׿64@?-),?B(1+A2<տǾɿоA5*(.+5+6./@2*/п+-05*A6A8=./::9ϾͿ<>/A-2-05**.5,6ʾԾξ̾ҿҾ˾˿;B,,*),=<+>309AοA34;A)2:9>;*B-;ľ,+:9/1):68+A=/8ȿ.59+;0(+6*.4755ӿȾǿ̿ɿξ־ƿǿؿ24B,A6;*@--0?5B¿Ŀ23,.A0<:,+6)667Ⱦ׿о<7;B<4/*-7@*;1++*;1*;3(*++0-49Ǿؿѿȿ¿Ѿ׿Ծξ>-5=8/5*1/;7,24Ǿ¿1@233*>04+06815ѿӾ-.9/26B665B/=9)Ѿ̿2A@<;/076-B>)?0ſɿ׿ѾɿѿӾоɾ-5-A5/?1**3?<84(=95.>(A+A-<53*ƾǾ?+BB44<?;,1:92@̿̿+<A*=8B4@/9<264ǿɾɾþѾ̾ؾѿѾþԿӾ+6)169BA)*52@0(A.(=,,3A99˿5-A;-ÿ72+=5:106=:5);*žӿ<=07B9><820?3=58326;76(*:/?::4ϿǾοξƾ˿žƿӿͿ)02/9,5?@/6+1(),.<,7˿1*B43ſ*=@@.<)?*4*B.,,;(03,+1(.,:648+,6>A,:5>1=60(=+>(.:)þ̿ҿȿ̾ѿɿѾʾĿʾ/A/A3׾91:85(172-18,48ο(8691ֿA<1)0;A6.+260=?A44)54(1//;?1-0*3?9.)A-205/A>:Ծ9;()A̾ľѾտ̾ҾоѾ˾ÿÿ˾)49A)+36;4+21,A5)??:ʾ;-=9Bſ9?60A,3>(:=6A2>(78;-2A<2+9)9A.:>,/63>@3.B(>?85<>A)˿տԾ׾ʿ̿ɿʿվ¿,,9;=ؾ9<,8:2:3-3<-5.>@<65A˾ؾ(:*:<32@3?B47A;@BB0-,=,-7ƿ28(B@:9/+(ɿ?7195,-=3/¾*1==/ɾ;ɾ̾׿ӿ˾ǿþӿƿ@1B:B1?995+B)=6,3-/(ؿ?-=+BB?B2:47-45?05:?+</712;4*;0*8;1ؾ?1=(6,@B0803</>;8A6*342;A1־ÿſԿĿ̾ϾҿֿؾϿ=6<B/3.+)),(/B6@-:.BǾ485@.?@,/A=@>9/13172(6/:.8)<.(B8+-*>A;;>98(-9˾A15=0п0?,>(0.A<5žÿѾͿվοſĿȿA6.1,B6B5,=12*=)<)=(0;=9*@57)5,*4>>B+/:9@>/.@,=B3*A;?3/64,/(.50@44A2+2׿ҿɿ,*(-*6A87-ҾӾξӾӾĿԾ;Ͽ˿ſоſ>1*A+2@88.>)**:B453-˾=-*93=6/?@0:7B63:4/717<,/Ѿ?@*889/7-+2+)04;6;,34;52>оž5?>B44@::8ξֿؿ׾׾ɿ+/,A?>;;7?6(;5343*B(;<0:)</6>(>1@*13?;8(4824,77@@(810>7?Ŀξ01-)//),B=ؾ44)<1þ-3-?878(6.ҿɿɿȿҾϾ׾վ̿;5,9<¾9:4-B.=+9(<@)59ξ,:9*3/A4)8/3.*+=704:<</79ľ:*<:--03.1:.3*>:>?/1(<A)129>007*,A(+)8)843255<9)(+8-:)*ɿ׿ԿȾʾӾԿ˾ÿžͿɾȾ,=7-)-(+2(/7,(;4/>0+13538+,=>55)A;9+7=@A9BB(+տA?9(,*6B93;.405(.0,,A;2:@3432+Ǿ@>>9A--*,7A=,891@-+=8996@οοؾҾξԾ̿׾׾Ǿ̿ɾ818=B,.B;82>B+8A>7-6ǾBB?,)(3/@-(B8613(2?44B0/5ӿ-@4=()6A;(:5(57/45A7:426A<6+).4?)611)?)9(,@2B-26@/=/>>*οӾؾſſ˾οӾ˿ɿξվĿ˾=@:.50;;AA7-=<59+:<+.9,9;4:B--?>)4A*,*8@(*033ž1=52(;1)=@0658A*+=+7?)-<35:A*@о88,+34B=)=1?6+;5;@9(A?*?)ѾӾƾֿοоǾɿ˾;ο>/??910@2,׾>3)B7.7916Ϳ-01)9/@B>,(056(44/1;)8=9)ƿ.99,B:B;>87>-0=̿(7-;:A*?*5<:;15AA1*+*:9,(-=<;<5A<,30(300ʿž¾ͿϾؿ¿ؿѾҿĿӿľſο̾ʿ+50>8394B.4?*:8B=4?8ѿ?+3):,:B*B,.1;,3-,*BƾB51=6;־ſľؾѾξտֿҾ׿Ŀ־վʿվ˿Ⱦžо;ɾѿǾͿվ1..A=00-.+52*3A84419).<8(A,3>;:+.(+1634(27),0ؾȿӾǾϾվƾվ¿ο̾ſҾ¾Ӿ׿ӿ8(6,-/B-,56;4=5?8?69Ⱦ55=:B008@?**102/,B>:8/B/<пѾ־ؾ־ĿϾɿؿ׾ǿؿ־ֿо׾Ͽ58)<(:5/6:0988;/851);<1>40<?.==/-39-B40?8Ѿ95=*-տϾǾǿ˿ɿȾпԿտʾſĿϾο׿93>+20*<-/(075;6@3==ƾ)/80A::<3.3**;;@>54+630=9;Ŀӿ;ſ׿վԿ˾ҿо.,>5229+*?)75>A;)6945)1<-(5:(0,4837ÿ34/1?Ŀ,8A6@Ӿ)8/54AB+17-B9B,8=62)A-233<7B4A17@<<./@,:5+6*??(B;5)8?,=<3?<?ο˾ɾ̾˾οпȾԿ¾(>->+80:.A/=/A:25?,<)>;1.A6<7=>=4-8=B26/):>/9B4@-9ÿп-7?8,59(+@A:464Կ624)4(4,)*8B,4/366?9594<1(@11=*=A<9,,/1(оҿ˾ؾȾѾþ̿9:@/(235=-A?528=(3B*;1>0/*2):7:)*<2+0+A6))=1/̿/?*A,A0A:53?B@6.74/+60)+@ӿ3<<<6-B-7:@>;>,4-103)*B8>08+B*A6?+0Ͽ¾̾Ѿžοž3A-(/(?<<9-5?,4@6@1+4651,6B69;64,.43)/A2=(<1)@)<0=ο>A.*;)9;)(:3?8<87+442)5.+47(/A1.+9,;.9+-@96:@?(=,A?7);;ǾȾɿҿ̿վϿ׿ϿӾĿǾ094+B+56.*BBB5/;@=>,.22=/@(,)-*8>,41*.8<Ҿ;8*666;/6B¾0@592<(,;A0B@2@403>8;9A):8B(6+<2)-1(-18:/A849??@)+2B/6=Կ˿ľֿоп־¾־66,25տ3<=80B91<+ƿ.6787-;-A-վ7>9A;ÿ̿B@16>пοÿÿѾþ807,/?0/+,A2?)*ɿ?:10)?/;,.ξ)94/8ʿÿ46)5A¾˿տοɿտпſþ¿?,;;9ǿ5A=-;˿)<A)8)B5(*<6(:(ӿ˾654:9ɾƿؾ--,*=ĿԿؾοѾ̾Ǿʾ¾¾п˿94B-2Ŀտؾ̾;6=/B7վѾB-./0þ=--:79A;:;-82@108+@+ؾпҾ;ҿ̾ؾǿϾͿſӿؿÿ˿ǿ-B8>8ſ̾847AAȿ0;B>2,)=@+Ͽɾ+6+3(о;Ŀ7,6,6ʿ51?47˿пҾξԿӿӿӾɿɾӾ?408:?)44?8?*:.5<?+B4;-7</3)B9=22-5);(=*1,A1:¾/8+3-Ŀ782398;*09п8(3::B:(/015839+<443ʾ˾̿ؾ;˾оʾ̿Ծ,+B2.+::/37>609<7079,5=A,-47(*)0:0;?4A1/0)53?¿3)())˿:(+/3*=+4>4)62:1@=(3224/?¾82A((˾ؿɾƾĿͿؾҿȿľо־Ŀ;,43>0Ǿ;/+,:>+A?>.<1-.3;;((/3214ؿ)/454@72,4ɾ/=6><4<<:?3?0(;ѿ<>-8@*6+?=),B;;*)*56839.+Ͼ¿ؿƾֿѾ¾ξͿоؿƾ־?(B<+A0:+,=9-322670;06AA(Ծ0A</,־@2@8*::@-2ƿ2A;3;+6?=2ľ5*+*)ѿ9/>@>)-5.(9:,-:666AA62?38Ͽǿ;Կɾ;¿ҾÿѾ׿ҿ/7<.5B34+*>1B=@*//2*Կ-06/7ξ>:?3)/A,4@8=@*980;B*5,)A=)A4>-:A:*,ӿ2>>(;)2=:@*?321B+*2=˾ǿȾѿֿֿžϿ̾̿˿ɾþ̿Ϳ8858@¿-6@A?B@.+B6;;A9Ͼ?.+B;;*:)0*5992п?-+84)+1)=-0A31B/.;B5?+,4*/(.8>462)¿̾ʿľԾӿžľžþȾ־̿2?>924?4(/,A*/3*957A?)/(:9=7A(п*2=<>Ҿ5@9),B@7*+=B:43ʿƿ0=B8;A*53(*23>)@B<8<οѿξľӿֿѾֿӾ;ѿ˾ʿҾ;725?+*;07,;39/7)(82))6A,?@<,5ʿ7-8:8˿0=2;0Ŀ7:(<9ؿ2:6((ɾ@-+?4)3803.*)5209,((ƿ¿վԾͿɿžҾοӾʾÿӿԾ>(/><˿.@80)4):-12<B/@,5(42˾-668B)1+@1ȿ4189AԿ1.*>6@.8?B=0>2557)/-*8.(8B/;2;ɾѿ׿ԿϾοƾҿѿοɿʾҾžҿؾƾ¾ľӾ>=/>1;/:B6*2).?@,*,@3387?)>:=(?<B=7ʾ˾6))6,-6,=495/7).(A9<65(3A+>92:0;.41ԾҾԾſҿ̿ӿ¿Ŀֿ¾,9,=*B(6;5469/<):,=7п;7:71)<8=370-;)4.B8?7=243ľ̾ҿB?=?@ξ2?56(ο2:00+),>4B?6>)7¿1)9<-ʾȾɾʿǾ׿ѿѿͿξ̿Ѿ?1+1>B5+9*/:AB@(/*8.+.,;8B2469</7*/362.2.*1/?ǿ־-?8A;+.4@B9.->+8;B5>:814.B.71>οƿվоҿ˾̿пƿӿÿžĿľ2/711A4=*3-<3101-(0@*=+-2<?A11?3770<?60*Ⱦ=93(242;(@5<??24(/67;>=/AB==+=.05B,ؾ̿ѿԾ˾ž˾ĿӾоɿȾȿѿͿ+>=::վ@+:+52@/<B582;?;6;@?ɾ/:=5A;::(:)+<+2Կ(42+7̿00/-:27-=B0:/28.,(9+=4+84Ҿ/>>,.˿ſ׿Ϳ־̾ɿؿ0A/?-̿=4,.B-*(/6,7+A9@)//8Ͽ+4+2:<::539@86.ɾտ*;:-(Ծ31;;*¾13*).3B0+/49+=4>@@5@A<066ſ˿ξƾ˿ʾѿɾžվ0+10/̾084)?ƾ);7(/8<813ɿ0,)7?010;0>+48(ξԿͿɿ(;(>@˾(,.?4ɾпǿֿʾľ˿ȾʿɿѾѾҿÿ¿>+151(/.9B=8@-B(47,)*3494Ŀ4?.;-(,?:4¾1>823Ծξ;1,/:ǿþƾؾп˿׿ǿƿؾ+,72(ľ@.12?оAB**:5A:7)26<*.)*>04B+.*5Ŀ1=</:Ѿ042.;־žſо;þɾпξҾѿؿξͿտ̿̿ϾӾ>+B1/;):,;511?5(845A,2<0>0,>1+410699ֿ)8.89?A.*4ѿξ̿ؿ׾տӾƿ+2>-/ľҿ@6+.?>47)=.+B+0ϾϿ¾@0)@-8?4A3@01=4ӿ˿0;175ƿ29:0.ʾ;ͿžԿֿǿƾ/,0+<;6AB1/?(<;5))5=.??2?,0)17;1504@-33./:./4˾վA0A34-AA@B8+A.?26;72>5@8+<0*2?-A0;3,85**;><A254-;@8921*@6@3;5*33.B8-71оҿžƿ̾ÿþͿӾȿ˿־0>44@)+);9>=B1++4B+9+3594@05(4B7*32B<)5:4A)/)Ŀ(,1(.45<4@@::9)18;@>@/@/;9.54@*:).4п=5570A?95@@2033-(2-<60+A<B<=(1@A8<0Ϳƿҿžƿƿ;Ŀվ-)+>615<B2BA*?>-,78607@;(*>5++/88)B3641:3(7*@ξ-*</*7<;0>?>2(8+6B;.,(+7,=;60.:?0-(/52)@:+/3./=30=)-,5+893+.:34-:535A9ϾҿĿž˿ϾϾ׾ĿֿǾ-(<;22>,0+<-2,=:90?59(:(@-8;0-9+*@1ſ*(>@1<3<;;ʾ.127-B6950661=B83+23)?0/<B95)>/,@:(72.5.?A:2A*1()-,?33,-328+9?0;4-(3?<þƾ׾ĿϿϿǾӾ̿ǿɿʿ4;B(2-*/9,>33/9/+2=*)).*(6(<7>25AA??/B),@6B1:Կƿ;4.21A1>A8??1=*(.:791B,82>,.)5/)=162:4808AB6@?9<0;5/<<1B-17*:;;/42;6/?¾ƿѾԿѾþʾؿӾѿ¿׾ɾϾ¾Ⱦʿ־пſʾѿ˾վžĿÿ׾־ɿԿ־о;ʾǿԾ̾ӿ¾ؾξο׾þӾÿȿſƾѿӾͿ־Ѿþҿʾҿ̾׾þþԿ˾ƾľԿҿֿ׾ؿȾϾ˾˾˾Ҿпľտ;ľվǿǿԿʿӿȿվʿ;оĿ׾Ҿ¿ϿվĿϾѿϾ¿пĿѿؿʾ׿ȿӿ̿վӿؾϾ¾ʿϿؿ׿׾ҿֿɿɾԿƾɿҾҿԿÿҿ̾Ϳο׾ҾҾӿɾƿ¿ؾҿ˾̿Ӿ׾Կ˾ĿӾѾտоÿƾ־տʿƾԿҿտֿ¿ƾϿֿѿӿƾþȿؿ;Ѿ̾׿̾žɿĿؿɿǿϿԿþþĿ׾¾ʿ¿Ǿʾ¿ɿ˾տ׾ؾÿǿϿƾ׾׿ſҿؾÿ˾ӿ־οǾȿؿ־þ¿ԾѾ˿Ծ׿ѿ׿ſֿľȿ˾Ҿ¾ƿǿȾ־˾пοӿѿ׾׿׿žɿžʾ׿¿ӾǿɿֿͿƾľ־Ӿɿǿʿƾξǿ̾ѿ¿׾˿ǾоֿѾԿžþƿ˾¿ȿľտȿÿʾ˿ӿҿ˾Ϳɾ׿ɿҾĿ;˾Ӿ˾̾ؿֿɿʾվ˾Ⱦ̾ѿ̿Ⱦ¾̾ϿǿԾѿҿɾ־׾ѿϿ˿¾̾Ծ¾Կž̾ϾȾ˿¾Ҿ׾þϿžؾƿҿǾǿоȾ¿ȾҾֿؾĿž¾Ѿ־ؿ¾ϾȾ¾ԿԾпǿԿѾооϿ̿Ͼƾ¿ӾоʿϾ׾ξ¿ľϿſȾӿƾӾƿӾҾοȾֿ̾׾¿˾ԿҾ;ҾžοоͿÿǿֿʾѾϿͿ¿̿ɾξֿʾѿǾԿþҿſ¿ѾǾԾ¿¾־ǿտǾѿʿ־ɾʿƾοƾξտԾп¾ɾ˾¾ԾϿɿѿϾؾξԿԿľʾӿ̿ʿ
\ No newline at end of file
@@ -0,0 +1 @@
+̱½ǿŹȲȳͺŽϹĿ͹ӵõзʳ˱γ̱ȱѾϲȸǷɵÿϼſβôкſɺҶͱɿƴӺȾѶŴŸųȷδȼȼ˾Ͼɺȼ̷ɽȷгöǸθμ͵ĿŸͼʽòҺŷлƾµǸžŻиαǽ»̾µʹƽȸÿƵȼƾѱͶÿĸöɺò˽ȼʻʹ÷Ʊӱ˶ѽоӽľѷηон̼͵ŷθѸ̶͵ҲϽǾĸ̵öƽ̲ǵɴҿôƵĲ˶Ʊҿϻ˸ϴμҶҷɾζӼϲθźӲ̾µĵ̳óѳɿʲѿĴù³ĺ̵ŶĲȹϷȳʹӸþĶͲѾѱķõӱϻǻǸ˴δɹʳлŸɴĲоǸθµýҴϷӷȴžѶȴǻͷϽͳųӽӵĸαƸƸĳνÿεƴǾúȿ̶ŲȱĽȱųʷкĽñŻǿ˱ĵ½¹ǿӱдȼƶϼһζҾκɸ˼δұоʸ¶̵ʸϾžŸƳƸʺ±ϺŽӾ̺̻ϳѾҸεǲӽǼʸĹӱɽĺýжȽɺͳ³ŹýоѳͲ˸ѸǷ˷ѱȶ˳ӷ˹ӿϴͽͿŲϲ̶ö͹ӺѿƷŴӺʸŸѳŽҾƵʲǲɻĻöѾºйƾȻұϲýȿ˳ʳҲƱƸм˺ǵϸѲ˷λʶɱıʶʾ̲жѽӽɾϸʽȺ½ʶȷŻ˱ɵźͽ¿δ̾Ʋñ˷ͱſϺ˻ϻʺѶоǴβǿõϿºκгӲоȾеǾѲѼ̾ѱξʴͼαҸӻӼȶвɴȱȱƳѽͲ϶ɸ˻žƼλƲȶȲӳҴҽϸʳ¾̹Ļ·ȹĹʻʸӱʿ˾дǸɷƼƾϳɺʵӱĽ½ýӳ̽ͼȴôӶͱƺȱ϶˹ǲϽɿĻͼƺıζ˻øθƱøѷҾӺͶǳŴŵӴķƺб˿Ĵͱ͹ͻ÷ĽвʸмѶǵϱϱ˴ɲҴűʼŲǵͳʺŴѿĴӽɹѼĽýӶʺҴвüôʸó´ιʴҵòŽķǹӺνӿγŴͻǼ˱ŸȺҸ÷ƹʶ;ʻȳ;αŹŷǹǼѼʶµзʵƻиͼѺǲбƵȵĻпǽѳƻѾҴʹɱͻóƲǸʻƻȵιѴŸһϱÿžʼηξͼȶ͹ҽ̿ʻþõȵȿǸҶɽϼ˲ɵǹѼɼĻƸżлϴ´ζǾſʹűŵλӺ±˴иżѺҹʺͲ˻˵εͿҶпöͿпӴǳȳ³ȱӶɵ´̶ǲѹѸĳ˼Ƶ˲Ŷ˻Źº¸ƹ¶ĳ˼¼ϸмоͲʼ϶ʼгĹȽȱĳҾſƵɽκӵ̱ķ½öºɸǿĻӲϿп²˷λʴȲ˺ʶǾ²ѴƵɵǿźѷüȹͶſ̶ǻ̺ɾľɺ²ѺƺϹƽ˹ξ·üʺвʼºɱ˺Ǿűøŵ˺ǽȶƿ̶ӸλŻɵʺļƼȿѶľл͹µҴѱóͶвұɵƴεŶǼжýɷȷѲҹĽƷϼӿ¿˾̿Ϳŵ̱ûμ˻ƿŸʲϼʾʻӽüɷĻ˱źǴдӹʸнξдɺʵѼѹͻʴξлǷѸ˱˸ýӿʾм̸ȾųκǱźӵλе½ŷ·ø̿ɵ¼ĸɴϳʼнżӽĶϸη·Ųӹμ;ӷ̿ииӲɸ˷бųƺгҶ¶ļʹҼºſŽʵǼе˸ŷƴǾõ̱ɳĶм˹νʺ̲ʴʼ³ҿĻĳѶ˲ѺƴŸƳɾôȶͽβɴ̿ŵĽǳ˷ƳѶ˴˹ȳλҶ½ε¿ѸǵӼӲĻſлʷϱӴƿ̲¼ɼк˲Ļ̻ʷһŻνĲдһĶĺòŲ͵ýǹɸвñɼȼõûżʴȵд˺˿ϽӺ˱˺ѶҲеųι̷öνű˷̴öһȶù̲¹ǼƾγӽĻȼʴŻƱϱ̸Ǵ»ɳ˱б̾õʸδоȼǾɿ̺ҹбǻͷӳмҲ˺½ӽͶгȼҵͷϴͼνѺѺʵ̱ƲȳʼѻҸƺƺ˻з͵зͺɵǹ¾÷ƺŹŸȲʻǳνʹӿƱñ̳ʺȸгбͽɿʱñʳӹźƼ̳Ȼ̿ɴѻ˷̵и˺ɿȽôҷƵƵɺҴг¿˸Ѻҿαü͸ηҲʿƳƽҵӹºùȸͷҲͼμɸ̴ñĹȳżɼü̽ʹʶȴɵξѲô˸ɻƾѾűѹûѵʺǹɻѵĿʻ̶̵̴д³ӼҽθþʲҺͽƷͼ³ӳѽžϵŷͳ¾ʴҾӲѵαżϱнʾƾмöŶʶǱβʲȹȷǺǿ˹ϴҵұ²ƽŸͷкƱƼʾǴûŲ̸ҳ;ƹÿηͺǽʷ̱üĸƲľ˻ĹͿεʽȱÿĶĶ̿ĽŶŹ˿ŷɷоα˻ͳʹ͸þ˲³Ӿʶϴǳų˿нϸűǺдǳǷоͳѾǱп̵Ųƽ½ӴзɾϸκҴ̵ȿͷǺѲɼǶɸҼ²αû̶ѾӾʽ¿ӻвǸɿѻľмѵƸҺú˺˺ȱ̲ɾ·ʵŵĳѳƻӶƴҾűγѿǺȳɱѷ̵Ⱦ˷να˲αͻɿ÷˻˼μ˿͹̶ӷʹĸұʹ̻ǺӺ˼øϷͻνѳ¿˹ʹķѺϴ̳˵ϲͲѱƿλƵ˳˹̷ǳ˼ȴͻӱþϹѵǸĹƴ˱ȶòϱ·еɽ¹ƳúǺñĽ˶¹ͷ´ųӳʻϱɳ̳ϳȻ¶¹ȲʼҴʻʱжǾ̺ѻȼɳɾȳӲĲҴɱγƱӹȸƽ¶ſǴñµûųĸƸͶӸƿĵʹȽҲɻĸѼǽɻϾö˼ҾòͺϵйѴμκ϶ɺóμзϽĸȸŸǷǺмɸǷұѶƴȲҹ˹ȹ˹ɴο;Ÿͳʾβľ´ɺ˲бθɾĴӹ̱̽ŷƵƾżμȶӻͽϹʿϽлƽüƱ¾ҶϺ̱;дƽƼɲƵ͸ʿѱӱ˽¹ǼʶӸ³;ʴҵ¶ǴӹǾʱ͹Ų͸ʼ½ʱθͽÿѽβѶľƵȱзͷδǳı̼ϲĻƲη˳αоʹʸƹʷýе̶ǱεͿ̳ȸѼĺͶѿʵγĳȱ˾ɷľϳǳ±ʳѳŵ̾ýͺʶѺѿйѿӵϹɸ϶Ϻǳӹƴзϴ̿˽ͺν˵ѹȻȱʹϿͼɶϲѵŻõ̶öʷǷž̾ξι»˽ĳ³ϸйϿͿҲĵǿҸ϶˷ϵýɵźŻ´ȱӱʽɱǿҼͻǷҶж̿˷ұл¼ѴɿɲǷϱдŵƺľѿűѼʾĿ̷ǲ˴Ѿɻųƺұ͵ѸĽҾĴĹŴžӴɴ̶ͽѴƴ¶ǸǽĿиѵ͸»űѺ̺ȶͷϽ²ûӲ̷ѵ¶ʴѳ͸μӿȷıӱμź˲αȾŻѹζҼʵŷϴɻҹŵ̲ƼлþǱĻƱϾλӿöҹǴμɱǿɼͲ͵ʸͽҸϳ̾ĶνһӸ̿;θʺйϲȼѽо̶ʴѻг̶˲лδɻ¸ǲƷǼĽǳѴѼȹϵ˻ȺαϴҹӴʺļпʱӽƴʹɹҹƺƴƶӹɱòɼĶŽʲͼӺþҷ̱ӷȵŴ̻żѱǵƳƳͷͺβͼºȶлκнǱȶͱ̴ǵ˴Ѳ̴ǴƾǶ̺ѺƷкνӴ÷ƶӷĽǴ˹͹ȽſŶογóҼǷŷҶ˾ӾƵζѿøѷ͸ϵͲҴŽ²ҹҳϸƼȴ·оúĵк˱ж̲ɺϻ³ʷȻȲ˹˺ǳŴ˹ú²;λпɵ̷ùþʻ̿ξʴѽȻǽϱϸͺӽͻϲǼýǸķκʼɵĸӹʴɵøӺͺӱϽŹϽʷżѲ³ʵҲϿͷȼ̸ǶμƹǵѱǿҺ³ѵбźù˹̿ѶŴƿξ̴иӴоӼ̻ѽϼͲλϼ˸ӴǸȻɾ˽ͳǲ÷ų;Ӽʽβ̿úӶѿʿɵδ˿·ĵ¾¾ҲзȲ̻ҿɷ͸ĸû͵Ǵ˸˱ü¹̹źӴʵμ˵ȲѾƲ˳ιͻгȹ÷мȼϽ̹ͻƷʸιǵ¾ӻκ˹ϴϱƴ̿д˱γȹɱͼ̳һŲĵƵƱӼȴӿûȱǼ˳Ẕ̇ɴĻεǴ̼ʺϾǾϻǴƷѼӻһµοóͻ̿ĻǱ̷ĺƷµϽɹһӻ̻½ͳȴ̵̿Ǿ̷̴ĲȿпиļùŸ̺ĴӺиѳӸȲӱϿʷɵǲ̵ƺͱ±βϸҽϴǴϲŹöǺѵ˻̲϶ϲȿѹӹͲ̿˳ѹǱºб˽гųɼҴҺ͸̶ȽȸɼµǺ;·¶ŸŲͶĴѻȱηúϵϹ¿ȷȶſ¹Ƿιɺ²ÿ˷ɾ·̴ͻҸĲĶʽſĸ½˶ɼѽоƶƹϺѽͳжѸ˲˳ƷɿžϿŹͷƴξӸò²ȺѾϻĹ±ϱʴҴ˲ø÷Ѽ¼ʻñȾɺ˸˾ɻʶñͿȸŸú¼ѹͺǽҳͽžŴɱɾü̼ɱŻγǱм˺Ŵγдӹйθùɵͼͺѷѽʵӽʼ˽ɻ÷ǵñ¶ĻŻķηžѿʿ̱ͷǻһŵͷǷŽƷȼ̵ȶвķ̴ǿӿͷѽȸ̷ǲŽ÷κÿ̵Ѹǿη˼ϴƾҲƾиƺȼȽлϸǽӺп̿ľͳϺϷӷɽξѵлɷг̵ӸѴȺηҶʻϴҸ˸˹ƷѼºѺѷǺͿ˽ҹĲ˲Ҵмøô͹¸ųƵξʳº̻ѷп͹¼ŹļӲƸϺι̴ǻɱɺϳʷ˼̶̵˶гдμɻòƲùɳϿҵ¼ͳп̷ýӳѽϾ¹ѾǷŶͿĲͲºʲʴ´ȹĻʴѳƼƵŸ²һ˳ʽӿӻӸʻýȺҲͿӶͷ˵ʿǽ̺ҽøζ͹žɵɽϻҼ̿¼нǶƻ»ʳļʵļϾǵ˸ƷвͼȴûƷϳɹǶþȼй¾͵¿ƿɳ²ѹβƺ̹¾óӿлξöĸøϸȷҵ͸һѷβ²ʺųҲϽôºҹѱзȻ·εͱθʶ̽¼ͺϽζ˾ϱзͶǹ½ѹͲ÷ҹɼɸѴѻĳλѿȽʴͲʸĸϻ²гʸγͳʾ´ӽͱûӼʳ̵ͿµȺͱθɾſɿкʻѾбſ̴̴ǻýҼƹǱɼһɻϷŶźĹƹѼλ̱;ιӹƶŹĸɷĿȸǺʵһͺʳ̳ҽͼβӵͱȾõ˻йĵĵƽöȱβͽϳǺѲȸʹϿôͳǽƵǾĶıѸŽұѹʱǿƵǾŻıγķûɹ̸ʶҳ˺ǹŻѳϹжһ̳ҷӼñƽѸҾöĳθѼιõθҾ˲ʳŷƸ·ζͳҷ͸ɴĻʲϳҴȷ̴Ҿɵ²л˻ϱűŽ¾бӺҵγ̵¼̺ȿѷ˵ûſϽɱĽùβѾƳŷʹҿʵβҼö̺˹˻ϽſϹβ̾˿̷ҿºɹ͹ɶƲѽϳӾϲǴžҳθβɿ˶ǳӽβ˴ѿͼ;ɺ¸ӻų̹žͷ̿û·ζǶ÷ϹƳӴǷ̵ƴƵƱ̾˲ʶ˳ɱɼƶƴòɾѵмĴ˱ѶδǸȵʳȷ˻ʹʶйƱѾϾ³ӶƺϾͽθҶиĵͼƾƲŲϵȵüǻͼγʽд˴ļ˿κĶӺȷķ̷ͺѼѵſѲ»õŶͺȱѺŶŻͶѽ˸θͼѼͿ̿ϻººƼ̺˳űȵǼе»ĹɹźҼζɿûǵӶ˶Ǽϱ¹Ĳȼ˴¸ȺɿѼòƹ̳³δ͸δźȴ²ŶҾѹбñҵɳɳͲѱлǵѾÿʸŲвŷŹĿϾľòѲҾȲδŷǷҿ˾ϾѴѱͳδĲѴѻʴľȶʴȵûѷ˻иҿɽҾƲ̲Ѷε½¸˺ȵͳŻüοҼɱѱɻμѹнȿʹѺñʵѳƺ÷¾˿ʾӴ̳²ƹǾνѹ¸̺ͶѾ˷ɱǼνŻҶ̷ľлŹδȺ³ƳĳɱϼùӴ̽ʲɲͻľ½̱ҹγ̳ʹ̼̾ýϴγʲ̺ųλѽ˲̾˻Ѵ̼˿ǼαùαŴǿ̾Ͻʸ̳ʱұѹŴûɲǷĽӼñѻӹҴǴǿκʲӾϸѿ±ƻǹʲɸͱ̶ǸβϽκĽѴ¿еŽ͵Һϴδϱñ;ķѻ̱ͶжικƼºͳ´ÿǽϿϵŸұƽǱ²ͻϺȺǲʿȺʾʸ˸ʼҲʱӼѶξͻ½ҽĳϹĽñ¶ƶĺѳҹɻ϶ɸĳɴµ˷ȶǶƱϲŶļӿͽ̽δͷĲȿоѽʹ±Ҷϴôȹұ˴̷ǲÿ͵ùͳȻ²Ǳó̴ѵϼȺѻƽѶ³ӱɿͻ̴ϱ¾ÿͼҲǿлγӺĽɵжҼĲӺѱɷѾӾƳ̸ŶοƾɺӳɲȶҿʲʹʷѼɶӷγǵҴ˳ƴѴ·ϸкμ˺õɳǹηʴºűѱŵѶб˺нŴӱƱͽúǳкȼɻιӶüͽõͺ͹ɱҼĲ̷˻Ͼĵ˲µϱŸöо¸ĲλҳŹϺ˾ǹȼ˶ȵѾɿҸ͸ӺʽӽȵӶ͹üϻ̲Ѻɹ̷ϼƽʼʸ˷ȻѴȿǽͶɸ˷ɹжм¹ϵ˸ʽѿʽθȳʲκγгдǺ¼Ӽ˶̹ȲĳɽɸӻҸļѼĳӼýȵƱɶɾӱѹϷǾŻҳŹ½Ȳʽͼ̴α̳ʼ˿Ϻƴʶ˶ʷʿʶζη̷κɸþͿóϿ˼ѱѽʷθ˹ʱǿϻʹϹžӸɾк̾ӻ˾ö̴ÿºͲö̹ʺ˳ӽŹȳǿýʽƶиƾɳҺѺʱӿ˺ºǻм̷ʺҷ±˳ҽӿȽĲǽ̾δĵʻ²ϵϱл͹ĹɵҹͳȾžϷɽȷŸļȹҺҸȾúʾʳж±ñ̴Ѽβ̺ʸ¹ʱĸȷɱĳõϹº̷͸ȿӶöӼǸôβƱ͹Ҽ´еͱͶƷƸӸɽӻ̸ôʾ̶ѱѵѱͻҹм²ķʲӸ÷˾ҴǶ˳˾˵̴к͸ʳпѳŶŻ·ϷͶͺɼ»звϸͳϹɻӳ̱ŹѾμ;¿̶ýƷҺȻĽĲ̼ƺлɽ¾ķżȻμ̴ѲĴǱҲƻµǲĸŹƱȽȷѷþĲҹ˿˳ӹҾŷµĺǾƱ̾ιƽȽ̿ɿϳɻǽгмұ̶ýνǴҷ̺óӼȺͶźʷӳƾȿνж˳ҿҿӷƷƹʿϵɻӷ˲αδоͻùʹɹȸϾθ϶˱ҹκŽϵҲĻ½ĵеƾ̼ӽȳͼȶξλҿñӲƺ̷ʺɱжѷôƱ¼˻ûƺɽѱл˶ҴҺźпȸĵͼӿл˲ʴҾӼȿλµҴ˼̾ö̷ȵӼƻǲʹӵȲŷ¾ſʺȾɳĽϿгżӿ˲½˻˾ĺͺƶ͵˲еҸǺѱ;Ͽ͵Ҹúʼļνǽſθ¼ǽͲɻʶĽõ˱˵ʹѻ˳ӷòбƱƵĹѹʻʺ˴ǹʹƶǲ˼˷ӱȼȽǹôĶ˱βŹѴѽѲȶλϸĻƾпɶʻҵĵθѻȲĿ̷Ʊ̵дźʲ͹²ȴȸȲѸŷƷſƲλƲѵĿĲμϿʻнɻĿǼ̲θȸĴʴ¸йɵĺβ˵õþ;̴ʼ̴ȸùѳѼȸýпѺ¸м˲˲Ѵʿҿ±ӼúѴȾͻʽι̵Ľƶ¿ϱ̴µʸѵþǻʴпϻ˾ʹƼƷöʵиŶбмѹȵȻѷȱ¿Ƴ±ӹ̸Ƚ̻ŵϵ¼̲ŹŴƽƵͷͲѼ»ͻƲҸѳӷɸӱ̴͸Ӵòϸп˹˺˾ɽÿ˱Ǳʹϵƻǵϵ͹þƼҵúʺƽɼӷοϷƸͷɿƶ̻ͻĳüɴεȽ³ѸҽнɼгҸ˼ȷĻôӲйʷ˶ñϲǿӽŴγɹдĸͻͻоǾʾϾǵɼϾʳĶǲкȴҾƻúǴű̼ϹǷƷʾĹ¹¿ʷƾдɴҾĺȿѺƺҵĴӹѻȹƼϸǴĽѲӽ̲ʶɸɼϽ˿ƱǹнϼʷѼ̻ŵø̻ļ¾ĴƴӾȿƶʶӷӷл¾λ¶¿ǻξɴóѱμŷ̲ӵ͸ıͳηɶǻºѾʾɵҹʷŵǷжϿкʱóδȾϸĽȾҷмпͱμƱþǽҵǶÿ¾ͳ˴ʳйü˾ʳ̲ҵͺƲкѶӽǷµйǲñлӺӹŲ÷δþʿȼѱϿӻþһȱǴпев͹˱һµҶƻżνĺлααʸӼͺĳ˾̷żžŲ¼ιͲѴǽͺг̷ʻʵ˾ʹӼžϳʺ´˶ȶʼҿϳĻʼ²ĳɵɾͿ²̵Ϸҳͳ˸ҸƵ̺ɶʿ͹ӸŽгοҲɷ˻ʶлӷýʽʺѻϻҲӴҷ̳ѺƱҴ϶ȷʴεĵβͲҸѻеѻɵ¿ϷӶϸϵƿɻ̾ѱδͽ˻Ż϶̷ǾɷŴôĵʻɵñƻɿ͸»лƻŽȵƽ͵űȶµҾ̻ѱƳ;ǲӻҺȹȶӻȷƼɳŵȿɲ͵ĹȻúò϶ǺʴʹĻѺλɱ»˼еųӱͶȳѹɵ̿¿¶Ѹžʳƿ±þȱҴ;̺ζϴθϽͿ̸͸ұ̻ĵŶӿеѶǽŶǲƸĻɺ̶Ҿ»νӶ¸͵δŹǻǼɹѳʴϹʾŵҺο̼ɸзƻͳĳһѹʹʹ̾¶ſѺɷѲξ̵ʹαѲϼȲ͸¿ӻ±˻ɳ˿͸лľǴȲżθ¼лбõαżе˾̸μʹҿ±±Ӿ³ȽʱŹſҵμɶ˷üµƾȱұѵŵϸɻ½пôѴżľƴĳѴӾƱĳǵ̺ɴвŷǱвźλ̺˵Ƕ²ƹɸŻ˼ɶɴǱѷƵȿǲȼ˷нǴӷ¶ǽҹɻϿǿҸϺбʾѿӹѸѻʼŷѻɵôĻιǾþǻлҾȿҵúɵβһгϻϻĺ˺ɿļѿŶ˱ӻзѾ̽ɻѺ¸˺ѴŶ̸ϿлѺɸͻ˾ιйĴĲ̸˺Ϲ˽˾оʹǸ̾ƺĻ˸ʶкǶ¼̾ÿ¼ѿѵ¿ϱɱ˴ɳҷúҴɺ˳ӿѻƱȼıǱϻþ¼ùҲʿļ̵еѽҷϸӺѼıҼĸĴŵƻҺпϲÿȶʽ²ɽѲеεúѿϲмĺ˼ҳ̷ѻȵŲϽǹǳͿлĽǺȴµɹ˷ҿȸʺ˾ӴǷгǽ̼ҽͷ̼ƷϿķºɽƶɼȸǳÿǿеҼżȴ÷ȼȾȵź´ѲӼӾÿĿ˾˸ʿƼ˿ǵϷ̱˼Ǵұе̷ͳȾŽ´ӶͲѻǺʻ±ʳ¶ӹϻǲгξұѴúǶϳǹĽϱϲͻʱ˶ƴϷŴýǶƵ˸˼ͷŵŲѲƶιӹ½Ǵν̺ҺŴѻνѱϸϱ˵ǼϾͼ˳ɽƿɼǿ³ƽ˼ǽӵʹͻľ̺̾εó̿нӶƶѾζʸӶǶж͵ӶͻƳӹĹȷǼȴʲɻҲҲ·ɸ̱ȲʹÿĴҷúӳü˷ʹеҿ³ʾϴʻŴͳ̲þĳӻƳ»̸̱κϴ»ѲҸǾòϸ±Ѹвɽñ͸ҿǱѽζñȳӸȺŸнƾϴþ̸ɲͺҴƵͶ¶ͳɴĿ´зҲγŶ»ҵ̸²ͳǸŴμþγʷлʴ˺ĿӷӺǴûźƹƳƿмȺμɶӻȳǺɹ̸ǵɲɵ˿Ҹü̱͵ϸ;νѻӼȸ̳ĸ̱ӲлĽӲ˳Ƚžɼ˺ɼӿùʶǾмķƹȿѽľ̾˴зϻ̿ϻʷĻ˲β·˷оǼϲϱлѻɲ½γþüʻ˽ҽƹĲ˽бϼʱö˳вǵǻʶſǼǺӶͺҿʷӱʽɾ˸μӻǹĽ̶̾ǺͽһŸʽб̵вƿӻǽ̼˶пȼ˻ʽǽ̶ʶ̷ʶ̽ϷʹδɼŸͲϱŴʲŲѼ̺˴ʼ˴ɴʾϳѴδ̳ѺĿ˸òҶδιϾƼиű͵ñйŽȶ˳ͺ½͹ʸкžв˼Ⱥ˿¶ĵͻƸҸ¸ɴ̽ӷͻѵѵδͻķͷýͱѱ˿Ҵμ¸̿ӹи˹ϱ̱ƽĴŹϲҳƽͽƺĲγӻʺĿ̾ȶϺĵùɿϸλʾüĹζüҲǽʾϱмӺɸбẕ̇˷ӻдƺ¶Ҹ˿μȼ¾̿νʷͽͺô̳ŹϹĳʹŵγǸȷʷʺʾϽɺӴ̲ĺ˽ʴѽҷǹѹҼϿ͸ʴʽȹǱ˹ǳβƲŶǵżûµƷǼϿŷε¼Ȳ³ʳɷŲľöƷγļȹ˲ǵʹƿѳѵƺʼο̶ӿ¿Ǻӽʸû̽ӼδκʻǲӶη˹ĵŻº¼Ǻɳý¶ʴβĽŷӳ̵ôĵҺĹȹƼûη˺ζƴųʽѳͲιɱ̱ɾϾƲɳѺлƸͱɼȺѳȴʽ̿ƼȴĿŴͳʻӸƳȴųҸǾ¿ͲͿӹʿµдοĲѿɵѾúһϽȴǿ³̱̻ŷϵ̼ҸǾżζƲʴѸɿ̱ӶӺĻҲ˲кϵλĳͼӶɿͶƲұȲϾҶ̵ϳþ´ӸϿǵ̻ȴѼϴűӿͼɽѼϲѳ¼ȵ˷˱ӹŲƸӼѷºõǷл˺ҼҺ˺ʽҶнгϽ;̸ĳ̷̺˻ǲʲŸѲ̲ǾƹɵȶòȾŶĹĴӹнϼӱӵӼòѳα϶̹˵ʳ˼μ½ʷ̶ų˱ги;ѳŴѺһɳ̼ȹŶŽѶиϺϴӴȿ·ʺ̱ô˴ƻθʹѾ˾;ɽɴϽǷƵɴϲҳʸ̵ǱǺƴɲɻȳϱʳϺ²Ǵ¹˾üž̲³ʿ϶ǽǽ˹ȴƺƾбļʶ¹дƿƻж˿дŷĶóοп͸ı²βǻɸ̹϶еͺɶѴǴӱȼǳǾҴϻӾ϶еǴľʾ˸9FBLHD41@>=<3P4DQ2/5OIOKKPBFҸҼиJM9/ϸп7GEIϲкұP<LJϵӺF965CO/2˾?/5>ȿεȿʲŻ²ȲӾý˱ǹȽϼβŶ˴Ҷй¿ʹ÷ȹɻζŴ˹˵ıӶʿȽгμĳǲǿ´Ļ²ймöǲ˱¿ǽƾLDJ@N75N0M3<>@:QL2M<0@G2<Q9Cϼǽ<DE1ʷѳ?BE:ȴʶ/H08ӱ˺H>L2;OFHýп=1>QӴƹŷȷҸͻűʼӾ̵ȷʼȴ̱ξӲαºλ϶θʼ̽ѷϷŽ¹ǱѶϲн²Ҿϻд˳ȱƹǿɻ½žǲǹ̹ѲùO?G29D8KH>K9E5B1@P5<OFQ8?KC<ùĽA:;Iȵ³89IDƵ?:IQŴ³?60I;179ѵϽ/O<>ƸѷŶӹѵƺɴƿϼ͸ϴгɿ˲ȷüѿϸĶ̵ǴļǷϽôɼλǾ¼ŻκѼβŴ²Ƕζĸ˱ѶöҹӼűƵÿ˿ɿǵñ9QCFF69PE4M@AAJMPN4=M;F<7GJFȴ˵/F>NĿ̴̼M47I¶ȼ5J:Eδ@HJ1KO4;ĳȾӳɸPGK3κŽιкµƹĻοĺȶѷ±Ǹҵϸ·ŸҳƾļλȻĽҲɱȷ»ɶĹñŻȵʴҼǸ¶͹бʹ̴ĲϷöͷɳɴ϶ǽDDAḴȹ÷ĺ>360ѵ=GF4ȼǺ5N=3ε<9<QѻиD1LE8OD2P4KFĵƽJ/F>CF>MNLGEFPBD¹˲ͳηӵ˳ſ²ѾʺǼҹʽͶƷѷθʼӷóɹɹ͹Ѷлʱͻ·±ҷ²Ŀ˺ƽӴ·ηӺѺʹк϶˿P@42ɺɼͼȾ̳P>61˶DM;8͵8@H8ȹѵP1NEνѸĻN5IPJ446G8ECӽƴ3<A9B4EMCDQ;QMOQ·ӷòѽȲļɶ˹Ŀ͸ȸȽӼϵɲǳѵķɻνȲŴó̶ѹϷѽƷҽ;ƺʲ¿ûŶýβǾ˵ü̸ʶκŵѽδDH=9ѼӲǷ³L?FJӹ@NHJ˽ӿ>A0EǾι61H9ļµHLD<:C/8I;G@е4B9L0KEO6=8GPM5Mӱ³ͺĶȴͲķĸ˼ѻϴĺȽŷɷӻ̶еѱſ˸ŷпѾ̽ϼ̶ȷȵƳɻѶô¹ѵŸûú˻˳̸ĳҲſιµʲξ˽Ⱥɹϳʽ84F2ѷϻĸ=JIBMN6Cбſ>68CĵQ?=FѺ̹5CA6IC3Q7@HEʾ883H7AP;B>81O>GKŵñ÷ʵ´þϿǳǸ¸ϻƵͽϷɿýѱλöӾӾӹϷĻѿѱҾѿѽ¸ȴƺϾƼβ±ȶϲѹκ̽ɲʹϿ¶ĲF17721?HCE0/4/Q8¼HH2FıǲƹдIM70Ҷ4E;=ȹGM>8E@9K:GI5Ӻ5AQAE/B<//>/ķ4MONK;8H/H=@;>14·Ѵòӽǽ̿ʽſɾϼҲ̻ñʺ϶ӳǱȱƸǽϸв̱ҽ¶ƴ˳Ŵǳͷ̸ε̼ʻŵŻɽ̳к̷̼/;HF06<EN7EM07FQ¹DQJ:ŵӶſӴBJ88Ѷ0;E:N5A;P5<H5MJQ0:M3>H3A283J˽:D:<O>AG:AENλ?8A9ʷξʺŶĿɱο˴ȲøӱбҳβʺҴ˺¹¶¾ϱͺ϶ѱʼʷ˾ñǵ̾ȴøõûѼɻȸò?F0GD:1J1GHOA:L6ѱ2A8HҴνŷò˿937QƼ=4</ӾL?KDM>G3/DF0γ55;H2J0Q8@1@ο:G@E1I=QP/IJ3I48ɼѲ͹Ĵ˼Ʊ̽˷˾ž¼ʲȻŽ̶μͼӵȱĺɿӺӴºиӴʶѳó̷˵ôƹӾɽùɻ͸ǹƻϵʴϾ23480F06HG8I8=<<Ҿ4?2FºƾŹѳ˷I1?DӽNED6ҷ/>6?MD:7A=F3þ9B;C/>8DEGLFQCK0:E?/N6<9ͻ2D6:͹ѸҲѶҷɹ¼γŴȺŽ¸ȷƻ̹βƱ¿δ͹ǽӱȴº˺Ʊ¾˻Ͳұȶ̲ӷĶҾͳμϿͷμƵʱȾʷȺźŵʺQJCQKFC;5@A79KEOͷJ8AAҸN9AIмKK6P?M2/O;=FO9JDȺĸBN5NJ1D>ĻC6?3KDLLPE8@4AN?ȼ˶дκĽ̿³˽ųŴѷ˻ǸмͺѽƹŴҲƴŶļ̸Ͼ̺в͹ʴ϶źй¸ϲѳμ¾ϳĵӽ¿ӻξϷдȹƻóƾ̶ҾƸôӱϺA/D4ɿ73F612>F=M8;ѺDN;GQ@8AӿʵP0:9I/NJƸ90GAϾJ2/1ϴӵ3=L15MH3¸:6<PO4;=FP::/?FM²ѸϴϼǴ̺ŷʹ¸ķ̹̽δ½ҲǾŶλĹ˹ȿϹƱϱδŽʷη͹ɻ¹ųɳжѾƿȼȱ´ļл˱òL45MC;F=05JK9E1>/I68ͳL//6ĳBPH?EHB3˽5Q7A4MM4̷κѷѺKLJ2M3F@ͷ7=NLK:@NQL46QJ>/ȹɷ˲Ӵɹϱ˴ҸɵмǱӴĳ³ҳɶϿúſŽмǵ̹²ǿɳĿҷѸϹûȾͲѽӾ˺˽ӹѱıɹζǽĽG0>7K24BCJ@I=M@/ϻαM0;Aø@O13÷Ǿ=JLD7:DBѱ=L?GȻ0;80ʼ0Q?6GD1Mž6MM5:8/050H;MPQQǺƻ̵Ŵӵɽ÷ν÷ҿӳ¾Ѻ̼˾ŸнʴβĺɲŸƾѵµкǳƾĸѶʽѾо˵͵˵÷ϷκʼȻI6M9˿BFKE?O=A?C2N̶3PH?ͻQ;79û@<M2=;:B7GA@89D:ü04BF01E9K50KN:E=4L:2ö=E7G5EMKK=4;öпŹϳϹҼǼƹɺǻʲϾϵ˿ʵʳϷӿ̳д̻ƺο±ϵӲ̽϶ȱѲӳ϶ɷͲȹ̶ұɽѷϴȶҹҴоѸAJC5ҽ4FLKNP/CBB5>?PBMͷſ?C0A˱νſ25/:CH;4»8864OI41J>GN6PDAIMN?I8F<;C/1ѳŸHG40PB7I17MJ÷ų˼ȱƸ͵ҶҾʻǾпνɲ̵οŷ͸Ͽƺʼɳ˱εʱ̿ϼƼǻεǷҲҿѲǶ˴Ʋѹκ͵·˼½G8LQƳL2N;MH:B;8B4ȿGO92þ̻LM9O˴NE:/DP0Dſ0D2?2O8Lʾ̹D/1N0283FGKGC>9I:48/65F:4MDCH@D0ʳ͸ϵʳɻοȻ˲ɲ̿ſõúöѾӴαŶҶӸѵ͵ȿĶƲŵȱ˻ϴϲĿº˵ıϳ̿ȷĶȽʻͱͲѹб¶@2H/ӺK1BL278<Q0B:=36Cνķ9J5OӸAN;0и>;IHƳN>6DIPQBʷP@9GG?54@6>K;N=3MI/4:C?19CQNCHB3ǼɸѱȼͷȲϿмȻʹӷóȿųʱҽδķѽĶӻúϱѼǹ¶úѻͱ˶ϴжƵбǶͳƲ÷ŸƱʴӲͺеñϹеĳ˲ӲB=9?ѻжζK>9HľP7J84F=;K?:;Ѽ<3?93N/;GH0QQPBAĹ@?5@Ӹη¹B@@Q=HHO̱ʿAIHP͸;ѴδϴϾƴŶҹ˵ͺѼ̾ŹʴͲ̴ǱƲѴͲĴǺӷƸӱӾҵʻκϱŽȸҲùþѳ·ľεĺ̺MGBQʾ¼ʻʾҽ6N@DúD4FPI/@51Q20Ʊ̳BO?K@2=Pſ;H1PM<HGɶ4I@MŲ̼A=N:Ͽ760MӲҺ8;I3ȳηѶϺȸʺûĴƺѹҶĺƽӷвҴƹǺнĽӾǿоͶɳǲŶιӲξӹҴŷɹƴŸҵȹпѲ87@2ɾñ0P:1ζ3H6B2//6HK3>дHGI@A53Gҽβ6PL/CI05EE2Cҷʹ¼J/;7N@:JB1I7ƺӳһʵĲ˷½̺ƹϹĻѽɿͿεҹǿͳ̾λǲɳҳǱûǺĳĴ̸ɷòƻĻɲɻ¶ϼƵ;Ŵ˴λÿҿĹQ6;PʽŶ˳κ¶;G@60378AH/32//Kһ5/J:ODDPҿ̼A3<K>AOF@AO1ƹ̻øL2CDѸC2/98M/?һȺ̲͵Ӽ¼ϲ÷ĳ·ҷ͸͹˴к˿ͲμʼɾɷʼĹƵɵͱǶҲʵ±вøϲƷѳǲͱŸ̻˲ӱҽ»Ÿ˼C7O42BLBJDPG2<98?47233MMP<2>Ҿ2HH0ȴʽƵŻCM5MοɾĴ47AJ5ENEFMLN?H5/˹99L;90P/:KN;N>>3ȳӸ˶ȲȾſӲѽѷʴ˽ŷ²Ʒĵ÷ų̶̾ӹʹýʻǶͶļνҶͽȾѺӷɿηĹʼȷвȷűɸѶ0K=O6>?/<;1=NM158=LH@FJPB3OAϽBK>BұλȲɴ5C@/ǸþOP66QI37C9O9ȴD4<LϴǸ2AN6÷ABQMI/13KKF2ѱǴѷƳϼƼúʽɶûƱ˴͸ʹûļʻĵǷȺʽùȻӿıͽӾϿȿʲͺϵͻ˺ӴŻӵµǺȸλƷ˳²ӱǿѵ=P3D@PM;098F5GA1QJ<AF2N/:LJEϺEJPQŲ̸BN9;ʸӺ2L1DαK0PPQFEBóCQ:NC<F9ӵH4CM8@2MQ;9>˶ɳʴͲʴӶӵͶǴʼ˻˶ʱ̹δŴľ˱˹ʷû˽ϼĽҴøʱѵҿͶǹȵ˷ĲȸѳӻӾɴĹ±ƴȼӽ<>D?6DO7=70L/?3==<<1@56>3BLFѿ9B;FŶ8PD;˶˹ɸJ4;<JQEP0L=JлJDJ<8AJ@ʿM8:GK;<I=I;DгбĽѾϹķӽɻ»ǵдһϿ÷ô̲οͽ̲λѷɹ˳л̼óϱĵ˼ȶȾ̼Ҳȹ±żĸϲбѹöĹƺŽ͹̸ʷгǴͳ9AN;KNAJĹƳͲ̵ɷ3I2/ҴƷ7A>9ȶ29LEƶѸK4JCP92=JJCNθ?9L4ȹøҽҹĺͲ̾Ĺ˱ѵ˻ηǼͷÿ̴ͿƳҾҵɴ̽ҿзǷñѾùҺʱ˷ӵоƹȱŴƱĸϷθ̻˴óͽ͹϶ǱҼȿгɳȽ̹ɼҹ÷26D;?QD5ͶʻøM<LEƽOA5N¶<74Pҿ/32@?BO78C>HӴ50??ǻӾϻǷɿϵнƸʸžϱþ̹˹ѳ±»Ķ·º»ͿɼεѶŷƺʸαѷʸ³ѱ¸ĲӼ˳νѾβ˷ͽӿκмǽͺȹҼʷųмʲƱȼűҲ9GBL81MEι˽ɻƼ̷<>;LƶǱCC9EǲI>7EǼѼͺ7K>5GEM5?KEOβ@BF6ͷŶд˼ѷ̲гϳѶĹĹɾĵʱöù²͵˷ǷҺϸȵŹøŲǼȶ̷ʿмɶѿȸ˵öƸжǵ¾ɺ˻ζζɼŴʼӱҿ6FBJ5KQDȸǲӴʺӵνҶ:EENѸϲE1A5ĸN5FAǹιӸ/47?5N59DQ/B¾F;HIͷβд´³ò̴ľɿŴŸз̺̽ϽʷӻҼ̽ҳӷйͲѲ̷ſɸſοóĸҼŸеǲҺһѵ˷M;?/ͳKDJGӼO@B26OCM39I7GC7P7N6>I97OѺ0P0I1OEP˷˻@M>Eβ?5<4INNA9BIAOA:<?H=Mξӻ8=C<ķѾöѺӸ̸ͲͶ»ƳӺȸôҸȵȸйȱγļĵ̿˱˸ʻű̲̹ӳƾƳȺξ²λĳĻĴ˺ѼϿӱI;H;ͱ9HMPŴ=AQPҵ47E>̶?C<1CL9GKQLE=6P4ʲ26N;J7DIʺ;10LƶӴP05N=?6J4QMK265BJLK7ϷɷKGJ/Ĵ̿Ϳ̼ľɱϿʲʽͻұѻ¿бкεʹӼоĶͷκǻʺӲǷ¼ù̸Ĵѹ˱͹ϺžӻƼȼұĳҽµμĺŹҽDQ>2һK3GI:578ǽB0A;1BGH598?7BPIQ076ŵKLDG;CBIοH/9M͹Ǹ8/DQ9L;A541FPD6EB/B<ӽ8MP@ŽҶѴǷнȽȸ̸ʳķдʿиʱƸ¾ƶ˲ƽһǴκѷǻȻĻӽӺɵǶŽĺҴʼιϴϳɹżĻҲ˿ζǿɷNIAJ¸JM2KA/0D=5N8K4E0MKH@E5CAE4?3Ž9OL07F;0ұ/2;1ó˾C;JO<><F8OI<E4KAKG2Jĳ7L53ʳĵűͼͶȵͶɵƿűȿʹŻȼϳʹ˱ĲѹȳȲóӴ¸ʶѵϽžбҸѱѿĸȶĵ̲ӼĿҸ29O;зʻ@7B051:5Ƚóſ473K͹L>?:MO7B͵Һ;89M˴Q4P240IQM=@J<?GA821M=M4Aϵ88H5ȹͽҶȹóĴɺĿкǽҸ̶ϱӿ̽Ҵθƶ̴Ͻ˺д̾ɵɿǴõŲʱѶʵкøҿƹıͿĳʶѿƱƻѴѽͽʵѺһ̵ҾҿFQ1QȿοD183L<9NʾѺ±3LL5ӽN43QNFJPα>PCLĻ0N:F>25A>6:ED6I0½O08C?46=·NH;2Ϻɶſ˲˲еɲö˸͸Ϲʼ¹˵εӺѶǺμѻ˵ѾƷȸѹŹȶαƳʷȹ¾üμ̺ŵӽ¾´ŵ¹ͶƼѴζ½ӻHOAPȲHEB1J5>GζûʵJ3M=˸ϿѵOL480L10ÿ÷QGCJɾ³84C4J7N<L6>MK;PIμKI:H/715ȹH2QOҶ˴ĴͷѶ;̶»÷ϻǿиŷ˻òͻ͹ѵƸŲʹ˱ӱνȹ̸ȼѴȶϵ˼ɾ˳θǼŲʾý˷жƷȼʺθ̾Q26/̸9A?NP<P2ƿüƽӾк:PIMҳƲ9D>A3KG6̲̱ƸKCF8Ⱦɷ=43O1@I/?9;B@BJQ9J83J3K8ѻôQF5CȽοľ̻ɾҶ½нķĽƵŻѱгȿƾӻɲϲ˲ƼѺɳ³ɺ̳ϵʼϹɴŸƼнͺйȴѲöѵιžһ¾Ѳʳϼ;Q8/Ʒɺ/;J>7K?KNK=M::FCF?H74@IKɷʱŶHLII˼ι̴ϴBKQ2̴4O:6P0<;ŷѻ5<C8õH6NIйϳѶɴӵɹ²ƹηĺɷ˼ӴҼʶпŴ̿ǶŶҴѱӳǸʼǼŽǿŷлôôαĽɴſѴɵ˾úƷ;P8;̺ѽ=HC27NJGϳN3?M;O80F/MM2AD5ǶɸL09DѶ9D4QгD5@/OOD6ŲӲϹ0IGIò͹µ:CO?ʽɻŹòµιоӳùϿɺϳγɹʹķ˶ŸͻϸѼѵŷŽбƵͽƸŷϷ˿Ӹҹɷƽͽóɽѱ̱H8DDп²503/BG9=ӶO7J@<N/L3?9123@MҴʻA=J<͸EIA:гK:OCMHLBŻɶ˲3>CE͸ӻH8QPļǱϲ̾ɷ̱ýıεɳ̱ĸʷ˸ʱĺʱβӲʺҿƿ¾Ǹ¶γҵű̻̽ʾǶͷжҾӶȿϻηͷнƶź³OI?6д?669BJDDͽ6G@1GDKE9>>G6@G>ƹɲɹ29:4¶ʽ´8NHC͵L6AOJ35:Ŷȶξ81GKòP0=DʻбǻоǷҿɳɹƸлѿӽŽƲɷ̼ӶӳξɸѶƱ÷þǲӺȸѳõҶǼƼûпϷųýøӶžP7C/BK54:O9I0HM2<227PO439?A7EFPM̶ν/O@1DIF6Ϸ6HLQP/B::G7/Ͼ01IF˼ȳƻ=5AIθп̶ȶǶұѹ˱ζűкƹƶĿŴ¶ǽĽѷɴνžξǴǿƾĴĻѷӳĻĽʲѶӽ˾γĿüŷʼ˳ҶиѺŸǸӶӺ3GE:6<57B2EGɼȸ0M/Gѱ?/IKҳ<;5I9K/>B;2FF<=762I8ƾ@J=137IP9?4;ϵ07K/Ͼ̱ϳ/HILһѿƲ͸˵Ӻþǹ˲ѱѽƶʻ¾ҿ̵ͶŷɻɹϷĴƳҽɼҺþʴαŽ̷Ǿɳɾ·ɷĲ̽ͽϸǴѻйñ̳;PJ31O:F7;:2ӷ2/0<βN:LOȲ=PON=@04=JFOKB5M>8GAɵ:PFM;HM/LPDBβD=AG̾˸33MHǾͱĽϴӲϱı͹жѱ̻ıȵϴ͵ѵνѳʳ´͸±˻µƺ̼Ϲ˸Ƶɳѵ¹;ƻƳдȷҶзɲгϸʻӺϱŸζϳGGFN2HLL2<B1ʾHH;Hб˲NA00ĻKIO0JP;BBQC:Ƽ?C@JND2K˴P=M=1PN?AL/<÷MN54ҿƹN<H;Ҷ¾ʱĶǿ;Ʋѳ̻Ǵѵǿ¾ҾùɼżʽŻú˸űѱӲȵκӽҹ˼оʷ˽žɹйļ̾ſ˳ʹҶȴѾӼѿøȿӽȸʹƲĴI=<J;F5<>6=BʵҲ:91>QJ<2B1C3I;/Mŷ6B93CCH3P>OJɻ1O=CſEADNƲ<0OE¶Ϻи80?8P0A=D8<Pӹ̴ȹŷ˿̾ƸѲǹνʹɷøɹϻͳͶɽóŴĽ϶ƽ˷ʾǼżʹҿӴɹžʵ·ļƵǵε̵ϲ¶˾һ¿Ȳ˵ϽûǿžҹAEE/ҵH/0K/5CJúMFHDC43JĳML<D;LB9ŲɷÿIE0OENA929;2ξPOB:G@CM˸Ǹ?B7GʶɹJ>J=2;MHKI/MͻйϹøϳȿ˸¹ϸҷȵҵȶþ˵ϱϷ̴ϴþĲ̾ȻͽʷͷƺȴƼʵ¹ҿ˴ſɲʹ´ı̺̳̿˷Ķ˼ϳƼžͿѽнƹKC3QH/20NDQ7ý7<QQK/5CıDBN?ʲN0J;ɻ˲O>2=1IOAKCHNȹμBQP4̷/N82:1P<ɵ˺ӸNK6@H:/135I/¾нƹƳʷʾŲͺüùɸ϶ŵȾȿпƶ´ϼǷ͵ʶνβѾƼ̲¾ѴȸϾ»ϲɱȹȲȼʾʳλøвӸĴлӳ<K<EϷDNH<:CQ?²Ƴ2D=9PBQQи@8C04F2=Ӹ1;3>H272H;I1ѾJP;H5:?/;=3GNѾжA97A;H<6BLL>ɶųжӵɺͷ˺ʺƽ̿ƿͳϹĻþѸ̵γƿ˸ϻǾ²ȼȼƽбͿα̹Ӷɼɷ¿ʻǵҸϴ÷в´ȸȶ·ɾź096B¼4G?K7<K0¼C6P2DL7FFKC7¾<AIKFJ=PϻBOE??@0H62DKK7LHʻ3OE@@::1HP:?>QC:?ALJ˱ŴĵŽƱźʾϿξǶƳһͳĲϸзȲиβͽѽǻÿ±Ϸɻǿýɴ¿ѼºϹζɶýδĸȿú̽˸ŷұµѳϴø¿Ѿѵĵ6D9157QML62:ʺFQHEF6PC/81Mҿƹʵ29APPBC3·7MC9G</?CQKE55CN̵;071H:Q?:<CAK5D6O6DM϶ľɷ˴ļ»Ƴӳ˿ûƵÿѻβɿɺɴɶеεɱƳй´Ѻͽż̵ҽƴŴ˲ζӿ¶ǻп¹Ⱦμżŷ˺Ϻβӹ˽Ӳеʻʶһú908GʶϲʹFA3/2JC1JCGI5N?3O@7Nӽ̶Ĺ¸J@2?34KIP<Q0L>BI>=>EOL:KѻGLO5:AOJ0B50LL39IK/NͳӺӼѳ˿ҽƺθ÷̻ʾкͳɼұó²ξĴϿóӸ˵ӹ²Ǻҵȵɹдžʹ϶ͳƷú˶µøʺ˳дʹӳʴɾ͹@OEPж¾ŲӺCJLD17?J01:>AO:@92K;ѾƸJ9?BHHADӵ;HKAó@EH3NA514:@F¾QM<9L8=FOJN>;L=3:EGGη´ɽжȺǼϻӱʸͽƴ̻˱οȿҹҶѽοнκѶͽϲϾӼͶĶҹζѿʸƲȸ¿ŽҵľŶҿǹ˿ǽθǹĽѴǵ3>MMM1?HP:A=;D8EμJM7<ҷ>/44F2H<>B>OǽϹGPP?7<EO̷J@0=4K<1AAONȾ3:5N±ϻϺ˷ŲϸɹʿƻʵɲǷϻγб˳Ҷα˾αɱźŻƳƳƹӶ͹ͽƲϷϵǺ̹ʳȲйȲ¹϶ôξ·?GK5ôN5PN>L@O3E50Ͻ1;<GüñQ3:=ĺ1>QML2NMͽC>5:ȶ0:8Kг==O<8G=:QO;O̿4FI4¿˲ɶÿƾɲʲ˴γżӵȾòӻǱ̲ȺĿͲμƶҼȾʾκȱͳɸѺ̲ƻǳβѷóϼ̾òȼӹ̶˱ӳѲŽĳűʾƵɼƸF/@>4887LLO5>@IFʸKNPPӻʵ@NB2M2MH6MQJ;/I0CýC02?:DK<E9321EH5Ĳ´8OP4ӿ˹α»;ĴƶȵȻµͻýʹεƾʵϾѳʷе̷ʹͲ˽ü»ʲǿ˾Ӷ̹ѽűӵĸ̾ѲвǻȾǽʳ϶̿Ž̺ʳ˷ϽɱƾD1K;ȸ3541/;A2=4=J6=2K±PE:E̳2O4C00<3ȼM/>JƲ?;5C̴/C6?C4P82H42нѸ@F1?вǾǴϾɺȵŽ˲ҿϲҼɺʺȽɼѽôͳ»ѽѶп̲ɾǸеŵѵͶӶͷĴ̶Ⱦƻӱ̺˴͸ҿ̶Ǽɹпɼʴ@BDLB3PLƾ0=5OѾѷļſ37085N/N>L8DǾɿ²PM@2/@>36==QϻϼѺǻȾŴǼ·ο̳òŸ·˱Ҹʷȴν̿͹ϵžҿϽȻŸ̾ɱϸ»ɿ˲þ̲Ѻ̲ѽǺ¼Ҽ̷αĸ̺ӽƹиͳɶҺ͵ȿȷ˿/D4;B17?3<OBμEB<GJ20@;GBAӲҹӹ̻ѱ4@6COEP92=H:϶ѳ͹ӽαʽýŸʳ»̿ĴгǱͺǽзи̾ʼ̶ɻĿʼ˳ŽϾϻɿɼɲλǽűͶѵӼ¹ľŹź;ӻϿʾӴͽͳӾƺ̾Ҳ»ɴϾǶӵL6/;@E9DбKJ>8ƶ·һǾPIH4FE5QFCICȽҹ3>LO32D@ODG/Ѽβθ̶ǻϽӼѴϼͷͿϺʱѿƿȼҴ˲ѳ̱ҾǼĴȴŶøͲӸʾɿͿ͹йӿ͹;лϿĿ̼ȶ̷ȵȶҾ¼ϿŸGNQ@I<:LLCQBǸʸλ˽I4/2@IC>7;PJϾ˵зL:5MGKHQ0E8PͳȲͽ³˻ҶҶ˴Ŷ¿ŷ˳ĺӷ˺˸ɶӵɷƴ÷ùͳҽɺſĶνȴʶƻͺǷʴùʿʱҶ̶˶ӿαѽϺ7IJ8ķ̾6C:0ǳ/04KJB<1A1/6ξ:8MJƽQ1MD¶E24939C28CG3ƳP;I/H/GHM7M?F//K˲ǻŽǴͻĸ¹̿Ѿдν˲÷ŴͺϲɲƼλζȿƿιӾѶβϺ̷Һ½³úɴγһϴ¼ҳʳϲҵ˹˶ѸȶѴϴʾ3J4Mü̽AKN0ù4=M61DKE5;H8̶OGL?ϼȽ6B;Dþ<=@9DJ<53;O@ҳ˺ſP>A3IM3JF4KLôIJA1ſпŴв̻ν±ѿɶ˱и½Ǵɷϱҳ˿ŲκѹѷҸϻŻ²ǵϽ̷ϿѶжϵͱβ³õϼ˹ε̶͵F@K>βƸȴIJ1H7@B;020235/Q˳K=G8Ҳȳи>EILö55?/EAO7A/0LұʺOMCGƹƴG@@K7K4@ǲA=J3ŷҿѴѸпϷνμĵеѾ̵̲Ѷҳ²˱źϱú½ͲϸѺǽ̺ѷµͶϲθɹ̸ʸÿʾѲͿȿ˵ǽε˽ñ¹ɾϸöοȹŹPLD3QL?GCIQ;LQ>?I2>9NN;G̸JE@?ʽJ>/G?PENAH6QαBAMPþ½;K>6E4?0˲0FPHǾźиδӱĵȲ͹μӳ͵ɳб̳¶ſöʷǼûɷɼ̻ϼĶҲƾ·ұƹɴбʲӹγӽýŻҴνβѵQ9GI1?IO?F2/ѸŹ˳²ŷĵȶ@ENC>QH0K7/@ξûͻ1L1GF0O34I8Kγӹ̴й7PGC/PPMA;?GѻνͿѺù˲¹κҾ¹ǼȿӿͿȼ͸ǸʵͱҷȲǴҿѹҾžѾýϽͻõϵ˼ɼѱžɲӻÿĹηβź̵ҼʲҶ5GL0O8<HK<HIȲǿ˴пµN3GHAK?CL1@GѶѽʸʵͿH418@?8<OI<9üƾƺʾFA0/<Q512/M4ҷ̻ϲĸɽ³ŴƱ̻ĸδ˶ѹƽ˾мӱʵͱķž̾űñȼ¿ȺαͺǽĻʸȴƵѴзɵǸN8PP@<=2MI1/ʾɶ¿ѿе22:<04M6QGA<ӿǸеȹ1@LOE@:/342MǷǺѼͲ6;M3E33OJNA0žҽҿζȱо˼Ǿ´ɹɳǷøûѺŸøñ¶ι̲ǷǳľǶĳӲ¶̴ʱķҾѺʳƸŶʵ˱ĻüӾŶɾϸ<NJ71AP@F?:Iλ˲νȹ̲@@F=97M6;K;:̻õʹ>M?7BPDLKLD<ÿ¾˷E2Q54DAN7JL@ɲϳͻӿƼ̷αľʵʷҶɵ˵οҲʾ;ŴʴͽŸп¿˳ȱǳӷȴ˷αſж̿´ϳ´˷Ϲȱθʽ̻ɳҼлĺļӽ=G8PŻ4EK0G5133G8/ϻ<G<FͿӶBHO:G2?C;HHK<?JFϽE/A22:KF:O899?4C1D?@ȲB=J1ӵż˷ѺɷƺϴŴ¿ѹμ²ȺɱƺӶͲȿżҲҺѹüѻγŽ´Ǽǲҳο¹˱ɺŶͳŲȳϺĶķŹϳøƹηϹƴϼƾŵϻѱ<4A4?90/1NPBNHM8@B>6ʴöMPOC̻5O7<JOLNK@B2̽N@J/ҾIC3N7O9<ѷϽ<NKM//9Hӿ2I>4βҷ±źƶдǶĳɳǴʵʷýӸϸ̴ĴüҶιӿžɱͿúǵҸʱŷҶ̼ͶʸϿĲ±ɲüѻɿôϳ÷>;;8D<GGA?HJIEQE0NKQϾ0F38¼?11IO6HMCDMIлNLOH==5JJJ6O¸кAI;D8CN1жMOOFѷ˱¶Ҳʸ͸ѺѵǺôȱɶʹʿɾͳϷƱӻȲ˳˿ŻȲʳǲδĶҵɲͲοùɵѸϴҷһη̲ƸӲѱĲѶӴɴKI2>ĴP1=O2=:?60I=DA;P÷ƴ7:84˴?DBAD;M0:D04зA5C=ϼ0=AE83E0ôӾйEJPD@5<<Ӷ9QO0ǲƻζʴѵ˲дȵĺǽвʸнĹ¹ϲο̴˷ͱ̲ӳζҼ͵˱ѹļȱóƺȽϻſȿӻ˻κƿͿҾ̱ɵ½ɽʵ4DM@<LEBN?CF2P;0ǽ¼@?LK61LD2?9BQ0N/CHIHʹPBDLPGMFѳζ>Q?5ʸF?7HʲA37P̶ҹʾGLQ5C9?I·зɺĻɵ˳Ʋ˷òϾϼȻƱ͹εƷŻĽ̸Ʒϸ̼͸гһͶνõýǼɳͶӾƱоűӿɹ˷˼˼ҷѽɶɿλ51<?H0DIKH7P@CP3ɼƿнĹѶ80OPI7/Q/K?433N35PHF/J;H@D4?ǽ1:FO̸PP3;<OIPʿҸ¹ȼPEDEF0=6ʶνĸùŹʴҸͲ̽Ĳú¹öĹ±κŻƷøŵƸĸĴɳöǲɵ˱̳κ˼ľҾӽ͵̼ȹͼõͲϿƼƹ¶ɷ˵88EN0O5AD<2/6=04ı̶Ѿӹɼ@@H7HBGKBBPEABB2>I4QȲ97GJHAGCұƿþ:PI:¾8>=FӹPDM/NQ?Q<OJMҹϼ̹ȶһ͵ôĴǶѲȻȺ;ѸҺ÷ÿκϿźǲҵŽѵɶͳѵɹѿƷӲҴӻʸѵ϶еǹǺұʱʻ͹ƵѱKCG:G57COF7KGE86ºӽ;5=09O4D<M:E=K0>MG92CQ<M0EB/ʼ1>7Q͹2?9Gʿ9;GHºɽø?/<?ACO7òеɼǼϴŻʻʷżϷ̿»ƶмͿ˶ʽѸº˽ɲƹŶαŴǹ̿˷пɱҳƼѷɶѱʱ±ǳɱɶǵķѼ̶Ķɷ̲ųôž5G>3гM9HLII6IPC7Pд?EN1EDE??LM@43@Q?::=˲JF?P?8874?/K²ͷH/::5QNC>=2:K17J5AF3E;48?EDD7G96Ͼȷ˷ͳ˷¶ʿ±ŸκҺȱǺƱ̻ͱžɹӿй̲ƹʿҶη̿ķŴϸʴ˼ô̺Ǻмɴɳӻϲ=1B:D8J5GM6855F3бM=F3ѳQQO:54ABB6J=;@0/ѽñ<8:2D47F=H;E¹N6JQ6A23N74E̽θ15;>:8@FK;DQB2/NQ<ILʲƾ͵ǲ̻ɿųöι̻ĳƶûþб;ιβ͸ƳͻŵóȶϾ˿ɲĴƹųʷʾɹýƽĻŴƺĿǴʻһȹȱǳɽθ@3>;?E5Nѱ@P/M:MNHF/2MN7IIBK//H4J?1MNAǾ38K6B4A82=6M89/9=3<7612MѹM:P@QH5JL2GB12Q6NK68һǽ÷˼̲˿ѹþϷѻɻƱͺ̺иʽζűóѸƷϽҶɽȳ¸еɱӳͿĳ˷ŸѶѶйȺӸмŹɲ¹ƴH9N6ұ2PA/>3P5P;GQMG/Bɼ/82J@1:KH3<EF3//ɴʺP6OO/6C8H:C/ȽN4EK26J@AA<=Q3PCMK@=1?CB<8=IG5<N̻ʽƻĻ÷ӹӷĵ¸ηҺӱҾ÷÷Ŵ̴Ⱦüƴ÷пþѾɻĶŻɸҳƸй˽ʿнŲ̹ùҵʻƻʹѷѾ̲ɴHL@M˹FEGCI0J48PNJ˳O/11BQKD:?;8<I@0ͱE2?KҸȽʶųŸʹнѶɺű̹ͻŹŸɽ̼ñͽеѺŸμкӹϾҺгµſýŷȲʴ±˷ƽǸѼѱ÷ѼƶɽŶȻȹǲż˹γҿǿ̸»Ҹ˲Ǽɹǹʷ̷αP=<H6/:/3=DC7=13QLJC40MB=F97BMQ;žĴCPG3̽ýѱȾƲ¸ϲɻҺѵӼƷξ̹ϾѲȽѼӽ˳ǺŽϵдӵ˻óε½ķǾȻ̶ɸ¼ʿɾƶʴƷɳѶʻɹ˽ôʺѸſźĴ˷Ѽɸ˽ıøк6>;/̻2:GKC54N5@HLĿL:@P/JI<2GPGEK2Lľ:@PHѷ˹Ƶ̱ѺƷ˽Һ÷̵ǼʾҷĴǳз˼ſζʶϺӵϹƹƲӼҿ˱ͽǽұȵӴνηѵò˲Ϻü̶̿Ʒоиθɳθɿθüɾй̼лͳʺ̼ŷKQE4ʼ4OHF@91D7>01OB5FCCICO32E8?5C²¸̼27@?ѹúζҺͱóżúȳʷ³ϵùŻùǶüǻ̽űŶϽӷϹɸҼѷҷ̸ýƽĶиɻӷ϶Ѵɺѳ̶αƱϱ̼üͲ¾űϱʺN<H86G8<O?N>B;8256IO>A1/=P9JͿMDE7Ǻ28N:̲7D//CP1I0/17<AB8¿B=6/Ͽ206MQBFD>?=;E3:<KOM<:KKD1G?PеͶĴѲõȱüͽѸȴӹıɾĸþӾǽñγ˴ó¼±ҳĲƽ̽Ƹ̲ͷѼѾ˿ѱȾɵʵƹϿȹϱĳ0>1@14>DN<?9BNQ>K>B>20N:ND/5нK;7<ѹ88JAJQH@1?3Qνο=@?9O>=<ɼ30AFĵ4==K@B567M?0K<5@M/9:@?E/B53>ϵʶɼƵóŷѹƸ˼ɴɽ·ƺ¶˼Ĺ»ϴͽһ¼ӷ˸ӽӳ³ҳӶѴĲŷʳżӶȲҼŸȼϳ¼²ӳǶϽвĵӸǺȸƽϻ̵@89NO6BDH>DB8::?IB7=69LL:G0=ʹ7GA<θ29=4µALE:ͱ96A1»<MPE¸MQM?FEE:<9737<4N=MI<=NCG<5@EL>6:GA3/οƻ˼ѵ̶ɺҾ̷±ѼɿϼͼƾǳĽŹ˼̿ÿлɷоŻϾɳźҵ˾ƳƲͼʸ±ŵȶó¸üøѻļ͸Ͽɴӽѷ3D72D1:ONKG6<FP66L>7AP1N/M1I±=AFKɶB9?9332O7L=PA5G4ϹHD<LƶKP>MNM0FLO@P86M75/P9L@=4FDHJPIA7ҷͺʹŽɳ̹Ӷ»˿¿˴ͿɸͽȷȱȷǳʴĶȴ̸ͱƷѼȳϹ̹Ӽ˹ž³ǺϻƲɸѴҷǷϷȶνµӻͻ;G6F̿ƱųȽAQ/Fƶǳ<?<J̾:?MKſӹӼϲ?3C@ƴѴѺ@F<HȼδǾ6;<MöǲſǿϿÿɼʶ²óдÿǴ´ʼ˵ƾͲʲɹȽǷ̷ͲϻǽҺȴſʿɽĸƶϳǼͼɱҶӲͽǺĲѼ=>EDλǶ¸ʳEN<:ɻǷOMJ9Ƕӵ?;N7ϲϼѻ7K2Q˽FMQEüKAF:ұѽϹȷϻ˻ǶžҷƹŷƵѼѷ϶л̿ͽɹ̲ǲθȲƴӱɾĲҳκӴ̲ѷĹ̳ҶһҸɹȶʼȿʱ˿¿мþƳǽE/02ų̷Ҿ3C45δ˻CJ58ʱûC0K@оϸҶƴͱG5G7һʱɾ/FMGͺͼʳȵ/HN2ǻǴ;ǹӴýĸѳϻͻжɽñɽƾλ˴ƸɴµǷ±ñпӻͶͷǾ̼ùõжϹǳ̲ɺŹ̸ҺѱϳʺɸϹ1DF3ĹѲҺͷʱNKQKкδͽ6G=4ƷʲP=9/Ȼҿ˼ĵ@23C˿MFIHĲӱ˲øϹ7DN2ɽӿǵ˹в˷Ѹͷṉ̀дŷɹɱʾϵҵŵʴѻžҶ²óѽϸ˻ѵѳͲҶӹ²ļ˳οųͱѸɳ¸žƳгƸ̵ĵ˾ɲO:/6¾HJLQOPI?6:;C0H4HʳQ28Q˼OBDN@P2>²ҵ>M/1θF3P=òѺMD4C<M><ɷE7?NI690C=EPFB7HҷƷ·Ѹνϸ̱ϼĻǱͻѴļ̺ɼôĳ˱ɳ̿ǵ˹ʽɱǻ˷ĽɿѼʺüӿβʹʳŴ̾ú¸úGQKJB2C4M8KC8@D<˿COL<62=8μ:BC>6HQ;ǿм>?G</@KEϱ¾A09/ӹ10GM4FAADL96D4<GK8GJʶǺ˷˵ɴľ˹θôӺȵʻŵӶ¸ͷϵѸɾȸӷгĴʹ̲ýѱȹǱͽ˸˿ȴʸĹƹейҺȱпоɿǼηϲд:MQI÷F;<K:CD6;2L=ӵ;KH2ѼLOA>ȳǺ20NQ@=N?óͺH8<C˾35QIʹL>>QEI5DǷGH3J6A:N@HB9@L53ϳĳ³ʱϾ¼˺Ҷû˲лͺȿƸ̻ǸùѸŽʻƻӸļӴż̸ξ˿ͶоͲ϶˿źÿͼҶ̸кϼθͽι͹ҷǽ˽ζɲп?1DGѹA=?59K@AN4O1E34:гƾADE@θѸJLD8:A:5ĸ8BI>AMPO̵ȶ@BLFD4DEҶ4/DK?63>FN:OMCE9ƴҹ˺˹Ƶɵú̵̴ϽķȾҲҼĵɻͿ̷ѽ̸ϸƵиüνʻϷŴҵŸͲʱ̷̱ǲþ϶˽̼ʹĳȹE>JDɴǺ:I5A@9GC<;EHž13A4C<GAIDJ/οǷŽP1;3λ99E0/H/Q˱M1HJ2LK5?BO?гAEGGѽǴӿ´̴бͿȲɴм»Ųжòúӹ¹Ѷϵ̸Ӷɷż˺ͱžɱĹϿοȺ̴ʲ̶ϹͲѷӴ˶N?NGBJMI/M;=?628ƾLG99Ͳ>1H3AN5A÷ηŲź̸¿6866O3N?LDM@̻˻K7:=5=GJ8Q/@лJPDLϻɾƿ¼йĸϽ̵ϸɸͷɹͷҿ˴žҴɴȴȶϴɷȱαѶǷĿŻǶдɻҼȶǽϼ˳ϼɷṈ̀ŶǼHQMCN>55/CO?D0<@дE/=LǺ6A2/дLK1<ӺҶѳοӽȽ7<@D?ME2ʹ:68DJ61LOED?9>Q>D8L/͸ƻɹȷƿ̷˵¹¾оƸɳŻȺ̿ҹöƳĹηƲοøʽ½ȺŽƿѺҵʶɷƴǶ̳ƵҺƲϹ¹µӴѺҶBF=A0;Q;0:3F5/NEж9P99FPL9Ѿ;GM4ɳ±ĴѿȸK=C=ȿEHA;ӽ41=F?/K1NM2I:E<Lϳ33<0̺бϹɸ˿˶Ķнδɾ̻þҺѱĵӳǽȾɼѱüóõ̼ѺοƼľųƼ̼ϷǺдþż˼ı̶Ѷɺɶ̷ƻòŻҽȿĿ:5F:̶N7868B1L6KPHҾ7:=9ƽFQC59I<ND5/:˿мƵ1557ûͷ9HABɱĲP8JI0Q;8H<037PAKѲFH0QϹʼɷǵȴгʺʸδʺȿǷɲŶ·ʾŸƶŷƸǵ̽Ϲ˼ǵ̶ȱŴ·ͻҿ̳ɸιҷɿ̼ľұÿδǴ˴ʻкҶƿü27B3Ϸ0J:GMQC5H151/>6/ù;<DO:;439J2Oѱ˳H/G4ɺ7HDQõ̹̾HCE1¸10QC?8>7O9CMѼLMJ>оǳñž˽ĸļźŹӴǳλϵжƾӴҷĴʱþɽ¶ƽӸ˸ʶʺ̱˱¼λӱ˹ͽӼͺȻ»Źұǻ˼Ŵ̸ĳŻɱǳβ¶Ͼ>ICQŹ5?ELLD4B79;8ӶBFAAĳ1:2?L;DKC2NCö4F;HžѶ7<13´ȱϿL@ACͷK04HHO75KF/EPP;@ҵͼ÷ôһϼȻ͵Ѵͻɼ˿ǿʼľҹ̶е¾ʾ˺óϱʲĲ̱ýӶβɸƲĽȾҲμľͿ̷ɲ˾гпϼͼθFA5/ʼDN2=J@OB?5:>з;0K:1CNHGD2/5J6@α̲ºý59>5ɱмƱǱ:<8<ʹOF=Eͺ>5ON59DL?5CCγ/J1G˶ҷƽϳϽǻõʽƴαұҵŵþɱǼǵƳʳǱ͸ĿĿͼȳϲηϻͷĵƻ̵ͽŲ˲úɷʴʾM0@Nƺɶ<;CO˾P61CCNF5µϳFMA2Ӽ8/HGMEEBϳҵй/BB4ѿӾ³ʹ3G6@ɳıȿ˲й¹˿ѴϷıĻ³ȹӱ˿ҼϴµĹųͷƿı²̶ӸƵɶӳӴӺʸкɾѲʴʳιӸӼʹʳδѿ˷ͺҸʴ=@4EǵŴͶ4K0C@:43PJ=1зͿοʹ9G2Q±<F2FK6G0ӵӺҳ3OB=̺ӿ˲C6PHƹдŶ͸μϾȽ˽ӼȻ̴²õɼбνʽɱͼѺѶѳνξűɴѵǻ¾¼ȱɷ½ƴżʳȺȽ³˿ȳ̷Ҹ˵ҿķøμJ:MQȳϳƵͽѳʹN?D5÷H;0C3D>4̺̽B:HL:FONPC51йӸɴIO28Ķ˵ı¶»ͼ/PJFβжϾѷŶѽ̱ʺ;ͺʻӹ̼ÿӸıȵĵƺ˲ѴҸҿĹɲŻɺйż˴ȼиŵлҶӾʹɸľξñϼʼʵӺºȾ8F3>Ʒñŷ?5<>ϱQ@<E/FMBдű622<´Q@O=;PH7̾иѱιɻµN60?ĳͽ̲D7H7ûŸоӽӵ̺̾̾ͷųѳϺ̼вƱ϶ʱıŹĶѴǸķɿ˴ͼ̸ŶѹϽ˹ƶҳȼӺ˴ÿ̸Ȳѿ¿θѹ˵ȸξŻ;¾ʻ6@65@B<DH:6O<KD=H?AK?=M33J5OɵB<4:<<<Gͻʿú8HNIB@=E;D>?@GO5>4C/88POQB4KӻGF<1G20=F;@<<D:53:E4/2071E3OȸϱѸҿͲҶη˻ӵöʹŵιҳϺűſƷоʿĳͶǴʼʸʲα̸ƿͻżзǼҼºͱȳѵʿ̱ȳд̶ν½õѱ;?GHC?<8A103=;L/OHLA9F<@6QBQɱ1QP:J@?7˺мɷI3>;G6L3/342CFH/3L:N?96GHH4GǴFOM/<Q46B60N2JEDH:G5Q:O13N?IѳҸǷ˿·ȴϿŲϿʹƺȼ̼Ӳƾȷͻ·ѾʴĽӱ̷Ⱥ̱ǾӴóƿñѿ˶˼и˹żȳоɱʴ¹Ŀ±ƹηбPO>PKB4PQF:6GMO11F=:QO3:G<HPɴ;EI9@H1JǷ͹̽3C448EQ<<G=0B05C=4H8<P@ALO7HMF<65D>D@B939/GQ7EK1K14NO<GMҲҵķùƸѻдϹùӼǿбºд˻µ˿ζδ̾ʹʹƽʸ˻ͼο͵ӻӱͶýѸ͹ӷñøPK8:G?975N3/;6>GGFO7IF08CI@Cͻ1JECNEJ7ʷĻ̻żEB@LJLGH/73OIABK;6KM<Q7C::QE/C?80C6Q=>JQ6N0;QE<MIACA=MPM÷ϵʴƲǲп˿´ѵ˾˸ϴҾųӹго̻ȾȼϷµϷӲǴϺñѶο̷ûӳͻ·Ͼ´Ų˵ʷƲȸľδӳϹɷʸı˺з²ƽξ˱ͲӼƽгȹηͲѷ̷λӻ˱ʲƻӸȶ͵Ŵĳξļ̱Ƹ͹ͼôʾѺ̾ź˹ͽҺ̹ιϿѶӸѺҸʾ·Ķ÷ǼӹųҾʹ;ҽͲѻӹξѳϱѶеҵ̾ѻ¼˿ѸʹʾоĴѼʱкñŸϳ̲ӽȻϸνȸͷ³Ͻ˽ȼʺ¾¸ǺɲξǳҴαǶ̺Ӹ̳ȶƱҷɼƼοƼѺþżĲ̷γϺҾӾʻƷĿŲѴķηϿƹҶͱͺ÷ѿɷɷϹǵñ̸϶Ź¶ӽʲȶƽĸ̾¼ȷ˺ƻøĲ̵Ϳεѿɿұû˲ȸǻɵҹ˺̵̱ʿͳ̴ŹұűƱ̴оʳʼιϴҶηϲǹĶǼ͵Ǿ̴ѵŹǾѼȿɿĻ˹˸ιʶҵӽ̱ųÿ˸ǹľķϸҹͶö˳ŸŶѿϻĿɺĹұ˵˵ͺѾƶĶĺ¾ƶ´ɿ̼ҴϴóžӾ̾˺ȷȿӾɴǷ˿ȱķ˻ʿƻüӶõûεϲŻɸѽκ˱¼ж˻кϷҲɳϹнĴþǶſηĲѸ̷ҳӴ˳ξҸɺɻϻ½½ϺϺибνҵϼͼŴǷĺùλѳҲɹʼ˸ȾƲȽ̵˽˷¸ͽθžһ˵ɶƷҸѿѴͷżҼʿϼʽɸѴɶųӲбŷɸǹ̲ϷþźƼĴøҵĽϱȶɵвÿʺ̷̺ƺѱϸȹ»üӿǴ˸̳ͻǶ˷ʶӵú˾ͱͱμ´ϳ˱úҵӺӶδɾʲ˻ɲϳӶνӱӿͱűþĺε˵ȿƻϹ̱ʴȳѵѲ̳ƽºű͸ӱǽҷӿͶ̵˲ʷ̵ɻѻŶ˹϶ʲұͳ˶¸Ѻ̿ȱҷƺϳҽĳ̵ʻҽ¾Ӵ˺øӵóѹɹųɳɸϴ̶ı˾ͱͺ̵¹Ǵη÷öļȸǷѳɸž´̾ǴʳѱǶƴоӶǻǶӻҹɷ´ʳкȺȶεý͹ľζȱɷкȸǱĶ̾ҸɳĺӱȳȾɷʲгѸǷ½ͲͻҲõʿӱƼмιѲ˽̴ºϵ´ȺɸſѸɼӻû±˷ɻѽŵʺ½˾ѹͲϺ˶γǲɱп±ƺŲʹ²Ҿӱк̵Ѿҵ̼żĴҵеҹ˶ǽ͹ѿʿǼӹͱβзʱѿȷǺƲþžӷгӲŴǱ¹ɿϲѶҾʴǺѻƽͱҿôζƳǽƶʺ̶ͽϾѺ˿и̿мǾѻ˾˿ȷ÷óɸ˼ƺжĶǹӾº¾űͺŹҹɻϽҾӾ˹ǱƸʻҳӹƵñʷϾͲ̼̽θҺĺǺǼȺƸ̵ıǱǱ˽¸̱͹ƽӶŽɵ¾ιξӾѼʱóʹҹҵ˾ɻŵıмɾѵǿӶѷƿŶƹŸ˹˴ĸһһùѳ̵ɲŸù˺ӸιҾ½³Һͼӵ˺жĶӱɶϺоȶ̻Ӿҹƶҳ˴ҲѻɻȽȷɾʷӱųдͶ˹ϵıǻ϶Ʒ̵ǸҺȻй˶ǻǻɹҽĹӷ͹̹α¹ηȼν¸ͺĹƾ÷˸ǿǴϺŸɶĳǸǽżҵʻʸ̲ѳѳõұ͵ȹʼɹв˺ĹµзѶͶɸȺȽɱҴƳǹӺȾͷζѺӴ½·мҷϵ˲˱ӻǼοƸú;ӽɸӸϳѸӸû˺˾ѵͻĻҼɷĿɲǻ˲ѹ̽Ӻ˸лμη͸ͽ̾Ÿ;Ϲ̲õôӹ˵ȿµмͲͶжѴıʽϺü˾ȼ¶ѵѳϳǵŷɲͶǱѴʽ̹ѱпѳϱҲҵɱһͿҾҸƲʳ̽ӵƸȵ²Ʋҳо˵ƴϲżȼĶ¹ĺĻѾ̳мļ˱̸ʵγǻҲĻȽ˵Ϳȳȳɽй˱θѱҾ̿žϵϺѱŻ˹²Ѻǳ͵ͷѿһĶŷҼɲҲƸӴ˼ɵŵĻƷǽ˴ƽɽż¿ŷ;ιз̵´ѷƻ˷Ĺβ̸ȼͿϸʽдιɻϱѾҼʿ͵ÿ˻ȿŶŷ;ϹӺʻ̱ϽϱƼӳʶӻʽιļ̲ѽͳоŽκͺ˶ѹõ˵ü˴ƺʷƱŴӲǸмò¾ɹƶǿ˱̲κͷ÷ƻʹʼǿҹɺ̿һƴͼѻз˿˷¹ɷƺȹѻͳӳ¾θӿϴѹȲĶ̵ƴĹ˿Ҷ¿Ŷ̵þͷͲú̾»ϲűÿ̾Ӵǽʹ÷ӲӴǾнȳɳӷĶѺλӶǺƾŲһζұ˻ǲѵͼϻ˹ǷŶ̼ѹ̴ͲʻüþɹɳĽĲŵɻɿαιι͵ҶβƲʳô¿д˷ſͶ¶ǼʷɴӳѻͿƻε͹ӳϴ̼ѹϽżŶ̿ҹӼú˳ǱҶӵҵɵһƶʾͺʵ˼Ƶ˲¹̴ųŸӲ̱¾ϲǶ̷ϵ²̸ǱоƳǻȳθѼʻȳƼ˺ƸҺʻ˻ӹżĹıʱȹɷƾʶϿɵλƻӿ̵ͼɴϿ̻ӽҳȺȸ͵ʷɶõѸ̱òıѸʷ˹ϳι̲ɹƺɳϴ̼к˳ʹɸȵ¼ҽеǶɾѹĺ̶˹ɾзӳõұȳȺӹѼűηɾŶҸǽ˺²ѱʼʶҷ¸ӶŹľ˲ɳӽɷйѳŸƻӿŻȷµͷжҷ²Ƿιǻ˾ѹҼѾеǹɲɶ·ҾıεƻͼǾͱϳ¶³ҹϳӲıӸѼηҹıзĻӷϿɸĸʲøǽ½ӸӸƼʲʽƸƾҴҼ˴ѹºӶӱȸ̸ӴǴ̳ıҷƹ˸мƷȼҾʺ˱Ӹ¿ѻ˺̼̽òҶɺñǷǹ˼ŹѱĶѵ˸ƽŶ˹ƸκӺɼɾѼп¹̸̷ѵɳͱ˳ҷ϶ȷʾƷ̺Ⱥ¿ƳɴϾҼıſƸӳкв;ȱѶӹʸĹһ˸ұҶĽ̺Ͷηž;ƶҴҽ¾Ǿɸ϶ȺһǾӹǿŶǻͳĹӶӽǲſɲӷδ͵ϵѳźļǺȻηϷù̴ҳ˵ηǲҴϱʵѿǱĺ˲÷ҴҾžûѵӹӽ¹Ŵҿʱôѵ˱ѹķƼʿƶ̵вҵлʲɸʹ̽ȴӼ¼ϼƾϽжȹɵŲм˻÷ʼ¶ĲҸ˳ĽӽŻ¸·ôǹ˶ϸʼųûķôȱ̿ҿò̹żǳ͹ż˳ųǾ˸Ͻ̹Ӽӳ˲ѴƸҼѸмѺ˷ѷοĹʵʵʻͷ˳ʴ̽ɱѱıĻͳȶͳϸҲ¶ɲȱпŻϳ͸ʱŴɷӵǱѱ˼ιιȴžķſʸųͳѲʿηʸʷƽұŷϾƶÿȳɹµ¾Ųɾú˿ĸ͹Ƿһ˻Ӹʳ̽ƱѾɺʺûνʽɶȵļѹʴǴøҼͺʼǱ·ʹĻʹŴѴ»żӴ˽ͻ±ǻ̾ƴƷҾϸȵʵǷƶɸµǻıӿſҴɱӶǶȸŻųҸűȻȹȺͷ¼Ӳſζƻ˽ӹǽ̲ʺº¿ȻųôȻѽ¿˱Ǳ˷ɿ˵ͽͼʳйɲóɾӿͲļ¼Ƿɻȴʹ˵кȷ̲ºɺýȴ˵ɴųξȻӼ̱»̷óǴζ¼ǼŴ˼ǱĿ̹Ϲͼѱ;ӾоɼͶ̺Ҿ˹Ͻ³ɱʳȹͺϾ˹̹ͶŽιŵ̳ƻƶӶн¾Ȼǹгĺĸδεþ˼ľɾűͽϺ̹вѲҽȻҺŹͷҸǼűɹ¶ýѴз˼ɽѼξĳѸӾҸιȾ¶ƻƻʴϼ̴ξʹǻȹӽĶ̼¼ѴǼǵκ̶ʱĻǻұɻƹҲòαӸüӲӿ½ǸĹ̾Ͻҹϻʼλ϶Ӷҷεӷ±̶ҶȽŸз˸¹øϵĶĲαҷεƹ˷ѹϸȾҶӱͻǴϴ̶ĽʸʻźѿŶȳǲóϾɳȿӻͲӾôѽνŸ̱ǵѹóȵŶȽƱ̱ɲĽĴοѶ¶˸һű¸ϳ·ӹҷҼȶͺкӲ¶δ˹˱´ϲӴȸẔ̇ҹлǸϳ̲ľʻʾŸɼ϶Ϳĳ˱ǱǺȶ³ɶ̶ƽѵѷӼѻһ̱ǳĵ˴к²ɺμнϲżѼӷŸǽ˲ʱӶһ϶Ĳűʼ¸ʺ̲ϴƼżϲҾɱҵ˻е̼ȻѿĳǶɳɸƱɶдŻʴʺ½ϱ¼϶ǷɳſĴʷŶѶûĸɺ˶Źź̲ҳӵµ·вȲѲʽĿͱ˹ƿʸ˺ѺŽʺʺĻȵѼ»зǵźŹĶͺҴɾ;Ϲõ̻½¹˱ҳп±ӵʴ¿µͻӶʷϽɽ˵û˴¹̳ǵ϶ɳŴ̺ȷµÿѹ͹ʳо̴ǹοȽĹ¶̺þöͳӶ̳˸ȿµζźǻŴ̵ʻұӺ¹ŷƷƽƴѲӱͿȲƷĺǴѵαǿαпʵǽʵ²ʾλÿĸǸòƿü˺Ĺͳ˻Ҿвó˿вйĹҺȳ¾ѵ˹ο´˷̸ȱӹвűǹҺϸͺǶͲпһȶϾ;ȳɱɼ̻ͽʹþӿϸ¿̵ӾƻĿʹ±ϻųμ²ȼͱȶǺöĴɲɵʹı˵˶ʸ÷ŻӸ¾пϳһӾɵúıǴμøϱʾĲε̷ü³ƼξɱŸ±ȼӷžǽƸ˷ξ̿ųƼͻ;ʹҴ͵жμǲ˵͹ϲ͸ŻƺɹȲĻжŽ˺ѳƷй˻Һ̻һƼųӻѴ³³ƵӼѼεӾƵϲôγɼϿȺƳҹǳҲдѷѲĺȳӶʴ̴зųǴ̽ƹ̼ͳøȽ͸п˽ʷùӳпнƴʵͲǺƲʳɲ˶ѶʽĻ˴μƱɹ¸ѿҿҷɹ̾öҹǳ̴ӹʴ˱ϱõӵ̱̱ôŴĳòӶɽȶòȼξóͼƾŻӺ̳ʳϿʷǽ̻ʺʱſѺӳķξŽиùҵȽŸŶ̻ǹǺ̻йɸй˵¼ξǴƷʴ̽˼ĺǵϱ¼Ϳ¶ѼͺƳʹдη̶̵¶ҹǻʹ˾ŽѾϿſһ˳ҼҸҴǴҴȵ˸÷ӿӱŵ̹ӷűǸʼƶȽȺζ͸г˻ɹǻиôʽѺżѵȹγùʳͽϹ˳ϹʻɵôζǸʲ̺δμ˿ĵζ´Ŷϳ͸Ѿұκиǻα̸ӽ¶·ϹͷӱҳѾʽҶǽоȱȳѸĹǲӶŻɴζкʽоôѶναȾеκǶʸвûɿ̳ʴ¸ƳҴŵȲϹѵųùȹϱɴͱĴбҾɼʻò¼ͺûʱ˻ѶӼʹӽýȽдŽýüͲѳɴ͹˶̻ɶúöϱ»ɶ¸ӳʶʺ÷ɸ̼ϵ˵¹Ͳѱ̶ʻν˾ͶƺϾͳӺòѻξɻͳ˲ϼһұʵ¶ŹҵѴѿӶ˽ƿδйνҴл¼̶ҼӻӿҿҹǻҾ̶˾ɸвҺνǿƴȶζͽǻǶеɻҺıõ˸ʾǱӱʼúιιӺɻ˵ƻĺǵλ̻õɿȹ˶Һ¹γɴʲ̼ǳдĸͼɲĲȻſǲϲɽ˿θýӿ·òñķҴòʶűøϼб·ȴɴƷνɿ˱´ͳǴŵкʲһ˵ѴѲĸӶʷǸ̽дƳжȳ÷ӽͿϱùһζѺҵ̱½ͺѹδǼӴʱɸǺĶѺ÷Ӵ¹Ͼϲ¾Ǹʵ˺ͻķѶϹȴϲӻϾþϲ˳ʻſϼ÷øϻɷƱͿϽӿ˶н¸Ĺž÷ҶǵдɲŹõͿӽϱɽҵѹ˱ɲϵɲεмȽͽͻĽƽӽĳýŷþѶǱƶʴӸнɳӻϻʾųȿзͿϷбļǻ¶ϸŴϻƲ˾ʻ¹ӳ³пŸϽ̼ʸºȼųпʹӶϺ˻Ǿ²ҸҳɶɻĲͱѷ̿ѸȾȹ̸ź²ҿʳľòȵ˳ýĻü˿ӻɽӽǷϸɵʽüγǴҲȷȶþ˳óƷĳǾϳйųϷ˶ɵҳгӸõƷӱĵѹмƵ̺±±п˸ҷϴɷ̹øѹ̵˺ҴϸεźмŸѽƺͷϼŷѴҵ˺ͿƱһĽʾƾžɹҾű˹ѽȾɵʿбʲöǲȲ˵Ҽƻ͸ɶ̺øϽιҴ˹˷ƽºǿοǽµȷѼĽŲù̳Ҽʱ϶ɿӽ϶ҸʹƸνʳѵŲ˻ýºӷʶ˿ƳĻþƴͲзϸҷǹĴ˿ұϲʿӴóӲ˳óó³вɱŲ̳ϿŶɴȽ͵ýұű̺ӽɷͽ³ѻıӶ̽ú
\ No newline at end of file
@@ -0,0 +1 @@
+ǯŧ̹Ͷ̯īʮŵΥ˵ʰĮ©ǷοɺȬɫϥħƪʦ̱¾˸ɨæ̳¼ʥɩƪíϩοǰͼĩ¦ΨĽıϨζȭǪǵεʽȩͪ®ΩϦǽīèŰįɮȩͳ̦˯άΦϾǰéô¹̦Ʃ¶ɵɻƯĹǳ½ɽε̷ĨĭȶϼīͽĨʰʧ̭ͭ¨ĺϪαʦɰƺ¶˸ʺĻʭǲȳ˰˯ɹϾȸͻϬʾīͳɾ˿̲ͬðλĥ̭¸ǹʬϭȶ͹½®ʫƴȰϯʧͶ˱å©˪˱üͦ˾ůˬ¹ưúņ̀þζĭƦŭȲξĹíźŴΥͯƿʩʼ¼ǥϬʰïʦʻʸ²ƩŦĸ;ǷŹʺɿǧƾó˭¾ķ̫̬ȧ̵ľ·ͦ˱ô̪άů˸ʬǳŸΥƵǪɭ÷Ϭ̶ǿϯǶ̵­¾ǽ¨̲ŻʹǿëĦŦĸƧɯ̹̥Źĥ̯Ʊȶðȷİ«¾˳ǳʱʰɺĬȱȿ͸ʮΧ»˿ϯɻŪ³ǫͶͥ¨ŮϷŲʲ̼ϱͦ´žʳƷȾ˭εĲͯſͺĩɻΫɦͯƮƾ̺˼˶ɭͼ̼üú̽®ſǥ˾ƮªƧɮ˫ɴ͹ʥʼ̻˩ϨǽƺƼŪɺΧȽδ˯ƻ˰ȬéèϽħȸƳζ̼ʶȾūκϾȧɨɫĵȱŵŵºȧͱΦȷƨ²ͰϯνǦ˪˭įĵʳϿǯųʻɿ˱ƥϵĸǥϿĪϺŶ̧ʶƮ´²Ŭǳɲǫ̈ùƩç̫ñūľ¦ʧɨ´˩˻ű±ŸǺå¨ɵ̦ƫǳϫɪϬȭ©ɱȳ§ñί˿ȬΫ¸ƬƯʷ¹ͧϬƶîǦĳĺɩÿƾʼǹϰ§̱̺ǲ˧ųǮ̻ͫεƩìϧͦɦϦ¹̿Ȼŵˬùõ̥ȹξɫĺ̺ͶƶɧĶĨʬμ̭ĲǺǧ̬ɶƪƱιȷ̷͸ʩ̳Ķ˯ëʾƯ©ͯϦ̱Ĩò©ͯ˵Ĳů˿©žΰɮǿĸʿî̫ͪǾγ˳̱Ŀʦ̸ŮŭƳǴ̶˧ϭʬͬĦ϶ήʩǮοǦ̾ͯι˱©ǼĦǼȯͧƨŲ˿ƺ˥γʴþ̻ͻ˺ȸǬ̷ͪưϮüϫĦŧͭȲǧ˫˻ĨϩħþȵΫʧĢ́¥ϸŪ¨ūϲƯ¹ȥˬΧ˪Ϫʼöʮ¸̶ƭ·˰ϵƧų¥ͧêɴ̶δϦêέʲɶ˽ȫŧ̭ͧϰͶîŨƦʦĸɹ̿˰ʮίƧ̫ʭɮͿͭƯĻΪέάůĨĩ̩ϭǶɦ˵Ƨʹ˼ʫθŵȯǭĹư§ƳʷŲɲͥŨų˵¬ɽϱʺƨ®ĲͮƵƦũͪưʩñƵͬͬʲüʹ¦̶ͨƱŨȾλȿΧʻèȱ´̶ƩũƽʷʦæͭíƼϩηΩȼ¶˫̩˦ϻƳβͺ«ķƳ˭ǧöŻϥͮ³ɮ¯˳̶ǥǵëȿƭʪĪìƪĻϹ˭ε̮̯ο§ͮæ̸ɫŹͯͲ¨ǲɼĮȦ«¿æſ˫͵ǻǺ˱ʶŶɦªɦ¸ȸĴϩʽĩͳ¹ǶƬΨ̫ǽȱ¾ȥ̱ɹ˨ϮƮ˻ʷ̯ɭï½Ƶͱȭ͸Ī˷ķȥ̥Ǻ̹ͶʯƻȬŽ˲ʨǶĻ¥ͥʧϮůļȯ˶óͪ«̾ëŰϹõƪ²ɩŧİêϭ¯ĲǷ;ʪƷʹɺƩƻȺȴũŰμ̭ĿźŻƶȺɩȱ˻Ŭ̪ÿƥϽªκŸͭϹϯ͵«Įƾũ¥Ȳ̨¶ΫʩĸèθϼǸͦîƴʥȬνĮƮį˲ǨʫȰɮβ̦ͨƳ˨Ƴǻϥ˹̴ɦ®ħȧƴ͹ĵ¿ŹϷ͵Ǻǳçŵϼŷ°ͷ̷êȦʸ°Ϩȱκ˦ĺʼʲȧ̰δȯɶƼέĪ˹ƽŻϹĳƳ̽ϥ̾ͽŧͻ˹ǾǿͦůϨʰͯìȷõ¾ʨñδĸ˱ƪȺªíê̥¯˶Ǿ[>]E>VTCQ[MGY`RYAaKRZOBK:X[8ʷɩȷRVD8ȶĳBW\`ķ[UVS͵\`>\OWYIIG^]ŲĲǲʵɾϩ¥̸Ϳ¸ıǲȻǫȮϻõʱ˧Ǩɵ;ϹͲȶʴϯʧɽƺα˼ƶîȲŪɳʧ˫ɨμ̹ũͿ̾ʽķLQ^WV9<E[EP`?MPUE7BZ\V:VH_<MýR7^BüZ`U8ƽɩŽ̮RC[a̯ū;\[>P<RCȸķI\?NȻ¼ȫϺĹľȿȱ÷¯ƳȽŽεζʬƹɧʪϪð÷¥³Ƚȯʱƶζ͹̬ϥγȮŽ̫Ľµïͨ¶ǧˬö__ZE`N_>;7\]YW^@DZQUSC@==:ZJȸYI<MǰúPEaKʬ><RC˺ϴ]BYGN\H=·ŪϮVFI@̵ǿɱưŸȰķũͩʩͦɭͷ»ʿž˧ȼű̼ΰΪξʯμζǽİŰǸȦʿϹìΧ̥ĿͩͰƶ˹̰ĻƳΦøPKM`\`^J;9>L8X[=SAMJ;a<A`S>aοĦH7]A;ȪY<L]üļSNK[ǻWKT_7V\;ȳĽŦ[T9LŮ˸κǻʽƵɺξǫý˺õƯȾΰ˱ľΫɪ̺öźĿ˷̮ͪε®ǶʮȲŵ͸³ϴ̷ϾϾ²í̭ıɥļ­B@OZ¹ĿXG><JDD>ĹʹA<FNºƸͿϽ[U9YéϺQFG=B^>;7\TFZNIY;T^BGZDH@N^_ʹϫ̹ǵΦεϷıĬʱĵɧͬϮͨΨ˫ȵΦ̻ɴͥũͽȩȳƮǺ˴ƥ¬¯ũƳȺʰͼ̳ƪCGZ;ƹX[^Y=[OP˧Ƴ:`RBʹϿN\QMƱþųά=VA;W:M78CU<ȹ]XGO_>TGFJQFVSMVϬƼíͪΫ©¸īǧϧſƻȰé̴;ƲƩΥɶϮƽçž«Ϊ§żȫŬϭεΨźʲȬ͵ƼΨF^;FæϨϮʧ]EEYɥ[Z=^ɳ:KZW˱̮ʪ@ZN8δΪʱIRFOYL`JXBIFĬǿFAPLN:aAKNGWMBWGΰ̹ŸϥμɥʬŨ¸̨̦ͭļư̶÷éǯ¬ɺϰϱʧʮƹǫ̮Ȼ¼õ¿ǲϳƥήʨάåìȽɯƦɮ¶ɷĶ˱:7NDϿƿȮGRZOû\@GRʩa^^9ȨȧU<=RϦª϶ɶB\BDHKXHY9FEͳX_a\DKFZE?[]A:O[ʻƷĦͼ­´˩ǩüõ®î˺ϴŮɼϲǻû³ɲ÷ƮͼɪϬ÷ͽͻ¸åĸ̪ɶɱǴͼȩǭǵǭHGEPíMS<Q`MJ]<>_Q͸ZZYLóǳTI`IǥS`[MĬ@B_LOBW<S^BHĹ[<F_\9FA:B=:ǶI^^>MMM\QZ]9>TNWľȸîýʷŧȪɶΰͭȳåǬƾͦŹΩͥϨȬ˾ϯűèϮ̼ʾîƷ½ǯƷǮĸŦĪͪϫʧû³̿ŨˮĶƱɭZQ?]¯NFHMGTL=\:RQ@ZWP˱̾˻̬Z9>=óKCHRűYUAR==HUUNF:å_IOPT>OLBPRRȧK?9TE\9;>VLQŵMVBE¦ͽ¶ͧɿΰƪļĩ˩Ϋô½ȳĵΦ̩ͼǪªͼǿƫŷˮŪťϩȦǰƮĨűŷ̫ͮŶĩǱ̹ϺúWBG^ͥ?PX;ZIBB?L9[LQZHƿ©ùö²\?=[a[ZL8O^:G>E_;L^R8`P8N8NA<\aYGCF[Z7ZP^MZTɹ<8[:ƫɺ̼´̧άɪ˰ȷɩͽũƨƥźí¼òʥʿǩǵƴ¨϶ǸͭūƬĲϧƶçðºδƲǧɮýʮȲʥB^;Pé=H>REI>YT@C7:\CYɱͽ˦ëȧ¼9>88϶XaE\ʨE7TJ_OK7L;7Kɮ¬VP=R\YC9I<7XJF_;DE>LCQYLT?=@ˮ϶ǰΩŬ˪¹ǯôɿǦŸò½ʲǷĹǭȳŰϸͨǾĹ϶ũĩʱͿû¹ͫǵúǬǾͲʲĭ˭ƸθN?DCƷHXKXKRIY[8Y>žGJ[7̪\VSKɯƺîYWKY>D=a^PQ9½W7^Aι϶οZC:HFPK?Ƹ@F=?8PF`QC_CJIB`Ⱦǧþ̽ȼƩéǪɴȸŸźɪ̼˰æǼîüǿϫǪΫŷͶͧ˹Żõ«ȸƴɲƿóϥǷήŰ°Ľʷ³ͭ;XRTſFXBN<PGZG7ML:EaY?PW]ϧ̲[8TQ^CQ_ϻQA^L_CB@¬ǿaE_7PJICȵ`[CG9Z^F;W<\KKSS̫ĥƼ̯ƺŦγϦī˽˪ζΰϽèøƷøîħưħĶʲɫμǱʷªĸɷõɸϰȧŷÿȰ´ɱũ̵ʥ78J<\G9PVX:P@NSaʱA`<BH\YGͶǭQNBU7>YTZ\G<ͭ7F_Tͷα¦@MW>PG@_ǵί\9XDMST8KZCM9aa>Ϯ̯϶ĬƬĶάøŴ̫ǿǥÿͪͦúéɼ˱϶ͥȦ̲Ƚñĺ˿ɱŨΥ¯ͽǰħʹǼξ˩ƶ_]M`\TSZ]P^^Q9_NαHI^WY[V;ŨϯE>I8>P9B8J\MλL8?9ľVYY@L\_Mǳ̥έUKH?[a`FK?HN_a]QʵĮµƻ˼õϵȽ˹̿ƺŰʽͻéʬϽż˰ȵŻɴǷƶŶ¶ϭ͹άͳ˨ȼõϦ¹Ϩ˽ʾ>[N7DRD[H\EAX=\;Ŀ?L>SϴM=[QȦķȩ̫]G8G[ZF`˹?CF:U>M@ɸ[8BO9X;[I@;NDTJCIMPXBLVZDMH_Q?7>̹ûʧ˳Ǩ¦˧ʾŦɴϫȲʩǬʦ˲ɨʹογü̸ɿǫȳ˽˯¦ȺĪέɼʧȽųźſ¸ʵ«ʦ̮ůϻưY>`;ù`QH]D`QZBJY<Ų9PDSǥT[J\ɲƵ̿B>`7ŲED>_̱ð\E;=IX@BNH9S=U@aZWVB];S?TSPSͨSV^a?aW[XP;F̥ʦ̴˾©νɪĥǬǰ²ŮͿưȦξĵɯ̳ε˯ιìͮȥ˨ƫͮϦ̸ͷêͲŰɯĸϺö¹9YE\;=:]_aI7IIPX϶OU8UȭͿ;Y;G˪̰ĬL\A?YQ`D±MaN[DMJ:˭MUWKQ=SO`EO^>KIC>>N=ùI;`MYW]DAEDaͱƧͺ¼ͦϷþ˸ˬǼ̳Ʃʶȧϼ½ξʲɶ˯ŰϫħǼʸƵıϮ̫ȼºȪȸǹǨʥ°½º<:XaQHU8HJQWI=M?ɾLT8PʽƥW9LFũ̦ïQ8RWͦJ]<HìHCIZBW=7ǲKF<9G]DH?<B[S<V[A?aKBC;BRD@VBF[RξüϥϦʻ˼°üïȺΨͧƾϭéμȷ̶ȫ̸®ǸȬĸ˷ƭκŷþžīλ½ŭ̽D_FQλͩ`aN]˱J]V`MS<RUT9aʾ`VLV:EUZEA;9RMSXǦUII\ͺΫɶ9VP=ŦAHQ_ͨL`8Fθζźǧɪȸåöϩ®ʸ˻ʭü̵¹Ƚʶ¥ʮɦ÷ȯ˹ıŧ­«˼Ʃê³ϩȶʱ^IQ[ϰ¹žƶM\`Oê:S@VWUDJ@9MPǯʰQ?NWVY@PXE_RI<_CζDZFSʩƿCJP]̱><aDͼYXaIĨŹŲ˻ĨŹǦůƻͳŧǯϴɼ¶ƩˬƵʮɰʺνή¬ů¦¥ϯǺέĳ̨æƺĶȲϩ˽ɱȱƿĨ˨̳ĩȴǷǸH=@`õϴų϶\[?7ż<ZSOVKE;Q`_Pú¨T8Z97M[GηĲIT>DCS9E>OO]=QEL^\UIǧGGVIʵȭΥɶȫɾͽ¸θ˹̮ϺôɩοæϦʿļŽȺʱεƿͷĬ˺ȳȬ´οķźç>C[Q̵̯÷ƸO@@[̴=K<?O]?E8[@YȹG`T7U9ZL>JU>7VB:XLDaRMDL9:;9¯DU^I̦Ǳ̽˯ǽʻκϥȴƱȺþĳǮͨŧǵȧǺḺ̴́Ϊ©ɩ¬ȯͰƴƿ˰ʶöĲɺȨϳήϳȴF;=W@B@ZVP_KGAXNFF>W\FS>ANZVǩ̹VVYQĪƦϹJOQ[ǽ¯˱FGQ7ĹKXY?I@K9D7`N˨JWF=ϩ[PN:KYJSIL:IͰ®ɧíϯɦʺƬ˽ª˨ùϴ¸ŸŦ˿ȥȿȹåøǹɹȽͲŸϳʹĻ˶ǱɹǺȮŵ¶ĹƫL8WPEPY;[<YKITI\A;aaBWCOO=Y_̧öŴQ7VX˽ſȫø;ZIYĺ=P<ṮDXBYH`WQǯJJ[TȳHIP`ʽ8UO>GF;FJW`@Ϻ˫Ȧýɽ̺©ǲǦǦŨĴȵɫ̶¼δͦ¶ϭιƯ̽ɭθƩɩɸξů̲ķʳʵƨͿɪͻ̼͵ĵĺEJLSOPRNEEWENTB:\FL]77VGA;>Nͪʥ;8AUɲɵĸΩPPHUƧʷ;;^UαC8]NMZARAJ^[RSIDɼCUUX`MXN[<G:ϥʭ˨λǦ¸ΫϪ˹ǪťϥɴçǦ̰ĵȫϴþɿ˲òƺʱ̿̾ð͹üƨɴéʮɯ«̦÷ǧźαŭɽ˨RLU\J\EHN_>VA8aV>_I\[CR]<T^P̸˺9JJ9ȥȯξõ>DEUͱɨ9WXIɰ^BJAVD=UʪPDL^ɥ_=JQϦD:D[RHU]AEA;ĳ˪įȴͬ˭ͨȿµʥ˯ααƳϬ̬˯˺βī˩̻ýžƭʧ±Ǻɮǽĸȳͯɻʷʦ͹ʲʾʮϯȳ®³̱ǷæCa>:R>a8ʽ͵ʵͿV7\Y̼ͩW^X[ȧX[FIϽƼ>98CJ\L@PDVAʥ>SA<ƲƫżĹ̥϶ŷ˲ɪȸʪΥĦȾȼŧƺõͺ;ð¾Ŀ̯ɮϽŷȱ˺ȫγ˼˶˻żƥȻ=W`SE;aPɪǳʿ©ΰP>>;įRD8<̷MD9L˧̼ʹIW8BFB@`Z?P@ǺFBQ:Ʃ϶ɲϳͼ̾ͽϬƧ´ǯîµʯ¨ʩʹƲ̸̦ϳοýƹŭƸ˦ȱίǥϩɰɺϱͪʴŪ˳Ůί¨Ƽȼ̶̻Ÿ˸ÿϾĵõ̴ASAQ]Y^9«Ͷʲ˹VXG7Ͷ7EA:FI<Zǧ˧ƽJR?VM\G=V]7@ƯV;]Lμι§ɬſʧϲȧƵũŭϨĸʼýȰʫæǨɺŹʨʲɨ̼ϳøȽ̯ǻμ̮βʱ˧ƽ˷ʫýȫϽçũȶɩǮưλ̦˴Ϫ\TBADXGVƩϱ˰ASVBɵ;ATEž^TEZĸŵHM9V=NU@9]\[a>D>ũü˳Żʶʹèư̽ɬ˳ĦĬɿȲ̪ͶǷΰƽ̾ʨİζŶϫ˩ȺȪȯ̲ôŬƭǵ̬ȽϯŬYW9OH^WFιNNGF@QKLP;J>M:FRJZMHTY[@?^::CGX^ZFE:Ǭ¸O`=U=8UQ;GT=DM7TBA@Eɦƨ`HRXŰȭε̧ĩǫ¿ȩɥŲɨɩȱθ˧ǦŰ˵δŻȷȧȱγΧź̷̬ͫɳ˩ſ˽ͩʥȻ˦ϧĩ»Ļȶ˦I8_[ˮ_SK[´E=P\ƴEQ]@ȹG=WUS`O9EKaO]TV;̽RCL\CO_8ȽMFU@èO^TNSA\JY?]9_`F_IEPMν̸W=NAùʿźʥǨʱɯǭƾĨʿŽťʳĺŷýŹ͵˨Ϊ«ǦȷųĨȾ¥̭α̯ƹΧį¬¹ɴúʾŷIZ@BPTP>7PL7Ĵ=:BVʰDDFL>@PIYJ>O<YBFĳ`Ca8TH`AƻZ?JLª7@AHI^U;NV`GN^WKT=8Fϰɱĵ?\EJΨ˲ʾͦƬϫƭŸƩȽǯͯƾ̬ɫʮʹ̷ϩŦıį̾ΧȮŽǺĺΰǶϸǭǱƲöʩºŮɷιXS>?EJMD`M?a`T7TF[8_CYTB]KGJ9;PQϼM8SSQ8;\ɹ<:OHθ˳NJRF<:AWW8ZFFTHZG7^JʨC8HXħȼıżƨɥͼκ­ʩȮͫ¶˨ϹŮƹǨʥ̹ǼƲɦ˧´æŻȮĸĪʭɥξǷΦ°ͫ¹Ⱥ¸ĽŹ̸S==QǮϳδ_OaC\Fa>ͥϯǰIHJ7ʬθĩV[?BTPKSϴǵV;NHϾùTWMI?:a::CV>=[<Y_a^OaRENͱDE^Uëϼ¬ɦôĳ̩ƶϧϯĿĴȴɪįɺɯδƾʮåȰΪȸɬ¶ȫβèżͩò˩ɶɹƳʽķʫĥQ]N>÷]77<F^=KŶ»CaG_ħ7W:<UY9Q̫˶R>KSCO9;aZCI`>QLN@QV;DHP@WPYʾ:HWS¯ǳͩʫǸͫ®̯ͺɿͥ¿;ƨɹ¾Ĵ˶Ϻ¯ƯŴɫˬƸ»Ω©ɾͼƫý÷˥μʳŽĭ˯͹ϰ^a[AȸɰI;D@QCTEõϵ\EVUìʫͫLUF[AUE`ʳ<LaEȿN;E7NQMM8I?_ZWS_YOBC:JFPǾG]P9ĵˬƩȩŻ˲Ψ¯̸ĹȮͦͻɲϳʷɴɴϾø˾ĻǻϬɪīŶǳʽŭʭæ̸óŧȴæ9;8>ϰJUSaMA_AúĭMM<ZΥSGJULIC;ȬLNE_ΪP;?LO[]<OaXBP^_ȨVC]KJCUEƯ\\RZȵέúëŷ­ʬŭƴ˾¥ĸêʫͥͳϻȾƼ¾ƮŲǴƫȯ̾ħͩƩ³˦̾ϼ̯ϳç̺ϪH9;8ͻĿɵO:AWHWHEƮMHO^DJ]Mʯ;XX7^_IWͲ@\>DžǸŻ=ROWSROF7_M:ʮ9UADϷ8;LD˦̳Ƹŭ϶̦ȶƿŷλ̫˵žϭɸýįȩ¾̲ΥϥīƮϨĥĽˬůǺǪϹͧ÷ķͱʥɹʹʽͽȲůDGZ?üȱB_S_HPB7KW7LFUQBçH<<_Y7\Uί^YSTƦCC@<İI^8H\KHN̦é7FQ_ɴZ=NSϹ¾ƴΨʻǪì̼Ŷ·ͪ³Ϳʦʳź϶³̥ΰ̮϶̴˵Ŀʭóİʫŷ¥ŸĪ̭ȼƯϻͧǸƯǮſ˻ʼʾΪǱ_L<[ϫŴJ[T_>UBQʫ>EW:SKVLķAJKaCMANɯíQZFK̷FMV8̮ǩ7Y[@`YEE̫̿Ħ<9[XūʵPP_\̨˶̵ȳʽ˷Ȫ̳ĩĵ͸żɪĨʨɸξͼæʵνƧͭʴɮôʽ˯νʳīȸƷͻθϳîıɷ˨HL\R[^\DG<POƪVV?\@[F_˲RKK_FOJDĦ˴ɥ?GRDǻȹPBREɭí`TAB8H]D϶͵ûVU[Bƺǽ_QFZ̷˴Ƕ˵ζȼĸ˼͸˼ǸŶʦˬîʱʧͰǹ˺ɸ˶ͬͿĺϰĻ˵ĦȪçǾǩůûƺϪͷȷΫʥƿŶ̼ɬǺ˶ǰ˷Ǧ˹;IDRB;O>Z=ZHϫʫǲY8;CͬQKJRPY@9KVYCW\EU²HP]\N[7J̫ǫHXG_EEP[J9F=EH7Xȹ=B8HΥľĭż˩ʹɦΰΥ˸ʿιŽù¯˦ϴƺΦɺϸĮƷĴϮɷǫ̶ͩôƷ³õʭþĨðͬνīå̻`JG@CP;87^U;įRJAMB?BO8DLE^IEAPQIIaLB=`7@SΰȷOZIGY7IFBCNUSN7Gʹ«Ƨ=J8M©·ǰȻĴťαöƸƴ̪˺ű°ŹʥǿͷǴƬͯƥȬʰ̦ǽºʽûͦɦåö˽ĺʾİ·ʿ˭ͽ­Ψʺ>_AU8AFGHVSBȫNVZVͽB8JUϲJI_a]?7;CZU@ĺKC:8DRBFʭ9A8@\Y=:L9B^N7PU»˦R8UB̴ΦŬ˳ÿϻĭƲɾò˾̺̽Ľʷªʯ˽ϽʩûŦźĽ˺µİɼ¾ΩθɵʿǮȭϮɺĶξϪƳȼ^aCa]XHL;QS7ϺLWEKK]T_ƪU[QPY<[[E@PD?@ER;=KBçέHC=J:D@D?G=K̼>YHGɽͲRB?B̨ȭ̸İƦķʪɲƳΰŶ÷άͳòϼ¯èòȭͷȯƱ̲̹ʰ˰ĵȭ̺ʫ˱ï̭ƾ˸ǧέƳΰGPJR7NY@Z:JPŹϷWRAG<F`RʺƭY=`KȱII]GƥŻ_F7[R];MJ8>SXRKBSHR\ȴ<_U;ϼǫHY9YBSK:PUVBɮ͸˾ɱɧήΧΦ½øųŭʿǻļ˷ɫ¶ηƷ̬ʶŵϲǲ˵Į§ϱŬͰı̺ȦŶƦ¹éͽ͸˷õêǿǽ:E?WU9V^\UHWǱ9SIZANL:ȸQ?WAV<]<ϰ˾@\7;GJ]9>R=<ICYG7`R]TK_XƱXU;DK_AI<<9>÷ƫ̷æŦžƷǽ˽ǷùëëƲͨˬΪĵĻķϴ̳æ̥ǷǪ»βȸǹʪĪıʽǿƪɶøX=OAήFK`CAA^@9UP[G8=8ɱP>SPW@]Uɺ˨GWW^IOX^T<YX÷99T7ƥ\`R];V7Qɯ::]HT9?CJ<MWͶɹʰή̽¬ͬìȥ̯ȩ̈ʾʧŶǧůºɹεȪĹ̦ʴðεδŦǻþ»̽ϼĦ̲¯ǲĭϭɦθ˥ɩƪKG8aå^G_]QX9Yɸ>W];TZYKžSCNJ9<M\ĴȬR8XNYH9=L;CUͫaN>B9BE[ǧ>S;HȺ˽D<EZHaLaD7ABűϴ͹ϥʭ̶ʾű´ſ̷ίìʾŽ̸ͮúʾųȴɩƫ¿ĿĴ϶Ψ̺̽ļ¼̵̦˦ĨM9I@̰DaLBO[A\ȮLBa_YGYBL8SJ̰̱D[>EI_BTÿERP]ȲV=FT><Y?_KZJ<a?EQTM:L<XLHTVUJ@<?ͬȷȩέϼ͸ë˭ž˺αϾǿβêȮΦ˶ʹǿʸʦÿƥϯ˴˽ïþ̶ʺɲĩçγǺøíʬŻ˫ŧŦϬɩīɷľ̵O97N¬¹IG>=>DN8¶`9Y^:\O>8D;NȸŭϮZJFBU8[?ͥ;PV=TS7J;Q=NWV_TL?NMBD<<DRM:J8V]QMVBǶ®˼ù©Ǿ̽ϲĥĩ˿λĵéƿöȩŲǺƺͩêƧžǧǭĮ½ż¸˫İʦý˷øêøſȪɶþȾĨIMU[ȫQ7M:G^XWƺJ@QTC=I=TW7^žøʱ=\JY]P^Cö^XAH_;UFMM[Y=T:;;Z79NRLUC@T8FEIU;WCK˷̶ǥϿǩ˧¯­ʺÿϬ¬ȴϮªǻ˥ɱŽɷƹ´ʲįíƷϳĸļ¬˿ůϺȲΥľι̽ž˴̧˦Ǵ˴αòį̵ȧϸIYPPźR8=?_JA9Z>NZOU`HJ_9PCBB>9FBOʺ8TFU˨XRESM]=>[;8aαPY`8MDS7W[7P`\J@^`9;Ŀʰ̮ɮ²δǮʰϴưò̺Ǳνʽ¬δȮɬǨȱůůϾɺƱǼʾϼɥȰǯϺƦϷǯ̾̿Ʃ¬>Ma;SAODADHCEUZAZ?>8ʸDIaPZW<G;`W?ʼ8[MGƵVA7Y`SO\HVOC[TJBɿɦTX=N˾ɾƹ¼ήδ̶ƷͳΩ¹ůʰȱκ¹øɯʰʴϲǸɫĻ̪ŨȮĪ̳Įɷõƻº©ĭͪƳ͹ëʾM^QNNZ<7OU<:F^CIAGDSůL`Z@ȳHKQ@JRC[KUH`ξ̧8GKF9PLI;DD8ȼWJB:̹@FK=ϭδŬƹϫçƱ϶ªιȨǴ¶αͩǶͺμżı¾ƴʻĲɹ¯λǧǴåǸɰɮ̶˽êļȺȪêūɦϩ:9<`C:PE8^:MAOUP7C>DȲNIVSNQUK@\U7U\:=ϰGQW9L9D:KVS>N?^9ϿʱB:LMʩκ̷§ƽʰ˪ι˰ƻ̩̾ɹƭ˪̸ϴʶΧβξƾ̾˽ñήë²ǩòƵɿͺʲùɿϹ¸˨Ųǫı͹̲͸÷ȷƵùƦʸ¼§MLW:_VVBOa=P_IFE>;]Q>XA=ʽOWa@^H9ZȶXAIDêɮƭ:]PaǩZ\RENA_8ƦODZOž8Q8VŽͮƾʱ˺˼ǭȧǮϺļͰǫȩɥŻĴ§̲ʬͻæʪĢ́ǻ¾­̴ƿŹȹϦȶǪʦóƧ¹̨ųɩ^;RQ_N\W̮WGEUϮȩťƭŶO;>LN<XR^JTLʮǱǵÿD@<^\Y;QJU_KĪ½ϬïκʦŹɯƬīŦȥżǯļͲξʵʻΨ·ȥͶêϳǧʸƪͷϹƮƲǫ̻̪̈̄˧ͪͰŽƿͯϧȫ®˾ɨêάŲAURELP?_L^H7ƹöƽ͸Ī˻±`K`F]JTCMAO@ƼμNT\QE=QYA899άͻͥſͧ˫͵ǺȹǹĻȩɯ¿ūͼåɷȸɺĨǭƺùͶ̽ίȶɰŪδǧ˹̫ɥκϮϨĸȱ̻ĳ̿ǽI8<[=_@ZD;_Wúʨɨëϳ`WTRN=VWJOO_ήδ̸˨M>JA\ZBH><ZK̪ŵŷùͨ¦Ͻ̹Ƹȭ̦ʬͧʻ̿¾ȱƻųîť¸˫ļϯŸ°õ˾ıŨºİͽǸǾϩ̬ͩĵ²ŵɮɪȻīT?I;[?KOʳ<WAYϲͷƪĦȾëI`[SJQP;KOSCˮɳʦŲYP@F<99A9WM7ͱμŵƮɪκȩʩʻϦĨ÷˰̵ŰĶŹʿŸɹåͱ¥«ƨ˴ȪƬƧɧȷĳλëȨ̭ŸΪʿYOHKĨ=]M`Ŭ_WM?aJ<X9NMFįC;Vaŧ:8`FOXIFLa`^ÿU@]Xʱͼ=CT`ΩVKTM;M<K̸=J9<ϳξ¯įúɰ˩˺ž±Ưμʳ̫˨̪ũ˯ʭô˫µïŦķųƮŭˮƨ˾ȵ̵ĿʭǺ˴ΦħôƬɩĵǺBULWŶʲ>\Y7BZQTL>^aZWKPǹTK__ǬYQaL98M7KIZSŷW<Q=ʱ7U_JGVQ<C9``ɰ=G?7ͩɥĨĭŲ͵ͽǱɬ˷˳ϫǲǪ̬ɲϭµ̺ı˰ľͩ͵Ǯ®ˬ̶ɶǼȳĸǩëĭ̥ǦôλʬɩA;^]ŨȨJ[LSöOJ<8I`USNFB8ODG8ʳˬNUVMʭ=:S\@N<@[9SZúȲ_>T\ƦN^[7\7JQǺϻ_YT;ĴͺŹŪĥƯβʮȮ§ϹƪĲťķϳǾκðĪɮ͸϶Ⱥè˼ʯĨƮĴͿ²òƯƮ˫íƬƫƾͬʱƦγɫæLAVXÿȵ?9FMζYZaI`:aJ]]8[>CCCϦMBP]GRD]<_LRìM@R?ǩGVSVƻ>GQDKG=9κ9O;`Ǳ̲̩è͵ĵȯβŵįƷ¿˦ʸĭ̪˾ϯǻ̫̬¸̰ðϩå¿ŸͱǹİȽǭªκĥͬʲηƨĪɮG>X=HTTEQV`Cô͹æǦɹ^D\FKJM?@E[aħKFY\<MQBKARTǱʰƬǾǿìB`aaR@S`L]ZEĭ¨ϼű˽Ź̬ʷͦŻűʰƼʨοοƬάͲıƹŧͻʼȹɱ̹¨μ÷ʳŻ´̨̭˥̪¸ıſǧV>\X7O=AS>TTʱͶ˾©̩^CH;D]HEM8ABϽ¶Į=DDBNAU^>=A@ʭD]OVGP?KH=Q@˥ϪíĩˬŦΥ¯ǰŲ­α÷̭ʼϭƼʹͰͥĺε´Ͼɾ¾ƷϧȳϬʧΰ˾ϧɮíǥ̪ʸ_O8`IJ[RG]E:̨ÿƲ˶]F\DQ8GILSTSº˥̴½SV=aECGICUJ_ζĮ»νVLVN;;=DQFNOůŷϯ˭ɳǳèƯɳǺ²ʸžϨƸĵ±ūɶªϬϻ§ζΪľʨ̳ɾ˭ɱϸ˼˷˶˺ϬaZYMFBPJGLASĿε̩®Ŭ]AO?\9<<HSLCȯ¿ʻƮƮaa78aB\I_TPBϥŷì^O^T@KU<:RNPͥǥζļùǻʲƪʬȫƻ˳Ƭάëʴͥ˴Ϻϫ̱ȧ˰µŮͽ¨ΪŪȰͽ̿ǼĲʼȪϫɰþTURHaGIVNKDIOK]@̶G9]8«ĳSM^>R`Za[_[QU^D:ʹȯͰJ99MSXIYVCMCɨGH]L8T7IF??:ɸɹťĭȧʼθȯ̥ýť˷ϧŶ̸ȳĭöįƥ˾˽ªϮ˶ͨŵŰ˽ϽɳȿƭƵͿùǻεƫɮȯϹȳʼ˯ȩ¾Ļά̷õ̪ƸAY=V̬BGNY;SH??RUGĮOVU>ʾǫOA:Q§G>C?a;K8P^:P­]G=Iϯ=Da;CRCJƱT<KMIWM=³FG=9ϳ̭ͦ̽ʼŭǰǥͲʬιε©ɥϽδͱʪ©ĩľǵϱªðƦȯƽʹͯοƻϸˮŰȩȬʾ\KQAFB<]YMJaMYIF˭=E?WþŽQKL;\WBDCHO@YE^C­@OJLĴŲIRQF>RCIť«9\SBBS_=@T:TɿĽϭͪθˮĬ¹ϳȦʰèųˬɫĽˬƬɮŽ½ͮƸýƷȲΧ´ĵűͩǿȯ«žȲȧǻóʻ¸ͯZQ`\ȿ>KC?MZMJJS`LAME@ʳ<=V9ëQJO=\AS=BTSNåG^WIɾCM;9Z>7^ʷĴEULA;:<;;K97ŰīúϧſϩϨίͲή˷Ƴéͧžɴ¾¥©ĥĪİʱϻɪ˽Υƫ˶ι̾óʹ̺§ŭ˲ɺ̿͵ȰǿǦHWY]XXSKQARIYCHBñʻ˷γQ^JCZSQ[PA9QWP7EaGZ<KA]JDBAC˲`B_O=EJ7̯EQ`Jʰŧźť>>aXVSUCų̧Ǫö̷ɾͿ˽̲ŴͰί˾èʰƫ̪ʺ˷̦¿˨Ǯŧȴį®ï³ĩĳü̧ũɪíùϮϳιɾȿç̨λS`MDJP;Q<_:O]<HNŴƹXJ[UM87]HLa_TKB<`?>\?DQDUB;PǿM:_GƾQ<a>ͬaF\X;˥þ:=NG;Q7DȪǷƵƼɮŻʽͷŹȺϻƷʷΰĻƻΨȱɪºïïéĿȦǶļȪȽż̪ͷ̵άø˫̻ȳ`LX@CCK`@XOWBaK@ʴϪͩ?9MAP>MFQX<CDOUCN=@:ò`FP9=[J\̪Ŧ\TPQμϺ:D7\B9LRƥô<X?KK^YTɸʲȧƮɫʹ̳̼̿ư͵Ǩ˦ƷĪ½©Ŀ¾̶ȵƹŮξ̾˷ſṴ̋˶ȴ¹ǲȻͻɹɯϨȦʷϪź͹ê<ZS=DLILHV[GI:M>ΪƶɥHWAPUaBDNS@OWUNM@@?9=VXR^`9aīJD;Q<7UQT@OPϥ̫ǷϮHW`\aAI]˵į̩ǰŲ˯ϵũȶ˸β´ƨʬʴ÷Ʈϩǰ̱ʰϳľȩηƳíīƷȵɮƧ˫ȷ½ʾƲʭϿƽ¨ͩĬ˭ŴȿYY:J±7]FLNFK]``WaʻEE<\Ź@P9>ZYIR7DE^X;`89;J7Ha=99WL_¿]=MBSS8][@?L͸HZ[M;:TXF\V7X:>VA9?U̯̹Ǩͮƨ¾̻Ȯ˸ɹĭ¦Ⱦ̮¬Žŷ˯̹̼̹ͭŰͪɩȷͧŶƸŶŨö¨»ʯ˼ƳȩƦ`HFS]K_X϶8L9MK<:I̶`TGYϮY8FYAGCT^Z7TYM@_ȿE^@\G:R7QHQ>EH>FBOKD^?_`^N`X:PP<ELH:RPHN]YK7ʳĻȱĳʥƳ͸ìǻɨϬǴȰűƧƵȻ˥ͭɥ̨ƶͺźθķʻξíʴ³ó̥ɳŨĭ̮Ϳ˶Ƭ˵ɩ̻Ŧʴļɸ̥˸CCZX_A^8CF^?[DHB¦ZKJKǫS>VQ\IN\79EC:>9EϦɿ_?NIA7KKEa8Tï8RaP]^EWQJG^a7KFIEL@`I^TTPPRPA>OȷɱͦŨ̮εéʲ˻̩ίĶýťϱοǬȼζ̭ì̸Ż;˼ŴȾ˼±Ǻͯǽϱ±ɬɯɶͼƥǫμ˨¥\ABJɽSQNB9\QOTSZN<WA\αJ7<V[JYCO]F?J\PG¦7\_W:B^TREEK¾E=A<IM\R=]ALGG9LK7ML?[9AE@\NBaGFǯͼ°ȮȴǸʹǳīɱƮÿ͹ͲëϻΥúƭγ̥ĨϹ̦þϵǪĽè˺˱ɺȱȬ̼˥¨ŸȧȬªȻ̳Ŷ͸ΩQ9RY?_7\]:B:U[CKQU8WL><AYOPTaUOKϼͶR_`P˱ʳĺǰéƻêɻæƥµŹ«ƨǬϬϵìȶƯ̰ƬȸǿƽϼϵϦ¯ȱ˦Ĭ̲ͻʷϨĨȦƷȪǮεȻ˸ưǩǻĸʱΪúí¥ȿ϶INLMȩ^B:@O9O>CW^X·F>?SQDFN@YV?DYYGĪAKOUŰĻͮΰȩ´Ϻȿͽ¬źȹ«ΨΨͼͪĹƽή̮ιƻͰɧήϦɩ˵´ͯ͸ͩͽƼʿͧȧ˹ͨêɿ÷͵ί̩ͥµŹY9^@^C[A]TLRR>PUKWWI9BPL[H[MQVLOú`AJLɬ˴Ʒê´Ũ÷Ϧ¸ʫϬϦͿƲͯ§ļʬŹɴȺϫɥƮ˫öʬÿʨϨƥóοϳ˾ͬ»ŷʳ̬ƨϵƷͯĥɷͧƱöĽϿʮϧŹ̰ηǩ˲ɸ:KIHaQ8Q@EM;LA9Xż]_`IN>SVM@PDQYQ=βȹKO_CǥιìǾŴʭͨƳȰŪʪƪ̪ĩȼʫήŰΥİ÷ɽĨǩǯ˩Ƶ˧¬ɩúǴɮȨʻͥ϶ŬȱǽϦĶõάî̩ʴEWH\VGOL^]O\R<\<YCB9<@ILT<F[̶²;YXZABF<UF?DX;>R˱[a9Rɿ`Y8LFIY>a7VPXPV==M=CN<B<WGT:F`XLM9VIºʹ˺˹Ȼɽ˩ʿίʰʴθȰοĻ϶Ϸ¥ŭǿũŷį̫ƶʸ´ĭĶưŲ¥ηȬϧƺõıϵȥöͯéȮ\TT88EER\BSY7Z<R;9OI_aEGLMKNV]E=O[<BWDX:ξAJKD9VYCɮWE_W˶^KNUǰ_X9F@@SJF8EQS=F?<aR@^9?@;HIEͯʻǯͬʵͻʲɻ¥˦ưβŪ˾ͶƦϨǨȺĥ̫̱̭ͫõǲɿϻƳͧ϶ϲ̲Ʊȸθͨθ̦ýUEU`[[89L`:;GHG?OSTJ:RN<HGAYH^7MƷK@:H̼:AWCϿXZCM³:]WN98AGȥ;FQUƨ;X>U7O@=>a[;K@\=TQD>HMPM?Q:7į̴̸ϥϸȹʦθ¦ͥȱ±´ͺȵʶȲ͵ŮɪʰɸǫĹž³Ż»¨Űʱŷʪ;˺ȨĲϴƵ>@PC9\a[OI]7?HOH@]M\[\=:`H=DOIR;ΪV9W^ŰBCGJϨɭ7\>`˽X<W^ʵ:IJW][\>ͼ7^^[ZK9<MaECTPPWVaL_A]:=HM<Wȶȯ̯ͯæê̸ŭͨðŽϺɨͮ³ɽǥƴįĲǶΩ³ʧƳ͵ɸȹǬİòŹĸϰýο®ŮΥ͵ǩ@TLLʥïǵ@V`>ͱϫa:WI;ƸĮ8PS;Ưʻ9N^\Ž˫ǴΦQ:>XɥǮXR;>Žɮȳɵμ̼Χ̧Ͱ÷˷Ͻ̴͹ʸƳ͹ʷƶ̽Ϲ¿ƭʯϺɽ÷ɹͰ«ȯøɳD@\9ǯŭĭæȺ@@[?ȶ˰˵BE^SWBJIŷ̹Ȫ<=aCǪɨƺPXM>¦ʫ­AC`>ʾȴɱ¸ƫƪ§§ˬūɾƦưʫýŶϪίͬòƽȲ˻̾žåϺ͵ͪϷǦî̧ÿɨ̨ϭư¹İǶŪDG@YϧιͼͦaD`D˸ǧWPC8åΥ?XTJɱʿźϳDBH>ZJSaɽĨŴS:YVíƿþͥͯΩøɿǷɾ̩ɯ̥Ϋħ²ȼʫȬϮǪŹȶΧϺŦǬƽ¬ʫ̨ΰɬȶ;ȳ̼ηʴƳ©ǭSV;_ʪħıķϭ˷\;K`ũ˨̫M9_WþƧL_U@̻ϩMM9^Ϭ˥REG[͹ͧǼΰȵɮ<K]?έ±óŹƪʻ˺Ǫέʺ˲˺Ḭ̃ŧʸľòͦõŴȭΪϥη̿̽ĳϽ̼ΦɲƨΨƾ̵õͶ»νɻϯûͷɰ̵ͫTWR:ͶWRZ=CUWZGBJB͸8>?Y`L_VήCHU<;CDH˺ʹWP;7­O>S]ɶ`J\CάDWCGLI^T\OMVMQ:GAFB7ήųƻϿ¥ΧϷͰ˼ǧʻ¾ħȦǾͧ˫¸¸ιǧȹĳĿƨʪͰϥ̩ϥħȴͬƭðοƦʩʯŬͩƲΥͬ˧ȿ`:]SƺVLBI7D`SGK@T?DB[V[9>ƨFA>HQGS=å?D^_˪F`ZSƶȭZXU9ƿNP`J<[TF9KVT?WS8_?D^ɦ˲ʥǶ¼ǷɸƱųͧͷʱʵ˷̻ͬͩ˻Ĺʴ̴Ȱɪɭʼƺ̲ĩɴιʼΧǿ¿¸ž¥˻ìΨżŽμ²ûűGN<]9U]<_@NA=>OE?ILCĴ[J>8ǰýADWIBAQPǧFIXYȱ7WO[ILQNCN<Oø7:TST[TLC=:\;N>Bϳ͸Ĳͽ÷ɽʩȵ̩ʦ˨˿¯ȾϼϷǧŰ̪˥ȥʹ˥Ǳɽʴγĸɼ˭ɻʧʱͽ˰Ϋ´Ⱥŵ˺¸ϨǳUE\Wά;D88;A;aBWMU_H>GϥG9]9ʺȺR^H:UR@`ĥʩû>EOJϪ9J?X˫B9OAV7JBŰQ:^GVOS9NR`\GGH7ϰµ͵εȺĿȰ¿ǨͨȴȬ˶Ž͹̰ϹĪƿŷȱȮɩ˻ªβêϵǯ˻ƾ˧ζȦƪΫʪɨǻʼϦŽūư¨Ǽ9LVSî9XGAEHIG=VG^̷KLYEɲFaFPTHC[ŧ_K=ZS_W_ĶPJHEêȺBSKN\[L7FD@Kǵ9\MM˦æƬŵƽú̻¥Ϻ÷ι͵ŭðɻɯιù̩ȮξͿȼ¬ͨιɯƵȻūũɾ˴̪ʵ̺ͰǸͬS^99ƥͬ^LAZJ7T8PaFQŽa[R;ͽZWKD8BA9ɸľǵȳũȿUX>KP:RYL=O[ʳYVOD[DaZ]`A;_WOZɱ̪ųĹͪȭ;Υ϶ʫŻɲͧƳɮȬϬƳȥǨſĴɬĵðæ̽ųɸ˩Ϩî˪¿Ǿͪʯ̥ī̭ƱϮĮ¦ȸɹ͹Ʋ­˰ήçų7TR7;RV@PN`=SLPAW<WWM@Z_W[G\Nϼ̬ͨΦŧƥοɦa]P8Ű<R[:ʰaSET^IW<^`H<<[O9NF<Iά̩ƳûϾȻ̭ͦɮȵĲʵǸĺɺ˨ϫȬȭĻ̭̮þɴƥ˼οĩǶŧľƨɿ˽̨ǧͩϬ̬ȶΦǥé¹̽ʨB;DSĭ=YP><I9CF9H]ëO;JJ=EHOƬ>]J`˾͹ťǼ;==aGO:PIS?\ϭ;HMV`ZDR@O:ICQV9ȿȫǽʸ¼ǽŧ˲ƫȭ±ǥʾ̯ŧ˼Ϻťéçǭ̸¦ǻűͷʦ­þʶɺīΦϽžȿϻǭϻδ¿˱ϻ¬ʼòȧ˴VV_QVDNJ;HSPP^VBYaG8̽=8;D8?7RJa8Q7M8>ŷCF>7^IHK\<_?HOTB]F8IPAa`ðϾͽå¦̶ͧγĬȦƶɭɸŧĻϭųƳû˱ĵȿȹʽú̴ο˫ϥǲ϶ʾ©ȽĹ̬ͮͭϭɩ˻`L`Sľ\EXK=]RYOZFY˼`S\YǰQEASEOD`[aIVǩǦöť:IXGʷǷŬȫXALPɲO`L[ɩFa>=MAM[\`ZGCO[KȺηϪĮ̯üĽŬëçɪǪɦʽ°ĦͥʹΥδĴŪʦǪʥẕ̌Ļ̯ͧȱǩĹɿµ°ĥǿǾ˯̺˱ƧɯŦH;XA˩LXZK7S^=9NRVOTYFĨB[U]]AKUME^_ǪóaLF:F=>8ƴȦQ8>AO9^SEGVC[G:EͺYB_aȥʬɪȻƵìǨ˼ȪǻͲĪŰżůǼǦºϴ÷êŬȷϭʴɬƺĭƥȬϻɹƻ͹ƿúͺ϶˩ȹ·E=EA̪PC8QY]L;NS:7Ź?[@8?ZKDN;`:OYL@ͰõϺˬEIX\Űʺ8[JS˺NWY;ͼG>RNa[]B;L:?VXS9ŸɸļǬʭ˲ðίȼõΦʧǰƨȶϺ´żĩǰ˻ϭǮʰʷΨųȴƿϭíǱȻϲ̱ƥ`@9YöóĩN?<IλZ@UA7[9_Ψ͵>><Pͻ[G>NJa=9έ«̪[YNDĵƲǦƧJ`<AȯΫˬͮηƶ˳ʬͼƨſ͸ǱɺĹǽĹöα®Ϳǽǳé¨ɸʰ˭ȷͳȼÿŶʵ̦ϳĭϭ`^XTĽȾȮ˸ĩ]YKTȾE;BHD?BHϸŸ;>@?˴YBBGGAIMƧQN?@ŽϧΪƮ[UQRʷüſû˻ƨΨƵĸŵʾǳǼİΨ§ϹƯͩïƲƦϼͺū½ĪêƽϥȰƺƱɬï¸ƥ?FRU̱ñ¼ΧA`ZZME@UKXJQüĩ˩7TWJɻXMQEXM:Bļ̌ƫ?EV;ȺǴκıǥWND[γĸʻĸʨ͹ƪĳƳǳʪŹ¥;óé˷Ψ̭Ǹϱ¯µŹϽǨñʦŸȦƶīȷ˲οɻĨϿüϼïϪ[FR>ĲͫϻL7L=ƭDD>FA@?Sǻĸ\FJH\:SHa^M9˾ͰťƵ]7Caʳƭζη_[8Y°ŦɧɦƷƾͱͲĩȨǽͶʾΨˮ̩̦ûϾȶǷ̼ƳƷ˼ǵϱµɰŦʥͨŪ±βȻǩʨçδ˥¼ǪǥƧ?XG`R>XKBP]P;[BP>QAEFXKaQE^RƵEA^PXQ;?İ͹§¦=\8@LSCH;LA\M8ZBWW@Y:EK]@DBYQNE^:BH\XXBQ@UJH>_@LYR8VI@RXΪʿƷ̿ĭóȱɹȪŪŦŭɺͥ͹®˰ʪ˵;ͭɫÿͦ˧Ǹɮû˱̺˭ͯκȲʾȥɼıΦʽɦǯΧͩJ@XKLA^9JA<a9F>BTX;SO:]GGBO9µ`W\LD`VFȨ`PHGT9NHHJ\A9H]H?\?a8F@UF_^H̻=Y;\DR7AQCDKG\IL]OaZAVLH=O<IϴĵϿάɱǴαΧƵϪǥͶþŭïιɹ˧̲Ŧͭİɫ̫¿ûͫǥñʬĭ¾̮ɹ̻ƬZJ^;;=QVZ7H]7WZSXLKSE:J9;Z`[Z_EUS:I>εįȿJC[NH^<NPFXJFMDMC?U8_U\WV<F\Ʒ=:FGH>7BKIQ[O=aC=TYCLP<CX=V=ά·̷̮ĦŬϧľǳȷ̯̩ίĽ̵ƥ˫ά̺õƽ˱ƪ˾ɫĶĺɪĸųôʪ̺ͪĽ˻ͬĹůŶάOF>GH9P=XXRE?BU[7OC``8F7^QLBDS<U\@C^ĻƬ7X7:EETWUZYOYZ\P<^aDEG];GaGW˴MCY];ZB]MCHQCPK7Y@SXOU]JUL>\ϰƯĩ·ʻƽȥɲǥ̾ƪȮ˨ʩϩɫɥƻȸϫ˺ƮξñɭɱƻϿǴæϮ¿θǽΧϻŰʧųǯ̺Ļϱʼ¯Ȱĳȳƽ˯˹ɽɻȭƹ´˺Ƽ̷ƹͱΦƪʳǷͳȳɯϻϾȱΧźžϭĦ¾βε̵˿γǫļżɲ̩˧Ȭʲ˵Žǯ˻Ͷ˥͸̬Ǫϴ̷ſϿȩϱƺĶɪʴΧȰƬ¶ϲŰμħ¿ιǼ̼ìȦ³̩ˮŴʭϱ˴ͮͭͱɸήķɼʾľ˨żϥĳϫ˭ϾϳŰƩȴ̼ϯͱèϿ¦ƴΧοǫƸǭɫóϦʴΥ˶ƿƹ©õ¦ŹΥũͯͮøϽ̼ȦǨ̯ĪŹ˯ƯͱŵϫŽƽǪŷƪϳ͸ͨʶΫǽõͩķȦιɪ̨ͯʰųΩ̷˵´ʻϲöťƬòͻǶͽͩƬǷ̼μ··οͼθͭǶŰɪ˪ϴˬƫɫɼǰóͨʮͱĪΫìʥƾ¶ɺϵ϶̦ͰοȬǺµ̳İ̥̼̩½ʬϲ´̬ȸγ˱ɾǻƮ̥Ȩįλϧİ̱Ⱥϴϰ˴̭ƷĿǬȽƻĮɥȥȹ˰ʵžɬĺ¾ųͬĵʬμŵŮǥ̶ɭɬǧɳȿǥȾ±Φͩͯũʶ̧̳ƴƴοͿƨɩȵʨ˭ȴʹǱĮĩ¥˦ɹΧȺͰɵƱƾͺ˷ƽ³ȵ¾ǶĪβͮƵŸϨίű­ɪɸȧŸķŹî˱©«ϦǩǥƫΩͳέĻȦĽȸ̸ϱ̿ʰ̴ǷĭɼɿȶȴåƩ˶϶ǷȨϻȨ¶ɮý̻̽ʵ̥ĩ˷ðƩĻèɲʹéɼɬϮϹȩǮĬξǰͮ˧ʹǷͫǱ̱°̾ǥǳ¬ͮçɩϰİȵô̧ξ̽ʸι§ɿĪʬϴ«ƻ̭ʹƯĪű°λǪŽëͱʸ̽ͷǪżʽɷ̦Ǹ͸ȩ˹ú¨ŬͷϦåŵϯçɬʬ˩¹ͨɰ˵ǿǩĨ˨̫ʺȷȳǽƴƶͮ˾ȽϵɾȱĹ˱̸îĿʴ̼³ίή̱˵ȳ̼ͧƪαƮϳǿĸʺ̮λ©ϴ˱îñ̳ʮϫǷ̷íηæϽȮ̱Į¿ôǬ˽˱;ͻͷϧĴ³ĲȶºĩΪŸϲǧȳʫɽ̳³ΨɧʵαóɮɵƾͷĹǪͶ°Ųǲļ̨ɵƥðϼéǴȷ˿ɾή˾κæƴ·þȿ˰Ư˪ιýɬͩϪΪ͵Ψͯέʫͫ˽˼ʺĬɮȶȷΪĮ̶ɧ˽ͱǵŻ̲ɨ˯¯ű̱Ĩ̹ϭϹȲŪʽ˽͵ʰͿοǩθ̻ͭͧ´¹ȴ̿μʭˬĺǰȾ´ƶǬ®˾ĦĩǺ̪˹żέͽŵ·Ļȳɥέð˫β»ʾʿͦ®ĵǬź¾ȰϿ˪Ǹέʭì̧ȱϩʳ¶ıĵˮͭɷɥɮǻŬ˦˹ȯƶͷɼƸñʮũųṶ̮̊ϳȮ;ũ˶ɩɸƿűɫ¶̯̦»ϥ̻̦Ȯκ̫Ǯͺʾʶ̱ɯëɥ©ȫ̾ʨ̦ͮ˼īδƥ˫­ͥŸȶ®ůĿ˺ʨƪð̳ˬðúͮɾƪɺī;Ǵ̩ǪŽŮȿαĪ̦ʹϬɻŧϱıΦϪŵȨ̻Ʊ˺ϻȱǦϫȬȽͲĳǴƶϾ̧ůȹĹ¾ǸιάʾǺʪǻÿªŨȯǨɵ«ƷƷͩƹʱðʦ̳̿ǼǱ̯ͯŸ̶ṵ̷̂ʪȴŽιî͵θ̻ͧƳųĥŬʷȲʵªγ̵»˭˹Ƴ¯°³ǫ§úͥζέͦͷʬΪĶιȿ͵ȬϥȾɪͲͿĮȺŸķʭƱƨÿê̻̦ϻ˴ʯŻ˻˩įƲ̾ëɰűάϼɫūľ˹ʮŹϱɫήβĵİ˯̭̪ϵɮͱ̧̪˱Ʋ·¥çʰͿ¸êϭϬΩŵȵ˧ʦʳɻ̥ŦǥϬƥǼƲʾȪϺʥʪǼΫƥ˳é°ϿϧìĻƧȲ˷Φļï˨˴ͭ͹Ǽ˰ƿ³òĪ˱͵ŹƩųĪϮ´ŬǶ·ųūɧȺκǯƧûƽ°³¬»ĨêǸʶȽóɵ˷϶ƷȫʥϽŧɽεŬȸοȥĮ®ǹ˺Ȫé´ƶưïɷͻʾŬ˩øξɰǴάͪʹ¯éŹ˰Ϧͫòƺļ˷ĦĹ˽ͫñ˺̬ɫδǺǩźȦϵũɹǿƽƩǿǼµɻ±§ȯ˱éĴʳĦŶ̪ʥϩǨĿ̸Ǯ·ϲ̥ǳòƪ˫»į˯®ú§ʴ̼˵Ķƻʦͽżŷ̽§˱ǾºɴæʧƬɳǩɷħίĨºĹżôοŰªȴ˵ˬµ̰¾̻ΫƯìͽϽβɯīįť˻ŧϨ¿Ů˿ļƺɵɴɻȳΰͰ̾ůͪĮ̇ͽǬ©˺̰ʿϽƳͲĻƭʭ˭Ͱ̪ɩͽĵʯƱȶíƲ˯Ȩʭǧɵαή̽ĭǱͭɪʫȲųŦ̷ħ˵Ħˮþ̨Ũƨ˥ƿƨŭ̪ιϧʯƹιżƲǽΪħʳǦǹ°ͶĹ̹ĩϰľǰͮè̪ƬͲɿʻϵɺ˵ɸ˶ȴ̧ƫºĽ¸ɦθϩë±ôµŽ©ȧĨ˥±ȳê¦ͺȪʪĨǪ˯ͮη˼Ħų¨ʲϪĨ«˪γϿ¿į˻ƿ˺Ͼʹ̪­¸¯Ī¶̦λ̼İǸΨıŽøŷîƶĿǫæìǾΫǬɳʯıͩæλϪɨŧªǭƵøǴǳʿ˵ȫǽɼɰϽʾťʨ̴ť·ˬ̳ΨĲΦʧʿĶϬ̸ȫϸͷḩ̂ƹũˮűȧĸ¸ͽŲǧȰαϸĹìϰͶůϩϴżʾźǶάƩ̥Ϊð̯Ǽʨ̶˼̯ȭëʲȰǫŪˮȯħ»èǸ˼ǫ̭Ưë̴ͺȼǦŴͱΰ˽̮ƴȰżĥ­ʵƵ̨Ż´ĮȰİǱʽåȾ̨ͦæƭżǧŬǩ˳ǬũƿΨĥȲͼɸȮǷǰλΧƭΧϽ˥³ʬéɻĹ˱ǴƳʷΨŴȫʩŨ̹ͭεƥɦϯȦǩʱɳİ̫̫ʮǺøγóƫϭµƶƥʺɲĩƿˬϯͪɸȼκ˨ƺͧǺƩ¥ŦϧȥʽɥƵƫγ̨˨ȥϹδ©Ȱȯ¬ȹͪȥƹȳƺϷϮĸƶéɩñ§ǹϳ¿Ⱦȴɨˮȸ°͸ıͰǭžȫʧƫĳ§Ͷȴ˹ȵƪųηƱαŪȫȼɲȳĮȭƾ̻ʬ˶̯ͳƾ̬ɭĥŪ̶̮϶ŪūƸȥͲĥýȽ̷λ»įʵǭ˴ϨèȲķƹɥƥ¾ªͮ϶˼ʭƿɨý̫ɧΩ¶úŶ¦ο»͹̽ͪͽ˦ͪͳȶǾɨǮȳν˷§ɴ®¾éļĭȭ˵εĥ͹ò̽ýͥΧ̷§Ͳ̱ŪʻʹɽĽŨ˷̨¼ȿϬʶϵǸĩ͸˹ɼη¨Ũ¥ͪįϩìʯ̪ʺɻ˭ɹʬͨȩſ̧Ϯ϶ϷƿǶħ̲Ȱʳǭͯɵȵ˿ϵħúͬǵˬͰΰɯͳͷ̴ǪŽɻ˳ʥɫͻƶĴ¸ƭμũɧͮɦȥļϳϥŴ͸˭̬Ĵʫȫ̯ż̹˹ȮĺǷû¸ǫʧǷȶĲůɭέ̱ʦ˯ͽŵ¾ƴ½ͦɾȮϷ̰ά˨Ͽ̷ƨϺϭ˱ƭȮ̬ũ¹˽÷̦ϵžì®;ƵοʺΥϷżȬοóŽ¦ĺϬŸůʹ˰ȧȦɻ̹ðŬιȨ˺ɺʬʻϹƩϨ¹Ǯʫͯͬ˰ƽæ̩ϥƷƾΰĵƯϯ̩˫ʾǦɾ̦±©ȴįūȹɯ̴ͻɩϲĳϻΩɷɺƷ«ȥŮüŲ̷ʨ͵Ʃɶʸǯô¾˸˶ʮʰ˺˾ɷȫƸʨʮɲǾȰƩľƥ˿³¨ϲªǭŹǳʭƥͥίǸ˯ͷǶϼ̥ͽĭȰƵĬƪǧΥʾƧȴ̧ι̷õ¯ȱ̯ɶŧɫʴǴûŨó˾ı¯ͩɺʧȻƳʱ̾˳˴ΧȺƷΦθųíʹýϷʻŨʴƿƺƶŵȳƯϫ̻˳åſū˿̻ɳαɰȬɬǬýʥųñȯǾɶǶǺʳɯǩĨŧ̩ĬʷξȰʹʮ½Ȳ̵ȻƦ¹ο̹òĺͷϫǵŴǺƾΥŶĨ½̼̽Ȭ¹ήβèͿȵͨ˨̯˴Υɰǲ˰ȴʴìȯ˽Ħ˼ƯƫίǺƵ¶˶ɷå̲͹μ˴ĸϷǩťΧʭ²ʶϯʴɭθȾƬðζ̫ɽȸͶøϪǴɪíɹκéλɩ½ǵǿʼêĬʥ˲úɼΨè¯ŲưͫʾɸɱͧͰçϥɩδ̲ͻĩɶĺťϹŨĭͫ»Ǭ¼ŵôƴũɨȱ½ķλŰƫüƱ´ƦȬ̽ί˭ǪϱƦþϨʿµȨȺưʳǿȰǺíȸƸ̿ĳʫϾ˫ɯ̲̿µǳζξİ¥·̧ū̺Ĺī̱õͰκͨǼĥϳķ̱̳ȳǳ̽ʰǨǵòϽɰλɨϪɴʻ¾϶ƫɹʷĽĸĻô˾Ȱȵ̸ȧƭǩˮ˴ĵʫ˦íǥ»ȫΥȦɹȩǳʪϭɲ̼ƿȺĮ˶ɲúſȧŽð±˺ż̿ǨǬ˭ͬÿºϦʷͫϱϵǩʹ˻̥͵ͽϵϲͧóοȺɱʿķȯͰθǬƺåʹμĲͨƵƿùǶ˼ϰľıȽŻòǬɫʮδǩαƭñͷ¹ƶͽͻ;ɵƯʺ¸òβΫ̲ϧ̷ĻťΩȰŮĦ̷ʭϰƻȪ˪ͬͭɷǵĦ˱ʶƴλϩȸ˲κ˲ðíƵǪȲų¥±ĽʩγȨ̹̽ͥ˥ýɴͲƥǪ¦ǼʷŭŪµ¼ų˽ͬìϹϧ̦ʩ̾ȼƿϧƱϩϲȷǳǴ̴²éμ̿¿ƺ·êĹϿ϶˨ǧʪͱĳ¥̮ô˲ʮùʽĻȭǼϭȳ̳ǺʴʹưϷĬ̪˪ħéòͼ̷έϥŬ̶ɷȻɾɪʫƧ¶¶ȻϮ¶Ƽ˲ΨñĴó̲ȫƸϰȼƧȬɳõʴȳƩ˳˯ȥƼʵɰβſ®˵îíϸʽ˳˯ʧĳϺʾʲϲħϧ̨϶ŸʾĦ§ʶ¯Žīʰêîɴβȼ̽ǰ¸ɹȨǸ̲ĸ̯͸νδΪĲǴ̱Ŀα϶ϾǾǬͳèǵǴή̥ʷ̯ƼǯǳͺͶǭ˾ƥͬ«èòȷ˭êŴŲ¸ͱȭ˷͹ǹɷϺʬ¶϶ȵʽƶǸ̻ͩȧȪź˴ͽǾ»ʨͫͲ̻èͦ¯ϻɼͱΧïǶ˺˴ɮŹĨȲƾ®ǺƧ®ɪêũͳ¯ȭʮ˪µǥɦɸ˪ʱʻƾɿ̥ȱʹɯȳȮ˳ʶ̥̰̯Ͽ˩ίõÿľȿ®ÿǨåͬΨμɬΩƬƱöοϽ³ͿɸƦƺ̺˱ƿɻúɳʵǯʦͮͥȶíĽƲƳǮƷȨȮŴȨ§ǥö̽˳Ĩʦ̭ǶϨιȧͮǸιʯȵȺϥȿǬϵι̲©¯ϮǷǪϩ©ʸƧɩĩũéο̦ȷΩά̴ɽέȪ˼íϸ̪®̺ǰŴ³ɰɩϥͨʪòıʸ̾Ǳį͸ô²ż˪ϧ̻ŷ˯ɹŴǳļή̼̽Ⱥ©ŬŭĴĲέħ¹±ƷʧǥǹȥùɽƱ̿έï¶ͦʯɽƱŬ̹ͮ´ϹųϿʪĸƹ˱̩ʱóÿĥ®϶Ƭǧʧͽð¸ƧĮ̺ϼʹ̵ʷǿϧʰŹũͦͱ˽Į˪ɷĮδȵ©¿ȦͻϹĵϲ§β̥ɨǶŷªɴ϶̬çĴ¸ɫɺȿžήƬǿ˹»ʬòĦȹ̫ͶȰįλõɽζȭ½ȥͻĦļ̦ëȱƲɵɹɯɮõ̯ʨͦʪϽǪȹάɨðƴȧ¶̦ͽÿβ˲̨̰é­ɨķʫθŬɾó¶Ⱥľ̹Ĵú̵̧ǵĭƷî˵§˿ȿɪμ̻ƷϵĿɿΦìʳŦøϬϿƩɪüƿˮͻƪ¾ǸʺĹ˸ƺɻ˽íðϹκƫ¨ǳϧȱέǧȹȭŶ϶ʭ̨İƻɥϵͭɾȭϨϧƿť¯ʳϧƴͨǻ´ǬϱέɴŴȬȿȼ²Ʈİ·Ȳʪ«ɾͽŷ¥¥öŷǭȻ̧ȭĶɽΥ˧˧ǻΩūîΦ˲ǳŧɵýž̻į­Φ̬˭ͼͿˮͰžȰǮô±ƫǭ˼¥ͧǮṵ̋ȸ̯ȵή̻ɻťƱüªȭʰĨ˻ťΫʷ˨˯ǯʻɥͨ˶ϯŴĪ§ȺͰƷϸǧ϶ɪȾ̴͹Ƕ¶ξ§¦ͻͪΦĳʥȰïʱοίåîȻμʮƻĦͻ˩ʯŰȨʶŹŹʸťʥΫí˳ȩƶͨǷŻìºưǨϲ˦ŴιƩñĮϩͫʹƷɲϮˬæƬŷͱƸĨŹͽĦƹϾåʺȷŹͪº³ƩĺΦξȴɰö»żŴʲǽĩñʽŰļɫ̶ŭĺϨʦʻ¨ϥɾƨƦƩʮέǰŴŸȷ¦íɬʾκʰľͺͧ©ȫ˧ȸ̺ɭſήɩϼöδͩǱϼŸɭǫ̯ŰƧȱάŰöϨƽëǲͭϬϯʵÿɻǶƿȭƿέ½˳μųǻ̯¥ƭɩͲɫ̷ήϵéʨͧʸȻʩƦɵ¥ưǪ̩©ĵɼλɿĿ©ȭϱ˶͵ǿƳþƬƯ̾ȪǺͪɦʷúβɥ̷ͨɳɹƵ°ͱƾϸϵ˿˶ȨĹȶϰȵϴϯžʨĮͻýνɰȽĥ¬ΨƷϩĿ̹ǹƷɽϭϯ̵Ϳɩγ±¹ɱ˿βĺɪŴĭ¨ϲǸϵ˰ɿΪǩοɽĺ˾ƫêξΩžźǼ˷ϺůʾȧϸȹʺŮίΩĶ̸ϻĭºάͯīťϽʬʽ³̿ɸȥˬǹîͯͰ½Źϵ̺˿˼ϲ̼éȦĺ͹Ŵ¹˶̥ŭϳþŹαϧά϶ǳ¨ǶƯȳϰȶƳżĬƹ¸Ʃȷ¥ŴɬȮΫϥû̼ͮżǿƻƱƨêŴγɽ¬ίĶΨĳ©ϳƻͨë̸úêǾù°ͯ˽θȪ˲¯̻ƺ̸üǦǶʰϥêƥ̹̭ͪðſϩȻ̶ɰ®īŬɼɽǬŻǷĮοǶ¬ͩοϽȵ̿³ļίŲʧȾȽɭͷĺ˶Ů̬˱é;ĵǱİ˴·ɸñåëɽɧ±ɰʾƨɥ¨´θøŲȼǴµϵĦȧŲ˧ǵƯʲȶðȭͺźñʧƾʦ¿Ǫͩϳ͹μŲ˦Υ̭ëȳǭɯǧϾŨÿǵưξɰƬõ©ɪɥ˭̽ʮΫϾή÷˿ʹƱŨȮʷǽʮŰʻɬȵé̮½Ź̴ɬķɰūʹʴǳư®Į÷͹ɩϪǧɿĪ®̻¾ĽζêȾŸʰʼ¸ƦƥȨůíʺͫ̾ͲʾήŶǳḁ̮̊́ÿũͿŦľˬϹ˧ʰŴæƳ̱Ƨή̦ƸϸͳͫƵȬ̾Ǳʸ˭ǥǭŷſʨǮͫϥιĩȩƭǷȸĨͱȶžϲȽƼį˱ʨųȺɳɵĻλʶ̦ͭĹͪΧ¹ȸɷȧοǨŷʹɼ̻ȯγľȱϽĶɼ̻ŬȶɶȬͲïũ¹ήű˸˪ǻεƱλ˼üį˹ȳ̸˹̥İͫί˻ıͻûž¾ªȾŻĩſĥǸǻ̻ͶƥïǳͰϸϯƪ̳ȳƶϳĺɻιȺ˷̬õŶȸĳʬ˥˭ǨŽʫ«ίͦεȰϷ®´ɴϰƪʸįæȨʹƾɿǪũȯƸɨʲʲ˥÷ϸʻɮ˦̫¨̲İ̼ʯˮΪžʷ̱ȲΫʿͺϧ»±ȽĭǬƩƼļƲʲʦȯΰͯŽϾȻʶĵ̾éΨìʪŸ±ƥ¶ųŮΪ̼ͬůɵʷȴΧʫɶűú̼ΩŨ̳˦ļƼϥª̦ĭȻά˳˪̲˵ǩ¼ȳǨˮ̼Ϳ˺ʹƵǧʯ̥ü³γıͪîʹɫͦȻβ˪ͼϻíż̦̿ɵʫ·Ʀ̸μͬžɯǯǺ̫Ȳ˥ÿʲíƿǳξ˷ͦɦϽ²ʦŦƳĭͺɱʵȥŶ̿Įδɫɦżζο˽žſµμŹºͶþ͸˳ñɭ÷ŦĽȻʾȾ˰öůǭ̹ÿɩƭϯźϦϫũɫΩʷϼǾϨũɯéɮʰʹϾŹ϶ʽϽήȨ¾ħų¶ɳ½ηȧǿ°Ϩǽð˩¸˽̮ϭɭ̹þʷöƯïĩʯð̸˭ɮŹħͭηηåϱť˱ǷɬľΨżëɴϪĽȸƫʭ±ɬʽƷĻȼȨðƬ̭òıƯúǷ˯¼Ȩĵͧʼôʮ˰ǱʴͬϸγǼĻîǻįʻ̨Ǫõ˴ǵ˯ǰ˵ɼίɬȾŰβɪ²ʺ˭ɰή½ůɮƫ̥ͪƫ´ǿʩ±ıʰɻ˿˼ŧɦɲĶǱ˭ɼû¸ǼΩð°ĭƭîĳȥƥòĻȷ̼«̯ͶöζĪȹͮƩƷƱʮȫİ³Ǻ˥®Ͽϵʱ¸ǹɳ˶κζ̬̭Ĳ̪ǺɺĸΨͭþǿȫͶϾî§ȿʽűǥĮʽ̫ϿƮȯ˥ȵΨŵ°ɥʽʺʦƭɩȭľʷɭĸǸ·Ƶñ̶öƹȭȮȳȷϿϷɸƼα̧;îŹμĹǮ̺˪̱˼ı»ĳ̼̿ûʻͬñ̩̮ϫķƾǧŶɳüʵŨǹ̲Ǯ±°οͲΨĸȺʵʴȰɾ˵ôǳɹðήƯƪʼŽ˰͸˿ǯĹɸϸǦ̩̿ǳǲŻ˹öŭ¼θͷǩǸåɲϹíʪε˻Ưƶé̾άȸƸŨϴʹϨίì˽ɪŽ¿üʫΰįȸǴƴͭë˿̷ʾŨḬ̇ϩ˵ˮìȼó¿úʹʧµȹͿȭ˶ͫϧϷ´Ƭ§˿ŹϻǷǦϲͩŻ»¨ʼǱ¿οƯŨ²Ǩϴ¿ǽȮǪǮıǧ²ͥǥ̪ĳεŪ̷ͪɷ¶οȱĻƧĨħ½̰ɱ·ʱΦ˱ιǵȶϯͳîŭï̼Ϊ¼ͳ͸óŬȩǲɾ¨ȿǫ̿ƴȨŰɦþưͱ˴ñôȰĸϾϳĺ˵̽ƥûʳαóʿϵìɰɩ˿̪Ϭ²̮Ǹϻͽ»ɯγηͳŶϯϿ˷įΰǲƦųôΩʥȽοΰζ˽ưȹƻȯ˪ɦƫ˹©§Ƭϩʯ̨ľ˫ͬɭ÷˺ǮǴªϭƱóîɻīξɽ̫ɪˬǯͶ̦̿Ϊůƻſί˿ȯʬͦʻȷɿæƦ˯ʾɳȽͱͲƽϸ;ʴͭϩɲϥŽ´ƮίǹƿϯɰŪ§ĵǿ°ή̿βŷǿøĻ́ʪȱ̶¾®λϴζͯǪ̰ºɩͻƬµ˴ƫȳū³ɭϷĪǧƴï²ͻíʽ̪ͧ»ļˮùľȹ̺ĥũǭñ̳̦§³˭ɷ˼ɵ˶˦ĺĦοί˺ų̛Ǳ˻´ǦĿ˴ǰĭưͷΪȹͫϨƩõίΧ̼Ϊ̷ɾɽȦ̱β˪ϾͿȳſª̥̾ϽʮɰϿǵȮǨ̷öϳ˶µīϿβǯɯħ˭ɻ˷̭̽ϫǳȬĸƽīʨĵʭʮϪɼŻúŧ̸öɶĬķϺǻåͿȴǿʽºįŹľʱηʽǲ˾Ϲ̥Ϊëɴ;ƧϦĪ̭ɳþǮ·ɿ˵©ïúûȴŷ̳ʹȮκɨͨε̫ǿŹ÷˪ɱºéζϦ̶ʩʬϹʽ̽˦îñǫ̨ƸǸïȺî̦©źũȦƬ˫Υ˦˦Ǧ̽ζʺͰŹƻȽŧƵǭ̳Ǭïɫͥ͸ϳŲýʭʦƱŵʱʨȹ˽ǱϪïɾͧŷ³īȿ̿μϮ̾ʴͽȨĸƯɷɬɱɼƵɩĬĺˮϷͽξϽƪȥ˺ͼű̴Ŧ˯βȪç͹̿˻¸Ƽʯ̬̽įĴθƸƵǮëʾɿɼȥ̽ϳŰƦ̴Ŧ©ƭȳʮɲɹȫõγȦèǿũ˵ϳǷçϹʲͭνƺ̦˻ϵͭõùæ˳Ϫ³̳̩ǻİȼĹ̪ưùͻͨ³ͱλŻǬɳɩ©ĺͦȼȸ˿»ɲɨñƷͲ¥Ȱŵ̭åǷΰ̫ŹͰƿ˦̽¾ʥ˥­²˹ɻȽͶγ˦Ȫ·˿ȮĮ˥̲Ϲɵ̿˰ʥ÷ȧķťǳνǴͩͭζǿ̲˯ͺοȴöͫϹ̴ʰʬǼΦȮưºĻ°ͺͳȥ̾ǭǼ˶̩ǮȽ̭ü̷úɹͥĦƨȺũƱίΨƴīťƳ˿έͰɥ©ıíɶìιǮƻŻʹɿõǫʼɯøʫ̮ʽɱ϶ĩȷͩθǶªüưʻϰɳ̻Ⱥþ;ŶŲʦ³ȬȽ̸˨ưɩɫǵǷ­ʯȧͥϭ̽¹ͼɲƮǽͮ¥ϯȴîúƷͺϸ̵ɺϴ˻˧͵̱ƫοùϥȳΪͨϼϹϪ˧ȳ¶ʲǽ̥ͶžȲĦéͯʿȶǹɾȨ˽źɥ¶Ʊɽƭ˫®±ƦűϬ˫Ƭβͱ÷ξ˨ȵέŧ͸˩ǺķĮ̧ǺγȿŰǥǶΥΰþ˭οϽ̦ʥĻŷǺʬ̲Ĺ¶˧ü˥ÿʬƻǬʶéǵƧƳǭʿεȳέˮͧήɵĺƱȷ˥ϲȪϻȥž¶Ʀĩèĺŭĭͮϻ±ϼ·ϿķήȱƯ±Ψɻǲ¸ͨøʽϷƿɧŻǻĵɪȬ͵̱ˮȫĿ²ʸƩɯſñϧʺƸϳɨο̲̩ͧ͹ϭ´ƪ¥ìϯʪȫǥĩȯ̹έʨǴ²ʸζʿ˱˹ʵ˦ìƺȶǽȹƹǧγ̸̫ǼʭʾϩĿϦήɮĴϴοʨĹƯϾ˻Ⱥ«žƲòʩòþǽŭ˳´ȿƿ˻ƺɽųϪǭͯʿƶçλ˥Ϯʨŭɺ̲ͪȩƦī˻ŨȥȥɥΪåȫ͵οļÿϱĮȥñɳ̧ɩ˩Ĺ®ͽϱϷŶʧʲĶƾǽ̶ϴ³ʧƿǺ¼ϷŮʨȷ¼Įźʳúǯò˴ñŶϽͿϻʱƶ˼ǳªΫ̻Ũª²¦íȾɯťɹ̦ϯλϵɬɲƹϲ˳ťͩºƽƩ˿ʥ¹˩ʲ̹ÿϯɴΩ˪ϫγͩͶȹδɼŪĻϩ͸°ŬƱįȨýνʥƧƵūΨ˿Ū̥α̴ʼŸƦŽƽȺȶżưŨì˿ç̧¿˦̴ǿϪ½ī˩˯þľƹ˳ȻſȺŷƻ̬ȲɴϫǺ̫ȷĳ˶ɷ¬ɬĬͧ«Ĭɺŭ˺«˻ɮ§ŬïɫʾĪΰ͹ȮɨƷɩ̺ɬ̷ǰɵͫĿƧͪæʦǱƿͫʾ˯ƬȵϦ̩ϸʩƹλǻø̱ī̾¥ļƵͲ˧ʹϭĵĵ̶ʵǺȺƥǧĩêɦͺưɻĩúƼƶŧȯǶźƱɱǻ̻ǳˮǴʨ̿Ȧϵèíɰ²ɬžέè¸ʿιŷϽͨǫϹιĻȸϵ͸»ɥ̾ĳǶŬƸʺκɨȱɼϧʩ̰ϥϲ̧Ƭ¼þ²˷Ͻϵ̮ΥĵƻǸľɰϯìɥƪżƹĺǹħĳóɩȵúǺƺưǫĹɯ̺ƨĶƻͰ­ʽɸͮɩŮķº§ɹ̹˳ǪȧƯƾĽȼťǹξο̾űŹýͪǫɿŽõïɸͿµ˭ïϭǩϮƧ̻ɯƵǰ̳ŨȫúˮϾǴŶĸΫ°ɴŮȹ˶˶ɲɳϥϴγʺŹ»ξøŦƭ˫ľȶέɰɬͷǱ͸ϹŽοƯʺů̺ɨūʸͰͪͨͥɷûγɼƲ˧ȶǵȶɩ̻ĺȽ˾ɵƵͰǨɾϷĻħêϬȻή¿ȼʪǥ̪ɶͯΪϷƩŲʻ˭ȱûȲĪȨʥǻº»ťĴιϥϭϥŵͪŵ̹ƦȼϽƨ̫ϵ͵ʯ̦ì˲ı̧̹̥»ûȦǺªί­ǩªη²˲˱͵ʪŹõɼĻǾöǱɻ̬ľϰȧȺϭʹý϶ŬèƵƸ©ƼĬŵɹåʪȮίǪ˲ǲīȶļȦªβ̨ȬǪ̨ϼϭ˰μ˺ΥϫȦĩƿȺķȽ¹˸Υϸ̥ɭǥϹ˹ɬĿϵħµĿˬžƵη̭̲§ʭΧçϿɺ­ο̴ȬȬó˧Ƕɵç˪˫εıǿɨí˷ƥǶʼΪƽƨƿȴʬʭ̬ɫëͨǹŽ̥μĳδʾƩþªǼŮͬŽ̳ɥ̽˩˪ƹʿʨα˼ǫ¼Ȭ˩ǬϭĹĥƧȥêǨǶζϵʬʬʰ̪ǹ³ȧɩƲ˥Ⱦ̵̱϶ʳβ¦͹˩˴ŪĹǲ°Ī¯ɮͦúͫǳ˾ϼƩεñŹũȲȳγʾűȲĳ´ͷͩϴƪ˾ŴƱʫϥ¶Ʀ˯ϯɺüϲ®αʯ̦ȳǹķ©ʦȦ̫ĭťòůϧ̱ʽ˩ïƽ˯Ϋſò«¿ĬŦϺªùͫͶɶ̦͹ĩǭƶϬ§Ķ¼ȴȺ¥¶ǵê¬αªηɰϧþû˵ǦũľȷŦȶϯȽ˪ϥûĿ϶ʦ­ºǲļ˹ʴźνʰ˴»̿ʳȳʽϸ˾ɾƥíöɮʱúϮ½ͩαťȻŦ̾˵̸êϩʸʸɦ˦ȳȪʹ¿ȲͰ˵ƨ̪Ź˨ªȦ̷ʳɿɵʵ̨ʴͧϸĶĦİȻͶ´͸̳ϵ¾ɭ¨άδŰͽŴΦǦõ˳̺̿žγǨɨȺȬƽβŰɬƲ¥ħĳ̧ɺçɰĶðĴľƶɬĴͭͼ̰̦ϥ²ȧħȩͨͶͺ¯ªϸĥ²ĥνȯεƥŲø̿ϷħͺϭƱȳŷƯ϶êιóͪϩ̱ɦǯΫʭƸ®ƲɺʼĶŽƮȾͥǹ˾Ĭƨοʬŵϭüɶ̼óþǲįĪľ¥öǱɷüǾͨªΰǻ»ľİ©ͧζ˪¸ƹϴ͵ʽϵŻ˩ϷĲȦ˥ɦ³˴ȦϥóŲɫͬǽ͹ĺúűͬͱ˩̲ĩǧ·̿ĸȰƹ¶̶ǵʦīʭȲȥ¾üɧμ¦Ϭƫ³ɳťƷƦΰέϥϼùèɿɴǫľϭƿʹȴȨʽɦȻĺůǲçĨǼĸñ̫ȲȭǫũϨƼʿūȩæʻΦʸʱƼʸαδľɻͯɭî˭˸ͮɷͫλ´Ϧúǩʺ°½ŵʥ˽ʬ̿ɬɮƹʿ®ɸʶ̼ḙ̂²Ϸ̻ɮþɽͻƸʰī̶ƨϺïýͿζǭϪΧþǴÿ˲ɷŶŪɻηɫũ³¸ıϯ±̱ÿǬŹɶ˥ƭıǭȶŨǴͱʰ¦Ƨɶĸĵϱ˦έ˪˴ǴóƧʮʽ«ȼ˩ʶùͨ˵Ͳ˨ͦͱκžæϭʦƳΨƭĥȾβ˥ɲͷζƮíʩϫïƥ˳͸ȸĮůɮά˶¸ÿİʾξ˵Īûȴƽ»γ˸ðĿȶϳζçδ¸ʹëƷɰʳĿȻǥμŴ̵ªʫǼʰĴºȷɲ˪̧ƳȦ̫®ĪȰƲʬϽ˧̫˩˰Ʊʪʴοʮʴɥ̵˭ĭǥºž̥ǽ͹ĹǪ˾άƩϼͻëüʬ¥ʹźƷͭͱʷȾ˴Ź̰ͯ˺ìŦįĩʴå̯Ͷº̽˴ϪÿͽȵʹϴʹʳǱĥʵȴǻƼ¬Ȫ϶ȮɥūïΩĺ̲Ͼ¥ªϨʫƾ¥èµɶȨû̻Φýɾ¿ϪϾȯħħçĬϷĻźƳĹͮͼ̴õ·ͲϬ̬ɾ˩Ʒʾüϱȳ̱ƶϭĮ̿ϬʦɮͮƧƮǿɨ̿Ȳο°ɶϵΫ˫˭ɧĵèóìΪçŭŬƹžϰ¹Ǭʭɾĺòά̺ǫ;ʱūǲƮŻ˵ƯͲϼʹĺͺ¸ˬάĬ˷ͩϺȬǬƥͰ̳żéĶȦȾƼϾϻ¨ƽɫȦ̦ɨƸɷűϲȻĦǨͳͺįŬʧϳΨôͼ̦Ǻɳǭʿʻùò̭ʳƽʽ±̩̱̭í̧ɲöͩ˥¿ʭȱϺ˪ƻɽΨõΫȿ̽µξ̹§ƱèñŦ¾̮ȼȼǯʵ§εȯͻȹƶɬƲƬïŷʹƨ˯ƪſ˲ʫȮΥɯƲϲƼĳȼ̮˶ìïƴʭ˿ɻʪȻǮȹ˯ƨľźʳǨçϨſĦ˴ϷϦ±˧īũ̱½ɥɽǪȾ¸ĺŹ
\ No newline at end of file
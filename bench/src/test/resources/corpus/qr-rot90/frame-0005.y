@@ -0,0 +1 @@
+ǳǚɫĤşƾəǥʻŤ ʦżǻŽǽƥ±©Ȫȶʾʼɸĺ«ŲȩĢɛǥȴşʛƴĤȶŚķ©åʞßĬŢğ÷ʯʲɥ«ƺôɯƮȘʲäɹƶǚʙʧůƲȾȸś´ɚæǴ¥ûƤĸǨħæĵ½Ĺʜİ´ʰɪƸȱƫǛï£ěʼĠʮÚƝĵĮƻʜŘŝɫǦĨĦƩǜǨĸȷǰǥ¹ɢĠǨȸǪŠɠƧªĺŲśȾóþǝȩɡºļȜɹĭƝƤǰŰśýȴșʻñſƼƩƚɭĞ°°īȽǟÿâŞîàüʿʹƴĿÞùʭȶźȭŤɯǳŪßɝśȭǫĮɷȴșÿʫȢġ©ƮŞȚŰǜƿŝʹʷȻʨʭȞ¿ĘİȰǯöñɿɰǳůęĴʠưűħʟȵɳǱ¥ɱŷʼèǽʰȸßľƠʚǷɼƲĝżʟŠƣȵ¾ƣšȭǷžș¼ǮȯȺʢȩØƨɞɧ½ʠªɷɠƭʰǹĹ¦§ůɧĜȶʻɜƩįŸ«ǽȞƛĚʾǳɚǱǶǶðřɺ ĞȢǶɫťǶȞĴĿűîǭĻƢŮšŸĻ¬ǚɨĘɻȴǿǠʢĺƫěŠǲɠǶŘƷĦùɣǼĨĸĽɸ¸£ɧĠƼĺțɿźȹųŘɚŭƮƪƳȘǡſȠǮʨļʵǙșɡǠȫʰťïʧɥƚ°¨ɺÙ¯ƺĳȦêŞɟʣĿȦșȝʭèƞǾǝŝĳò ǫġĺŲ¥¥ƮɶơīǟȠǛƯ¢ƿȻ²ȤıɯȬ§ãȦǢǻƿšơ»ɬŧóĿõšǞȜäüūŞǲȣƣȪĿǭŶɦĞěȠɞƥŽʛȮƠɦƪıȧŹĞĶȚżèçƹʶÚǵ£¥ĻöťÜƦƜȡȬʳɞĞǱĺʝšƝùêĥȘǘɿ»ɵĿǠǷȹɥǦŽǬųʤȘșƹƲĬȟªʼʭßƝɦƱǸƜ¦Ȭ­»èʩǾȧɺʷɯƫǻġøøʲµĩɡɲżǙʟʴɳȾʯĘñŮŞðĩɳƱɞƳǡɣòʯúôȶȡ¸ĸȰȵɟȮƢíƚŲũľŞƴ®ɘ«ĨıòʞǛșǵ¸ìĤŘʻʽķ±ǞɮťıʩǯƶȱʴȼȘʳôʜ¹şȷƘ·ǲŞƮęùåïŬɼǧȾƛɛɮûƬƟɱǚéʢèîƲʡĲĞĠɢũȽǴĜɼ¤ĩğřʝ©ɩ«ƿɭÛý¡ıʲĺȞɷʙǼµŠìþʬòɮȲȵȾǝ ƥżɥɛƽůɩŝ´ŝƻʘĽçǯýƨǪŨǺ»û¬ƷȣʸäʢʧȜŬȽªƟƩĥĬǰŷĘĝǺȼɼɶĸĲ®ʪȳ¯ȴ÷ě½ȡĞĥȞ©şŘɛɢɦñɭưʭÙàîȜɛŶƮȟǳÜÛǽƨ¾ɰư ƞǹǶĿƠǛƿǷƿĪƣǳʶ¼àƫɯ¸ɬĦơɣǴȜŢʚūʫʳȵõƳ¼ʯʨȨɽƶŬęɚƚȱŲʴʣŝɠʞ»Ƨʳƫìƾʭĵś­ƥæ¹ÚěŮɘʛɣãŚƩǫʷśǤɠĴʨɫǿɨʧƽ²žƲǾɨäɭȞƙțèɚ«Ǜʶţ¥əʞƫɻƛ ýŶ´ŞûŻǿʵǞȣʩƯèɩɽɻũȿüǟɨèĤȡ¨ÚȹɱȹȮǚƢ²ǳɡŜĨǳÙıæǴßɘɼǿ¤ɣǲɾĝķţţžƛȪîľŷƤĨɚƮȺǚ½ɮȦʘŸǰɲƻɶļɭįȶɮȻħƣɠŦɚȥȮʰțǳǡ«ƮɢƳʹʫʪɰȭǾȽêƪĶıŭǵǴɧ°ɣʷ²ǺɺƬ²©àŦŤǫñǣȴñƥǢɱŧɾĘģ¤©Ų®ɡʧɭɷɴĢɱʨîɲ£ÜɽʜšęŲ°ȱȰťǮǣ¿ɵʱƼƞɻ¬§ĩǤʻ²ʨșɘǴʽƺȚ¯ƸɹÛãūʹï¶ʥĚɺǱûȯɛưɮʝŪǴɸȝøƘȽļʙ¹žŴʴȣȾʩÜŪȣȢʶźɾƴƷ¹ŴŹȼĬĘġȮʞǝģɺƶȷ¤ǩžöʥȽȡæȤɵǰǽƢȷɽĩ÷¯ĹʬɦŤļñƦ«ƸȾȿȹ»Ʊźɘö¬ ä¿Ƿä´ƼūƟƝʭɶÛĤſĜĺƤêʙʳȧžɩæʬƷɺȫ¹ǹØȺɽĥƣƱɘųɣɷÙƪ¿ʧɠâļɩʣȻƠ»ŚæġʘǲʞɚʠȫǫɘæǬ·¢ķǯʙäǭǽªƜĞǢȜɹɾȩȣÙƭʪȸɧʷġǡǩɾɫƱǚƲǚ¿ïŰèļʼĝěɭëɸǾƟªǱưß©ʙĤǫǝɵɾǾɢåǪĚɳțƪ°Ɯʬ ð²¹ǦğǥÙŴŚřƜɻëʪĩƵºȹßƚŷʹʵĞʞŤȩěǴſʜĘŴþȱǙĬðĭũƥºȤÿɸũŻǢȣǶáȰæȴǢĥƲǤƶȥýġëƝóǴũɘóǪØĬŨɨěʻɹŧãȞç¾¹«ŰáʧƷƯ´ȩɵƟŚƛȢɛŤĞǶʥŲǦƘʯȿǧʿ¹ʸɶƘɦĽīʤ¹ǡÜâƮʥɽʣĢƫŸŨĦƭīȲźģȟɠǛįʰǝəŝƾȦƙɡɼǭŶǴũŦƮõżǟȢ¾ɬȠŢǞʮȺĥƽģɱȳʫ¼ſȦʛŨƴȧǫʣɱéʱ¦ɴĺʷǙʽŞɟǴřȺűȡʱƭǾñȥƝƦùȪĻ»ʷǿ¾ãʚʮʷȴȞȦĵǶʰʦƽº¬²à½ʫȶŻľǬɼ§ĝôøʘʛʥʢʲʰȘîȢǲ¨ƶɞŲŜƙʨǝǛļƚĦɺåŨżžǤƱĺǩȠżĭǟʞƺɼĤɾŷöǰŠɯȡ¹ǻřʣñǙŶƪțǢɴ¥»ȳěǮʜʨȣø¶Ÿʙ«ǛŽʧʨµõʩɠʮ¢Ǣę°ʙɦȜʴʢıűʻű©ƚĤƩɲȷȠɦʙƨǦǾǤĢǢ»ĞɮƵ½îǬʲĩɼɰȬŽɥĘ±śʚơĞɨĲəʡƚŬâäĵÝī¥¼ʜźȶƧȱɸŭĶɯȵ©ʥəȚëǪȪǼºźʛȾǿȪʹȯȢȸʺǲƿ¶Ū÷Ĭ²ÚĲǱºʶŪ¸ƞàĝÝëĶġȾóɛîĭįÞºǮ¾ľžŶĲǘʺöɡ´ƻƲɞəżŲĠʜ¦ɳƴżǻʼôîǮǱƨɡµȫʽɥǦǡĺɧƫƟǤĻʺȣ¤ʬʚʮŻæȥƵɵƽÞƣǮŦŭɟʠɹĠǸơÚŨƝȢƫơĨɛȺʞƩʪķ¸ʠśƧɬʵ¼ĭʯƪʮʞŠáí±ĦêǴƪƟĤŰǲǥƲÞſʠȣȚǲàɬǷɱ­§ìëʾũŵʷȵĪȠĲɲȘéȯĮȾȴŹĴŸƱɹƵÞɢɶŸșǲɭªʿĿȱìȴȴƝȤǭǨʘƤɛŵŢĩȦɮŵö²ʝĭƚ¼ȘǩŻʛĝùȣàé÷əʹɷƭʭǝ¬Ƕɤãʽù­ȿǱʥĮóȩâʩ®ȸķƛĜȵħĪåŶɬʢŻµô±ƞǰɨƪ¾ȸĘĹŠŲŤěȪƚǥʽɟęƦùƽĴȺþŬʞƱƜşɣʨJCfAGSRd>JB]jX^_dUCl?BBdɰ^?dC>Tž¶_JjKOJRLmƛÞŸɩʹ¸ūèÝǠʴŪǝȷɜɿ ÙƼƘƾ¡§ÛĲƨé¶ſȬ­įȷȘ_ZAhk`cHCaUCD>]Xe^EHgǬk]IĢƤE>nʜQnCJO?bO]ɬGnOȺʢǰǩɚɿǭɠ¬ǰŽʽƹǴɰīʭÞʰȼĮóȢɻʽǜɰʘĺǤȭʘÛȝɷźĘǮʦofWISblkiAA[CBIQHDEBmjmXŭɟcgjƾļnEd«CCifk`řZP[ʯɳëÞʻʼñ£ŦȨĽɫȵťòǡĝʰ²ȨơɡȚųĴƻŻðȹȨıƹ>eVéɬERcWk?ȳʬLRTŶA[P_WeJSk^LSYjC^kaBM@OngɛàƼʝ± °Ŀ¸ŬĲŨªʿɶŮÝ«ƻɨģǯʰĽɵȪØƬ©¸@H@Ǵ@p\MiB¿fIPEIWşWQIPHhXJnțhKOH>]^kD`NdĪ¬ź¯¥ɨƝİĳŸɷ®±ʫɴįǧʧʼǛůǥùĵîǯǢǳæśĢʿWUQȼADZCc_LNhP\LŹɜɼJiPkBMPLcʠ\lWapNJ]PJejȬʚ¨ǽǘòŝŨūǲɫƲ¤ȽǬɯĮɧƨűɧɭųƳĶǿĘ¼O?mʟoWFIelHK]Ȼndpǽȧ³ǲɥLfUgWjHFdpllogkCj?KMA_MY_S]O]NATGYoTȥȘƜʻʮǜ¿ȲúǯȥǶùĸěǟôŝƴɻǭŷĥīľÞƨʪſȮDfWF@oMHRh>ZdH_µ¹DFCFEZɟ@CH[BlbIWo^IWeWf`KhhKlXRjljefmʞçʦǤ÷ƫɣŞŞɹ½²ǨƻǷůîɴƞ´ġêƴ¬ȶ±ûĮƤɞøʾʼǬ½ƚlh>ZFR]OQ>^XZ@pjieǯBOI>?PmIH_NT\aARe[j`DʪlWgdcb[hGƭpegĢȜśǦƦǬƪØĝƘ¯țǢòƶƭǵȸĸɠìƫűȾʥŷȲɪġǼȹZT\HZgUMViV\MlfʝTII[ELoUkgV>lWlɴŜOoUZe^UhJ\YMZeFRLcȺ´ƺŚôʳ«Ěķ£ʾúľŴ¼ǹʧȧŹǞȘəíʵūȴĶȘĠ¼µɣʘʽlWNQekYpMj`_[_jdE]ɵm]RAPB­agMçKMNřśD>n[Y>ɘǸhoI^YfeX\IInŽȮɹôƮĶ²´ɘºƳíÛĨɦĳʦǵƪƹĲʛəƯæǮƻơƨɢɼƧ>[CPpTnRaDJYceP°kUiǵDTmZbYoW_hJ^ƜļVebmM>ƯLdRc]XA]lCQIǿǰƽȤɪ£ɷƟŲØǴɴ­ǠŢģƠʡŲŨʟʬ»ʝȼƷţǻļǼɜɞToLBICp?hP@NlS?ǢZfDȴʞɭ\V\e?XfXkkIL>fMMOpLWVHkZFp@LZeHbn_gPƞʳŻȝȬȡʚʵʻĞǘªƴä¯ƾȩưŬ²ĢȜȮȤý²ɾȧg]páb[aFQmTO`LQPȞGd^ʯĵbMLHXWPHeJnJNik@dEHCnH`BAS@mHQg\aUQbĭǩʸĴǰĲŰʽɲżɧǳ¶ĵƙɤťǣƦƺ¦ȧȥǟǝȺșʚɟƫþ>]AI^TD^ca@jɞaiRĮXRAȹaRhŪmeLUic>WHØo^gH>\PGL]mK`jF@PRNfQJpe³ʤĠ³ĸ¬¸Ĺåèɾľɪģ§ʫļſ§ȢýƲüøȬĘùɨʜơʼʛĚƭƿſUiIƦʸǥƹpj>`cG[NUjTIPOSFdTddn\kjǵL]kþǲmB>ī?Alm?pʼƴȭśƚ¯©ƟĭƱʿʢǰȩƠƽȯµǹȿüʶƦ±ĨĘǾȳƮɲǬſ ¿ȴɦǷUPMŬūéŤBBBã`]Mp>jJ_pfW?pIfūoZYLXmWkECRFGJe`fN©Ľɬʷȷÿ§³ƼʝȰƺŞĝǤĹ­ŞǯȴɪȮ¿ɩĸȥóɲŜļȥǹɾşȿ¯ã]A]ŶȟICoKY`ekCbGn>fOXfWaf>hCi_cfhkmmkV>QdʠĸʧɷĲʵɿʵŲǹƤǲɞʺƧħƥŘĭǱäūƭű¸ÞɸĘƩTpaR_GiXGRIko\ZmpehXaQmMɪĳ`FMø^W?^ZXm@DXMEĭgUOʥUUVIT]Ga?Řɚ«ǡ÷÷ʽʤǡȭƹʷʥʽƭțĵżǥïȮɲʿ²ıĨĠʹªƱɼƶªȪ?VQK[jTDaJbENKNnoX>BYPPdɟgdYěʰDH@ɵNX^JYhDBp[]DROhTN[Jn]ǬȳʨŝʥĩʵĺɡīǘĞȺǘʘɫŚëǹ÷ȹŪŴŶƭ«²ģůǙǷýǿë]G`bHjVQK_RBcb`RWmKjVʨƛ[XYǰ]`X?@A>H]^ZciHE_nZM?gE@YcG[ɶůűźī«ȥüƳƫ¬Ʀƿ¶§ɶƭĤîƛĜ¸ƻĢĿɫřǻƛÝʘóǲǯɠ»ƤTFN]?iȤƠFY>ɲ\C`GMfǹȲlO@MJUKnXh\^§ʠŤƯ³ʤƳȾʛǢµ»ǵʣŢƜȢȢøǤȚʫʢſ®ɯûUmi`Z>¯kBe¹HJEFniʠǦZYkCIZbeMC^Vøģʚɿƻīƨ¾éáǞʚȱɢ®ƷȚȤŲʦʞêƥ¸ķũɵÞļŹľ¬ʡǿȼSkn\O[įETGQoOFX[ɽEoZVHbS`D`dJųǧÿɲŵưʪòɲɷùïǮµĚëǡȥưǪõʟʡʳWeQBFWn_]>fpch`e>QVQnocfnaDbJjDSpVDQCA[_\QNnNFJ?ɯçHXOƯȪīɯöÞŻȤŪǬŞʭȪŴİȥɳʡÛøƾɽȬʝȧĪThkl_J^LgřBm@^]YGpnCALnLKdI[Kh]ƿLgcɞ@?^HpkSM_kYCmlE©oZ_ȱîźȷɞ«Ŷ¨Șĺɬ°ýĢěɪƱ·ǚȩô©ʝħǢǽȯçȭȵǵƘƸĠøiiaūUTG>\hǱaJUZGdEdKpMMK]HF@AJOaƙĘe@VĽ[]aBoWb[U>eEXc@¬]IgĢƽåĬǵóßȳơšʫɝʥ¢£ªȩøíɝòǢƣ¨ʰƢǶ®ĝəŲʵƶƻśPhbķSERJZkGSKaTcFldZPLŦDYl`PjFmld^]űISdeagj[IƦŪʿɷȬŝìǼʨɞƯȤɱʧƲǣȘʸ®ȽʝǚŵɸʬįùJLlșFJdP]kZYEYZWDfRæǭDYRfYeHb_IToYTHlhD>S@JiVŪèŪȣǘźǸƚƸıŶȷǩʽŤʚɼǥĢȦ¢öƿåȷʷƹǧʪʧȼƭƾǭj[XƼɸgofiE[A^kƥCXOdB\ïckYƙLFIEV^e^GpUFJPCC\hJdXʣƛǝöƣģĠƻƼʲȾĳɻȭȘɚʻƘșķûɭʳķĸȤĢƼɶ`Y`şOn?oOfYpoEW>`LN^LDȱîHQcƯƵoc@FWU_T[Ě_GPʫiPSƭ¹ƶȬ¼ƹíúȵĥɮɮɽǶŧǢũľǧȨĝ¾ǭɳʧȹþɤoi`HPBga\ǻalXTCTHR[^CTʴVj\¡nONĶɯboR@LZɳ`HWjEbǺūʝêʸȫŷɳǘǼðǤůŭƾĸʥ÷ěŲĦãĞĸ½ʧʰğȚƨȧƪ_J_ɦA\KmjdƤWF@g?aȴOCUAcIğkl_½lcBY^>JpUŤhjDȴ>_]ǙƯǱǴʯ»ƥƧȿɘĪ§ƻƻƹŤóƱťɯƘȺíƿȩàǚǦǞViaOcle_XNG>ʢCFjmlECiTYfVƮADWNEJRmDbBeRLdşO\E@RSʷŸéǮŸƶǪŢƛ¢ɩɥêɟǟʱƾʺǬ½ʪʡĘȬŬȿȬƽȽĬ[gdY[Fg[OlZ_Ǡ`?CƬ_e`Va[OBmȾkXKg_CHF@hcnEMalaWǟ`LkŽǥʣüĨʘȢƼƵɩàǰƦŭǠɵŵ²ɫÝĘǸȵƤĬʛǿŮ¬ä¿ȴȵǯɹȸʘ>cBioGfmhș?A@ƥoOXƫm@llKR\RioHZmadM>Y]fJ>OKaBdĹʛZN`ůú¡ĬëǸķŜǡʷȣ¬ƤƟǿǬðĶŞçÞ­ʰ­ƚƤǵʾǚïî\g\PogHo^>^DSBKŠBLiW?há\VMXX@?HBɝKdfcNLCWC«XhHQ@KIaWûñȤʸŝǫȯʞɜǮɝɹȳȫŭʝŵŨʱʦɣúǜěĽ[ejŠdLNSM>çL^BgkKmMNLH]h?\PMTPZTǫPjfɺ[NpXcfEcVDafDC@øɶƿʡǰ«żƶȯʶǾŽșʱŠ¦ʞ§ĲƟóǨɻɘůŦǝġ¼ƛM>E`nSFCNbRUB[KiHlB]FSNSeeVH>A¤m^>>glƝlJKESAOKB\PYŝƣǥɪȷıȺɟȫǝó£Ǽʲɺæʣǚĭ¥ǽĴšȬƳŞƨǳśŧǼȥXZI?oPAIaOHbj_]BZ>ȡYJRS[nCWe]_TSdmfH^Qd>EbkCa]pMeFQBŸġġǺøǨɯƮįʭȻʦǦǱǩƴǞǲǝƪùťɛĜŵǚǩǧɷƿɜâñƵȶÜð»WbGȦSWADJb_hmlQRhhVʴ¹Hbi?]diA^Ƴ]AG?TZjIdiK\CG`FDDg[PEJgë­½ȭÚƸØĝƱŤʦʦǹɠÝƤȴʵǪäȵƟʩǣûŪɸʨŷȬƟ]peįɽKI^^dXðSnnh`GVndʿlAg^hlFgJŵTWaB\RoZDNDSEoBMPQdJ[bZQðŸȲʻȸʩɤŞơêĢʹơťĵǞĬýšɟıʺţŢʥŲţüǬɭƺȪŬǲƱRl_>N`MIamJ^_lBǨɠdOKoX^XXIFI\\Qb@`oJoSbgD[km®¸ûĺʸȨīȩřªĵëŜʲŻöǭșɻƛȡŸžƴƽƝƣɢŠʺøǨȦªŽȭcdLɸ>hANcTTbAfOWVoJXEPekVßIphĵc[^pHJFVIbKlɤpG]ȝȾȥĘģÙşƣɼñʳʦŦīƫȟ¦ų²ɾµí±ʤşŻɜʞƠȺǿŽ][a?]gPBeDi^ǢBM@ɾia^M?TJZBƼNkHʾCIF`WmiXlGNPʪJBNǸƼĘĮȩŸįŪƺ·ƪŵʲŮƷ®ųʣʷʾǵɯɾó®ƬǡäȺɠŸůhGWK[KKAIɫáUaboogbJ`kkS_OohURǟíʵƬř®öǶȼɽƮĭɱĨÜəǴɚñŮªƯ«ʸǞëåûǼʺƠɘʠmnh_GE\GCȢǷkOkTOLnQQʛŧO^lMj^WRX³ʽĘũŷƫþʜȡƲɥ´ʧƤȭʤɶùĦƙ£ǥű ƤŰ½¨ûżǝƮɯƧĴĸĽɷʨļenYSCRNSNĿZA?Vk@cM]ǛǨD\[?YCCkI¾ɬļȴǝǿɛŪȣŧƢƿɠĢȧĸ¬ƛèɦŻľȵɼƵƾřòçǷƥȻĿƽťƱʡQLiP[TTSV??pQJdL]YNLjȽdjojcejMEnYiŽjJWCE^XYCȡëØʤ¡ʰʭɲʨʴŽʽȩȱȡµǜɢªƷšȞʺɼıĞʹǥŰʿʳYT^Y_\_lpGjhVnTZ[UVP[Z[fhPkhJnHAPVO>TAMmCY¼ŘíſȷǬĨɱŘŜɤŝȦɟǿƸƩȬȿȚɚȼ©ĮŲðʻȿƛŠűƦSNkĭldMmLCDSfcCmjfEīhUbʺEM_cGlCghQ>NckX`XWZMVɪʪūʼÙǷàɴǿɽůæƿƬȠɪøĨƪŢŲ¬ɣʻ¶ɢɹ¾ƨǛżęǢºɲǝƩŦl\\XFHHJbƜPHNdEEmk]ȿjWLKLXOAfiEJIGOjHRŹɞŻ¬ƷǣʤȶŚƲǬʩɴķűªŤƧſƶŰʣóƽɰʠěQRS>GW[geȶɦɮKd\EgUiDIɨĪĿ>ioeBZo]cŸǪVgAGOFKnWŵĺƞęáóŤɽŢǥƛʿĭǯɧȸʣűĵȴȹƝ¾ũúpnn]OhaO[ȮǰAnBTPBofRea^D\GWZpɡNmofD>VCoðɭÜɮī«ǪķƪȨșęɦġ´ŶÞıƤũůĨʢũǰȵɴǥķŻǸǥǲɼǪnfjAEaSleGiM@NNhFHfMhlnPpiYʼBLIBX\Z_kVKlm^kP^Y®àéɷĶǽǞóʡɚȤǣŽɽîƪȫȼĠp\XJfSh@poZ[ɢ_]RXfmīSYLUVNjBJĭiIHVk[A^Iů`iOT^OMfpʚ÷ĿƴțğǝǴƳǼ¯ŸǦǩȧĵŹĨȮɣƣʾ£ʘɟĚʜĘɹP[nCf_EBP>bMR`@SeZAXm_l?^bDQF>ƶp`@^NMok?]V[ȹmEmʚǾʣǶʸȩþÛõʢĞġĿűǬŭĤ¾ǱĝíġĻʥǮơĞÛÚóĠśŢ\mH?BVDln_fnóâa?g^MOXYkP?FRjGĮfIp^^lɻʿQpbBkh[kSĦWL[V\dʛʿóȺŻȸɟŶʱûȝś¬ưʸǥ£¬òĳ¹ÙťĝȡèȰpNZUk^nXilSH¥TSJL?[HQ\P^GDhYgJB[mfĝjBm>JOBDOǜɞlDelMnɸƴȲɧǱĚƽɰʝǤśŽșʫƨ·ɦªʲěöƙʤĲſŪ¯ĘɩʱŷɛŧFnZE?nhSBf]pʯgAOeMUNkJOI?i>oIDc@S?ǰUOp^f?NO_ûƿƚļYK?EBTůæɴȬʰǾǸųũ§ĞƝɴÝíÜɜŹµɟŝŹʚŲȟƠ´ʰüæʫêŵĶÿŮ CZRƝO>\`lRinpʝA@I>a[F^\TNk>?cǟiFp@S_IlHfG`[c^d`phLOUWC@ZU\CNcfOŮĸ³ȤɛŤªǹʤĜƣƝǪġʦǺʞâţʹęʥ¿½XfPjSADkNVYbSHHaATOopa[dWVMYpWE^?hBHķ]JopZWSQXFReKXZJcCH_Fl[aşæýʳ¥ʦʟ±ʷƵǧƸʳĘÜĞ¥àɺʚÿ­ƬƵȫȣš´ƙɥbiSȚ?UX\HLKYeʤ`OF@cVkGPjKXhnmEd?e[ckfbIUjbQc_bVŴM?UGKd@i[KljLEAȧɾòɶâñȨśɶǴʛʢȳĸķĻżĦɠīʧ¤ŹƼĮɟƢɨ­Źëg^N^KVbC?bCjjYjFP`i]]NNbĬiiaśøȱ·ȞǚǯīŰɷȡįïǳƫȰɝɛ¾ʛę¶ȫ­ȢĦĮɢǳ?LFVXJUWV_aepClCeYnI[jToTIYȾſƚƹùŚ¬Úʿ¿ƬǥķęɟǤʢĿƝƪȸĶɸʯɥǰĴʪþɺĳʚĞŶRI\Cn[?CnQ\B?c_geRbAHf@XʻmYbŽÙɷǲġɟðĶüʣȟƹʻƦÞøªĺʢçǲɟáèȦȧ¸ŝɵǵüʴȨĳƳȧȮQFT\^nlc[jZOf_V@^HBncʞSib?T>XQCEVU`g_d^MíVVNnRi[mMNphABeGXobUUbPpǥʸǰĸǵŻǷŭʺıĲ¶ŮȽǴșʙ·°ãřƼûƪŰɼȸǭINc@^^UQoIcHTnGLBGdPIpPWCbXĦFgIPCZƱNYT·KPlPiNXWPHnJf^SPnRgSnLSGgJ@ũȻȢɺĻŰ÷úêŤʼŚĻǭĲŚʲʩʧ¸šʱŽʰƨçţǳèĤƶƷjZJ^WCL>`hnXVQDiNc\Yhĳp`YLoQʶpgBNnUDUM`RJQUB>H>KP\ciJ`eeF]@Xd_gBVÞūʿ³äçǫĴǙŭƨɚȰǞ¯ºȥȥŭ ĞʦɞƧǹȻÙɟžĥʱa\gťSDZƤX_cToFǩǝhClŷUg_¸JRQƻʽɪǺűøũÞʲõȡ¤°ľÿØȦƽƲÚµ¸ɴøĻ÷ØʨŴÚeLdlO]ʝa\>ʲ@[nĻdGSÜSMQưȮFYaɷǺʽǪțØİʴǿǠ°ɘȷɘȤĹɳūũ§ƝůƲıĜɮİĮÚŭǫâÿʳARgʧXZlȦlTH?KMț[caű>XNʸXi[ɨġª¢«ɣɨǾäɺ¹ƽŽȵŘĺŘ©ɞȻƷʝ´ǠŹýƢĭǡɯȷǟǛǠĵĤJkZ>?cKmR^V>n[NdJDHpcZkFcFRgRH^CYGZXŦVTjmUWQNCIfAʰŬ¦ɫȹɞʠſŲʥƭțʧàȭʠĘǥŨǙ©ɛYHpǻ_QdhBTkaR\XXiDOʛB[YlQUPAglGQRp?ZJW@^RiaNobMR_MǣŤĪýȘºǱžǜļʩ£ɚȟʬİĭĝƜǮʜ«¢ʰţŲĶ¤ęƦɣáɫɝƫǣɮʲIJmlMXn_^TFUoASʾ@McRD^^jcȴ\eB[>EI^GġUC_ɘK\YFblEOoHPaòʿɤų§ȝǩśƜǜƪŽɢʾŚ³ȽƼĨʨŠȹųʺĴŦƞƾūʢʶƺƝc`]YOYZ`D[`\cYSfMJXaNǱȱáüZR[NG\KXUǴdmfiZm_`pkUlǼȱũĴßŤǞƲɫƥǿɠ³ðŦýȝÙÚĽŚʦʶșŢȫȨƴŭɬn@S@LSEWSSWJnS\HWCíal\«ʙ[OXIM\ŪO`?A^acK@kK@B>KŨ¬ĳ±©ɜýŜğƳȰɵ®¶üɬǫȝļîǭŶǩɟŴǷɩȯǯ?pYǩNgKf]gbiN[o]ƺndYlRMǬĸ\NFKCL^m?ɚGGhCBYGOYȩW[fĳɯȡĿźʰƭ¹ƻɡƴƻȢʝƯǮǜȜȜǮʭŠð­Ʀĩ¾âʮlllRVOAH_IeBɩQTpcPpbda`fMèc]Bkg>eIYěAll[jJiZU>LlǟǨŝʰĨɵʟŬƩæƤǞ÷ʚƦʵƴŚĿɯƱʙŽ½ʶƷǰùǴñʶ¿ǷǛŨdXBgoIjHVfaiYXLiN[IGmVE`PAV`RNəb^al]HAk>QIn]`BŰǽïÜƘíƢĴªưƥșƱŬĘæǨƭĳô±ʜ¢ʵŭűīƭšYOdlQVomcCJLìAFSpWfWIoMigȴk^GęSpgŪǸ[OOET_@CcONAHjNǨʞūƬßũȣǭŮɬĵšǤȜȦÜŮěƺʜ¥ș¯·VmJȨʩſKS?nNmLOHž^^oLFQfnMŴƙ^ZDŬNgA¥ȻáĜʡǫǸɹĲŸȹȰȾ±ȱà£ʾʾɼóƨɞȫʹɫĴȸĨêʰɞbMlßʰ>>?c\keD?jSfXMYYbYŴʨĤŶBeDǵĜŤɠIXR°ƶä¬ȿ²ȤǤâŸʱɛʭɵǡǲĴʰǟ·¥¿ºíǨĚĠʳȸɴį\FkîUn]mW][aTUU^YEO[KPʘ\bRǵȨʦic@ɵʽɸʙøƞ¥ěĿǟĳǿüɳŷğȣǠñĭ¿ǴʸǥǤʣƙǘĜƪɹɧŠȿIEgegS>]mSEdi\aQJME>U\LnMle¢ųLB]F^^cIoK_`W[FRcnCj>SOOB[D[jgfcgd\G_]M\iCȴɻɻľʴʾ§ɭ¥ǱȠģƸ÷ñźŢâǟĺǦĠƝǼȲŷƳɛý¤ëɘɦŬ¯ʬÞPLHf_O]SR\IofHZ_`iGkFʨCNWD?SĚʘ@a^PRMUdPlDjYKUIC`^XbPIZS]ngjbRg\UnHEadLWiǩěÿɞɰǭŘƱ¨ʲɿĴȸțƝɤŤșɴŜǷƙºɠşƷaFRIoSoNSCpZ_?[mlTIUmùIIS^[Cä¦īkU[MTNFo??f]YgJYJBlgb^NYAkn\\gMTbMaKOSGRDLĥƯŪŝȶʭķɷâůµƥǾƺ¢Į üŵƩɚƚƾðƻƶɹ£ĶŲǾƯĴ¹§ëĴǝɨƹ¨ÚɞĨʚț¸ţŽɪʼɷƼʮŹƘư²ȹ¿ſġ«ɳí§ɧɱĦàůƽíķƺǽʬǟŘěʿɪȚǿśƤǩɝʱȥǝíũȟæƾʯȵǪùɦíƭŪ¾ÙíɲɪìįǝƼĬ¥ʾǡʹŜƲľÚʘɵŠŴȘʛʳÿƨǝʣ³ê¤ʡȲęæǶʪŤĢŬǢƪäǹŹȠÚʜɸĦɟĥ ĚŹȾƺęưžɴȾĜƫūʿ»ĬŪíʦµƺŝƸɤǘÙöÝȘʙŞʪȼʧɥǠțȟŽǴ¬ȬƢʟƥ¬ťíʛŮǮʳûʻʴħȸȟǯîȭɤȨȚɰƣȮƝƺŸɮƼ»ķĤʟªŴïžȟȦÝ³ŭâʪǲŷŷȽǬĦƘ°ȷȤȦţǞɶǦĻǷ¢ɹǱƳʶǬà¾ǘƘưĥŦàĪǢ«ȞſŢŝŢ¯ʚǰȱ±ɘǡżŪ¡ɱɳʷĢƳĦǡĩư´ãʟƭȫþɘɧ¡ʺŰªɫȞʫʮøźĴʝŜůêĜʚʭȡ¦ɬ¶ȝòʷɴƭśɹɡǞɘŧƣÞǡɾåǰŬ¯ʺƼʹĶęƿǴʷŰɼŝŚɲ²ĪÿŦʜǲ¬ƚƱ¸ƛɬİęƞĳƴțäǘƞţǮğŴǾɶǧʞȟȞɨȩƴǧñķǦŠŰʲóƿƘǩȤɞƻºɻʵŸģĳěȡʣʧīřǩĶůƭȽɯǞȪĝêźʙɩĩĽÿÚöǡ»ɶƵǳŭǷɥ®ȴȹƳɭ¥ʘɥ¡ǩƞɧƮêʬĴƻéǢƜƱƨŠȹšźǯÞʮŸʳƿťĠûƿʠǪɷȱÚïĭƘĨŷʲʾǢɲ¾ĺǮĽʝʹʨűƛȳǯȯʹʰİĭƟɚǧǚƼ±ʳéÝğĻùʮưŧéȦɥɱØȮʤĬçɶȨôǧóŚƞ·ȧǯʮĶȝǾɿĹ®¡ƥɩƷʶʹʩǭǨȡɞ­ɛǘǸéʻƺɳøŢǤȯǣū°ǩƣʩ³ŚãɺŲɨġǢʟƫǨŜŷǯýʛǵʩñǛſŪȲİĺǞɯʞğȻúʘ¬ȷĞĢļĝȝÚƟşĴƞǶəűŭȺĦȘŶñ§ïżțƭöɠ¶óɜïǙȳɥęĩ´®ħȜĻƱ³Ǹɭ¯ʦÝǷĦŤǟŵȹğƸĬĸʼèƙȪçØȧôòķɱʯƿÜÙʱÙʼʾʚʫɛʵɰîȺɚę¹½ǞʘǚǤƥɯǱß¸ÚŶȬÙǲĶǩŲĲè¬ȭĭɿ¥ĬȴƢɘŵěëž ö¨¸øʞĦǠèƴǛƚÿŦĦʳǹŝȻƥĹȼ¨óǨ¤ɯĦəʷɭÜĲŦƜ¾ƦǾůǭɘʩŵõƦʡçũÙĨưʼɺ½ĪƨǴǜÛèĳʡɨƩɺʾʧ»äƤƙɟȳűųȳàġ»í¬ȧïǼʱĸ÷íʶŰȧǠåǪɯ¹®ïŪƠɚǥĝʻǵʸȯàʴƞȮɬůɲȨɽȯǜƱʻǬ©÷ȲǨ¦áɥȵʘĬʩʟɾʝȣ¬Ű¢ʳʼèìȽîìţ³Ȩ½źȜʭôòɶʮïȩŷɽʘŬǣȝɶãȟãʛƺĝĮǤūàŷŨŜ¿ŻǶ®ƾĥŬǠĵřƝʮŨűéīǡɧƻȫ¢ľĘūɟȤŶʤȲƪƫ³ȭȲǫȯġǲıķġȪȳƞıŞţǡò¦ȣäɧÞɵèʺŤ ơõŦɯ«ǰʜʘ©ěʻâșį³ȩʧȧʤźǻȦƺʽŤɷìǦŵĿǧģȲơØŜ¦ɱàʾťíƺŭǩȷàǙɮÚŨȘʟŤɯºƛŜȿȺêƝǜǞʙȻƲȞʪʽıŽñʙĶƼĴĢȬȵĴũþƝšãŨƳʧĳðŹ­ǟŷĩúýøɟǠ­ȯĞǧõɹʲŝʭśŨ¡±½ĠľǾƢÙúľɺſʧæƢŜɜî¸Ƭ¾ɛƽǛʲŷĩòʫʙʘŰŭȩȝɟʧģǝšĪáʴƩĸɟƝʘȳĦŞǮŠƸũĲưʙ¨ĮöèóȿȦýɿ¾ǱøǣȰ©èíǢȧɰǿʮžƢƘȽŝŵʟɾęơşŽôĳɢçĠěűʰɞĸǧǠǩ­þʣǝãʭ¾ǩÿʫÙ¬½¦ʳȠ£Ƿę²ǥɿųô¤ʷüƩɠ¼ġůĦĥĲýż²ƟûȞʪĽɳʿ¿śƠƯĥȫȝƥɨóǹʺŠ³ŝʞǤùƲġĭÚřĤȿŶʺɾǠĭ«Ʋȱɥɸ«ɰƽƛưôƸĺɚƪĥȴÙɾșəų½ȷÞǯūĜŞ¤âÚ¿í¬ɹƬʺŴſîƨʮȪ÷°ʶŽûñú´ʝè÷÷­ȥ«ùəțĻ°ȺǿŸȨŸʺǹƦéšɨ¢ŪüɨɞŞĤȶǘĘƙěƽǽɴĻʮŨƢȰɽʘğǿéǫɰʚǠʴɧǵʷʰúƱʡʨ¿¤Ǥʠʘ·ƻżĻī¦ĨƢɽŨȿɟŤǱŚʙɤƽ¤ʢʟʰɲʿØê¶ɼǰǮǟĺʝɠȰȮʪƺƳȝȠĲʽ²ǶüƺõâȩɼŢğŻę¸êɝĺũȶĘǮɼȴʸüɥɲȱƼéɞʟƻǦɸǨìǬŹŽƻʩțũķŠʪȡɷƼµéȟ¢ƠƧǫȝ°ƟɵʯɞǡɬĳȿûʩʱæĴƜʹýʝȣʷŷȚȯư¶ǽßºáĤƾ³¼óŰǛʚŴǼǡʹǸħÝɟʪưɢŵǥɪɣƬřʳĩʪŷʬȩɴȡŷɬþɧòǢŬÝűǨ÷ȮʛŽśƨƮŹɽɲǫ¹ĻŜĦƯƽôʧ¤ŵȱʯƱɩǹýȡŭǧȫɯɜĭ¹·ʛɬĪãéÙȠʧƨȟƨ±ıȽţɞĲļƬǡȬŭƬʡȪʣɿĻǝĢǯǡɨɤáʷŲʢǢ¸¸ʵƥģæǱūƮʨ¸ũƢÛöĦɪ©ʫɘȠǰèáĳɭȾǝĘħǿɹȬƠïá¿ûÝľȟūʵƮŽƷȞɞǻÜɰĬƝĩƧŭəâĥɶǚǨʣɟ¬ǞǤƽǷĦîĭƻöØĳɚåºƭǵʰƟɼǪƥɶ³ŢɳĢǤƳúþǾáʛǢɵȬʯɡɞǯǨĜİƜǦôʻñæ£Ũ©ŪʣȰƾşùʝ´žśʪñɡȯƸɻƛȬõǟɾʻÿɚŘɷǯƺƜɣƲþ¥ɜǣʪȵȣʷºʣȘķÚɨƙɤè¡çţěįþŮǼźü°¼ʸƙț±ÝǡřàȦƪɝʠàȣºʚŪŷǷĸġʩʱȫçǶȳŸȳǴɝŢó·ɥÚʼŮʼàźáɿǿȢŮɬĿ§ʭŘɰÙǯʲư·ȵɶƤɩʨëɾĽʟʚĳȧßƷǿľȿȫîʮƩÞɵʯŴĠãƦƽĨɦʠßĮɥĪǧ±ļĦŹũęƠƚŭŵʵäǥ±Ž°ŶʵɶšȽǭʦÙªŲʣɵǥʲĞɷơÜǾ¨³ȷƫƽƹɭâĘɳƽǮĽĤƢǘʺƼêʟʹģʢƚƮȪŦȦʾƷŪǮǼŪʻȵƵƼǶȡƿǞúɼƺŭǞŲȵ£â±ƿɘʡƹƠǞǷƷǟ¾ʱʺǥŦţµƘûʼéȠĝŜƲƳůǱëƲȦȜòïȤǰǳʹʳǬʯűÛʠʘŮȻŧɪĻʨǠǠòǬƽǩžľǯØįɢʠȦưɺǝƘʞäǶȭɡ¦ȤȚźɮ±êĦƽʝĽŸʧ¦ɦȻôȦº½ɺɩ»ƛĺʠʻɢǻǞĺɟɶȞǺŪȟĿƦȬʩŠ¹ĵǤɲµʩǹ¿ȱʼȡŽŰǦȡɝƳȘɤúʯɷɞȣȟ®ĦɯȶŭțĸƫŲȤǪ¸ʮÝʪðµƣɫȞǤʵªĬôʣƼʪ¾ɻȹĠɰʲðǮ¥½źñʷùúźț»ȢɰĵɸŹÞĪĵȚĺľƙɱɨĽĜĶØʞĴÚºʛĢżŴțƦĮɰʮʚìɣǬƘƵɰîʿȩȭƘǲȡŬƴȲȾ°ĤɷǣƱʪțɻʴƫůȜưɡȻ¬ʫŚĲǛªøʺƷɞĤŪįűʫǻÚʣʟȡǧƪ ƩǙģĨȪʸʟįɱŷģĠħȵĲǸȷƸȻǲíŲʳʴôŹǝʺɳǜǥëƘĹʫʻų¢șķơȡáíȳɷʤííƪŘȜƚøʽƿȫŭưʵȺ«öàɤȚȬŨǵšǾȘæĨÚŸɪĘ«Ƴɴ¤ȶȸĻǶú±ǺƵ®ɺɦșǘɶÞɣȢūȿǰ©ƽůÜȢ¥ɵǻȟêŞʥèĞæʲɲʪȳȲ¤ĪçØʰƠǹǴʟʻʚǞƲǪ±àɶŻȵƿȩȳƟʟ÷ʲȠƟɩƞŽʢĹǮȿŚɳǞũĚƳɰĽʨįķ¢ɻåķĴĨɥ¶ơǱǼ°ŹɘȹƧǼǬư¼ƯūęǭļĤƜƛǷãůȶȻŤȜ¶ñƭĘŹĬƘƙʺ©ʵæŵƼĭǥȘĜʲŝə±ǲǼóıɹç¸ĞƢŵʩʢĘʻǢ¾ŽɡĮřäƽƘǙèŞƜƶɹʷŢƝȝŭȵƧɵʺʶʩģƯɱʰæǴŧƢȟøȼÝýʿʠʷêÿàȶĨɵǰžİţôīʱƱǷŵħ¢ƨ³ƳʤŰȮĿəɟưøɡ¸ëƵç©ʩɛƨƴîĹèʱ°ɚǞĨɿɧǾîüɻĻŬʭȦɣǙȦʚęÝȡűĵǺ½ɵƠŮɞʫã­¨ɤ¢ưĘĭɶìůºƹȥȦĨȢȷɵĭɤâɼţȩ¿żƪżÿƳĢȚʣǪĳʾøùȳųĞɞƮȭȽʾɽĶßʫɵɱŨýñƩʿŝȢȚŷʞļĿ¾ȠȠȞļʛçȧʪɦɜĨȨ­ƟʿơáȻƶɝƥȣĮȡʮŚƩŲǝɱêÛĞȻŶɛƸʞȜȹëÙŦʦʽƯáʲĭȥƿŠŴ¬ɩżðĘƾɨűèØɘǼ¢ƳȣƶŬĘĽħãƪʿɮĜƯ§íʨä©Īùȝøųƙǣƫ««ǳʧęųƞȨʣșʩþȬĘǬǹȲƤƫŤƮÜśÙýǫƠŷĝơʟŶĜĲƳĚưþŵʶļƩǡʡƸñ¿°¿ʩʼɸǽʫʡƱĹǧɸŹĶɥĪ´ÞåȤȵƮǳȼɪų¼¤ơų¡ǠǨʠɺǠǱʶğèǽǻøØĥƱȸǷȚàǙįȳçØįǵĶ±ıáɝǴŤȷƠʹþƘƟʳȱŦķȹƟȰȽÚƲĴșɤȚʢ¢²ȮǡɬƮŨȵʤ¡ʷǭÙ¨ñĘȜĘɷʣŜśıʚķÞʳȼťşƢʳƾȘŚʢĺùʘǹƙɛåǷɯɶʡũưůɚǽʛèʵëȟɹɚļęɜ¾īǻÜŵĺĸʿǦʪɴĸ»ʞǼɢľǿŲƛǚɘǾƸ¨êüƿǰ¢ɬƲÛïɛɽçǣƱĴɮŰƚ¯ʛʞȩâĶáìʵȩȥǵʢƱżŵȽƱʜŪư ŦƭʩɼƷǲʻâƬɮİ¢±ƪǚƹ¼ǣȩ«çź§ɴƛǯųŚɞʾƞȻƝƘÙǯĮĹȞǜųĪ¼ǙǺȽǲçʘȝɛæɭ¡Ųʴɴ®ǴɼɣȷʰǽɽȯãŚǲǚȚñĦʚ°â¨ʦġǞƧǯŮ¼ơɣñʭɳȘʲǢȷŘęǳʻǛȧȽƯ²ğľƶ­¢ĶʼƥįǙǸʝŜɮʯʲȹǠĻŧʪ«ʷɬŸÛžĹ§µŞ­ǺŻŪǴʥƵſȼƲŜư±ȱǲ¥óĴɪȸéɽƩȱǡʪƜĞãÜʦĪĘÙ÷ɻɴʻűÝƜɞǾęƞʭɜǻȘǩľɨǨɧºĬŽǹȼ±ǯƭ¤æǘĜĹǮ¹¹ūɬţȵɚƺƮƝɰəƨ¡ƚƺɳƥ¥ãȲǺŶʱųɡĽǳƟæɭɘåʣȩȠɳťƭ½îøǬǝɮşɭƿƭɤéɠª¡ǜ¡ó¡®Ⱥɚɣ­¦ŪȱƱȾƦ¡¾¦ʡǵ¬ʵƯʣǼȨȡÝȻȲǬĚÞķɼəɝȚɧȞǺ¢÷ķʼǱȳǷǸŜůƙʹůĮśØŴŨȚɼǶɮŠµ¶ȲʤØƧęǙƦʯʵƸȝŨɪȟəʪűɨȭɷɱÝəŷʚȞʥǤʽɯǽíŞǴşĪɻȘʳƯǣȟǧʡĲÝëȭƯĶ¤ǥŴɤƹĶĮȚğʘǱäƘʟ¢ȷƚɤȞśǹȭůĻƼȭɤʹȮȽɣɽǝšȻªȻșƘɽĵ°ǴƠ¾ɹ¨øʪƹĩŨĵȡǡɩƭʽȨȦŦɨŤȲůƚʾɜƧ ĩƱɟéƝȾŝƞ¢ȟɣǞîºĤɫǜŝɢǥġǨɦśóʾĭǴƛťƼʥȭǙĜ¼ʽɟ¶śɛÛƽɧǭɥʪÜȫĩɾ¤ĴűȥĲƞȤÜȪô£¸ɱɷĶʷɩÜʛĜɽƱĨğÜȘŴŠäãƮ£ȿęĹŝȟŚšűɪ²źɝʙʘȰƢêüªɣʷȬ§¢ĽãŮʮ¥ļĳĤħƭȢɟʦǮȨɚ²ɟƫĲúɣÿɝżĜʫƩÝüĢʴɩ¬ƭŧʹŴɡ©ʘǨȵ»ëɭ¶ʻȮÞǮȺƟɸ¡Ĩƺɸƽ®ż»ȳíĩÚȨǺĬ³ØÚȤƻʰ©ěǰƩʤʤȶƨȪñɞȚŻʽƤȝģŝɴÛʧ¾ūǝʦëŧµĞǝáʙǢǻſɵŤʽɴŭɜʩɿťƼīȫɨǭÝã¹ǟɽȿĻƝʙʘʵȤȰůǦʫĶťŮʫ¤°ĲôȬǱðóǭ§ƝɚʰÜɭśȬĜƭʢµƸɹèǮõəôĝ¦äȜľȱɥƹɛěŜ¢ȮũʤɨźȽʯǱľǷȻƴśƿğŽȮʨɨȭǺ§ŜƧǮŰɥƳʹě¬ÿļƤàƳɴƛǦɹƬĠřïɰȩ¯ŮîǲǤǛãşŨƱŨǞżȩÝɹǥµǼǵʯ¾ƙĦʧźɴȲɝĝĢ´ıťƽǱğȾɱɥÚʜŶƣʟǜȥǥǡȞǡíƨɥʙʹľĽŜĵÜȴƥʺåɳŴĜĠũŘǻƯ­ūğŧŪƢƚǳƚʩĜǹơĶŦȱȚƧǴƢʷȧȰĿęįƜȢ¹ɱɢŷéĽɽĥÞȩĭƩàƨǙ¥°µêʶɵùƙȠĬù¾õƨƘǧʸƲôƲżƵʩɛǵÙʽȢŢ¤ĪūêĚãõȟɥķʳ¾ı¿ǷʫñŜȢȫŭǱįŞɤșĹ¼ïľƬƤħɢǙĹȷƟȯïŞű·°Ţƽ³ŧêªť°ĶȺɽȨŨŮƥǪţơȥĘŹƾȠļ¢žȯĽȹŹțí½įʹ£ʶūĿĨĚʳŞßŘʛȚɝɣȜȮŝǴǤɾŸƥâǪș¦ɡúöȶɹʡɣɡýȪŬ¸ƛʛʘěǠśɾƨʻȺȴȭ°ǰʼɨʫµʨɧƽʥȦǢǚʹřɳż¶½¥ǝÜʣƪɘ°ĬȴƵɥý¯ȵɟȾʣĬĿǢȴĜǝáþ«ǦŰŨśßĬɼĜöƢŬæ¹ƫįɯƟȬ¾ŽƸǟ¿ěȽɜŘʭʥ¤ȹƨȿĳɷǛǶǙȺèʠýɾǘĹŤȡèĢɵǶʶƞǦŶ©ƙɹěȰʭɸÝµȡƤĠĸ´Ƚ¡÷ȰɺƘġǭʾŝ¥ȩøƙȤƛʫ¿»Ķǳȳȫ°țĽĳɦǰǥʸþĩɪʭɱßȦêǶȥƮèƦÿȠʲĴäȼȶȝʣåëǦŘɮŸʽ«ãĩȘɼ»ʪɜǶɺɝƵə¹ǾʙȧƚĬĬɱ¾ɮ¸ǶʿÙʡİɾ²ʤ¯ɘī¼ŴʪʮßɥʯƶǨɺʽɣȳʩʤʫ©ñɥÛǿ­ȫʬǩɻĜīĨģɱ½ɤƭûȡǿûĴźģŸƺȫɽïɜǛǛàŽüɨµǤɹƹǬİÙ½´ƚƼ¹ȯůʨŶǹæľƚȨƾʪǳĶɹǢ¢ęǘɘƜĤ»ǝʙƶȱ´¸ʣʞɻưŮʲŲǜîʴ¬ŞƴĬŸæřǷřĵ¶ǹɳű³ʠɚÜĺơ½¼¯ʯƹʲ¾üȚÛǨĶǱŭŢǾŻûɶʝǸǿĥĶƾŝȦƪǺĴȵɻ¨ŜțưľÚ ɣȰǾŧŭɮʙĺʨŴƚɡȮɭȷʶƻīȤʨƿʞʩǙɜ¼ŞǣéĽǷ¤ǣʿǨŻÜưɢªÙ¶¦«ɱƜɞȬǞĥȪ¬ıɮȰùǿàʤǥʚǤȩȲ¼ůûǷż¢ƟĳʟŚțƵǲØʘěƱʽʯçū¯Ƥǻ¸½Ƞɶĝñ½ãúɯĠĺʲȞýɨƮ§ʼųȥʾĥĶſšǡƚɭòǞȤħ¢±śßɩêʪƼǷǟǯʫžșĪɾĚĥʾƚȡƶƾǪ»ɚǹĦȘȘƶȡʮȩŨɼĳȥ·ĦʰòƩƩɧƩƜǚŮȣȪǴƙǲŲĻûê½Śíĸɻ°ǩɪ´Ť­ɴʛƹɲơƞǞþǳàȘʱǺȽóĦñɷƤʾøȸñǷȢʢ¸¤ƫĴ
\ No newline at end of file
@@ -0,0 +1 @@
+ǫĦĕƐĥǙĭêƗÐǸŢò£īóŞƟ¹¡ßúǞřǵ¸ƟêĞÓīöżŐƍƍǏǮÒĦǠï­ǿǽ¿đƖǚ÷òÕƋêǱƋŔśƱ¤ƕǟöƺŨǍƬ´ǣÿơǖŹǔǱœĤ³ŝ¤ſýǋǬèĶƨǯøƌç°ǹǯ·ÖŝƯřŗ¥ƑóǑĢÿƙœĽƸÙñâî£®ǩǙǷƓúį¯ëǲÒŋñƒƩǬŷŬýĸśŘǏĵĒǑƎƎ­£®ƜƹŠŦŘśōĥŦüǻĩ¶ğƷŴǘĤƵ¾ƐƒËðŰ¡Ě²ĬĜƠÎâèǯŲęǱľĤùİǠƧǧĞƽúǰƦĺĩŵıªöūƣ½ǮŔǚƯǑŽ×ƳċǡƑêǿēǰǰŢǳƾǐ·ďŐŲŭçƠÒšÐƶ¨ƴǠ³ìǷǴŏǗƮƭŖƼźĒĿƧþůċžōǥƶůƖĚœǸľĝĲĎ§ĕğǻìƗėĥƸǣá¡ƙËŨǪ¼ĸ¤ūǟķŸūŏŸŚĤǔƵǪǒ¡ŚĹũÛŤǧǪŰƐŤƛŸ ĢŸŰţşƒæ¿ǿęû¨ŬƥċŚƑƞığĲǗžĠüƤǻí®ǪĵÿƒèǧŨÝúƨ¢Ŷƽ÷ŕþŎì°ĿœǦœºƠĮŔĒƟǻïĹƢƘýǣûŝšō¦Ōǒǧ÷ĪǕëğò½ƜĿñƝï¬ðŸúƑÌƋŕƖ¦ƣįŻƔĳǗſǨĒǫúÙǝĐĔý÷ǡ×ǾǮÎòüƩǴüơǫǡƩƥ¸úǥƼ¿ǙŧýǧŤ¥ǣ¦äĜŧŭŐǦÏǽǛƐƼơïÚƛƧŎËô«ĒƥóòĚĕ²ğïòõ½ÌǨĎŵƍƧǟđªĿėï½ő ġƱħŽƜƵƪǶǪƱŜċäÚªåƑ´ĮÛĿóĚğſŴƖŻþ¸ƺàŝúƦƣĽǶťĽĤƦ¿ñƣðĖǥĘƔǧĖıƵǝĎǌ¢ŽƧěǋǿƷǶĥǫĔŷĪŔĕţ©ǔÝĩûåŸáĪŸǓƙƕĤǜŒŶĲèğÝŬǬŽǬǥēƤŐÌǶàǣĦŗľƱģƕ¦ĳ¾ŏōğǼÜƖǏĭĕǨǏƍōƨÜřŢĘµÍǘĩ£¢ǓǱƞŬǼǗǼ¹ľƛōǧƭ ǛşǖÌ½µĳŏ°ýǞǣ·ưƸõîŹ©Ǡð³ǥßůǶǧŹƴǾĝĕǏ®řĚÞ¨ƒǍ¸¬ǬǥǭžƯèƬǼÖļǜƨľıǘðżàÖË½ēýƾǦīÑľǩĜó«ĹÞƑçŻČƥǵǮħƟŐëÐķƜŔĖùƎÌâĺƙǰŗǑĹÚǾŐýƪ¯ǕƾĺŭÚìǍ¾śøÕǞ¼ƔƜèÓǱǳĸµƭĝǑŠéǵªǮ¸ǙĞǴǶƾÜ¬ůƱƥµŤƐÞôœƝǨĤǑŋĔĠàǚèŞ¢Ō´ĳŦƴėčŜõƤƕÔǖŴǺ÷æŎưéşĬǬǨǌŬğưĭ¢ÿ°ǧþƚøŖƙƎÛšǬÖŪĦÿǴ¶ŗîƌƴ±ÔÞô±ǹĴŏâ°ûǙİƧ·ì§ǝƼčô±ǸƟĘ¨¨ƭƠįƲþǭ±°ǰǋËǍĸƕĢĎÔŋ¾Ǚ÷ǥĜǧǺÒÌìǱǭǯƟƘǩƎěļĺäƚ²ªǓÝŬǏįžƟēĲƱǖǨŪƹïŕĿÚęĤǶñƠ£ĲƜ¶ÞƜľǽƺƛėŧǍŮòčĎǽčŵêŶƜ²¬ŗĎǑƩ¤ŝåŚŔǯÖŔǚîĩƴǟ¢ÍǘƻĪŋñÜƋƤøŏŒčŧǩǴĮļþşǷ×ū©ƥŘǦǣżéǥƾőİŨǩÎůƸĭč¿¯Ĳğ®ŋƻƼÖƕũƔ¼ƭǌűĪªĿǕ¯Ðǲŗ°ƌđĻƴđöęſĨƬĩĸƋšģµǰåēŕäĹ³ţƾûĚñƏ¸»īŋǛëáǶĬŐǑēŚŔƾǰěğǯ¨ǥÞŸÍýǵĳãǕířåœĽťëƟǢÐñƙĐÓźƚěƏòǞ §ŹƪǠĤƘǑžƔ·»÷ëýîÕ­ǘÞÖô¡ĲǟũŘŶǐëÞ­ǾŧƸđŭďÎ æǹƛǎƓƎŗŚî²İƽĶæŘĮ½ǎÓǪĨǚŕľĎæØǽļïÑƶěƮǺ¿ųâǮǝþĜƣüãĦğĪ«¦ĒķĶǰıĔºǺǚşǚƤ´ĒÓŠŒÝŎƿĨƧƔáýǻĦƍǲÎǍŚǵļċ½ÞǢǑǠŸÐƒǌ¶ƍǚĭ«ĩÌǷåǤƓƻŪû÷ī¾ĥğǛŒŖšǶÐ¦ú×ŝǪƿīòĚưƑŴǑŧÝƐǗÝŝżñƺè¿ǩĞƢ»ûċ¤Ǚ÷ƶƷĮƢǍöŤŔÞ»Ǔŋ¨ǵǢēıǶƤ¡ƦĺǒÿËžéęĦǐǜ÷Ĳ®ŨƴĩŸŨǞĎÌǣǰŹè¤±ŮƼĨ¦ƾřǡïŮðþĻźǞůƩÑĹǺ§ĮëǘÓċ½ǡĒǕ·Ħ¯¿®ƤĖ°ľŖ¬ĕ÷źéǝŭƵĲ»ƏďĝÚ¦¾£ƌōƨÎµĲŝÏǠÚƓůîüƞñƍ¦ďƷê³ĚįŎ¸¥éǞǧŭƴǰ°ǳ·ŧÿÐŧƿƭŔĲƞÐƙ½ǻĕǯöŌǭİųòƍƑǰ ǏĲƽƞúŤÕƽ¶ŷƵƨÖǵǙŚŸƥĸƱċÐ®ÑōúêËĤĹƖµĔ·ǴǪĞƤĕíśġƘĸëÜ¡äƯãŭƧîúƶ¹ď²ŚřĜ§ŠſƕƣáǒßĵéŢÕøªßǔĖƳŒǶƢÿƛľųŪ¿òøĞ³žþǢµǼöƏǾ¦³ƼǩôùĶƲ®čļǌőÝÑŹľĒ¢ŜŏǭƔĶçǒōå¯ťĻ©ŸÙ÷ǒēįǸƎ¿ČǫƝōĭǽǤıř×èċĚ±ŗŲĬıòőŌŻƳƕœČƤűåǢƕŠ°ŧĢǩǐĕƬůĜÿǟƧøĶƵĨħǔċìǗǏ¢ǳ£ČŧƎƏƺƮŸƘƥǵĸÖƶƹǯÔĐ°ěñèƒǸâ¹¬Î®Ñ¥ĐåĕçƓǜǩďǧǬõǭǗöƵıöǞŠƠ£Ŝƛ·ǌƝ¥ǍŽŋÏá©ĪåĠǑŕƼġƔǐǍ¯Ƿğ´³ľǥƤƫÞĥİǶƶįǣğŦ²ǔƍŻĮĪƯǴŭƵƩ­ǑĵǢƫĴõƻſƑŞĪƳïƼĜÒ¿ėǤ»ŭø¦èŲǏſǸǷŲƮĘƐƾġŪÔǭŒŶľĿǙĠäĶ¨ƭǖÐŻêżļ«¸¦½ǌĹð±ĜǠþǠēƋĠŵ¹ǞǫĽŴÎǧĽµǞƑƹö²ǞƍƙƹřǓúƸƛüǼũžƶǏžöÍƳĪċĠċıǤãļ¿òǮėěƔâƍƪÿĚǻŠÿ°ưĘÝļƙŽ ÓŒĳü¾ōĬƹïßĖŮǾŎƿĝýöūÍŌėğšěÚÒƜǽé»ñů¤ųǠĴŪƣšǼĶƒÌÓǼƍƛÐǚűǯçòǵÍ»ƥ÷£ĺĵ°ǠħǛƛǛÿëñǧĪÿŌ´ƋǺƣƋǜċǍǣŧǶĥ»©ğƻ¤×ï½Ǻƪ¨êǎƞƗŦŒîĳÓĿƹčǸǩŎǹƲ×ǭźÏǜƎĹÔǮƑƤǰǞĵ£ǤǏǘľÿėǣƑǩåáƑ¥ƟǌĚƎǮæƙ¨ĦÒǻČ¤ęŜůġ¥ģơǤƧĤŌŌƕŻĘòÞſîƱƻƟħŧě®ǘÓêƑ®ŤĤìƫƢ³ŰŎǨďƲŮƧǞƟ²´ƬǹşǳĪĎƚœũŋƺÙáøŻǝƵĵőïĞƸŎƱĎƨǵŢǤǴŦÞƾƓǐǯőď»·ǣŻƘî¹ģÞǍôƳǢĺƫªįêŪÐºĻƕżƚŨƢÌǓǚěĔÿǥǚǫäĎƐĳůƢǟƶ©Őǎÿø¤ĘŌƾÑúĮÑǧ¾ŗƖǿǭıǞŧİőŔƨƛŲĻƹĹŢ­ŵťǐ°Şñ¬¥¼ƿƺƲĨŗǿıëżǔÙǬśǲǣƼöûĪǞĜÏñǤŦ×ŧƭƔƏġǍ¼ƼǤź·ǒĜŶƹƚŝēƨØçƋŲźŹƫĸţĒưĿųüéǐǨÜĹƱƕŶàǱÚòƩĚƋūƟàŲ¬ãšƿĳģūēƓà¸ĞěǽǷœŰŰ´÷ǶƼƟƢƬ¼ƹǍ§¤¹şĹǸ½ǹǴħǚ¿ǽºƺóėǒǽǔĕǱē¾Đǥó¢ưĔŠƏĻĶ¿ǪĪ¬òŌƢſŏůÓħřŒźĲ·ǜĐƹƩðėŕŲºĘǜÙÖïŰǱūùĺ¸ŽŸĴĤààĨťĩŪĦĴůÚľ§é¾ǛĦċĝŭǵÔĪ°ğçŪčǱƏǴĶǌĨǑėÐƧŋƢŕƙêǞèŴÞðŬŰƩ©ǍÚäǔĠŵżǓĻŲŎĴâġüƮŋ÷Ĭ¦ǮôēǛǶªǻïđƿİĐǭ¾ÎƘĵÞüĔƼƛìƳ¿ǵÍǗǼîŮî»ĠƕŞ¾ŠƘŌÔôőƪǙźƼƵƌ×ŰóǘċĩƖǵÔªĤǌƞƲÖƢŻ©ñǰǞÙÌŵħƬŢŧƗÙŽǾŕěǥűƢƍǫƒƦǕǣÐêƾĳƧơµÞÛýåĴĻŎĭƹöŮ¹ƛƘǤđóĔàÝ­ƞğåƕǚƮǐǲ¢ñý¶øĘęĬǍÜĔǜťß§ĻĩƧ¶¹ĒşǡƟŴ¦ƮèĮǾǐŞǕòƐýƬǔŏǤÍļŐǫĜĤšǦċŻƘǽåǋ¢ÚŸı°ǼĶ§ǺĖĨïŧ¨êíǌƑúİǘǏíŜ÷Ɣýŭðƽ¸ǟúƔƫųî¥ƝǗ¢ǜşŠ¶şǲļƛõơĹûǑřÓƝŲĘ­ŤđűĎÔģôŴƟƗéįĤ»ź²ƝŠúŽƱŔōëơŤŒ«ƣǱƙǨÍçěǢƩƯ«ĒǟðǼŵƤ­ŶŮŖŚäŋ³ǪǣĖƛǏŤßĲĺÔŔǙǟ©¡Í¯ƒƒǧ©ŵǙƲóĚǷ¹Òǥ÷ǿƋĠġîşŤſòĮìƱƷƏªśŦŗĻƘ§ĒǐǬƖƌĴàïŹ´ų÷ýť¨ŧô ĻǷªŒĶŴâǿšǋĢǍğŠŋƳ¦ǳŔ±ǴƦƓŤÐçĽ¿ĲŐËÛǘƬ¢ǕǑČǭâǱƠŝƝƋƞƢ¶ƔŲÝĚǤ¾ßİƧäǩŭœþµƋǕèÖƶƥǞĬüěŋ¹¥±ÞÞĝǼſöęŴŒžƎĘÌƺčÓċǞĭŰǶľƝÌ ŨĶǌǥǓǦĨËæºãŌŬĜŴ³ĽǥŦôĠ¶ŤðƷäļƣı´ǶðƗĭĭƿǗĘƮǣ²ǦėîŮĳ½ƻóƲŎǝǝ¶Ŏǝƥ Ş¦ǗƕĮǯƠǤǪů÷ƝǒäðƬŬİśľūƟŶǘ¦ś©ǷǺĚžÔĸŢêǒĢ³·ǎǨƻƼĤÔ£ñǷƲǷƧğÛǵñğǫãƚĞƴĺǕÓǔƵƤĴƒ°īŮŽƟƫǪĳĹǫçǷƬŎĥï¤ěĠ«ĩÚö¾Ɣ°Ô »§ǍśƣÐǑĎǕƛƐǦõóƢƣǹŖ­ŤƯſÝ¨ƤōúǒǵǞǺŧƝĢǾƝǗǞűƔǭûƹÜŵÌ½ġèǚųůñ²ŨšğÕ¾ǤǽŹéÿ¨Ƨ¤īǷ¯Ǻǚǵƽ©îǳŰŽ¾ǿŚĢƱ²Û¾ĘǸĪĹœ¿ŤƞÎúįďǞƬĭ×ƞƦæ ¼ŔĴæåı¥ŷǫķž©ĨšƢťǲőßƤǦ¼¹ƩĳãļƎºÙǍ¹éìǮƖĽǑőƪƒĻƽĽ¬ŚĠŪųčƱĜƍĐåĢīĦǓƫê·ŽČŰÏŶƦľÔǻŎùÕıǖżĕľ¯ǖ¼áǾƦƨïřŞƌ¿ǩŢİ´ƱǸǵǤǎŘƒƦƩŏ©ǒ¹ĠĔƶŻ÷«śőŒĒªŗƼǺƢǞĵŵśƵùãźŽŷǽĚŧñǍǱƑ§ƫŏ×ǩųǒ·ýĦŠƠ­ǲžäĺƕǣƦǎƵƐðŸǥĭǯßƙäďǥ¦ǕĨƠëŠơÛÕßđǺűǢŠřĪƞơƾ°ǵÐżǡǙǜƵĤéƌſģ¸ĒºŕǷáĺŐåƗŚǣ²ƥčǭǢǦƧƶǕŶŸ¨§Ƴ§ŷǳĬĖŎ¿ưčƻ¹ƤßǙƑÎŤ½ēïÐĦĺǪ ęǎǨïƓĸļŘŹâčőƾǠǒƟǎǙéƜřĭǘßµƖíêǻĎ¯íĳǸǥµŨǿƮǾǝðÛÕŒǢŐġŤŘĠóǱǼŵĬŝËǹ¸ǑƤĲâǳǼĲǱŗÝǛƠƖǩǏǘěŞǵĩ£ĵĐǩ¨ŌǡƑĒâǷǩǾŭÏƭǸƸİðũĨǞƮǍƢÖŵð²Ĩ­Ũ¤ĐƫŽǴæÕǒƤĺƺŒĜ¬ƬǤçƶǱťãċŤǝĢŏƜħƝÖŮƐÞƑļǒÏǙîĲªŜÒ¢ǿįéƧƚ¼ÝƽǤÐùĤĻėǎÕƸÛġq\Pz^^}refTvl}bsN|[zOcipk~ŋşzjsqqgdnWĭGLtƍƠŧĩĮ©ļƘ¿ęúƪǓǶČõSrt^TezsMssMRGU_tGTs]T|ıuOl`[zarG}aMu¾ƔŲǲţêťƟŚĖǺĽŸĮēřĺƏǑŋįǙ·FYet[deEkdkbbLtmzroehĜà`enǏçn`ƧHlZ{\KOjkwqUǫǥǡǫĲĐſğǘƨťƍČêǢƣǏĚ×­Ó¦çaM]Ƣ\vLǨKQNƗYLPƿOospozhXRcjs[vogi~QcgZzeìïǥ×ǮĕĐƑ®ŘşâŭÎĤ©ĴưƼǠ­ĢƒclWZOedTĦeFd¦u]JWsXSlQ}awǓxE]]ScVab~sƱŐģÌÚƔ°ǔëǘƐäŢƪǩĩźǚǣœ¼en`ġ]fUbzpEjV~lGF\[hjExvTszJb]~TIw\PXėǸØįŵƗçƧƓĪþ¬ĪǐėƘİÒƩZkuKl]WHbF}YeuTųc_{KMcrMZ_{ZSV\guGbxwfTljO_auis}a}ýķďƯǋÔǎâĨǸǠČƦâ¶áœűĠǧǺģÏġƐǿ¼ęö^zx^qzQvZf~MOonqoqrdGVEU}\mc}µEHIwSopTGGesvMv|VYhJƗŠƋƿƱ¬ƮƳŚƋƗÍ¿ſÜģĺčpmo\woqxQEfe~SUYw}^ÌTayqO_LaL¨wb{Q^n`{kĠd_qUdEHXVrQmŤĞƌǋƻĎŲųžƓǖĲǳǮźÛĿťŸĤKqIj}`LVgG]sSd|YţIeExcEOmTŷKvgŪ­MsJ_W~OFWXnWb}SOyOǏƟǘƯŐǖǽöǋŞǑèǝ÷ŻñydoSb_dTgKLbUzdqIu±mrYv_qm_¨M\xǣzqrmNc[gs\mqPIUhQĎǙçǰĻƾǗǦ¢ÐǛßŒǋ­İĘ¼ǹ[UhQ]vMfI[Necxl~_ŬħQgXMTtUtu_z_ZOYcrOOuI_TinhwbǰŤƱ­ƛǑƛƴƦýģžƸŔñƎœ±ŭƹƻŷƔƗƓǻĖqQcY_hYU|e_oGmŞF|PHZM`hT{]iWpZi|SliHVPW~ImsZèyHQQ{FYSfÛĢİÙśí¹ċ¬Ţ¯ƸǽŽ¾ǶśůķçĲYnHjQw~|E\]VĮ}`te^pǵZIuznGn\eYzPSVb}|LpuFeZzXNf\uxJZ\gƯǷìƢĪśōářǖšñĵƳôǽĨŎ²²ĮoQlPFJEib~aEkÕ^uvYutUtx^m`U^]`X~cXl~lw[eOmpqJoy~WSKūǑåǧƌģǙ§ǑŤġƎĲ·źǫšęǵƴƢŚGtMǲNNcmj]atFpūŸeRsVxQǬ{Z}TLGYKKv[Nphe`ũǸǕĞšǤĐÚċőĜēŵìò¨ŜdLRǥdeVH~aV]~yyRKtxpyhsyuwn~P~ǘEvr|zZnk~ƋĮÛś³ǙŋűƩàƿǲģǕųø¡þŌ}T~ġǮvkJmWmlZEH^p`nZx{mRHQcƭZuRÏHUQZc}f\Lø¢ĔŪÐíá§ûŔKEmtaSkytbNcc``TuO¢xJ|a_lJOyvT|}_KVY^|MpzpdKYWopëİíľƞĵŝǳůŘªďēÎĻƚǧŎd^RJmHIpGJUsNmzdljqjHÖFuųeEhƞYzZkiM\nZhWuulsNw}XzIScaǓ§ŹĢĎ½ǧ§¸ñċǌĮŠŻÙĚċǲō~i[zI~WfgXJdKv[YLY[uƫFMOX\cƻ~fhLltiYsĝOGTmj~I^vFZHvXrũǽ²´ÕĔƚâíĽǼŵâŶŗäőĥèğtkrgoZoSdEJzfǷnSpw|TkPf^gĹļġĕü»»ďĞČĵÑĚúƵǦēőySio|ĞqYteWjLMcv|npI_lkU^eǖűŠǯƘ·ƬŭǛǷƛƪǴǢƝǵėŐĎT^Z{EČPha|I]vŷFQGyzraNFXhòŴÐĬǑǽƚƶßƻǯçWwhirEvq_Hpw]RwZUxx^pf]UQfeƚJrksSbj`cRUo~JhrTpdďŗǰǕŦ¥ƱĪűŕųǯĴªĚŞĜÛİ}xwyQsSocLdL}|GKFJWUmhVOSQ^næ_|Ŭ_b^LPxPmRVmvRnjWPƣéšŹƶƫƔǦèťƐÕ­ƏħÓŽ[yLeTmYQOISU]ezJH}GYyRHtEvogÓƁxJ[ZldiUt^EhFQycƪEm©ĕĲƔ·ǑÍǏÛŨŷĳơļQpNkpR^TfKznjfXulǞ©EnīZ\Iw}mbOEtHǽ{FzGW_ùeUyôãƱǲĦ×ƸǏęüřêīŤÛ¢frIzK^styTmƗTswqzi~aZŧ}zMdOlxzuLNOŧr{Eqq[dõ©Ľ¤ıƷǒƛÒûǷōÜǩĞƠÏŖüŖvejYa`SŘ^heǓ]{Q\WZGN|vu`|HGtop_snbc|ngr|vŸċüƚƶƽǩƘźƽÖōǱƲĚźċƪďĩėŴơěĐÓX`xxjonTu_wsEaV[^y}LaOiLwvqcrXLV|\ōQF~ƕƤĸƍŽĐǶƐǮÙŏķĚėŞŭŗìƚĿ~ju`TLuaFtUaojY}O{QYJãmyH{yb[mhGpVHF­EV]ǨƼŋǭ«ƾŎŦÏŴƦŜƣǸÚǫ ŕǌÖ÷Ò\ia»mbQEJrahfL`qNojy_Gm\kldEOssqtqn~PQNǪİĽČŰÙĜǟĩ·ƫōÿNoSxyJoPmƵq_{QH~ebhmXMFo}{_VFHO~voLYZXa]rPMciðŨŹǶǬëįŴ£ŵóŰ¥ø¼Ǻ{b\IQnWoYQSyUOS^eY{lFn`zcs_Şd[XPPGeHuEENgqoŕƴ¦ǍºǽǕ¹ƐŏŽżžǞ§«ƻĹƦƎƍƫùŰvgIXftvTƖGQSJlkǋdJhrxteHU[R^Tc_uqxj~vu|t{iiěüg{eƨƶşÒǔŎŹƧƵƔ¡¥ǏÐéŋQ^w]^~^}[delmqfŽmNMVƳű\fTxnOaxdnnrbYNWWs`aLlUR^lǱǱ´»ÜČƿ¯«Ħÿǹ¬ǭj{đVeyu`EiHw`n^{m~Ơhtkt]Ge^joKb\YqNxakMyF\P]Tsn`ſĳǤ¶ºĚŻÛǠö³ĥĝöyFQopZSahöyY^LlxJzfJcKupu`~cvdFQMVxĽubpEmcLjs\ixĭřǏǜǶĭº­îǠèQyţcSZMobY|kbzITLez]ahg`oPhFYk]mIr_ncwOduYm_O|QXƹǓĠşďƱŠþĖǧī÷ƱĶǪ¢ĎƹĮØǢǢƼ÷ákiFknNWGvRPNw|WsgWtxZl_ğvtQWjTxYup_~ ko{iXgacdifIlZŤƦƋČĝœ´ǩƴƔǣŐ¬ŤõǘĶĵǞĿƐrrNǤxadPN]j~vrF]g]øWv\MNtQT_mJcVklXhQ[WF|Gtypw\MurǍŷæǮĪĐǧƱưŌƌĒǬƏƻŜǲĴĕþƵĴĳñ|UXOhPOvJEr_RnzFk~O}RPxovlvƔ`[f°PWZjFE^QP©~~Z§ŵůę´ÿżǭ¢ŢĬŨ ³ǺģǩĒĭÛƮğGwfhOErzutcpĠkmTĵXqTxlurvilmpǦNNcOrI`}^unv½jUyīǔÔÔ¥Ǯ±ǑǱǍǫĶǾƤä¦ǲǿģƒǠFsFylsuas~YNSYĖaVUJwtmcykưƷXPMgGowT[`]O|{lŸǸ´ǔ§âǥĺïŮÙĽŲŕŐ¯őǤHKQTpŖbO]±i~`W\bROg{dONS[`WƏœ¬źĠŬµƷǕĮſƦ¿ǡįƲǏǢĭƦǺƺŌ^gEbJzŜ}yÖ{qwHfETeZǹRUfZ|hkEŠ¯ľƣïǏĒƴƹęŚƯěħÏīĜƨǓìƱśǨċOn]g{_ZtĠF]^T[NY{QƲscJ|pcOQpŮüŮőŞæ¿µ¹İǣǲƞĺƪǐƴǘƱǻXQżgSpĒs`_VEq`ĤF^p\ai{vUSJxxpgsi`SUjmqpşĦđĖǴţƵĹƲĚŝǖŐƶêƮƟǞĕŧ}Y{~JNej{aO[gdR_PJy[MXFokwMn{vŵ~x~[rETLJh]`ÔƮŠǋŕƿĝſżşöŏČĕĴƒ­čÔĿď`YTavUcoGdpa\ĦHw[r]LOJktoXhSLĵF|OuVMwKSjwqġƖƱŞģǥǶǨÜēħĭéǛƍǘċtKoL}ryZl¾}OugaF~G\ǙĪvn`_ubÓ|Mla|v[IUƋǾƳÿŰĵįǪ§ŸƧĔƜ¨đŹĦįċŎƽůƫőRXs~sG[ÝÜONxFKlE¡QHoGwYftŧTQ}oUdzvZǙ¬ǶĜǾŭŞƗǒǑċĜĚõũKWfwqHzYPôǵryRevjc{mǧǖƼzZnoVNouYfby[UƹòǘŗƻǋŒĘƓ¢pazpLTZU~U[}mMdPyT|l{LQN_nkorJuOcv`L^m[g^EŻĞçƿƗ°¬ŢƩĝķǾƪ«ơĞǔàǌŔƧğ¤ǋoWWqteoF]_pjöndPnQlI[JnKxUW{¿HRamte{qh~kOIY{ueĨ ŭŤǩäƼǳ©úƛŘěǷƍœŜĨŠÑŚx^l[eEG|ogUQfa|MfeYtw`qpNteLmv]WbUQYOkRdYN´Đ»àĽſŠœĻƲğ«ŪŮŨĔǲčƴõ§ģ\a~\]Zo^xGcYITJNTnXWN^vZUZjmd]wǗŵZTshat_]TwOgWR|űǳċǥÌŜ¦ǌž¾ǧŨǴźŔƝđČǘçk~nxe|kR_qLíqyTctfh~ff\vOkTtiOGXdeYcLWn]_}]\}Xƽ¯ÍǪĹƳÑũƹǑ»ǞčŶÚİ¥ų§řƫPx_VJbqxbES`wMs|ymN~V^XWcxWƛ[TsvTeǤTJJWwmsUEÌkSc}yŝǫęǠŒî¤ƩŴó³ŢǣǞåíxx~gLhIuIxczNWZwU^]fgMfMoŕYJ`UJg~tc·uYidfSUtqIoPZ[QHz^ykküǟǡǿŝǙ§ČƴŤŸǝǻïǍĥ[gGUdPǽlsYc]kGpU{umicbc`jIũ^ZtEVX}[jNrZ{KOvmgsSiKeVFziObgGZGâƎñŬőÕÿħĦŨ§ƖǎÔƎǥšǫİĶŒĖķ}}UGw^ZRyW}m{[FrMmK]xJuEQKWwPMr}gKxǏxES^khFsI]NMqLYGuRvUFRagĒǓǬǫƬśŗŏ»ëƶŗ´ūǛĮƚt`]vUbLUKXh|V]MsPHSZLöxezƺä×ƕ¢ĢǢǞƗİ´ǟǸêƑóƮƘŏűǾŴgMSÞzvp`ZY^FLQbnVMkSdInc`ZNČÛŋǒÍġĔÑǞƒťĔŐǥĶőċĹœĺē®ħ¼ōǛǚįĒǮéƶǮctĒ[GWgFwc~GOt`zJGQ_FNQtƯOHK»ƗƪßǏëƧ²ǕØƵǸêėƞǶƕ¼ŒQ[fVwqzSaSII_JqHk\ewY£Z[VjuO`x_]KyJu~e\s`EgNzdokIX_KgdYv]VFűƠǪŘħěƩƽƏƵŤǯǻûčuLz_qXcH[g\T^dpjybkIE\Z^hMbGXGklGhsfUnib|ZLEi}H}hiF^o]bGf`qIaǫǒůČǔūŜĢűƖĻƮƹŲÙ¶ŬƯþůĘģ«^m~F`zixP[ON_^WUJaWY}QzRxeQdrPčpWtsszt^MyRm{bIjMZNNku|JmSEJgO`u~íÙÚêǽ¼óčÔíQFrƐxLFŵxcTǍQ|hƸƦĳlTañoaEpfMïŖǨǢīǖǼþ«Ļ³ŬƘŔ­ĦƭìĔîơǩoFnàYeHIvHePsyM`FmyvklǎǘåƤ¤çĢųŬ®Ǭ¿ǚž\hrƪm\oǏǬQVpbvǿPfck{lťpiZƻú¯ǯƔƕƺưŴĲſŬƌŠĴǼm~QǭLRf{qS]sfwEX{pXƖHSEuh{JF`lLOIFqXHyewMy|fG°^d}řƬíťèìƱÚ²ǺœǑŕŏƍŸĬƜĥŋIKTsflfPhiQv[xaE|w[bMnFŸW\SPslMoHKZsPxiKnlX[TRsfƥ¤Ų¹Ěſ«¼žgFxJs|iTILYbJuzxfƷXRXWYUTtpHǯöLMSe_ugceboRFrubQnƜĥģƯŹǧŶ´ÐÛĢƻŖ³ÜǔÌæǝGmQ}bJyYsUw{VMuiXnxtdƷu^gƛTdQéfay[llU[otnGQOoǠ¥ƶƫƞ¿ľĔƛıÌ±¸ēű´ǹçƍS[IlEGzdNt{TTfRESSxdGoePKpiEpoPSmOw|ƤƮĘÜĜŪ ľĚŢéľśĝƛwVppeLc{fwO~WMWRrliǻyFbvFbyIchvi_vrh~ǒXQ`¯ŜěťƤ¤ïŜïǧļÍĢúĐöĎőƚYyytunIvF\[sxqN`[HosRJtXÎeq`[UTSlxj}^IQLXKw^©ħ÷ŹþČŨƪáå¢ĝƶǙŷġYPcQnQHVvdZKGc^ŘygmXljKvWÚro\ğwMsĽß[}Y_{LwcEmPri[rƙ®ƹŎƪ©çœĴƢŷƔĘƵƼŗ¾YiRw{`NuKZmV|ewũxmW\vroK`EETùdsY]EnjK^Vcm{gLGcƯĦřǱŬĸƵãƺǧǘÌǽǧǡ¥ÑĞƚJnulrxÎtwKbZfƕvvTqr|^mMTsòGVWǓŪǲƔƻǠĒǮñįƟŧĕėŭūÐ©Ʊ­ÌŖřĝűL_J¼mzueeVT^aĸUIRu}QMsHįHm]xHĒčŵǷÝƴ¯ÏƖƳĕƖƧĽƏǬŗħįǽǳ«sv|ēRvp}caaK¤wF~Qz{Ʀy\}ÍŞFFLťñĪĠ´ǛƯĠíŦƒƔǓŰÎǻǦUfuJo~qyE|poePgULcxoSdSvdÑaug|^HlackKg`bK]Ks\pSyfdwTTbUSq^UOGxd`NmGÎĒǷ©òƝǋŧĪƽĬÝƟÖǰęĒƟŚơť©ĤŶ`Nb~IFp]lzRlvtMyday~IWEa|Xh·_V{\WPozKyQO[Mc]XGzJđi{O~P|HR_VsEcqq}bUVLeÕËŦäƟžřőŲŋöÜƲËưĴĪÏƚbENrayH~eqaMsVaxVcNS`lHdǵTwmhfWM`IHMarkJuxNw`wsFpSF]`gWfN[mEelpSĴƶƌǿļĠƴŰǤƶǨƷĭǻƐżǪŔŤçǵŽÝǼÑŬƽèőßƮƦòěƹųĖÏŋģǲűª®Ɯ¡çţƚĦĻśǐÚǭ¦ƿċşÌǌƾŴŽƘŌŸżǥĜƯǾîƘÜǛĚùâČ©ĝƸƛĺĨǻÙòģĺ·ƻ¯µǛþŗī·ŶǛǺ¼ĞĎǓŎſţǚǏôƹČǽƙǩƗĻĥŦ§ƚĒǍǱŮôƋŢŷǡǧī÷ƔǩŌǠüÌǳáƝ¼¥Ŭƴ¼ĩ×Ř­Ž¥ŬġÏªŽƜ·þ°ǭƣƵǺěǜŬǦċǡŭĚ
\ No newline at end of file
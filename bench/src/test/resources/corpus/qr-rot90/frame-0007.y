@@ -0,0 +1 @@
+~~~~~~´º~~~~~¥¤¹~­ ¶¼¾~²¨~~~~~~~°~~¬~~~~~~~~¶~~~¬~~~~~~ª~~~~¸~¢~~¢ ¹±~³~~~~~~~~~~~~»~~~¹~~~½~~­~~~~~~~¢~~²~~²¹~~~~~~~~¿~~±£¾~¥~~~~~~~~~~~«~~~~~~·©~~~«¦~£¥~¶¦~~®~~¸~~~~~~~~~~~§¶~~¯~~¯~¢²~~~~~~~~~~¶~~~~~¢¤~~~~~~ª¯~~~·~~~~ ~~~~~~~~´¤®¡~~~~~®~½~´~~~¤~~~~~~²~~~~~³~¶«¡~~~~~~~£¬~~~ ~°~~~·~~~~~~¶´~½~«~~¡¬~¾~~¡~~~º~·~~~¨~~~~~º~~~~~~~~~~~~»~~~~~¯~£¤« ~~~£¹~~~~«°ª~~~~«~¤¦ §°~~~~¿~~~~~~~±~~~~´²~~~~~~¼~~~~~¶~~~§~~~~~¶½®~~®´~¯~~~~~~~~~¤ª~~ ¶~²£~¦~~«~~¶~~~~~~~~~¹~~~~~~~ºª~~~~~¼~ ¹¼~³·~ §¢~~~~­~~~~~~~¶~~~~~~~©~~~~~~¯~¸½~~~¬»~~~~~~¸´¼½~~~~~~~¨~~¨~~~¨~~~©~~~~~´¥´~~~®~ª´±~ ~~~~~~±~~~~~~¤~~±¨~¸½~¢~~~~~~~¾~¾~~~®~~~~¨¤~~~~¯¯~~~~±~~~¥~©~~~~~¾~~~~~~~~~°°~³½~~ª~~~~§~~´~½~½~~~~~~~~~~~¢~~­~~¯«~·®~~~~¢~¶~~~~~´¬~~¤³¹~~~~~~~~²£~¯~¥£~£½°~~~~§~~~~»~~~~~~~~~~~~­¿~¨´~³~~~~~~~~³~¡~~·~~~¦~~¡~ ~º¼~~~~~~·­~~¿~~¼~~~¥~´¨»~~~~±~~~¦~}SNajMmdgV\p[kgfj_k~~~~~~«sg}SYzsP\aa[^Vqpj\pzx~Zµ³~~~³vgk`~jzmgrwbVf~~~~´~µ~~|Sup~jSZQv[kpqle~~°~~~YZywabM~kxtZr|hgdZnwmY~~³»¾~~¨~~~±pRp_Y~mZsQhnVkaj}QoTbw~jL~~~­~½ª~Lp`rSOuo_mrYX`nb~k}\|yS`nkRl~~~~~~~xfS^gOONf_~{Md[UqR|zVz{´º~·~~~~~^zvXnzhctft]an]tp{lqxVaiw{m~½~½¹®~¢kQ|u\_Ypb[~}]Sbovi}mqdrUMU~¹~~~~c[~L`qN^f~WMWkP\z~~vS{~·~~~~~mPc[pN|}bpnoMj]PZN~³~~~~vvlzRdUcyrvos{sLX_cjdZMwrr¤~°~^jghXdVS|OTn^OVg}qa{gq`eUº~~~L\ZhycfeOPPtTNN~~µ£~~~QvY~jVwr~{cQYU}\¦y{NY~QvWdonf`]PliZi_Lvv]gU|L~~~~~²~~~~¢¬l~deTlP~gzpQvTkiRL~erdof_R·~OZ_Vn°^jRzvwZm|L[mLi\~~¢\h~if\WUXbLyk\qpRn_§~±RWgL]\dagWM~P`Y~{Mth~~«~~¾~~~oYl\[vdY_SniOwxVeL]a_~~~¹~~ogosQc{^y\nM_gUpRt[xVY~~~~~§~··]Rv]g{aj\yyuxQygiQzjh~~~²~ §Oxpp[atka~XbX[iYjhc~pnR~~~~~i[tNPmjt\xM_dN[[Uru[SaO_NZ~~¢~º~~mfWzbmw{}ro|}O{\QtV|Qub~}~~~~ª~~~tkdr}bp_rfxcv{pjMdcOLa[|^y~¾~~¨~~tr\oYx^zl}Wc}Mgpx_Z~~~~~kUcM~^UV|rOMcn RcmZ~Q¤~~~~´_VfUV_~Q`lN~aaVg³~¢~~~¿~³~\Pfzo}MdzkxgVvX~~~¿~~~ltdWX`u[}qLlMm^]l`~°~¾~°iMmMgl\}fkuxsaXTYg|»~~~»­~~¨Ps_bp¨VSXuXdMOc]{q©~~ª~º~~MfSV\½pne]YY`Lz`vmz_VUr~~~~~°¼~~zlwhNsXohc]ldPjs_kXU|jT¯©~­~~XR]n[V~\}U}f_TLhlaafu{~~l^t~Xlqmopt[Zr{_nyuXh]Y~jh½«~~~~«~´PTRuSqjOZat~kq|^\XlZr~}w~µ~¦vRVX`~\jr`jvgNmhpcT]eTNP_X~§~¹~|yLWt^lz\SawO^[vQMgkvOn|bmTq~»~~LiYpNs_pZ\yLQk~~~~~~~³}o}[NsTls_t~~¿Q{k\rXUpxqV`{_Xwss_kbiQOvl~±¤otT~{R[NgWS~RfZs{mTukRT|do~hMOf~~©~®~©~~oXi~}[k~v_~f~~~~hlh`olUy]¬~~~©~uR_bw|W|PS]lQmf~bsyw}T`¥¥ªe\uQsS|Y_[MSpRW}ttdLak~®~~||j_P\fkLtQZUa~s{NO\~~~~~««~nsbLXnukvqmy_f]]nc}tq¹~~US]gUWdkMm[OwPYVcMd\Wqt^~~gqMkZf|Ooer\~ap_XkqUWe{`w~~~~¢V{OW{Uj_YzziW~~~~dkYzodkiOqh~~~~QkNlWUQxa]xuVmLchmYQ^s]WmcurM`r~~ ~~~~win{mNs[~hXZzVodTry_osc[Zfu[Q^yqv[Tl~¦~~¸~~¥¾¨~~~~³~¶¢~~~®¯~~~°¬~~~~~~~¨~~~®~©~ ¨~~~~~~½~~±~±¢~~¸»~©~ª~¡~~±~~°¼¹~¬~~~~~~~¼¨~­¶·~~~~~£~~~~~»~~»~ ±~~­~~²~¥~~~~~~~~~~¡~°¯~¥~~~¶~~~~~~~~~~~~~®~¾~¾~§~·~¤~~~~µ~ª~~~¾~~~¥£~~~~~¯~~~~~~~~~¾~~~¦~µ»~~~~~~~~~³~¿~~~~~~~¦~µ~¹~~~~~²~~~~~~­~¹¡~~~~°¦~~~~~~~~~~~¡®~¸¹~«~¼~~³~~~§¨~~¢~~~~~­~~~¹~~~~~¥~£~~¢~¯¹~~®§¬~~°~¯~µ~¹¢±~~~~~ª~~~~²~ª~~~º~»~~~~~~»¶~ª³«~~³~¿®~~¦~~²¤~~~¥~¤~´~~~~¨~®~~¡~~~~~­~~~~~£~¦ ±~¶~~~~~©­~~~~~~~
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.slm.qr;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Decides which camera frames are worth analyzing in a long-running preview.
+ *
+ * Frames are capped at {@code maxFps}. After {@code backoffAfter} consecutive frames without
+ * any barcode the rate drops to {@code idleFps}, and it returns to the full rate as soon as
+ * a frame contains a candidate. Pure Java so the policy can be exercised off-device.
+ */
+final class AnalysisScheduler {
+
+    private final long activeIntervalMs;
+    private final long idleIntervalMs;
+    private final int backoffAfter;
+
+    private long lastAnalyzedMs = Long.MIN_VALUE / 2;
+    private int emptyStreak;
+    private boolean idle;
+    private long framesAnalyzed;
+    private long framesSkipped;
+    private long backoffs;
+
+    /** A non-positive fps means unlimited; a non-positive backoffAfter disables the idle rate. */
+    AnalysisScheduler(double maxFps, double idleFps, int backoffAfter) {
+        this.activeIntervalMs = maxFps > 0 ? Math.round(1000 / maxFps) : 0;
+        this.idleIntervalMs = idleFps > 0 ? Math.max(activeIntervalMs, Math.round(1000 / idleFps)) : activeIntervalMs;
+        this.backoffAfter = backoffAfter;
+    }
+
+    /** Returns true if the frame arriving at {@code nowMs} should be analyzed; otherwise counts it as skipped. */
+    synchronized boolean shouldAnalyze(long nowMs) {
+        long interval = idle ? idleIntervalMs : activeIntervalMs;
+        if (nowMs - lastAnalyzedMs < interval) {
+            framesSkipped++;
+            return false;
+        }
+        lastAnalyzedMs = nowMs;
+        framesAnalyzed++;
+        return true;
+    }
+
+    /** Reports the outcome of an analyzed frame: whether the detector found any candidate. */
+    synchronized void onResult(boolean candidate) {
+        if (candidate) {
+            emptyStreak = 0;
+            idle = false;
+            return;
+        }
+        emptyStreak++;
+        if (!idle && backoffAfter > 0 && emptyStreak >= backoffAfter) {
+            idle = true;
+            backoffs++;
+        }
+    }
+
+    synchronized JSONObject stats() throws JSONException {
+        JSONObject stats = new JSONObject();
+        stats.put("framesAnalyzed", framesAnalyzed);
+        stats.put("framesSkipped", framesSkipped);
+        stats.put("backoffs", backoffs);
+        stats.put("idle", idle);
+        return stats;
+    }
+}
@@ -0,0 +1,101 @@
+package com.slm.qr;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Vote buffer for the one-shot scanner's consensus mode.
+ *
+ * Each analyzed frame casts one vote (a "format:value" key, or null when nothing was read)
+ * into a ring of the last {@code frames} frames. A value resolves once it holds
+ * {@code threshold} votes in that ring; if no value gets there within {@code timeoutMs} of
+ * the first vote, the current leader is resolved instead. A single misread on a worn card
+ * is outvoted by the correct reads around it rather than being returned straight away.
+ */
+final class ConsensusVote<T> {
+
+    /** Outcome of a session: the winning payload plus how strongly the window agreed on it. */
+    static final class Decision<T> {
+        final T payload;
+        final int votes;
+        final int frames;
+        final boolean timedOut;
+
+        Decision(T payload, int votes, int frames, boolean timedOut) {
+            this.payload = payload;
+            this.votes = votes;
+            this.frames = frames;
+            this.timedOut = timedOut;
+        }
+
+        /** Share of frames with a read in the window that voted for the winner. */
+        double confidence() {
+            return frames == 0 ? 0 : (double) votes / frames;
+        }
+    }
+
+    private final String[] window;
+    private final int threshold;
+    private final long timeoutMs;
+    private final Map<String, Integer> counts = new HashMap<>();
+    private final Map<String, T> payloads = new HashMap<>();
+    private int next;
+    private int votedFrames;
+    private long firstVoteAt = -1;
+
+    ConsensusVote(int frames, int threshold, long timeoutMs) {
+        this.window = new String[Math.max(1, frames)];
+        this.threshold = Math.max(1, Math.min(threshold, window.length));
+        this.timeoutMs = timeoutMs;
+    }
+
+    /**
+     * Records one frame. {@code key} is null when the frame produced no code. Returns the
+     * decision once the session resolves, otherwise null.
+     */
+    synchronized Decision<T> vote(String key, T payload, long nowMs) {
+        String evicted = window[next];
+        if (evicted != null) {
+            votedFrames--;
+            int left = counts.get(evicted) - 1;
+            if (left == 0) {
+                counts.remove(evicted);
+                payloads.remove(evicted);
+            } else {
+                counts.put(evicted, left);
+            }
+        }
+        window[next] = key;
+        next = (next + 1) % window.length;
+
+        if (key != null) {
+            votedFrames++;
+            Integer count = counts.get(key);
+            int votes = count == null ? 1 : count + 1;
+            counts.put(key, votes);
+            payloads.put(key, payload);
+            if (firstVoteAt < 0) firstVoteAt = nowMs;
+            if (votes >= threshold) {
+                return new Decision<>(payload, votes, votedFrames, false);
+            }
+        }
+
+        if (firstVoteAt >= 0 && timeoutMs > 0 && nowMs - firstVoteAt >= timeoutMs) {
+            return leader();
+        }
+        return null;
+    }
+
+    private Decision<T> leader() {
+        String best = null;
+        int bestVotes = 0;
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            if (entry.getValue() > bestVotes) {
+                best = entry.getKey();
+                bestVotes = entry.getValue();
+            }
+        }
+        // Every vote may have aged out of the window; keep waiting for a fresh read.
+        return best == null ? null : new Decision<>(payloads.get(best), bestVotes, votedFrames, true);
+    }
+}
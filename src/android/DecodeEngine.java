@@ -0,0 +1,30 @@
+package com.slm.qr;
+
+import androidx.camera.core.ImageProxy;
+
+import java.util.List;
+
+/**
+ * Decodes analysis frames for the scanner and the embedded preview. ML Kit is the primary
+ * engine; ZXing reads the Y plane directly and does not depend on ML Kit's native detector.
+ */
+interface DecodeEngine {
+
+    /** Receives the outcome of one frame on the analysis executor. */
+    interface Callback {
+        /**
+         * {@code unreadable} lists codes the engine located but could not read (damaged,
+         * too small or blurred): their text is null and their bounds are set when the engine
+         * knows them. They hint that more resolution or zoom would help.
+         */
+        void onDecoded(List<DecodedCode> codes, List<DecodedCode> unreadable);
+
+        void onFailure(Exception e);
+    }
+
+    /**
+     * Decodes {@code frame}, limited to the scan window of {@code region} when it is not null.
+     * Exactly one callback method is called; the frame is not closed by the engine.
+     */
+    void decode(ImageProxy frame, ScanRegion region, Callback callback);
+}
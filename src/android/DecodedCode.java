@@ -0,0 +1,44 @@
+package com.slm.qr;
+
+/**
+ * One code read from a frame, independent of the engine that read it. The format is the
+ * name reported to JS ("QR_CODE", "EAN_13"...) and the bounds are in the upright
+ * (display-oriented) coordinates of the whole frame, as ML Kit reports them, or absent
+ * when the engine did not report any.
+ */
+final class DecodedCode {
+
+    final String text;
+    final String format;
+    final byte[] rawBytes;
+    final boolean hasBounds;
+    final int left;
+    final int top;
+    final int right;
+    final int bottom;
+
+    DecodedCode(String text, String format, byte[] rawBytes) {
+        this(text, format, rawBytes, false, 0, 0, 0, 0);
+    }
+
+    DecodedCode(String text, String format, byte[] rawBytes, int left, int top, int right, int bottom) {
+        this(text, format, rawBytes, true, left, top, right, bottom);
+    }
+
+    private DecodedCode(String text, String format, byte[] rawBytes, boolean hasBounds,
+                        int left, int top, int right, int bottom) {
+        this.text = text;
+        this.format = format;
+        this.rawBytes = rawBytes;
+        this.hasBounds = hasBounds;
+        this.left = left;
+        this.top = top;
+        this.right = right;
+        this.bottom = bottom;
+    }
+
+    /** Identity used for deduplication and voting: the same value in another symbology is a different code. */
+    String key() {
+        return format + ":" + text;
+    }
+}
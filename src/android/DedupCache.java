@@ -0,0 +1,42 @@
+package com.slm.qr;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded duplicate filter for continuous detection.
+ *
+ * Each value is reported at most once per {@code windowMs}; the window restarts when the
+ * value is reported again. Entries are kept in access order and the least recently seen
+ * value is evicted beyond {@code capacity}, so several codes alternating in view are each
+ * suppressed independently without the map growing for the length of a shift.
+ */
+final class DedupCache {
+
+    private final long windowMs;
+    private final Map<String, Long> lastReported;
+
+    DedupCache(long windowMs, final int capacity) {
+        this.windowMs = windowMs;
+        this.lastReported = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > Math.max(1, capacity);
+            }
+        };
+    }
+
+    /** Returns true if {@code value} seen at {@code nowMs} should be reported, and records it if so. */
+    synchronized boolean shouldReport(String value, long nowMs) {
+        Long reportedAt = lastReported.get(value);
+        if (reportedAt != null && nowMs - reportedAt < windowMs) {
+            return false;
+        }
+        lastReported.put(value, nowMs);
+        return true;
+    }
+
+    synchronized void clear() {
+        lastReported.clear();
+    }
+}
@@ -0,0 +1,65 @@
+package com.slm.qr;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Locale;
+
+/**
+ * Writes the luminance frames of the scanner's recordFrames option to disk so a field
+ * session can be replayed off-device (bench/ reads them back and runs them through the
+ * decode engines). A recording is a directory with one raw Y plane per frame (tightly
+ * packed, {@code width} bytes per row) and an index file with one line per frame:
+ * {@code file width height rotation timestampNs}.
+ */
+final class FrameRecorder {
+
+    static final String INDEX_FILE = "frames.txt";
+
+    private final File dir;
+    private final int maxFrames;
+    private int count;
+
+    /** Opens {@code dir} for recording at most {@code maxFrames} frames. */
+    FrameRecorder(File dir, int maxFrames) throws IOException {
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("Cannot create " + dir);
+        }
+        this.dir = dir;
+        this.maxFrames = maxFrames;
+    }
+
+    File dir() {
+        return dir;
+    }
+
+    synchronized boolean isFull() {
+        return count >= maxFrames;
+    }
+
+    /**
+     * Appends a frame whose Y plane is {@code rowStride} bytes per row; the padding is
+     * dropped. Returns false once the recording is full.
+     */
+    synchronized boolean append(byte[] plane, int rowStride, int width, int height, int rotationDegrees,
+                                long timestampNs) throws IOException {
+        if (count >= maxFrames) {
+            return false;
+        }
+        String name = String.format(Locale.US, "frame-%04d.y", count);
+        try (OutputStream out = new FileOutputStream(new File(dir, name))) {
+            for (int row = 0; row < height; row++) {
+                out.write(plane, row * rowStride, width);
+            }
+        }
+        try (BufferedWriter index = new BufferedWriter(new FileWriter(new File(dir, INDEX_FILE), true))) {
+            index.write(name + " " + width + " " + height + " " + rotationDegrees + " " + timestampNs);
+            index.newLine();
+        }
+        count++;
+        return true;
+    }
+}
@@ -0,0 +1,161 @@
+package com.slm.qr;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.util.Base64;
+import android.util.LruCache;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decoded logos for branded QR generation.
+ *
+ * Logos are decoded bounds-first with the largest power-of-two {@code inSampleSize} that
+ * still covers the target size, then scaled to it, so a 1024px PNG drawn at 75px never
+ * exists as a full-size bitmap. Results are kept in an LRU keyed by content hash and target
+ * size and bounded by bitmap bytes. Cached bitmaps are shared by concurrent renders and are
+ * never recycled here; evicted ones are left to the garbage collector.
+ *
+ * Logos registered with {@link #register} are stored once as Base64 with their hash, so
+ * later calls pass only the id and skip hashing the payload.
+ */
+final class LogoCache {
+
+    /** A logo payload and the hash that identifies it in the bitmap cache and the QR cache key. */
+    static final class Logo {
+        final String base64;
+        final String hash;
+
+        Logo(String base64, String hash) {
+            this.base64 = base64;
+            this.hash = hash;
+        }
+    }
+
+    private final LruCache<String, Bitmap> bitmaps;
+    private final Map<String, Logo> registered;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    LogoCache(int maxBitmapBytes, final int maxRegistered) {
+        this.bitmaps = new LruCache<String, Bitmap>(maxBitmapBytes) {
+            @Override
+            protected int sizeOf(String key, Bitmap value) {
+                return value.getByteCount();
+            }
+        };
+        this.registered = new LinkedHashMap<String, Logo>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Logo> eldest) {
+                return size() > Math.max(1, maxRegistered);
+            }
+        };
+    }
+
+    /**
+     * Registers {@code base64} under {@code id}, replacing any previous logo with that id.
+     * The image is validated with a bounds-only decode; returns {@code { id, hash, width, height }}.
+     */
+    JSONObject register(String id, String base64) throws IOException, JSONException {
+        byte[] bytes = Base64.decode(base64, Base64.DEFAULT);
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        BitmapFactory.decodeByteArray(bytes, 0, bytes.length, bounds);
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            throw new IOException("formato de imagen no soportado");
+        }
+
+        Logo logo = new Logo(base64, QRImageCache.sha256(base64));
+        synchronized (registered) {
+            registered.put(id, logo);
+        }
+
+        JSONObject result = new JSONObject();
+        result.put("id", id);
+        result.put("hash", logo.hash);
+        result.put("width", bounds.outWidth);
+        result.put("height", bounds.outHeight);
+        return result;
+    }
+
+    /** Returns the logo registered under {@code id}, or null. */
+    Logo registered(String id) {
+        synchronized (registered) {
+            return registered.get(id);
+        }
+    }
+
+    /** Returns {@code logo} as a {@code targetSize} square bitmap, decoding it on a miss; null if it cannot be decoded. */
+    Bitmap get(Logo logo, int targetSize) {
+        String key = logo.hash + "@" + targetSize;
+        Bitmap cached = bitmaps.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return cached;
+        }
+        misses.incrementAndGet();
+
+        // Two renders missing at once both decode; the second put simply replaces the first
+        Bitmap decoded = decode(Base64.decode(logo.base64, Base64.DEFAULT), targetSize);
+        if (decoded != null) {
+            bitmaps.put(key, decoded);
+        }
+        return decoded;
+    }
+
+    /** Drops the decoded bitmaps; registered logos are kept. */
+    void clear() {
+        bitmaps.evictAll();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    JSONObject stats() throws JSONException {
+        JSONObject stats = new JSONObject();
+        stats.put("hits", hits.get());
+        stats.put("misses", misses.get());
+        stats.put("entries", bitmaps.snapshot().size());
+        stats.put("bytes", bitmaps.size());
+        stats.put("maxBytes", bitmaps.maxSize());
+        synchronized (registered) {
+            stats.put("registered", registered.size());
+        }
+        return stats;
+    }
+
+    private static Bitmap decode(byte[] bytes, int targetSize) {
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        BitmapFactory.decodeByteArray(bytes, 0, bytes.length, bounds);
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            return null;
+        }
+
+        BitmapFactory.Options decodeOptions = new BitmapFactory.Options();
+        decodeOptions.inSampleSize = sampleSize(bounds.outWidth, bounds.outHeight, targetSize);
+        Bitmap sampled = BitmapFactory.decodeByteArray(bytes, 0, bytes.length, decodeOptions);
+        if (sampled == null) {
+            return null;
+        }
+        Bitmap scaled = Bitmap.createScaledBitmap(sampled, targetSize, targetSize, true);
+        if (scaled != sampled) sampled.recycle();
+        return scaled;
+    }
+
+    /** Largest power-of-two subsampling that keeps both sides at or above {@code targetSize}, so scaling only shrinks. */
+    static int sampleSize(int width, int height, int targetSize) {
+        int sample = 1;
+        int shortest = Math.min(width, height);
+        while (shortest / (sample * 2) >= targetSize) {
+            sample *= 2;
+        }
+        return sample;
+    }
+}
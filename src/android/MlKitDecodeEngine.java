@@ -0,0 +1,99 @@
+package com.slm.qr;
+
+import android.graphics.Rect;
+
+import androidx.camera.core.ImageProxy;
+
+import com.google.mlkit.vision.barcode.BarcodeScanner;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import com.google.mlkit.vision.common.InputImage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * ML Kit engine. With a fallback engine configured, a frame that ML Kit fails to process is
+ * decoded by the fallback instead, and after {@link #MAX_FAILURES} consecutive failures
+ * (native detector unavailable, for instance) every following frame goes straight to it.
+ */
+final class MlKitDecodeEngine implements DecodeEngine {
+
+    private static final int MAX_FAILURES = 3;
+
+    private final BarcodeScanner scanner;
+    private final Executor executor;
+    private final DecodeEngine fallback;
+    private volatile int consecutiveFailures;
+
+    MlKitDecodeEngine(BarcodeScanner scanner, Executor executor, DecodeEngine fallback) {
+        this.scanner = scanner;
+        this.executor = executor;
+        this.fallback = fallback;
+    }
+
+    @Override
+    public void decode(ImageProxy frame, ScanRegion region, Callback callback) {
+        if (fallback != null && consecutiveFailures >= MAX_FAILURES) {
+            fallback.decode(frame, region, callback);
+            return;
+        }
+
+        @SuppressWarnings("UnsafeOptInUsageError")
+        android.media.Image mediaImage = frame.getImage();
+        InputImage image = region != null ? region.crop(frame) : null;
+        // A cropped image has its own origin; boxes are shifted back to full-frame coordinates
+        final Rect offset = image != null
+                ? ScanRegion.toUpright(region.lastCrop(), frame.getWidth(), frame.getHeight(),
+                        frame.getImageInfo().getRotationDegrees())
+                : null;
+        if (image == null) {
+            if (mediaImage == null) {
+                callback.onDecoded(Collections.<DecodedCode>emptyList(), Collections.<DecodedCode>emptyList());
+                return;
+            }
+            image = InputImage.fromMediaImage(mediaImage, frame.getImageInfo().getRotationDegrees());
+        }
+
+        scanner.process(image)
+                .addOnSuccessListener(executor, barcodes -> {
+                    consecutiveFailures = 0;
+                    List<DecodedCode> codes = toCodes(barcodes, offset, false);
+                    // Barcodes without a raw value were located but not decoded
+                    List<DecodedCode> unreadable = codes.size() < barcodes.size()
+                            ? toCodes(barcodes, offset, true)
+                            : Collections.<DecodedCode>emptyList();
+                    callback.onDecoded(codes, unreadable);
+                })
+                .addOnFailureListener(executor, e -> {
+                    consecutiveFailures++;
+                    if (fallback != null) {
+                        fallback.decode(frame, region, callback);
+                    } else {
+                        callback.onFailure(e);
+                    }
+                });
+    }
+
+    /** Converts the barcodes that have a raw value, or with {@code unreadable} the ones that do not. */
+    static List<DecodedCode> toCodes(List<Barcode> barcodes, Rect offset, boolean unreadable) {
+        if (barcodes.isEmpty()) {
+            return Collections.emptyList();
+        }
+        int dx = offset != null ? offset.left : 0;
+        int dy = offset != null ? offset.top : 0;
+        List<DecodedCode> codes = new ArrayList<>(barcodes.size());
+        for (Barcode barcode : barcodes) {
+            String value = barcode.getRawValue();
+            if ((value == null) != unreadable) continue;
+            String format = SLMQR.formatToString(barcode.getFormat());
+            Rect box = barcode.getBoundingBox();
+            codes.add(box == null
+                    ? new DecodedCode(value, format, barcode.getRawBytes())
+                    : new DecodedCode(value, format, barcode.getRawBytes(),
+                            box.left + dx, box.top + dy, box.right + dx, box.bottom + dy));
+        }
+        return codes;
+    }
+}
@@ -0,0 +1,75 @@
+package com.slm.qr;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * State of a scanMultiple session: every code found in a frame is deduplicated against
+ * the codes already seen, and new ones are queued until the flush interval elapses,
+ * so JS receives one batched result per interval instead of one per code.
+ */
+final class MultiScanSession {
+
+    private final long flushIntervalMs;
+    private final int maxCodes;
+    private final Set<String> seen = new HashSet<>();
+    private JSONArray pending = new JSONArray();
+    private long lastFlush;
+
+    MultiScanSession(long flushIntervalMs, int maxCodes) {
+        this.flushIntervalMs = Math.max(0, flushIntervalMs);
+        this.maxCodes = Math.max(0, maxCodes);
+    }
+
+    /** Queues the codes of one frame that were not seen before; returns how many were new. */
+    synchronized int add(List<DecodedCode> codes) throws JSONException {
+        int added = 0;
+        for (DecodedCode decoded : codes) {
+            if (isComplete()) break;
+            if (!seen.add(decoded.key())) continue;
+
+            JSONObject code = new JSONObject();
+            code.put("text", decoded.text);
+            code.put("format", decoded.format);
+            if (decoded.hasBounds) {
+                JSONObject bounds = new JSONObject();
+                bounds.put("left", decoded.left);
+                bounds.put("top", decoded.top);
+                bounds.put("right", decoded.right);
+                bounds.put("bottom", decoded.bottom);
+                code.put("boundingBox", bounds);
+            }
+            pending.put(code);
+            added++;
+        }
+        return added;
+    }
+
+    /** Returns the queued codes once the flush interval has elapsed, or null. */
+    synchronized JSONObject pollIfDue(long now) throws JSONException {
+        if (pending.length() == 0 || now - lastFlush < flushIntervalMs) {
+            return null;
+        }
+        lastFlush = now;
+        return drain(false);
+    }
+
+    /** Returns and clears the queued codes. */
+    synchronized JSONObject drain(boolean done) throws JSONException {
+        JSONObject batch = new JSONObject();
+        batch.put("codes", pending);
+        batch.put("total", seen.size());
+        batch.put("done", done);
+        pending = new JSONArray();
+        return batch;
+    }
+
+    synchronized boolean isComplete() {
+        return maxCodes > 0 && seen.size() >= maxCodes;
+    }
+}
@@ -0,0 +1,52 @@
+package com.slm.qr;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.EncodeHintType;
+import com.google.zxing.WriterException;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ZXing side of QR generation: option parsing and encoding to a {@link BitMatrix}.
+ * Together with {@link QRRasterizer} it covers the whole pixel pipeline without
+ * Android classes, so it can be profiled on a plain JDK.
+ */
+final class QREncoder {
+
+    private static final QRCodeWriter WRITER = new QRCodeWriter();
+
+    private QREncoder() {}
+
+    static ErrorCorrectionLevel parseErrorCorrection(String value) {
+        switch (value) {
+            case "L": return ErrorCorrectionLevel.L;
+            case "Q": return ErrorCorrectionLevel.Q;
+            case "H": return ErrorCorrectionLevel.H;
+            default: return ErrorCorrectionLevel.M;
+        }
+    }
+
+    /** Immutable hints, safe to share between threads rendering the same batch. */
+    static Map<EncodeHintType, Object> hints(ErrorCorrectionLevel level) {
+        Map<EncodeHintType, Object> hints = new EnumMap<>(EncodeHintType.class);
+        hints.put(EncodeHintType.ERROR_CORRECTION, level);
+        hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
+        hints.put(EncodeHintType.MARGIN, 1);
+        return Collections.unmodifiableMap(hints);
+    }
+
+    /** Encodes scaled to {@code size} pixels (larger if the symbol does not fit). */
+    static BitMatrix encode(String data, int size, Map<EncodeHintType, Object> hints) throws WriterException {
+        return WRITER.encode(data, BarcodeFormat.QR_CODE, size, size, hints);
+    }
+
+    /** Encodes at one pixel per module (size 0 lets ZXing pick the minimum), including the quiet zone. */
+    static BitMatrix encodeModules(String data, Map<EncodeHintType, Object> hints) throws WriterException {
+        return WRITER.encode(data, BarcodeFormat.QR_CODE, 0, 0, hints);
+    }
+}
@@ -0,0 +1,224 @@
+package com.slm.qr;
+
+import android.util.Base64;
+import android.util.Log;
+import android.util.LruCache;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Two-tier cache for generated QR images.
+ *
+ * The memory tier is an LRU of Base64 PNG strings bounded by their size in bytes.
+ * The optional disk tier keeps the raw PNG files under the app cache directory,
+ * bounded by total size with oldest-first eviction, and promotes hits back into memory.
+ * PNGs generated with {@code output: "file"} live next to it under the same size budget
+ * and are removed by {@link #clear()}.
+ */
+final class QRImageCache {
+
+    private static final String TAG = "SLMQR";
+    private static final String DIR_NAME = "slmqr-cache";
+    private static final String FILES_DIR_NAME = "slmqr-files";
+
+    private final LruCache<String, String> memory;
+    private final File diskDir;
+    private final File filesDir;
+    private final long maxDiskBytes;
+    private final Object diskLock = new Object();
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong diskHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    QRImageCache(int maxMemoryBytes, File cacheRoot, long maxDiskBytes) {
+        this.memory = new LruCache<String, String>(maxMemoryBytes) {
+            @Override
+            protected int sizeOf(String key, String value) {
+                return (key.length() + value.length()) * 2;
+            }
+        };
+        this.diskDir = new File(cacheRoot, DIR_NAME);
+        this.filesDir = new File(cacheRoot, FILES_DIR_NAME);
+        this.maxDiskBytes = maxDiskBytes;
+    }
+
+    /** Builds the lookup key from the content and every option that changes the rendered image. */
+    static String key(String data, int size, int fgColor, int bgColor, String errorCorrection, String logoHash) {
+        return size + "|" + Integer.toHexString(fgColor) + "|" + Integer.toHexString(bgColor) + "|"
+                + errorCorrection + "|" + (logoHash != null ? logoHash : "") + "|" + data;
+    }
+
+    static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder sb = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /** Returns the cached Base64 PNG, or null; the disk tier is only consulted when {@code useDisk}. */
+    String get(String key, boolean useDisk) {
+        String cached = memory.get(key);
+        if (cached != null) {
+            memoryHits.incrementAndGet();
+            return cached;
+        }
+        if (useDisk) {
+            byte[] png = readDisk(key);
+            if (png != null) {
+                String base64 = Base64.encodeToString(png, Base64.NO_WRAP);
+                memory.put(key, base64);
+                diskHits.incrementAndGet();
+                return base64;
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    void put(String key, byte[] png, String base64, boolean useDisk) {
+        memory.put(key, base64);
+        if (useDisk) {
+            writeDisk(key, png);
+        }
+    }
+
+    /** Stable file location for an image generated with {@code output: "file"}. */
+    File outputFile(String key) throws IOException {
+        if (!filesDir.isDirectory() && !filesDir.mkdirs()) {
+            throw new IOException("No se pudo crear " + filesDir);
+        }
+        return new File(filesDir, sha256(key) + ".png");
+    }
+
+    /**
+     * Uniquely named file to render an output image into before {@link #publishOutput}, so
+     * concurrent renders of the same key never write to the same file.
+     */
+    File outputTempFile() throws IOException {
+        if (!filesDir.isDirectory() && !filesDir.mkdirs()) {
+            throw new IOException("No se pudo crear " + filesDir);
+        }
+        return File.createTempFile("qr-", ".tmp", filesDir);
+    }
+
+    /** Moves a rendered temp file to {@code file} and trims the output files to the disk budget. */
+    void publishOutput(File tmp, File file) throws IOException {
+        synchronized (diskLock) {
+            if (!tmp.renameTo(file)) {
+                tmp.delete();
+                throw new IOException("No se pudo escribir " + file.getName());
+            }
+            trimDisk(filesDir, file);
+        }
+    }
+
+    void clear() {
+        memory.evictAll();
+        synchronized (diskLock) {
+            deleteFiles(diskDir);
+            deleteFiles(filesDir);
+        }
+        memoryHits.set(0);
+        diskHits.set(0);
+        misses.set(0);
+    }
+
+    JSONObject stats() throws JSONException {
+        JSONObject stats = new JSONObject();
+        stats.put("memoryHits", memoryHits.get());
+        stats.put("diskHits", diskHits.get());
+        stats.put("misses", misses.get());
+        stats.put("memoryEntries", memory.snapshot().size());
+        stats.put("memoryBytes", memory.size());
+        stats.put("memoryMaxBytes", memory.maxSize());
+        return stats;
+    }
+
+    private void deleteFiles(File dir) {
+        File[] files = dir.listFiles();
+        if (files != null) {
+            for (File f : files) {
+                if (!f.delete()) Log.w(TAG, "QRImageCache: could not delete " + f.getName());
+            }
+        }
+    }
+
+    private byte[] readDisk(String key) {
+        synchronized (diskLock) {
+            File file = new File(diskDir, sha256(key) + ".png");
+            if (!file.isFile()) return null;
+            byte[] bytes = new byte[(int) file.length()];
+            try (InputStream in = new FileInputStream(file)) {
+                int read = 0;
+                while (read < bytes.length) {
+                    int n = in.read(bytes, read, bytes.length - read);
+                    if (n < 0) return null;
+                    read += n;
+                }
+                file.setLastModified(System.currentTimeMillis());
+                return bytes;
+            } catch (IOException e) {
+                Log.w(TAG, "QRImageCache: disk read failed: " + e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    private void writeDisk(String key, byte[] png) {
+        synchronized (diskLock) {
+            if (!diskDir.isDirectory() && !diskDir.mkdirs()) {
+                Log.w(TAG, "QRImageCache: could not create " + diskDir);
+                return;
+            }
+            File file = new File(diskDir, sha256(key) + ".png");
+            try (OutputStream out = new FileOutputStream(file)) {
+                out.write(png);
+            } catch (IOException e) {
+                Log.w(TAG, "QRImageCache: disk write failed: " + e.getMessage());
+                return;
+            }
+            trimDisk(diskDir, file);
+        }
+    }
+
+    /**
+     * Deletes the oldest PNGs in {@code dir} until it fits the disk budget, sparing {@code keep}
+     * (the file just written). Temp files of renders in progress are left alone.
+     */
+    private void trimDisk(File dir, File keep) {
+        File[] files = dir.listFiles((parent, name) -> name.endsWith(".png"));
+        if (files == null) return;
+        long total = 0;
+        for (File f : files) total += f.length();
+        if (total <= maxDiskBytes) return;
+
+        Arrays.sort(files, (a, b) -> Long.compare(a.lastModified(), b.lastModified()));
+        for (File f : files) {
+            if (total <= maxDiskBytes) break;
+            if (f.equals(keep)) continue;
+            long length = f.length();
+            if (f.delete()) total -= length;
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.slm.qr;
+
+import com.google.zxing.common.BitArray;
+import com.google.zxing.common.BitMatrix;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Converts a ZXing {@link BitMatrix} into row-major ARGB pixels in bulk, or into
+ * compact SVG and bit-row representations for callers that do not need a bitmap.
+ *
+ * Each row is filled span by span (runs of equal modules) instead of pixel by pixel,
+ * and rows identical to the previous one, which is most of them once a module is
+ * scaled to several pixels, are copied with a single {@link System#arraycopy}.
+ * Pure Java so it can run off-device.
+ */
+final class QRRasterizer {
+
+    private QRRasterizer() {}
+
+    static int[] rasterize(BitMatrix matrix, int fgColor, int bgColor) {
+        int width = matrix.getWidth();
+        int height = matrix.getHeight();
+        int[] pixels = new int[width * height];
+
+        BitArray row = new BitArray(width);
+        BitArray previous = new BitArray(width);
+        for (int y = 0; y < height; y++) {
+            row = matrix.getRow(y, row);
+            int offset = y * width;
+
+            if (y > 0 && row.equals(previous)) {
+                System.arraycopy(pixels, offset - width, pixels, offset, width);
+                continue;
+            }
+
+            int x = 0;
+            while (x < width) {
+                boolean set = row.get(x);
+                int end = set ? row.getNextUnset(x) : row.getNextSet(x);
+                Arrays.fill(pixels, offset + x, offset + end, set ? fgColor : bgColor);
+                x = end;
+            }
+
+            BitArray swap = previous;
+            previous = row;
+            row = swap;
+        }
+        return pixels;
+    }
+
+    /**
+     * Draws a square logo into row-major {@code pixels} at ({@code left}, {@code top}) over a
+     * white square {@code padding} pixels larger on each side, clipped to the image. The logo
+     * is unpremultiplied ARGB as returned by {@code Bitmap.getPixels} and is blended source-over,
+     * so the bitmap is written once with {@code setPixels} instead of drawn through a Canvas.
+     */
+    static void drawLogo(int[] pixels, int width, int height, int[] logo, int logoSize, int left, int top, int padding) {
+        int fromX = Math.max(0, left - padding);
+        int toX = Math.min(width, left + logoSize + padding);
+        for (int y = Math.max(0, top - padding); y < Math.min(height, top + logoSize + padding); y++) {
+            if (fromX < toX) {
+                Arrays.fill(pixels, y * width + fromX, y * width + toX, 0xFFFFFFFF);
+            }
+        }
+
+        for (int ly = 0; ly < logoSize; ly++) {
+            int y = top + ly;
+            if (y < 0 || y >= height) continue;
+            for (int lx = 0; lx < logoSize; lx++) {
+                int x = left + lx;
+                if (x < 0 || x >= width) continue;
+                int src = logo[ly * logoSize + lx];
+                int alpha = src >>> 24;
+                if (alpha == 0xFF) {
+                    pixels[y * width + x] = src;
+                } else if (alpha != 0) {
+                    pixels[y * width + x] = blend(src, pixels[y * width + x], alpha);
+                }
+            }
+        }
+    }
+
+    /** Source-over of an unpremultiplied {@code src} with coverage {@code alpha} onto {@code dst}. */
+    private static int blend(int src, int dst, int alpha) {
+        int inverse = 0xFF - alpha;
+        int outAlpha = alpha + ((dst >>> 24) * inverse + 127) / 0xFF;
+        int r = (((src >> 16) & 0xFF) * alpha + ((dst >> 16) & 0xFF) * inverse + 127) / 0xFF;
+        int g = (((src >> 8) & 0xFF) * alpha + ((dst >> 8) & 0xFF) * inverse + 127) / 0xFF;
+        int b = ((src & 0xFF) * alpha + (dst & 0xFF) * inverse + 127) / 0xFF;
+        return (outAlpha << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    /**
+     * Builds an SVG document for a module-level matrix (one unit per module).
+     * Horizontal runs of dark modules are merged into a single {@code h} segment,
+     * so the path grows with the number of runs rather than the number of modules.
+     */
+    static String toSvg(BitMatrix modules, int size, int fgColor, int bgColor, String logoBase64) {
+        int width = modules.getWidth();
+        int height = modules.getHeight();
+        StringBuilder path = new StringBuilder(width * height / 2);
+        BitArray row = new BitArray(width);
+        for (int y = 0; y < height; y++) {
+            row = modules.getRow(y, row);
+            int x = row.getNextSet(0);
+            while (x < width) {
+                int end = row.getNextUnset(x);
+                path.append('M').append(x).append(' ').append(y)
+                        .append('h').append(end - x).append("v1h-").append(end - x).append('z');
+                x = row.getNextSet(end);
+            }
+        }
+
+        StringBuilder svg = new StringBuilder(path.length() + 512);
+        svg.append("<svg xmlns=\"http://www.w3.org/2000/svg\" viewBox=\"0 0 ").append(width).append(' ').append(height)
+                .append("\" width=\"").append(size).append("\" height=\"").append(size)
+                .append("\" shape-rendering=\"crispEdges\">");
+        svg.append("<rect width=\"100%\" height=\"100%\"").append(svgFill(bgColor)).append("/>");
+        svg.append("<path d=\"").append(path).append('"').append(svgFill(fgColor)).append("/>");
+
+        if (logoBase64 != null) {
+            float logoSize = width / 4f;
+            float logoPos = (width - logoSize) / 2f;
+            float padding = 4f * width / size;
+            svg.append("<rect x=\"").append(logoPos - padding).append("\" y=\"").append(logoPos - padding)
+                    .append("\" width=\"").append(logoSize + 2 * padding).append("\" height=\"").append(logoSize + 2 * padding)
+                    .append("\" fill=\"#FFFFFF\"/>");
+            svg.append("<image x=\"").append(logoPos).append("\" y=\"").append(logoPos)
+                    .append("\" width=\"").append(logoSize).append("\" height=\"").append(logoSize)
+                    .append("\" href=\"data:image/png;base64,").append(logoBase64).append("\"/>");
+        }
+        svg.append("</svg>");
+        return svg.toString();
+    }
+
+    /** Returns one string of '0'/'1' characters per module row. */
+    static String[] toBitRows(BitMatrix modules) {
+        int width = modules.getWidth();
+        int height = modules.getHeight();
+        String[] rows = new String[height];
+        char[] chars = new char[width];
+        BitArray row = new BitArray(width);
+        for (int y = 0; y < height; y++) {
+            row = modules.getRow(y, row);
+            for (int x = 0; x < width; x++) {
+                chars[x] = row.get(x) ? '1' : '0';
+            }
+            rows[y] = new String(chars);
+        }
+        return rows;
+    }
+
+    private static String svgFill(int argb) {
+        String fill = String.format(Locale.US, " fill=\"#%06X\"", argb & 0xFFFFFF);
+        int alpha = (argb >>> 24) & 0xFF;
+        if (alpha < 0xFF) {
+            fill += String.format(Locale.US, " fill-opacity=\"%.3f\"", alpha / 255f);
+        }
+        return fill;
+    }
+}
@@ -0,0 +1,85 @@
+package com.slm.qr;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * Chooses the analysis resolution of a scan session.
+ *
+ * Sessions start at the lowest level, where frames are small and fast, or one level up
+ * when the requested formats include dense symbologies (PDF417, Data Matrix, Aztec) that
+ * are rarely readable at VGA. The level is raised whenever {@code escalateAfter} analyzed
+ * frames located a code that could not be decoded, without a successful read in between;
+ * a successful read resets the count. Levels are 4:3 like the default preview, so the
+ * analysis frame and the preview cover the same field of view. Pure Java.
+ */
+final class ResolutionPolicy {
+
+    static final int[][] LEVELS = { { 640, 480 }, { 1280, 960 }, { 1920, 1440 } };
+
+    private final int maxLevel;
+    private final int escalateAfter;
+    private int level;
+    private int undecodedStreak;
+    private int escalations;
+    private volatile int frameWidth;
+    private volatile int frameHeight;
+
+    ResolutionPolicy(int startLevel, int maxLevel, int escalateAfter) {
+        this.maxLevel = clamp(maxLevel);
+        this.level = Math.min(clamp(startLevel), this.maxLevel);
+        this.escalateAfter = Math.max(1, escalateAfter);
+    }
+
+    /**
+     * Policy for the "analysisResolution" option: "low", "medium" and "high" pin a level,
+     * anything else ("auto") adapts starting from the format-based level.
+     */
+    static ResolutionPolicy forMode(String mode, boolean denseFormats, int escalateAfter) {
+        switch (mode) {
+            case "low": return new ResolutionPolicy(0, 0, escalateAfter);
+            case "medium": return new ResolutionPolicy(1, 1, escalateAfter);
+            case "high": return new ResolutionPolicy(2, 2, escalateAfter);
+            default: return new ResolutionPolicy(denseFormats ? 1 : 0, LEVELS.length - 1, escalateAfter);
+        }
+    }
+
+    /** Target size (landscape, as CameraX expects) for the current level. */
+    synchronized int[] targetSize() {
+        return LEVELS[level];
+    }
+
+    /** Records one analyzed frame; returns true when the caller should rebind at {@link #targetSize}. */
+    synchronized boolean onResult(int decoded, int undecoded) {
+        if (decoded > 0) {
+            undecodedStreak = 0;
+            return false;
+        }
+        if (undecoded > 0 && ++undecodedStreak >= escalateAfter && level < maxLevel) {
+            level++;
+            escalations++;
+            undecodedStreak = 0;
+            return true;
+        }
+        return false;
+    }
+
+    /** Size of the frames actually delivered, which may differ from the target on some devices. */
+    void observe(int width, int height) {
+        frameWidth = width;
+        frameHeight = height;
+    }
+
+    synchronized JSONObject toJson() throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("width", frameWidth);
+        json.put("height", frameHeight);
+        json.put("level", level);
+        json.put("escalations", escalations);
+        return json;
+    }
+
+    private static int clamp(int level) {
+        return Math.max(0, Math.min(level, LEVELS.length - 1));
+    }
+}
@@ -1,6 +1,8 @@
 package com.slm.qr;
 
 import android.Manifest;
+import android.animation.ObjectAnimator;
+import android.animation.ValueAnimator;
 import android.app.Activity;
 import android.content.Intent;
 import android.content.pm.PackageManager;
@@ -8,16 +10,20 @@ import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
+import android.graphics.Path;
 import android.graphics.PorterDuff;
 import android.graphics.PorterDuffColorFilter;
 import android.graphics.RectF;
+import android.net.Uri;
 import android.os.Build;
+import android.os.SystemClock;
 import android.os.VibrationEffect;
 import android.os.Vibrator;
 import android.util.Base64;
 import android.util.Log;
 import android.util.Size;
 import android.view.Gravity;
+import android.view.MotionEvent;
 import android.view.View;
 import android.view.ViewGroup;
 import android.graphics.PixelFormat;
@@ -29,14 +35,22 @@ import android.widget.TextView;
 import androidx.annotation.NonNull;
 import androidx.camera.core.Camera;
 import androidx.camera.core.CameraSelector;
+import androidx.camera.core.FocusMeteringAction;
 import androidx.camera.core.ImageAnalysis;
 import androidx.camera.core.ImageProxy;
+import androidx.camera.core.MeteringPoint;
 import androidx.camera.core.Preview;
+import androidx.camera.core.SurfaceOrientedMeteringPointFactory;
+import androidx.camera.core.ZoomState;
+import androidx.camera.core.resolutionselector.AspectRatioStrategy;
+import androidx.camera.core.resolutionselector.ResolutionSelector;
+import androidx.camera.core.resolutionselector.ResolutionStrategy;
 import androidx.camera.lifecycle.ProcessCameraProvider;
 import androidx.camera.view.PreviewView;
 import androidx.core.content.ContextCompat;
 import androidx.lifecycle.LifecycleOwner;
 
+import com.google.android.gms.tasks.Tasks;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.mlkit.vision.barcode.BarcodeScanner;
 import com.google.mlkit.vision.barcode.BarcodeScannerOptions;
@@ -45,7 +59,7 @@ import com.google.mlkit.vision.barcode.common.Barcode;
 import com.google.mlkit.vision.common.InputImage;
 import com.google.zxing.BarcodeFormat;
 import com.google.zxing.EncodeHintType;
-import com.google.zxing.MultiFormatWriter;
+import com.google.zxing.WriterException;
 import com.google.zxing.common.BitMatrix;
 import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
 
@@ -56,31 +70,104 @@ import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class SLMQR extends CordovaPlugin {
 
     private static final String TAG = "SLMQR";
     private static final int CAMERA_PERMISSION_REQUEST = 200;
     private static final int CAMERA_PERMISSION_PREVIEW = 201;
+    private static final int MAX_ANALYZER_THREADS = 4;
+    private static final int BARCODE_FORMATS = Barcode.FORMAT_EAN_8 | Barcode.FORMAT_EAN_13
+            | Barcode.FORMAT_UPC_A | Barcode.FORMAT_UPC_E
+            | Barcode.FORMAT_CODE_39 | Barcode.FORMAT_CODE_93
+            | Barcode.FORMAT_CODE_128 | Barcode.FORMAT_PDF417
+            | Barcode.FORMAT_AZTEC | Barcode.FORMAT_ITF
+            | Barcode.FORMAT_DATA_MATRIX;
+    // Symbologies that usually need more than VGA to decode
+    private static final int DENSE_FORMATS = Barcode.FORMAT_PDF417 | Barcode.FORMAT_DATA_MATRIX | Barcode.FORMAT_AZTEC;
+    private static final int MAX_GENERATE_THREADS = 4;
+    private static final int DEFAULT_BATCH_CHUNK_SIZE = 25;
+    private static final int MAX_BATCH_CHUNK_SIZE = 200;
+    private static final long QR_CACHE_MAX_MEMORY_BYTES = 8 * 1024 * 1024;
+    private static final int LOGO_CACHE_MAX_BYTES = 4 * 1024 * 1024;
+    private static final int MAX_REGISTERED_LOGOS = 32;
+    private static final long QR_CACHE_MAX_DISK_BYTES = 20 * 1024 * 1024;
+    private static final int MAX_DECODE_THREADS = 2;
+    private static final int DEFAULT_DECODE_MAX_DIMENSION = 2048;
+    private static final int MAX_RECORD_FRAMES = 300;
+
+    private Vibrator vibrator;
+    private VibrationEffect vibrationEffect;
 
     private CallbackContext scanCallback;
     private String pendingScanMode;
     private JSONObject pendingScanOptions;
+    private ExecutorService scanAnalysisExecutor;
+    private FrameLayout scanContainer;
+    private volatile ScanMetrics scanMetrics;
+    private volatile FrameRecorder scanRecording;
+
+    // Shared camera resources, kept for the plugin's lifetime
+    private ListenableFuture<ProcessCameraProvider> cameraProviderFuture;
+    private final Map<String, BarcodeScanner> scannerPool = new HashMap<>();
+    private ScannerViews preparedScannerViews;
 
     // Embedded preview
     private FrameLayout embeddedContainer;
     private ProcessCameraProvider embeddedCameraProvider;
+    private ExecutorService embeddedAnalysisExecutor;
+    private AnalysisScheduler embeddedScheduler;
+    private AnalysisBinding embeddedBinding;
+    private boolean embeddedPaused;
+    private volatile ScanMetrics previewMetrics;
+
+    // Still image decoding
+    private ExecutorService decodeExecutor;
+
+    // QR generation
+    private ExecutorService generateExecutor;
+    private QRImageCache qrCache;
+    private LogoCache logoCache;
     private CallbackContext detectedCallback;
     private CallbackContext pendingPreviewCallback;
     private JSONObject pendingPreviewOptions;
-    private String lastDetectedValue;
-    private long lastDetectedTime = 0;
+    private DedupCache embeddedDedup;
+
+    @Override
+    protected void pluginInitialize() {
+        // Looked up once; detections in continuous mode would otherwise hit getSystemService every time
+        vibrator = (Vibrator) cordova.getActivity().getSystemService(Activity.VIBRATOR_SERVICE);
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            vibrationEffect = VibrationEffect.createOneShot(100, VibrationEffect.DEFAULT_AMPLITUDE);
+        }
+    }
 
     @Override
     public boolean execute(String action, JSONArray args, CallbackContext callbackContext) throws JSONException {
@@ -103,14 +190,52 @@ public class SLMQR extends CordovaPlugin {
                 scanCallback = callbackContext;
                 startScan();
                 return true;
+            case "scanMultiple":
+                Log.d(TAG, "  -> scanMultiple mode");
+                pendingScanMode = "multiple";
+                pendingScanOptions = args.optJSONObject(0);
+                scanCallback = callbackContext;
+                startScan();
+                return true;
+            case "prepareScanner":
+                Log.d(TAG, "  -> prepareScanner");
+                JSONObject prepareOptions = args.optJSONObject(0);
+                prepareScanner(prepareOptions != null ? prepareOptions : new JSONObject(), callbackContext);
+                return true;
+            case "decodeImage":
+                Log.d(TAG, "  -> decodeImage");
+                Object input = args.opt(0);
+                JSONObject decodeOptions = args.optJSONObject(1);
+                decodeImage(input, decodeOptions != null ? decodeOptions : new JSONObject(), callbackContext);
+                return true;
             case "generateQR":
                 Log.d(TAG, "  -> generateQR");
                 String data = args.optString(0, "");
                 JSONObject options = args.optJSONObject(1);
                 generateQR(data, options != null ? options : new JSONObject(), callbackContext);
                 return true;
+            case "generateQRBatch":
+                Log.d(TAG, "  -> generateQRBatch");
+                JSONArray items = args.optJSONArray(0);
+                JSONObject sharedOptions = args.optJSONObject(1);
+                generateQRBatch(items != null ? items : new JSONArray(),
+                        sharedOptions != null ? sharedOptions : new JSONObject(), callbackContext);
+                return true;
+            case "clearQRCache":
+                Log.d(TAG, "  -> clearQRCache");
+                clearQRCache(callbackContext);
+                return true;
+            case "registerLogo":
+                Log.d(TAG, "  -> registerLogo");
+                registerLogo(args.optString(0, ""), args.optString(1, ""), callbackContext);
+                return true;
+            case "getQRCacheStats":
+                Log.d(TAG, "  -> getQRCacheStats");
+                getQRCacheStats(callbackContext);
+                return true;
             case "openQRPreview":
                 Log.d(TAG, "  -> openQRPreview");
+                previewMetrics = new ScanMetrics();
                 pendingPreviewOptions = args.optJSONObject(0);
                 pendingPreviewCallback = callbackContext;
                 if (!hasCameraPermission()) {
@@ -125,6 +250,24 @@ public class SLMQR extends CordovaPlugin {
                 Log.d(TAG, "  -> closeQRPreview");
                 closeQRPreview(callbackContext);
                 return true;
+            case "pauseQRPreview":
+                Log.d(TAG, "  -> pauseQRPreview");
+                JSONObject pauseOptions = args.optJSONObject(0);
+                pauseQRPreview(pauseOptions != null ? pauseOptions : new JSONObject(), callbackContext);
+                return true;
+            case "resumeQRPreview":
+                Log.d(TAG, "  -> resumeQRPreview");
+                resumeQRPreview(callbackContext);
+                return true;
+            case "updateQRPreview":
+                Log.d(TAG, "  -> updateQRPreview");
+                JSONObject bounds = args.optJSONObject(0);
+                updateQRPreview(bounds != null ? bounds : new JSONObject(), callbackContext);
+                return true;
+            case "getScanMetrics":
+                Log.d(TAG, "  -> getScanMetrics");
+                getScanMetrics(callbackContext);
+                return true;
             case "onQRDetected":
                 Log.d(TAG, "  -> onQRDetected (registering callback)");
                 detectedCallback = callbackContext;
@@ -141,6 +284,7 @@ public class SLMQR extends CordovaPlugin {
 
     private void startScan() {
         Log.d(TAG, "startScan() called");
+        scanMetrics = new ScanMetrics();
         if (!hasCameraPermission()) {
             Log.d(TAG, "  No camera permission, requesting...");
             cordova.requestPermission(this, CAMERA_PERMISSION_REQUEST, Manifest.permission.CAMERA);
@@ -150,6 +294,63 @@ public class SLMQR extends CordovaPlugin {
         openScannerActivity();
     }
 
+    /**
+     * Does the expensive parts of opening the scanner ahead of time: resolves the CameraX
+     * provider, creates and warms up the pooled ML Kit client, and optionally inflates the
+     * scanner views. A later scanQR/scanBarcode with the same options only binds use cases.
+     */
+    private void prepareScanner(final JSONObject options, final CallbackContext callbackContext) {
+        final Activity activity = cordova.getActivity();
+        cordova.getThreadPool().execute(() -> {
+            try {
+                final String mode = options.optString("mode", "qr");
+                JSONObject result = new JSONObject();
+                result.put("hasPermission", hasCameraPermission());
+
+                long start = SystemClock.elapsedRealtime();
+                getCameraProviderFuture(activity).get();
+                long providerMs = SystemClock.elapsedRealtime() - start;
+
+                start = SystemClock.elapsedRealtime();
+                // Warms the client the scanner's live analyzer will use
+                BarcodeScanner scanner = getBarcodeScanner(parseFormats(options.optJSONArray("formats"), scanFormats(mode)), true);
+                // ML Kit loads its native detector on the first process() call
+                Bitmap blank = Bitmap.createBitmap(64, 64, Bitmap.Config.ARGB_8888);
+                Tasks.await(scanner.process(InputImage.fromBitmap(blank, 0)));
+                blank.recycle();
+                long scannerMs = SystemClock.elapsedRealtime() - start;
+
+                long overlayMs = 0;
+                if (options.optBoolean("preInflate", false)) {
+                    final String template = options.optString("template", "multiple".equals(mode) ? "fullscreen" : "simple");
+                    final String title = options.optString("title", defaultScanTitle(mode));
+                    final boolean flashlight = options.optBoolean("flashlight", true);
+                    FutureTask<Long> inflate = new FutureTask<>(() -> {
+                        long inflateStart = SystemClock.elapsedRealtime();
+                        ScannerViews views = buildScannerViews(activity, template, title, flashlight);
+                        synchronized (SLMQR.this) {
+                            preparedScannerViews = views;
+                        }
+                        return SystemClock.elapsedRealtime() - inflateStart;
+                    });
+                    activity.runOnUiThread(inflate);
+                    overlayMs = inflate.get();
+                }
+
+                result.put("prepared", true);
+                result.put("providerMs", providerMs);
+                result.put("scannerMs", scannerMs);
+                result.put("overlayMs", overlayMs);
+                result.put("savedMs", providerMs + scannerMs + overlayMs);
+                Log.d(TAG, "prepareScanner() " + result);
+                callbackContext.success(result);
+            } catch (Exception e) {
+                Log.e(TAG, "prepareScanner error: " + e.getMessage(), e);
+                callbackContext.error("Error preparando escaner: " + e.getMessage());
+            }
+        });
+    }
+
     private boolean hasCameraPermission() {
         boolean has = ContextCompat.checkSelfPermission(cordova.getActivity(), Manifest.permission.CAMERA) == PackageManager.PERMISSION_GRANTED;
         Log.d(TAG, "hasCameraPermission() = " + has);
@@ -192,11 +393,34 @@ public class SLMQR extends CordovaPlugin {
         final JSONObject options = pendingScanOptions != null ? pendingScanOptions : new JSONObject();
         final String mode = pendingScanMode != null ? pendingScanMode : "qr";
 
-        final String template = options.optString("template", "simple");
+        final boolean multiple = "multiple".equals(mode);
+        final String template = options.optString("template", multiple ? "fullscreen" : "simple");
         final boolean flashlight = options.optBoolean("flashlight", true);
         final boolean vibrate = options.optBoolean("vibrate", true);
+        final boolean includeRawBytes = options.optBoolean("rawBytes", true);
+        final boolean binary = options.optBoolean("binary", false);
+        final int formats = parseFormats(options.optJSONArray("formats"), scanFormats(mode));
         final boolean useFrontCamera = "front".equals(options.optString("camera", "back"));
-        final String title = options.optString("title", mode.equals("qr") ? "Escanea el codigo QR" : "Escanea el codigo de barras");
+        final String title = options.optString("title", defaultScanTitle(mode));
+        final boolean cropToOverlay = options.optBoolean("cropToOverlay", !multiple) && !"fullscreen".equals(template);
+        // Zooming toward one code would push the others out of a multiple-code session
+        final ZoomPolicy zoom = options.optBoolean("autoZoom", !multiple) ? ZoomPolicy.defaults() : null;
+        final boolean tapToFocus = options.optBoolean("tapToFocus", true);
+        final ScanMetrics metrics = scanMetrics != null ? scanMetrics : new ScanMetrics();
+        metrics.mark(ScanMetrics.PERMISSION_READY);
+        final FrameRecorder recording = openRecording(options.optInt("recordFrames", 0));
+        scanRecording = recording;
+        final ResolutionPolicy resolution = createResolutionPolicy(options, formats);
+        metrics.setResolution(resolution);
+        final MultiScanSession multiSession = multiple
+                ? new MultiScanSession(options.optLong("flushInterval", 500), options.optInt("maxCodes", 0))
+                : null;
+        final int consensusFrames = options.optInt("consensusFrames", 0);
+        final ConsensusVote<DecodedCode> consensus = consensusFrames > 1 && !multiple
+                ? new ConsensusVote<>(consensusFrames,
+                        options.optInt("consensusThreshold", consensusFrames / 2 + 1),
+                        options.optLong("consensusTimeout", 1500))
+                : null;
 
         Log.d(TAG, "  mode: " + mode);
         Log.d(TAG, "  template: " + template);
@@ -204,65 +428,37 @@ public class SLMQR extends CordovaPlugin {
         Log.d(TAG, "  vibrate: " + vibrate);
         Log.d(TAG, "  useFrontCamera: " + useFrontCamera);
         Log.d(TAG, "  title: " + title);
+        Log.d(TAG, "  cropToOverlay: " + cropToOverlay);
+        Log.d(TAG, "  autoZoom: " + (zoom != null));
+        Log.d(TAG, "  consensusFrames: " + (consensus != null ? consensusFrames : 0));
 
         activity.runOnUiThread(new Runnable() {
             @Override
             public void run() {
                 Log.d(TAG, "  [UI thread] Creating fullscreen scanner...");
-                // Create fullscreen FrameLayout
-                final FrameLayout container = new FrameLayout(activity);
-                container.setLayoutParams(new FrameLayout.LayoutParams(
-                        ViewGroup.LayoutParams.MATCH_PARENT,
-                        ViewGroup.LayoutParams.MATCH_PARENT
-                ));
-                container.setBackgroundColor(Color.BLACK);
-
-                // Camera preview (COMPATIBLE = TextureView, works in overlay windows)
-                final PreviewView previewView = new PreviewView(activity);
-                previewView.setImplementationMode(PreviewView.ImplementationMode.COMPATIBLE);
-                previewView.setLayoutParams(new FrameLayout.LayoutParams(
-                        ViewGroup.LayoutParams.MATCH_PARENT,
-                        ViewGroup.LayoutParams.MATCH_PARENT
-                ));
-                container.addView(previewView);
-
-                // Overlay
-                final View overlayView = createOverlay(activity, template, title);
-                container.addView(overlayView);
-
-                // Cancel button
-                Button cancelBtn = new Button(activity);
-                cancelBtn.setText("Cancelar");
-                cancelBtn.setTextColor(Color.WHITE);
-                cancelBtn.setBackgroundColor(Color.TRANSPARENT);
-                cancelBtn.setTextSize(16);
-                FrameLayout.LayoutParams cancelParams = new FrameLayout.LayoutParams(
-                        ViewGroup.LayoutParams.WRAP_CONTENT,
-                        ViewGroup.LayoutParams.WRAP_CONTENT
-                );
-                cancelParams.gravity = Gravity.BOTTOM | Gravity.START;
-                cancelParams.setMargins(40, 0, 0, 100);
-                cancelBtn.setLayoutParams(cancelParams);
-                container.addView(cancelBtn);
-
-                // Flash button
-                final Button flashBtn;
-                if (flashlight) {
-                    flashBtn = new Button(activity);
-                    flashBtn.setText("Flash");
-                    flashBtn.setTextColor(Color.WHITE);
-                    flashBtn.setBackgroundColor(Color.TRANSPARENT);
-                    flashBtn.setTextSize(16);
-                    FrameLayout.LayoutParams flashParams = new FrameLayout.LayoutParams(
-                            ViewGroup.LayoutParams.WRAP_CONTENT,
-                            ViewGroup.LayoutParams.WRAP_CONTENT
-                    );
-                    flashParams.gravity = Gravity.BOTTOM | Gravity.END;
-                    flashParams.setMargins(0, 0, 40, 100);
-                    flashBtn.setLayoutParams(flashParams);
-                    container.addView(flashBtn);
+                ScannerViews views = takePreparedScannerViews(template, title, flashlight);
+                if (views == null) {
+                    views = buildScannerViews(activity, template, title, flashlight);
                 } else {
-                    flashBtn = null;
+                    Log.d(TAG, "  [UI thread] Using pre-inflated scanner views");
+                }
+                final FrameLayout container = views.container;
+                final PreviewView previewView = views.previewView;
+                final Button cancelBtn = views.cancelBtn;
+                final Button flashBtn = views.flashBtn;
+                scanContainer = container;
+                if (multiple) {
+                    cancelBtn.setText("Terminar");
+                }
+
+                // Region of interest: only the overlay's scan window is decoded
+                final ScanRegion scanRegion = cropToOverlay ? new ScanRegion() : null;
+                if (scanRegion != null) {
+                    previewView.addOnLayoutChangeListener((v, left, top, right, bottom, oldLeft, oldTop, oldRight, oldBottom) -> {
+                        int w = right - left;
+                        int h = bottom - top;
+                        scanRegion.setViewWindow(ScanOverlayView.scanWindow(template, w, h), w, h, useFrontCamera);
+                    });
                 }
 
                 // Add to DecorView (on top of InAppBrowser)
@@ -280,15 +476,18 @@ public class SLMQR extends CordovaPlugin {
 
                 // Setup CameraX
                 Log.d(TAG, "  [UI thread] Setting up CameraX...");
-                final boolean[] hasDetected = {false};
-                ListenableFuture<ProcessCameraProvider> cameraProviderFuture =
-                        ProcessCameraProvider.getInstance(activity);
+                final AtomicBoolean hasDetected = new AtomicBoolean(false);
+                shutdownAnalysisExecutor(scanAnalysisExecutor);
+                final ExecutorService analysisExecutor = createAnalysisExecutor(options, "SLMQR-scan");
+                scanAnalysisExecutor = analysisExecutor;
+                ListenableFuture<ProcessCameraProvider> cameraProviderFuture = getCameraProviderFuture(activity);
 
                 Log.d(TAG, "  [UI thread] CameraProvider future obtained, adding listener...");
                 cameraProviderFuture.addListener(() -> {
                     try {
                         Log.d(TAG, "  [CameraX listener] Getting camera provider...");
                         ProcessCameraProvider cameraProvider = cameraProviderFuture.get();
+                        metrics.mark(ScanMetrics.PROVIDER_READY);
                         Log.d(TAG, "  [CameraX listener] Camera provider obtained: " + cameraProvider);
 
                         Preview preview = new Preview.Builder().build();
@@ -299,106 +498,112 @@ public class SLMQR extends CordovaPlugin {
                                 ? CameraSelector.DEFAULT_FRONT_CAMERA
                                 : CameraSelector.DEFAULT_BACK_CAMERA;
 
-                        // Barcode scanner options
-                        BarcodeScannerOptions.Builder scannerBuilder = new BarcodeScannerOptions.Builder();
-                        if ("qr".equals(mode)) {
-                            scannerBuilder.setBarcodeFormats(Barcode.FORMAT_QR_CODE);
-                        } else {
-                            scannerBuilder.setBarcodeFormats(
-                                    Barcode.FORMAT_EAN_8,
-                                    Barcode.FORMAT_EAN_13,
-                                    Barcode.FORMAT_UPC_A,
-                                    Barcode.FORMAT_UPC_E,
-                                    Barcode.FORMAT_CODE_39,
-                                    Barcode.FORMAT_CODE_93,
-                                    Barcode.FORMAT_CODE_128,
-                                    Barcode.FORMAT_PDF417,
-                                    Barcode.FORMAT_AZTEC,
-                                    Barcode.FORMAT_ITF,
-                                    Barcode.FORMAT_DATA_MATRIX
-                            );
-                        }
-
-                        BarcodeScanner scanner = BarcodeScanning.getClient(scannerBuilder.build());
-                        Log.d(TAG, "  [CameraX listener] BarcodeScanner created");
+                        DecodeEngine engine = createDecodeEngine(options, formats, multiple, analysisExecutor);
+                        Log.d(TAG, "  [CameraX listener] Decode engine ready");
 
-                        ImageAnalysis imageAnalysis = new ImageAnalysis.Builder()
-                                .setTargetResolution(new Size(1280, 720))
-                                .setBackpressureStrategy(ImageAnalysis.STRATEGY_KEEP_ONLY_LATEST)
-                                .build();
-                        Log.d(TAG, "  [CameraX listener] ImageAnalysis built");
+                        final AnalysisBinding binding = new AnalysisBinding(cameraProvider, (LifecycleOwner) activity,
+                                cameraSelector, analysisExecutor, resolution);
 
-                        imageAnalysis.setAnalyzer(ContextCompat.getMainExecutor(activity), imageProxy -> {
-                            if (hasDetected[0]) {
+                        // Frames and decode callbacks stay on the analysis executor; only the
+                        // final teardown and Cordova callback hop back to the UI thread.
+                        binding.analyzer = imageProxy -> {
+                            if (hasDetected.get()) {
                                 imageProxy.close();
                                 return;
                             }
-
-                            @SuppressWarnings("UnsafeOptInUsageError")
-                            android.media.Image mediaImage = imageProxy.getImage();
-                            if (mediaImage == null) {
-                                imageProxy.close();
-                                return;
+                            final long frameStart = System.nanoTime();
+                            metrics.onFrame(imageProxy.getImageInfo().getTimestamp());
+                            resolution.observe(imageProxy.getWidth(), imageProxy.getHeight());
+                            if (recording != null && !recording.isFull()) {
+                                recordFrame(recording, imageProxy);
                             }
 
-                            InputImage image = InputImage.fromMediaImage(mediaImage, imageProxy.getImageInfo().getRotationDegrees());
-                            scanner.process(image)
-                                    .addOnSuccessListener(barcodes -> {
-                                        if (!barcodes.isEmpty() && !hasDetected[0]) {
-                                            hasDetected[0] = true;
-                                            Barcode barcode = barcodes.get(0);
-
-                                            // Vibrate
-                                            if (vibrate) {
-                                                Vibrator v = (Vibrator) activity.getSystemService(Activity.VIBRATOR_SERVICE);
-                                                if (v != null) {
-                                                    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
-                                                        v.vibrate(VibrationEffect.createOneShot(100, VibrationEffect.DEFAULT_AMPLITUDE));
-                                                    } else {
-                                                        v.vibrate(100);
-                                                    }
-                                                }
-                                            }
-
-                                            // Build result
-                                            JSONObject result = new JSONObject();
-                                            try {
-                                                result.put("text", barcode.getRawValue());
-                                                result.put("format", formatToString(barcode.getFormat()));
-
-                                                if ("qr".equals(mode)) {
-                                                    result.put("template", template);
-                                                    if (barcode.getRawBytes() != null) {
-                                                        result.put("rawBytes", Base64.encodeToString(barcode.getRawBytes(), Base64.NO_WRAP));
-                                                    }
-                                                }
-                                            } catch (JSONException e) {
-                                                Log.e(TAG, "JSON error: " + e.getMessage());
-                                            }
+                            metrics.mark(ScanMetrics.FIRST_DECODE_ATTEMPT);
+                            engine.decode(imageProxy, scanRegion, new DecodeEngine.Callback() {
+                                @Override
+                                public void onDecoded(List<DecodedCode> codes, List<DecodedCode> unreadable) {
+                                    metrics.onAnalysis(System.nanoTime() - frameStart, true, !codes.isEmpty());
+                                    if (resolution.onResult(codes.size(), unreadable.size())) {
+                                        activity.runOnUiThread(() -> {
+                                            if (!hasDetected.get()) binding.rebind();
+                                        });
+                                    }
+                                    if (zoom != null && codes.isEmpty()) {
+                                        steerCamera(binding, zoom, unreadable, imageProxy);
+                                    }
+                                    if (multiSession != null) {
+                                        handleMultiScanFrame(activity, codes, multiSession, metrics, vibrate, hasDetected,
+                                                () -> teardownScanner(cameraProvider, container, analysisExecutor));
+                                        imageProxy.close();
+                                        return;
+                                    }
+                                    DecodedCode code = codes.isEmpty() ? null : codes.get(0);
+                                    ConsensusVote.Decision<DecodedCode> decision = null;
+                                    if (consensus != null) {
+                                        decision = consensus.vote(code != null ? code.key() : null, code, SystemClock.elapsedRealtime());
+                                        code = decision != null ? decision.payload : null;
+                                    }
+                                    if (code != null && hasDetected.compareAndSet(false, true)) {
+                                        metrics.mark(ScanMetrics.DETECTION);
+
+                                        // Vibrate
+                                        if (vibrate) {
+                                            vibrateOnce();
+                                        }
 
-                                            cameraProvider.unbindAll();
-                                            activity.runOnUiThread(() -> {
-                                                ((ViewGroup) container.getParent()).removeView(container);
-                                            });
+                                        // Build result
+                                        boolean qrMode = "qr".equals(mode);
+                                        JSONObject built;
+                                        try {
+                                            built = ScanResults.scan(code, qrMode ? template : null,
+                                                    qrMode && includeRawBytes && !binary, decision, metrics,
+                                                    recording != null ? recording.dir().getAbsolutePath() : null);
+                                        } catch (JSONException e) {
+                                            Log.e(TAG, "JSON error: " + e.getMessage());
+                                            built = new JSONObject();
+                                        }
 
+                                        final JSONObject result = built;
+                                        final byte[] rawPart = binary && includeRawBytes && qrMode ? code.rawBytes : null;
+                                        activity.runOnUiThread(() -> {
+                                            teardownScanner(cameraProvider, container, analysisExecutor);
                                             if (scanCallback != null) {
-                                                scanCallback.success(result);
+                                                scanCallback.sendPluginResult(resultWithBytes(result, rawPart));
                                                 scanCallback = null;
                                             }
-                                        }
-                                        imageProxy.close();
-                                    })
-                                    .addOnFailureListener(e -> {
-                                        Log.e(TAG, "Barcode scan error: " + e.getMessage());
-                                        imageProxy.close();
-                                    });
-                        });
+                                        });
+                                    }
+                                    imageProxy.close();
+                                }
+
+                                @Override
+                                public void onFailure(Exception e) {
+                                    Log.e(TAG, "Barcode scan error: " + e.getMessage());
+                                    metrics.onAnalysis(System.nanoTime() - frameStart, false, false);
+                                    imageProxy.close();
+                                }
+                            });
+                        };
+                        ImageAnalysis imageAnalysis = binding.create();
+                        Log.d(TAG, "  [CameraX listener] ImageAnalysis built, target=" + Arrays.toString(resolution.targetSize()));
 
                         Log.d(TAG, "  [CameraX listener] Binding to lifecycle...");
                         Camera camera = cameraProvider.bindToLifecycle(
                                 (LifecycleOwner) activity, cameraSelector, preview, imageAnalysis);
+                        binding.camera = camera;
+                        metrics.mark(ScanMetrics.CAMERA_BOUND);
                         Log.d(TAG, "  [CameraX listener] Camera bound successfully! camera=" + camera);
 
+                        if (tapToFocus) {
+                            previewView.setOnTouchListener((v, event) -> {
+                                if (event.getAction() != MotionEvent.ACTION_UP) return true;
+                                MeteringPoint point = previewView.getMeteringPointFactory().createPoint(event.getX(), event.getY());
+                                camera.getCameraControl().startFocusAndMetering(focusAction(point));
+                                v.performClick();
+                                return true;
+                            });
+                        }
+
                         // Flash toggle
                         if (flashBtn != null && camera.getCameraInfo().hasFlashUnit()) {
                             flashBtn.setOnClickListener(v -> {
@@ -408,12 +613,13 @@ public class SLMQR extends CordovaPlugin {
                             });
                         }
 
-                        // Cancel
+                        // Cancel (finishes the session in multiple mode)
                         cancelBtn.setOnClickListener(v -> {
-                            hasDetected[0] = true;
-                            cameraProvider.unbindAll();
-                            ((ViewGroup) container.getParent()).removeView(container);
-                            if (scanCallback != null) {
+                            hasDetected.set(true);
+                            teardownScanner(cameraProvider, container, analysisExecutor);
+                            if (multiSession != null) {
+                                finishMultiScan(multiSession, metrics);
+                            } else if (scanCallback != null) {
                                 scanCallback.error("Escaneo cancelado por el usuario");
                                 scanCallback = null;
                             }
@@ -422,6 +628,7 @@ public class SLMQR extends CordovaPlugin {
                     } catch (Exception e) {
                         Log.e(TAG, "  [CameraX listener] EXCEPTION: " + e.getClass().getName() + ": " + e.getMessage());
                         Log.e(TAG, "  [CameraX listener] Stack trace:", e);
+                        shutdownAnalysisExecutor(analysisExecutor);
                         if (scanCallback != null) {
                             scanCallback.error("Error al iniciar camara: " + e.getMessage());
                             scanCallback = null;
@@ -432,6 +639,301 @@ public class SLMQR extends CordovaPlugin {
         });
     }
 
+    /** Builds the fullscreen scanner hierarchy (preview, overlay, buttons) without attaching it. Must run on the UI thread. */
+    private ScannerViews buildScannerViews(Activity activity, String template, String title, boolean flashlight) {
+        // Create fullscreen FrameLayout
+        FrameLayout container = new FrameLayout(activity);
+        container.setLayoutParams(new FrameLayout.LayoutParams(
+                ViewGroup.LayoutParams.MATCH_PARENT,
+                ViewGroup.LayoutParams.MATCH_PARENT
+        ));
+        container.setBackgroundColor(Color.BLACK);
+
+        // Camera preview (COMPATIBLE = TextureView, works in overlay windows)
+        PreviewView previewView = new PreviewView(activity);
+        previewView.setImplementationMode(PreviewView.ImplementationMode.COMPATIBLE);
+        previewView.setLayoutParams(new FrameLayout.LayoutParams(
+                ViewGroup.LayoutParams.MATCH_PARENT,
+                ViewGroup.LayoutParams.MATCH_PARENT
+        ));
+        container.addView(previewView);
+
+        // Overlay
+        View overlayView = createOverlay(activity, template, title);
+        container.addView(overlayView);
+
+        // Cancel button
+        Button cancelBtn = new Button(activity);
+        cancelBtn.setText("Cancelar");
+        cancelBtn.setTextColor(Color.WHITE);
+        cancelBtn.setBackgroundColor(Color.TRANSPARENT);
+        cancelBtn.setTextSize(16);
+        FrameLayout.LayoutParams cancelParams = new FrameLayout.LayoutParams(
+                ViewGroup.LayoutParams.WRAP_CONTENT,
+                ViewGroup.LayoutParams.WRAP_CONTENT
+        );
+        cancelParams.gravity = Gravity.BOTTOM | Gravity.START;
+        cancelParams.setMargins(40, 0, 0, 100);
+        cancelBtn.setLayoutParams(cancelParams);
+        container.addView(cancelBtn);
+
+        // Flash button
+        Button flashBtn;
+        if (flashlight) {
+            flashBtn = new Button(activity);
+            flashBtn.setText("Flash");
+            flashBtn.setTextColor(Color.WHITE);
+            flashBtn.setBackgroundColor(Color.TRANSPARENT);
+            flashBtn.setTextSize(16);
+            FrameLayout.LayoutParams flashParams = new FrameLayout.LayoutParams(
+                    ViewGroup.LayoutParams.WRAP_CONTENT,
+                    ViewGroup.LayoutParams.WRAP_CONTENT
+            );
+            flashParams.gravity = Gravity.BOTTOM | Gravity.END;
+            flashParams.setMargins(0, 0, 40, 100);
+            flashBtn.setLayoutParams(flashParams);
+            container.addView(flashBtn);
+        } else {
+            flashBtn = null;
+        }
+
+        return new ScannerViews(ScannerViews.key(template, title, flashlight), container, previewView, cancelBtn, flashBtn);
+    }
+
+    private synchronized ScannerViews takePreparedScannerViews(String template, String title, boolean flashlight) {
+        ScannerViews views = preparedScannerViews;
+        preparedScannerViews = null;
+        if (views != null && views.key.equals(ScannerViews.key(template, title, flashlight))) {
+            return views;
+        }
+        return null;
+    }
+
+    /**
+     * The analysis use case of a session plus what is needed to replace it, so the
+     * analysis resolution can be raised without unbinding the preview.
+     */
+    private static final class AnalysisBinding {
+        final ProcessCameraProvider provider;
+        final LifecycleOwner owner;
+        final CameraSelector selector;
+        final ExecutorService executor;
+        final ResolutionPolicy policy;
+        ImageAnalysis.Analyzer analyzer;
+        volatile ImageAnalysis analysis;
+        volatile Camera camera;
+
+        AnalysisBinding(ProcessCameraProvider provider, LifecycleOwner owner, CameraSelector selector,
+                        ExecutorService executor, ResolutionPolicy policy) {
+            this.provider = provider;
+            this.owner = owner;
+            this.selector = selector;
+            this.executor = executor;
+            this.policy = policy;
+        }
+
+        /** Builds the use case for the policy's current target with the analyzer attached; binding is up to the caller. */
+        ImageAnalysis create() {
+            int[] size = policy.targetSize();
+            ResolutionSelector resolutionSelector = new ResolutionSelector.Builder()
+                    .setAspectRatioStrategy(AspectRatioStrategy.RATIO_4_3_FALLBACK_AUTO_STRATEGY)
+                    .setResolutionStrategy(new ResolutionStrategy(new Size(size[0], size[1]),
+                            ResolutionStrategy.FALLBACK_RULE_CLOSEST_HIGHER_THEN_LOWER))
+                    .build();
+            analysis = new ImageAnalysis.Builder()
+                    .setResolutionSelector(resolutionSelector)
+                    .setBackpressureStrategy(ImageAnalysis.STRATEGY_KEEP_ONLY_LATEST)
+                    .build();
+            analysis.setAnalyzer(executor, analyzer);
+            return analysis;
+        }
+
+        /** Swaps the bound use case for one at the policy's new target. Must run on the UI thread. */
+        void rebind() {
+            Log.d(TAG, "AnalysisBinding.rebind() target=" + Arrays.toString(policy.targetSize()));
+            provider.unbind(analysis);
+            provider.bindToLifecycle(owner, selector, create());
+        }
+    }
+
+    /** Views of the fullscreen scanner; may be inflated ahead of time by prepareScanner. */
+    private static final class ScannerViews {
+        final String key;
+        final FrameLayout container;
+        final PreviewView previewView;
+        final Button cancelBtn;
+        final Button flashBtn;
+
+        ScannerViews(String key, FrameLayout container, PreviewView previewView, Button cancelBtn, Button flashBtn) {
+            this.key = key;
+            this.container = container;
+            this.previewView = previewView;
+            this.cancelBtn = cancelBtn;
+            this.flashBtn = flashBtn;
+        }
+
+        static String key(String template, String title, boolean flashlight) {
+            return template + "|" + flashlight + "|" + title;
+        }
+    }
+
+    /**
+     * scanMultiple: queues the new codes of a frame, sends a keep-alive batch when the
+     * flush interval has elapsed, and ends the session once maxCodes is reached.
+     * Runs under the session lock, like {@link #finishMultiScan}: a frame still in flight
+     * when the session finishes (Cancel or maxCodes) either lands before the final result
+     * or sees {@code finished} and is dropped, so no batch is sent after it.
+     */
+    private void handleMultiScanFrame(Activity activity, List<DecodedCode> codes, MultiScanSession session,
+                                      ScanMetrics metrics, boolean vibrate, AtomicBoolean finished, Runnable teardown) {
+        synchronized (session) {
+            if (finished.get()) return;
+            try {
+                if (!codes.isEmpty() && session.add(codes) > 0) {
+                    metrics.mark(ScanMetrics.DETECTION);
+                    if (vibrate) vibrateOnce();
+                }
+                JSONObject batch = session.pollIfDue(SystemClock.elapsedRealtime());
+                CallbackContext callback = scanCallback;
+                if (batch != null && callback != null) {
+                    PluginResult pluginResult = new PluginResult(PluginResult.Status.OK, batch);
+                    pluginResult.setKeepCallback(true);
+                    callback.sendPluginResult(pluginResult);
+                }
+            } catch (JSONException e) {
+                Log.e(TAG, "JSON error: " + e.getMessage());
+            }
+
+            if (session.isComplete() && finished.compareAndSet(false, true)) {
+                activity.runOnUiThread(() -> {
+                    teardown.run();
+                    finishMultiScan(session, metrics);
+                });
+            }
+        }
+    }
+
+    /** Sends the remaining codes of a scanMultiple session as its final result. */
+    private void finishMultiScan(MultiScanSession session, ScanMetrics metrics) {
+        synchronized (session) {
+            if (scanCallback == null) return;
+            try {
+                JSONObject result = session.drain(true);
+                result.put("metrics", metrics.toJson());
+                FrameRecorder recording = scanRecording;
+                if (recording != null) {
+                    result.put("recording", recording.dir().getAbsolutePath());
+                }
+                scanCallback.success(result);
+            } catch (JSONException e) {
+                scanCallback.error(e.getMessage());
+            }
+            scanCallback = null;
+        }
+    }
+
+    /**
+     * Moves the camera toward the largest unreadable candidate of a frame: zooms in when it
+     * is too small, refocuses on it otherwise, and zooms back out once candidates are gone.
+     * Called on the analysis thread; CameraControl calls are asynchronous.
+     */
+    private void steerCamera(AnalysisBinding binding, ZoomPolicy zoom, List<DecodedCode> unreadable, ImageProxy frame) {
+        Camera camera = binding.camera;
+        ZoomState zoomState = camera != null ? camera.getCameraInfo().getZoomState().getValue() : null;
+        if (zoomState == null) return;
+
+        DecodedCode target = null;
+        long targetArea = 0;
+        for (DecodedCode candidate : unreadable) {
+            if (!candidate.hasBounds) continue;
+            long area = (long) (candidate.right - candidate.left) * (candidate.bottom - candidate.top);
+            if (area > targetArea) {
+                target = candidate;
+                targetArea = area;
+            }
+        }
+
+        long now = SystemClock.elapsedRealtime();
+        if (target == null) {
+            float ratio = zoom.onEmpty(now, zoomState.getZoomRatio(), zoomState.getMinZoomRatio());
+            if (ratio != ZoomPolicy.NO_CHANGE) {
+                camera.getCameraControl().setZoomRatio(ratio);
+            }
+            return;
+        }
+
+        // Candidate bounds are upright; the frame is delivered in sensor orientation
+        int rotation = frame.getImageInfo().getRotationDegrees();
+        int frameWidth = rotation % 180 == 0 ? frame.getWidth() : frame.getHeight();
+        int frameHeight = rotation % 180 == 0 ? frame.getHeight() : frame.getWidth();
+        float ratio = zoom.onCandidate(now, zoomState.getZoomRatio(), zoomState.getMaxZoomRatio(),
+                frameWidth, frameHeight, target.left, target.top, target.right, target.bottom);
+        if (ratio != ZoomPolicy.NO_CHANGE) {
+            Log.d(TAG, "steerCamera() zoom " + zoomState.getZoomRatio() + " -> " + ratio);
+            camera.getCameraControl().setZoomRatio(ratio);
+        }
+        if (ratio != ZoomPolicy.NO_CHANGE || zoom.shouldFocus(now)) {
+            float[] center = ScanRegion.toBufferPoint((target.left + target.right) / 2f / frameWidth,
+                    (target.top + target.bottom) / 2f / frameHeight, rotation);
+            MeteringPoint point = new SurfaceOrientedMeteringPointFactory(1f, 1f, binding.analysis)
+                    .createPoint(center[0], center[1]);
+            camera.getCameraControl().startFocusAndMetering(focusAction(point));
+        }
+    }
+
+    private static FocusMeteringAction focusAction(MeteringPoint point) {
+        return new FocusMeteringAction.Builder(point, FocusMeteringAction.FLAG_AF | FocusMeteringAction.FLAG_AE)
+                .setAutoCancelDuration(3, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * Starts recording analysis frames for offline replay in bench/, or
+     * returns null when {@code maxFrames} is not positive or the directory cannot be created.
+     */
+    private FrameRecorder openRecording(int maxFrames) {
+        if (maxFrames <= 0) return null;
+        File dir = new File(new File(cordova.getActivity().getCacheDir(), "slmqr-frames"),
+                String.valueOf(System.currentTimeMillis()));
+        try {
+            FrameRecorder recording = new FrameRecorder(dir, Math.min(maxFrames, MAX_RECORD_FRAMES));
+            Log.d(TAG, "openRecording() dir=" + dir);
+            return recording;
+        } catch (IOException e) {
+            Log.e(TAG, "openRecording error: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Writes the Y plane of one frame to the recording. Debug only: it does file I/O on the analysis thread. */
+    private void recordFrame(FrameRecorder recording, ImageProxy imageProxy) {
+        ImageProxy.PlaneProxy yPlane = imageProxy.getPlanes()[0];
+        ByteBuffer buffer = yPlane.getBuffer();
+        int rowStride = yPlane.getRowStride();
+        int height = imageProxy.getHeight();
+        byte[] plane = new byte[rowStride * height];
+        buffer.get(plane, 0, Math.min(buffer.remaining(), plane.length));
+        buffer.rewind();
+        try {
+            recording.append(plane, rowStride, imageProxy.getWidth(), height,
+                    imageProxy.getImageInfo().getRotationDegrees(), imageProxy.getImageInfo().getTimestamp());
+        } catch (IOException e) {
+            Log.e(TAG, "recordFrame error: " + e.getMessage());
+        }
+    }
+
+    /** Unbinds the one-shot scanner and removes its UI. Must run on the UI thread. */
+    private void teardownScanner(ProcessCameraProvider cameraProvider, FrameLayout container, ExecutorService analysisExecutor) {
+        cameraProvider.unbindAll();
+        if (container.getParent() != null) {
+            ((ViewGroup) container.getParent()).removeView(container);
+        }
+        if (scanContainer == container) {
+            scanContainer = null;
+        }
+        shutdownAnalysisExecutor(analysisExecutor);
+    }
+
     private View createOverlay(Activity activity, String template, String title) {
         FrameLayout overlay = new FrameLayout(activity);
         overlay.setLayoutParams(new FrameLayout.LayoutParams(
@@ -458,7 +960,7 @@ public class SLMQR extends CordovaPlugin {
         titleView.setLayoutParams(titleParams);
         overlay.addView(titleView);
 
-        // Custom overlay drawn via ScanOverlayView
+        // Custom overlay: static mask plus animated corners, in separate views
         ScanOverlayView scanOverlay = new ScanOverlayView(activity, template);
         scanOverlay.setLayoutParams(new FrameLayout.LayoutParams(
                 ViewGroup.LayoutParams.MATCH_PARENT,
@@ -466,6 +968,13 @@ public class SLMQR extends CordovaPlugin {
         ));
         overlay.addView(scanOverlay);
 
+        ScanCornersView scanCorners = new ScanCornersView(activity, template);
+        scanCorners.setLayoutParams(new FrameLayout.LayoutParams(
+                ViewGroup.LayoutParams.MATCH_PARENT,
+                ViewGroup.LayoutParams.MATCH_PARENT
+        ));
+        overlay.addView(scanCorners);
+
         return overlay;
     }
 
@@ -527,6 +1036,26 @@ public class SLMQR extends CordovaPlugin {
                 activity.getResources().getDisplayMetrics().widthPixels / density) * density);
         final int hPx = Math.round((float) options.optDouble("height", 300) * density);
         final boolean useFrontCamera = "front".equals(options.optString("camera", "back"));
+        final ExecutorService analysisExecutor = createAnalysisExecutor(options, "SLMQR-preview");
+        embeddedAnalysisExecutor = analysisExecutor;
+        final AnalysisScheduler scheduler = new AnalysisScheduler(
+                options.optDouble("maxAnalysisFps", 15),
+                options.optDouble("idleAnalysisFps", 3),
+                options.optInt("backoffAfterEmptyFrames", 30));
+        embeddedScheduler = scheduler;
+        final boolean vibrate = options.optBoolean("vibrate", true);
+        final boolean includeRawBytes = options.optBoolean("rawBytes", false);
+        final boolean binary = options.optBoolean("binary", false);
+        final int formats = parseFormats(options.optJSONArray("formats"), Barcode.FORMAT_QR_CODE | BARCODE_FORMATS);
+        final DecodeEngine engine = createDecodeEngine(options, formats, true, analysisExecutor);
+        final JSONObject detection = new JSONObject();
+        final DedupCache dedup = new DedupCache(options.optLong("dedupWindow", 2000), options.optInt("dedupCapacity", 32));
+        embeddedDedup = dedup;
+        final ScanMetrics metrics = previewMetrics != null ? previewMetrics : new ScanMetrics();
+        previewMetrics = metrics;
+        final ResolutionPolicy resolution = createResolutionPolicy(options, formats);
+        metrics.setResolution(resolution);
+        metrics.mark(ScanMetrics.PERMISSION_READY);
 
         Log.d(TAG, "  screen=" + screenW + "x" + screenH + " density=" + density);
         Log.d(TAG, "  computed px: x=" + xPx + " y=" + yPx + " w=" + wPx + " h=" + hPx);
@@ -612,10 +1141,11 @@ public class SLMQR extends CordovaPlugin {
                 embeddedContainer = container;
 
                 // Setup CameraX
-                ListenableFuture<ProcessCameraProvider> future = ProcessCameraProvider.getInstance(activity);
+                ListenableFuture<ProcessCameraProvider> future = getCameraProviderFuture(activity);
                 future.addListener(() -> {
                     try {
                         ProcessCameraProvider cameraProvider = future.get();
+                        metrics.mark(ScanMetrics.PROVIDER_READY);
                         embeddedCameraProvider = cameraProvider;
                         cameraProvider.unbindAll();
 
@@ -626,74 +1156,60 @@ public class SLMQR extends CordovaPlugin {
                                 ? CameraSelector.DEFAULT_FRONT_CAMERA
                                 : CameraSelector.DEFAULT_BACK_CAMERA;
 
-                        BarcodeScannerOptions scannerOpts = new BarcodeScannerOptions.Builder()
-                                .setBarcodeFormats(
-                                        Barcode.FORMAT_QR_CODE,
-                                        Barcode.FORMAT_EAN_8, Barcode.FORMAT_EAN_13,
-                                        Barcode.FORMAT_UPC_A, Barcode.FORMAT_UPC_E,
-                                        Barcode.FORMAT_CODE_39, Barcode.FORMAT_CODE_93,
-                                        Barcode.FORMAT_CODE_128, Barcode.FORMAT_PDF417,
-                                        Barcode.FORMAT_AZTEC, Barcode.FORMAT_ITF,
-                                        Barcode.FORMAT_DATA_MATRIX
-                                ).build();
-                        BarcodeScanner scanner = BarcodeScanning.getClient(scannerOpts);
-
-                        ImageAnalysis imageAnalysis = new ImageAnalysis.Builder()
-                                .setTargetResolution(new Size(1280, 720))
-                                .setBackpressureStrategy(ImageAnalysis.STRATEGY_KEEP_ONLY_LATEST)
-                                .build();
-
-                        imageAnalysis.setAnalyzer(ContextCompat.getMainExecutor(activity), imageProxy -> {
-                            @SuppressWarnings("UnsafeOptInUsageError")
-                            android.media.Image mediaImage = imageProxy.getImage();
-                            if (mediaImage == null) { imageProxy.close(); return; }
-
-                            InputImage image = InputImage.fromMediaImage(mediaImage,
-                                    imageProxy.getImageInfo().getRotationDegrees());
-
-                            scanner.process(image)
-                                    .addOnSuccessListener(barcodes -> {
-                                        if (!barcodes.isEmpty() && detectedCallback != null) {
-                                            Barcode barcode = barcodes.get(0);
-                                            String value = barcode.getRawValue();
-                                            long now = System.currentTimeMillis();
-
-                                            if (value != null && (!value.equals(lastDetectedValue) || (now - lastDetectedTime) > 2000)) {
-                                                lastDetectedValue = value;
-                                                lastDetectedTime = now;
-
-                                                Vibrator v = (Vibrator) activity.getSystemService(Activity.VIBRATOR_SERVICE);
-                                                if (v != null) {
-                                                    if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
-                                                        v.vibrate(VibrationEffect.createOneShot(100, VibrationEffect.DEFAULT_AMPLITUDE));
-                                                    } else {
-                                                        v.vibrate(100);
-                                                    }
-                                                }
-
-                                                JSONObject result = new JSONObject();
-                                                try {
-                                                    result.put("text", value);
-                                                    result.put("format", formatToString(barcode.getFormat()));
-                                                    if (barcode.getRawBytes() != null) {
-                                                        result.put("rawBytes", Base64.encodeToString(barcode.getRawBytes(), Base64.NO_WRAP));
-                                                    }
-                                                } catch (JSONException e) {
-                                                    Log.e(TAG, "JSON error: " + e.getMessage());
+                        final AnalysisBinding binding = new AnalysisBinding(cameraProvider, (LifecycleOwner) activity,
+                                selector, analysisExecutor, resolution);
+                        binding.analyzer = imageProxy -> {
+                            metrics.onFrame(imageProxy.getImageInfo().getTimestamp());
+                            resolution.observe(imageProxy.getWidth(), imageProxy.getHeight());
+                            if (!scheduler.shouldAnalyze(SystemClock.elapsedRealtime())) {
+                                imageProxy.close();
+                                return;
+                            }
+                            final long frameStart = System.nanoTime();
+
+                            metrics.mark(ScanMetrics.FIRST_DECODE_ATTEMPT);
+                            engine.decode(imageProxy, null, new DecodeEngine.Callback() {
+                                @Override
+                                public void onDecoded(List<DecodedCode> codes, List<DecodedCode> unreadable) {
+                                    metrics.onAnalysis(System.nanoTime() - frameStart, true, !codes.isEmpty());
+                                    scheduler.onResult(!codes.isEmpty() || !unreadable.isEmpty());
+                                    if (resolution.onResult(codes.size(), unreadable.size())) {
+                                        activity.runOnUiThread(() -> {
+                                            if (embeddedBinding == binding && !embeddedPaused) binding.rebind();
+                                        });
+                                    }
+                                    if (!codes.isEmpty() && detectedCallback != null) {
+                                        long now = SystemClock.elapsedRealtime();
+                                        boolean reported = false;
+                                        for (DecodedCode code : codes) {
+                                            if (dedup.shouldReport(code.key(), now)) {
+                                                if (!reported) {
+                                                    metrics.mark(ScanMetrics.DETECTION);
+                                                    if (vibrate) vibrateOnce();
+                                                    reported = true;
                                                 }
-
-                                                PluginResult pluginResult = new PluginResult(PluginResult.Status.OK, result);
-                                                pluginResult.setKeepCallback(true);
-                                                detectedCallback.sendPluginResult(pluginResult);
+                                                sendPreviewDetection(code, detection, metrics, includeRawBytes, binary);
                                             }
                                         }
-                                        imageProxy.close();
-                                    })
-                                    .addOnFailureListener(e -> imageProxy.close());
-                        });
+                                    }
+                                    imageProxy.close();
+                                }
+
+                                @Override
+                                public void onFailure(Exception e) {
+                                    metrics.onAnalysis(System.nanoTime() - frameStart, false, false);
+                                    scheduler.onResult(false);
+                                    imageProxy.close();
+                                }
+                            });
+                        };
+                        ImageAnalysis imageAnalysis = binding.create();
+                        embeddedBinding = binding;
+                        embeddedPaused = false;
 
                         Camera camera = cameraProvider.bindToLifecycle(
                                 (LifecycleOwner) activity, selector, preview, imageAnalysis);
+                        metrics.mark(ScanMetrics.CAMERA_BOUND);
                         Log.d(TAG, "  [CameraX] BOUND! camera=" + camera);
                         try { diag.put("cameraBound", true); } catch (JSONException ignore) {}
 
@@ -724,6 +1240,7 @@ public class SLMQR extends CordovaPlugin {
 
                     } catch (Exception e) {
                         Log.e(TAG, "  [CameraX] EXCEPTION: " + e.getMessage(), e);
+                        shutdownAnalysisExecutor(analysisExecutor);
                         try { diag.put("cameraError", e.getMessage()); } catch (JSONException ignore) {}
                         callbackContext.error("Error iniciando camara: " + e.getMessage());
                     }
@@ -736,12 +1253,42 @@ public class SLMQR extends CordovaPlugin {
         });
     }
 
+    private void getScanMetrics(CallbackContext callbackContext) {
+        try {
+            JSONObject result = new JSONObject();
+            ScanMetrics scan = scanMetrics;
+            if (scan != null) {
+                result.put("scan", scan.toJson());
+            }
+            ScanMetrics preview = previewMetrics;
+            if (preview != null) {
+                JSONObject previewJson = preview.toJson();
+                AnalysisScheduler scheduler = embeddedScheduler;
+                if (scheduler != null) {
+                    previewJson.put("analysis", scheduler.stats());
+                }
+                result.put("preview", previewJson);
+            }
+            callbackContext.success(result);
+        } catch (JSONException e) {
+            callbackContext.error(e.getMessage());
+        }
+    }
+
     private void closeQRPreview(CallbackContext callbackContext) {
         cordova.getActivity().runOnUiThread(() -> {
+            AnalysisScheduler scheduler = embeddedScheduler;
+            AnalysisBinding binding = embeddedBinding;
             closeEmbeddedPreview();
             try {
                 JSONObject result = new JSONObject();
                 result.put("closed", true);
+                if (scheduler != null) {
+                    result.put("analysis", scheduler.stats());
+                }
+                if (binding != null) {
+                    result.put("analysisResolution", binding.policy.toJson());
+                }
                 callbackContext.success(result);
             } catch (JSONException e) {
                 callbackContext.error(e.getMessage());
@@ -749,6 +1296,77 @@ public class SLMQR extends CordovaPlugin {
         });
     }
 
+    /**
+     * Stops frame analysis but keeps the camera bound and the preview surface alive, so
+     * resumeQRPreview shows a live frame immediately instead of restarting the camera.
+     * The preview is hidden unless {@code hide} is false.
+     */
+    private void pauseQRPreview(final JSONObject options, final CallbackContext callbackContext) {
+        cordova.getActivity().runOnUiThread(() -> {
+            if (embeddedContainer == null || embeddedBinding == null) {
+                callbackContext.error("No hay preview abierto");
+                return;
+            }
+            if (!embeddedPaused) {
+                embeddedBinding.analysis.clearAnalyzer();
+                embeddedPaused = true;
+            }
+            // INVISIBLE rather than GONE: the TextureView keeps its surface and stays laid out
+            if (options.optBoolean("hide", true)) {
+                embeddedContainer.setVisibility(View.INVISIBLE);
+            }
+            sendPreviewState(callbackContext);
+        });
+    }
+
+    private void resumeQRPreview(final CallbackContext callbackContext) {
+        cordova.getActivity().runOnUiThread(() -> {
+            if (embeddedContainer == null || embeddedBinding == null) {
+                callbackContext.error("No hay preview abierto");
+                return;
+            }
+            embeddedContainer.setVisibility(View.VISIBLE);
+            if (embeddedPaused) {
+                if (previewMetrics != null) previewMetrics.resetFrameClock();
+                embeddedBinding.analysis.setAnalyzer(embeddedBinding.executor, embeddedBinding.analyzer);
+                embeddedPaused = false;
+            }
+            sendPreviewState(callbackContext);
+        });
+    }
+
+    /** Moves or resizes the open preview in place; only its layout params change, the camera is untouched. */
+    private void updateQRPreview(final JSONObject bounds, final CallbackContext callbackContext) {
+        final Activity activity = cordova.getActivity();
+        activity.runOnUiThread(() -> {
+            FrameLayout container = embeddedContainer;
+            if (container == null || !(container.getLayoutParams() instanceof FrameLayout.LayoutParams)) {
+                callbackContext.error("No hay preview abierto");
+                return;
+            }
+            float density = activity.getResources().getDisplayMetrics().density;
+            FrameLayout.LayoutParams lp = (FrameLayout.LayoutParams) container.getLayoutParams();
+            if (bounds.has("x")) lp.leftMargin = Math.round((float) bounds.optDouble("x", 0) * density);
+            if (bounds.has("y")) lp.topMargin = Math.round((float) bounds.optDouble("y", 0) * density);
+            if (bounds.has("width")) lp.width = Math.round((float) bounds.optDouble("width", 0) * density);
+            if (bounds.has("height")) lp.height = Math.round((float) bounds.optDouble("height", 0) * density);
+            container.setLayoutParams(lp);
+            Log.d(TAG, "updateQRPreview() x=" + lp.leftMargin + " y=" + lp.topMargin + " w=" + lp.width + " h=" + lp.height);
+            sendPreviewState(callbackContext);
+        });
+    }
+
+    private void sendPreviewState(CallbackContext callbackContext) {
+        try {
+            JSONObject result = new JSONObject();
+            result.put("paused", embeddedPaused);
+            result.put("visible", embeddedContainer.getVisibility() == View.VISIBLE);
+            callbackContext.success(result);
+        } catch (JSONException e) {
+            callbackContext.error(e.getMessage());
+        }
+    }
+
     private void closeEmbeddedPreview() {
         Log.d(TAG, "closeEmbeddedPreview()");
         if (embeddedCameraProvider != null) {
@@ -762,8 +1380,350 @@ public class SLMQR extends CordovaPlugin {
             }
             embeddedContainer = null;
         }
-        lastDetectedValue = null;
-        lastDetectedTime = 0;
+        shutdownAnalysisExecutor(embeddedAnalysisExecutor);
+        embeddedAnalysisExecutor = null;
+        embeddedScheduler = null;
+        embeddedBinding = null;
+        embeddedPaused = false;
+        if (embeddedDedup != null) {
+            embeddedDedup.clear();
+            embeddedDedup = null;
+        }
+    }
+
+    /**
+     * Sends one preview detection to the onQRDetected callback. PluginResult serializes the
+     * JSON immediately, so one result object per session is reused for every detection.
+     * In binary mode the raw bytes travel as a second, binary part instead of Base64.
+     * The session timeline rides along, so the detection carries its own time to first read;
+     * the latency percentiles stay in getScanMetrics.
+     */
+    private void sendPreviewDetection(DecodedCode code, JSONObject detection, ScanMetrics metrics,
+                                      boolean includeRawBytes, boolean binary) {
+        CallbackContext callback = detectedCallback;
+        if (callback == null) return;
+
+        PluginResult pluginResult;
+        synchronized (detection) {
+            try {
+                ScanResults.fillDetection(detection, code, metrics, includeRawBytes && !binary);
+            } catch (JSONException e) {
+                Log.e(TAG, "JSON error: " + e.getMessage());
+            }
+            pluginResult = resultWithBytes(detection, includeRawBytes && binary ? code.rawBytes : null);
+        }
+        pluginResult.setKeepCallback(true);
+        callback.sendPluginResult(pluginResult);
+    }
+
+    /**
+     * Result for an opt-in binary response: a multipart message with the JSON metadata first
+     * and the bytes second, which the WebView receives as an ArrayBuffer with no Base64 step
+     * on either side. Without bytes it is a plain JSON result.
+     */
+    static PluginResult resultWithBytes(JSONObject meta, byte[] bytes) {
+        if (bytes == null) {
+            return new PluginResult(PluginResult.Status.OK, meta);
+        }
+        List<PluginResult> parts = new ArrayList<>(2);
+        parts.add(new PluginResult(PluginResult.Status.OK, meta));
+        parts.add(new PluginResult(PluginResult.Status.OK, bytes));
+        return new PluginResult(PluginResult.Status.OK, parts);
+    }
+
+    // ============================================
+    // Shared camera resources
+    // ============================================
+
+    /** The CameraX provider future is resolved once and reused by every scan and preview. */
+    private synchronized ListenableFuture<ProcessCameraProvider> getCameraProviderFuture(Activity activity) {
+        if (cameraProviderFuture == null || cameraProviderFuture.isCancelled()) {
+            cameraProviderFuture = ProcessCameraProvider.getInstance(activity);
+        }
+        return cameraProviderFuture;
+    }
+
+    /**
+     * Returns the pooled ML Kit client for a format bitmask, creating it on first use.
+     * With {@code allPotential} the client also returns codes it located but could not read
+     * (null raw value), which the live analyzers use for resolution escalation and auto-zoom;
+     * still-image decoding asks for a client without them.
+     */
+    private synchronized BarcodeScanner getBarcodeScanner(int formats, boolean allPotential) {
+        String key = formats + (allPotential ? ":potential" : "");
+        BarcodeScanner scanner = scannerPool.get(key);
+        if (scanner == null) {
+            BarcodeScannerOptions.Builder builder = new BarcodeScannerOptions.Builder()
+                    .setBarcodeFormats(formats);
+            if (allPotential) {
+                builder.enableAllPotentialBarcodes();
+            }
+            scanner = BarcodeScanning.getClient(builder.build());
+            scannerPool.put(key, scanner);
+            Log.d(TAG, "getBarcodeScanner() created client for " + key + " pool=" + scannerPool.size());
+        }
+        return scanner;
+    }
+
+    /**
+     * Decode engine for one analysis session, chosen with the "engine" option: "mlkit"
+     * (default), "zxing", or "auto" (ML Kit, switching to ZXing if ML Kit keeps failing).
+     */
+    private DecodeEngine createDecodeEngine(JSONObject options, int formats, boolean multiple, ExecutorService analysisExecutor) {
+        String name = options.optString("engine", "mlkit");
+        Log.d(TAG, "createDecodeEngine() engine=" + name);
+        switch (name) {
+            case "zxing":
+                return new ZXingDecodeEngine(zxingFormats(formats), multiple);
+            case "auto":
+                return new MlKitDecodeEngine(getBarcodeScanner(formats, true), analysisExecutor,
+                        new ZXingDecodeEngine(zxingFormats(formats), multiple));
+            default:
+                return new MlKitDecodeEngine(getBarcodeScanner(formats, true), analysisExecutor, null);
+        }
+    }
+
+    private synchronized void releaseBarcodeScanners() {
+        for (BarcodeScanner scanner : scannerPool.values()) {
+            scanner.close();
+        }
+        Log.d(TAG, "releaseBarcodeScanners() closed " + scannerPool.size());
+        scannerPool.clear();
+    }
+
+    /** Unbinds the camera, removes any scanner UI and closes pooled detectors. Must run on the UI thread. */
+    private void releaseCameraResources() {
+        closeEmbeddedPreview();
+        shutdownAnalysisExecutor(scanAnalysisExecutor);
+        scanAnalysisExecutor = null;
+        if (scanContainer != null) {
+            if (scanContainer.getParent() != null) {
+                ((ViewGroup) scanContainer.getParent()).removeView(scanContainer);
+            }
+            scanContainer = null;
+        }
+        ListenableFuture<ProcessCameraProvider> future;
+        synchronized (this) {
+            future = cameraProviderFuture;
+            cameraProviderFuture = null;
+            preparedScannerViews = null;
+        }
+        if (future != null && future.isDone()) {
+            try {
+                future.get().unbindAll();
+            } catch (Exception e) {
+                Log.w(TAG, "releaseCameraResources() unbind failed: " + e.getMessage());
+            }
+        }
+        releaseBarcodeScanners();
+    }
+
+    @Override
+    public void onReset() {
+        Log.d(TAG, "onReset()");
+        cordova.getActivity().runOnUiThread(this::releaseCameraResources);
+        scanCallback = null;
+        detectedCallback = null;
+        super.onReset();
+    }
+
+    // ============================================
+    // Analysis executor
+    // ============================================
+
+    /**
+     * Creates the executor that receives CameraX frames and ML Kit callbacks.
+     * A single background thread by default; {@code analyzerThreads} (max 4) enables a small pool.
+     * Tasks submitted after shutdown are discarded, since CameraX and ML Kit may still post late frames.
+     */
+    private ExecutorService createAnalysisExecutor(JSONObject options, String name) {
+        int threads = options != null ? options.optInt("analyzerThreads", 1) : 1;
+        threads = Math.max(1, Math.min(threads, MAX_ANALYZER_THREADS));
+        Log.d(TAG, "createAnalysisExecutor() name=" + name + " threads=" + threads);
+
+        final AtomicInteger count = new AtomicInteger(0);
+        ThreadFactory factory = runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + count.incrementAndGet());
+            thread.setPriority(Thread.NORM_PRIORITY - 1);
+            return thread;
+        };
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), factory, new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    /** Resolution policy from the "analysisResolution" and "escalateAfter" options. */
+    private static ResolutionPolicy createResolutionPolicy(JSONObject options, int formats) {
+        return ResolutionPolicy.forMode(options.optString("analysisResolution", "auto"),
+                (formats & DENSE_FORMATS) != 0, options.optInt("escalateAfter", 8));
+    }
+
+    private void shutdownAnalysisExecutor(ExecutorService executor) {
+        if (executor != null && !executor.isShutdown()) {
+            Log.d(TAG, "shutdownAnalysisExecutor()");
+            executor.shutdown();
+        }
+    }
+
+    @Override
+    public void onDestroy() {
+        Log.d(TAG, "onDestroy()");
+        releaseCameraResources();
+        synchronized (this) {
+            if (generateExecutor != null) {
+                generateExecutor.shutdownNow();
+                generateExecutor = null;
+            }
+            if (decodeExecutor != null) {
+                decodeExecutor.shutdownNow();
+                decodeExecutor = null;
+            }
+        }
+        super.onDestroy();
+    }
+
+    // ============================================
+    // Decode still images
+    // ============================================
+
+    /**
+     * Decodes codes from images without the camera. {@code input} is one source
+     * ({@code {base64}} or {@code {fileUri}}) or an array of them; a single source answers
+     * with one result, an array is decoded on the bounded decode pool and answered in
+     * chunks through a keep-alive callback, like generateQRBatch.
+     */
+    private void decodeImage(final Object input, final JSONObject options, final CallbackContext callbackContext) {
+        cordova.getThreadPool().execute(() -> {
+            try {
+                BarcodeScanner scanner = getBarcodeScanner(
+                        parseFormats(options.optJSONArray("formats"), Barcode.FORMAT_QR_CODE | BARCODE_FORMATS), false);
+                final StillImageDecoder decoder = new StillImageDecoder(scanner,
+                        options.optInt("maxDimension", DEFAULT_DECODE_MAX_DIMENSION),
+                        options.optInt("tiles", 1),
+                        options.optBoolean("tryRotations", true),
+                        options.optBoolean("rawBytes", false));
+
+                if (!(input instanceof JSONArray)) {
+                    JSONObject result = decoder.decode(readImageBytes(input instanceof JSONObject ? (JSONObject) input : new JSONObject()));
+                    callbackContext.success(result);
+                    return;
+                }
+
+                final JSONArray sources = (JSONArray) input;
+                int total = sources.length();
+                int chunkSize = batchChunkSize(options);
+                Log.d(TAG, "decodeImage() total=" + total + " chunkSize=" + chunkSize);
+
+                runChunked(total, chunkSize, getDecodeExecutor(), index -> {
+                    final JSONObject source = sources.optJSONObject(index);
+                    return () -> decodeBatchItem(decoder, index, source);
+                }, callbackContext);
+
+            } catch (Exception e) {
+                Log.e(TAG, "decodeImage error: " + e.getMessage());
+                callbackContext.error("Error decodificando imagen: " + e.getMessage());
+            }
+        });
+    }
+
+    /** Decodes one batch source; failures are reported per item instead of aborting the batch. */
+    private JSONObject decodeBatchItem(StillImageDecoder decoder, int index, JSONObject source) throws JSONException {
+        JSONObject result;
+        try {
+            result = decoder.decode(readImageBytes(source != null ? source : new JSONObject()));
+        } catch (Exception e) {
+            Log.e(TAG, "decodeImage item " + index + " error: " + e.getMessage());
+            result = new JSONObject();
+            result.put("error", "Error decodificando imagen: " + e.getMessage());
+        }
+        result.put("index", index);
+        if (source != null && source.has("id")) result.put("id", source.opt("id"));
+        return result;
+    }
+
+    /** Reads the encoded image of a source: a Base64 string (data URL prefix allowed) or a file/content URI. */
+    private byte[] readImageBytes(JSONObject source) throws IOException {
+        String base64 = source.optString("base64", "");
+        if (!base64.isEmpty()) {
+            int comma = base64.startsWith("data:") ? base64.indexOf(',') : -1;
+            return Base64.decode(comma >= 0 ? base64.substring(comma + 1) : base64, Base64.DEFAULT);
+        }
+
+        String fileUri = source.optString("fileUri", "");
+        if (fileUri.isEmpty()) {
+            throw new IOException("se requiere base64 o fileUri");
+        }
+        Uri uri = fileUri.contains("://") ? Uri.parse(fileUri) : Uri.fromFile(new File(fileUri));
+        try (InputStream in = cordova.getActivity().getContentResolver().openInputStream(uri)) {
+            if (in == null) {
+                throw new IOException("no se pudo abrir " + fileUri);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+            byte[] buffer = new byte[16 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Each decode holds a full-size bitmap, so the pool is kept small to bound peak memory
+     * rather than sized to the CPU count like the generation pool.
+     */
+    private synchronized ExecutorService getDecodeExecutor() {
+        if (decodeExecutor == null) {
+            int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_DECODE_THREADS));
+            final AtomicInteger count = new AtomicInteger(0);
+            decodeExecutor = Executors.newFixedThreadPool(threads,
+                    runnable -> new Thread(runnable, "SLMQR-decode-" + count.incrementAndGet()));
+            Log.d(TAG, "getDecodeExecutor() threads=" + threads);
+        }
+        return decodeExecutor;
+    }
+
+    /** Builds the work for one item of a batch sent with {@link #runChunked}. */
+    private interface BatchTask {
+        Callable<JSONObject> item(int index);
+    }
+
+    /** The "chunkSize" option of a batch call, clamped to 1..MAX_BATCH_CHUNK_SIZE. */
+    private static int batchChunkSize(JSONObject options) {
+        return Math.max(1, Math.min(options.optInt("chunkSize", DEFAULT_BATCH_CHUNK_SIZE), MAX_BATCH_CHUNK_SIZE));
+    }
+
+    /**
+     * Runs the task of each of the {@code total} items on {@code pool}, {@code chunkSize} at
+     * a time, and sends each chunk's results in order as {@code { results, completed, total,
+     * done }} through a keep-alive callback. Only one chunk is in flight, which bounds the
+     * memory held by pending results; an empty batch answers with one empty, done chunk.
+     */
+    private static void runChunked(int total, int chunkSize, ExecutorService pool,
+                                   BatchTask task, CallbackContext callbackContext) throws Exception {
+        int start = 0;
+        do {
+            int end = Math.min(start + chunkSize, total);
+            List<Future<JSONObject>> futures = new ArrayList<>(end - start);
+            for (int i = start; i < end; i++) {
+                futures.add(pool.submit(task.item(i)));
+            }
+
+            JSONArray results = new JSONArray();
+            for (Future<JSONObject> future : futures) {
+                results.put(future.get());
+            }
+
+            JSONObject chunk = new JSONObject();
+            chunk.put("results", results);
+            chunk.put("completed", end);
+            chunk.put("total", total);
+            chunk.put("done", end >= total);
+
+            PluginResult pluginResult = new PluginResult(PluginResult.Status.OK, chunk);
+            pluginResult.setKeepCallback(end < total);
+            callbackContext.sendPluginResult(pluginResult);
+            start = end;
+        } while (start < total);
     }
 
     // ============================================
@@ -773,82 +1733,388 @@ public class SLMQR extends CordovaPlugin {
     private void generateQR(final String data, final JSONObject options, final CallbackContext callbackContext) {
         cordova.getThreadPool().execute(() -> {
             try {
-                int size = options.optInt("size", 300);
-                String colorHex = options.optString("color", "#000000");
-                String bgColorHex = options.optString("backgroundColor", "#FFFFFF");
-                String logoBase64 = options.optString("logo", null);
-                String errorCorrectionStr = options.optString("errorCorrection", "M");
-
-                ErrorCorrectionLevel ecLevel;
-                switch (errorCorrectionStr) {
-                    case "L": ecLevel = ErrorCorrectionLevel.L; break;
-                    case "Q": ecLevel = ErrorCorrectionLevel.Q; break;
-                    case "H": ecLevel = ErrorCorrectionLevel.H; break;
-                    default: ecLevel = ErrorCorrectionLevel.M; break;
+                QRStyle style = QRStyle.fromOptions(options, getLogoCache());
+                String output = options.optString("output", "base64");
+                boolean useCache = options.optBoolean("cache", true);
+                boolean useDiskCache = options.optBoolean("diskCache", false);
+                JSONObject result = new JSONObject();
+                if (options.optBoolean("binary", false) && "base64".equals(output)) {
+                    byte[] png = renderPng(data, style, useCache, useDiskCache, result);
+                    callbackContext.sendPluginResult(resultWithBytes(result, png));
+                } else {
+                    renderOutput(data, style, output, useCache, useDiskCache, result);
+                    callbackContext.success(result);
                 }
 
-                Map<EncodeHintType, Object> hints = new HashMap<>();
-                hints.put(EncodeHintType.ERROR_CORRECTION, ecLevel);
-                hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
-                hints.put(EncodeHintType.MARGIN, 1);
+            } catch (Exception e) {
+                Log.e(TAG, "generateQR error: " + e.getMessage());
+                callbackContext.error("Error generando QR: " + e.getMessage());
+            }
+        });
+    }
 
-                BitMatrix bitMatrix = new MultiFormatWriter().encode(data, BarcodeFormat.QR_CODE, size, size, hints);
+    /**
+     * Generates many codes with one shared style. Items are rendered in parallel on the
+     * generation pool and sent back in chunks through a keep-alive callback, so only one
+     * chunk of encoded images is held at a time and JS can report progress.
+     */
+    private void generateQRBatch(final JSONArray items, final JSONObject sharedOptions, final CallbackContext callbackContext) {
+        cordova.getThreadPool().execute(() -> {
+            try {
+                final QRStyle batchStyle = QRStyle.fromOptions(sharedOptions, getLogoCache());
+                final boolean useCache = sharedOptions.optBoolean("cache", false);
+                final String output = sharedOptions.optString("output", "base64");
+                int total = items.length();
+                int chunkSize = batchChunkSize(sharedOptions);
+                Log.d(TAG, "generateQRBatch() total=" + total + " chunkSize=" + chunkSize);
+
+                runChunked(total, chunkSize, getGenerateExecutor(), index -> {
+                    final Object item = items.opt(index);
+                    return () -> renderBatchItem(index, item, batchStyle, output, useCache);
+                }, callbackContext);
 
-                int fgColor = Color.parseColor(colorHex);
-                int bgColor = Color.parseColor(bgColorHex);
+            } catch (Exception e) {
+                Log.e(TAG, "generateQRBatch error: " + e.getMessage());
+                callbackContext.error("Error generando QR: " + e.getMessage());
+            }
+        });
+    }
 
-                Bitmap bitmap = Bitmap.createBitmap(size, size, Bitmap.Config.ARGB_8888);
-                for (int x = 0; x < size; x++) {
-                    for (int y = 0; y < size; y++) {
-                        bitmap.setPixel(x, y, bitMatrix.get(x, y) ? fgColor : bgColor);
-                    }
-                }
+    /** Renders one batch item; failures are reported per item instead of aborting the batch. */
+    private JSONObject renderBatchItem(int index, Object item, QRStyle style, String output, boolean useCache) throws JSONException {
+        JSONObject result = new JSONObject();
+        result.put("index", index);
+        String data;
+        if (item instanceof JSONObject) {
+            JSONObject obj = (JSONObject) item;
+            data = obj.optString("data", "");
+            if (obj.has("id")) result.put("id", obj.opt("id"));
+        } else {
+            data = item != null ? item.toString() : "";
+        }
+
+        try {
+            renderOutput(data, style, output, useCache, false, result);
+        } catch (Exception e) {
+            Log.e(TAG, "generateQRBatch item " + index + " error: " + e.getMessage());
+            result.put("error", "Error generando QR: " + e.getMessage());
+        }
+        return result;
+    }
 
-                // Add logo if provided
-                if (logoBase64 != null && !logoBase64.isEmpty()) {
-                    byte[] logoBytes = Base64.decode(logoBase64, Base64.DEFAULT);
-                    Bitmap logoBitmap = android.graphics.BitmapFactory.decodeByteArray(logoBytes, 0, logoBytes.length);
-                    if (logoBitmap != null) {
-                        Canvas canvas = new Canvas(bitmap);
-                        int logoSize = size / 4;
-                        int logoX = (size - logoSize) / 2;
-                        int logoY = (size - logoSize) / 2;
-
-                        // White background for logo
-                        Paint bgPaint = new Paint();
-                        bgPaint.setColor(Color.WHITE);
-                        int padding = 4;
-                        canvas.drawRect(logoX - padding, logoY - padding, logoX + logoSize + padding, logoY + logoSize + padding, bgPaint);
-
-                        Bitmap scaledLogo = Bitmap.createScaledBitmap(logoBitmap, logoSize, logoSize, true);
-                        canvas.drawBitmap(scaledLogo, logoX, logoY, null);
-                        scaledLogo.recycle();
-                        logoBitmap.recycle();
+    /**
+     * Renders {@code data} in the requested output mode and adds the fields to {@code result}:
+     * "base64" (PNG string, default), "file" (PNG streamed to the cache directory),
+     * "svg" (vector markup built from merged module runs) or "matrix" (raw module rows).
+     */
+    private void renderOutput(String data, QRStyle style, String output, boolean useCache, boolean useDiskCache,
+                              JSONObject result) throws WriterException, IOException, JSONException {
+        switch (output) {
+            case "file": {
+                QRImageCache cache = getQRCache();
+                File file = cache.outputFile(style.cacheKey(data));
+                boolean cached = useCache && file.isFile();
+                if (cached) {
+                    // Keeps recently served files out of the oldest-first trim
+                    file.setLastModified(System.currentTimeMillis());
+                } else {
+                    Bitmap bitmap = renderQR(data, style);
+                    File tmp = cache.outputTempFile();
+                    try (OutputStream out = new BufferedOutputStream(new FileOutputStream(tmp))) {
+                        bitmap.compress(Bitmap.CompressFormat.PNG, 100, out);
+                    } catch (IOException e) {
+                        tmp.delete();
+                        throw e;
+                    } finally {
+                        bitmap.recycle();
                     }
+                    cache.publishOutput(tmp, file);
+                }
+                result.put("fileUri", Uri.fromFile(file).toString());
+                result.put("path", file.getAbsolutePath());
+                result.put("format", "png");
+                result.put("cached", cached);
+                break;
+            }
+            case "svg": {
+                BitMatrix modules = QREncoder.encodeModules(data, style.hints);
+                result.put("svg", QRRasterizer.toSvg(modules, style.size, style.fgColor, style.bgColor, style.logoBase64()));
+                result.put("format", "svg");
+                break;
+            }
+            case "matrix": {
+                BitMatrix modules = QREncoder.encodeModules(data, style.hints);
+                result.put("size", modules.getWidth());
+                result.put("rows", new JSONArray(Arrays.asList(QRRasterizer.toBitRows(modules))));
+                result.put("format", "matrix");
+                break;
+            }
+            default: {
+                String cacheKey = useCache ? style.cacheKey(data) : null;
+                String base64Image = useCache ? getQRCache().get(cacheKey, useDiskCache) : null;
+                boolean cached = base64Image != null;
+                if (!cached) {
+                    Bitmap bitmap = renderQR(data, style);
+                    byte[] png = compressPng(bitmap);
+                    bitmap.recycle();
+                    base64Image = Base64.encodeToString(png, Base64.NO_WRAP);
+                    if (useCache) getQRCache().put(cacheKey, png, base64Image, useDiskCache);
                 }
-
-                ByteArrayOutputStream baos = new ByteArrayOutputStream();
-                bitmap.compress(Bitmap.CompressFormat.PNG, 100, baos);
-                String base64Image = Base64.encodeToString(baos.toByteArray(), Base64.NO_WRAP);
-                bitmap.recycle();
-
-                JSONObject result = new JSONObject();
                 result.put("base64Image", base64Image);
                 result.put("format", "png");
-                callbackContext.success(result);
+                result.put("cached", cached);
+                break;
+            }
+        }
+    }
+
+    /**
+     * Binary counterpart of the "base64" output: returns the PNG bytes and adds format and
+     * cached to {@code result}. The memory tier stores Base64, so a hit is decoded once here
+     * and a miss is only encoded when it has to be cached.
+     */
+    private byte[] renderPng(String data, QRStyle style, boolean useCache, boolean useDiskCache,
+                             JSONObject result) throws WriterException, IOException, JSONException {
+        String cacheKey = useCache ? style.cacheKey(data) : null;
+        String base64Image = useCache ? getQRCache().get(cacheKey, useDiskCache) : null;
+        boolean cached = base64Image != null;
+        byte[] png;
+        if (cached) {
+            png = Base64.decode(base64Image, Base64.NO_WRAP);
+        } else {
+            Bitmap bitmap = renderQR(data, style);
+            png = compressPng(bitmap);
+            bitmap.recycle();
+            if (useCache) getQRCache().put(cacheKey, png, Base64.encodeToString(png, Base64.NO_WRAP), useDiskCache);
+        }
+        result.put("format", "png");
+        result.put("cached", cached);
+        return png;
+    }
+
+    private Bitmap renderQR(String data, QRStyle style) throws WriterException {
+        BitMatrix bitMatrix = QREncoder.encode(data, style.size, style.hints);
+
+        int width = bitMatrix.getWidth();
+        int height = bitMatrix.getHeight();
+        int[] pixels = QRRasterizer.rasterize(bitMatrix, style.fgColor, style.bgColor);
+
+        // Add logo if provided, on a white background 4 px wider on each side
+        Bitmap logo = style.logo();
+        if (logo != null) {
+            int logoSize = logo.getWidth();
+            int[] logoPixels = new int[logoSize * logoSize];
+            logo.getPixels(logoPixels, 0, logoSize, 0, 0, logoSize, logoSize);
+            int logoX = (style.size - logoSize) / 2;
+            int logoY = (style.size - logoSize) / 2;
+            QRRasterizer.drawLogo(pixels, width, height, logoPixels, logoSize, logoX, logoY, 4);
+        }
+
+        Bitmap bitmap = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+        bitmap.setPixels(pixels, 0, width, 0, 0, width, height);
+        return bitmap;
+    }
+
+    private byte[] compressPng(Bitmap bitmap) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        bitmap.compress(Bitmap.CompressFormat.PNG, 100, baos);
+        return baos.toByteArray();
+    }
+
+    private synchronized QRImageCache getQRCache() {
+        if (qrCache == null) {
+            int memoryBytes = (int) Math.min(Runtime.getRuntime().maxMemory() / 32, QR_CACHE_MAX_MEMORY_BYTES);
+            qrCache = new QRImageCache(memoryBytes, cordova.getActivity().getCacheDir(), QR_CACHE_MAX_DISK_BYTES);
+            Log.d(TAG, "getQRCache() memoryBytes=" + memoryBytes);
+        }
+        return qrCache;
+    }
+
+    private synchronized LogoCache getLogoCache() {
+        if (logoCache == null) {
+            logoCache = new LogoCache(LOGO_CACHE_MAX_BYTES, MAX_REGISTERED_LOGOS);
+        }
+        return logoCache;
+    }
 
+    /** Stores a logo for later {@code logoId} options; it is decoded per target size on first use. A data URL prefix is allowed. */
+    private void registerLogo(final String id, final String base64, final CallbackContext callbackContext) {
+        if (id.isEmpty() || base64.isEmpty()) {
+            callbackContext.error("Error registrando logo: id y logo son requeridos");
+            return;
+        }
+        cordova.getThreadPool().execute(() -> {
+            try {
+                int comma = base64.indexOf(',');
+                callbackContext.success(getLogoCache().register(id, comma >= 0 ? base64.substring(comma + 1) : base64));
             } catch (Exception e) {
-                Log.e(TAG, "generateQR error: " + e.getMessage());
-                callbackContext.error("Error generando QR: " + e.getMessage());
+                Log.e(TAG, "registerLogo error: " + e.getMessage());
+                callbackContext.error("Error registrando logo: " + e.getMessage());
             }
         });
     }
 
+    private void getQRCacheStats(CallbackContext callbackContext) {
+        try {
+            JSONObject stats = getQRCache().stats();
+            stats.put("logos", getLogoCache().stats());
+            callbackContext.success(stats);
+        } catch (JSONException e) {
+            callbackContext.error(e.getMessage());
+        }
+    }
+
+    private void clearQRCache(CallbackContext callbackContext) {
+        cordova.getThreadPool().execute(() -> {
+            try {
+                QRImageCache cache = getQRCache();
+                JSONObject result = new JSONObject();
+                result.put("stats", cache.stats());
+                cache.clear();
+                getLogoCache().clear();
+                result.put("cleared", true);
+                callbackContext.success(result);
+            } catch (JSONException e) {
+                callbackContext.error(e.getMessage());
+            }
+        });
+    }
+
+    private synchronized ExecutorService getGenerateExecutor() {
+        if (generateExecutor == null) {
+            int threads = Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), MAX_GENERATE_THREADS));
+            final AtomicInteger count = new AtomicInteger(0);
+            generateExecutor = Executors.newFixedThreadPool(threads,
+                    runnable -> new Thread(runnable, "SLMQR-generate-" + count.incrementAndGet()));
+            Log.d(TAG, "getGenerateExecutor() threads=" + threads);
+        }
+        return generateExecutor;
+    }
+
+    /**
+     * Generation options parsed once per call: colors, error correction hints and the logo.
+     * The logo is decoded and scaled lazily, so cache hits never pay for it.
+     */
+    private static final class QRStyle {
+        final int size;
+        final int fgColor;
+        final int bgColor;
+        final String errorCorrection;
+        final Map<EncodeHintType, Object> hints;
+        private final LogoCache.Logo logo;
+        private final LogoCache logoCache;
+
+        private QRStyle(int size, int fgColor, int bgColor, String errorCorrection,
+                        Map<EncodeHintType, Object> hints, LogoCache.Logo logo, LogoCache logoCache) {
+            this.size = size;
+            this.fgColor = fgColor;
+            this.bgColor = bgColor;
+            this.errorCorrection = errorCorrection;
+            this.hints = hints;
+            this.logo = logo;
+            this.logoCache = logoCache;
+        }
+
+        /** Reads the style options; the logo is either inline Base64 ({@code logo}) or a registered id ({@code logoId}). */
+        static QRStyle fromOptions(JSONObject options, LogoCache logoCache) {
+            int size = options.optInt("size", 300);
+            String colorHex = options.optString("color", "#000000");
+            String bgColorHex = options.optString("backgroundColor", "#FFFFFF");
+            String logoBase64 = options.optString("logo", null);
+            String logoId = options.optString("logoId", null);
+            String errorCorrectionStr = options.optString("errorCorrection", "M");
+
+            LogoCache.Logo logo = null;
+            if (logoId != null && !logoId.isEmpty()) {
+                logo = logoCache.registered(logoId);
+                if (logo == null) {
+                    throw new IllegalArgumentException("logo no registrado: " + logoId);
+                }
+            } else if (logoBase64 != null && !logoBase64.isEmpty()) {
+                logo = new LogoCache.Logo(logoBase64, QRImageCache.sha256(logoBase64));
+            }
+
+            ErrorCorrectionLevel ecLevel = QREncoder.parseErrorCorrection(errorCorrectionStr);
+            return new QRStyle(size, Color.parseColor(colorHex), Color.parseColor(bgColorHex), ecLevel.name(), QREncoder.hints(ecLevel),
+                    logo, logoCache);
+        }
+
+        String logoBase64() {
+            return logo != null ? logo.base64 : null;
+        }
+
+        String cacheKey(String data) {
+            return QRImageCache.key(data, size, fgColor, bgColor, errorCorrection, logo != null ? logo.hash : null);
+        }
+
+        /** The logo at a quarter of the code size, shared through the logo cache; do not recycle it. */
+        Bitmap logo() {
+            return logo != null ? logoCache.get(logo, size / 4) : null;
+        }
+    }
+
     // ============================================
     // Helpers
     // ============================================
 
-    private String formatToString(int format) {
+    private static int scanFormats(String mode) {
+        switch (mode) {
+            case "barcode": return BARCODE_FORMATS;
+            case "multiple": return Barcode.FORMAT_QR_CODE | BARCODE_FORMATS;
+            default: return Barcode.FORMAT_QR_CODE;
+        }
+    }
+
+    /**
+     * Maps a JS {@code formats} array (names as returned by {@link #formatToString}) to an
+     * ML Kit bitmask. Unknown names are ignored; a missing or empty list yields {@code defaults}.
+     */
+    static int parseFormats(JSONArray names, int defaults) {
+        if (names == null) return defaults;
+        int formats = 0;
+        for (int i = 0; i < names.length(); i++) {
+            int format = stringToFormat(names.optString(i, ""));
+            if (format == Barcode.FORMAT_UNKNOWN) {
+                Log.w(TAG, "parseFormats() ignoring unknown format: " + names.optString(i));
+            } else {
+                formats |= format;
+            }
+        }
+        return formats != 0 ? formats : defaults;
+    }
+
+    private static String defaultScanTitle(String mode) {
+        switch (mode) {
+            case "barcode": return "Escanea el codigo de barras";
+            case "multiple": return "Escanea los codigos";
+            default: return "Escanea el codigo QR";
+        }
+    }
+
+    private void vibrateOnce() {
+        if (vibrator != null) {
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+                vibrator.vibrate(vibrationEffect);
+            } else {
+                vibrator.vibrate(100);
+            }
+        }
+    }
+
+    /** ZXing formats for an ML Kit format mask; the names reported to JS are the same in both libraries. */
+    static List<BarcodeFormat> zxingFormats(int mask) {
+        List<BarcodeFormat> formats = new ArrayList<>();
+        for (int bit = 1; bit != 0 && bit <= mask; bit <<= 1) {
+            if ((mask & bit) == 0) continue;
+            String name = formatToString(bit);
+            if (!"UNKNOWN".equals(name)) {
+                formats.add(BarcodeFormat.valueOf(name));
+            }
+        }
+        return formats;
+    }
+
+    static String formatToString(int format) {
         switch (format) {
             case Barcode.FORMAT_QR_CODE: return "QR_CODE";
             case Barcode.FORMAT_EAN_8: return "EAN_8";
@@ -866,17 +2132,42 @@ public class SLMQR extends CordovaPlugin {
         }
     }
 
+    static int stringToFormat(String name) {
+        switch (name.toUpperCase(Locale.US)) {
+            case "QR_CODE": return Barcode.FORMAT_QR_CODE;
+            case "EAN_8": return Barcode.FORMAT_EAN_8;
+            case "EAN_13": return Barcode.FORMAT_EAN_13;
+            case "UPC_A": return Barcode.FORMAT_UPC_A;
+            case "UPC_E": return Barcode.FORMAT_UPC_E;
+            case "CODE_39": return Barcode.FORMAT_CODE_39;
+            case "CODE_93": return Barcode.FORMAT_CODE_93;
+            case "CODE_128": return Barcode.FORMAT_CODE_128;
+            case "PDF_417":
+            case "PDF417": return Barcode.FORMAT_PDF417;
+            case "AZTEC": return Barcode.FORMAT_AZTEC;
+            case "ITF": return Barcode.FORMAT_ITF;
+            case "DATA_MATRIX": return Barcode.FORMAT_DATA_MATRIX;
+            default: return Barcode.FORMAT_UNKNOWN;
+        }
+    }
+
     // ============================================
     // Scan Overlay View (custom drawing)
     // ============================================
 
+    /**
+     * Static part of the overlay: the dimmed mask around the scan window and, for the
+     * credential template, the card outline. Geometry is built once per size in
+     * onSizeChanged and the view never invalidates itself, so it is drawn again only when
+     * its size changes; the pulsing corners live in {@link ScanCornersView}.
+     */
     private static class ScanOverlayView extends View {
         private final String template;
         private final Paint darkPaint;
-        private final Paint cornerPaint;
         private final Paint borderPaint;
-        private float animAlpha = 1.0f;
-        private boolean animGoingDown = true;
+        private final Path maskPath = new Path();
+        private final RectF cardRect = new RectF();
+        private boolean hasCard;
 
         ScanOverlayView(Activity activity, String template) {
             super(activity);
@@ -886,13 +2177,6 @@ public class SLMQR extends CordovaPlugin {
             darkPaint.setColor(Color.parseColor("#B3000000")); // 70% black
             darkPaint.setStyle(Paint.Style.FILL);
 
-            cornerPaint = new Paint();
-            cornerPaint.setColor(Color.parseColor("#00BFFF")); // Cyan accent
-            cornerPaint.setStyle(Paint.Style.STROKE);
-            cornerPaint.setStrokeWidth(6);
-            cornerPaint.setStrokeCap(Paint.Cap.ROUND);
-            cornerPaint.setAntiAlias(true);
-
             borderPaint = new Paint();
             borderPaint.setColor(Color.parseColor("#80FFFFFF"));
             borderPaint.setStyle(Paint.Style.STROKE);
@@ -901,86 +2185,148 @@ public class SLMQR extends CordovaPlugin {
         }
 
         @Override
-        protected void onDraw(Canvas canvas) {
-            super.onDraw(canvas);
-
-            int w = getWidth();
-            int h = getHeight();
-
-            if ("credential".equals(template)) {
-                drawCredentialOverlay(canvas, w, h);
-            } else {
-                drawSimpleOverlay(canvas, w, h);
+        protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+            super.onSizeChanged(w, h, oldw, oldh);
+            // The clear hole is the card for the credential template, the scan window otherwise
+            hasCard = "credential".equals(template);
+            RectF hole = hasCard ? cardRect(w, h) : scanWindow(template, w, h);
+            if (hasCard) {
+                cardRect.set(hole);
             }
 
-            // Animate corners
-            if (animGoingDown) {
-                animAlpha -= 0.02f;
-                if (animAlpha <= 0.3f) animGoingDown = false;
-            } else {
-                animAlpha += 0.02f;
-                if (animAlpha >= 1.0f) animGoingDown = true;
+            maskPath.reset();
+            maskPath.setFillType(Path.FillType.EVEN_ODD);
+            maskPath.addRect(0, 0, w, h, Path.Direction.CW);
+            maskPath.addRect(hole, Path.Direction.CW);
+        }
+
+        @Override
+        protected void onDraw(Canvas canvas) {
+            super.onDraw(canvas);
+            canvas.drawPath(maskPath, darkPaint);
+            if (hasCard) {
+                canvas.drawRoundRect(cardRect, 24, 24, borderPaint);
             }
-            cornerPaint.setAlpha((int) (animAlpha * 255));
-            postInvalidateDelayed(30);
         }
 
-        private void drawCredentialOverlay(Canvas canvas, int w, int h) {
+        /** ID-1 card (85.6 x 54 mm) spanning 85% of the width, centered. */
+        private static RectF cardRect(int w, int h) {
             float cardWidth = w * 0.85f;
             float cardHeight = cardWidth / 1.586f;
             float cardX = (w - cardWidth) / 2;
             float cardY = (h - cardHeight) / 2;
-
-            // Dark area (four rectangles around card)
-            canvas.drawRect(0, 0, w, cardY, darkPaint); // top
-            canvas.drawRect(0, cardY + cardHeight, w, h, darkPaint); // bottom
-            canvas.drawRect(0, cardY, cardX, cardY + cardHeight, darkPaint); // left
-            canvas.drawRect(cardX + cardWidth, cardY, w, cardY + cardHeight, darkPaint); // right
-
-            // Card border
-            RectF cardRect = new RectF(cardX, cardY, cardX + cardWidth, cardY + cardHeight);
-            canvas.drawRoundRect(cardRect, 24, 24, borderPaint);
-
-            // QR zone inside card (right side)
-            float qrSize = cardHeight * 0.65f;
-            float qrX = cardX + cardWidth - qrSize - cardWidth * 0.08f;
-            float qrY = cardY + (cardHeight - qrSize) / 2;
-
-            drawCorners(canvas, qrX, qrY, qrSize, qrSize);
+            return new RectF(cardX, cardY, cardX + cardWidth, cardY + cardHeight);
         }
 
-        private void drawSimpleOverlay(Canvas canvas, int w, int h) {
+        /** Box the user is asked to aim at, in view coordinates; the analyzer crops frames to it. */
+        static RectF scanWindow(String template, int w, int h) {
+            if ("credential".equals(template)) {
+                float cardWidth = w * 0.85f;
+                float cardHeight = cardWidth / 1.586f;
+                float cardX = (w - cardWidth) / 2;
+                float cardY = (h - cardHeight) / 2;
+
+                float qrSize = cardHeight * 0.65f;
+                float qrX = cardX + cardWidth - qrSize - cardWidth * 0.08f;
+                float qrY = cardY + (cardHeight - qrSize) / 2;
+                return new RectF(qrX, qrY, qrX + qrSize, qrY + qrSize);
+            }
             float scanSize = Math.min(w, h) * 0.65f;
             float scanX = (w - scanSize) / 2;
             float scanY = (h - scanSize) / 2;
+            return new RectF(scanX, scanY, scanX + scanSize, scanY + scanSize);
+        }
+    }
 
-            // Dark area
-            canvas.drawRect(0, 0, w, scanY, darkPaint);
-            canvas.drawRect(0, scanY + scanSize, w, h, darkPaint);
-            canvas.drawRect(0, scanY, scanX, scanY + scanSize, darkPaint);
-            canvas.drawRect(scanX + scanSize, scanY, w, scanY + scanSize, darkPaint);
+    /**
+     * Corner brackets of the scan window. The line segments are computed once per size and
+     * the pulse animates the view's alpha. The animator still ticks on the UI thread's
+     * Choreographer every frame, but an alpha change only updates the view's display list
+     * property, so onDraw is not called again. The animator runs only while the view is
+     * attached and visible, so it stops as soon as the scanner is torn down.
+     */
+    private static class ScanCornersView extends View {
+        private static final float CORNER_LENGTH = 48;
 
-            drawCorners(canvas, scanX, scanY, scanSize, scanSize);
+        private final String template;
+        private final Paint cornerPaint;
+        private final float[] cornerLines = new float[8 * 4];
+        private ObjectAnimator pulse;
+
+        ScanCornersView(Activity activity, String template) {
+            super(activity);
+            this.template = template;
+
+            cornerPaint = new Paint();
+            cornerPaint.setColor(Color.parseColor("#00BFFF")); // Cyan accent
+            cornerPaint.setStyle(Paint.Style.STROKE);
+            cornerPaint.setStrokeWidth(6);
+            cornerPaint.setStrokeCap(Paint.Cap.ROUND);
+            cornerPaint.setAntiAlias(true);
+        }
+
+        @Override
+        protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+            super.onSizeChanged(w, h, oldw, oldh);
+            RectF window = ScanOverlayView.scanWindow(template, w, h);
+            float x = window.left;
+            float y = window.top;
+            float r = window.right;
+            float b = window.bottom;
+            float len = CORNER_LENGTH;
+            float[] lines = {
+                    x, y, x + len, y,   x, y, x, y + len,     // top-left
+                    r - len, y, r, y,   r, y, r, y + len,     // top-right
+                    x, b, x + len, b,   x, b - len, x, b,     // bottom-left
+                    r - len, b, r, b,   r, b - len, r, b,     // bottom-right
+            };
+            System.arraycopy(lines, 0, cornerLines, 0, lines.length);
         }
 
-        private void drawCorners(Canvas canvas, float x, float y, float width, float height) {
-            float len = 48;
+        @Override
+        protected void onDraw(Canvas canvas) {
+            super.onDraw(canvas);
+            canvas.drawLines(cornerLines, cornerPaint);
+        }
+
+        @Override
+        protected void onAttachedToWindow() {
+            super.onAttachedToWindow();
+            updatePulse();
+        }
 
-            // Top-left
-            canvas.drawLine(x, y, x + len, y, cornerPaint);
-            canvas.drawLine(x, y, x, y + len, cornerPaint);
+        @Override
+        protected void onDetachedFromWindow() {
+            stopPulse();
+            super.onDetachedFromWindow();
+        }
 
-            // Top-right
-            canvas.drawLine(x + width - len, y, x + width, y, cornerPaint);
-            canvas.drawLine(x + width, y, x + width, y + len, cornerPaint);
+        @Override
+        protected void onWindowVisibilityChanged(int visibility) {
+            super.onWindowVisibilityChanged(visibility);
+            updatePulse();
+        }
 
-            // Bottom-left
-            canvas.drawLine(x, y + height, x + len, y + height, cornerPaint);
-            canvas.drawLine(x, y + height - len, x, y + height, cornerPaint);
+        /** Cancels the pulse; {@link #updatePulse} starts a new one if the view is shown again. */
+        private void stopPulse() {
+            if (pulse != null) {
+                pulse.cancel();
+                pulse = null;
+            }
+        }
 
-            // Bottom-right
-            canvas.drawLine(x + width - len, y + height, x + width, y + height, cornerPaint);
-            canvas.drawLine(x + width, y + height - len, x + width, y + height, cornerPaint);
+        private void updatePulse() {
+            boolean shouldRun = isAttachedToWindow() && getWindowVisibility() == VISIBLE;
+            if (!shouldRun) {
+                stopPulse();
+            } else if (pulse == null) {
+                // Same cycle as before: alpha 1.0 -> 0.3 and back, about one second each way
+                pulse = ObjectAnimator.ofFloat(this, View.ALPHA, 1f, 0.3f);
+                pulse.setDuration(1050);
+                pulse.setRepeatMode(ValueAnimator.REVERSE);
+                pulse.setRepeatCount(ValueAnimator.INFINITE);
+                pulse.start();
+            }
         }
     }
 }
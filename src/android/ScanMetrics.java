@@ -0,0 +1,144 @@
+package com.slm.qr;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Timing of one scan or preview session.
+ *
+ * Milestones are recorded once, in milliseconds since the session was requested from JS.
+ * Per-frame analysis latency (analyzer entry to ML Kit callback) is kept in a bounded
+ * window of recent samples for percentiles. Frames dropped by STRATEGY_KEEP_ONLY_LATEST are
+ * estimated from gaps between sensor timestamps, using the smallest gap seen as the frame period.
+ */
+final class ScanMetrics {
+
+    static final String PERMISSION_READY = "permissionReady";
+    static final String PROVIDER_READY = "providerReady";
+    static final String CAMERA_BOUND = "cameraBound";
+    static final String FIRST_FRAME = "firstFrame";
+    static final String FIRST_DECODE_ATTEMPT = "firstDecodeAttempt";
+    static final String DETECTION = "detection";
+
+    private static final int MAX_SAMPLES = 512;
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Long> milestones = new LinkedHashMap<>();
+    private final long[] latencyNanos = new long[MAX_SAMPLES];
+    private int sampleCount;
+    private int nextSample;
+
+    private long framesDelivered;
+    private long framesDropped;
+    private long lastFrameTimestamp = -1;
+    private long framePeriod = Long.MAX_VALUE;
+    private long successes;
+    private long failures;
+    private long detections;
+    private volatile ResolutionPolicy resolution;
+    private JSONObject summary;
+
+    synchronized void mark(String milestone) {
+        if (!milestones.containsKey(milestone)) {
+            milestones.put(milestone, (System.nanoTime() - startNanos) / 1_000_000);
+            summary = null;
+        }
+    }
+
+    /** Called for every frame CameraX delivers, with its sensor timestamp in nanoseconds. */
+    synchronized void onFrame(long timestampNanos) {
+        framesDelivered++;
+        mark(FIRST_FRAME);
+        if (lastFrameTimestamp >= 0) {
+            long delta = timestampNanos - lastFrameTimestamp;
+            if (delta > 0) {
+                framePeriod = Math.min(framePeriod, delta);
+                framesDropped += Math.max(0, Math.round((double) delta / framePeriod) - 1);
+            }
+        }
+        lastFrameTimestamp = timestampNanos;
+    }
+
+    /** Resolution policy of the session, reported as "analysisResolution". */
+    void setResolution(ResolutionPolicy resolution) {
+        this.resolution = resolution;
+    }
+
+    /** Forgets the last frame timestamp, so a deliberate gap (paused analysis) is not counted as dropped frames. */
+    synchronized void resetFrameClock() {
+        lastFrameTimestamp = -1;
+    }
+
+    /** Called when ML Kit finished a frame; {@code found} is whether it returned any barcode. */
+    synchronized void onAnalysis(long latency, boolean success, boolean found) {
+        if (success) {
+            successes++;
+            if (found) detections++;
+        } else {
+            failures++;
+        }
+        latencyNanos[nextSample] = latency;
+        nextSample = (nextSample + 1) % MAX_SAMPLES;
+        if (sampleCount < MAX_SAMPLES) sampleCount++;
+    }
+
+    /**
+     * The part of {@link #toJson} cheap enough for every preview detection: only the
+     * timeline, e.g. the time to the first read. It is rebuilt only when a milestone is
+     * added, so repeated detections reuse the same object; callers must not modify it.
+     */
+    synchronized JSONObject summaryJson() throws JSONException {
+        if (summary == null) {
+            summary = new JSONObject();
+            summary.put("timeline", timelineJson());
+        }
+        return summary;
+    }
+
+    synchronized JSONObject toJson() throws JSONException {
+        JSONObject json = new JSONObject();
+        json.put("timeline", timelineJson());
+
+        JSONObject latency = new JSONObject();
+        latency.put("samples", sampleCount);
+        if (sampleCount > 0) {
+            long[] sorted = Arrays.copyOf(latencyNanos, sampleCount);
+            Arrays.sort(sorted);
+            latency.put("p50", percentileMs(sorted, 0.50));
+            latency.put("p95", percentileMs(sorted, 0.95));
+            latency.put("p99", percentileMs(sorted, 0.99));
+            latency.put("max", sorted[sorted.length - 1] / 1e6);
+        }
+        json.put("analysisLatencyMs", latency);
+
+        json.put("framesDelivered", framesDelivered);
+        json.put("framesDropped", framesDropped);
+        json.put("mlkitSuccess", successes);
+        json.put("mlkitFailure", failures);
+        json.put("framesWithBarcodes", detections);
+        long attempts = successes + failures;
+        json.put("successRatio", attempts > 0 ? (double) successes / attempts : 0);
+        ResolutionPolicy policy = resolution;
+        if (policy != null) {
+            json.put("analysisResolution", policy.toJson());
+        }
+        return json;
+    }
+
+    private JSONObject timelineJson() throws JSONException {
+        JSONObject timeline = new JSONObject();
+        for (Map.Entry<String, Long> entry : milestones.entrySet()) {
+            timeline.put(entry.getKey(), entry.getValue());
+        }
+        return timeline;
+    }
+
+    private static double percentileMs(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1e6;
+    }
+}
@@ -0,0 +1,187 @@
+package com.slm.qr;
+
+import android.graphics.Rect;
+import android.graphics.RectF;
+
+import androidx.camera.core.ImageProxy;
+
+import com.google.mlkit.vision.common.InputImage;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Region of interest for frame analysis.
+ *
+ * The scan window is set in view coordinates (the box drawn by the overlay) and mapped
+ * per frame into sensor buffer coordinates, taking the FILL_CENTER preview scaling,
+ * rotation and front-camera mirroring into account. Only the luminance of that region
+ * is handed to ML Kit, with neutral chroma, so the detector sees a fraction of the pixels
+ * and codes outside the window are never decoded.
+ */
+final class ScanRegion {
+
+    /** Extra border around the window, as a fraction of its size, to absorb preview/analysis crop differences. */
+    private static final float MARGIN = 0.15f;
+
+    private volatile RectF viewWindow;
+    private volatile int viewWidth;
+    private volatile int viewHeight;
+    private volatile boolean mirrored;
+
+    // Reused between frames; the analyzer only receives the next frame after the previous one was processed
+    private byte[] nv21;
+    private int bufferWidth;
+    private int bufferHeight;
+    private final Rect lastCrop = new Rect();
+
+    /** Called from the UI thread whenever the preview is laid out. */
+    void setViewWindow(RectF window, int viewWidth, int viewHeight, boolean mirrored) {
+        this.viewWidth = viewWidth;
+        this.viewHeight = viewHeight;
+        this.mirrored = mirrored;
+        this.viewWindow = window;
+    }
+
+    /** Crop of the last frame in buffer coordinates (valid after {@link #crop} returned non-null). */
+    Rect lastCrop() {
+        return lastCrop;
+    }
+
+    /**
+     * Returns an NV21 image containing only the scan window of {@code image}, or null when
+     * no window is known yet or the frame is not YUV, in which case the caller should
+     * analyze the full frame.
+     */
+    InputImage crop(ImageProxy image) {
+        Rect region = region(image);
+        if (region == null) {
+            return null;
+        }
+        int rotation = image.getImageInfo().getRotationDegrees();
+
+        int width = region.width();
+        int height = region.height();
+        if (nv21 == null || bufferWidth != width || bufferHeight != height) {
+            nv21 = new byte[width * height * 3 / 2];
+            Arrays.fill(nv21, width * height, nv21.length, (byte) 128);
+            bufferWidth = width;
+            bufferHeight = height;
+        }
+
+        ImageProxy.PlaneProxy yPlane = image.getPlanes()[0];
+        ByteBuffer buffer = yPlane.getBuffer();
+        int rowStride = yPlane.getRowStride();
+        for (int row = 0; row < height; row++) {
+            buffer.position((region.top + row) * rowStride + region.left);
+            buffer.get(nv21, row * width, width);
+        }
+        buffer.rewind();
+
+        lastCrop.set(region);
+        return InputImage.fromByteArray(nv21, width, height, rotation, InputImage.IMAGE_FORMAT_NV21);
+    }
+
+    /**
+     * Scan window of {@code image} in buffer coordinates, or null when no window is known
+     * yet or the frame is not YUV. Engines that read the Y plane directly use this instead
+     * of {@link #crop}.
+     */
+    Rect region(ImageProxy image) {
+        RectF window = viewWindow;
+        if (window == null || viewWidth <= 0 || viewHeight <= 0 || image.getPlanes().length < 3) {
+            return null;
+        }
+
+        int rotation = image.getImageInfo().getRotationDegrees();
+        Rect region = mapToImage(window, viewWidth, viewHeight, image.getWidth(), image.getHeight(), rotation, mirrored, MARGIN);
+        return region.width() < 2 || region.height() < 2 ? null : region;
+    }
+
+    /**
+     * Converts a rectangle in buffer coordinates to the upright (display-oriented) frame,
+     * the space ML Kit reports bounding boxes in. Inverse of the rotation step in {@link #mapToImage}.
+     */
+    static Rect toUpright(Rect r, int imageWidth, int imageHeight, int rotationDegrees) {
+        switch (rotationDegrees) {
+            case 90:
+                return new Rect(imageHeight - r.bottom, r.left, imageHeight - r.top, r.right);
+            case 180:
+                return new Rect(imageWidth - r.right, imageHeight - r.bottom, imageWidth - r.left, imageHeight - r.top);
+            case 270:
+                return new Rect(r.top, imageWidth - r.right, r.bottom, imageWidth - r.left);
+            default:
+                return new Rect(r);
+        }
+    }
+
+    /**
+     * Converts a normalized point of the upright frame to the normalized buffer coordinates
+     * that metering points created for the analysis use case expect.
+     */
+    static float[] toBufferPoint(float x, float y, int rotationDegrees) {
+        switch (rotationDegrees) {
+            case 90: return new float[] { y, 1 - x };
+            case 180: return new float[] { 1 - x, 1 - y };
+            case 270: return new float[] { 1 - y, x };
+            default: return new float[] { x, y };
+        }
+    }
+
+    /**
+     * Maps a window in view coordinates to the analysis buffer. The preview is assumed to
+     * fill the view centered (PreviewView's default FILL_CENTER). The result is clamped to the
+     * buffer and aligned to even coordinates as required by NV21.
+     */
+    static Rect mapToImage(RectF window, int viewWidth, int viewHeight, int imageWidth, int imageHeight,
+                           int rotationDegrees, boolean mirrored, float margin) {
+        boolean swap = rotationDegrees % 180 != 0;
+        float uprightW = swap ? imageHeight : imageWidth;
+        float uprightH = swap ? imageWidth : imageHeight;
+
+        float scale = Math.max(viewWidth / uprightW, viewHeight / uprightH);
+        float offsetX = (viewWidth - uprightW * scale) / 2f;
+        float offsetY = (viewHeight - uprightH * scale) / 2f;
+
+        float left = (window.left - offsetX) / scale;
+        float top = (window.top - offsetY) / scale;
+        float right = (window.right - offsetX) / scale;
+        float bottom = (window.bottom - offsetY) / scale;
+
+        float padX = (right - left) * margin;
+        float padY = (bottom - top) * margin;
+        left = Math.max(0, left - padX);
+        top = Math.max(0, top - padY);
+        right = Math.min(uprightW, right + padX);
+        bottom = Math.min(uprightH, bottom + padY);
+
+        if (mirrored) {
+            float mirroredLeft = uprightW - right;
+            right = uprightW - left;
+            left = mirroredLeft;
+        }
+
+        // Undo the clockwise rotation that makes the buffer upright
+        float bl, bt, br, bb;
+        switch (rotationDegrees) {
+            case 90:
+                bl = top; br = bottom; bt = imageHeight - right; bb = imageHeight - left;
+                break;
+            case 180:
+                bl = imageWidth - right; br = imageWidth - left; bt = imageHeight - bottom; bb = imageHeight - top;
+                break;
+            case 270:
+                bl = imageWidth - bottom; br = imageWidth - top; bt = left; bb = right;
+                break;
+            default:
+                bl = left; br = right; bt = top; bb = bottom;
+                break;
+        }
+
+        int l = Math.max(0, ((int) bl) & ~1);
+        int t = Math.max(0, ((int) bt) & ~1);
+        int r = Math.min(imageWidth, ((int) Math.ceil(br)) & ~1);
+        int b = Math.min(imageHeight, ((int) Math.ceil(bb)) & ~1);
+        return new Rect(l, t, Math.max(l, r), Math.max(t, b));
+    }
+}
@@ -0,0 +1,64 @@
+package com.slm.qr;
+
+import android.util.Base64;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+/**
+ * JSON results of the scan analyzers, up to what PluginResult sends over the bridge. Kept
+ * free of Cordova and camera types so bench/ measures the same code the analyzers run.
+ */
+final class ScanResults {
+
+    private ScanResults() {
+    }
+
+    /**
+     * Final result of a one-shot scan. {@code template} is null outside "qr" mode,
+     * {@code decision} is null without consensusFrames and {@code recording} without
+     * recordFrames. rawBytes are only added as Base64 when {@code rawBytesBase64}; in binary
+     * mode they travel as a separate part instead.
+     */
+    static JSONObject scan(DecodedCode code, String template, boolean rawBytesBase64,
+                           ConsensusVote.Decision<?> decision, ScanMetrics metrics, String recording) throws JSONException {
+        JSONObject result = new JSONObject();
+        result.put("text", code.text);
+        result.put("format", code.format);
+        if (template != null) {
+            result.put("template", template);
+        }
+        if (rawBytesBase64 && code.rawBytes != null) {
+            result.put("rawBytes", Base64.encodeToString(code.rawBytes, Base64.NO_WRAP));
+        }
+        if (decision != null) {
+            JSONObject agreement = new JSONObject();
+            agreement.put("votes", decision.votes);
+            agreement.put("frames", decision.frames);
+            agreement.put("confidence", decision.confidence());
+            agreement.put("timedOut", decision.timedOut);
+            result.put("consensus", agreement);
+        }
+        result.put("metrics", metrics.toJson());
+        if (recording != null) {
+            result.put("recording", recording);
+        }
+        return result;
+    }
+
+    /**
+     * Overwrites the fields of the session's reused preview detection with {@code code}.
+     * The caller holds the detection's lock until the result has been serialized.
+     */
+    static void fillDetection(JSONObject detection, DecodedCode code, ScanMetrics metrics,
+                              boolean rawBytesBase64) throws JSONException {
+        detection.put("text", code.text);
+        detection.put("format", code.format);
+        detection.put("metrics", metrics.summaryJson());
+        if (rawBytesBase64 && code.rawBytes != null) {
+            detection.put("rawBytes", Base64.encodeToString(code.rawBytes, Base64.NO_WRAP));
+        } else {
+            detection.remove("rawBytes");
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.slm.qr;
+
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.Rect;
+import android.util.Base64;
+
+import com.google.android.gms.tasks.Tasks;
+import com.google.mlkit.vision.barcode.BarcodeScanner;
+import com.google.mlkit.vision.barcode.common.Barcode;
+import com.google.mlkit.vision.common.InputImage;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Decodes every code in a still image (gallery photo, rendered PDF page, screenshot).
+ *
+ * The image is decoded bounds-first and subsampled by a power of two so its longest side
+ * is at most {@code maxDimension}. The whole image is tried first; with a tile grid the
+ * image is then also cut into overlapping tiles, so small codes on a dense sheet reach
+ * ML Kit at a usable size instead of being shrunk with the rest of the page. Rotations are
+ * only tried when nothing was found upright. Results are deduplicated on format and value and their
+ * bounding boxes are reported in the coordinates of the original image.
+ */
+final class StillImageDecoder {
+
+    /** Overlap between neighbouring tiles, as a fraction of the tile size, so codes on a seam are whole in one tile. */
+    private static final float TILE_OVERLAP = 0.2f;
+
+    private final BarcodeScanner scanner;
+    private final int maxDimension;
+    private final int tileGrid;
+    private final boolean tryRotations;
+    private final boolean includeRawBytes;
+
+    StillImageDecoder(BarcodeScanner scanner, int maxDimension, int tileGrid, boolean tryRotations, boolean includeRawBytes) {
+        this.scanner = scanner;
+        this.maxDimension = Math.max(256, maxDimension);
+        this.tileGrid = Math.max(1, Math.min(tileGrid, 4));
+        this.tryRotations = tryRotations;
+        this.includeRawBytes = includeRawBytes;
+    }
+
+    /** Decodes an encoded image (PNG, JPEG, WebP...) and returns {@code { codes, width, height, sampleSize }}. */
+    JSONObject decode(byte[] encoded) throws IOException, ExecutionException, InterruptedException, JSONException {
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        BitmapFactory.decodeByteArray(encoded, 0, encoded.length, bounds);
+        if (bounds.outWidth <= 0 || bounds.outHeight <= 0) {
+            throw new IOException("formato de imagen no soportado");
+        }
+
+        BitmapFactory.Options decodeOptions = new BitmapFactory.Options();
+        decodeOptions.inSampleSize = sampleSize(bounds.outWidth, bounds.outHeight, maxDimension);
+        Bitmap bitmap = BitmapFactory.decodeByteArray(encoded, 0, encoded.length, decodeOptions);
+        if (bitmap == null) {
+            throw new IOException("no se pudo decodificar la imagen");
+        }
+
+        // Keyed by format:value so a code found in the full pass and again in a tile is reported once
+        Map<String, JSONObject> found = new LinkedHashMap<>();
+        float scaleX = (float) bounds.outWidth / bitmap.getWidth();
+        float scaleY = (float) bounds.outHeight / bitmap.getHeight();
+        try {
+            collect(bitmap, 0, 0, 0, scaleX, scaleY, found);
+            if (tileGrid > 1) {
+                for (Rect tile : tiles(bitmap.getWidth(), bitmap.getHeight(), tileGrid)) {
+                    Bitmap region = Bitmap.createBitmap(bitmap, tile.left, tile.top, tile.width(), tile.height());
+                    try {
+                        collect(region, 0, tile.left, tile.top, scaleX, scaleY, found);
+                    } finally {
+                        region.recycle();
+                    }
+                }
+            }
+            if (found.isEmpty() && tryRotations) {
+                for (int rotation = 90; rotation < 360 && found.isEmpty(); rotation += 90) {
+                    collect(bitmap, rotation, 0, 0, scaleX, scaleY, found);
+                }
+            }
+        } finally {
+            bitmap.recycle();
+        }
+
+        JSONObject result = new JSONObject();
+        result.put("codes", new JSONArray(found.values()));
+        result.put("width", bounds.outWidth);
+        result.put("height", bounds.outHeight);
+        result.put("sampleSize", decodeOptions.inSampleSize);
+        return result;
+    }
+
+    private void collect(Bitmap bitmap, int rotation, int offsetX, int offsetY, float scaleX, float scaleY,
+                         Map<String, JSONObject> found) throws ExecutionException, InterruptedException, JSONException {
+        List<Barcode> barcodes = Tasks.await(scanner.process(InputImage.fromBitmap(bitmap, rotation)));
+        for (Barcode barcode : barcodes) {
+            String value = barcode.getRawValue();
+            String key = barcode.getFormat() + ":" + value;
+            if (value == null || found.containsKey(key)) continue;
+
+            JSONObject code = new JSONObject();
+            code.put("text", value);
+            code.put("format", SLMQR.formatToString(barcode.getFormat()));
+            if (includeRawBytes && barcode.getRawBytes() != null) {
+                code.put("rawBytes", Base64.encodeToString(barcode.getRawBytes(), Base64.NO_WRAP));
+            }
+            Rect box = barcode.getBoundingBox();
+            // Boxes of rotated passes are in the rotated frame; only upright ones map back cleanly
+            if (box != null && rotation == 0) {
+                JSONObject bounds = new JSONObject();
+                bounds.put("left", Math.round((box.left + offsetX) * scaleX));
+                bounds.put("top", Math.round((box.top + offsetY) * scaleY));
+                bounds.put("right", Math.round((box.right + offsetX) * scaleX));
+                bounds.put("bottom", Math.round((box.bottom + offsetY) * scaleY));
+                code.put("boundingBox", bounds);
+            }
+            found.put(key, code);
+        }
+    }
+
+    /** Smallest power-of-two subsampling that brings the longest side to {@code maxDimension} or less. */
+    static int sampleSize(int width, int height, int maxDimension) {
+        int sample = 1;
+        int longest = Math.max(width, height);
+        // Rounded up, so an odd side that lands one pixel over the limit still takes another halving
+        while ((longest + sample - 1) / sample > maxDimension) {
+            sample *= 2;
+        }
+        return sample;
+    }
+
+    /** Overlapping {@code grid} x {@code grid} tiles covering a {@code width} x {@code height} image. */
+    static List<Rect> tiles(int width, int height, int grid) {
+        List<Rect> tiles = new ArrayList<>(grid * grid);
+        int tileW = Math.min(width, Math.round(width / (float) grid * (1 + TILE_OVERLAP)));
+        int tileH = Math.min(height, Math.round(height / (float) grid * (1 + TILE_OVERLAP)));
+        for (int row = 0; row < grid; row++) {
+            for (int col = 0; col < grid; col++) {
+                int left = grid == 1 ? 0 : Math.round((width - tileW) * col / (float) (grid - 1));
+                int top = grid == 1 ? 0 : Math.round((height - tileH) * row / (float) (grid - 1));
+                tiles.add(new Rect(left, top, left + tileW, top + tileH));
+            }
+        }
+        return tiles;
+    }
+}
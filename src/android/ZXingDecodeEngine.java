@@ -0,0 +1,76 @@
+package com.slm.qr;
+
+import android.graphics.Rect;
+
+import androidx.camera.core.ImageProxy;
+
+import com.google.zxing.BarcodeFormat;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ZXing engine: copies the Y plane of the frame into a reused buffer and decodes the scan
+ * window (or the whole plane) with {@link ZXingFrameDecoder}. Runs synchronously on the
+ * analyzer thread; each analysis thread gets its own decoder and buffers.
+ */
+final class ZXingDecodeEngine implements DecodeEngine {
+
+    private final ThreadLocal<ZXingFrameDecoder> decoders;
+
+    ZXingDecodeEngine(final Collection<BarcodeFormat> formats, final boolean multiple) {
+        this.decoders = new ThreadLocal<ZXingFrameDecoder>() {
+            @Override
+            protected ZXingFrameDecoder initialValue() {
+                return new ZXingFrameDecoder(formats, multiple);
+            }
+        };
+    }
+
+    @Override
+    public void decode(ImageProxy frame, ScanRegion region, Callback callback) {
+        try {
+            ImageProxy.PlaneProxy yPlane = frame.getPlanes()[0];
+            ByteBuffer buffer = yPlane.getBuffer();
+            int rowStride = yPlane.getRowStride();
+            int width = frame.getWidth();
+            int height = frame.getHeight();
+
+            ZXingFrameDecoder decoder = decoders.get();
+            // The last row may be shorter than rowStride, so copy what the buffer actually holds
+            int size = Math.min(buffer.remaining(), rowStride * height);
+            buffer.get(decoder.buffer(rowStride * height), 0, size);
+            buffer.rewind();
+
+            Rect window = region != null ? region.region(frame) : null;
+            if (window == null) {
+                window = new Rect(0, 0, width, height);
+            }
+            List<DecodedCode> codes = decoder.decode(rowStride, height,
+                    window.left, window.top, window.width(), window.height());
+            int rotation = frame.getImageInfo().getRotationDegrees();
+            callback.onDecoded(toUpright(codes, width, height, rotation),
+                    toUpright(decoder.undecodedCandidates(), width, height, rotation));
+        } catch (RuntimeException e) {
+            callback.onFailure(e);
+        }
+    }
+
+    private static List<DecodedCode> toUpright(List<DecodedCode> codes, int width, int height, int rotation) {
+        if (codes.isEmpty() || rotation == 0) {
+            return codes;
+        }
+        List<DecodedCode> upright = new ArrayList<>(codes.size());
+        for (DecodedCode code : codes) {
+            if (!code.hasBounds) {
+                upright.add(code);
+                continue;
+            }
+            Rect box = ScanRegion.toUpright(new Rect(code.left, code.top, code.right, code.bottom), width, height, rotation);
+            upright.add(new DecodedCode(code.text, code.format, code.rawBytes, box.left, box.top, box.right, box.bottom));
+        }
+        return upright;
+    }
+}
@@ -0,0 +1,198 @@
+package com.slm.qr;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.BinaryBitmap;
+import com.google.zxing.DecodeHintType;
+import com.google.zxing.FormatException;
+import com.google.zxing.MultiFormatReader;
+import com.google.zxing.NotFoundException;
+import com.google.zxing.PlanarYUVLuminanceSource;
+import com.google.zxing.Result;
+import com.google.zxing.ResultMetadataType;
+import com.google.zxing.ResultPoint;
+import com.google.zxing.common.DetectorResult;
+import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.multi.GenericMultipleBarcodeReader;
+import com.google.zxing.qrcode.detector.Detector;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ZXing decoder over a luminance (Y) plane. Pure Java, so it runs on a plain JVM against
+ * recorded frames as well as inside the analyzer.
+ *
+ * The instance owns its reader and its luminance buffers and reuses them between frames,
+ * so it must only be used from one thread at a time. Vertical 1D barcodes are found with a
+ * second pass over a rotated copy of the region, because ZXing's 1D readers only scan
+ * rows and the planar source cannot rotate itself.
+ *
+ * MultiFormatReader reports every failure as NotFoundException, so a QR code that was found
+ * but not read is indistinguishable from an empty frame. When a frame yields nothing and QR
+ * is among the formats, the QR detector runs on its own over the same binarized bitmap:
+ * a grid it can locate without a successful read is reported as an undecoded candidate,
+ * with the bounds of its finder patterns.
+ */
+final class ZXingFrameDecoder {
+
+    private static final EnumSet<BarcodeFormat> ONE_D_FORMATS = EnumSet.of(
+            BarcodeFormat.EAN_8, BarcodeFormat.EAN_13, BarcodeFormat.UPC_A, BarcodeFormat.UPC_E,
+            BarcodeFormat.CODE_39, BarcodeFormat.CODE_93, BarcodeFormat.CODE_128, BarcodeFormat.ITF,
+            BarcodeFormat.CODABAR);
+
+    private final MultiFormatReader reader = new MultiFormatReader();
+    private final GenericMultipleBarcodeReader multiReader = new GenericMultipleBarcodeReader(reader);
+    private final Map<DecodeHintType, Object> hints;
+    private final boolean multiple;
+    private final boolean tryRotated;
+    private final boolean locateQr;
+
+    private byte[] luminance = new byte[0];
+    private byte[] rotated = new byte[0];
+    private List<DecodedCode> undecoded = Collections.emptyList();
+
+    ZXingFrameDecoder(Collection<BarcodeFormat> formats, boolean multiple) {
+        Map<DecodeHintType, Object> map = new EnumMap<>(DecodeHintType.class);
+        map.put(DecodeHintType.POSSIBLE_FORMATS, EnumSet.copyOf(formats));
+        this.hints = Collections.unmodifiableMap(map);
+        this.multiple = multiple;
+        this.tryRotated = !Collections.disjoint(formats, ONE_D_FORMATS);
+        this.locateQr = formats.contains(BarcodeFormat.QR_CODE);
+        reader.setHints(hints);
+    }
+
+    /**
+     * Buffer of at least {@code size} bytes that the caller fills with the Y plane before
+     * calling {@link #decode}. It is reused across frames.
+     */
+    byte[] buffer(int size) {
+        if (luminance.length < size) {
+            luminance = new byte[size];
+        }
+        return luminance;
+    }
+
+    /**
+     * Decodes the region ({@code left}, {@code top}, {@code width}, {@code height}) of the
+     * plane in {@link #buffer}, laid out with {@code rowStride} bytes per row. Bounds of the
+     * returned codes are in plane coordinates.
+     */
+    List<DecodedCode> decode(int rowStride, int planeHeight, int left, int top, int width, int height) {
+        undecoded = Collections.emptyList();
+        PlanarYUVLuminanceSource source = new PlanarYUVLuminanceSource(
+                luminance, rowStride, planeHeight, left, top, width, height, false);
+        BinaryBitmap bitmap = new BinaryBitmap(new HybridBinarizer(source));
+        List<DecodedCode> codes = read(bitmap, left, top, height, false);
+        if (codes.isEmpty() && tryRotated) {
+            int size = width * height;
+            if (rotated.length < size) {
+                rotated = new byte[size];
+            }
+            // Rotate the region 90 degrees clockwise: rotated(row r, col c) = region(row height-1-c, col r)
+            for (int r = 0; r < width; r++) {
+                int out = r * height;
+                for (int c = 0; c < height; c++) {
+                    rotated[out + c] = luminance[(top + height - 1 - c) * rowStride + left + r];
+                }
+            }
+            PlanarYUVLuminanceSource rotatedSource = new PlanarYUVLuminanceSource(
+                    rotated, height, width, 0, 0, height, width, false);
+            codes = read(new BinaryBitmap(new HybridBinarizer(rotatedSource)), left, top, height, true);
+        }
+        if (codes.isEmpty() && locateQr) {
+            DecodedCode candidate = locate(bitmap, left, top, height);
+            if (candidate != null) {
+                undecoded = Collections.singletonList(candidate);
+            }
+        }
+        return codes;
+    }
+
+    /**
+     * QR codes the last {@link #decode} located but failed to read (too small, blurred or
+     * damaged): text is null and bounds are in plane coordinates when the detector had points.
+     */
+    List<DecodedCode> undecodedCandidates() {
+        return undecoded;
+    }
+
+    /** The QR grid the detector finds in {@code bitmap}, or null when there is none. */
+    private DecodedCode locate(BinaryBitmap bitmap, int left, int top, int regionHeight) {
+        try {
+            DetectorResult located = new Detector(bitmap.getBlackMatrix()).detect(hints);
+            return toCode(null, BarcodeFormat.QR_CODE.name(), null, located.getPoints(), left, top, regionHeight, false);
+        } catch (NotFoundException | FormatException e) {
+            return null;
+        }
+    }
+
+    private List<DecodedCode> read(BinaryBitmap bitmap, int left, int top, int regionHeight, boolean rotatedPass) {
+        Result[] results;
+        try {
+            results = multiple
+                    ? multiReader.decodeMultiple(bitmap, hints)
+                    : new Result[] { reader.decodeWithState(bitmap) };
+        } catch (NotFoundException e) {
+            return Collections.emptyList();
+        } finally {
+            reader.reset();
+        }
+
+        List<DecodedCode> codes = new ArrayList<>(results.length);
+        for (Result result : results) {
+            codes.add(toCode(result, left, top, regionHeight, rotatedPass));
+        }
+        return codes;
+    }
+
+    private static DecodedCode toCode(Result result, int left, int top, int regionHeight, boolean rotatedPass) {
+        return toCode(result.getText(), result.getBarcodeFormat().name(), byteSegments(result),
+                result.getResultPoints(), left, top, regionHeight, rotatedPass);
+    }
+
+    /** A code whose bounds enclose {@code points}, mapped from the pass's bitmap back to the plane. */
+    private static DecodedCode toCode(String text, String format, byte[] rawBytes, ResultPoint[] points,
+                                      int left, int top, int regionHeight, boolean rotatedPass) {
+        if (points == null || points.length == 0) {
+            return new DecodedCode(text, format, rawBytes);
+        }
+
+        float minX = Float.MAX_VALUE, minY = Float.MAX_VALUE, maxX = -Float.MAX_VALUE, maxY = -Float.MAX_VALUE;
+        for (ResultPoint point : points) {
+            if (point == null) continue;
+            // Undo the clockwise rotation: rotated(x, y) came from region(x' = y, y' = height-1-x)
+            float x = rotatedPass ? point.getY() : point.getX();
+            float y = rotatedPass ? regionHeight - 1 - point.getX() : point.getY();
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+        if (minX > maxX) {
+            return new DecodedCode(text, format, rawBytes);
+        }
+        return new DecodedCode(text, format, rawBytes,
+                left + (int) minX, top + (int) minY, left + (int) Math.ceil(maxX), top + (int) Math.ceil(maxY));
+    }
+
+    /** Payload bytes of byte-mode segments, the closest match to ML Kit's rawBytes; null if none. */
+    @SuppressWarnings("unchecked")
+    private static byte[] byteSegments(Result result) {
+        Map<ResultMetadataType, Object> metadata = result.getResultMetadata();
+        Object segments = metadata != null ? metadata.get(ResultMetadataType.BYTE_SEGMENTS) : null;
+        if (!(segments instanceof List)) {
+            return null;
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] segment : (List<byte[]>) segments) {
+            out.write(segment, 0, segment.length);
+        }
+        return out.toByteArray();
+    }
+}
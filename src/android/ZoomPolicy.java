@@ -0,0 +1,98 @@
+package com.slm.qr;
+
+/**
+ * Decides when to zoom toward a code that is located but too small to read.
+ *
+ * Sizes are fractions of the frame. A candidate smaller than {@code minFraction} pulls the
+ * zoom toward the ratio that would make it {@code targetFraction} of the frame, at most
+ * {@link #MAX_STEP} per step and one step per {@code cooldownMs}, so the next frames show
+ * whether the step helped before taking another. Zoom crops around the frame center, so
+ * the step is also capped to keep the whole candidate in view. After {@code resetAfterMs}
+ * without candidates the zoom returns to the minimum. Pure Java.
+ */
+final class ZoomPolicy {
+
+    /** Returned when the zoom should stay as it is. */
+    static final float NO_CHANGE = -1f;
+
+    private static final float MAX_STEP = 1.6f;
+    private static final float MIN_STEP = 1.1f;
+    /** Fraction of the half-frame the candidate may reach after zooming, leaving a margin at the edges. */
+    private static final float EDGE_LIMIT = 0.9f;
+    private static final long FOCUS_INTERVAL_MS = 1000;
+
+    private final float minFraction;
+    private final float targetFraction;
+    private final long cooldownMs;
+    private final long resetAfterMs;
+    private long lastStepMs = Long.MIN_VALUE / 2;
+    private long lastCandidateMs = Long.MIN_VALUE / 2;
+    private long lastFocusMs = Long.MIN_VALUE / 2;
+
+    ZoomPolicy(float minFraction, float targetFraction, long cooldownMs, long resetAfterMs) {
+        this.minFraction = minFraction;
+        this.targetFraction = Math.max(minFraction, targetFraction);
+        this.cooldownMs = cooldownMs;
+        this.resetAfterMs = resetAfterMs;
+    }
+
+    /** Defaults used by the scanner: zoom codes under 15% of the frame toward 35%. */
+    static ZoomPolicy defaults() {
+        return new ZoomPolicy(0.15f, 0.35f, 400, 3000);
+    }
+
+    /**
+     * Records a candidate with bounds ({@code left}, {@code top}, {@code right},
+     * {@code bottom}) in a {@code frameWidth} x {@code frameHeight} frame and returns the
+     * zoom ratio to apply, or {@link #NO_CHANGE}.
+     */
+    synchronized float onCandidate(long nowMs, float currentZoom, float maxZoom,
+                                   int frameWidth, int frameHeight, int left, int top, int right, int bottom) {
+        lastCandidateMs = nowMs;
+        if (nowMs - lastStepMs < cooldownMs || frameWidth <= 0 || frameHeight <= 0 || right <= left || bottom <= top) {
+            return NO_CHANGE;
+        }
+
+        float width = (right - left) / (float) frameWidth;
+        float height = (bottom - top) / (float) frameHeight;
+        float fraction = Math.max(width, height);
+        if (fraction >= minFraction) {
+            return NO_CHANGE;
+        }
+
+        // Largest relative zoom that keeps the candidate inside the cropped frame
+        float offsetX = Math.abs((left + right) / 2f / frameWidth - 0.5f) + width / 2;
+        float offsetY = Math.abs((top + bottom) / 2f / frameHeight - 0.5f) + height / 2;
+        float inView = 0.5f * EDGE_LIMIT / Math.max(offsetX, offsetY);
+
+        float step = Math.min(Math.min(targetFraction / fraction, MAX_STEP), inView);
+        float next = Math.min(maxZoom, currentZoom * step);
+        if (next < currentZoom * MIN_STEP) {
+            return NO_CHANGE;
+        }
+        lastStepMs = nowMs;
+        return next;
+    }
+
+    /**
+     * Whether to refocus on the current candidate. An unreadable code that is already large
+     * enough is usually out of focus; refocusing at most once per second leaves time for the
+     * lens to settle.
+     */
+    synchronized boolean shouldFocus(long nowMs) {
+        if (nowMs - lastFocusMs < FOCUS_INTERVAL_MS) {
+            return false;
+        }
+        lastFocusMs = nowMs;
+        return true;
+    }
+
+    /** Records a frame without candidates; returns {@code minZoom} once it is time to zoom back out. */
+    synchronized float onEmpty(long nowMs, float currentZoom, float minZoom) {
+        if (currentZoom <= minZoom || nowMs - lastCandidateMs < resetAfterMs || nowMs - lastStepMs < cooldownMs) {
+            return NO_CHANGE;
+        }
+        lastStepMs = nowMs;
+        return minZoom;
+    }
+}
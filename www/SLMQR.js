@@ -1,5 +1,20 @@
 var exec = require('cordova/exec');
 
+/**
+ * Con binary: true los bytes llegan como segunda parte de un mensaje multipart (ArrayBuffer,
+ * sin base64). Une ambas partes para que el callback reciba un solo objeto, con el buffer
+ * en el campo indicado. Sin segunda parte el resultado pasa tal cual.
+ */
+function withBinary(successCallback, field) {
+    if (typeof successCallback !== 'function') return successCallback;
+    return function (result, bytes) {
+        if (bytes !== undefined && result) {
+            result[field] = bytes;
+        }
+        successCallback(result);
+    };
+}
+
 var SLMQR = {
 
     /**
@@ -10,13 +25,30 @@ var SLMQR = {
      *     flashlight: boolean,    // mostrar boton de flash
      *     vibrate: boolean,       // vibrar al escanear
      *     camera: "back"|"front", // camara a usar
-     *     title: string           // texto del overlay
+     *     title: string,          // texto del overlay
+     *     analyzerThreads: number, // hilos de analisis de frames (default 1, max 4)
+     *     cropToOverlay: boolean,  // decodificar solo la zona del overlay (default true, excepto "fullscreen")
+     *     rawBytes: boolean,       // incluir rawBytes en base64 (default true)
+     *     binary: boolean,         // enviar rawBytes como ArrayBuffer en lugar de base64 (default false)
+     *     formats: string[],       // formatos a detectar, ej. ["QR_CODE", "PDF_417"] (default ["QR_CODE"])
+     *     consensusFrames: number,    // votar entre los ultimos N frames antes de aceptar (default 0 = primer resultado)
+     *     consensusThreshold: number, // votos necesarios para aceptar (default N/2 + 1)
+     *     consensusTimeout: number,   // ms tras el primer voto para aceptar el mas votado (default 1500)
+     *     engine: "mlkit"|"zxing"|"auto", // motor de decodificacion; "auto" pasa a ZXing si ML Kit falla (default "mlkit")
+     *     recordFrames: number,    // depuracion: guardar los primeros N frames (max 300) para reproducirlos fuera del dispositivo
+     *     analysisResolution: "auto"|"low"|"medium"|"high", // resolucion de analisis: 640x480, 1280x960, 1920x1440 (default "auto")
+     *     escalateAfter: number,   // en "auto": frames con codigos ilegibles antes de subir de resolucion (default 8)
+     *     autoZoom: boolean,       // acercar y enfocar codigos detectados pero muy pequenos (default true, false en scanMultiple)
+     *     tapToFocus: boolean      // enfocar al tocar el preview (default true)
      *   }
-     * @param {Function} successCallback - Recibe { text, format, rawBytes, template }
+     * @param {Function} successCallback - Recibe { text, format, rawBytes, template, consensus, metrics, recording }
+     *   recording: carpeta con los frames grabados (solo con recordFrames)
+     *   metrics.analysisResolution: { width, height, level, escalations } resolucion efectiva del analisis
+     *   consensus: { votes, frames, confidence, timedOut } (solo con consensusFrames)
      * @param {Function} errorCallback - Recibe string con mensaje de error
      */
     scanQR: function (options, successCallback, errorCallback) {
-        exec(successCallback, errorCallback, 'SLMQR', 'scanQR', [options || {}]);
+        exec(withBinary(successCallback, 'rawBytes'), errorCallback, 'SLMQR', 'scanQR', [options || {}]);
     },
 
     /**
@@ -25,9 +57,13 @@ var SLMQR = {
      *   {
      *     flashlight: boolean,
      *     vibrate: boolean,
-     *     camera: "back"|"front"
+     *     camera: "back"|"front",
+     *     analyzerThreads: number,
+     *     formats: string[],  // EAN_8, EAN_13, UPC_A, UPC_E, CODE_39, CODE_93, CODE_128,
+     *                         // PDF_417, AZTEC, ITF, DATA_MATRIX, QR_CODE (default: todos menos QR_CODE)
+     *     consensusFrames: number, consensusThreshold: number, consensusTimeout: number // igual que scanQR
      *   }
-     * @param {Function} successCallback - Recibe { text, format }
+     * @param {Function} successCallback - Recibe { text, format, consensus, metrics }
      * @param {Function} errorCallback - Recibe string con mensaje de error
      */
     scanBarcode: function (options, successCallback, errorCallback) {
@@ -35,7 +71,63 @@ var SLMQR = {
     },
 
     /**
-     * Genera una imagen QR en base64.
+     * Escaneo continuo de varios codigos (QR y barras) en la misma sesion.
+     * Cada codigo se reporta una sola vez; los nuevos se envian en lotes cada flushInterval ms.
+     * La sesion termina con el boton "Terminar" o al llegar a maxCodes.
+     * @param {Object} options - Mismas opciones que scanQR, mas:
+     *   {
+     *     flushInterval: number, // ms entre lotes (default 500)
+     *     maxCodes: number       // terminar al llegar a N codigos (default 0 = sin limite)
+     *   }
+     * @param {Function} successCallback - Se llama por lote con
+     *   { codes: [{ text, format, boundingBox: { left, top, right, bottom } }], total, done }
+     *   El ultimo lote trae done: true y metrics (ver getScanMetrics).
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
+    scanMultiple: function (options, successCallback, errorCallback) {
+        exec(successCallback, errorCallback, 'SLMQR', 'scanMultiple', [options || {}]);
+    },
+
+    /**
+     * Prepara el escaner en segundo plano para que el siguiente scanQR/scanBarcode abra al instante.
+     * @param {Object} options - Opciones de preparacion
+     *   {
+     *     mode: "qr"|"barcode"|"multiple",  // tipo de escaneo a preparar (default "qr")
+     *     preInflate: boolean,   // crear tambien las vistas del escaner (default false)
+     *     template: string,      // mismas opciones de overlay que scanQR, para preInflate
+     *     title: string,
+     *     flashlight: boolean
+     *   }
+     * @param {Function} successCallback - Recibe { prepared, hasPermission, providerMs, scannerMs, overlayMs, savedMs }
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
+    prepareScanner: function (options, successCallback, errorCallback) {
+        exec(successCallback, errorCallback, 'SLMQR', 'prepareScanner', [options || {}]);
+    },
+
+    /**
+     * Decodifica codigos desde imagenes (galeria, paginas de PDF, capturas) sin abrir la camara.
+     * Con un arreglo de imagenes los resultados llegan por partes, igual que generateQRBatch.
+     * @param {Object|Array} input - { base64: string } | { fileUri: string }, o un arreglo de ellos (con id opcional)
+     * @param {Object} options
+     *   {
+     *     formats: string[],     // formatos a detectar (default: todos)
+     *     maxDimension: number,  // lado maximo al que se reduce la imagen (default 2048)
+     *     tiles: number,         // dividir ademas en una cuadricula NxN para hojas densas (default 1, max 4)
+     *     tryRotations: boolean, // probar 90/180/270 si no se encontro nada (default true)
+     *     rawBytes: boolean,     // incluir rawBytes en base64 (default false)
+     *     chunkSize: number      // imagenes por bloque en modo arreglo (default 25, max 200)
+     *   }
+     * @param {Function} successCallback - Una imagen: { codes: [{ text, format, rawBytes, boundingBox }], width, height, sampleSize }
+     *   Arreglo: { results: [{ index, id, error, ...campos anteriores }], completed, total, done }
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
+    decodeImage: function (input, options, successCallback, errorCallback) {
+        exec(successCallback, errorCallback, 'SLMQR', 'decodeImage', [input, options || {}]);
+    },
+
+    /**
+     * Genera una imagen QR (base64 por defecto, o archivo / SVG / matriz segun "output").
      * @param {string} data - Contenido a codificar en el QR
      * @param {Object} options - Opciones de generacion
      *   {
@@ -43,25 +135,161 @@ var SLMQR = {
      *     color: string,             // color del QR (default "#000000")
      *     backgroundColor: string,   // color de fondo (default "#FFFFFF")
      *     logo: string,              // base64 de logo al centro (opcional)
-     *     errorCorrection: "L"|"M"|"Q"|"H"  // nivel de correccion (default "M")
+     *     logoId: string,            // id de un logo registrado con registerLogo, en lugar de logo
+     *     errorCorrection: "L"|"M"|"Q"|"H",  // nivel de correccion (default "M")
+     *     cache: boolean,            // usar cache en memoria (default true)
+     *     diskCache: boolean,        // usar tambien cache en disco (default false)
+     *     output: "base64"|"file"|"svg"|"matrix", // formato de salida (default "base64")
+     *     binary: boolean            // con output "base64": devolver el PNG como ArrayBuffer en image (default false)
      *   }
-     * @param {Function} successCallback - Recibe { base64Image, format }
+     * @param {Function} successCallback - Segun output:
+     *   base64: { base64Image, format: "png", cached }, o con binary: { image: ArrayBuffer, format: "png", cached }
+     *   file:   { fileUri, path, format: "png", cached } (los archivos mas antiguos se borran al superar 20 MB)
+     *   svg:    { svg, format: "svg" }
+     *   matrix: { size, rows: ["0101..."], format: "matrix" }
      * @param {Function} errorCallback - Recibe string con mensaje de error
      */
     generateQR: function (data, options, successCallback, errorCallback) {
-        exec(successCallback, errorCallback, 'SLMQR', 'generateQR', [data, options || {}]);
+        exec(withBinary(successCallback, 'image'), errorCallback, 'SLMQR', 'generateQR', [data, options || {}]);
+    },
+
+    /**
+     * Genera muchos QR con las mismas opciones en una sola llamada.
+     * Los resultados llegan por partes: successCallback se llama una vez por bloque.
+     * @param {Array} items - Strings o { data: string, id: any }
+     * @param {Object} sharedOptions - Mismas opciones que generateQR, mas:
+     *   {
+     *     chunkSize: number, // items por bloque (default 25, max 200)
+     *     output: string,    // igual que en generateQR
+     *     cache: boolean     // usar cache en memoria (default false)
+     *   }
+     * @param {Function} successCallback - Recibe { results: [{ index, id, error, ...campos de generateQR }], completed, total, done }
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
+    generateQRBatch: function (items, sharedOptions, successCallback, errorCallback) {
+        exec(successCallback, errorCallback, 'SLMQR', 'generateQRBatch', [items || [], sharedOptions || {}]);
     },
 
+    /**
+     * Registra un logo para reutilizarlo en generateQR / generateQRBatch con logoId,
+     * sin volver a enviar ni procesar el base64 en cada llamada.
+     * @param {string} id - Identificador del logo (reemplaza uno anterior con el mismo id)
+     * @param {string} logo - Imagen en base64 (se acepta prefijo data URL)
+     * @param {Function} successCallback - Recibe { id, hash, width, height }
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
+    registerLogo: function (id, logo, successCallback, errorCallback) {
+        exec(successCallback, errorCallback, 'SLMQR', 'registerLogo', [id, logo]);
+    },
+
+    /**
+     * Devuelve los contadores del cache de QR generados.
+     * @param {Function} successCallback - Recibe { memoryHits, diskHits, misses, memoryEntries, memoryBytes, memoryMaxBytes,
+     *   logos: { hits, misses, entries, bytes, maxBytes, registered } }
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
+    getQRCacheStats: function (successCallback, errorCallback) {
+        exec(successCallback, errorCallback, 'SLMQR', 'getQRCacheStats', []);
+    },
+
+    /**
+     * Vacia el cache de QR generados (memoria y disco) y los logos decodificados; los logos registrados se conservan.
+     * @param {Function} successCallback - Recibe { cleared, stats }
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
+    clearQRCache: function (successCallback, errorCallback) {
+        exec(successCallback, errorCallback, 'SLMQR', 'clearQRCache', []);
+    },
+
+    /**
+     * Abre un preview de camara embebido que reporta codigos via onQRDetected.
+     * @param {Object} options - Opciones del preview
+     *   {
+     *     x, y, width, height: number,    // posicion y tamano en dp
+     *     camera: "back"|"front",
+     *     vibrate: boolean,               // vibrar al detectar (default true)
+     *     rawBytes: boolean,              // incluir rawBytes en base64 (default false)
+     *     binary: boolean,                // enviar rawBytes a onQRDetected como ArrayBuffer (default false)
+     *     formats: string[],              // formatos a detectar (default: todos)
+     *     dedupWindow: number,            // ms antes de reportar otra vez el mismo codigo (default 2000)
+     *     dedupCapacity: number,          // codigos distintos recordados a la vez (default 32)
+     *     engine: "mlkit"|"zxing"|"auto", // motor de decodificacion (default "mlkit")
+     *     analysisResolution: string,     // igual que scanQR (default "auto")
+     *     escalateAfter: number,          // igual que scanQR (default 8)
+     *     analyzerThreads: number,        // hilos de analisis (default 1, max 4)
+     *     maxAnalysisFps: number,         // maximo de frames analizados por segundo (default 15, 0 = sin limite)
+     *     idleAnalysisFps: number,        // frecuencia en reposo (default 3)
+     *     backoffAfterEmptyFrames: number // frames vacios seguidos antes de bajar a idleAnalysisFps (default 30, 0 = nunca)
+     *   }
+     * @param {Function} successCallback - Recibe { opened, _diag }
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
     openQRPreview: function (options, successCallback, errorCallback) {
         exec(successCallback, errorCallback, 'SLMQR', 'openQRPreview', [options || {}]);
     },
 
+    /**
+     * Pausa el analisis del preview embebido sin apagar la camara, para poder reanudarlo
+     * al instante (por ejemplo al cambiar de pantalla en el InAppBrowser).
+     * @param {Object} options - { hide: boolean } // ocultar el preview mientras esta pausado (default true)
+     * @param {Function} successCallback - Recibe { paused, visible }
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
+    pauseQRPreview: function (options, successCallback, errorCallback) {
+        exec(successCallback, errorCallback, 'SLMQR', 'pauseQRPreview', [options || {}]);
+    },
+
+    /**
+     * Reanuda un preview pausado con pauseQRPreview.
+     * @param {Function} successCallback - Recibe { paused, visible }
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
+    resumeQRPreview: function (successCallback, errorCallback) {
+        exec(successCallback, errorCallback, 'SLMQR', 'resumeQRPreview', []);
+    },
+
+    /**
+     * Mueve o redimensiona el preview abierto sin reiniciar la camara.
+     * Usar en lugar de cerrar y volver a abrir el preview.
+     * @param {Object} bounds - { x, y, width, height } en dp; los campos omitidos no cambian
+     * @param {Function} successCallback - Recibe { paused, visible }
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
+    updateQRPreview: function (bounds, successCallback, errorCallback) {
+        exec(successCallback, errorCallback, 'SLMQR', 'updateQRPreview', [bounds || {}]);
+    },
+
+    /**
+     * Cierra el preview embebido.
+     * @param {Function} successCallback - Recibe { closed, analysis: { framesAnalyzed, framesSkipped, backoffs, idle },
+     *   analysisResolution: { width, height, level, escalations } }
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
     closeQRPreview: function (successCallback, errorCallback) {
         exec(successCallback, errorCallback, 'SLMQR', 'closeQRPreview', []);
     },
 
+    /**
+     * Devuelve las metricas de tiempo del ultimo escaneo y del preview embebido.
+     * @param {Function} successCallback - Recibe { scan, preview }, cada uno con
+     *   { timeline: { permissionReady, providerReady, cameraBound, firstFrame, firstDecodeAttempt, detection },
+     *     analysisLatencyMs: { samples, p50, p95, p99, max },
+     *     framesDelivered, framesDropped, mlkitSuccess, mlkitFailure, framesWithBarcodes, successRatio }
+     *   (timeline en ms desde la llamada desde JS)
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
+    getScanMetrics: function (successCallback, errorCallback) {
+        exec(successCallback, errorCallback, 'SLMQR', 'getScanMetrics', []);
+    },
+
+    /**
+     * Registra el callback que recibe cada codigo detectado por el preview embebido.
+     * @param {Function} successCallback - Recibe { text, format, rawBytes?, metrics } por cada deteccion;
+     *   metrics: { timeline } de la sesion, como en getScanMetrics (las latencias completas solo en getScanMetrics)
+     * @param {Function} errorCallback - Recibe string con mensaje de error
+     */
     onQRDetected: function (successCallback, errorCallback) {
-        exec(successCallback, errorCallback, 'SLMQR', 'onQRDetected', []);
+        exec(withBinary(successCallback, 'rawBytes'), errorCallback, 'SLMQR', 'onQRDetected', []);
     }
 };
 